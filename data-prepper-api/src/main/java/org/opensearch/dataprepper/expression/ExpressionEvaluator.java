@@ -7,6 +7,11 @@ package org.opensearch.dataprepper.expression;
 
 import org.opensearch.dataprepper.model.event.Event;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.BiConsumer;
+
 /**
  * @since 1.3
  * ExpressionEvaluator interface to abstract the parse and evaluate implementations.
@@ -33,6 +38,38 @@ public interface ExpressionEvaluator {
         }
     }
 
+    /**
+     * @since 2.7
+     * Evaluates conditional statements against a batch of events. Implementations may share the work which is common
+     * to several statements, such as reading the same key of an event or evaluating the same sub-expression, between
+     * the statements.
+     *
+     * @param statements conditional statements to evaluate
+     * @param events events to evaluate the statements against
+     * @param failureHandler receives the statement and the exception for each evaluation which failed, which is
+     *                       counted as not matching
+     * @return one {@link BitSet} for each statement, in the order of the statements, with the bits set at the indexes
+     * of the events for which the statement evaluated to true
+     */
+    default List<BitSet> evaluateConditionals(final List<String> statements, final List<Event> events,
+                                              final BiConsumer<String, Exception> failureHandler) {
+        final List<BitSet> results = new ArrayList<>(statements.size());
+        for (final String statement : statements) {
+            final BitSet matches = new BitSet(events.size());
+            for (int i = 0; i < events.size(); i++) {
+                try {
+                    if (evaluateConditional(statement, events.get(i))) {
+                        matches.set(i);
+                    }
+                } catch (final Exception e) {
+                    failureHandler.accept(statement, e);
+                }
+            }
+            results.add(matches);
+        }
+        return results;
+    }
+
     Boolean isValidExpressionStatement(final String statement);
 
     Boolean isValidFormatExpression(final String format);
@@ -19,4 +19,37 @@ public interface CircuitBreaker {
      * @since 2.6
      */
     boolean isOpen();
+
+    /**
+     * Gets the fraction of writes which should be rejected to relieve pressure before the
+     * circuit breaker opens. Circuit breakers applying graduated backpressure raise this from
+     * 0.0, when no write should be rejected, towards 1.0, when every write should be rejected.
+     *
+     * @return the fraction of writes to reject, between 0.0 and 1.0
+     * @since 2.7
+     */
+    default double getRejectionRatio() {
+        return isOpen() ? 1.0 : 0.0;
+    }
+
+    /**
+     * Informs the circuit breaker that bytes were written to a buffer. Circuit breakers which
+     * measure the heap after garbage collections can account for these bytes until the next
+     * garbage collection.
+     *
+     * @param bytes the number of bytes written
+     * @since 2.7
+     */
+    default void recordBufferedBytes(final long bytes) {
+    }
+
+    /**
+     * Informs the circuit breaker that bytes recorded with {@link #recordBufferedBytes(long)}
+     * are no longer held by a buffer, because the records were read and checkpointed.
+     *
+     * @param bytes the number of bytes released
+     * @since 2.7
+     */
+    default void releaseBufferedBytes(final long bytes) {
+    }
 }
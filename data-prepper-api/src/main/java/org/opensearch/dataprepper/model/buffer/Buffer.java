@@ -52,6 +52,22 @@ public interface Buffer<T extends Record<?>> {
         throw new UnsupportedOperationException("This buffer type does not support bytes.");
     }
 
+    /**
+     * Waits until the buffer may have capacity for the given number of records. Producers which
+     * failed to write because the buffer was full can use this to retry as soon as space frees up.
+     * The capacity is not reserved, so a following write may still time out.
+     *
+     * @param numberOfRecords the number of records the caller wants to write
+     * @param timeoutInMillis how long to wait before giving up
+     * @return true if the buffer had capacity before the timeout, false if it did not or if this
+     * buffer does not support waiting for capacity, in which case it returns immediately
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2.7
+     */
+    default boolean awaitCapacity(final int numberOfRecords, final int timeoutInMillis) throws InterruptedException {
+        return false;
+    }
+
     /**
      * Retrieves and removes the batch of records from the head of the queue. The batch size is defined/determined by
      * the configuration attribute "batch_size" or the @param timeoutInMillis
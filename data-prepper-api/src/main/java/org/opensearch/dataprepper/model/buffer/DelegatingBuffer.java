@@ -53,6 +53,11 @@ public abstract class DelegatingBuffer<T extends Record<?>> implements Buffer<T>
         delegateBuffer.writeBytes(bytes, key, timeoutInMillis);
     }
 
+    @Override
+    public boolean awaitCapacity(final int numberOfRecords, final int timeoutInMillis) throws InterruptedException {
+        return delegateBuffer.awaitCapacity(numberOfRecords, timeoutInMillis);
+    }
+
     @Override
     public Map.Entry<Collection<T>, CheckpointState> read(final int timeoutInMillis) {
         return delegateBuffer.read(timeoutInMillis);
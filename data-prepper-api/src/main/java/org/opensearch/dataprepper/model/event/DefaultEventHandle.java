@@ -10,6 +10,7 @@ import java.lang.ref.WeakReference;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.time.Instant;
 import java.io.Serializable;
@@ -19,9 +20,11 @@ public class DefaultEventHandle implements EventHandle, InternalEventHandle, Ser
     private final Instant internalOriginationTime;
     private WeakReference<AcknowledgementSet> acknowledgementSetRef;
     private List<BiConsumer<EventHandle, Boolean>> releaseConsumers;
+    private final AtomicInteger referenceCount;
 
     public DefaultEventHandle(final Instant internalOriginationTime) {
         this.acknowledgementSetRef = null;
+        this.referenceCount = new AtomicInteger(0);
         this.externalOriginationTime = null;
         this.internalOriginationTime = internalOriginationTime;
         this.releaseConsumers = new ArrayList<>();
@@ -44,6 +47,35 @@ public class DefaultEventHandle implements EventHandle, InternalEventHandle, Ser
         return acknowledgementSetRef.get();
     }
 
+    @Override
+    public boolean initializeReference() {
+        return referenceCount.getAndSet(1) == 0;
+    }
+
+    @Override
+    public boolean acquireReference() {
+        int current;
+        do {
+            current = referenceCount.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!referenceCount.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    @Override
+    public int releaseReference() {
+        int current;
+        do {
+            current = referenceCount.get();
+            if (current <= 0) {
+                return -1;
+            }
+        } while (!referenceCount.compareAndSet(current, current - 1));
+        return current - 1;
+    }
+
     @Override
     public Instant getInternalOriginationTime() {
         return this.internalOriginationTime;
@@ -65,6 +65,45 @@ public interface Event extends Serializable {
      */
     void delete(String key);
 
+    /**
+     * Adds or updates the key with a given value in the Event
+     *
+     * @param key   where the value will be set
+     * @param value value to set the key to
+     * @since 2.7
+     */
+    void put(EventKey key, Object value);
+
+    /**
+     * Retrieves the given key from the Event
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of the value
+     * @param <T>   The type
+     * @return T a clazz object from the key
+     * @since 2.7
+     */
+    <T> T get(EventKey key, Class<T> clazz);
+
+    /**
+     * Retrieves the given key from the Event as a List
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of elements in the list
+     * @param <T>   The type
+     * @return {@literal List<T>} a list of clazz elements
+     * @since 2.7
+     */
+    <T> List<T> getList(EventKey key, Class<T> clazz);
+
+    /**
+     * Deletes the given key from the Event
+     *
+     * @param key the field to be deleted
+     * @since 2.7
+     */
+    void delete(EventKey key);
+
     /**
      * Generates a serialized Json string of the entire Event
      *
@@ -74,7 +113,8 @@ public interface Event extends Serializable {
     String toJsonString();
 
     /**
-     * Returns the JsonNode containing the internal representation of the event
+     * Returns the JsonNode containing the internal representation of the event. The node may be shared
+     * with copies of the event, so it must not be modified. Use {@link #put} and {@link #delete} instead.
      *
      * @return JsonNode
      * @since 2.5
@@ -116,6 +156,24 @@ public interface Event extends Serializable {
      */
     boolean isValueAList(String key);
 
+    /**
+     * Checks if the key exists.
+     *
+     * @param key the key to look for
+     * @return returns true if the key exists, otherwise false
+     * @since 2.7
+     */
+    boolean containsKey(EventKey key);
+
+    /**
+     * Checks if the value stored for the key is list
+     *
+     * @param key the key to look for
+     * @return returns true if the key is a list, otherwise false
+     * @since 2.7
+     */
+    boolean isValueAList(EventKey key);
+
     /**
      * @return a Map representation of the Event
      * @since 1.3
@@ -0,0 +1,23 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+/**
+ * A key into an {@link Event} which has been validated and compiled ahead of time. Plugins should create their
+ * keys once, when they are constructed, using an {@link EventKeyFactory} and then use them with the {@link Event}
+ * methods which accept an {@link EventKey}. This avoids validating and parsing the same key string for every event.
+ *
+ * @since 2.7
+ */
+public interface EventKey {
+    /**
+     * The original key which this {@link EventKey} was created from.
+     *
+     * @return The key as a string
+     * @since 2.7
+     */
+    String getKey();
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+/**
+ * A factory for creating {@link EventKey} objects. Plugins can receive an instance as a constructor argument.
+ *
+ * @since 2.7
+ */
+public interface EventKeyFactory {
+    /**
+     * Creates an {@link EventKey} for the given key.
+     *
+     * @param key The key. This has the same format as the keys accepted by {@link Event#get(String, Class)}.
+     * @return A new {@link EventKey}
+     * @throws IllegalArgumentException if the key is not a valid key
+     * @throws NullPointerException if the key is null
+     * @since 2.7
+     */
+    EventKey createEventKey(String key);
+}
@@ -24,5 +24,30 @@ public interface InternalEventHandle {
      */
     AcknowledgementSet getAcknowledgementSet();
 
+    /**
+     * Takes the first reference to this handle, when it is added to an acknowledgement set.
+     *
+     * @return true if the handle held no reference before
+     * @since 2.7
+     */
+    boolean initializeReference();
+
+    /**
+     * Takes one more reference to this handle. A handle whose references have all been
+     * released cannot be acquired again.
+     *
+     * @return true if the reference was taken
+     * @since 2.7
+     */
+    boolean acquireReference();
+
+    /**
+     * Releases one reference to this handle.
+     *
+     * @return the number of references left, or -1 if the handle held no reference
+     * @since 2.7
+     */
+    int releaseReference();
+
 }
 
@@ -26,14 +26,13 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -58,7 +57,7 @@ public class JacksonEvent implements Event {
 
     private static final Logger LOG = LoggerFactory.getLogger(JacksonEvent.class);
 
-    private static final String SEPARATOR = "/";
+    static final String SEPARATOR = "/";
 
     private static final ObjectMapper mapper = new ObjectMapper()
             .registerModule(new JavaTimeModule())
@@ -71,7 +70,13 @@ public class JacksonEvent implements Event {
 
     private transient EventHandle eventHandle;
 
-    private final JsonNode jsonNode;
+    private JsonNode jsonNode;
+
+    /**
+     * The number of events sharing {@link #jsonNode} since a copy-on-write copy was made, or null when
+     * this event is the only one using it.
+     */
+    private transient AtomicInteger jsonNodeOwners;
 
     static final int MAX_KEY_LENGTH = 2048;
 
@@ -91,12 +96,29 @@ public class JacksonEvent implements Event {
             this.eventMetadata = builder.eventMetadata;
         }
 
-        this.jsonNode = getInitialJsonNode(builder.data);
+        this.jsonNode = builder.jsonData != null ? builder.jsonData : getInitialJsonNode(builder.data);
         this.eventHandle = new DefaultEventHandle(eventMetadata.getTimeReceived());
     }
 
     protected JacksonEvent(final JacksonEvent otherEvent) {
-        this.jsonNode = otherEvent.jsonNode.deepCopy();
+        this(otherEvent, false);
+    }
+
+    /**
+     * Creates a copy of another event, with its own metadata and event handle.
+     *
+     * @param otherEvent the event to copy
+     * @param copyOnWrite whether the copy shares the data of the other event until either of them modifies it,
+     *                    instead of copying the data immediately
+     * @since 2.7
+     */
+    protected JacksonEvent(final JacksonEvent otherEvent, final boolean copyOnWrite) {
+        if (copyOnWrite) {
+            this.jsonNodeOwners = otherEvent.shareJsonNode();
+            this.jsonNode = otherEvent.jsonNode;
+        } else {
+            this.jsonNode = otherEvent.jsonNode.deepCopy();
+        }
         this.eventMetadata = DefaultEventMetadata.fromEventMetadata(otherEvent.eventMetadata);
         this.eventHandle = new DefaultEventHandle(eventMetadata.getTimeReceived());
     }
@@ -127,6 +149,29 @@ public class JacksonEvent implements Event {
         return jsonNode;
     }
 
+    private AtomicInteger shareJsonNode() {
+        if (jsonNodeOwners == null) {
+            jsonNodeOwners = new AtomicInteger(1);
+        }
+        jsonNodeOwners.incrementAndGet();
+        return jsonNodeOwners;
+    }
+
+    /**
+     * Makes this event the only user of its data before the data is modified. The data is copied unless
+     * every other event which shared it has already made its own copy.
+     */
+    private void ensureJsonNodeNotShared() {
+        if (jsonNodeOwners == null) {
+            return;
+        }
+        if (jsonNodeOwners.get() > 1) {
+            jsonNode = jsonNode.deepCopy();
+            jsonNodeOwners.decrementAndGet();
+        }
+        jsonNodeOwners = null;
+    }
+
     /**
      * Adds or updates the key with a given value in the Event.
      *
@@ -140,20 +185,36 @@ public class JacksonEvent implements Event {
 
         final String trimmedKey = checkAndTrimKey(key);
 
-        final LinkedList<String> keys = new LinkedList<>(Arrays.asList(trimmedKey.split(SEPARATOR, -1)));
+        putAtPath(trimmedKey.split(SEPARATOR, -1), value);
+    }
+
+    /**
+     * Adds or updates the key with a given value in the Event.
+     *
+     * @param key   where the value will be set
+     * @param value value to set the key to
+     * @since 2.7
+     */
+    @Override
+    public void put(final EventKey key, final Object value) {
+        final JacksonEventKey jacksonEventKey = toJacksonEventKey(key);
+        checkArgument(!jacksonEventKey.getKey().isEmpty(), "key cannot be an empty string for put method");
+
+        putAtPath(jacksonEventKey.getPathSegments(), value);
+    }
 
+    private void putAtPath(final String[] keys, final Object value) {
+        ensureJsonNodeNotShared();
         JsonNode parentNode = jsonNode;
 
-        while (!keys.isEmpty()) {
-            if (keys.size() == 1) {
-                setNode(parentNode, keys.removeFirst(), value);
-            } else {
-                final String childKey = keys.removeFirst();
-                if (!childKey.isEmpty()) {
-                    parentNode = getOrCreateNode(parentNode, childKey);
-                }
+        final int leafIndex = keys.length - 1;
+        for (int i = 0; i < leafIndex; i++) {
+            final String childKey = keys[i];
+            if (!childKey.isEmpty()) {
+                parentNode = getOrCreateNode(parentNode, childKey);
             }
         }
+        setNode(parentNode, keys[leafIndex], value);
     }
 
     @Override
@@ -201,6 +262,29 @@ public class JacksonEvent implements Event {
         return mapNodeToObject(key, node, clazz);
     }
 
+    /**
+     * Retrieves the value of type clazz from the key.
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of the value
+     * @return the value
+     * @throws RuntimeException if it is unable to map the value to the provided clazz
+     * @since 2.7
+     */
+    @Override
+    public <T> T get(final EventKey key, final Class<T> clazz) {
+        final JsonNode node = getNode(toJacksonEventKey(key));
+        if (node.isMissingNode()) {
+            return null;
+        }
+
+        return mapNodeToObject(key.getKey(), node, clazz);
+    }
+
+    private JsonNode getNode(final JacksonEventKey key) {
+        return jsonNode.at(key.getJsonPointer());
+    }
+
     private JsonNode getNode(final String key) {
         final JsonPointer jsonPointer = toJsonPointer(key);
         return jsonNode.at(jsonPointer);
@@ -237,6 +321,25 @@ public class JacksonEvent implements Event {
         return mapNodeToList(key, node, clazz);
     }
 
+    /**
+     * Retrieves the given key from the Event as a List
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of elements in the list
+     * @return a List of clazz
+     * @throws RuntimeException if it is unable to map the elements in the list to the provided clazz
+     * @since 2.7
+     */
+    @Override
+    public <T> List<T> getList(final EventKey key, final Class<T> clazz) {
+        final JsonNode node = getNode(toJacksonEventKey(key));
+        if (node.isMissingNode()) {
+            return null;
+        }
+
+        return mapNodeToList(key.getKey(), node, clazz);
+    }
+
     private <T> List<T> mapNodeToList(final String key, final JsonNode node, final Class<T> clazz) {
         try {
             final ObjectReader reader = mapper.readerFor(TypeFactory.defaultInstance().constructCollectionType(List.class, clazz));
@@ -247,7 +350,7 @@ public class JacksonEvent implements Event {
         }
     }
 
-    private JsonPointer toJsonPointer(final String key) {
+    static JsonPointer toJsonPointer(final String key) {
         final String jsonPointerExpression;
         if (key.isEmpty() || key.startsWith("/")) {
             jsonPointerExpression = key;
@@ -268,6 +371,7 @@ public class JacksonEvent implements Event {
         checkArgument(!key.isEmpty(), "key cannot be an empty string for delete method");
         final String trimmedKey = checkAndTrimKey(key);
         final int index = trimmedKey.lastIndexOf(SEPARATOR);
+        ensureJsonNodeNotShared();
 
         JsonNode baseNode = jsonNode;
         String leafKey = trimmedKey;
@@ -283,6 +387,26 @@ public class JacksonEvent implements Event {
         }
     }
 
+    /**
+     * Deletes the key from the event.
+     *
+     * @param key the field to be deleted
+     * @since 2.7
+     */
+    @Override
+    public void delete(final EventKey key) {
+        final JacksonEventKey jacksonEventKey = toJacksonEventKey(key);
+        checkArgument(!jacksonEventKey.getKey().isEmpty(), "key cannot be an empty string for delete method");
+        ensureJsonNodeNotShared();
+
+        final JsonPointer parentJsonPointer = jacksonEventKey.getParentJsonPointer();
+        final JsonNode baseNode = parentJsonPointer == null ? jsonNode : jsonNode.at(parentJsonPointer);
+
+        if (!baseNode.isMissingNode()) {
+            ((ObjectNode) baseNode).remove(jacksonEventKey.getLeafKey());
+        }
+    }
+
     @Override
     public String toJsonString() {
         return jsonNode.toString();
@@ -381,6 +505,11 @@ public class JacksonEvent implements Event {
         return !node.isMissingNode();
     }
 
+    @Override
+    public boolean containsKey(final EventKey key) {
+        return !getNode(toJacksonEventKey(key)).isMissingNode();
+    }
+
     @Override
     public boolean isValueAList(final String key) {
         final String trimmedKey = checkAndTrimKey(key);
@@ -390,6 +519,19 @@ public class JacksonEvent implements Event {
         return node.isArray();
     }
 
+    @Override
+    public boolean isValueAList(final EventKey key) {
+        return getNode(toJacksonEventKey(key)).isArray();
+    }
+
+    private static JacksonEventKey toJacksonEventKey(final EventKey key) {
+        checkNotNull(key, "key cannot be null");
+        if (key instanceof JacksonEventKey) {
+            return (JacksonEventKey) key;
+        }
+        return new JacksonEventKey(key.getKey());
+    }
+
     @Override
     public Map<String, Object> toMap() {
         return mapper.convertValue(jsonNode, MAP_TYPE_REFERENCE);
@@ -409,7 +551,7 @@ public class JacksonEvent implements Event {
         return trimTrailingSlashInKey(key);
     }
 
-    private static void checkKey(final String key) {
+    static void checkKey(final String key) {
         checkNotNull(key, "key cannot be null");
         if (key.isEmpty()) {
             // Empty string key is valid
@@ -429,7 +571,7 @@ public class JacksonEvent implements Event {
         return trimTrailingSlashInKey(trimmedLeadingSlash);
     }
 
-    private String trimTrailingSlashInKey(final String key) {
+    static String trimTrailingSlashInKey(final String key) {
         return key.length() > 1 && key.endsWith(SEPARATOR) ? key.substring(0, key.length() - 1) : key;
     }
 
@@ -471,6 +613,19 @@ public class JacksonEvent implements Event {
         return new JsonStringBuilder(this);
     }
 
+    /**
+     * Creates a copy of the event which shares the data of the event until either of them modifies it.
+     * The first modification of the shared data by either event copies the data first. The copy has its
+     * own metadata and event handle.
+     *
+     * @param event the event to copy
+     * @return the copy
+     * @since 2.7
+     */
+    public static JacksonEvent copyOnWrite(final JacksonEvent event) {
+        return new JacksonEvent(event, true);
+    }
+
     public static JacksonEvent fromEvent(final Event event) {
         if (event instanceof JacksonEvent) {
             return new JacksonEvent((JacksonEvent) event);
@@ -491,6 +646,7 @@ public class JacksonEvent implements Event {
 
         private EventMetadata eventMetadata;
         private Object data;
+        private ObjectNode jsonData;
         private String eventType;
         private Instant timeReceived;
         private Map<String, Object> eventMetadataAttributes;
@@ -554,6 +710,21 @@ public class JacksonEvent implements Event {
          */
         public Builder<T> withData(final Object data) {
             this.data = data;
+            this.jsonData = null;
+            return this;
+        }
+
+        /**
+         * Sets the data of the event to an already parsed JSON object. Unlike {@link #withData(Object)},
+         * the node is not copied, so the caller must not modify it after building the event.
+         *
+         * @param jsonData the data
+         * @return returns the builder
+         * @since 2.7
+         */
+        public Builder<T> withJsonData(final ObjectNode jsonData) {
+            this.jsonData = jsonData;
+            this.data = null;
             return this;
         }
 
@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+import java.util.Objects;
+
+/**
+ * The {@link EventKey} used by {@link JacksonEvent}. It validates the key once and holds the {@link JsonPointer}s
+ * and path segments which {@link JacksonEvent} otherwise derives from the key string on every call.
+ */
+class JacksonEventKey implements EventKey {
+    private final String key;
+    private final String trimmedKey;
+    private final String[] pathSegments;
+    private final JsonPointer jsonPointer;
+    private final JsonPointer parentJsonPointer;
+    private final String leafKey;
+
+    JacksonEventKey(final String key) {
+        JacksonEvent.checkKey(key);
+        this.key = key;
+        this.trimmedKey = JacksonEvent.trimTrailingSlashInKey(key);
+        this.pathSegments = trimmedKey.split(JacksonEvent.SEPARATOR, -1);
+        this.jsonPointer = JacksonEvent.toJsonPointer(trimmedKey);
+
+        final int index = trimmedKey.lastIndexOf(JacksonEvent.SEPARATOR);
+        if (index != -1) {
+            this.parentJsonPointer = JacksonEvent.toJsonPointer(trimmedKey.substring(0, index));
+            this.leafKey = trimmedKey.substring(index + 1);
+        } else {
+            this.parentJsonPointer = null;
+            this.leafKey = trimmedKey;
+        }
+    }
+
+    @Override
+    public String getKey() {
+        return key;
+    }
+
+    String[] getPathSegments() {
+        return pathSegments;
+    }
+
+    JsonPointer getJsonPointer() {
+        return jsonPointer;
+    }
+
+    /**
+     * @return The {@link JsonPointer} to the parent of the leaf key or null if the key has no parent.
+     */
+    JsonPointer getParentJsonPointer() {
+        return parentJsonPointer;
+    }
+
+    String getLeafKey() {
+        return leafKey;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return trimmedKey.equals(((JacksonEventKey) other).trimmedKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(trimmedKey);
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
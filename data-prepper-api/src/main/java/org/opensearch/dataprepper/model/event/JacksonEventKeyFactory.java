@@ -0,0 +1,18 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+/**
+ * An {@link EventKeyFactory} which creates keys optimized for {@link JacksonEvent}.
+ *
+ * @since 2.7
+ */
+public class JacksonEventKeyFactory implements EventKeyFactory {
+    @Override
+    public EventKey createEventKey(final String key) {
+        return new JacksonEventKey(key);
+    }
+}
@@ -72,6 +72,10 @@ public class JacksonSpan extends JacksonEvent implements Span {
         super(otherSpan);
     }
 
+    private JacksonSpan(final JacksonSpan otherSpan, final boolean copyOnWrite) {
+        super(otherSpan, copyOnWrite);
+    }
+
     @Override
     public String getTraceId() {
         return this.get(TRACE_ID_KEY, String.class);
@@ -176,6 +180,17 @@ public class JacksonSpan extends JacksonEvent implements Span {
         return new Builder();
     }
 
+    /**
+     * Creates a copy of the span which shares the data of the span until either of them modifies it.
+     *
+     * @param span the span to copy
+     * @return the copy
+     * @since 2.7
+     */
+    public static JacksonSpan copyOnWrite(final JacksonSpan span) {
+        return new JacksonSpan(span, true);
+    }
+
     public static JacksonSpan fromSpan(final Span span) {
         if (span instanceof JacksonSpan) {
             return new JacksonSpan((JacksonSpan) span);
@@ -212,6 +227,7 @@ public class JacksonSpan extends JacksonEvent implements Span {
     public static class Builder extends JacksonEvent.Builder<Builder> {
 
         private final Map<String, Object> data;
+        private ObjectNode jsonData;
 
         public Builder() {
             data = new HashMap();
@@ -238,6 +254,21 @@ public class JacksonSpan extends JacksonEvent implements Span {
             return this;
         }
 
+        /**
+         * Sets the data of the span to an already built JSON object, which avoids converting a map of the data.
+         * Data set with the other methods of the builder is added to the object. The object is not copied, so the
+         * caller must not modify it after building the span.
+         *
+         * @param jsonData the data
+         * @return returns the builder
+         * @since 2.7
+         */
+        @Override
+        public Builder withJsonData(final ObjectNode jsonData) {
+            this.jsonData = jsonData;
+            return this;
+        }
+
         /**
          * Sets the data of the event.
          *
@@ -488,9 +519,18 @@ public class JacksonSpan extends JacksonEvent implements Span {
          */
         @Override
         public JacksonSpan build() {
-            validateParameters();
-            checkAndSetDefaultValues();
-            super.withData(data);
+            if (jsonData != null) {
+                if (!data.isEmpty()) {
+                    jsonData.setAll((ObjectNode) mapper.valueToTree(data));
+                }
+                validateJsonData();
+                checkAndSetDefaultJsonValues();
+                super.withJsonData(jsonData);
+            } else {
+                validateParameters();
+                checkAndSetDefaultValues();
+                super.withData(data);
+            }
             this.withEventType(EventType.TRACE.toString());
             return new JacksonSpan(this);
         }
@@ -521,5 +561,41 @@ public class JacksonSpan extends JacksonEvent implements Span {
             data.putIfAbsent(DROPPED_EVENTS_COUNT_KEY, 0);
         }
 
+        private void validateJsonData() {
+            REQUIRED_KEYS.forEach(key -> {
+                checkState(jsonData.has(key), key + " need to be assigned");
+            });
+
+            REQUIRED_NON_EMPTY_KEYS.forEach(key -> {
+                final JsonNode value = checkNotNull(jsonData.hasNonNull(key) ? jsonData.get(key) : null, key + " cannot be null");
+                checkArgument(!value.asText().isEmpty(), key + " cannot be an empty string");
+            });
+
+            REQUIRED_NON_NULL_KEYS.forEach(key -> {
+                checkNotNull(jsonData.hasNonNull(key) ? jsonData.get(key) : null, key + " cannot be null");
+            });
+        }
+
+        private void checkAndSetDefaultJsonValues() {
+            if (!jsonData.hasNonNull(ATTRIBUTES_KEY)) {
+                jsonData.putObject(ATTRIBUTES_KEY);
+            }
+            if (!jsonData.hasNonNull(DROPPED_ATTRIBUTES_COUNT_KEY)) {
+                jsonData.put(DROPPED_ATTRIBUTES_COUNT_KEY, 0);
+            }
+            if (!jsonData.hasNonNull(LINKS_KEY)) {
+                jsonData.putArray(LINKS_KEY);
+            }
+            if (!jsonData.hasNonNull(DROPPED_LINKS_COUNT_KEY)) {
+                jsonData.put(DROPPED_LINKS_COUNT_KEY, 0);
+            }
+            if (!jsonData.hasNonNull(EVENTS_KEY)) {
+                jsonData.putArray(EVENTS_KEY);
+            }
+            if (!jsonData.hasNonNull(DROPPED_EVENTS_COUNT_KEY)) {
+                jsonData.put(DROPPED_EVENTS_COUNT_KEY, 0);
+            }
+        }
+
     }
 }
@@ -8,6 +8,11 @@ package org.opensearch.dataprepper.expression;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -43,6 +48,24 @@ public class ExpressionEvaluatorTest {
         assertThrows(ClassCastException.class, () -> expressionEvaluator.evaluateConditional("/status", event("{\"status\":200}")));
     }
 
+    @Test
+    public void testDefaultEvaluateConditionals() {
+        expressionEvaluator = new TestExpressionEvaluator();
+        final List<Event> events = List.of(
+                event("{\"status\":true, \"success\":false}"),
+                event("{\"status\":false, \"success\":true}"),
+                event("{\"status\":200, \"success\":true}"));
+        final List<String> failedStatements = new ArrayList<>();
+
+        final List<BitSet> matches = expressionEvaluator.evaluateConditionals(List.of("/status", "/success"), events,
+                (statement, exception) -> failedStatements.add(statement));
+
+        assertThat(matches.size(), equalTo(2));
+        assertThat(matches.get(0), equalTo(BitSet.valueOf(new long[] {0b001})));
+        assertThat(matches.get(1), equalTo(BitSet.valueOf(new long[] {0b110})));
+        assertThat(failedStatements, equalTo(List.of("/status")));
+    }
+
     private static Event event(final String data) {
         return JacksonEvent.builder().withEventType("event").withData(data).build();
     }
@@ -48,6 +48,11 @@ class BufferTest {
         assertThat(createObjectUnderTest().isWrittenOffHeapOnly(), equalTo(false));
     }
 
+    @Test
+    void awaitCapacity_returns_false_by_default() throws InterruptedException {
+        assertThat(createObjectUnderTest().awaitCapacity(10, 10_000), equalTo(false));
+    }
+
     @Test
     void testWriteBytes() {
         final Buffer<Record<Event>> buffer = createObjectUnderTest();
@@ -175,6 +175,16 @@ class DelegatingBufferTest {
                 equalTo(isEmpty));
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void awaitCapacity_returns_inner_awaitCapacity(final boolean hasCapacity) throws InterruptedException {
+        final int numberOfRecords = random.nextInt(1_000) + 1;
+        when(innerBuffer.awaitCapacity(numberOfRecords, timeoutInMillis)).thenReturn(hasCapacity);
+
+        assertThat(createObjectUnderTest().awaitCapacity(numberOfRecords, timeoutInMillis),
+                equalTo(hasCapacity));
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void isByteBuffer_returns_inner_isByteBuffer(final boolean isByteBuffer) {
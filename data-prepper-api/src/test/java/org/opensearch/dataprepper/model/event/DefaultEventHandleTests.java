@@ -69,4 +69,17 @@ class DefaultEventHandleTests {
 
     }
 
+    @Test
+    void testReferenceCounting() {
+        DefaultEventHandle eventHandle = new DefaultEventHandle(Instant.now());
+        assertThat(eventHandle.acquireReference(), equalTo(false));
+        assertThat(eventHandle.releaseReference(), equalTo(-1));
+        assertThat(eventHandle.initializeReference(), equalTo(true));
+        assertThat(eventHandle.acquireReference(), equalTo(true));
+        assertThat(eventHandle.releaseReference(), equalTo(1));
+        assertThat(eventHandle.releaseReference(), equalTo(0));
+        assertThat(eventHandle.acquireReference(), equalTo(false));
+        assertThat(eventHandle.releaseReference(), equalTo(-1));
+    }
+
 }
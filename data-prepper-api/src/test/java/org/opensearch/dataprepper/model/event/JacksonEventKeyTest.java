@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JacksonEventKeyTest {
+
+    @Test
+    void constructor_throws_for_null_key() {
+        assertThrows(NullPointerException.class, () -> new JacksonEventKey(null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"key with space", "key$", "a/b*c"})
+    void constructor_throws_for_invalid_key(final String key) {
+        assertThrows(IllegalArgumentException.class, () -> new JacksonEventKey(key));
+    }
+
+    @Test
+    void constructor_throws_for_key_which_is_too_long() {
+        final String key = "a".repeat(JacksonEvent.MAX_KEY_LENGTH + 1);
+        assertThrows(IllegalArgumentException.class, () -> new JacksonEventKey(key));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "foo, /foo",
+            "/foo, /foo",
+            "foo/, /foo",
+            "foo/bar, /foo/bar",
+            "/foo/bar/, /foo/bar"
+    })
+    void getJsonPointer_returns_pointer_for_trimmed_key(final String key, final String expectedPointer) {
+        assertThat(new JacksonEventKey(key).getJsonPointer().toString(), equalTo(expectedPointer));
+    }
+
+    @Test
+    void getKey_returns_the_original_key() {
+        assertThat(new JacksonEventKey("/foo/bar/").getKey(), equalTo("/foo/bar/"));
+        assertThat(new JacksonEventKey("/foo/bar/").toString(), equalTo("/foo/bar/"));
+    }
+
+    @Test
+    void parent_and_leaf_for_key_without_parent() {
+        final JacksonEventKey objectUnderTest = new JacksonEventKey("foo");
+        assertThat(objectUnderTest.getParentJsonPointer(), nullValue());
+        assertThat(objectUnderTest.getLeafKey(), equalTo("foo"));
+    }
+
+    @Test
+    void parent_and_leaf_for_nested_key() {
+        final JacksonEventKey objectUnderTest = new JacksonEventKey("foo/bar/baz");
+        assertThat(objectUnderTest.getParentJsonPointer().toString(), equalTo("/foo/bar"));
+        assertThat(objectUnderTest.getLeafKey(), equalTo("baz"));
+    }
+
+    @Test
+    void equals_uses_the_trimmed_key() {
+        assertThat(new JacksonEventKey("foo/bar"), equalTo(new JacksonEventKey("foo/bar/")));
+        assertThat(new JacksonEventKey("foo/bar").hashCode(), equalTo(new JacksonEventKey("foo/bar/").hashCode()));
+        assertThat(new JacksonEventKey("foo/bar"), not(equalTo(new JacksonEventKey("foo/baz"))));
+        assertThat(new JacksonEventKey("foo"), not(equalTo((Object) "foo")));
+    }
+
+    @Test
+    void JacksonEventKeyFactory_creates_JacksonEventKey() {
+        final EventKey eventKey = new JacksonEventKeyFactory().createEventKey("foo");
+        assertThat(eventKey, equalTo(new JacksonEventKey("foo")));
+    }
+}
@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -533,6 +535,22 @@ public class JacksonEventTest {
         assertThat(event.get("foo", String.class), is(equalTo("bar")));
     }
 
+    @Test
+    public void testBuild_withJsonData() {
+
+        final ObjectNode jsonData = new ObjectMapper().createObjectNode();
+        jsonData.put("foo", "bar");
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData(jsonData)
+                .getThis()
+                .build();
+
+        assertThat(event.get("foo", String.class), is(equalTo("bar")));
+        assertThat(event.getJsonNode(), is(sameInstance(jsonData)));
+    }
+
     @ParameterizedTest
     @CsvSource({
             "test-string, test-string",
@@ -695,6 +713,100 @@ public class JacksonEventTest {
         assertThat(createdEvent.getMetadata(), equalTo(originalEvent.getMetadata()));
     }
 
+    @Test
+    void copyOnWrite_shares_data_until_modified() {
+        final Map<String, Object> dataObject = createComplexDataMap();
+
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(dataObject)
+                .build();
+
+        final JacksonEvent createdEvent = JacksonEvent.copyOnWrite(originalEvent);
+
+        assertThat(createdEvent, not(sameInstance(originalEvent)));
+        assertThat(createdEvent.getJsonNode(), sameInstance(originalEvent.getJsonNode()));
+        assertThat(createdEvent.toMap(), equalTo(dataObject));
+        assertThat(createdEvent.getEventHandle(), notNullValue());
+        assertThat(createdEvent.getEventHandle(), not(sameInstance(originalEvent.getEventHandle())));
+        assertThat(createdEvent.getMetadata(), not(sameInstance(originalEvent.getMetadata())));
+        assertThat(createdEvent.getMetadata(), equalTo(originalEvent.getMetadata()));
+    }
+
+    @Test
+    void copyOnWrite_put_on_copy_does_not_modify_original() {
+        final Map<String, Object> dataObject = createComplexDataMap();
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(dataObject)
+                .build();
+        final JacksonEvent createdEvent = JacksonEvent.copyOnWrite(originalEvent);
+
+        final String key = "new/nested/key";
+        createdEvent.put(key, "value");
+
+        assertThat(createdEvent.get(key, String.class), equalTo("value"));
+        assertThat(originalEvent.containsKey(key), is(false));
+        assertThat(originalEvent.toMap(), equalTo(dataObject));
+        assertThat(createdEvent.getJsonNode(), not(sameInstance(originalEvent.getJsonNode())));
+    }
+
+    @Test
+    void copyOnWrite_delete_on_original_does_not_modify_copy() {
+        final Map<String, Object> dataObject = createComplexDataMap();
+        final String key = dataObject.keySet().iterator().next();
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(dataObject)
+                .build();
+        final JacksonEvent createdEvent = JacksonEvent.copyOnWrite(originalEvent);
+
+        originalEvent.delete(key);
+
+        assertThat(originalEvent.containsKey(key), is(false));
+        assertThat(createdEvent.containsKey(key), is(true));
+        assertThat(createdEvent.toMap(), equalTo(dataObject));
+    }
+
+    @Test
+    void copyOnWrite_delete_with_EventKey_on_copy_does_not_modify_original() {
+        final Map<String, Object> dataObject = createComplexDataMap();
+        final String key = dataObject.keySet().iterator().next();
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(dataObject)
+                .build();
+        final JacksonEvent createdEvent = JacksonEvent.copyOnWrite(originalEvent);
+
+        createdEvent.delete(new JacksonEventKeyFactory().createEventKey(key));
+
+        assertThat(createdEvent.containsKey(key), is(false));
+        assertThat(originalEvent.containsKey(key), is(true));
+    }
+
+    @Test
+    void copyOnWrite_last_event_sharing_the_data_modifies_it_without_copying() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(createComplexDataMap())
+                .build();
+        final JacksonEvent firstCopy = JacksonEvent.copyOnWrite(originalEvent);
+        final JacksonEvent secondCopy = JacksonEvent.copyOnWrite(originalEvent);
+        final Object sharedJsonNode = originalEvent.getJsonNode();
+
+        firstCopy.put("first", 1);
+        secondCopy.put("second", 2);
+        originalEvent.put("original", 0);
+
+        assertThat(firstCopy.getJsonNode(), not(sameInstance(sharedJsonNode)));
+        assertThat(secondCopy.getJsonNode(), not(sameInstance(sharedJsonNode)));
+        assertThat(originalEvent.getJsonNode(), sameInstance(sharedJsonNode));
+        assertThat(originalEvent.containsKey("first"), is(false));
+        assertThat(originalEvent.containsKey("second"), is(false));
+        assertThat(firstCopy.containsKey("original"), is(false));
+        assertThat(secondCopy.containsKey("first"), is(false));
+    }
+
     @Test
     void fromEvent_with_a_non_JacksonEvent() {
         final Map<String, Object> dataObject = createComplexDataMap();
@@ -846,4 +958,96 @@ public class JacksonEventTest {
         return dataObject;
     }
 
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/", "foo", "foo-bar", "foo_bar", "foo.bar", "/foo", "/foo/", "a1K.k3-01_02", "foo/bar", "/foo/bar/baz/"})
+    void testPutAndGet_withEventKey(final String key) {
+        final EventKey eventKey = new JacksonEventKeyFactory().createEventKey(key);
+        final UUID value = UUID.randomUUID();
+
+        event.put(eventKey, value);
+
+        assertThat(event.get(eventKey, UUID.class), equalTo(value));
+        assertThat(event.get(key, UUID.class), equalTo(value));
+        assertThat(event.containsKey(eventKey), equalTo(true));
+    }
+
+    @Test
+    void testPut_withEventKey_matches_put_withString() {
+        final Event otherEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .build();
+        final String key = "foo/bar/baz";
+        final Map<String, Object> value = Map.of("a", 1, "b", List.of("c", "d"));
+
+        event.put(new JacksonEventKeyFactory().createEventKey(key), value);
+        otherEvent.put(key, value);
+
+        assertThat(event.toJsonString(), equalTo(otherEvent.toJsonString()));
+    }
+
+    @Test
+    void testPut_withEmptyEventKey_throws() {
+        final EventKey eventKey = new JacksonEventKeyFactory().createEventKey("");
+        final Throwable exception = assertThrows(IllegalArgumentException.class, () -> event.put(eventKey, "value"));
+        assertThat(exception.getMessage(), containsStringIgnoringCase("key cannot be an empty string"));
+    }
+
+    @Test
+    void testGet_withEventKey_returns_null_when_missing() {
+        final EventKey eventKey = new JacksonEventKeyFactory().createEventKey("foo/missing");
+
+        assertThat(event.get(eventKey, String.class), nullValue());
+        assertThat(event.getList(eventKey, String.class), nullValue());
+        assertThat(event.containsKey(eventKey), equalTo(false));
+        assertThat(event.isValueAList(eventKey), equalTo(false));
+    }
+
+    @Test
+    void testGetList_withEventKey() {
+        final EventKey eventKey = new JacksonEventKeyFactory().createEventKey("list");
+        final List<Integer> value = Arrays.asList(1, 2, 3);
+        event.put("list", value);
+
+        assertThat(event.getList(eventKey, Integer.class), equalTo(value));
+        assertThat(event.isValueAList(eventKey), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"foo", "/foo", "foo/bar", "/foo/bar/"})
+    void testDelete_withEventKey(final String key) {
+        event.put(key, UUID.randomUUID().toString());
+        final EventKey eventKey = new JacksonEventKeyFactory().createEventKey(key);
+
+        event.delete(eventKey);
+
+        assertThat(event.containsKey(key), equalTo(false));
+    }
+
+    @Test
+    void testDelete_withEventKey_when_parent_missing_does_nothing() {
+        final EventKey eventKey = new JacksonEventKeyFactory().createEventKey("missing/child");
+
+        event.delete(eventKey);
+
+        assertThat(event.containsKey("missing"), equalTo(false));
+    }
+
+    @Test
+    void testDelete_withEmptyEventKey_throws() {
+        final EventKey eventKey = new JacksonEventKeyFactory().createEventKey("");
+        assertThrows(IllegalArgumentException.class, () -> event.delete(eventKey));
+    }
+
+    @Test
+    void testEventKey_methods_accept_other_EventKey_implementations() {
+        final EventKey eventKey = () -> "foo/bar";
+        final String value = UUID.randomUUID().toString();
+
+        event.put(eventKey, value);
+
+        assertThat(event.get(eventKey, String.class), equalTo(value));
+        event.delete(eventKey);
+        assertThat(event.containsKey(eventKey), equalTo(false));
+    }
 }
@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.model.trace;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -572,6 +573,88 @@ public class JacksonSpanTest {
             assertThrows(NullPointerException.class, builder::build);
         }
 
+        @Test
+        void testBuilder_withJsonData_with_object_node_uses_the_node_and_sets_default_values() throws JsonProcessingException {
+            final ObjectNode data = (ObjectNode) mapper.readTree("{\n" +
+                    "  \"traceId\": \"414243\",\n" +
+                    "  \"kind\": \"SPAN_KIND_INTERNAL\",\n" +
+                    "  \"traceGroupFields\": {\n" +
+                    "    \"endTime\": \"1970-01-01T00:00:00Z\",\n" +
+                    "    \"durationInNanos\": 0,\n" +
+                    "    \"statusCode\": 0\n" +
+                    "  },\n" +
+                    "  \"traceGroup\": \"FRUITS\",\n" +
+                    "  \"spanId\": \"313030\",\n" +
+                    "  \"name\": \"FRUITS\",\n" +
+                    "  \"startTime\": \"1970-01-01T00:00:00Z\",\n" +
+                    "  \"endTime\": \"1970-01-01T00:00:00Z\",\n" +
+                    "  \"durationInNanos\": 0" +
+                    "}");
+
+            final JacksonSpan jacksonSpan = JacksonSpan.builder()
+                    .withJsonData(data)
+                    .withServiceName(TEST_SERVICE_NAME)
+                    .build();
+
+            assertThat(jacksonSpan.getJsonNode(), sameInstance(data));
+            assertThat(jacksonSpan.getMetadata().getEventType(), equalTo(EventType.TRACE.toString()));
+            assertThat(jacksonSpan.getTraceId(), equalTo("414243"));
+            assertThat(jacksonSpan.getTraceGroup(), equalTo("FRUITS"));
+            assertThat(jacksonSpan.getServiceName(), equalTo(TEST_SERVICE_NAME));
+            assertThat(jacksonSpan.getAttributes(), equalTo(Map.of()));
+            assertThat(jacksonSpan.getDroppedAttributesCount(), equalTo(0));
+            assertThat(jacksonSpan.getEvents(), equalTo(List.of()));
+            assertThat(jacksonSpan.getDroppedEventsCount(), equalTo(0));
+            assertThat(jacksonSpan.getLinks(), equalTo(List.of()));
+            assertThat(jacksonSpan.getDroppedLinksCount(), equalTo(0));
+        }
+
+        @Test
+        void testBuilder_withJsonData_with_object_node_missingTraceGroupKey_throwsIllegalStateException() {
+            final ObjectNode object = mapper.createObjectNode().put("traceId", "414243");
+            final JacksonSpan.Builder builder = JacksonSpan.builder()
+                    .withJsonData(object);
+
+            assertThrows(IllegalStateException.class, builder::build);
+        }
+
+        @Test
+        void testBuilder_withJsonData_with_object_node_missing_non_empty_keys_throwsNullPointerException() {
+            final ObjectNode object = mapper.createObjectNode().put("traceGroup", "FRUITS");
+            final JacksonSpan.Builder builder = JacksonSpan.builder()
+                    .withJsonData(object);
+
+            assertThrows(NullPointerException.class, builder::build);
+        }
+
+        @Test
+        void testBuilder_withJsonData_with_object_node_with_empty_string_for_non_empty_key_throwsIllegalArgumentException() {
+            final ObjectNode object = mapper.createObjectNode()
+                    .put("traceGroup", "FRUITS")
+                    .put("traceId", "");
+            final JacksonSpan.Builder builder = JacksonSpan.builder()
+                    .withJsonData(object);
+
+            assertThrows(IllegalArgumentException.class, builder::build);
+        }
+
+        @Test
+        void testBuilder_withJsonData_with_object_node_with_null_non_null_key_throwsNullPointerException() {
+            final ObjectNode object = mapper.createObjectNode()
+                    .put("traceId", "414243")
+                    .put("traceGroup", "FRUITS")
+                    .put("kind", "SPAN_KIND_INTERNAL")
+                    .put("spanId", "313030")
+                    .put("name", "FRUITS")
+                    .put("startTime", "1970-01-01T00:00:00Z")
+                    .put("endTime", "1970-01-01T00:00:00Z")
+                    .putNull("durationInNanos");
+            final JacksonSpan.Builder builder = JacksonSpan.builder()
+                    .withJsonData(object);
+
+            assertThrows(NullPointerException.class, builder::build);
+        }
+
         @Test
         void testBuilder_withJsonData_with_invalid_json_data_should_throw() {
             String invalidJsonData = "{\"traceGroup\": \"FRUITS}";
@@ -704,6 +787,23 @@ public class JacksonSpanTest {
         assertThat(createdEvent.getMetadata(), equalTo(jacksonSpan.getMetadata()));
     }
 
+    @Test
+    void copyOnWrite_shares_data_until_modified() {
+        final JacksonSpan createdSpan = JacksonSpan.copyOnWrite(jacksonSpan);
+
+        assertThat(createdSpan, not(sameInstance(jacksonSpan)));
+        assertThat(createdSpan.getJsonNode(), sameInstance(jacksonSpan.getJsonNode()));
+        assertThat(createdSpan.toMap(), equalTo(jacksonSpan.toMap()));
+        assertThat(createdSpan.getMetadata(), not(sameInstance(jacksonSpan.getMetadata())));
+        assertThat(createdSpan.getMetadata(), equalTo(jacksonSpan.getMetadata()));
+
+        final String originalTraceGroup = jacksonSpan.getTraceGroup();
+        createdSpan.setTraceGroup(UUID.randomUUID().toString());
+
+        assertThat(jacksonSpan.getTraceGroup(), equalTo(originalTraceGroup));
+        assertThat(createdSpan.getTraceGroup(), not(equalTo(originalTraceGroup)));
+    }
+
     @Test
     void fromSpan_with_a_non_JacksonSpan() {
         final EventMetadata eventMetadata = mock(EventMetadata.class);
@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks.acknowledgements;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.acknowledgements.DefaultAcknowledgementSetManager;
+import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures acquiring and releasing event references through {@link DefaultAcknowledgementSetManager}
+ * from many threads at once, as the sink threads do with end-to-end acknowledgements. Each thread
+ * works on its own event, either in one acknowledgement set shared by all threads or in a set of its own.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class AcknowledgementSetManagerBenchmark {
+    private static final Duration EXPIRY = Duration.ofHours(1);
+
+    @State(Scope.Benchmark)
+    public static class ManagerState {
+        private ScheduledExecutorService callbackExecutor;
+        private DefaultAcknowledgementSetManager acknowledgementSetManager;
+        private AcknowledgementSet sharedAcknowledgementSet;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            callbackExecutor = Executors.newSingleThreadScheduledExecutor();
+            acknowledgementSetManager = new DefaultAcknowledgementSetManager(callbackExecutor, Duration.ofSeconds(1));
+            sharedAcknowledgementSet = acknowledgementSetManager.create(result -> { }, EXPIRY);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            acknowledgementSetManager.shutdown();
+            callbackExecutor.shutdownNow();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class EventState {
+        private EventHandle sharedSetEventHandle;
+        private EventHandle ownSetEventHandle;
+
+        @Setup(Level.Trial)
+        public void setUp(final ManagerState managerState) {
+            final Event sharedSetEvent = createEvent();
+            managerState.sharedAcknowledgementSet.add(sharedSetEvent);
+            sharedSetEventHandle = sharedSetEvent.getEventHandle();
+
+            final Event ownSetEvent = createEvent();
+            managerState.acknowledgementSetManager.create(result -> { }, EXPIRY).add(ownSetEvent);
+            ownSetEventHandle = ownSetEvent.getEventHandle();
+        }
+
+        private static Event createEvent() {
+            return JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Collections.singletonMap("message", "benchmark"))
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public void acquire_release_shared_set(final ManagerState managerState, final EventState eventState) {
+        managerState.acknowledgementSetManager.acquireEventReference(eventState.sharedSetEventHandle);
+        managerState.acknowledgementSetManager.releaseEventReference(eventState.sharedSetEventHandle, true);
+    }
+
+    @Benchmark
+    public void acquire_release_own_set(final ManagerState managerState, final EventState eventState) {
+        managerState.acknowledgementSetManager.acquireEventReference(eventState.ownSetEventHandle);
+        managerState.acknowledgementSetManager.releaseEventReference(eventState.ownSetEventHandle, true);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks.buffer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single-threaded write, read and checkpoint round trip of one batch through {@link BlockingBuffer}.
+ * See {@link BufferBenchmark} for concurrent producers and consumers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BlockingBufferBenchmark {
+    private static final int TIMEOUT_MILLIS = 1_000;
+
+    @Param({"1", "200"})
+    public int batchSize;
+
+    private BlockingBuffer<Record<String>> buffer;
+    private List<Record<String>> records;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        buffer = new BlockingBuffer<>(12_800, batchSize, "benchmark");
+        records = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            records.add(new Record<>("record-" + i));
+        }
+    }
+
+    @Benchmark
+    public Collection<Record<String>> write_then_read() throws Exception {
+        for (final Record<String> record : records) {
+            buffer.write(record, TIMEOUT_MILLIS);
+        }
+        return readAndCheckpoint();
+    }
+
+    @Benchmark
+    public Collection<Record<String>> writeAll_then_read() throws Exception {
+        buffer.writeAll(records, TIMEOUT_MILLIS);
+        return readAndCheckpoint();
+    }
+
+    private Collection<Record<String>> readAndCheckpoint() {
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = buffer.read(0);
+        buffer.checkpoint(readResult.getValue());
+        return readResult.getKey();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks.buffer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
+import org.opensearch.dataprepper.plugins.buffer.ringbuffer.RingBuffer;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Compares the bounded_blocking and ring_buffer buffers under concurrent producers and consumers. Each JMH group
+ * runs a fixed number of writer threads against a fixed number of reader threads sharing one buffer. Reported
+ * throughput is per operation: records written for the write methods and batches read for the read methods.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BufferBenchmark {
+    private static final String PIPELINE_NAME = "benchmark";
+    private static final int WRITE_TIMEOUT_MILLIS = 10;
+    private static final int READ_TIMEOUT_MILLIS = 0;
+    private static final Record<String> RECORD = new Record<>("benchmark-record");
+
+    @State(Scope.Group)
+    public static class BufferState {
+        @Param({"bounded_blocking", "ring_buffer"})
+        public String bufferType;
+
+        @Param({"12800"})
+        public int bufferSize;
+
+        @Param({"200"})
+        public int batchSize;
+
+        AbstractBuffer<Record<String>> buffer;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            if ("ring_buffer".equals(bufferType)) {
+                buffer = new RingBuffer<>(bufferSize, batchSize, PIPELINE_NAME);
+            } else {
+                buffer = new BlockingBuffer<>(bufferSize, batchSize, PIPELINE_NAME);
+            }
+        }
+    }
+
+    private static void write(final BufferState state, final Blackhole blackhole) {
+        try {
+            state.buffer.write(RECORD, WRITE_TIMEOUT_MILLIS);
+        } catch (final TimeoutException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    private static void read(final BufferState state, final Blackhole blackhole) {
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = state.buffer.read(READ_TIMEOUT_MILLIS);
+        blackhole.consume(readResult.getKey());
+        state.buffer.checkpoint(readResult.getValue());
+    }
+
+    @Benchmark
+    @Group("producers1_consumers1")
+    @GroupThreads(1)
+    public void write_p1_c1(final BufferState state, final Blackhole blackhole) {
+        write(state, blackhole);
+    }
+
+    @Benchmark
+    @Group("producers1_consumers1")
+    @GroupThreads(1)
+    public void read_p1_c1(final BufferState state, final Blackhole blackhole) {
+        read(state, blackhole);
+    }
+
+    @Benchmark
+    @Group("producers4_consumers4")
+    @GroupThreads(4)
+    public void write_p4_c4(final BufferState state, final Blackhole blackhole) {
+        write(state, blackhole);
+    }
+
+    @Benchmark
+    @Group("producers4_consumers4")
+    @GroupThreads(4)
+    public void read_p4_c4(final BufferState state, final Blackhole blackhole) {
+        read(state, blackhole);
+    }
+
+    @Benchmark
+    @Group("producers8_consumers16")
+    @GroupThreads(8)
+    public void write_p8_c16(final BufferState state, final Blackhole blackhole) {
+        write(state, blackhole);
+    }
+
+    @Benchmark
+    @Group("producers8_consumers16")
+    @GroupThreads(16)
+    public void read_p8_c16(final BufferState state, final Blackhole blackhole) {
+        read(state, blackhole);
+    }
+
+    @Benchmark
+    @Group("producers16_consumers4")
+    @GroupThreads(16)
+    public void write_p16_c4(final BufferState state, final Blackhole blackhole) {
+        write(state, blackhole);
+    }
+
+    @Benchmark
+    @Group("producers16_consumers4")
+    @GroupThreads(4)
+    public void read_p16_c4(final BufferState state, final Blackhole blackhole) {
+        read(state, blackhole);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the basic {@link JacksonEvent} operations on a small event with a nested object. The methods ending in
+ * {@code _event_key} perform the same operation as their string counterparts using a pre-compiled {@link EventKey}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JacksonEventBenchmark {
+    private Event event;
+    private EventKey serviceKey;
+    private EventKey requestStatusKey;
+    private EventKey environmentKey;
+    private EventKey requestUserIdKey;
+    private EventKey requestTraceIdKey;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Map<String, Object> request = new HashMap<>();
+        request.put("method", "GET");
+        request.put("path", "/api/v1/items");
+        request.put("status", 200);
+
+        final Map<String, Object> data = new HashMap<>();
+        data.put("message", "127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 2326");
+        data.put("service", "frontend");
+        data.put("latency", 123.45);
+        data.put("request", request);
+
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(data)
+                .build();
+
+        final EventKeyFactory eventKeyFactory = new JacksonEventKeyFactory();
+        serviceKey = eventKeyFactory.createEventKey("service");
+        requestStatusKey = eventKeyFactory.createEventKey("request/status");
+        environmentKey = eventKeyFactory.createEventKey("environment");
+        requestUserIdKey = eventKeyFactory.createEventKey("request/user/id");
+        requestTraceIdKey = eventKeyFactory.createEventKey("request/trace_id");
+    }
+
+    @Benchmark
+    public Object get_top_level_key() {
+        return event.get("service", String.class);
+    }
+
+    @Benchmark
+    public Object get_nested_key() {
+        return event.get("request/status", Integer.class);
+    }
+
+    @Benchmark
+    public Event put_top_level_key() {
+        event.put("environment", "production");
+        return event;
+    }
+
+    @Benchmark
+    public Event put_nested_key() {
+        event.put("request/user/id", "frank");
+        return event;
+    }
+
+    /**
+     * Deleting is measured together with a put of the same key so that every invocation deletes an existing key.
+     */
+    @Benchmark
+    public Event put_then_delete_key() {
+        event.put("request/trace_id", "abc123");
+        event.delete("request/trace_id");
+        return event;
+    }
+
+    @Benchmark
+    public Object get_top_level_key_event_key() {
+        return event.get(serviceKey, String.class);
+    }
+
+    @Benchmark
+    public Object get_nested_key_event_key() {
+        return event.get(requestStatusKey, Integer.class);
+    }
+
+    @Benchmark
+    public Event put_top_level_key_event_key() {
+        event.put(environmentKey, "production");
+        return event;
+    }
+
+    @Benchmark
+    public Event put_nested_key_event_key() {
+        event.put(requestUserIdKey, "frank");
+        return event;
+    }
+
+    @Benchmark
+    public Event put_then_delete_key_event_key() {
+        event.put(requestTraceIdKey, "abc123");
+        event.delete(requestTraceIdKey);
+        return event;
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return event.toJsonString();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks.expression;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ExpressionEvaluator#evaluateConditional(String, Event)} for common conditions used in routes,
+ * <code>when</code> conditions and the drop_events processor.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpressionEvaluatorBenchmark {
+    @Param({
+            "/status == 200",
+            "/status >= 400 and /status < 500",
+            "/service == \"frontend\" or /service == \"backend\"",
+            "/log =~ \"^ERROR.*\"",
+            "/service in {\"frontend\", \"backend\", \"checkout\"}",
+            "hasTags(\"error\")"
+    })
+    public String statement;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private ExpressionEvaluator expressionEvaluator;
+    private Event event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.scan("org.opensearch.dataprepper.expression");
+        applicationContext.register(JacksonEventKeyFactory.class);
+        applicationContext.refresh();
+        expressionEvaluator = applicationContext.getBean(ExpressionEvaluator.class);
+
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of(
+                        "status", 404,
+                        "service", "checkout",
+                        "log", "ERROR Unable to reach the payment service"))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Boolean evaluateConditional() {
+        return expressionEvaluator.evaluateConditional(statement, event);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks.peerforwarder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
+import org.opensearch.dataprepper.peerforwarder.codec.CompressingPeerForwarderCodec;
+import org.opensearch.dataprepper.peerforwarder.codec.JacksonPeerForwarderCodec;
+import org.opensearch.dataprepper.peerforwarder.codec.JavaPeerForwarderCodec;
+import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCodec;
+import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCodecAppConfig;
+import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCompression;
+import org.opensearch.dataprepper.peerforwarder.codec.SmilePeerForwarderCodec;
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serializing and deserializing one forwarding batch with each peer forwarder codec.
+ * The events look like trace spans, which are the events most commonly forwarded to peers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PeerForwarderCodecBenchmark {
+    private static final int MAX_REQUEST_LENGTH = (int) PeerForwarderConfiguration.DEFAULT_MAX_REQUEST_LENGTH.getBytes();
+
+    @Param({"json", "java", "smile", "smile_snappy", "smile_gzip"})
+    private String codec;
+
+    @Param({"500"})
+    private int batchSize;
+
+    private PeerForwarderCodec peerForwarderCodec;
+    private PeerForwardingEvents peerForwardingEvents;
+    private byte[] serializedEvents;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        peerForwarderCodec = createCodec(codec);
+
+        final List<Event> events = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            events.add(createSpanEvent(i));
+        }
+        peerForwardingEvents = new PeerForwardingEvents(events, "service_map", "trace-pipeline");
+        serializedEvents = peerForwarderCodec.serialize(peerForwardingEvents);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return peerForwarderCodec.serialize(peerForwardingEvents);
+    }
+
+    @Benchmark
+    public PeerForwardingEvents deserialize() throws Exception {
+        return peerForwarderCodec.deserialize(serializedEvents);
+    }
+
+    private static PeerForwarderCodec createCodec(final String codec) {
+        final PeerForwarderCodecAppConfig appConfig = new PeerForwarderCodecAppConfig();
+        switch (codec) {
+            case "json":
+                return new JacksonPeerForwarderCodec(appConfig.objectMapper());
+            case "java":
+                return new JavaPeerForwarderCodec(appConfig.objectInputFilter(new PeerForwarderConfiguration()));
+            case "smile":
+                return new SmilePeerForwarderCodec();
+            case "smile_snappy":
+                return new CompressingPeerForwarderCodec(new SmilePeerForwarderCodec(), PeerForwarderCompression.SNAPPY, MAX_REQUEST_LENGTH);
+            case "smile_gzip":
+                return new CompressingPeerForwarderCodec(new SmilePeerForwarderCodec(), PeerForwarderCompression.GZIP, MAX_REQUEST_LENGTH);
+            default:
+                throw new IllegalArgumentException("Unknown codec " + codec);
+        }
+    }
+
+    private static Event createSpanEvent(final int index) {
+        final Map<String, Object> data = Map.of(
+                "traceId", UUID.randomUUID().toString().replace("-", ""),
+                "spanId", Integer.toHexString(index),
+                "parentSpanId", "",
+                "name", "GET /api/orders",
+                "kind", "SPAN_KIND_SERVER",
+                "serviceName", "order-service",
+                "startTime", "2024-01-01T00:00:00.000000000Z",
+                "endTime", "2024-01-01T00:00:00.120000000Z",
+                "durationInNanos", 120000000L,
+                "attributes", Map.of(
+                        "http.method", "GET",
+                        "http.status_code", 200,
+                        "net.peer.name", "orders.internal"));
+        return JacksonEvent.builder()
+                .withEventType("event")
+                .withData(data)
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.processor.Processor;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.source.Source;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures one iteration of {@link ProcessWorker#doRun()}: reading a batch from the buffer, running it through a
+ * chain of processors and handing it to the sinks. The buffer always returns the same batch and the sinks complete
+ * immediately, so the measurement is the per-batch overhead of the worker plus the processors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ProcessWorkerBenchmark {
+    private static final int BATCH_SIZE = 200;
+
+    @Param({"1", "5"})
+    public int numberOfProcessors;
+
+    @Param({"false", "true"})
+    public boolean acknowledgementsEnabled;
+
+    private ProcessWorker processWorker;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final List<Record<Event>> records = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            records.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of("message", "benchmark message " + i, "sequence", i))
+                    .build()));
+        }
+
+        final List<Processor> processors = new ArrayList<>(numberOfProcessors);
+        for (int i = 0; i < numberOfProcessors; i++) {
+            processors.add(new PutValueProcessor("processor_" + i));
+        }
+
+        final Source source = mock(Source.class);
+        when(source.areAcknowledgementsEnabled()).thenReturn(acknowledgementsEnabled);
+        final Pipeline pipeline = mock(Pipeline.class);
+        when(pipeline.getName()).thenReturn("benchmark");
+        when(pipeline.getSource()).thenReturn(source);
+        when(pipeline.getReadBatchTimeoutInMillis()).thenReturn(0);
+        when(pipeline.publishToSinks(anyCollection())).thenReturn(Collections.emptyList());
+
+        processWorker = new ProcessWorker(new FixedBatchBuffer(records), processors, pipeline);
+    }
+
+    @Benchmark
+    public void doRun() {
+        processWorker.doRun();
+    }
+
+    private static class PutValueProcessor implements Processor<Record<Event>, Record<Event>> {
+        private final String key;
+
+        PutValueProcessor(final String key) {
+            this.key = key;
+        }
+
+        @Override
+        public Collection<Record<Event>> execute(final Collection<Record<Event>> records) {
+            for (final Record<Event> record : records) {
+                record.getData().put(key, "value");
+            }
+            return records;
+        }
+
+        @Override
+        public void prepareForShutdown() {
+        }
+
+        @Override
+        public boolean isReadyForShutdown() {
+            return true;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+
+    /**
+     * A {@link Buffer} which returns the same batch of records on every read.
+     */
+    private static class FixedBatchBuffer implements Buffer<Record<Event>> {
+        private final List<Record<Event>> records;
+
+        FixedBatchBuffer(final List<Record<Event>> records) {
+            this.records = records;
+        }
+
+        @Override
+        public void write(final Record<Event> record, final int timeoutInMillis) {
+        }
+
+        @Override
+        public void writeAll(final Collection<Record<Event>> records, final int timeoutInMillis) {
+        }
+
+        @Override
+        public Map.Entry<Collection<Record<Event>>, CheckpointState> read(final int timeoutInMillis) {
+            return new AbstractMap.SimpleEntry<>(new ArrayList<>(records), new CheckpointState(records.size()));
+        }
+
+        @Override
+        public void checkpoint(final CheckpointState checkpointState) {
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.router;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.configuration.ConditionalRoute;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.parser.DataFlowComponent;
+import org.opensearch.dataprepper.parser.DataFlowComponents;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Router#route} for one batch of events against a number of conditional routes. Each route is
+ * attached to one component and one additional component has no routes. Every route tests the same key, which
+ * is read once per event however many routes there are.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RouterBenchmark {
+    private static final int BATCH_SIZE = 200;
+
+    @Param({"1", "5", "20", "30"})
+    public int numberOfRoutes;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private Router router;
+    private Collection<Record> records;
+    private Collection<DataFlowComponent<String>> dataFlowComponents;
+    private RouterGetRecordStrategy getRecordStrategy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.scan("org.opensearch.dataprepper.expression");
+        applicationContext.register(JacksonEventKeyFactory.class);
+        applicationContext.refresh();
+        final ExpressionEvaluator expressionEvaluator = applicationContext.getBean(ExpressionEvaluator.class);
+
+        final Set<ConditionalRoute> routes = new HashSet<>();
+        dataFlowComponents = new ArrayList<>();
+        for (int i = 0; i < numberOfRoutes; i++) {
+            final String routeName = "route-" + i;
+            routes.add(new ConditionalRoute(routeName, "/service == \"service-" + i + "\""));
+            dataFlowComponents.add(DataFlowComponents.create("sink-" + i, Collections.singletonList(routeName)));
+        }
+        dataFlowComponents.add(DataFlowComponents.create("sink-all", Collections.emptyList()));
+
+        router = new RouterFactory(expressionEvaluator).createRouter(routes);
+
+        final List<Record> recordList = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            recordList.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of("service", "service-" + (i % (numberOfRoutes + 1)), "sequence", i))
+                    .build()));
+        }
+        records = recordList;
+
+        getRecordStrategy = new RouterGetRecordStrategy() {
+            @Override
+            public Record getRecord(final Record record) {
+                return record;
+            }
+
+            @Override
+            public Collection<Record> getAllRecords(final Collection<Record> allRecords) {
+                return allRecords;
+            }
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public void route(final Blackhole blackhole) {
+        router.route(records, dataFlowComponents, getRecordStrategy, (component, componentRecords) -> blackhole.consume(componentRecords));
+    }
+}
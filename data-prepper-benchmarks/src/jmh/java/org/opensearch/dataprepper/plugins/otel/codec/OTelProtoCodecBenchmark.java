@@ -0,0 +1,138 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import com.google.protobuf.ByteString;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding one OTLP trace export request into Data Prepper spans. The request looks like
+ * one sent by an instrumented HTTP service: one resource, one scope and spans carrying the usual
+ * HTTP semantic convention attributes, with an event on every tenth span.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OTelProtoCodecBenchmark {
+    private static final long START_TIME_NANOS = 1_700_000_000_123_456_789L;
+
+    @Param({"1000"})
+    private int spansPerRequest;
+
+    private OTelProtoCodec.OTelProtoDecoder decoder;
+    private ExportTraceServiceRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        decoder = new OTelProtoCodec.OTelProtoDecoder();
+        request = createRequest(spansPerRequest);
+    }
+
+    @Benchmark
+    public List<Span> parseExportTraceServiceRequest() {
+        return decoder.parseExportTraceServiceRequest(request);
+    }
+
+    private static ExportTraceServiceRequest createRequest(final int spanCount) {
+        final Random random = new Random(0);
+        final ScopeSpans.Builder scopeSpans = ScopeSpans.newBuilder()
+                .setScope(InstrumentationScope.newBuilder()
+                        .setName("io.opentelemetry.instrumentation.spring-webmvc-6.0")
+                        .setVersion("1.32.0"));
+        ByteString traceId = randomBytes(random, 16);
+        ByteString rootSpanId = ByteString.EMPTY;
+        for (int i = 0; i < spanCount; i++) {
+            if (i % 10 == 0) {
+                traceId = randomBytes(random, 16);
+                rootSpanId = ByteString.EMPTY;
+            }
+            final ByteString spanId = randomBytes(random, 8);
+            final long startTime = START_TIME_NANOS + i * 1_000_000L + random.nextInt(1_000);
+            final io.opentelemetry.proto.trace.v1.Span.Builder span = io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                    .setTraceId(traceId)
+                    .setSpanId(spanId)
+                    .setParentSpanId(rootSpanId)
+                    .setName("GET /api/orders/{orderId}")
+                    .setKind(rootSpanId.isEmpty()
+                            ? io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER
+                            : io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_CLIENT)
+                    .setStartTimeUnixNano(startTime)
+                    .setEndTimeUnixNano(startTime + 5_000_000L + random.nextInt(100_000_000))
+                    .addAttributes(stringAttribute("http.method", "GET"))
+                    .addAttributes(stringAttribute("http.route", "/api/orders/{orderId}"))
+                    .addAttributes(stringAttribute("http.target", "/api/orders/" + random.nextInt(100_000)))
+                    .addAttributes(stringAttribute("http.scheme", "https"))
+                    .addAttributes(intAttribute("http.status_code", 200))
+                    .addAttributes(stringAttribute("net.host.name", "orders.internal"))
+                    .addAttributes(intAttribute("net.host.port", 8443))
+                    .addAttributes(stringAttribute("user_agent.original", "Mozilla/5.0 (X11; Linux x86_64)"))
+                    .setStatus(Status.newBuilder().setCode(Status.StatusCode.STATUS_CODE_OK));
+            if (i % 10 == 0) {
+                span.addEvents(io.opentelemetry.proto.trace.v1.Span.Event.newBuilder()
+                        .setName("order.loaded")
+                        .setTimeUnixNano(startTime + 1_000_000L)
+                        .addAttributes(intAttribute("order.items", random.nextInt(20))));
+                rootSpanId = spanId;
+            }
+            scopeSpans.addSpans(span);
+        }
+
+        final Resource resource = Resource.newBuilder()
+                .addAttributes(stringAttribute("service.name", "order-service"))
+                .addAttributes(stringAttribute("service.version", "2.4.1"))
+                .addAttributes(stringAttribute("host.name", "orders-7c9d5b6f4-x2k8p"))
+                .addAttributes(stringAttribute("telemetry.sdk.language", "java"))
+                .addAttributes(stringAttribute("telemetry.sdk.name", "opentelemetry"))
+                .addAttributes(stringAttribute("telemetry.sdk.version", "1.32.0"))
+                .build();
+        return ExportTraceServiceRequest.newBuilder()
+                .addResourceSpans(ResourceSpans.newBuilder()
+                        .setResource(resource)
+                        .addScopeSpans(scopeSpans))
+                .build();
+    }
+
+    private static ByteString randomBytes(final Random random, final int length) {
+        final byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return ByteString.copyFrom(bytes);
+    }
+
+    private static KeyValue stringAttribute(final String key, final String value) {
+        return KeyValue.newBuilder().setKey(key).setValue(AnyValue.newBuilder().setStringValue(value)).build();
+    }
+
+    private static KeyValue intAttribute(final String key, final long value) {
+        return KeyValue.newBuilder().setKey(key).setValue(AnyValue.newBuilder().setIntValue(value)).build();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the work the aggregate processor does for its groups in one batch: looking up the group of each event
+ * and finding the groups to conclude. The number of open groups grows while none of them expire, so the batch
+ * latency should stay flat as the group count grows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AggregateGroupManagerBenchmark {
+    private static final int BATCH_SIZE = 200;
+    private static final Duration GROUP_DURATION = Duration.ofHours(1);
+
+    @Param({"1000", "100000", "500000"})
+    public int groupCount;
+
+    private AggregateGroupManager aggregateGroupManager;
+    private Object[][] identificationKeyValues;
+    private int nextGroup;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        aggregateGroupManager = new AggregateGroupManager(GROUP_DURATION, List.of("requestId"));
+        identificationKeyValues = new Object[groupCount][];
+        for (int i = 0; i < groupCount; i++) {
+            identificationKeyValues[i] = new Object[] {"request-" + i};
+            aggregateGroupManager.getAggregateGroup(identificationKeyValues[i]);
+        }
+    }
+
+    @Benchmark
+    public void processBatch(final Blackhole blackhole) {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final Object[] values = identificationKeyValues[nextGroup];
+            nextGroup = (nextGroup + 1) % groupCount;
+            final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(values);
+            synchronized (aggregateGroup) {
+                aggregateGroupManager.putGroup(aggregateGroup);
+            }
+            blackhole.consume(aggregateGroup);
+        }
+        blackhole.consume(aggregateGroupManager.getGroupsToConclude(false));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.date;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the date processor on one batch of events whose timestamps are in a mix of the configured
+ * syslog, ISO-8601 and epoch patterns, as sent by several log shippers into one pipeline. The events
+ * either share the timestamp of their format, as events logged in the same second do, or each carry
+ * a timestamp not seen before.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateProcessorBenchmark {
+    private static final int BATCH_SIZE = 200;
+    private static final Instant START_TIME = Instant.parse("2024-05-06T07:08:09.123Z");
+    private static final List<String> PATTERNS = List.of(
+            "MMM dd HH:mm:ss", "yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "dd/MMM/yyyy:HH:mm:ss Z", "epoch_milli");
+    private static final List<DateTimeFormatter> SOURCE_FORMATTERS = List.of(
+            DateTimeFormatter.ofPattern("MMM dd HH:mm:ss", Locale.ROOT).withZone(ZoneOffset.UTC),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss", Locale.ROOT).withZone(ZoneOffset.UTC),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", Locale.ROOT).withZone(ZoneOffset.ofHours(2)),
+            DateTimeFormatter.ofPattern("dd/MMM/yyyy:HH:mm:ss Z", Locale.ROOT).withZone(ZoneOffset.ofHours(-7)));
+
+    @Param({"true", "false"})
+    public boolean repeatedTimestamps;
+
+    private DateProcessor dateProcessor;
+    private long invocation;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final DateProcessorConfig dateProcessorConfig = new ObjectMapper().convertValue(Map.of(
+                "match", List.of(Map.of("key", "timestamp", "patterns", PATTERNS)),
+                "source_timezone", "UTC",
+                "destination_timezone", "UTC",
+                "locale", "ROOT"), DateProcessorConfig.class);
+        dateProcessorConfig.isSourceTimezoneValid();
+        dateProcessorConfig.isDestinationTimezoneValid();
+        dateProcessorConfig.isLocaleValid();
+        dateProcessor = new DateProcessor(PluginMetrics.fromNames("date", "benchmark"), dateProcessorConfig,
+                null, new JacksonEventKeyFactory());
+    }
+
+    @Benchmark
+    public Collection<Record<Event>> processBatch() {
+        return dateProcessor.doExecute(createRecords());
+    }
+
+    private List<Record<Event>> createRecords() {
+        invocation++;
+        final List<Record<Event>> records = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final Instant time = repeatedTimestamps ? START_TIME : START_TIME.plusSeconds(invocation * BATCH_SIZE + i);
+            final int format = i % (SOURCE_FORMATTERS.size() + 1);
+            final String timestamp = format < SOURCE_FORMATTERS.size()
+                    ? SOURCE_FORMATTERS.get(format).format(time)
+                    : Long.toString(time.toEpochMilli());
+            records.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of("timestamp", timestamp, "message", "connection accepted from 10.0.0.1:52312"))
+                    .build()));
+        }
+        return records;
+    }
+}
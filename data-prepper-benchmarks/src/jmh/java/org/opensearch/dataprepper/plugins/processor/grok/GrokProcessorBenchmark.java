@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures grokking one batch of the log lines sent by the VariousGrokPatternsSimulation, with no timeout,
+ * with the timeout checked on the worker thread, and with each event handed to a single-thread executor
+ * and awaited, which is how the timeout used to be enforced.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GrokProcessorBenchmark {
+    private static final int BATCH_SIZE = 100;
+    private static final int TIMEOUT_MILLIS = 30_000;
+    private static final List<String> LOG_LINES = List.of(
+            "127.0.0.1 - Marita [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 2326",
+            "127.0.0.1 - Rosaline [10/Oct/2000:13:55:36 -0700] \"PUT /apache_pb.gif HTTP/1.0\" 202 2326",
+            "127.0.0.1 - Talbot [10/Oct/2000:13:55:36 -0700] \"POST /apache_pb.gif HTTP/1.0\" 400 2326",
+            "127.0.0.1 - Adriene [10/Oct/2000:13:55:36 -0700] \"DELETE /apache_pb.gif HTTP/1.0\" 404 2326",
+            "I should fail the grok parser");
+
+    @Param({"none", "worker_thread", "executor"})
+    public String timeoutMode;
+
+    private GrokProcessor grokProcessor;
+    private ExecutorService executorService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        grokProcessor = createGrokProcessor("worker_thread".equals(timeoutMode) ? TIMEOUT_MILLIS : 0);
+        executorService = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public Collection<Record<Event>> grokBatch() throws Exception {
+        final List<Record<Event>> records = createRecords();
+        if (!"executor".equals(timeoutMode)) {
+            return grokProcessor.execute(records);
+        }
+        for (final Record<Event> record : records) {
+            executorService.submit(() -> grokProcessor.execute(Collections.singletonList(record)))
+                    .get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        return records;
+    }
+
+    private static List<Record<Event>> createRecords() {
+        final List<Record<Event>> records = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final Event event = JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of("log", LOG_LINES.get(i % LOG_LINES.size())))
+                    .build();
+            records.add(new Record<>(event));
+        }
+        return records;
+    }
+
+    private static GrokProcessor createGrokProcessor(final int timeoutMillis) {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(GrokProcessorConfig.MATCH, Map.of("log", List.of("%{COMMONAPACHELOG}")));
+        settings.put(GrokProcessorConfig.TIMEOUT_MILLIS, timeoutMillis);
+        final PluginSetting pluginSetting = new PluginSetting("grok", settings);
+        pluginSetting.setPipelineName("benchmark");
+        return new GrokProcessor(pluginSetting, null, new JacksonEventKeyFactory());
+    }
+}
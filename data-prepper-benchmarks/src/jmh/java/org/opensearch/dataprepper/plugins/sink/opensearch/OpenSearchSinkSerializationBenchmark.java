@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import jakarta.json.stream.JsonGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.NdJsonpSerializable;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.bulk.IndexOperation;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.AccumulatingBulkRequest;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.JavaClientAccumulatingUncompressedBulkRequest;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.PreSerializedJsonpMapper;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.SerializedJson;
+import org.opensearch.dataprepper.plugins.sink.opensearch.index.DocumentBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the CPU-bound part of {@link OpenSearchSink#doOutput}: building each document, wrapping it in a bulk
+ * operation, accumulating the operations into a bulk request and serializing the request body the way the
+ * opensearch-java transport does. No request is sent.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class OpenSearchSinkSerializationBenchmark {
+    private static final String INDEX_NAME = "benchmark-index";
+
+    @Param({"200"})
+    public int batchSize;
+
+    private List<Event> events;
+    private JsonpMapper jsonpMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        events = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            events.add(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of(
+                            "message", "127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 2326",
+                            "status", 200,
+                            "sequence", i,
+                            "request", Map.of("method", "GET", "path", "/apache_pb.gif")))
+                    .build());
+        }
+        jsonpMapper = new PreSerializedJsonpMapper();
+    }
+
+    @Benchmark
+    public byte[] buildAndSerializeBulkRequest() {
+        final AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> bulkRequest =
+                new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder());
+
+        for (final Event event : events) {
+            final SerializedJson document = SerializedJson.fromStringAndOptionals(
+                    DocumentBuilder.build(event, null, null), null, null);
+            final BulkOperation bulkOperation = new BulkOperation.Builder()
+                    .index(new IndexOperation.Builder<>()
+                            .index(INDEX_NAME)
+                            .document(document)
+                            .build())
+                    .build();
+            final BulkOperationWrapper bulkOperationWrapper = new BulkOperationWrapper(bulkOperation, event.getEventHandle(), null);
+            bulkRequest.estimateSizeInBytesWithDocument(bulkOperationWrapper);
+            bulkRequest.addOperation(bulkOperationWrapper);
+        }
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream((int) bulkRequest.getEstimatedSizeInBytes());
+        writeNdJson(bulkRequest.getRequest(), outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private void writeNdJson(final NdJsonpSerializable value, final ByteArrayOutputStream outputStream) {
+        final Iterator<?> serializables = value._serializables();
+        while (serializables.hasNext()) {
+            final Object serializable = serializables.next();
+            if (serializable instanceof NdJsonpSerializable && serializable != value) {
+                writeNdJson((NdJsonpSerializable) serializable, outputStream);
+            } else {
+                final JsonGenerator generator = jsonpMapper.jsonProvider().createGenerator(outputStream);
+                jsonpMapper.serialize(serializable, generator);
+                generator.close();
+                outputStream.write('\n');
+            }
+        }
+    }
+}
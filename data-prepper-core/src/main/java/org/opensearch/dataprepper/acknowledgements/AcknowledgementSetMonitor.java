@@ -10,10 +10,15 @@ import org.opensearch.dataprepper.model.event.DefaultEventHandle;
 import org.opensearch.dataprepper.model.event.InternalEventHandle;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.lang.ref.WeakReference;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Queue;
 import java.util.Set;
-import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,11 +29,17 @@ import org.slf4j.LoggerFactory;
  * by a specified time. If it is not completed, then it is considered 'expired' and it is
  * cleaned up. The 'run' method is invoked periodically to cleanup the acknowledgement sets
  * that are either completed or expired.
+ * <p>
+ * Live sets are kept in a concurrent set, so acquire and release do not take a lock. Sets
+ * report their own completion through {@link #onCompleted(DefaultAcknowledgementSet)}, and the
+ * sets which may expire are kept ordered by expiry time, so that 'run' only visits the sets
+ * which have completed or expired since the previous run.
  */
 class AcknowledgementSetMonitor implements Runnable {
     private static final Logger LOG = LoggerFactory.getLogger(AcknowledgementSetMonitor.class);
     private final Set<AcknowledgementSet> acknowledgementSets;
-    private final ReentrantLock lock;
+    private final Queue<DefaultAcknowledgementSet> completedAcknowledgementSets;
+    private final PriorityBlockingQueue<ExpiryEntry> expiryQueue;
     private final AtomicInteger numInvalidAcquires;
     private final AtomicInteger numInvalidReleases;
     private final AtomicInteger numNullHandles;
@@ -43,8 +54,9 @@ class AcknowledgementSetMonitor implements Runnable {
     }
 
     public AcknowledgementSetMonitor() {
-        this.acknowledgementSets = new HashSet<>();
-        this.lock = new ReentrantLock(true);
+        this.acknowledgementSets = ConcurrentHashMap.newKeySet();
+        this.completedAcknowledgementSets = new ConcurrentLinkedQueue<>();
+        this.expiryQueue = new PriorityBlockingQueue<>(11, Comparator.comparing(ExpiryEntry::getExpiryTime));
         this.numInvalidAcquires = new AtomicInteger(0);
         this.numInvalidReleases = new AtomicInteger(0);
         this.numNullHandles = new AtomicInteger(0);
@@ -59,14 +71,21 @@ class AcknowledgementSetMonitor implements Runnable {
     }
 
     public void add(final AcknowledgementSet acknowledgementSet) {
-        lock.lock();
-        try {
-            acknowledgementSets.add(acknowledgementSet);
-        } finally {
-            lock.unlock();
+        acknowledgementSets.add(acknowledgementSet);
+        if (acknowledgementSet instanceof DefaultAcknowledgementSet) {
+            expiryQueue.add(new ExpiryEntry((DefaultAcknowledgementSet) acknowledgementSet));
         }
     }
 
+    /**
+     * Called by an acknowledgement set once its callback has run.
+     *
+     * @param acknowledgementSet the completed acknowledgement set
+     */
+    void onCompleted(final DefaultAcknowledgementSet acknowledgementSet) {
+        completedAcknowledgementSets.add(acknowledgementSet);
+    }
+
     public void acquire(final EventHandle eventHandle) {
         if (eventHandle == null) {
             numNullHandles.incrementAndGet();
@@ -74,17 +93,10 @@ class AcknowledgementSetMonitor implements Runnable {
         }
 
         DefaultAcknowledgementSet acknowledgementSet = getAcknowledgementSet(eventHandle);
-        lock.lock();
-        boolean exists = false;
-        try {
-            exists = acknowledgementSets.contains(acknowledgementSet);
-        } finally {
-            lock.unlock();
-        }
         // if acknowledgementSet doesn't exist then it means that the
         // event still active even after the acknowledgement set is
         // cleaned up.
-        if (exists) {
+        if (acknowledgementSet != null && acknowledgementSets.contains(acknowledgementSet)) {
             acknowledgementSet.acquire(eventHandle);
         } else {
             LOG.warn("Trying acquire an event in an AcknowledgementSet that does not exist");
@@ -98,18 +110,11 @@ class AcknowledgementSetMonitor implements Runnable {
             return;
         }
         DefaultAcknowledgementSet acknowledgementSet = getAcknowledgementSet(eventHandle);
-        lock.lock();
-        boolean exists = false;
-        try {
-            exists = acknowledgementSets.contains(acknowledgementSet);
-        } finally {
-            lock.unlock();
-        }
         // if acknowledgementSet doesn't exist then it means some late
         // arrival of event handle release after the acknowledgement set
         // is cleaned up.
-        if (exists) {
-            boolean b = acknowledgementSet.release(eventHandle, success);
+        if (acknowledgementSet != null && acknowledgementSets.contains(acknowledgementSet)) {
+            acknowledgementSet.release(eventHandle, success);
         } else {
             LOG.warn("Trying to release from an AcknowledgementSet that does not exist");
             numInvalidReleases.incrementAndGet();
@@ -126,13 +131,42 @@ class AcknowledgementSetMonitor implements Runnable {
 
     @Override
     public void run() {
-        lock.lock();
-        try {
-            if (acknowledgementSets.size() > 0) {
-                acknowledgementSets.removeIf((ackSet) -> ((DefaultAcknowledgementSet) ackSet).isDone());
+        DefaultAcknowledgementSet completedAcknowledgementSet;
+        while ((completedAcknowledgementSet = completedAcknowledgementSets.poll()) != null) {
+            if (completedAcknowledgementSet.isDone()) {
+                acknowledgementSets.remove(completedAcknowledgementSet);
+            }
+        }
+
+        final Instant now = Instant.now();
+        ExpiryEntry expiryEntry;
+        while ((expiryEntry = expiryQueue.peek()) != null && expiryEntry.getExpiryTime().isBefore(now)) {
+            expiryQueue.poll();
+            final DefaultAcknowledgementSet acknowledgementSet = expiryEntry.getAcknowledgementSet();
+            if (acknowledgementSet != null && acknowledgementSets.contains(acknowledgementSet) && acknowledgementSet.isDone()) {
+                acknowledgementSets.remove(acknowledgementSet);
             }
-        } finally {
-            lock.unlock();
+        }
+    }
+
+    /**
+     * Keeps the expiry time of a set without keeping the set alive after it has been cleaned up.
+     */
+    private static class ExpiryEntry {
+        private final Instant expiryTime;
+        private final WeakReference<DefaultAcknowledgementSet> acknowledgementSetRef;
+
+        ExpiryEntry(final DefaultAcknowledgementSet acknowledgementSet) {
+            this.expiryTime = acknowledgementSet.getExpiryTime();
+            this.acknowledgementSetRef = new WeakReference<>(acknowledgementSet);
+        }
+
+        Instant getExpiryTime() {
+            return expiryTime;
+        }
+
+        DefaultAcknowledgementSet getAcknowledgementSet() {
+            return acknowledgementSetRef.get();
         }
     }
 }
@@ -9,66 +9,90 @@ import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.opensearch.dataprepper.model.acknowledgements.ProgressCheck;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
-import org.opensearch.dataprepper.model.event.InternalEventHandle;
 import org.opensearch.dataprepper.model.event.DefaultEventHandle;
+import org.opensearch.dataprepper.model.event.InternalEventHandle;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
+/**
+ * Tracks the events of one acknowledgement set. The references of each event are counted on
+ * its {@link DefaultEventHandle}, and the set only counts the events which still hold a
+ * reference, so acquiring and releasing an event does not take any lock.
+ */
 public class DefaultAcknowledgementSet implements AcknowledgementSet {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultAcknowledgementSet.class);
     private final Consumer<Boolean> callback;
+    private final Consumer<DefaultAcknowledgementSet> completionListener;
     private Consumer<ProgressCheck> progressCheckCallback;
     private final Instant expiryTime;
     private final ScheduledExecutorService scheduledExecutor;
-    // This lock protects all the non-final members
+    // This lock protects the callback and progress check futures
     private final ReentrantLock lock;
-    private boolean result;
-    private final Map<EventHandle, AtomicInteger> pendingAcknowledgments;
+    private volatile boolean result;
+    private final AtomicInteger pendingEvents;
+    private final AtomicBoolean callbackScheduled;
     private Future<?> callbackFuture;
+    private volatile boolean callbackCompleted;
     private final DefaultAcknowledgementSetMetrics metrics;
     private ScheduledFuture<?> progressCheckFuture;
-    private boolean completed;
-    private AtomicInteger totalEventsAdded;
+    private volatile boolean completed;
+    private final AtomicInteger totalEventsAdded;
 
     public DefaultAcknowledgementSet(final ScheduledExecutorService scheduledExecutor,
                                      final Consumer<Boolean> callback,
                                      final Duration expiryTime,
                                      final DefaultAcknowledgementSetMetrics metrics) {
+        this(scheduledExecutor, callback, expiryTime, metrics, acknowledgementSet -> { });
+    }
+
+    /**
+     * @param completionListener notified once the callback of this set has run
+     */
+    public DefaultAcknowledgementSet(final ScheduledExecutorService scheduledExecutor,
+                                     final Consumer<Boolean> callback,
+                                     final Duration expiryTime,
+                                     final DefaultAcknowledgementSetMetrics metrics,
+                                     final Consumer<DefaultAcknowledgementSet> completionListener) {
         this.callback = callback;
+        this.completionListener = completionListener;
         this.result = true;
         this.totalEventsAdded = new AtomicInteger(0);
+        this.pendingEvents = new AtomicInteger(0);
+        this.callbackScheduled = new AtomicBoolean(false);
         this.scheduledExecutor = scheduledExecutor;
         this.expiryTime = Instant.now().plusMillis(expiryTime.toMillis());
         this.callbackFuture = null;
+        this.callbackCompleted = false;
         this.metrics = metrics;
         this.completed = false;
         this.progressCheckCallback = null;
-        pendingAcknowledgments = new HashMap<>();
-        lock = new ReentrantLock(true);
+        lock = new ReentrantLock();
     }
 
     public void addProgressCheck(final Consumer<ProgressCheck> progressCheckCallback, final Duration progressCheckInterval) {
         this.progressCheckCallback = progressCheckCallback;
-        this.progressCheckFuture = scheduledExecutor.scheduleAtFixedRate(this::checkProgress, 0L, progressCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+        lock.lock();
+        try {
+            this.progressCheckFuture = scheduledExecutor.scheduleAtFixedRate(this::checkProgress, 0L, progressCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            lock.unlock();
+        }
     }
 
     public void checkProgress() {
-        lock.lock();
-        int numberOfEventsPending = pendingAcknowledgments.size();
-        lock.unlock();
+        final int numberOfEventsPending = pendingEvents.get();
         if (progressCheckCallback != null) {
             progressCheckCallback.accept(new DefaultProgressCheck((double)numberOfEventsPending/totalEventsAdded.get()));
         }
@@ -76,40 +100,30 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
 
     @Override
     public void add(Event event) {
-        lock.lock();
-        try {
-            if (event instanceof JacksonEvent) {
-                EventHandle eventHandle = event.getEventHandle();
-                if (eventHandle instanceof DefaultEventHandle) {
-                    InternalEventHandle internalEventHandle = (InternalEventHandle)(DefaultEventHandle)eventHandle;
-                    internalEventHandle.setAcknowledgementSet(this);
-                    pendingAcknowledgments.put(eventHandle, new AtomicInteger(1));
-                    totalEventsAdded.incrementAndGet();
+        if (event instanceof JacksonEvent) {
+            EventHandle eventHandle = event.getEventHandle();
+            if (eventHandle instanceof DefaultEventHandle) {
+                final DefaultEventHandle defaultEventHandle = (DefaultEventHandle) eventHandle;
+                defaultEventHandle.setAcknowledgementSet(this);
+                if (defaultEventHandle.initializeReference()) {
+                    pendingEvents.incrementAndGet();
                 }
+                totalEventsAdded.incrementAndGet();
             }
-        } finally {
-            lock.unlock();
         }
     }
 
     public void acquire(final EventHandle eventHandle) {
-        lock.lock();
-        try {
-            if (!pendingAcknowledgments.containsKey(eventHandle)) {
-                LOG.warn("Unexpected event handle acquire");
-                metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME);
-                return;
-            }
-            pendingAcknowledgments.get(eventHandle).incrementAndGet();
-        } finally {
-            lock.unlock();
+        if (!isOwnHandle(eventHandle) || !((InternalEventHandle) eventHandle).acquireReference()) {
+            LOG.warn("Unexpected event handle acquire");
+            metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME);
         }
     }
 
     public boolean isDone() {
         lock.lock();
         try {
-            if (callbackFuture != null && callbackFuture.isDone()) {
+            if (callbackCompleted || (callbackFuture != null && callbackFuture.isDone())) {
                 metrics.increment(DefaultAcknowledgementSetMetrics.COMPLETED_METRIC_NAME);
                 return true;
             }
@@ -137,49 +151,63 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
 
     @Override
     public void complete() {
-        lock.lock();
-        try {
-            completed = true;
-            if (pendingAcknowledgments.size() == 0) {
-                if (progressCheckFuture != null) {
-                    progressCheckFuture.cancel(false);
-                }
-                callbackFuture = scheduledExecutor.submit(() -> callback.accept(this.result));
-            }
-        } finally {
-            lock.unlock();
+        completed = true;
+        if (pendingEvents.get() == 0) {
+            scheduleCallback();
         }
     }
 
     @Override
     public boolean release(final EventHandle eventHandle, final boolean result) {
-        lock.lock();
         // Result indicates negative or positive acknowledgement. Even if one of the
         // events in the set report negative acknowledgement, then the end result
         // is negative acknowledgement
-        this.result = this.result && result;
+        if (!result) {
+            this.result = false;
+        }
+        final int remainingReferences = isOwnHandle(eventHandle) ?
+                ((InternalEventHandle) eventHandle).releaseReference() : -1;
+        if (remainingReferences < 0) {
+            LOG.warn("Unexpected event handle release");
+            metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_RELEASES_METRIC_NAME);
+            return false;
+        }
+        if (remainingReferences == 0 && pendingEvents.decrementAndGet() == 0) {
+            // complete() sets completed before it reads pendingEvents, so at least one
+            // of the two sees the other and schedules the callback.
+            if (completed) {
+                return scheduleCallback();
+            }
+            LOG.debug("Acknowledgement set is not completed. Delaying callback until it is completed");
+        }
+        return false;
+    }
+
+    private boolean isOwnHandle(final EventHandle eventHandle) {
+        return eventHandle instanceof DefaultEventHandle &&
+                ((DefaultEventHandle) eventHandle).getAcknowledgementSet() == this;
+    }
+
+    private boolean scheduleCallback() {
+        if (!callbackScheduled.compareAndSet(false, true)) {
+            return false;
+        }
+        lock.lock();
         try {
-            if (!pendingAcknowledgments.containsKey(eventHandle) ||
-                pendingAcknowledgments.get(eventHandle).get() == 0) {
-                LOG.warn("Unexpected event handle release");
-                metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_RELEASES_METRIC_NAME);
-                return false;
+            if (progressCheckFuture != null) {
+                progressCheckFuture.cancel(false);
             }
-            if (pendingAcknowledgments.get(eventHandle).decrementAndGet() == 0) {
-                pendingAcknowledgments.remove(eventHandle);
-                if (completed && pendingAcknowledgments.size() == 0) {
-                    if (progressCheckFuture != null) {
-                        progressCheckFuture.cancel(false);
-                    }
-                    callbackFuture = scheduledExecutor.submit(() -> callback.accept(this.result));
-                    return true;
-                } else if (pendingAcknowledgments.size() == 0) {
-                    LOG.debug("Acknowledgement set is not completed. Delaying callback until it is completed");
+            callbackFuture = scheduledExecutor.submit(() -> {
+                try {
+                    callback.accept(this.result);
+                } finally {
+                    callbackCompleted = true;
+                    completionListener.accept(this);
                 }
-            }
+            });
         } finally {
             lock.unlock();
         }
-        return false;
+        return true;
     }
 }
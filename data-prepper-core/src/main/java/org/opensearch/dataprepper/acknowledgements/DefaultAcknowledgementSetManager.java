@@ -43,7 +43,8 @@ public class DefaultAcknowledgementSetManager implements AcknowledgementSetManag
     }
 
     public AcknowledgementSet create(final Consumer<Boolean> callback, final Duration timeout) {
-        AcknowledgementSet acknowledgementSet = new DefaultAcknowledgementSet(scheduledExecutor, callback, timeout, metrics);
+        AcknowledgementSet acknowledgementSet = new DefaultAcknowledgementSet(scheduledExecutor, callback, timeout, metrics,
+                acknowledgementSetMonitor::onCompleted);
         acknowledgementSetMonitor.add(acknowledgementSet);
         metrics.increment(DefaultAcknowledgementSetMetrics.CREATED_METRIC_NAME);
         return acknowledgementSet;
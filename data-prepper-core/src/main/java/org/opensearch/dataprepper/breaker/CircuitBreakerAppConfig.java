@@ -37,6 +37,16 @@ public class CircuitBreakerAppConfig {
         }
     }
 
+    @Bean
+    InnerCircuitBreaker oldGenerationCircuitBreaker(final DataPrepperConfiguration dataPrepperConfiguration) {
+        final CircuitBreakerConfig circuitBreakerConfig = dataPrepperConfiguration.getCircuitBreakerConfig();
+        if(circuitBreakerConfig != null && circuitBreakerConfig.getOldGenerationConfig() != null) {
+            return new OldGenerationCircuitBreaker(circuitBreakerConfig.getOldGenerationConfig());
+        } else {
+            return null;
+        }
+    }
+
     @Bean
     public Optional<CircuitBreaker> circuitBreaker(final CircuitBreakerManager circuitBreakerManager) {
         return circuitBreakerManager.getGlobalCircuitBreaker();
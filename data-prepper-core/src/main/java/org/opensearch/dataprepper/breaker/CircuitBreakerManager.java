@@ -28,7 +28,8 @@ public class CircuitBreakerManager {
 
     /**
      * Returns a circuit breaker representing all circuit breakers. This is open
-     * if and only if at least one circuit breaker is open.
+     * if and only if at least one circuit breaker is open, and rejects the largest
+     * fraction of writes which any circuit breaker rejects.
      *
      * @return The global circuit breaker.
      */
@@ -47,5 +48,28 @@ public class CircuitBreakerManager {
         public boolean isOpen() {
             return circuitBreakers.stream().anyMatch(CircuitBreaker::isOpen);
         }
+
+        @Override
+        public double getRejectionRatio() {
+            double rejectionRatio = 0.0;
+            for (final InnerCircuitBreaker circuitBreaker : circuitBreakers) {
+                rejectionRatio = Math.max(rejectionRatio, circuitBreaker.getRejectionRatio());
+            }
+            return rejectionRatio;
+        }
+
+        @Override
+        public void recordBufferedBytes(final long bytes) {
+            for (final InnerCircuitBreaker circuitBreaker : circuitBreakers) {
+                circuitBreaker.recordBufferedBytes(bytes);
+            }
+        }
+
+        @Override
+        public void releaseBufferedBytes(final long bytes) {
+            for (final InnerCircuitBreaker circuitBreaker : circuitBreakers) {
+                circuitBreaker.releaseBufferedBytes(bytes);
+            }
+        }
     }
 }
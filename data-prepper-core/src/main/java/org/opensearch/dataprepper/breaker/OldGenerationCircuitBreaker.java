@@ -0,0 +1,230 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.breaker;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import io.micrometer.core.instrument.Metrics;
+import org.opensearch.dataprepper.model.breaker.CircuitBreaker;
+import org.opensearch.dataprepper.parser.model.OldGenerationCircuitBreakerConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * An implementation of {@link CircuitBreaker} which checks against the old generation usage.
+ * <p>
+ * The usage is estimated as the old generation occupancy after the last garbage collection plus
+ * the bytes written to buffers since then and not yet released from them. The occupancy is read
+ * from notifications of garbage collections which collected the old generation, so it only counts
+ * live objects, and no garbage collection is ever requested.
+ * Writes are rejected with a growing ratio once the estimate passes the backpressure start,
+ * and all writes are rejected once it passes the usage.
+ *
+ * @since 2.7
+ */
+class OldGenerationCircuitBreaker implements InnerCircuitBreaker, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(OldGenerationCircuitBreaker.class);
+    public static final int OPEN_METRIC_VALUE = 1;
+    public static final int CLOSED_METRIC_VALUE = 0;
+    private static final Set<String> OLD_GENERATION_POOL_NAMES = Set.of("Old", "Tenured");
+    static final String MAJOR_GC_ACTION = "end of major GC";
+    private final long usageBytes;
+    private final long backpressureStartBytes;
+    private final Set<String> poolNames;
+    private final AtomicLong bufferedBytes;
+    private final AtomicBoolean open;
+    private final AtomicInteger openGauge;
+    private final NotificationListener notificationListener;
+    private final List<NotificationEmitter> notificationEmitters;
+    private volatile long postGarbageCollectionBytes;
+
+    OldGenerationCircuitBreaker(final OldGenerationCircuitBreakerConfig circuitBreakerConfig) {
+        this(circuitBreakerConfig, ManagementFactory.getGarbageCollectorMXBeans(), ManagementFactory.getMemoryPoolMXBeans());
+    }
+
+    OldGenerationCircuitBreaker(final OldGenerationCircuitBreakerConfig circuitBreakerConfig,
+                                final List<GarbageCollectorMXBean> garbageCollectorMXBeans,
+                                final List<MemoryPoolMXBean> memoryPoolMXBeans) {
+        Objects.requireNonNull(circuitBreakerConfig);
+        Objects.requireNonNull(circuitBreakerConfig.getUsage());
+
+        usageBytes = circuitBreakerConfig.getUsage().getBytes();
+        if(usageBytes <= 0)
+            throw new IllegalArgumentException("Bytes usage must be positive.");
+
+        final double backpressureStart = circuitBreakerConfig.getBackpressureStart();
+        if(backpressureStart < 0 || backpressureStart > 1)
+            throw new IllegalArgumentException("Backpressure start must be between 0 and 1.");
+        backpressureStartBytes = (long) (usageBytes * backpressureStart);
+
+        final List<MemoryPoolMXBean> pools = selectPools(memoryPoolMXBeans);
+        poolNames = pools.stream().map(MemoryPoolMXBean::getName).collect(Collectors.toSet());
+        postGarbageCollectionBytes = pools.stream()
+                .map(MemoryPoolMXBean::getCollectionUsage)
+                .filter(Objects::nonNull)
+                .mapToLong(MemoryUsage::getUsed)
+                .sum();
+        bufferedBytes = new AtomicLong(0);
+        open = new AtomicBoolean(false);
+
+        Metrics.gauge("core.circuitBreakers.oldGeneration.memoryUsage", this, cb -> getEstimatedUsageBytes());
+        Metrics.gauge("core.circuitBreakers.oldGeneration.rejectionRatio", this, OldGenerationCircuitBreaker::getRejectionRatio);
+        openGauge = Metrics.gauge("core.circuitBreakers.oldGeneration.open", new AtomicInteger(0));
+
+        notificationListener = this::handleNotification;
+        notificationEmitters = new ArrayList<>();
+        for (final GarbageCollectorMXBean garbageCollectorMXBean : garbageCollectorMXBeans) {
+            if (garbageCollectorMXBean instanceof NotificationEmitter) {
+                final NotificationEmitter notificationEmitter = (NotificationEmitter) garbageCollectorMXBean;
+                notificationEmitter.addNotificationListener(notificationListener, null, null);
+                notificationEmitters.add(notificationEmitter);
+            }
+        }
+
+        LOG.info("Circuit breaker old generation limit is set to {} bytes on memory pools {}.", usageBytes, poolNames);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return getEstimatedUsageBytes() > usageBytes;
+    }
+
+    @Override
+    public double getRejectionRatio() {
+        final long estimatedUsageBytes = getEstimatedUsageBytes();
+        if(estimatedUsageBytes <= backpressureStartBytes)
+            return 0.0;
+        if(estimatedUsageBytes >= usageBytes)
+            return 1.0;
+        return (double) (estimatedUsageBytes - backpressureStartBytes) / (usageBytes - backpressureStartBytes);
+    }
+
+    @Override
+    public void recordBufferedBytes(final long bytes) {
+        bufferedBytes.addAndGet(bytes);
+        updateState();
+    }
+
+    /**
+     * Subtracts bytes which left the buffers. Bytes buffered before the last garbage collection
+     * were already reset, so the buffered bytes never drop below zero.
+     */
+    @Override
+    public void releaseBufferedBytes(final long bytes) {
+        bufferedBytes.accumulateAndGet(bytes, (buffered, released) -> Math.max(0, buffered - released));
+        updateState();
+    }
+
+    /**
+     * Updates the old generation occupancy from the memory usage after a garbage collection
+     * which collected the old generation. A major collection always does; other collections
+     * do when they reduced the old generation usage, as mixed collections do. Young collections
+     * only promote objects, which the buffered bytes already account for, so they are ignored.
+     *
+     * @param gcAction The action of the garbage collection, such as "end of major GC"
+     * @param usageBeforeGc The usage before the garbage collection, keyed by memory pool name
+     * @param usageAfterGc The usage after the garbage collection, keyed by memory pool name
+     */
+    void onGarbageCollection(final String gcAction,
+                             final Map<String, MemoryUsage> usageBeforeGc,
+                             final Map<String, MemoryUsage> usageAfterGc) {
+        final Long occupancyBefore = getOccupancy(usageBeforeGc);
+        final Long occupancyAfter = getOccupancy(usageAfterGc);
+        if (occupancyAfter == null)
+            return;
+
+        final boolean oldGenerationCollected = MAJOR_GC_ACTION.equals(gcAction)
+                || (occupancyBefore != null && occupancyAfter < occupancyBefore);
+        if (!oldGenerationCollected)
+            return;
+
+        postGarbageCollectionBytes = occupancyAfter;
+        bufferedBytes.set(0);
+        updateState();
+    }
+
+    private Long getOccupancy(final Map<String, MemoryUsage> usage) {
+        long occupancy = 0;
+        boolean found = false;
+        for (final Map.Entry<String, MemoryUsage> poolUsage : usage.entrySet()) {
+            if (poolNames.contains(poolUsage.getKey()) && poolUsage.getValue() != null) {
+                occupancy += poolUsage.getValue().getUsed();
+                found = true;
+            }
+        }
+        return found ? occupancy : null;
+    }
+
+    private void handleNotification(final Notification notification, final Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType()))
+            return;
+
+        final GarbageCollectionNotificationInfo notificationInfo =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        onGarbageCollection(notificationInfo.getGcAction(),
+                notificationInfo.getGcInfo().getMemoryUsageBeforeGc(),
+                notificationInfo.getGcInfo().getMemoryUsageAfterGc());
+    }
+
+    private void updateState() {
+        final long estimatedUsageBytes = getEstimatedUsageBytes();
+        if(estimatedUsageBytes > usageBytes) {
+            if(open.compareAndSet(false, true)) {
+                openGauge.set(OPEN_METRIC_VALUE);
+                LOG.info("Circuit breaker tripped and open. {} estimated old generation bytes > {} configured", estimatedUsageBytes, usageBytes);
+            }
+        } else {
+            if(open.compareAndSet(true, false)) {
+                openGauge.set(CLOSED_METRIC_VALUE);
+                LOG.info("Circuit breaker closed. {} estimated old generation bytes <= {} configured", estimatedUsageBytes, usageBytes);
+            }
+        }
+    }
+
+    private long getEstimatedUsageBytes() {
+        return postGarbageCollectionBytes + bufferedBytes.get();
+    }
+
+    private static List<MemoryPoolMXBean> selectPools(final List<MemoryPoolMXBean> memoryPoolMXBeans) {
+        final List<MemoryPoolMXBean> heapPools = memoryPoolMXBeans.stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .collect(Collectors.toList());
+        final List<MemoryPoolMXBean> oldGenerationPools = heapPools.stream()
+                .filter(pool -> OLD_GENERATION_POOL_NAMES.stream().anyMatch(name -> pool.getName().contains(name)))
+                .collect(Collectors.toList());
+        return oldGenerationPools.isEmpty() ? heapPools : oldGenerationPools;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (final NotificationEmitter notificationEmitter : notificationEmitters) {
+            try {
+                notificationEmitter.removeNotificationListener(notificationListener);
+            } catch (final ListenerNotFoundException e) {
+                LOG.debug("Garbage collection listener was already removed.", e);
+            }
+        }
+    }
+}
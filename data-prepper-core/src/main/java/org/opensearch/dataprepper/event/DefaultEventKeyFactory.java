@@ -0,0 +1,16 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.event;
+
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
+
+/**
+ * The {@link EventKeyFactory} made available to plugins as a constructor argument. It is registered in the public
+ * application context, so that the expression evaluator and the plugins share it.
+ */
+public class DefaultEventKeyFactory extends JacksonEventKeyFactory {
+}
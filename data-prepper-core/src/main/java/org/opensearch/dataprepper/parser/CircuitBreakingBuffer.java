@@ -5,25 +5,41 @@
 
 package org.opensearch.dataprepper.parser;
 
+import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.breaker.CircuitBreaker;
 import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.buffer.DelegatingBuffer;
+import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * Decorator for {@link Buffer} which checks a {@link CircuitBreaker}
- * before writing records.
+ * before writing records. Writes are rejected while the circuit breaker
+ * is open, and a share of them given by its rejection ratio otherwise.
+ * <p>
+ * Written sizes are reported to the circuit breaker, and released from it when the
+ * records are checkpointed. Records carry no size, so their size is estimated from
+ * the serialized size of one sampled record out of every
+ * {@link #RECORD_SIZE_SAMPLE_INTERVAL} writes or reads. All reported bytes are
+ * released once the inner buffer is empty, so estimation errors do not accumulate.
  *
  * @param <T> The type of record.
  * @since 2.1
  */
 class CircuitBreakingBuffer<T extends Record<?>> extends DelegatingBuffer<T> implements Buffer<T> {
+    static final int RECORD_SIZE_SAMPLE_INTERVAL = 100;
     private final CircuitBreaker circuitBreaker;
+    private final AtomicLong recordSamples;
+    private final AtomicLong bufferedBytes;
+    private volatile long sampledRecordBytes;
 
     /**
      * Constructor
@@ -34,6 +50,8 @@ class CircuitBreakingBuffer<T extends Record<?>> extends DelegatingBuffer<T> imp
     public CircuitBreakingBuffer(final Buffer<T> buffer, final CircuitBreaker circuitBreaker) {
         super(buffer);
         this.circuitBreaker = requireNonNull(circuitBreaker);
+        this.recordSamples = new AtomicLong(0);
+        this.bufferedBytes = new AtomicLong(0);
     }
 
     @Override
@@ -41,6 +59,7 @@ class CircuitBreakingBuffer<T extends Record<?>> extends DelegatingBuffer<T> imp
         checkBreaker();
 
         super.write(record, timeoutInMillis);
+        recordBufferedRecords(record, 1);
     }
 
     @Override
@@ -48,6 +67,8 @@ class CircuitBreakingBuffer<T extends Record<?>> extends DelegatingBuffer<T> imp
         checkBreaker();
 
         super.writeAll(records, timeoutInMillis);
+        if(!records.isEmpty())
+            recordBufferedRecords(records.iterator().next(), records.size());
     }
 
     @Override
@@ -55,10 +76,81 @@ class CircuitBreakingBuffer<T extends Record<?>> extends DelegatingBuffer<T> imp
         checkBreaker();
 
         super.writeBytes(bytes, key, timeoutInMillis);
+        recordBufferedBytes(bytes.length);
+    }
+
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> read(final int timeoutInMillis) {
+        final Map.Entry<Collection<T>, CheckpointState> readResult = super.read(timeoutInMillis);
+        final Collection<T> records = readResult == null ? null : readResult.getKey();
+        if (records != null && !records.isEmpty()) {
+            sampleRecordSize(records.iterator().next());
+        }
+        return readResult;
+    }
+
+    @Override
+    public void checkpoint(final CheckpointState checkpointState) {
+        super.checkpoint(checkpointState);
+        if (bufferedBytes.get() == 0) {
+            return;
+        }
+
+        final long estimatedBytes = isEmpty()
+                ? Long.MAX_VALUE
+                : sampledRecordBytes * checkpointState.getNumRecordsToBeChecked();
+        final long releasedBytes = Math.min(estimatedBytes,
+                bufferedBytes.getAndUpdate(buffered -> Math.max(0, buffered - estimatedBytes)));
+        if (releasedBytes > 0) {
+            circuitBreaker.releaseBufferedBytes(releasedBytes);
+        }
+    }
+
+    @Override
+    public boolean awaitCapacity(final int numberOfRecords, final int timeoutInMillis) throws InterruptedException {
+        if(circuitBreaker.isOpen())
+            return false;
+
+        return super.awaitCapacity(numberOfRecords, timeoutInMillis);
+    }
+
+    private void recordBufferedRecords(final T sampleRecord, final int numberOfRecords) {
+        sampleRecordSize(sampleRecord);
+
+        if(sampledRecordBytes > 0)
+            recordBufferedBytes(sampledRecordBytes * numberOfRecords);
+    }
+
+    private void recordBufferedBytes(final long bytes) {
+        bufferedBytes.addAndGet(bytes);
+        circuitBreaker.recordBufferedBytes(bytes);
+    }
+
+    private void sampleRecordSize(final T record) {
+        if(recordSamples.getAndIncrement() % RECORD_SIZE_SAMPLE_INTERVAL == 0) {
+            final long sampledBytes = estimateSize(record);
+            if(sampledBytes > 0)
+                sampledRecordBytes = sampledBytes;
+        }
+    }
+
+    private static long estimateSize(final Record<?> record) {
+        final Object data = record.getData();
+        if(data instanceof Event)
+            return ((Event) data).toJsonString().length();
+        if(data instanceof String)
+            return ((String) data).length();
+        if(data instanceof byte[])
+            return ((byte[]) data).length;
+        return 0;
     }
 
     private void checkBreaker() throws TimeoutException {
         if(circuitBreaker.isOpen())
             throw new TimeoutException("Circuit breaker is open. Unable to write to buffer.");
+
+        final double rejectionRatio = circuitBreaker.getRejectionRatio();
+        if(rejectionRatio > 0 && ThreadLocalRandom.current().nextDouble() < rejectionRatio)
+            throw new TimeoutException("Circuit breaker is applying backpressure. Unable to write to buffer.");
     }
 }
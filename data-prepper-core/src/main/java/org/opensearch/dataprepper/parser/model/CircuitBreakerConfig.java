@@ -16,6 +16,9 @@ public class CircuitBreakerConfig {
     @JsonProperty("heap")
     private HeapCircuitBreakerConfig heapConfig;
 
+    @JsonProperty("old_generation")
+    private OldGenerationCircuitBreakerConfig oldGenerationConfig;
+
     /**
      * Gets the configuration for the heap.
      *
@@ -25,4 +28,14 @@ public class CircuitBreakerConfig {
     public HeapCircuitBreakerConfig getHeapConfig() {
         return heapConfig;
     }
+
+    /**
+     * Gets the configuration for the old generation.
+     *
+     * @return The old generation circuit breaker configuration
+     * @since 2.7
+     */
+    public OldGenerationCircuitBreakerConfig getOldGenerationConfig() {
+        return oldGenerationConfig;
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.parser.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+/**
+ * Configuration for the old generation circuit breaker.
+ *
+ * @since 2.7
+ */
+public class OldGenerationCircuitBreakerConfig {
+    public static final double DEFAULT_BACKPRESSURE_START = 0.8;
+    @NotNull
+    @JsonProperty("usage")
+    private ByteCount usage;
+
+    @JsonProperty("backpressure_start")
+    private double backpressureStart = DEFAULT_BACKPRESSURE_START;
+
+    /**
+     * Gets the usage as a {@link ByteCount}. If the old generation usage after the
+     * last garbage collection, plus the bytes buffered since, exceeds this value then
+     * the circuit breaker will be open.
+     *
+     * @return Usage threshold
+     * @since 2.7
+     */
+    public ByteCount getUsage() {
+        return usage;
+    }
+
+    /**
+     * Gets the fraction of the usage at which the circuit breaker starts rejecting
+     * writes. The fraction of rejected writes grows from none at this point to all
+     * of them at the usage.
+     *
+     * @return The fraction of the usage, between 0 and 1
+     * @since 2.7
+     */
+    public double getBackpressureStart() {
+        return backpressureStart;
+    }
+}
@@ -8,6 +8,9 @@ package org.opensearch.dataprepper.peerforwarder;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.apache.commons.lang3.StringUtils;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.peerforwarder.codec.BinaryCodecFormat;
+import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCompression;
 import org.opensearch.dataprepper.peerforwarder.discovery.DiscoveryMode;
 
 import java.time.Duration;
@@ -29,6 +32,7 @@ public class PeerForwarderConfiguration {
     public static final String DEFAULT_PRIVATE_KEY_FILE_PATH = "config/default_private_key.pem";
     private static final String S3_PREFIX = "s3://";
     public static final int MAX_FORWARDING_BATCH_SIZE = 15000;
+    public static final ByteCount DEFAULT_MAX_REQUEST_LENGTH = ByteCount.parse("10mb");
 
     private Integer serverPort = 4994;
     private Integer requestTimeout = 10_000;
@@ -64,6 +68,9 @@ public class PeerForwarderConfiguration {
     private Integer forwardingBatchQueueDepth = 1;
     private Duration forwardingBatchTimeout = DEFAULT_FORWARDING_BATCH_TIMEOUT;
     private boolean binaryCodec = true;
+    private BinaryCodecFormat binaryCodecFormat = BinaryCodecFormat.JAVA;
+    private PeerForwarderCompression forwardingCompression = PeerForwarderCompression.NONE;
+    private ByteCount maxRequestLength = DEFAULT_MAX_REQUEST_LENGTH;
 
     public PeerForwarderConfiguration() {}
 
@@ -101,7 +108,10 @@ public class PeerForwarderConfiguration {
             @JsonProperty("forwarding_batch_size") final Integer forwardingBatchSize,
             @JsonProperty("forwarding_batch_queue_depth") final Integer forwardingBatchQueueDepth,
             @JsonProperty("forwarding_batch_timeout") final Duration forwardingBatchTimeout,
-            @JsonProperty("binary_codec") final Boolean binaryCodec
+            @JsonProperty("binary_codec") final Boolean binaryCodec,
+            @JsonProperty("binary_codec_format") final String binaryCodecFormat,
+            @JsonProperty("forwarding_compression") final String forwardingCompression,
+            @JsonProperty("max_request_length") final ByteCount maxRequestLength
     ) {
         setServerPort(serverPort);
         setRequestTimeout(requestTimeout);
@@ -136,6 +146,9 @@ public class PeerForwarderConfiguration {
         setForwardingBatchQueueDepth(forwardingBatchQueueDepth);
         setForwardingBatchTimeout(forwardingBatchTimeout);
         setBinaryCodec(binaryCodec == null || binaryCodec);
+        setBinaryCodecFormat(binaryCodecFormat);
+        setForwardingCompression(forwardingCompression);
+        setMaxRequestLength(maxRequestLength);
         checkForCertAndKeyFileInS3();
         validateSslAndAuthentication();
     }
@@ -260,6 +273,18 @@ public class PeerForwarderConfiguration {
         return binaryCodec;
     }
 
+    public BinaryCodecFormat getBinaryCodecFormat() {
+        return binaryCodecFormat;
+    }
+
+    public PeerForwarderCompression getForwardingCompression() {
+        return forwardingCompression;
+    }
+
+    public ByteCount getMaxRequestLength() {
+        return maxRequestLength;
+    }
+
     private void setServerPort(final Integer serverPort) {
         if (serverPort != null) {
             if (serverPort < 0 || serverPort > 65535) {
@@ -553,4 +578,25 @@ public class PeerForwarderConfiguration {
     private void setBinaryCodec(final boolean binaryCodec) {
         this.binaryCodec = binaryCodec;
     }
+
+    private void setBinaryCodecFormat(final String binaryCodecFormat) {
+        if (binaryCodecFormat != null) {
+            this.binaryCodecFormat = BinaryCodecFormat.valueOf(binaryCodecFormat.toUpperCase());
+        }
+    }
+
+    private void setForwardingCompression(final String forwardingCompression) {
+        if (forwardingCompression != null) {
+            this.forwardingCompression = PeerForwarderCompression.valueOf(forwardingCompression.toUpperCase());
+        }
+    }
+
+    private void setMaxRequestLength(final ByteCount maxRequestLength) {
+        if (maxRequestLength != null) {
+            if (maxRequestLength.getBytes() <= 0 || maxRequestLength.getBytes() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Max request length must be greater than 0 bytes and at most 2gb.");
+            }
+            this.maxRequestLength = maxRequestLength;
+        }
+    }
 }
@@ -0,0 +1,20 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+/**
+ * The format of the binary peer forwarder codec.
+ */
+public enum BinaryCodecFormat {
+    /**
+     * Java serialization, see {@link JavaPeerForwarderCodec}.
+     */
+    JAVA,
+    /**
+     * The Smile binary JSON format, see {@link SmilePeerForwarderCodec}.
+     */
+    SMILE
+}
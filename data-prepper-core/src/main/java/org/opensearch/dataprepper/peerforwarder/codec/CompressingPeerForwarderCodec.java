@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+
+import java.util.Objects;
+
+/**
+ * A decorator for {@link PeerForwarderCodec} which compresses each serialized batch.
+ */
+public class CompressingPeerForwarderCodec implements PeerForwarderCodec {
+    private final PeerForwarderCodec peerForwarderCodec;
+    private final PeerForwarderCompression compression;
+    private final int maxDecompressedLength;
+
+    public CompressingPeerForwarderCodec(final PeerForwarderCodec peerForwarderCodec,
+                                         final PeerForwarderCompression compression,
+                                         final int maxDecompressedLength) {
+        this.peerForwarderCodec = Objects.requireNonNull(peerForwarderCodec);
+        this.compression = Objects.requireNonNull(compression);
+        this.maxDecompressedLength = maxDecompressedLength;
+    }
+
+    @Override
+    public byte[] serialize(final PeerForwardingEvents peerForwardingEvents) throws Exception {
+        return compression.compress(peerForwarderCodec.serialize(peerForwardingEvents));
+    }
+
+    @Override
+    public PeerForwardingEvents deserialize(final byte[] bytes) throws Exception {
+        return peerForwarderCodec.deserialize(compression.decompress(bytes, maxDecompressedLength));
+    }
+}
@@ -23,8 +23,19 @@ public class PeerForwarderCodecAppConfig {
             final PeerForwarderConfiguration peerForwarderConfiguration,
             final ObjectInputFilter objectInputFilter,
             @Qualifier("peerForwarderObjectMapper") final ObjectMapper objectMapper) {
-        return peerForwarderConfiguration.getBinaryCodec() ?
-                new JavaPeerForwarderCodec(objectInputFilter) : new JacksonPeerForwarderCodec(objectMapper);
+        final PeerForwarderCodec peerForwarderCodec;
+        if (!peerForwarderConfiguration.getBinaryCodec()) {
+            peerForwarderCodec = new JacksonPeerForwarderCodec(objectMapper);
+        } else if (peerForwarderConfiguration.getBinaryCodecFormat() == BinaryCodecFormat.SMILE) {
+            peerForwarderCodec = new SmilePeerForwarderCodec();
+        } else {
+            peerForwarderCodec = new JavaPeerForwarderCodec(objectInputFilter);
+        }
+
+        final PeerForwarderCompression compression = peerForwarderConfiguration.getForwardingCompression();
+        return compression == PeerForwarderCompression.NONE ?
+                peerForwarderCodec : new CompressingPeerForwarderCodec(peerForwarderCodec, compression,
+                        (int) peerForwarderConfiguration.getMaxRequestLength().getBytes());
     }
 
     @Bean(name = "peerForwarderObjectMapper")
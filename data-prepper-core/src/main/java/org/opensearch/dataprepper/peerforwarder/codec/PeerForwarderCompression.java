@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import org.xerial.snappy.Snappy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The compression applied to each serialized batch of forwarded events. Decompression is
+ * bounded, so that a small request cannot expand beyond the max request length.
+ */
+public enum PeerForwarderCompression {
+    NONE {
+        @Override
+        byte[] compress(final byte[] bytes) {
+            return bytes;
+        }
+
+        @Override
+        byte[] decompress(final byte[] bytes, final int maxDecompressedLength) throws IOException {
+            checkDecompressedLength(bytes.length, maxDecompressedLength);
+            return bytes;
+        }
+    },
+    GZIP {
+        @Override
+        byte[] compress(final byte[] bytes) throws IOException {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+                gzipOutputStream.write(bytes);
+            }
+            return outputStream.toByteArray();
+        }
+
+        @Override
+        byte[] decompress(final byte[] bytes, final int maxDecompressedLength) throws IOException {
+            try (final GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                // Reading one byte past the limit is enough to tell that the limit is exceeded.
+                final byte[] decompressed = gzipInputStream.readNBytes(maxDecompressedLength == Integer.MAX_VALUE ?
+                        maxDecompressedLength : maxDecompressedLength + 1);
+                checkDecompressedLength(decompressed.length, maxDecompressedLength);
+                return decompressed;
+            }
+        }
+    },
+    SNAPPY {
+        @Override
+        byte[] compress(final byte[] bytes) throws IOException {
+            return Snappy.compress(bytes);
+        }
+
+        @Override
+        byte[] decompress(final byte[] bytes, final int maxDecompressedLength) throws IOException {
+            checkDecompressedLength(Snappy.uncompressedLength(bytes), maxDecompressedLength);
+            return Snappy.uncompress(bytes);
+        }
+    };
+
+    abstract byte[] compress(byte[] bytes) throws IOException;
+
+    /**
+     * Decompresses a batch.
+     *
+     * @param bytes the compressed batch
+     * @param maxDecompressedLength the maximum number of bytes the batch may decompress to
+     * @return the decompressed batch
+     * @throws IOException if the batch cannot be decompressed or decompresses to more than the maximum
+     */
+    abstract byte[] decompress(byte[] bytes, int maxDecompressedLength) throws IOException;
+
+    private static void checkDecompressedLength(final long decompressedLength, final int maxDecompressedLength) throws IOException {
+        if (decompressedLength > maxDecompressedLength) {
+            throw new IOException("Forwarded batch decompresses to more than the max request length of " +
+                    maxDecompressedLength + " bytes.");
+        }
+    }
+}
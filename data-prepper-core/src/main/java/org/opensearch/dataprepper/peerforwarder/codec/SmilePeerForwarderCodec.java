@@ -0,0 +1,205 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the events in the binary Smile format. The event data is written straight from the
+ * event's {@link com.fasterxml.jackson.databind.JsonNode} and read back straight into one, so
+ * unlike {@link JacksonPeerForwarderCodec} it is not nested as an escaped JSON string. Smile
+ * refers back to repeated field names and short string values instead of writing them again,
+ * which keeps a batch of events with the same fields compact.
+ */
+public class SmilePeerForwarderCodec implements PeerForwarderCodec {
+    private static final String TRACE_EVENT_TYPE = "TRACE";
+    private static final String DESTINATION_PLUGIN_ID = "destinationPluginId";
+    private static final String DESTINATION_PIPELINE_NAME = "destinationPipelineName";
+    private static final String EVENTS = "events";
+    private static final String EVENT_TYPE = "eventType";
+    private static final String TIME_RECEIVED_SECONDS = "timeReceivedSeconds";
+    private static final String TIME_RECEIVED_NANOS = "timeReceivedNanos";
+    private static final String ATTRIBUTES = "attributes";
+    private static final String DATA = "data";
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<>() {};
+
+    private final ObjectMapper smileMapper;
+
+    public SmilePeerForwarderCodec() {
+        final SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        smileMapper = new ObjectMapper(smileFactory)
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public byte[] serialize(final PeerForwardingEvents peerForwardingEvents) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final JsonGenerator generator = smileMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeStringField(DESTINATION_PLUGIN_ID, peerForwardingEvents.getDestinationPluginId());
+            generator.writeStringField(DESTINATION_PIPELINE_NAME, peerForwardingEvents.getDestinationPipelineName());
+            if (peerForwardingEvents.getEvents() != null) {
+                generator.writeArrayFieldStart(EVENTS);
+                for (final Event event : peerForwardingEvents.getEvents()) {
+                    writeEvent(generator, event);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public PeerForwardingEvents deserialize(final byte[] bytes) throws IOException {
+        try (final JsonParser parser = smileMapper.getFactory().createParser(bytes)) {
+            expectStartObject(parser, parser.nextToken());
+
+            String destinationPluginId = null;
+            String destinationPipelineName = null;
+            List<Event> events = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.getCurrentName();
+                final JsonToken valueToken = parser.nextToken();
+                switch (fieldName) {
+                    case DESTINATION_PLUGIN_ID:
+                        destinationPluginId = parser.getValueAsString();
+                        break;
+                    case DESTINATION_PIPELINE_NAME:
+                        destinationPipelineName = parser.getValueAsString();
+                        break;
+                    case EVENTS:
+                        events = readEvents(parser, valueToken);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            return new PeerForwardingEvents(events, destinationPluginId, destinationPipelineName);
+        }
+    }
+
+    private void writeEvent(final JsonGenerator generator, final Event event) throws IOException {
+        final EventMetadata eventMetadata = event.getMetadata();
+        generator.writeStartObject();
+        generator.writeStringField(EVENT_TYPE, eventMetadata.getEventType());
+        final Instant timeReceived = eventMetadata.getTimeReceived();
+        if (timeReceived != null) {
+            generator.writeNumberField(TIME_RECEIVED_SECONDS, timeReceived.getEpochSecond());
+            generator.writeNumberField(TIME_RECEIVED_NANOS, timeReceived.getNano());
+        }
+        final Map<String, Object> attributes = eventMetadata.getAttributes();
+        if (attributes != null && !attributes.isEmpty()) {
+            generator.writeFieldName(ATTRIBUTES);
+            smileMapper.writeValue(generator, attributes);
+        }
+        generator.writeFieldName(DATA);
+        smileMapper.writeTree(generator, event.getJsonNode());
+        generator.writeEndObject();
+    }
+
+    private List<Event> readEvents(final JsonParser parser, final JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of events");
+        }
+        final List<Event> events = new ArrayList<>();
+        JsonToken eventToken;
+        while ((eventToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expectStartObject(parser, eventToken);
+            events.add(readEvent(parser));
+        }
+        return events;
+    }
+
+    private Event readEvent(final JsonParser parser) throws IOException {
+        String eventType = null;
+        long timeReceivedSeconds = 0;
+        int timeReceivedNanos = 0;
+        boolean hasTimeReceived = false;
+        Map<String, Object> attributes = null;
+        ObjectNode data = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.getCurrentName();
+            final JsonToken valueToken = parser.nextToken();
+            switch (fieldName) {
+                case EVENT_TYPE:
+                    eventType = parser.getValueAsString();
+                    break;
+                case TIME_RECEIVED_SECONDS:
+                    timeReceivedSeconds = parser.getLongValue();
+                    hasTimeReceived = true;
+                    break;
+                case TIME_RECEIVED_NANOS:
+                    timeReceivedNanos = parser.getIntValue();
+                    break;
+                case ATTRIBUTES:
+                    attributes = smileMapper.readValue(parser, MAP_TYPE_REFERENCE);
+                    break;
+                case DATA:
+                    expectStartObject(parser, valueToken);
+                    data = smileMapper.readTree(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (eventType == null || data == null) {
+            throw new JsonParseException(parser, "Expected an event with an event type and data");
+        }
+
+        final DefaultEventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType(eventType)
+                .withTimeReceived(hasTimeReceived ? Instant.ofEpochSecond(timeReceivedSeconds, timeReceivedNanos) : null)
+                .withAttributes(attributes)
+                .build();
+
+        if (eventType.equalsIgnoreCase(TRACE_EVENT_TYPE)) {
+            return JacksonSpan.builder()
+                    .withData(data)
+                    .withEventMetadata(eventMetadata)
+                    .build();
+        }
+        return JacksonEvent.builder()
+                .withJsonData(data)
+                .withEventMetadata(eventMetadata)
+                .build();
+    }
+
+    private static void expectStartObject(final JsonParser parser, final JsonToken token) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an object");
+        }
+    }
+}
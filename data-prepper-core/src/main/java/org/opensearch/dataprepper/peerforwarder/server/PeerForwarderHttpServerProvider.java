@@ -81,6 +81,7 @@ public class PeerForwarderHttpServerProvider implements Provider<Server> {
 
         sb.maxNumConnections(peerForwarderConfiguration.getMaxConnectionCount());
         sb.requestTimeout(Duration.ofMillis(peerForwarderConfiguration.getRequestTimeout()));
+        sb.maxRequestLength(peerForwarderConfiguration.getMaxRequestLength().getBytes());
         final int threadCount = peerForwarderConfiguration.getServerThreadCount();
         final ScheduledThreadPoolExecutor blockingTaskExecutor = new ScheduledThreadPoolExecutor(threadCount);
         sb.blockingTaskExecutor(blockingTaskExecutor, true);
@@ -111,7 +111,7 @@ public class ProcessWorker implements Runnable {
         });
     }
 
-    private void doRun() {
+    void doRun() {
         final Map.Entry<Collection, CheckpointState> readResult = readBuffer.read(pipeline.getReadBatchTimeoutInMillis());
         Collection records = readResult.getKey();
         final CheckpointState checkpointState = readResult.getValue();
@@ -9,9 +9,9 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.parser.DataFlowComponent;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
 import java.util.function.BiConsumer;
 
@@ -20,28 +20,32 @@ import java.util.function.BiConsumer;
  * intended to help break apart {@link Router} for better testing.
  */
 class DataFlowComponentRouter {
-    <C> void route(final Collection<Record> allRecords,
-                   final DataFlowComponent<C> dataFlowComponent,
-                   final Map<Record, Set<String>> recordsToRoutes,
-                   final RouterGetRecordStrategy getRecordStrategy,
-                   final BiConsumer<C, Collection<Record>> componentRecordsConsumer) {
+    /**
+     * @return the positions of the records which were routed to the component
+     */
+    <C> BitSet route(final Collection<Record> allRecords,
+                     final DataFlowComponent<C> dataFlowComponent,
+                     final RecordRoutes recordRoutes,
+                     final RouterGetRecordStrategy getRecordStrategy,
+                     final BiConsumer<C, Collection<Record>> componentRecordsConsumer) {
 
         final Collection<Record> recordsForComponent;
+        final BitSet routedRecords;
         final Set<String> dataFlowComponentRoutes =  dataFlowComponent.getRoutes();
 
         if (dataFlowComponentRoutes.isEmpty()) {
             recordsForComponent = getRecordStrategy.getAllRecords(allRecords);
+            routedRecords = new BitSet(allRecords.size());
+            routedRecords.set(0, allRecords.size());
         } else {
-            recordsForComponent = new ArrayList<>();
-            for (Record record : allRecords) {
-                final Set<String> routesForEvent = recordsToRoutes
-                        .getOrDefault(record, Collections.emptySet());
-
-                if (routesForEvent.stream().anyMatch(dataFlowComponentRoutes::contains)) {
-                    recordsForComponent.add(getRecordStrategy.getRecord(record));
-                }
+            final List<Record> records = recordRoutes.getRecords();
+            routedRecords = recordRoutes.getRecordsMatchingAnyRoute(dataFlowComponentRoutes);
+            recordsForComponent = new ArrayList<>(routedRecords.cardinality());
+            for (int i = routedRecords.nextSetBit(0); i >= 0; i = routedRecords.nextSetBit(i + 1)) {
+                recordsForComponent.add(getRecordStrategy.getRecord(records.get(i)));
             }
         }
         componentRecordsConsumer.accept(dataFlowComponent.getComponent(), recordsForComponent);
+        return routedRecords;
     }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.router;
+
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The routes matched by the records of one batch. Records are identified by their position in the batch, and the
+ * records matching each route are held in a {@link BitSet} indexed by that position.
+ */
+class RecordRoutes {
+    private final List<Record> records;
+    private final BitSet eventRecords;
+    private final Map<String, BitSet> routeMatches;
+
+    /**
+     * @param records the records of the batch
+     * @param eventRecords the positions of the records which hold an event
+     * @param routeMatches the positions of the records matching each route
+     */
+    RecordRoutes(final List<Record> records, final BitSet eventRecords, final Map<String, BitSet> routeMatches) {
+        this.records = records;
+        this.eventRecords = eventRecords;
+        this.routeMatches = routeMatches;
+    }
+
+    List<Record> getRecords() {
+        return records;
+    }
+
+    /**
+     * @return a new {@link BitSet} with the positions of the records which hold an event
+     */
+    BitSet getEventRecords() {
+        return (BitSet) eventRecords.clone();
+    }
+
+    /**
+     * @param routes names of routes
+     * @return a new {@link BitSet} with the positions of the records which match any of the routes
+     */
+    BitSet getRecordsMatchingAnyRoute(final Set<String> routes) {
+        final BitSet matches = new BitSet(records.size());
+        for (final String route : routes) {
+            final BitSet routeRecords = routeMatches.get(route);
+            if (routeRecords != null) {
+                matches.or(routeRecords);
+            }
+        }
+        return matches;
+    }
+}
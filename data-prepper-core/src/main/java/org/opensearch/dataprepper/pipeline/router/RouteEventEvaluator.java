@@ -12,62 +12,89 @@ import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
+/**
+ * Evaluates the conditions of the routes against a batch of records. The conditions are evaluated together for the
+ * whole batch, so that conditions which read the same keys or share sub-expressions evaluate them once per event,
+ * and a condition used by several routes is evaluated once.
+ */
 class RouteEventEvaluator {
 
     private static final Logger LOG = LoggerFactory.getLogger(RouteEventEvaluator.class);
 
     private final ExpressionEvaluator evaluator;
     private final Collection<ConditionalRoute> routes;
+    private final List<String> conditions;
+    private final Map<String, Integer> routeConditionIndexes;
 
     RouteEventEvaluator(final ExpressionEvaluator evaluator, final Collection<ConditionalRoute> routes) {
         this.evaluator = evaluator;
         this.routes = routes;
+        this.conditions = new ArrayList<>();
+        this.routeConditionIndexes = new HashMap<>();
+        final Map<String, Integer> conditionIndexes = new HashMap<>();
+        for (final ConditionalRoute route : routes) {
+            final int conditionIndex = conditionIndexes.computeIfAbsent(route.getCondition(), condition -> {
+                conditions.add(condition);
+                return conditions.size() - 1;
+            });
+            routeConditionIndexes.put(route.getName(), conditionIndex);
+        }
     }
 
-    Map<Record, Set<String>> evaluateEventRoutes(final Collection<Record> records) {
-        final Map<Record, Set<String>> recordsToRoutes = new HashMap<>();
-
-        int nonEventRecords = 0;
-
-        for (Record record : records) {
-
-            final Object data = record.getData();
+    RecordRoutes evaluateEventRoutes(final Collection<Record> records) {
+        final List<Record> recordList = records instanceof List ? (List<Record>) records : new ArrayList<>(records);
+        final List<Event> events = new ArrayList<>(recordList.size());
+        final BitSet eventRecords = new BitSet(recordList.size());
 
+        for (int i = 0; i < recordList.size(); i++) {
+            final Object data = recordList.get(i).getData();
             if (data instanceof Event) {
-                final Event event = (Event) data;
-                final Set<String> matchedRoutes = findMatchedRoutes(event);
-                recordsToRoutes.put(record, matchedRoutes);
-            } else {
-                nonEventRecords++;
-                recordsToRoutes.put(record, Collections.emptySet());
+                events.add((Event) data);
+                eventRecords.set(i);
             }
         }
 
+        final int nonEventRecords = recordList.size() - events.size();
         if (nonEventRecords > 0) {
             LOG.warn("Received {} records which are not events. These will have no routes applied.", nonEventRecords);
         }
 
-        return recordsToRoutes;
+        final Map<String, BitSet> routeMatches = new HashMap<>();
+        if (routes.isEmpty() || events.isEmpty()) {
+            return new RecordRoutes(recordList, eventRecords, routeMatches);
+        }
+
+        final List<BitSet> conditionMatches = evaluator.evaluateConditionals(conditions, events, (condition, ex) ->
+                LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex));
+        final List<BitSet> conditionRecords = new ArrayList<>(conditionMatches.size());
+        for (final BitSet matches : conditionMatches) {
+            conditionRecords.add(nonEventRecords > 0 ? toRecordPositions(matches, eventRecords) : matches);
+        }
+        for (final Map.Entry<String, Integer> routeConditionIndex : routeConditionIndexes.entrySet()) {
+            routeMatches.put(routeConditionIndex.getKey(), conditionRecords.get(routeConditionIndex.getValue()));
+        }
+        return new RecordRoutes(recordList, eventRecords, routeMatches);
     }
 
-    private Set<String> findMatchedRoutes(final Event event) {
-        final Set<String> matchRoutes = new HashSet<>();
-        for (ConditionalRoute route : routes) {
-            try {
-                if (evaluator.evaluateConditional(route.getCondition(), event)) {
-                    matchRoutes.add(route.getName());
-                }
-            } catch (final Exception ex) {
-                LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex);
+    /**
+     * Maps the positions of matching events to the positions of their records in the batch.
+     */
+    private static BitSet toRecordPositions(final BitSet eventMatches, final BitSet eventRecords) {
+        final BitSet recordMatches = new BitSet(eventRecords.length());
+        int eventIndex = 0;
+        for (int recordIndex = eventRecords.nextSetBit(0); recordIndex >= 0;
+             recordIndex = eventRecords.nextSetBit(recordIndex + 1), eventIndex++) {
+            if (eventMatches.get(eventIndex)) {
+                recordMatches.set(recordIndex);
             }
         }
-        return matchRoutes;
+        return recordMatches;
     }
 }
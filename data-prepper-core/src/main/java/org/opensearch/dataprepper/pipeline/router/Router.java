@@ -9,10 +9,10 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.parser.DataFlowComponent;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.Map;
-import java.util.Set;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -41,21 +41,25 @@ public class Router {
         Objects.requireNonNull(dataFlowComponents);
         Objects.requireNonNull(componentRecordsConsumer);
 
-        final Map<Record, Set<String>> recordsToRoutes = routeEventEvaluator.evaluateEventRoutes(allRecords);
+        final RecordRoutes recordRoutes = routeEventEvaluator.evaluateEventRoutes(allRecords);
 
-        Set<Record> recordsUnRouted = new HashSet<>(allRecords);
+        final BitSet routedRecords = new BitSet(allRecords.size());
 
+        // Copies made by the getRecordStrategy may share their data with the original records until either
+        // is modified. The records are given to the components only once every copy has been made, so that
+        // no component can modify a record while it is still being copied.
+        final List<Runnable> componentDeliveries = new ArrayList<>(dataFlowComponents.size());
         for (DataFlowComponent<C> dataFlowComponent : dataFlowComponents) {
-            dataFlowComponentRouter.route(allRecords, dataFlowComponent, recordsToRoutes, getRecordStrategy, (component, records) -> { 
-                recordsUnRouted.removeAll(records);
-                componentRecordsConsumer.accept(component, records);
-            });
+            routedRecords.or(dataFlowComponentRouter.route(allRecords, dataFlowComponent, recordRoutes, getRecordStrategy,
+                    (component, records) -> componentDeliveries.add(() -> componentRecordsConsumer.accept(component, records))));
         }
+        componentDeliveries.forEach(Runnable::run);
 
-        for (Record record: recordsUnRouted) {
-            if (record.getData() instanceof Event) {
-                noRouteHandler.accept((Event)record.getData());
-            }
+        final BitSet unroutedEvents = recordRoutes.getEventRecords();
+        unroutedEvents.andNot(routedRecords);
+        final List<Record> records = recordRoutes.getRecords();
+        for (int i = unroutedEvents.nextSetBit(0); i >= 0; i = unroutedEvents.nextSetBit(i + 1)) {
+            noRouteHandler.accept((Event) records.get(i).getData());
         }
     }
 }
@@ -86,8 +86,8 @@ public class RouterCopyRecordStrategy implements RouterGetRecordStrategy {
         if (record.getData() instanceof JacksonSpan) {
             // Not supporting acknowledgements for Span initially
             try {
-                final Span spanEvent = (Span) record.getData();
-                Span newSpanEvent = JacksonSpan.fromSpan(spanEvent);
+                final JacksonSpan spanEvent = (JacksonSpan) record.getData();
+                Span newSpanEvent = JacksonSpan.copyOnWrite(spanEvent);
                 return new Record<>(newSpanEvent);
             } catch (Exception ex) {
             }
@@ -95,21 +95,24 @@ public class RouterCopyRecordStrategy implements RouterGetRecordStrategy {
             try {
                 final Event recordEvent = (Event) record.getData();
                 JacksonEvent newRecordEvent;
-                Record newRecord;
                 DefaultEventHandle eventHandle = (DefaultEventHandle)recordEvent.getEventHandle();
-                if (eventHandle != null && eventHandle.getAcknowledgementSet() != null) {
+                final boolean acknowledged = eventHandle != null && eventHandle.getAcknowledgementSet() != null;
+                if (recordEvent instanceof JacksonEvent) {
+                    // The copy shares the data of the original event until either of them modifies it
+                    newRecordEvent = JacksonEvent.copyOnWrite((JacksonEvent) recordEvent);
+                } else if (acknowledged) {
                     final EventMetadata eventMetadata = recordEvent.getMetadata();
                     final EventBuilder eventBuilder = (EventBuilder) eventFactory.eventBuilder(EventBuilder.class).withEventMetadata(eventMetadata).withData(recordEvent.toMap());
                     newRecordEvent = (JacksonEvent) eventBuilder.build();
-
-                    eventHandle.getAcknowledgementSet().add(newRecordEvent);
-                    newRecord = new Record<>(newRecordEvent);
-                    acquireEventReference(newRecord);
                 } else {
                     // TODO we should have a way to create from factory
                     // even when acknowledgements are not used
                     newRecordEvent = JacksonEvent.fromEvent(recordEvent);
-                    newRecord = new Record<>(newRecordEvent);
+                }
+                final Record newRecord = new Record<>(newRecordEvent);
+                if (acknowledged) {
+                    eventHandle.getAcknowledgementSet().add(newRecordEvent);
+                    acquireEventReference(newRecord);
                 }
                 return newRecord;
             } catch (Exception ex) {
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.MockedConstruction;
+import org.opensearch.dataprepper.event.DefaultEventKeyFactory;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 import java.util.ArrayList;
@@ -64,6 +65,19 @@ class AbstractContextManagerTest {
         verify(objectUnderTest).preRefreshCoreApplicationContext(applicationContexts.get(1));
     }
 
+    @Test
+    void getDataPrepperBean_registers_DefaultEventKeyFactory_in_public_context() {
+        final AbstractContextManager objectUnderTest = createObjectUnderTest();
+
+        final AnnotationConfigApplicationContext coreContext = applicationContexts.get(1);
+        when(coreContext.getBean(DataPrepper.class)).thenReturn(dataPrepper);
+
+        objectUnderTest.getDataPrepperBean();
+
+        verify(applicationContexts.get(0)).register(DefaultEventKeyFactory.class);
+        verify(coreContext, never()).register(DefaultEventKeyFactory.class);
+    }
+
     @Test
     void getDataPrepperBean_calls_refresh_once_across_multiple_calls() {
         final AbstractContextManager objectUnderTest = createObjectUnderTest();
@@ -14,8 +14,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.hamcrest.Matchers.equalTo;
 
+import java.time.Instant;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +42,7 @@ public class AcknowledgementSetMonitorTests {
     void setup() {
         acknowledgementSet1 = mock(DefaultAcknowledgementSet.class);
         eventHandle1 = mock(DefaultEventHandle.class);
+        when(acknowledgementSet1.getExpiryTime()).thenReturn(Instant.now().plusSeconds(60));
         when(acknowledgementSet1.isDone()).thenReturn(true);
         acknowledgementSetMonitor = createObjectUnderTest();
     }
@@ -45,6 +50,7 @@ public class AcknowledgementSetMonitorTests {
     @Test
     public void testBasic() {
         acknowledgementSetMonitor.add(acknowledgementSet1);
+        acknowledgementSetMonitor.onCompleted(acknowledgementSet1);
         Thread shutdownThread = new Thread(() -> {
             try {
                 Thread.sleep(DEFAULT_WAIT_TIME_MS);
@@ -58,10 +64,11 @@ public class AcknowledgementSetMonitorTests {
     @Test
     public void testMultipleAcknowledgementSets() {
         acknowledgementSet2 = mock(DefaultAcknowledgementSet.class);
-        when(acknowledgementSet2.isDone()).thenReturn(false);
+        when(acknowledgementSet2.getExpiryTime()).thenReturn(Instant.now().plusSeconds(60));
 
         acknowledgementSetMonitor.add(acknowledgementSet1);
         acknowledgementSetMonitor.add(acknowledgementSet2);
+        acknowledgementSetMonitor.onCompleted(acknowledgementSet1);
         Thread shutdownThread = new Thread(() -> {
             try {
                 Thread.sleep(DEFAULT_WAIT_TIME_MS);
@@ -81,6 +88,7 @@ public class AcknowledgementSetMonitorTests {
         acknowledgementSetMonitor.add(acknowledgementSet1);
         acknowledgementSetMonitor.acquire(eventHandle1);
         acknowledgementSetMonitor.release(eventHandle1, true);
+        acknowledgementSetMonitor.onCompleted(acknowledgementSet1);
         Thread shutdownThread = new Thread(() -> {
             try {
                 Thread.sleep(DEFAULT_WAIT_TIME_MS);
@@ -97,6 +105,7 @@ public class AcknowledgementSetMonitorTests {
         when(eventHandle1.getAcknowledgementSet()).thenReturn(acknowledgementSet2);
         acknowledgementSetMonitor.add(acknowledgementSet1);
         acknowledgementSetMonitor.acquire(eventHandle1);
+        acknowledgementSetMonitor.onCompleted(acknowledgementSet1);
         Thread shutdownThread = new Thread(() -> {
             try {
                 Thread.sleep(DEFAULT_WAIT_TIME_MS);
@@ -114,6 +123,7 @@ public class AcknowledgementSetMonitorTests {
         when(eventHandle1.getAcknowledgementSet()).thenReturn(acknowledgementSet2);
         acknowledgementSetMonitor.add(acknowledgementSet1);
         acknowledgementSetMonitor.release(eventHandle1, true);
+        acknowledgementSetMonitor.onCompleted(acknowledgementSet1);
         Thread shutdownThread = new Thread(() -> {
             try {
                 Thread.sleep(DEFAULT_WAIT_TIME_MS);
@@ -124,4 +134,33 @@ public class AcknowledgementSetMonitorTests {
         assertThat(acknowledgementSetMonitor.getSize(), equalTo(0));
         assertThat(acknowledgementSetMonitor.getNumInvalidReleases(), equalTo(1));
     }
+
+    @Test
+    public void testExpiredAcknowledgementSetIsRemoved() {
+        acknowledgementSet2 = mock(DefaultAcknowledgementSet.class);
+        when(acknowledgementSet2.getExpiryTime()).thenReturn(Instant.now().minusSeconds(1));
+        when(acknowledgementSet2.isDone()).thenReturn(true);
+
+        acknowledgementSetMonitor.add(acknowledgementSet1);
+        acknowledgementSetMonitor.add(acknowledgementSet2);
+        acknowledgementSetMonitor.run();
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(1));
+
+        acknowledgementSetMonitor.onCompleted(acknowledgementSet1);
+        acknowledgementSetMonitor.run();
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(0));
+    }
+
+    @Test
+    public void testPendingAcknowledgementSetIsNotVisited() {
+        acknowledgementSet2 = mock(DefaultAcknowledgementSet.class);
+        when(acknowledgementSet2.getExpiryTime()).thenReturn(Instant.now().plusSeconds(60));
+
+        acknowledgementSetMonitor.add(acknowledgementSet1);
+        acknowledgementSetMonitor.add(acknowledgementSet2);
+        acknowledgementSetMonitor.onCompleted(acknowledgementSet1);
+        acknowledgementSetMonitor.run();
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(1));
+        verify(acknowledgementSet2, never()).isDone();
+    }
 }
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.mock;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Executors;
 
@@ -54,20 +55,18 @@ class DefaultAcknowledgementSetManagerTests {
         currentRatio = 0;
         callbackExecutor = Executors.newScheduledThreadPool(2);
         event1 = mock(JacksonEvent.class);
-        eventHandle1 = mock(DefaultEventHandle.class);
+        eventHandle1 = new DefaultEventHandle(Instant.now());
         lenient().when(event1.getEventHandle()).thenReturn(eventHandle1);
         pluginMetrics = mock(PluginMetrics.class);
 
         event2 = mock(JacksonEvent.class);
-        eventHandle2 = mock(DefaultEventHandle.class);
+        eventHandle2 = new DefaultEventHandle(Instant.now());
         lenient().when(event2.getEventHandle()).thenReturn(eventHandle2);
 
         acknowledgementSetManager = createObjectUnderTest();
         AcknowledgementSet acknowledgementSet1 = acknowledgementSetManager.create((flag) -> { result = flag; }, TEST_TIMEOUT);
         acknowledgementSet1.add(event1);
         acknowledgementSet1.add(event2);
-        lenient().when(eventHandle1.getAcknowledgementSet()).thenReturn(acknowledgementSet1);
-        lenient().when(eventHandle2.getAcknowledgementSet()).thenReturn(acknowledgementSet1);
         acknowledgementSet1.complete();
     }
 
@@ -100,12 +99,11 @@ class DefaultAcknowledgementSetManagerTests {
     @Test
     void testMultipleAcknowledgementSets() {
         event3 = mock(JacksonEvent.class);
-        eventHandle3 = mock(DefaultEventHandle.class);
+        eventHandle3 = new DefaultEventHandle(Instant.now());
         lenient().when(event3.getEventHandle()).thenReturn(eventHandle3);
 
         AcknowledgementSet acknowledgementSet2 = acknowledgementSetManager.create((flag) -> { result = flag; }, TEST_TIMEOUT);
         acknowledgementSet2.add(event3);
-        lenient().when(eventHandle3.getAcknowledgementSet()).thenReturn(acknowledgementSet2);
         acknowledgementSet2.complete();
 
         acknowledgementSetManager.releaseEventReference(eventHandle2, true);
@@ -119,18 +117,18 @@ class DefaultAcknowledgementSetManagerTests {
 
     @Test
     void testWithProgressCheckCallbacks() {
-        eventHandle3 = mock(DefaultEventHandle.class);
+        eventHandle3 = new DefaultEventHandle(Instant.now());
         lenient().when(event3.getEventHandle()).thenReturn(eventHandle3);
 
-        eventHandle4 = mock(DefaultEventHandle.class);
+        eventHandle4 = new DefaultEventHandle(Instant.now());
         JacksonEvent event4 = mock(JacksonEvent.class);
         lenient().when(event4.getEventHandle()).thenReturn(eventHandle4);
 
-        eventHandle5 = mock(DefaultEventHandle.class);
+        eventHandle5 = new DefaultEventHandle(Instant.now());
         JacksonEvent event5 = mock(JacksonEvent.class);
         lenient().when(event5.getEventHandle()).thenReturn(eventHandle5);
 
-        eventHandle6 = mock(DefaultEventHandle.class);
+        eventHandle6 = new DefaultEventHandle(Instant.now());
         JacksonEvent event6 = mock(JacksonEvent.class);
         lenient().when(event6.getEventHandle()).thenReturn(eventHandle6);
 
@@ -140,10 +138,6 @@ class DefaultAcknowledgementSetManagerTests {
         acknowledgementSet2.add(event4);
         acknowledgementSet2.add(event5);
         acknowledgementSet2.add(event6);
-        lenient().when(eventHandle3.getAcknowledgementSet()).thenReturn(acknowledgementSet2);
-        lenient().when(eventHandle4.getAcknowledgementSet()).thenReturn(acknowledgementSet2);
-        lenient().when(eventHandle5.getAcknowledgementSet()).thenReturn(acknowledgementSet2);
-        lenient().when(eventHandle6.getAcknowledgementSet()).thenReturn(acknowledgementSet2);
         acknowledgementSet2.complete();
         acknowledgementSetManager.releaseEventReference(eventHandle3, true);
         await().atMost(TEST_TIMEOUT.multipliedBy(5))
@@ -170,18 +164,18 @@ class DefaultAcknowledgementSetManagerTests {
 
     @Test
     void testWithProgressCheckCallbacks_AcksExpire() {
-        eventHandle3 = mock(DefaultEventHandle.class);
+        eventHandle3 = new DefaultEventHandle(Instant.now());
         lenient().when(event3.getEventHandle()).thenReturn(eventHandle3);
 
-        eventHandle4 = mock(DefaultEventHandle.class);
+        eventHandle4 = new DefaultEventHandle(Instant.now());
         JacksonEvent event4 = mock(JacksonEvent.class);
         lenient().when(event4.getEventHandle()).thenReturn(eventHandle4);
 
-        eventHandle5 = mock(DefaultEventHandle.class);
+        eventHandle5 = new DefaultEventHandle(Instant.now());
         JacksonEvent event5 = mock(JacksonEvent.class);
         lenient().when(event5.getEventHandle()).thenReturn(eventHandle5);
 
-        eventHandle6 = mock(DefaultEventHandle.class);
+        eventHandle6 = new DefaultEventHandle(Instant.now());
         JacksonEvent event6 = mock(JacksonEvent.class);
         lenient().when(event6.getEventHandle()).thenReturn(eventHandle6);
 
@@ -191,10 +185,6 @@ class DefaultAcknowledgementSetManagerTests {
         acknowledgementSet2.add(event4);
         acknowledgementSet2.add(event5);
         acknowledgementSet2.add(event6);
-        lenient().when(eventHandle3.getAcknowledgementSet()).thenReturn(acknowledgementSet2);
-        lenient().when(eventHandle4.getAcknowledgementSet()).thenReturn(acknowledgementSet2);
-        lenient().when(eventHandle5.getAcknowledgementSet()).thenReturn(acknowledgementSet2);
-        lenient().when(eventHandle6.getAcknowledgementSet()).thenReturn(acknowledgementSet2);
         acknowledgementSet2.complete();
         acknowledgementSetManager.releaseEventReference(eventHandle3, true);
         await().atMost(TEST_TIMEOUT.multipliedBy(5))
@@ -14,12 +14,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.model.event.DefaultEventHandle;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
-import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import static org.hamcrest.CoreMatchers.not;
@@ -37,9 +42,7 @@ class DefaultAcknowledgementSetTests {
     private JacksonEvent event;
     @Mock
     private JacksonEvent event2;
-    @Mock
     private DefaultEventHandle handle;
-    @Mock
     private DefaultEventHandle handle2;
 
     private double currentRatio;
@@ -86,20 +89,10 @@ class DefaultAcknowledgementSetTests {
         callbackInterrupted = new AtomicBoolean(false);
 
         event = mock(JacksonEvent.class);
-        handle = mock(DefaultEventHandle.class);
-        lenient().doAnswer(a -> {
-            AcknowledgementSet acknowledgementSet = a.getArgument(0);
-            lenient().when(handle.getAcknowledgementSet()).thenReturn(acknowledgementSet);
-            return null;
-        }).when(handle).setAcknowledgementSet(any(AcknowledgementSet.class));
+        handle = new DefaultEventHandle(Instant.now());
         lenient().when(event.getEventHandle()).thenReturn(handle);
         event2 = mock(JacksonEvent.class);
-        lenient().doAnswer(a -> {
-            AcknowledgementSet acknowledgementSet = a.getArgument(0);
-            lenient().when(handle2.getAcknowledgementSet()).thenReturn(acknowledgementSet);
-            return null;
-        }).when(handle2).setAcknowledgementSet(any(AcknowledgementSet.class));
-        handle2 = mock(DefaultEventHandle.class);
+        handle2 = new DefaultEventHandle(Instant.now());
         lenient().when(event2.getEventHandle()).thenReturn(handle2);
     }
 
@@ -185,11 +178,6 @@ class DefaultAcknowledgementSetTests {
         defaultAcknowledgementSet.add(event);
         defaultAcknowledgementSet.complete();
         assertThat(handle, not(equalTo(null)));
-        lenient().doAnswer(a -> {
-            AcknowledgementSet acknowledgementSet = a.getArgument(0);
-            lenient().when(handle.getAcknowledgementSet()).thenReturn(acknowledgementSet);
-            return null;
-        }).when(handle).setAcknowledgementSet(any(AcknowledgementSet.class));
         assertThat(handle.getAcknowledgementSet(), equalTo(defaultAcknowledgementSet));
         defaultAcknowledgementSet.acquire(handle);
         assertThat(defaultAcknowledgementSet.release(handle, true), equalTo(false));
@@ -218,11 +206,6 @@ class DefaultAcknowledgementSetTests {
         );
         defaultAcknowledgementSet.add(event);
         defaultAcknowledgementSet.complete();
-        lenient().doAnswer(a -> {
-            AcknowledgementSet acknowledgementSet = a.getArgument(0);
-            lenient().when(handle.getAcknowledgementSet()).thenReturn(acknowledgementSet);
-            return null;
-        }).when(handle).setAcknowledgementSet(any(AcknowledgementSet.class));
         assertThat(handle, not(equalTo(null)));
         assertThat(handle.getAcknowledgementSet(), equalTo(defaultAcknowledgementSet));
         assertThat(defaultAcknowledgementSet.release(handle, true), equalTo(true));
@@ -252,11 +235,6 @@ class DefaultAcknowledgementSetTests {
         defaultAcknowledgementSet.add(event);
         defaultAcknowledgementSet.add(event2);
         defaultAcknowledgementSet.complete();
-        lenient().doAnswer(a -> {
-            AcknowledgementSet acknowledgementSet = a.getArgument(0);
-            lenient().when(handle.getAcknowledgementSet()).thenReturn(acknowledgementSet);
-            return null;
-        }).when(handle).setAcknowledgementSet(any(AcknowledgementSet.class));
         assertThat(handle, not(equalTo(null)));
         assertThat(handle.getAcknowledgementSet(), equalTo(defaultAcknowledgementSet));
         await().atMost(Duration.ofSeconds(5))
@@ -277,4 +255,39 @@ class DefaultAcknowledgementSetTests {
                     assertThat(acknowledgementSetResult, equalTo(true));
                 });
     }
+
+    @Test
+    void testDefaultAcknowledgementSetConcurrentAcquireAndRelease() throws Exception {
+        final AtomicInteger callbackCount = new AtomicInteger(0);
+        defaultAcknowledgementSet = createObjectUnderTestWithCallback(
+            (flag) -> {
+                acknowledgementSetResult = flag;
+                callbackCount.incrementAndGet();
+            }
+        );
+        defaultAcknowledgementSet.add(event);
+        final ExecutorService workers = Executors.newFixedThreadPool(MAX_THREADS);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < MAX_THREADS; i++) {
+            futures.add(workers.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    defaultAcknowledgementSet.acquire(handle);
+                    defaultAcknowledgementSet.release(handle, true);
+                }
+            }));
+        }
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        workers.shutdown();
+        defaultAcknowledgementSet.complete();
+        assertThat(defaultAcknowledgementSet.release(handle, true), equalTo(true));
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> {
+                    assertThat(acknowledgementSetResult, equalTo(true));
+                });
+        assertThat(callbackCount.get(), equalTo(1));
+        assertThat(invalidAcquiresCounter, equalTo(0));
+        assertThat(invalidReleasesCounter, equalTo(0));
+    }
 }
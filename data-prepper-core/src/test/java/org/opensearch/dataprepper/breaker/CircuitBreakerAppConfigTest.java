@@ -13,6 +13,7 @@ import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.parser.model.CircuitBreakerConfig;
 import org.opensearch.dataprepper.parser.model.DataPrepperConfiguration;
 import org.opensearch.dataprepper.parser.model.HeapCircuitBreakerConfig;
+import org.opensearch.dataprepper.parser.model.OldGenerationCircuitBreakerConfig;
 
 import java.time.Duration;
 
@@ -62,4 +63,37 @@ class CircuitBreakerAppConfigTest {
         assertThat(createObjectUnderTest().heapCircuitBreaker(dataPrepperConfiguration),
                 instanceOf(HeapCircuitBreaker.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void oldGenerationCircuitBreaker_returns_null_if_CircuitBreakerConfig_is_null() {
+        assertThat(createObjectUnderTest().oldGenerationCircuitBreaker(dataPrepperConfiguration),
+                nullValue());
+    }
+
+    @Test
+    void oldGenerationCircuitBreaker_returns_null_if_OldGenerationCircuitBreakerConfig_is_null() {
+        final CircuitBreakerConfig circuitBreakerConfig = mock(CircuitBreakerConfig.class);
+        when(dataPrepperConfiguration.getCircuitBreakerConfig())
+                .thenReturn(circuitBreakerConfig);
+
+        assertThat(createObjectUnderTest().oldGenerationCircuitBreaker(dataPrepperConfiguration),
+                nullValue());
+    }
+
+    @Test
+    void oldGenerationCircuitBreaker_returns_OldGenerationCircuitBreaker_if_OldGenerationCircuitBreakerConfig_is_present() throws Exception {
+        final ByteCount byteCount = mock(ByteCount.class);
+        when(byteCount.getBytes()).thenReturn(1L);
+        final OldGenerationCircuitBreakerConfig oldGenerationCircuitBreakerConfig = mock(OldGenerationCircuitBreakerConfig.class);
+        when(oldGenerationCircuitBreakerConfig.getUsage()).thenReturn(byteCount);
+        when(oldGenerationCircuitBreakerConfig.getBackpressureStart()).thenReturn(0.8);
+        final CircuitBreakerConfig circuitBreakerConfig = mock(CircuitBreakerConfig.class);
+        when(circuitBreakerConfig.getOldGenerationConfig()).thenReturn(oldGenerationCircuitBreakerConfig);
+        when(dataPrepperConfiguration.getCircuitBreakerConfig())
+                .thenReturn(circuitBreakerConfig);
+
+        final InnerCircuitBreaker circuitBreaker = createObjectUnderTest().oldGenerationCircuitBreaker(dataPrepperConfiguration);
+        assertThat(circuitBreaker, instanceOf(OldGenerationCircuitBreaker.class));
+        ((OldGenerationCircuitBreaker) circuitBreaker).close();
+    }
+}
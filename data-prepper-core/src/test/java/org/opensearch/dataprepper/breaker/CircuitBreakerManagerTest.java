@@ -18,6 +18,7 @@ import org.opensearch.dataprepper.model.breaker.CircuitBreaker;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -26,6 +27,7 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -124,5 +126,38 @@ class CircuitBreakerManagerTest {
             final CircuitBreaker actualBreaker = optionalCircuitBreaker.get();
             assertThat(actualBreaker.isOpen(), equalTo(true));
         }
+
+        @Test
+        void getGlobalCircuitBreaker_returns_CircuitBreaker_where_getRejectionRatio_is_the_largest_ratio() {
+            when(innerCircuitBreakers.get(0).getRejectionRatio()).thenReturn(0.2);
+            when(innerCircuitBreakers.get(1).getRejectionRatio()).thenReturn(0.7);
+            when(innerCircuitBreakers.get(2).getRejectionRatio()).thenReturn(0.0);
+
+            final CircuitBreaker actualBreaker = createObjectUnderTest().getGlobalCircuitBreaker().get();
+
+            assertThat(actualBreaker.getRejectionRatio(), equalTo(0.7));
+        }
+
+        @Test
+        void getGlobalCircuitBreaker_returns_CircuitBreaker_which_records_buffered_bytes_on_all_circuit_breakers() {
+            final long bytes = new Random().nextInt(10_000) + 1;
+
+            createObjectUnderTest().getGlobalCircuitBreaker().get().recordBufferedBytes(bytes);
+
+            for (InnerCircuitBreaker innerCircuitBreaker : innerCircuitBreakers) {
+                verify(innerCircuitBreaker).recordBufferedBytes(bytes);
+            }
+        }
+
+        @Test
+        void getGlobalCircuitBreaker_returns_CircuitBreaker_which_releases_buffered_bytes_on_all_circuit_breakers() {
+            final long bytes = new Random().nextInt(10_000) + 1;
+
+            createObjectUnderTest().getGlobalCircuitBreaker().get().releaseBufferedBytes(bytes);
+
+            for (InnerCircuitBreaker innerCircuitBreaker : innerCircuitBreakers) {
+                verify(innerCircuitBreaker).releaseBufferedBytes(bytes);
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.breaker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.parser.model.OldGenerationCircuitBreakerConfig;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(MockitoExtension.class)
+class OldGenerationCircuitBreakerTest {
+    private static final long USAGE_BYTES = 1_000;
+    private static final String OLD_GENERATION_POOL = "G1 Old Gen";
+    private static final String YOUNG_GENERATION_POOL = "G1 Eden Space";
+    private static final String MINOR_GC_ACTION = "end of minor GC";
+
+    @Mock
+    private OldGenerationCircuitBreakerConfig config;
+
+    @Mock
+    private ByteCount usage;
+
+    private List<GarbageCollectorMXBean> garbageCollectorMXBeans;
+    private List<MemoryPoolMXBean> memoryPoolMXBeans;
+
+    private OldGenerationCircuitBreaker objectUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        garbageCollectorMXBeans = Collections.emptyList();
+        memoryPoolMXBeans = List.of(
+                createPool(YOUNG_GENERATION_POOL, MemoryType.HEAP, 500),
+                createPool(OLD_GENERATION_POOL, MemoryType.HEAP, 100),
+                createPool("Metaspace", MemoryType.NON_HEAP, 5_000));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if(objectUnderTest != null) {
+            objectUnderTest.close();
+            objectUnderTest = null;
+        }
+    }
+
+    private OldGenerationCircuitBreaker createObjectUnderTest() {
+        return new OldGenerationCircuitBreaker(config, garbageCollectorMXBeans, memoryPoolMXBeans);
+    }
+
+    private static MemoryPoolMXBean createPool(final String name, final MemoryType type, final long collectionUsedBytes) {
+        final MemoryPoolMXBean pool = mock(MemoryPoolMXBean.class);
+        lenient().when(pool.getName()).thenReturn(name);
+        lenient().when(pool.getType()).thenReturn(type);
+        lenient().when(pool.getCollectionUsage()).thenReturn(memoryUsage(collectionUsedBytes));
+        return pool;
+    }
+
+    private static MemoryUsage memoryUsage(final long usedBytes) {
+        return new MemoryUsage(0, usedBytes, usedBytes, -1);
+    }
+
+    @Test
+    void constructor_throws_if_config_is_null() {
+        config = null;
+        assertThrows(NullPointerException.class, this::createObjectUnderTest);
+    }
+
+    @Test
+    void constructor_throws_if_usage_is_null() {
+        assertThrows(NullPointerException.class, this::createObjectUnderTest);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1, 0})
+    void constructor_throws_if_usage_is_not_positive(final long bytes) {
+        when(config.getUsage()).thenReturn(usage);
+        when(usage.getBytes()).thenReturn(bytes);
+
+        assertThrows(IllegalArgumentException.class, this::createObjectUnderTest);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-0.1, 1.1})
+    void constructor_throws_if_backpressure_start_is_not_a_fraction(final double backpressureStart) {
+        when(config.getUsage()).thenReturn(usage);
+        when(usage.getBytes()).thenReturn(USAGE_BYTES);
+        when(config.getBackpressureStart()).thenReturn(backpressureStart);
+
+        assertThrows(IllegalArgumentException.class, this::createObjectUnderTest);
+    }
+
+    @Nested
+    class ValidConfig {
+        @BeforeEach
+        void setUp() {
+            when(config.getUsage()).thenReturn(usage);
+            when(usage.getBytes()).thenReturn(USAGE_BYTES);
+            when(config.getBackpressureStart()).thenReturn(0.8);
+        }
+
+        @Test
+        void initial_state_uses_old_generation_collection_usage() {
+            objectUnderTest = createObjectUnderTest();
+
+            assertThat(objectUnderTest.isOpen(), equalTo(false));
+            assertThat(objectUnderTest.getRejectionRatio(), equalTo(0.0));
+        }
+
+        @Test
+        void initial_state_is_open_if_old_generation_collection_usage_exceeds_usage() {
+            memoryPoolMXBeans = List.of(createPool(OLD_GENERATION_POOL, MemoryType.HEAP, USAGE_BYTES + 1));
+
+            objectUnderTest = createObjectUnderTest();
+
+            assertThat(objectUnderTest.isOpen(), equalTo(true));
+            assertThat(objectUnderTest.getRejectionRatio(), equalTo(1.0));
+        }
+
+        @Test
+        void recordBufferedBytes_below_backpressure_start_does_not_reject() {
+            objectUnderTest = createObjectUnderTest();
+
+            objectUnderTest.recordBufferedBytes(700);
+
+            assertThat(objectUnderTest.isOpen(), equalTo(false));
+            assertThat(objectUnderTest.getRejectionRatio(), equalTo(0.0));
+        }
+
+        @Test
+        void recordBufferedBytes_above_backpressure_start_rejects_a_fraction_of_writes() {
+            objectUnderTest = createObjectUnderTest();
+
+            objectUnderTest.recordBufferedBytes(800);
+
+            assertThat(objectUnderTest.isOpen(), equalTo(false));
+            assertThat(objectUnderTest.getRejectionRatio(), closeTo(0.5, 0.0001));
+        }
+
+        @Test
+        void recordBufferedBytes_above_usage_opens_circuit_breaker() {
+            objectUnderTest = createObjectUnderTest();
+
+            objectUnderTest.recordBufferedBytes(901);
+
+            assertThat(objectUnderTest.isOpen(), equalTo(true));
+            assertThat(objectUnderTest.getRejectionRatio(), equalTo(1.0));
+        }
+
+        @Test
+        void releaseBufferedBytes_closes_circuit_breaker_without_garbage_collection() {
+            objectUnderTest = createObjectUnderTest();
+            for (int i = 0; i < 1_000; i++) {
+                objectUnderTest.recordBufferedBytes(500);
+                objectUnderTest.releaseBufferedBytes(500);
+            }
+            assertThat(objectUnderTest.getRejectionRatio(), equalTo(0.0));
+
+            objectUnderTest.recordBufferedBytes(901);
+            assertThat(objectUnderTest.isOpen(), equalTo(true));
+
+            objectUnderTest.releaseBufferedBytes(901);
+            assertThat(objectUnderTest.isOpen(), equalTo(false));
+            assertThat(objectUnderTest.getRejectionRatio(), equalTo(0.0));
+        }
+
+        @Test
+        void releaseBufferedBytes_does_not_release_bytes_reset_by_a_garbage_collection() {
+            objectUnderTest = createObjectUnderTest();
+            objectUnderTest.recordBufferedBytes(500);
+            objectUnderTest.onGarbageCollection(OldGenerationCircuitBreaker.MAJOR_GC_ACTION,
+                    Map.of(OLD_GENERATION_POOL, memoryUsage(900)),
+                    Map.of(OLD_GENERATION_POOL, memoryUsage(600)));
+
+            objectUnderTest.releaseBufferedBytes(500);
+            objectUnderTest.recordBufferedBytes(300);
+
+            assertThat(objectUnderTest.getRejectionRatio(), closeTo(0.5, 0.0001));
+        }
+
+        @Test
+        void onGarbageCollection_major_collection_resets_buffered_bytes_and_uses_old_generation_usage() {
+            objectUnderTest = createObjectUnderTest();
+            objectUnderTest.recordBufferedBytes(2_000);
+            assertThat(objectUnderTest.isOpen(), equalTo(true));
+
+            objectUnderTest.onGarbageCollection(OldGenerationCircuitBreaker.MAJOR_GC_ACTION,
+                    Map.of(OLD_GENERATION_POOL, memoryUsage(800), YOUNG_GENERATION_POOL, memoryUsage(0)),
+                    Map.of(OLD_GENERATION_POOL, memoryUsage(850), YOUNG_GENERATION_POOL, memoryUsage(10_000)));
+
+            assertThat(objectUnderTest.isOpen(), equalTo(false));
+            assertThat(objectUnderTest.getRejectionRatio(), closeTo(0.25, 0.0001));
+        }
+
+        @Test
+        void onGarbageCollection_minor_collection_reducing_old_generation_resets_buffered_bytes() {
+            objectUnderTest = createObjectUnderTest();
+            objectUnderTest.recordBufferedBytes(2_000);
+
+            objectUnderTest.onGarbageCollection(MINOR_GC_ACTION,
+                    Map.of(OLD_GENERATION_POOL, memoryUsage(1_500)),
+                    Map.of(OLD_GENERATION_POOL, memoryUsage(850)));
+
+            assertThat(objectUnderTest.isOpen(), equalTo(false));
+            assertThat(objectUnderTest.getRejectionRatio(), closeTo(0.25, 0.0001));
+        }
+
+        @Test
+        void onGarbageCollection_young_collection_keeps_buffered_bytes() {
+            objectUnderTest = createObjectUnderTest();
+            objectUnderTest.recordBufferedBytes(850);
+            assertThat(objectUnderTest.getRejectionRatio(), closeTo(0.75, 0.0001));
+
+            objectUnderTest.onGarbageCollection(MINOR_GC_ACTION,
+                    Map.of(OLD_GENERATION_POOL, memoryUsage(100), YOUNG_GENERATION_POOL, memoryUsage(10_000)),
+                    Map.of(OLD_GENERATION_POOL, memoryUsage(150), YOUNG_GENERATION_POOL, memoryUsage(0)));
+
+            assertThat(objectUnderTest.getRejectionRatio(), closeTo(0.75, 0.0001));
+            objectUnderTest.recordBufferedBytes(100);
+            assertThat(objectUnderTest.isOpen(), equalTo(true));
+        }
+
+        @Test
+        void onGarbageCollection_without_old_generation_usage_keeps_state() {
+            objectUnderTest = createObjectUnderTest();
+            objectUnderTest.recordBufferedBytes(2_000);
+
+            objectUnderTest.onGarbageCollection(OldGenerationCircuitBreaker.MAJOR_GC_ACTION,
+                    Map.of(YOUNG_GENERATION_POOL, memoryUsage(10_000)),
+                    Map.of(YOUNG_GENERATION_POOL, memoryUsage(0)));
+
+            assertThat(objectUnderTest.isOpen(), equalTo(true));
+        }
+
+        @Test
+        void uses_all_heap_pools_if_there_is_no_old_generation_pool() {
+            memoryPoolMXBeans = List.of(
+                    createPool("ZHeap", MemoryType.HEAP, 600),
+                    createPool("CodeHeap", MemoryType.NON_HEAP, 5_000));
+            objectUnderTest = createObjectUnderTest();
+            assertThat(objectUnderTest.getRejectionRatio(), equalTo(0.0));
+
+            objectUnderTest.onGarbageCollection(OldGenerationCircuitBreaker.MAJOR_GC_ACTION,
+                    Map.of("ZHeap", memoryUsage(2_000)),
+                    Map.of("ZHeap", memoryUsage(1_100)));
+
+            assertThat(objectUnderTest.isOpen(), equalTo(true));
+        }
+
+        @Test
+        void adds_notification_listener_to_garbage_collectors_and_removes_it_on_close() throws Exception {
+            final GarbageCollectorMXBean garbageCollectorMXBean = mock(GarbageCollectorMXBean.class,
+                    withSettings().extraInterfaces(NotificationEmitter.class));
+            garbageCollectorMXBeans = List.of(garbageCollectorMXBean, mock(GarbageCollectorMXBean.class));
+            final NotificationEmitter notificationEmitter = (NotificationEmitter) garbageCollectorMXBean;
+
+            objectUnderTest = createObjectUnderTest();
+            verify(notificationEmitter).addNotificationListener(any(NotificationListener.class), isNull(), isNull());
+
+            objectUnderTest.close();
+            objectUnderTest = null;
+            verify(notificationEmitter).removeNotificationListener(any(NotificationListener.class));
+        }
+    }
+}
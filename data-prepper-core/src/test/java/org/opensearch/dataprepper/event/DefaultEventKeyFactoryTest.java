@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.event;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DefaultEventKeyFactoryTest {
+
+    @Test
+    void createEventKey_returns_key_usable_with_events() {
+        final EventKey eventKey = new DefaultEventKeyFactory().createEventKey("foo/bar");
+        final Event event = JacksonEvent.builder().withEventType("event").build();
+        final String value = UUID.randomUUID().toString();
+
+        event.put(eventKey, value);
+
+        assertThat(eventKey.getKey(), equalTo("foo/bar"));
+        assertThat(event.get("foo/bar", String.class), equalTo(value));
+    }
+
+    @Test
+    void createEventKey_throws_for_invalid_key() {
+        assertThrows(IllegalArgumentException.class, () -> new DefaultEventKeyFactory().createEventKey("not a key"));
+    }
+}
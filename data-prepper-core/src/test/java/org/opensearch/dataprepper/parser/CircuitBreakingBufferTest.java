@@ -17,10 +17,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.model.breaker.CircuitBreaker;
 import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -31,7 +33,11 @@ import java.util.concurrent.TimeoutException;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -167,6 +173,209 @@ class CircuitBreakingBufferTest {
             verifyNoInteractions(buffer);
             verify(circuitBreaker).isOpen();
         }
+
+        @Test
+        void write_should_throw_if_CircuitBreaker_rejects_all_writes() {
+            when(circuitBreaker.isOpen()).thenReturn(false);
+            when(circuitBreaker.getRejectionRatio()).thenReturn(1.0);
+
+            assertThrows(TimeoutException.class, () -> createObjectUnderTest().write(record, timeoutMillis));
+
+            verifyNoInteractions(buffer);
+        }
+
+        @Test
+        void writeAll_should_throw_if_CircuitBreaker_rejects_all_writes() {
+            when(circuitBreaker.isOpen()).thenReturn(false);
+            when(circuitBreaker.getRejectionRatio()).thenReturn(1.0);
+
+            final List<Record<?>> records = Collections.singletonList(record);
+            assertThrows(TimeoutException.class, () -> createObjectUnderTest().writeAll(records, timeoutMillis));
+
+            verifyNoInteractions(buffer);
+        }
+    }
+
+    @Nested
+    class WithEventRecords {
+        private String json;
+
+        private Record<?> record;
+
+        @BeforeEach
+        void setUp() {
+            json = "{\"message\":\"" + UUID.randomUUID() + "\"}";
+            final Event event = mock(Event.class);
+            lenient().when(event.toJsonString()).thenReturn(json);
+            record = new Record<>(event);
+        }
+
+        @Test
+        void write_should_record_the_serialized_size_of_the_record() throws TimeoutException {
+            createObjectUnderTest().write(record, timeoutMillis);
+
+            verify(buffer).write(record, timeoutMillis);
+            verify(circuitBreaker).recordBufferedBytes(json.length());
+        }
+
+        @Test
+        void writeAll_should_record_the_sampled_size_for_every_record() throws Exception {
+            final List<Record<?>> records = Arrays.asList(record, new Record<>(UUID.randomUUID().toString()), record);
+
+            createObjectUnderTest().writeAll(records, timeoutMillis);
+
+            verify(buffer).writeAll(records, timeoutMillis);
+            verify(circuitBreaker).recordBufferedBytes(3L * json.length());
+        }
+
+        @Test
+        void write_should_reuse_the_sampled_size_until_the_next_sample() throws TimeoutException {
+            final CircuitBreakingBuffer<Record<?>> objectUnderTest = createObjectUnderTest();
+            objectUnderTest.write(record, timeoutMillis);
+
+            final Record<?> largerRecord = new Record<>(json + json);
+            for (int i = 1; i < CircuitBreakingBuffer.RECORD_SIZE_SAMPLE_INTERVAL; i++) {
+                objectUnderTest.write(largerRecord, timeoutMillis);
+            }
+            verify(circuitBreaker, times(CircuitBreakingBuffer.RECORD_SIZE_SAMPLE_INTERVAL)).recordBufferedBytes(json.length());
+
+            objectUnderTest.write(largerRecord, timeoutMillis);
+            verify(circuitBreaker).recordBufferedBytes(2L * json.length());
+        }
+
+        @Test
+        void write_should_not_record_bytes_if_CircuitBreaker_rejects_all_writes() {
+            when(circuitBreaker.getRejectionRatio()).thenReturn(1.0);
+
+            assertThrows(TimeoutException.class, () -> createObjectUnderTest().write(record, timeoutMillis));
+
+            verifyNoInteractions(buffer);
+            verify(circuitBreaker, never()).recordBufferedBytes(anyLong());
+        }
+    }
+
+    @Nested
+    class ReleasingBufferedBytes {
+        private String data;
+
+        @BeforeEach
+        void setUp() {
+            data = UUID.randomUUID().toString();
+        }
+
+        private Map.Entry<Collection<Record<?>>, CheckpointState> readResult(final Collection<Record<?>> records) {
+            return Map.entry(records, new CheckpointState(records.size()));
+        }
+
+        @Test
+        void checkpoint_should_release_the_bytes_of_the_checkpointed_records() throws Exception {
+            final List<Record<?>> records = Arrays.asList(new Record<>(data), new Record<>(data));
+            final CircuitBreakingBuffer<Record<?>> objectUnderTest = createObjectUnderTest();
+            objectUnderTest.writeAll(records, timeoutMillis);
+            objectUnderTest.writeAll(records, timeoutMillis);
+
+            objectUnderTest.checkpoint(new CheckpointState(records.size()));
+
+            verify(circuitBreaker, times(2)).recordBufferedBytes(2L * data.length());
+            verify(circuitBreaker).releaseBufferedBytes(2L * data.length());
+        }
+
+        @Test
+        void checkpoint_should_release_all_recorded_bytes_when_the_buffer_is_empty() throws Exception {
+            final CircuitBreakingBuffer<Record<?>> objectUnderTest = createObjectUnderTest();
+            objectUnderTest.writeBytes(data.getBytes(), null, timeoutMillis);
+            objectUnderTest.write(new Record<>(data), timeoutMillis);
+            when(buffer.isEmpty()).thenReturn(true);
+
+            objectUnderTest.checkpoint(new CheckpointState(1));
+
+            verify(circuitBreaker).releaseBufferedBytes((long) data.getBytes().length + data.length());
+        }
+
+        @Test
+        void checkpoint_should_not_release_more_bytes_than_recorded() throws Exception {
+            final CircuitBreakingBuffer<Record<?>> objectUnderTest = createObjectUnderTest();
+            objectUnderTest.write(new Record<>(data), timeoutMillis);
+
+            objectUnderTest.checkpoint(new CheckpointState(10));
+            objectUnderTest.checkpoint(new CheckpointState(10));
+
+            verify(circuitBreaker).releaseBufferedBytes(data.length());
+        }
+
+        @Test
+        void circuit_breaker_stays_closed_when_batches_are_written_read_and_checkpointed() throws Exception {
+            final NetBytesCircuitBreaker netBytesCircuitBreaker = new NetBytesCircuitBreaker(100L * data.length());
+            final CircuitBreakingBuffer<Record<?>> objectUnderTest = new CircuitBreakingBuffer<>(buffer, netBytesCircuitBreaker);
+            final List<Record<?>> records = Collections.nCopies(10, new Record<>(data));
+            when(buffer.read(timeoutMillis)).thenReturn(readResult(records));
+
+            for (int i = 0; i < 10_000; i++) {
+                objectUnderTest.writeAll(records, timeoutMillis);
+                final Map.Entry<Collection<Record<?>>, CheckpointState> readResult = objectUnderTest.read(timeoutMillis);
+                objectUnderTest.checkpoint(readResult.getValue());
+                assertThat(netBytesCircuitBreaker.isOpen(), equalTo(false));
+            }
+            assertThat(netBytesCircuitBreaker.netBytes, equalTo(0L));
+        }
+    }
+
+    /**
+     * Opens once more bytes are buffered than released, without any garbage collection.
+     */
+    private static class NetBytesCircuitBreaker implements CircuitBreaker {
+        private final long usageBytes;
+        private long netBytes;
+
+        private NetBytesCircuitBreaker(final long usageBytes) {
+            this.usageBytes = usageBytes;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return netBytes > usageBytes;
+        }
+
+        @Override
+        public void recordBufferedBytes(final long bytes) {
+            netBytes += bytes;
+        }
+
+        @Override
+        public void releaseBufferedBytes(final long bytes) {
+            netBytes -= bytes;
+        }
+    }
+
+    @Nested
+    class AwaitCapacity {
+        private int numberOfRecords;
+
+        @BeforeEach
+        void setUp() {
+            numberOfRecords = new Random().nextInt(1_000) + 1;
+        }
+
+        @ParameterizedTest
+        @ValueSource(booleans = {true, false})
+        void awaitCapacity_should_check_CircuitBreaker_and_return_inner_awaitCapacity_if_not_open(final boolean hasCapacity) throws InterruptedException {
+            when(circuitBreaker.isOpen()).thenReturn(false);
+            when(buffer.awaitCapacity(numberOfRecords, timeoutMillis)).thenReturn(hasCapacity);
+
+            assertThat(createObjectUnderTest().awaitCapacity(numberOfRecords, timeoutMillis), equalTo(hasCapacity));
+
+            verify(circuitBreaker).isOpen();
+        }
+
+        @Test
+        void awaitCapacity_should_check_CircuitBreaker_and_return_false_if_open() throws InterruptedException {
+            when(circuitBreaker.isOpen()).thenReturn(true);
+
+            assertThat(createObjectUnderTest().awaitCapacity(numberOfRecords, timeoutMillis), equalTo(false));
+
+            verifyNoInteractions(buffer);
+            verify(circuitBreaker).isOpen();
+        }
     }
 
     @Nested
@@ -189,6 +398,19 @@ class CircuitBreakingBufferTest {
 
             verify(buffer).writeBytes(bytes, key, timeoutMillis);
             verify(circuitBreaker).isOpen();
+            verify(circuitBreaker).recordBufferedBytes(bytes.length);
+        }
+
+        @Test
+        void writeBytes_should_throw_and_not_record_bytes_if_CircuitBreaker_rejects_all_writes() {
+            when(circuitBreaker.isOpen()).thenReturn(false);
+            when(circuitBreaker.getRejectionRatio()).thenReturn(1.0);
+
+            CircuitBreakingBuffer<Record<?>> objectUnderTest = createObjectUnderTest();
+            assertThrows(TimeoutException.class, () -> objectUnderTest.writeBytes(bytes, key, timeoutMillis));
+
+            verifyNoInteractions(buffer);
+            verify(circuitBreaker, never()).recordBufferedBytes(anyLong());
         }
 
         @Test
@@ -28,6 +28,7 @@ import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderProvider;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderReceiveBuffer;
 import org.opensearch.dataprepper.event.DefaultEventFactory;
+import org.opensearch.dataprepper.event.DefaultEventKeyFactory;
 import org.opensearch.dataprepper.acknowledgements.DefaultAcknowledgementSetManager;
 import org.opensearch.dataprepper.pipeline.Pipeline;
 import org.opensearch.dataprepper.pipeline.router.RouterFactory;
@@ -91,6 +92,7 @@ class PipelineTransformerTests {
         eventFactory = mock(DefaultEventFactory.class);
         acknowledgementSetManager = mock(DefaultAcknowledgementSetManager.class);
         final AnnotationConfigApplicationContext publicContext = new AnnotationConfigApplicationContext();
+        publicContext.register(DefaultEventKeyFactory.class);
         publicContext.refresh();
 
         final AnnotationConfigApplicationContext coreContext = new AnnotationConfigApplicationContext();
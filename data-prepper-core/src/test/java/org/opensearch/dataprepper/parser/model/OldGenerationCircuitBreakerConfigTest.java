@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.parser.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.parser.ByteCountDeserializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class OldGenerationCircuitBreakerConfigTest {
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper(new YAMLFactory());
+
+        final SimpleModule simpleModule = new SimpleModule()
+                .addDeserializer(ByteCount.class, new ByteCountDeserializer());
+        objectMapper.registerModule(simpleModule);
+    }
+
+    @Test
+    void deserialize_old_generation_with_backpressure_start() throws IOException {
+        final InputStream resourceStream = this.getClass().getResourceAsStream("old_generation_with_backpressure_start.yaml");
+
+        final OldGenerationCircuitBreakerConfig config = objectMapper.readValue(resourceStream, OldGenerationCircuitBreakerConfig.class);
+
+        assertThat(config, notNullValue());
+        assertThat(config.getUsage(), notNullValue());
+        assertThat(config.getUsage().getBytes(), equalTo(24L));
+        assertThat(config.getBackpressureStart(), equalTo(0.5));
+    }
+
+    @Test
+    void deserialize_old_generation_without_backpressure_start() throws IOException {
+        final InputStream resourceStream = this.getClass().getResourceAsStream("old_generation_without_backpressure_start.yaml");
+
+        final OldGenerationCircuitBreakerConfig config = objectMapper.readValue(resourceStream, OldGenerationCircuitBreakerConfig.class);
+
+        assertThat(config, notNullValue());
+        assertThat(config.getUsage(), notNullValue());
+        assertThat(config.getUsage().getBytes(), equalTo(24L));
+        assertThat(config.getBackpressureStart(), equalTo(OldGenerationCircuitBreakerConfig.DEFAULT_BACKPRESSURE_START));
+    }
+}
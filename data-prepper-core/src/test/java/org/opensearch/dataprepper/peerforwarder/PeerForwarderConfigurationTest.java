@@ -8,7 +8,11 @@ package org.opensearch.dataprepper.peerforwarder;
 import static org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration.DEFAULT_DRAIN_TIMEOUT;
 
 import org.opensearch.dataprepper.TestDataProvider;
+import org.opensearch.dataprepper.peerforwarder.codec.BinaryCodecFormat;
+import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCompression;
 import org.opensearch.dataprepper.peerforwarder.discovery.DiscoveryMode;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.parser.ByteCountDeserializer;
 import org.opensearch.dataprepper.parser.DataPrepperDurationDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,10 +33,13 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration.DEFAULT_FORWARDING_BATCH_TIMEOUT;
+import static org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration.DEFAULT_MAX_REQUEST_LENGTH;
 import static org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration.DEFAULT_PRIVATE_KEY_FILE_PATH;
 
 class PeerForwarderConfigurationTest {
-    private static SimpleModule simpleModule = new SimpleModule().addDeserializer(Duration.class, new DataPrepperDurationDeserializer());
+    private static SimpleModule simpleModule = new SimpleModule()
+            .addDeserializer(Duration.class, new DataPrepperDurationDeserializer())
+            .addDeserializer(ByteCount.class, new ByteCountDeserializer());
     private static ObjectMapper OBJECT_MAPPER = new ObjectMapper(new YAMLFactory()).registerModule(simpleModule);
 
     private static PeerForwarderConfiguration makeConfig(final String filePath) throws IOException {
@@ -67,6 +74,9 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(1));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(DEFAULT_FORWARDING_BATCH_TIMEOUT));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getBinaryCodecFormat(), equalTo(BinaryCodecFormat.JAVA));
+        assertThat(peerForwarderConfiguration.getForwardingCompression(), equalTo(PeerForwarderCompression.NONE));
+        assertThat(peerForwarderConfiguration.getMaxRequestLength(), equalTo(DEFAULT_MAX_REQUEST_LENGTH));
     }
 
     @Test
@@ -100,6 +110,9 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(3));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(Duration.of(5, ChronoUnit.SECONDS)));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(false));
+        assertThat(peerForwarderConfiguration.getBinaryCodecFormat(), equalTo(BinaryCodecFormat.SMILE));
+        assertThat(peerForwarderConfiguration.getForwardingCompression(), equalTo(PeerForwarderCompression.SNAPPY));
+        assertThat(peerForwarderConfiguration.getMaxRequestLength(), equalTo(ByteCount.parse("1mb")));
     }
 
     @Test
@@ -541,7 +541,10 @@ class PeerForwarder_ClientServerIT {
                 null,
                 null,
                 null,
-                binaryCodec
+                binaryCodec,
+                null,
+                null,
+                null
         );
     }
 }
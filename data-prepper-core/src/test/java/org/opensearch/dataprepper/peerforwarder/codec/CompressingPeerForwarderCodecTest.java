@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompressingPeerForwarderCodecTest {
+    private static final int MAX_DECOMPRESSED_LENGTH = 1024;
+
+    @Mock
+    private PeerForwarderCodec peerForwarderCodec;
+
+    @Mock
+    private PeerForwardingEvents peerForwardingEvents;
+
+    @Mock
+    private PeerForwardingEvents deserializedEvents;
+
+    @ParameterizedTest
+    @EnumSource(PeerForwarderCompression.class)
+    void serialize_then_deserialize_restores_the_delegate_bytes(final PeerForwarderCompression compression) throws Exception {
+        final byte[] serialized = "{\"events\":[{\"key\":\"value\"},{\"key\":\"value\"}]}".getBytes(StandardCharsets.UTF_8);
+        when(peerForwarderCodec.serialize(peerForwardingEvents)).thenReturn(serialized);
+        when(peerForwarderCodec.deserialize(serialized)).thenReturn(deserializedEvents);
+        final CompressingPeerForwarderCodec objectUnderTest = new CompressingPeerForwarderCodec(peerForwarderCodec, compression, MAX_DECOMPRESSED_LENGTH);
+
+        final byte[] compressed = objectUnderTest.serialize(peerForwardingEvents);
+
+        assertThat(objectUnderTest.deserialize(compressed), sameInstance(deserializedEvents));
+        assertThat(compression.decompress(compressed, MAX_DECOMPRESSED_LENGTH), equalTo(serialized));
+    }
+
+    @ParameterizedTest
+    @EnumSource(PeerForwarderCompression.class)
+    void deserialize_rejects_batch_which_decompresses_beyond_the_maximum(final PeerForwarderCompression compression) throws Exception {
+        final byte[] serialized = new byte[MAX_DECOMPRESSED_LENGTH + 1];
+        when(peerForwarderCodec.serialize(peerForwardingEvents)).thenReturn(serialized);
+        final CompressingPeerForwarderCodec objectUnderTest = new CompressingPeerForwarderCodec(peerForwarderCodec, compression, MAX_DECOMPRESSED_LENGTH);
+
+        final byte[] compressed = objectUnderTest.serialize(peerForwardingEvents);
+
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(compressed));
+        verify(peerForwarderCodec, never()).deserialize(any());
+    }
+
+    @ParameterizedTest
+    @EnumSource(PeerForwarderCompression.class)
+    void decompress_accepts_batch_of_exactly_the_maximum(final PeerForwarderCompression compression) throws Exception {
+        final byte[] serialized = new byte[MAX_DECOMPRESSED_LENGTH];
+
+        assertThat(compression.decompress(compression.compress(serialized), MAX_DECOMPRESSED_LENGTH), equalTo(serialized));
+    }
+}
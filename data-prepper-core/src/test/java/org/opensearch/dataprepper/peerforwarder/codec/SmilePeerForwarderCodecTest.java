@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SmilePeerForwarderCodecTest {
+    private String pipelineName;
+    private String pluginId;
+
+    @BeforeEach
+    void setUp() {
+        pipelineName = UUID.randomUUID().toString();
+        pluginId = UUID.randomUUID().toString();
+    }
+
+    private SmilePeerForwarderCodec createObjectUnderTest() {
+        return new SmilePeerForwarderCodec();
+    }
+
+    @Test
+    void testCodec() throws IOException {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(2);
+        final byte[] bytes = createObjectUnderTest().serialize(inputEvents);
+        final PeerForwardingEvents outputEvents = createObjectUnderTest().deserialize(bytes);
+
+        assertThat(outputEvents.getDestinationPipelineName(), equalTo(inputEvents.getDestinationPipelineName()));
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(inputEvents.getDestinationPluginId()));
+        assertThat(outputEvents.getEvents().size(), equalTo(inputEvents.getEvents().size()));
+        for (int i = 0; i < inputEvents.getEvents().size(); i++) {
+            final Event inputEvent = inputEvents.getEvents().get(i);
+            final Event outputEvent = outputEvents.getEvents().get(i);
+            assertThat(outputEvent.getJsonNode(), equalTo(inputEvent.getJsonNode()));
+            assertThat(outputEvent.getMetadata().getEventType(), equalTo(inputEvent.getMetadata().getEventType()));
+            assertThat(outputEvent.getMetadata().getTimeReceived(), equalTo(inputEvent.getMetadata().getTimeReceived()));
+            assertThat(outputEvent.getMetadata().getAttributes(), equalTo(inputEvent.getMetadata().getAttributes()));
+        }
+    }
+
+    @Test
+    void testCodec_with_null_events() throws IOException {
+        final PeerForwardingEvents inputEvents = new PeerForwardingEvents(null, pluginId, pipelineName);
+        final PeerForwardingEvents outputEvents = createObjectUnderTest().deserialize(createObjectUnderTest().serialize(inputEvents));
+
+        assertThat(outputEvents.getEvents(), nullValue());
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(pluginId));
+    }
+
+    @Test
+    void serialize_is_smaller_than_json() throws Exception {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(100);
+        final byte[] smileBytes = createObjectUnderTest().serialize(inputEvents);
+        final byte[] jsonBytes = new JacksonPeerForwarderCodec(new ObjectMapper().registerModule(new JavaTimeModule())).serialize(inputEvents);
+
+        assertThat(smileBytes.length, lessThan(jsonBytes.length));
+    }
+
+    @Test
+    void testDeserializeException() {
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(new byte[0]));
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize("[]".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private PeerForwardingEvents generatePeerForwardingEvents(final int numEvents) {
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            final Map<String, Object> eventData = new HashMap<>();
+            eventData.put("key1", "value \"quoted\"");
+            eventData.put("key2", i);
+            eventData.put("nested", Map.of("key3", List.of(1, 2, 3)));
+            final JacksonEvent event = JacksonLog.builder()
+                    .withData(eventData)
+                    .withEventType("LOG")
+                    .withTimeReceived(Instant.now())
+                    .withEventMetadataAttributes(Map.of("attribute", UUID.randomUUID().toString()))
+                    .build();
+            events.add(event);
+        }
+        return new PeerForwardingEvents(events, pluginId, pipelineName);
+    }
+}
@@ -15,9 +15,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.parser.DataFlowComponent;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -26,6 +28,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -64,6 +68,19 @@ class DataFlowComponentRouterTest {
         return new DataFlowComponentRouter();
     }
 
+    private RecordRoutes toRecordRoutes(final Map<Record, Set<String>> recordsToRoutes) {
+        final List<Record> records = new ArrayList<>(recordsIn);
+        final BitSet eventRecords = new BitSet();
+        eventRecords.set(0, records.size());
+        final Map<String, BitSet> routeMatches = new HashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            for (final String route : recordsToRoutes.getOrDefault(records.get(i), Collections.emptySet())) {
+                routeMatches.computeIfAbsent(route, r -> new BitSet()).set(i);
+            }
+        }
+        return new RecordRoutes(records, eventRecords, routeMatches);
+    }
+
     @Test
     void route_with_null_strategy_throws() {
         getRecordStrategy = null;
@@ -75,7 +92,7 @@ class DataFlowComponentRouterTest {
         getRecordStrategy = null;
         final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                 .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
-        assertThrows(NullPointerException.class, () -> createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer));
+        assertThrows(NullPointerException.class, () -> createObjectUnderTest().route(recordsIn, dataFlowComponent, toRecordRoutes(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer));
     }
 
     @Nested
@@ -95,9 +112,10 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            final BitSet routedRecords = createObjectUnderTest().route(recordsIn, dataFlowComponent, toRecordRoutes(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
+            assertThat(routedRecords.cardinality(), equalTo(recordsIn.size()));
         }
 
         @Test
@@ -105,7 +123,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> allWithRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, allWithRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRecordRoutes(allWithRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -116,7 +134,7 @@ class DataFlowComponentRouterTest {
 
             final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRecordRoutes(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -143,7 +161,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRecordRoutes(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, Collections.emptyList());
         }
@@ -153,7 +171,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRecordRoutes(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, Collections.emptyList());
         }
@@ -164,7 +182,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> allMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(knownRoute)));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, allMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRecordRoutes(allMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -182,9 +200,14 @@ class DataFlowComponentRouterTest {
                 applyRoute = !applyRoute;
             }
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, someMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            final BitSet routedRecords = createObjectUnderTest().route(recordsIn, dataFlowComponent, toRecordRoutes(someMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, expectedRecords);
+            final BitSet expectedRoutedRecords = new BitSet();
+            for (int i = 1; i < recordsIn.size(); i += 2) {
+                expectedRoutedRecords.set(i);
+            }
+            assertThat(routedRecords, equalTo(expectedRoutedRecords));
         }
 
         @Test
@@ -193,7 +216,7 @@ class DataFlowComponentRouterTest {
 
             final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRecordRoutes(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -221,7 +244,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRecordRoutes(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, Collections.emptyList());
         }
@@ -231,7 +254,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRecordRoutes(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, Collections.emptyList());
         }
@@ -242,7 +265,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> allMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(knownRoute)));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, allMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRecordRoutes(allMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -260,9 +283,14 @@ class DataFlowComponentRouterTest {
                 applyRoute = !applyRoute;
             }
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, someMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            final BitSet routedRecords = createObjectUnderTest().route(recordsIn, dataFlowComponent, toRecordRoutes(someMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, expectedRecords);
+            final BitSet expectedRoutedRecords = new BitSet();
+            for (int i = 1; i < recordsIn.size(); i += 2) {
+                expectedRoutedRecords.set(i);
+            }
+            assertThat(routedRecords, equalTo(expectedRoutedRecords));
         }
 
         @Test
@@ -271,7 +299,7 @@ class DataFlowComponentRouterTest {
 
             final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRecordRoutes(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -19,23 +19,23 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
-import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.anEmptyMap;
-import static org.hamcrest.Matchers.empty;
-import static org.hamcrest.Matchers.hasKey;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -64,52 +64,40 @@ class RouteEventEvaluatorTest {
         }
 
         @Test
-        void evaluateEventRoutes_with_empty_Records_returns_empty_map() {
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
+        void evaluateEventRoutes_with_empty_Records_returns_empty_RecordRoutes() {
+            final RecordRoutes recordRoutes = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
 
-            assertThat(recordsToRoutes, notNullValue());
-            assertThat(recordsToRoutes, is(anEmptyMap()));
+            assertThat(recordRoutes, notNullValue());
+            assertThat(recordRoutes.getRecords().isEmpty(), equalTo(true));
+            assertThat(recordRoutes.getEventRecords().isEmpty(), equalTo(true));
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_all_empty_routes() {
-            final Collection<Record> records = createEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
-
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
+        void evaluateEventRoutes_with_Event_Records_returns_RecordRoutes_with_no_matching_routes() {
+            final List<Record> records = createEventRecords();
+            final RecordRoutes recordRoutes = createObjectUnderTest().evaluateEventRoutes(records);
 
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
-            }
+            assertThat(recordRoutes, notNullValue());
+            assertThat(recordRoutes.getRecords(), equalTo(records));
+            assertThat(recordRoutes.getEventRecords(), equalTo(allRecords(records.size())));
+            assertThat(recordRoutes.getRecordsMatchingAnyRoute(Set.of(UUID.randomUUID().toString())).isEmpty(), equalTo(true));
         }
 
         @Test
-        void evaluateEventRoutes_with_non_Event_Records_returns_map_with_all_empty_routes() {
-            final Collection<Record> records = createNonEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
+        void evaluateEventRoutes_with_non_Event_Records_returns_RecordRoutes_without_events() {
+            final List<Record> records = createNonEventRecords();
+            final RecordRoutes recordRoutes = createObjectUnderTest().evaluateEventRoutes(records);
 
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
-
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
-            }
+            assertThat(recordRoutes, notNullValue());
+            assertThat(recordRoutes.getRecords(), equalTo(records));
+            assertThat(recordRoutes.getEventRecords().isEmpty(), equalTo(true));
         }
     }
 
     @Nested
     @MockitoSettings(strictness = Strictness.LENIENT)
     class WithRoutes {
-        private Set<String> allRouteNames;
+        private List<String> allConditions;
 
         @BeforeEach
         void setUp() {
@@ -119,122 +107,140 @@ class RouteEventEvaluatorTest {
                     .peek(r -> when(r.getName()).thenReturn(UUID.randomUUID().toString()))
                     .collect(Collectors.toList());
 
-            allRouteNames = routes
+            allConditions = routes
                     .stream()
-                    .map(ConditionalRoute::getName)
-                    .collect(Collectors.toSet());
+                    .map(ConditionalRoute::getCondition)
+                    .collect(Collectors.toList());
         }
 
         @Test
-        void evaluateEventRoutes_with_empty_Records_returns_empty_map() {
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
+        void evaluateEventRoutes_with_empty_Records_returns_empty_RecordRoutes() {
+            final RecordRoutes recordRoutes = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
 
-            assertThat(recordsToRoutes, notNullValue());
-            assertThat(recordsToRoutes, is(anEmptyMap()));
+            assertThat(recordRoutes, notNullValue());
+            assertThat(recordRoutes.getRecords().isEmpty(), equalTo(true));
 
             verifyNoInteractions(evaluator);
         }
 
-
         @Test
-        void evaluateEventRoutes_with_non_Event_Records_returns_map_with_all_empty_routes() {
-            final Collection<Record> records = createNonEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
+        void evaluateEventRoutes_with_non_Event_Records_returns_RecordRoutes_with_no_matching_routes() {
+            final List<Record> records = createNonEventRecords();
+            final RecordRoutes recordRoutes = createObjectUnderTest().evaluateEventRoutes(records);
 
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
-
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
+            assertThat(recordRoutes, notNullValue());
+            assertThat(recordRoutes.getRecords(), equalTo(records));
+            assertThat(recordRoutes.getEventRecords().isEmpty(), equalTo(true));
+            for (ConditionalRoute route : routes) {
+                assertThat(recordRoutes.getRecordsMatchingAnyRoute(Set.of(route.getName())).isEmpty(), equalTo(true));
             }
 
             verifyNoInteractions(evaluator);
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_matching_routes() {
+        void evaluateEventRoutes_with_Event_Records_returns_RecordRoutes_with_matching_routes() {
             final List<Record> records = createEventRecords();
+            final List<Event> events = eventsOf(records);
+            when(evaluator.evaluateConditionals(eq(allConditions), eq(events), any(BiConsumer.class)))
+                    .thenReturn(matchingOnly(1, allConditions.size()));
 
-            final Record recordMatchingAllRoutes = records.get(1);
-            final Event eventMatchingAllRoutes = (Event) records.get(1).getData();
-            for (ConditionalRoute route : routes) {
-                when(evaluator.evaluateConditional(route.getCondition(), eventMatchingAllRoutes))
-                        .thenReturn(true);
-
-                for (Record record : records) {
-                    if(recordMatchingAllRoutes == record)
-                        continue;
+            final RecordRoutes recordRoutes = createObjectUnderTest().evaluateEventRoutes(records);
 
-                    when(evaluator.evaluate(route.getCondition(), (Event) record.getData()))
-                            .thenReturn(false);
-                }
-            }
-
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
-
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
+            assertThat(recordRoutes, notNullValue());
+            assertThat(recordRoutes.getRecords(), equalTo(records));
+            assertThat(recordRoutes.getEventRecords(), equalTo(allRecords(records.size())));
+            for (ConditionalRoute route : routes) {
+                assertThat(recordRoutes.getRecordsMatchingAnyRoute(Set.of(route.getName())), equalTo(bits(1)));
             }
+        }
 
-            final Set<String> actualRoutes = recordsToRoutes.get(recordMatchingAllRoutes);
-            assertThat(actualRoutes.size(), equalTo(routes.size()));
-            assertThat(actualRoutes, equalTo(allRouteNames));
+        @Test
+        void evaluateEventRoutes_with_Event_Records_returns_RecordRoutes_with_matching_routes_excludes_exceptions() {
+            final List<Record> records = createEventRecords();
+            final List<Event> events = eventsOf(records);
+            doAnswer(invocation -> {
+                final BiConsumer<String, Exception> failureHandler = invocation.getArgument(2);
+                for (String condition : allConditions) {
+                    failureHandler.accept(condition, new RuntimeException());
+                }
+                return matchingOnly(1, allConditions.size());
+            }).when(evaluator).evaluateConditionals(eq(allConditions), eq(events), any(BiConsumer.class));
 
-            for (Map.Entry<Record, Set<String>> recordSetEntry : recordsToRoutes.entrySet()) {
-                if(recordSetEntry.getKey() == recordMatchingAllRoutes)
-                    continue;
+            final RecordRoutes recordRoutes = createObjectUnderTest().evaluateEventRoutes(records);
 
-                assertThat(recordSetEntry.getValue(), is(empty()));
+            for (ConditionalRoute route : routes) {
+                assertThat(recordRoutes.getRecordsMatchingAnyRoute(Set.of(route.getName())), equalTo(bits(1)));
             }
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_matching_routes_excludes_exceptions() {
+        void evaluateEventRoutes_evaluates_a_condition_shared_by_routes_once() {
+            final ConditionalRoute routeWithSameCondition = mock(ConditionalRoute.class);
+            when(routeWithSameCondition.getCondition()).thenReturn(allConditions.get(0));
+            when(routeWithSameCondition.getName()).thenReturn(UUID.randomUUID().toString());
+            routes = new ArrayList<>(routes);
+            routes.add(routeWithSameCondition);
+
             final List<Record> records = createEventRecords();
+            final List<BitSet> conditionMatches = List.of(bits(0), bits(1), bits(2));
+            when(evaluator.evaluateConditionals(eq(allConditions), eq(eventsOf(records)), any(BiConsumer.class)))
+                    .thenReturn(conditionMatches);
+
+            final RecordRoutes recordRoutes = createObjectUnderTest().evaluateEventRoutes(records);
+
+            assertThat(recordRoutes.getRecordsMatchingAnyRoute(Set.of(routes.get(0).getName())), equalTo(bits(0)));
+            assertThat(recordRoutes.getRecordsMatchingAnyRoute(Set.of(routes.get(1).getName())), equalTo(bits(1)));
+            assertThat(recordRoutes.getRecordsMatchingAnyRoute(Set.of(routes.get(2).getName())), equalTo(bits(2)));
+            assertThat(recordRoutes.getRecordsMatchingAnyRoute(Set.of(routeWithSameCondition.getName())), equalTo(bits(0)));
+            assertThat(recordRoutes.getRecordsMatchingAnyRoute(Set.of(routes.get(1).getName(), routes.get(2).getName())),
+                    equalTo(bits(1, 2)));
+        }
 
-            final Record recordMatchingAllRoutes = records.get(1);
-            final Event eventMatchingAllRoutes = (Event) records.get(1).getData();
-            for (ConditionalRoute route : routes) {
-                when(evaluator.evaluateConditional(route.getCondition(), eventMatchingAllRoutes))
-                        .thenReturn(true);
+        @Test
+        void evaluateEventRoutes_with_mixed_Records_returns_matches_at_the_positions_of_the_Event_Records() {
+            final List<Record> records = new ArrayList<>();
+            records.addAll(createNonEventRecords());
+            records.addAll(createEventRecords());
+            final List<Event> events = eventsOf(records);
+            when(evaluator.evaluateConditionals(eq(allConditions), eq(events), any(BiConsumer.class)))
+                    .thenReturn(matchingOnly(1, allConditions.size()));
 
-                for (Record record : records) {
-                    if(recordMatchingAllRoutes == record)
-                        continue;
+            final RecordRoutes recordRoutes = createObjectUnderTest().evaluateEventRoutes(records);
 
-                    when(evaluator.evaluateConditional(route.getCondition(), (Event) record.getData()))
-                            .thenThrow(RuntimeException.class);
-                }
+            assertThat(recordRoutes.getEventRecords(), equalTo(bits(3, 4, 5)));
+            for (ConditionalRoute route : routes) {
+                assertThat(recordRoutes.getRecordsMatchingAnyRoute(Set.of(route.getName())), equalTo(bits(4)));
             }
+        }
+    }
 
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
-
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
+    private static List<Event> eventsOf(final List<Record> records) {
+        return records.stream()
+                .map(Record::getData)
+                .filter(data -> data instanceof Event)
+                .map(data -> (Event) data)
+                .collect(Collectors.toList());
+    }
 
-            final Set<String> actualRoutes = recordsToRoutes.get(recordMatchingAllRoutes);
-            assertThat(actualRoutes.size(), equalTo(routes.size()));
-            assertThat(actualRoutes, equalTo(allRouteNames));
+    private static List<BitSet> matchingOnly(final int index, final int conditionCount) {
+        return IntStream.range(0, conditionCount)
+                .mapToObj(i -> bits(index))
+                .collect(Collectors.toList());
+    }
 
-            for (Map.Entry<Record, Set<String>> recordSetEntry : recordsToRoutes.entrySet()) {
-                if(recordSetEntry.getKey() == recordMatchingAllRoutes)
-                    continue;
+    private static BitSet allRecords(final int size) {
+        final BitSet bitSet = new BitSet();
+        bitSet.set(0, size);
+        return bitSet;
+    }
 
-                assertThat(recordSetEntry.getValue(), is(empty()));
-            }
+    private static BitSet bits(final int... indexes) {
+        final BitSet bitSet = new BitSet();
+        for (int index : indexes) {
+            bitSet.set(index);
         }
-
+        return bitSet;
     }
 
     private List<Record> createEventRecords() {
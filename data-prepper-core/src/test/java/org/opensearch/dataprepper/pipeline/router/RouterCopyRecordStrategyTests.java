@@ -34,6 +34,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.ArgumentMatchers.any;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -44,7 +45,9 @@ import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.event.EventFactory;
 import org.opensearch.dataprepper.model.event.DefaultEventHandle;
 import org.opensearch.dataprepper.model.event.EventBuilder;
-import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 
@@ -247,11 +250,6 @@ public class RouterCopyRecordStrategyTests {
             }).when(acknowledgementSet1).add(any(JacksonEvent.class));
         } catch (Exception e){}
 
-        eventBuilder = mock(EventBuilder.class);
-        when(eventBuilder.withEventMetadata(any(EventMetadata.class))).thenReturn(eventBuilder);
-        when(eventBuilder.withData(any(Map.class))).thenReturn(eventBuilder);
-        when(eventBuilder.build()).thenReturn(JacksonEvent.fromEvent(event));
-        when(eventFactory.eventBuilder(EventBuilder.class)).thenReturn(eventBuilder);
         Record firstRecord = recordsIn.iterator().next();
         DefaultEventHandle firstHandle = (DefaultEventHandle)((Event)firstRecord.getData()).getEventHandle();
         Record recordOut = getRecordStrategy.getRecord(firstRecord);
@@ -266,6 +264,67 @@ public class RouterCopyRecordStrategyTests {
         assertFalse(handleRefCount.containsKey(newHandle));
     }
 
+    @Test
+    void test_copied_records_share_data_until_modified() {
+        Collection<DataFlowComponent<PipelineConnector>> dataFlowComponents = new ArrayList<>();
+        when(pipelineDataFlowComponent.getComponent()).thenReturn(new PipelineConnector());
+        for (int i = 0; i < 3; i++) {
+            dataFlowComponents.add(pipelineDataFlowComponent);
+        }
+
+        final RouterCopyRecordStrategy getRecordStrategy = createObjectUnderTest(dataFlowComponents);
+        final Record<Event> firstRecord = recordsIn.iterator().next();
+        final Event originalEvent = firstRecord.getData();
+        assertThat(getRecordStrategy.getRecord(firstRecord), sameInstance(firstRecord));
+        final Event copiedEvent = (Event) getRecordStrategy.getRecord(firstRecord).getData();
+
+        assertThat(copiedEvent, not(sameInstance(originalEvent)));
+        assertThat(copiedEvent.getJsonNode(), sameInstance(originalEvent.getJsonNode()));
+        assertThat(copiedEvent.getEventHandle(), not(sameInstance(originalEvent.getEventHandle())));
+
+        final String key = UUID.randomUUID().toString();
+        copiedEvent.put(key, UUID.randomUUID().toString());
+
+        assertTrue(copiedEvent.containsKey(key));
+        assertFalse(originalEvent.containsKey(key));
+        assertThat(copiedEvent.getJsonNode(), not(sameInstance(originalEvent.getJsonNode())));
+    }
+
+    @Test
+    void test_copied_span_records_share_data_until_modified() {
+        Collection<DataFlowComponent<PipelineConnector>> dataFlowComponents = new ArrayList<>();
+        when(pipelineDataFlowComponent.getComponent()).thenReturn(new PipelineConnector());
+        for (int i = 0; i < 2; i++) {
+            dataFlowComponents.add(pipelineDataFlowComponent);
+        }
+
+        final RouterCopyRecordStrategy getRecordStrategy = createObjectUnderTest(dataFlowComponents);
+        final JacksonSpan span = JacksonSpan.builder()
+                .withSpanId(UUID.randomUUID().toString())
+                .withTraceId(UUID.randomUUID().toString())
+                .withParentSpanId("")
+                .withName(UUID.randomUUID().toString())
+                .withKind("SPAN_KIND_SERVER")
+                .withStartTime("2024-01-01T00:00:00Z")
+                .withEndTime("2024-01-01T00:00:01Z")
+                .withTraceGroup(null)
+                .withDurationInNanos(1_000_000_000L)
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().build())
+                .build();
+        final Record<Span> spanRecord = new Record<>(span);
+        assertThat(getRecordStrategy.getRecord(spanRecord), sameInstance(spanRecord));
+        final Object copiedSpan = getRecordStrategy.getRecord(spanRecord).getData();
+
+        assertThat(copiedSpan, instanceOf(JacksonSpan.class));
+        assertThat(copiedSpan, not(sameInstance(span)));
+        assertThat(((JacksonSpan) copiedSpan).getJsonNode(), sameInstance(span.getJsonNode()));
+
+        ((JacksonSpan) copiedSpan).setTraceGroup("copied-trace-group");
+
+        assertThat(((JacksonSpan) copiedSpan).getTraceGroup(), equalTo("copied-trace-group"));
+        assertThat(span.getTraceGroup(), equalTo(null));
+    }
+
     @Test
     void test_multiple_records_with_acknowledgements_and_multi_components() {
         Collection<DataFlowComponent<PipelineConnector>> dataFlowComponents = new ArrayList<>();
@@ -285,11 +344,6 @@ public class RouterCopyRecordStrategyTests {
             }).when(acknowledgementSet1).add(any(JacksonEvent.class));
         } catch (Exception e){}
 
-        eventBuilder = mock(EventBuilder.class);
-        when(eventBuilder.withEventMetadata(any(EventMetadata.class))).thenReturn(eventBuilder);
-        when(eventBuilder.withData(any(Map.class))).thenReturn(eventBuilder);
-        when(eventBuilder.build()).thenReturn(JacksonEvent.fromEvent(event));
-        when(eventFactory.eventBuilder(EventBuilder.class)).thenReturn(eventBuilder);
         Collection<Record> recordsOut = getRecordStrategy.getAllRecords(recordsIn);
         assertThat(recordsOut.size(), equalTo(recordsIn.size()));
 
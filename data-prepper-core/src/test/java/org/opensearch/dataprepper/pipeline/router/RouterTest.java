@@ -10,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.parser.DataFlowComponent;
@@ -17,6 +18,7 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -26,11 +28,13 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.function.BiConsumer;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -113,17 +117,17 @@ class RouterTest {
     @Nested
     class WithEmptyRecords {
 
-        private Map<Record, Set<String>> recordsToRoutes;
+        private RecordRoutes recordRoutes;
 
         @BeforeEach
         void setUp() {
             recordsIn = Collections.emptyList();
             dataFlowComponents = Collections.emptyList();
 
-            recordsToRoutes = Collections.singletonMap(
-                    mock(Record.class), Collections.singleton(UUID.randomUUID().toString())
-            );
-            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+            recordRoutes = new RecordRoutes(Collections.emptyList(), new BitSet(), Collections.emptyMap());
+            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordRoutes);
+            lenient().when(dataFlowComponentRouter.route(eq(recordsIn), any(DataFlowComponent.class), eq(recordRoutes), eq(getRecordStrategy), any(BiConsumer.class)))
+                    .thenReturn(new BitSet());
         }
 
         @Test
@@ -138,7 +142,7 @@ class RouterTest {
 
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
-            verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(recordsToRoutes), eq(getRecordStrategy), any(BiConsumer.class));
+            verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(recordRoutes), eq(getRecordStrategy), any(BiConsumer.class));
         }
 
         @Test
@@ -153,7 +157,7 @@ class RouterTest {
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
             for (DataFlowComponent<TestComponent> dataFlowComponent : dataFlowComponents) {
-                verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(recordsToRoutes), eq(getRecordStrategy), any(BiConsumer.class));
+                verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(recordRoutes), eq(getRecordStrategy), any(BiConsumer.class));
             }
         }
     }
@@ -171,15 +175,15 @@ class RouterTest {
             Record record3 = mock(Record.class);
             Record record4 = mock(Record.class);
             when(record3.getData()).thenReturn(event3);
-            Object notAnEvent = mock(Object.class);
-            when(record4.getData()).thenReturn(notAnEvent);
             List<Record> recordsIn = List.of(record1, record2, record3, record4);
-            Map<Record, Set<String>> recordsToRoutes = new HashMap<>();
-            recordsToRoutes.put(record1, Set.of(UUID.randomUUID().toString()));
-            recordsToRoutes.put(record2, Set.of(UUID.randomUUID().toString()));
-            recordsToRoutes.put(record3, Set.of());
-            recordsToRoutes.put(record4, Set.of());
-            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+            final BitSet eventRecords = new BitSet();
+            eventRecords.set(0, 3);
+            final RecordRoutes recordRoutes = new RecordRoutes(recordsIn, eventRecords, Map.of(
+                    UUID.randomUUID().toString(), BitSet.valueOf(new long[] {0b01}),
+                    UUID.randomUUID().toString(), BitSet.valueOf(new long[] {0b10})));
+            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordRoutes);
+            when(dataFlowComponentRouter.route(eq(recordsIn), any(DataFlowComponent.class), eq(recordRoutes), eq(getRecordStrategy), any(BiConsumer.class)))
+                    .thenReturn(BitSet.valueOf(new long[] {0b01}), BitSet.valueOf(new long[] {0b10}), new BitSet());
             dataFlowComponents = new ArrayList<>();
             for (int i = 0; i < 5; i++) {
                 final DataFlowComponent dataFlowComponent = mock(DataFlowComponent.class);
@@ -189,11 +193,11 @@ class RouterTest {
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
             for (DataFlowComponent<TestComponent> dataFlowComponent : dataFlowComponents) {
-                verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(recordsToRoutes), eq(getRecordStrategy), any(BiConsumer.class));
+                verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(recordRoutes), eq(getRecordStrategy), any(BiConsumer.class));
             }
             // Verify noRouteHandler gets invoked only for record3 and not
             // for record4, because record4 has non-Event type data
-            verify(noRouteHandler, times(1)).accept(any());
+            verify(noRouteHandler, times(1)).accept(event3);
         }
 
         @Test
@@ -208,12 +212,12 @@ class RouterTest {
             Record record4 = mock(Record.class);
             Object notAnEvent = mock(Object.class);
             List<Record> recordsIn = List.of(record1, record2, record3, record4);
-            Map<Record, Set<String>> recordsToRoutes = new HashMap<>();
-            recordsToRoutes.put(record1, Set.of(UUID.randomUUID().toString()));
-            recordsToRoutes.put(record2, Set.of(UUID.randomUUID().toString()));
-            recordsToRoutes.put(record3, Set.of());
-            recordsToRoutes.put(record4, Set.of());
-            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+            final BitSet eventRecords = new BitSet();
+            eventRecords.set(0, 3);
+            final RecordRoutes recordRoutes = new RecordRoutes(recordsIn, eventRecords, Map.of(
+                    UUID.randomUUID().toString(), BitSet.valueOf(new long[] {0b01}),
+                    UUID.randomUUID().toString(), BitSet.valueOf(new long[] {0b10})));
+            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordRoutes);
             dataFlowComponents = new ArrayList<>();
             for (int i = 0; i < 5; i++) {
                 final DataFlowComponent dataFlowComponent = mock(DataFlowComponent.class);
@@ -232,7 +236,7 @@ class RouterTest {
     @Nested
     class WithRecords {
 
-        private Map<Record, Set<String>> recordsToRoutes;
+        private RecordRoutes recordRoutes;
 
         @BeforeEach
         void setUp() {
@@ -242,10 +246,16 @@ class RouterTest {
             ;
             dataFlowComponents = Collections.emptyList();
 
-            recordsToRoutes = recordsIn
-                    .stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
-            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+            final Map<String, BitSet> routeMatches = new HashMap<>();
+            for (int i = 0; i < recordsIn.size(); i++) {
+                final BitSet matches = new BitSet();
+                matches.set(i);
+                routeMatches.put(UUID.randomUUID().toString(), matches);
+            }
+            recordRoutes = new RecordRoutes((List<Record>) recordsIn, new BitSet(), routeMatches);
+            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordRoutes);
+            lenient().when(dataFlowComponentRouter.route(eq(recordsIn), any(DataFlowComponent.class), eq(recordRoutes), eq(getRecordStrategy), any(BiConsumer.class)))
+                    .thenReturn(new BitSet());
         }
 
         @Test
@@ -255,7 +265,7 @@ class RouterTest {
 
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
-            verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(recordsToRoutes), eq(getRecordStrategy), any(BiConsumer.class));
+            verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(recordRoutes), eq(getRecordStrategy), any(BiConsumer.class));
         }
 
         @Test
@@ -270,7 +280,7 @@ class RouterTest {
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
             for (DataFlowComponent<TestComponent> dataFlowComponent : dataFlowComponents) {
-                verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(recordsToRoutes), eq(getRecordStrategy), any(BiConsumer.class));
+                verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(recordRoutes), eq(getRecordStrategy), any(BiConsumer.class));
             }
         }
 
@@ -283,7 +293,28 @@ class RouterTest {
                 dataFlowComponents.add(dataFlowComponent);
             }
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
-            verify(dataFlowComponentRouter, times(5)).route(eq(recordsIn), eq(dataFlowComponent), eq(recordsToRoutes), eq(getRecordStrategy), any(BiConsumer.class));
+            verify(dataFlowComponentRouter, times(5)).route(eq(recordsIn), eq(dataFlowComponent), eq(recordRoutes), eq(getRecordStrategy), any(BiConsumer.class));
+        }
+
+        @Test
+        void route_gives_records_to_components_only_after_routing_every_component() {
+            dataFlowComponents = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                final DataFlowComponent<TestComponent> dataFlowComponent = mock(DataFlowComponent.class);
+                dataFlowComponents.add(dataFlowComponent);
+            }
+            final TestComponent component = new TestComponent();
+            doAnswer(invocation -> {
+                final BiConsumer<TestComponent, Collection<Record>> consumer = invocation.getArgument(4);
+                consumer.accept(component, recordsIn);
+                return new BitSet();
+            }).when(dataFlowComponentRouter).route(eq(recordsIn), any(DataFlowComponent.class), eq(recordRoutes), eq(getRecordStrategy), any(BiConsumer.class));
+
+            createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
+
+            final InOrder inOrder = inOrder(dataFlowComponentRouter, componentRecordsConsumer);
+            inOrder.verify(dataFlowComponentRouter, times(3)).route(eq(recordsIn), any(DataFlowComponent.class), eq(recordRoutes), eq(getRecordStrategy), any(BiConsumer.class));
+            inOrder.verify(componentRecordsConsumer, times(3)).accept(component, recordsIn);
         }
     }
 }
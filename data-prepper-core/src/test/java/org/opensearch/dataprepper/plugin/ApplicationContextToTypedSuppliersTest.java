@@ -12,6 +12,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
 import org.opensearch.dataprepper.model.breaker.CircuitBreaker;
 import org.opensearch.dataprepper.model.event.EventFactory;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 
 import java.util.Map;
 import java.util.function.Supplier;
@@ -28,6 +29,9 @@ class ApplicationContextToTypedSuppliersTest {
     @Mock
     private EventFactory eventFactory;
 
+    @Mock
+    private EventKeyFactory eventKeyFactory;
+
     @Mock
     private AcknowledgementSetManager acknowledgementSetManager;
 
@@ -37,6 +41,7 @@ class ApplicationContextToTypedSuppliersTest {
     private ApplicationContextToTypedSuppliers createObjectUnderTest() {
         return new ApplicationContextToTypedSuppliers(
                 eventFactory,
+                eventKeyFactory,
                 acknowledgementSetManager,
                 circuitBreaker
         );
@@ -48,6 +53,12 @@ class ApplicationContextToTypedSuppliersTest {
         assertThrows(NullPointerException.class, this::createObjectUnderTest);
     }
 
+    @Test
+    void constructor_throws_with_null_EventKeyFactory() {
+        eventKeyFactory = null;
+        assertThrows(NullPointerException.class, this::createObjectUnderTest);
+    }
+
     @Test
     void constructor_throws_with_null_AcknowledgementSetManager() {
         acknowledgementSetManager = null;
@@ -58,12 +69,16 @@ class ApplicationContextToTypedSuppliersTest {
     void getArgumentsSuppliers_returns_map_with_expected_classes() {
         final Map<Class<?>, Supplier<Object>> argumentsSuppliers = createObjectUnderTest().getArgumentsSuppliers();
 
-        assertThat(argumentsSuppliers.size(), equalTo(3));
+        assertThat(argumentsSuppliers.size(), equalTo(4));
 
         assertThat(argumentsSuppliers, hasKey(EventFactory.class));
         assertThat(argumentsSuppliers.get(EventFactory.class), notNullValue());
         assertThat(argumentsSuppliers.get(EventFactory.class).get(), equalTo(eventFactory));
 
+        assertThat(argumentsSuppliers, hasKey(EventKeyFactory.class));
+        assertThat(argumentsSuppliers.get(EventKeyFactory.class), notNullValue());
+        assertThat(argumentsSuppliers.get(EventKeyFactory.class).get(), equalTo(eventKeyFactory));
+
         assertThat(argumentsSuppliers, hasKey(AcknowledgementSetManager.class));
         assertThat(argumentsSuppliers.get(AcknowledgementSetManager.class), notNullValue());
         assertThat(argumentsSuppliers.get(AcknowledgementSetManager.class).get(), equalTo(acknowledgementSetManager));
@@ -79,12 +94,16 @@ class ApplicationContextToTypedSuppliersTest {
 
         final Map<Class<?>, Supplier<Object>> argumentsSuppliers = createObjectUnderTest().getArgumentsSuppliers();
 
-        assertThat(argumentsSuppliers.size(), equalTo(3));
+        assertThat(argumentsSuppliers.size(), equalTo(4));
 
         assertThat(argumentsSuppliers, hasKey(EventFactory.class));
         assertThat(argumentsSuppliers.get(EventFactory.class), notNullValue());
         assertThat(argumentsSuppliers.get(EventFactory.class).get(), equalTo(eventFactory));
 
+        assertThat(argumentsSuppliers, hasKey(EventKeyFactory.class));
+        assertThat(argumentsSuppliers.get(EventKeyFactory.class), notNullValue());
+        assertThat(argumentsSuppliers.get(EventKeyFactory.class).get(), equalTo(eventKeyFactory));
+
         assertThat(argumentsSuppliers, hasKey(AcknowledgementSetManager.class));
         assertThat(argumentsSuppliers.get(AcknowledgementSetManager.class), notNullValue());
         assertThat(argumentsSuppliers.get(AcknowledgementSetManager.class).get(), equalTo(acknowledgementSetManager));
@@ -28,6 +28,7 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.opensearch.dataprepper.event.DefaultEventFactory;
+import org.opensearch.dataprepper.event.DefaultEventKeyFactory;
 import org.opensearch.dataprepper.acknowledgements.DefaultAcknowledgementSetManager;
 
 /**
@@ -57,6 +58,7 @@ class DefaultPluginFactoryIT {
 
     private DefaultPluginFactory createObjectUnderTest() {
         final AnnotationConfigApplicationContext publicContext = new AnnotationConfigApplicationContext();
+        publicContext.register(DefaultEventKeyFactory.class);
         publicContext.refresh();
 
         final AnnotationConfigApplicationContext coreContext = new AnnotationConfigApplicationContext();
@@ -16,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.acknowledgements.DefaultAcknowledgementSetManager;
 import org.opensearch.dataprepper.breaker.CircuitBreakerManager;
 import org.opensearch.dataprepper.event.DefaultEventFactory;
+import org.opensearch.dataprepper.event.DefaultEventKeyFactory;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.EventFactory;
@@ -74,6 +75,7 @@ public class ExtensionsIT {
         pluginName = "test_plugin_using_extension";
         pipelineName = UUID.randomUUID().toString();
         publicContext = new AnnotationConfigApplicationContext();
+        publicContext.register(DefaultEventKeyFactory.class);
         publicContext.refresh();
 
         coreContext = new AnnotationConfigApplicationContext();
@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.parser;
+
+import java.util.Collection;
+
+/**
+ * Test fixture exposing the package-protected {@link DataFlowComponent} constructor to tests and benchmarks
+ * outside of data-prepper-core.
+ */
+public final class DataFlowComponents {
+    private DataFlowComponents() {
+    }
+
+    public static <T> DataFlowComponent<T> create(final T component, final Collection<String> routes) {
+        return new DataFlowComponent<>(component, routes);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * @since 2.7
+ * Conditional statements which were compiled together with {@link SharedExpressions}. The statements are evaluated
+ * against one event after the other, and the shared sub-expressions are evaluated at most once per event.
+ */
+class CompiledConditionals {
+    private final List<String> statements;
+    private final CompiledExpression[] expressions;
+    private final Exception[] compileFailures;
+    private final int sharedExpressionCount;
+
+    /**
+     * @param statements the statements
+     * @param expressions the compiled expression of each statement, or null for the statements which failed to compile
+     * @param compileFailures the failure of each statement which failed to compile, or null for the others
+     * @param sharedExpressionCount the number of {@link SharedExpression}s used by the statements
+     */
+    CompiledConditionals(final List<String> statements, final CompiledExpression[] expressions,
+                         final Exception[] compileFailures, final int sharedExpressionCount) {
+        this.statements = statements;
+        this.expressions = expressions;
+        this.compileFailures = compileFailures;
+        this.sharedExpressionCount = sharedExpressionCount;
+    }
+
+    /**
+     * @see ExpressionEvaluator#evaluateConditionals(List, List, BiConsumer)
+     */
+    List<BitSet> evaluate(final List<Event> events, final BiConsumer<String, Exception> failureHandler) {
+        final BitSet[] matches = new BitSet[expressions.length];
+        for (int i = 0; i < expressions.length; i++) {
+            matches[i] = new BitSet(events.size());
+        }
+
+        final Object[] sharedValues = new Object[sharedExpressionCount];
+        for (int eventIndex = 0; eventIndex < events.size(); eventIndex++) {
+            final Event event = events.get(eventIndex);
+            Arrays.fill(sharedValues, SharedExpression.NOT_EVALUATED);
+            for (int i = 0; i < expressions.length; i++) {
+                if (evaluateConditional(i, event, sharedValues, failureHandler)) {
+                    matches[i].set(eventIndex);
+                }
+            }
+        }
+        return Arrays.asList(matches);
+    }
+
+    private boolean evaluateConditional(final int statementIndex, final Event event, final Object[] sharedValues,
+                                        final BiConsumer<String, Exception> failureHandler) {
+        final String statement = statements.get(statementIndex);
+        if (compileFailures[statementIndex] != null) {
+            reportEvaluationFailure(statement, compileFailures[statementIndex], failureHandler);
+            return false;
+        }
+        final Object result;
+        try {
+            result = expressions[statementIndex].evaluate(event, sharedValues);
+        } catch (final Exception e) {
+            reportEvaluationFailure(statement, e, failureHandler);
+            return false;
+        }
+        if (result instanceof Boolean) {
+            return (Boolean) result;
+        }
+        failureHandler.accept(statement, new ClassCastException("Unexpected expression return type of " +
+                (result == null ? null : result.getClass())));
+        return false;
+    }
+
+    private static void reportEvaluationFailure(final String statement, final Exception cause,
+                                                final BiConsumer<String, Exception> failureHandler) {
+        failureHandler.accept(statement,
+                new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", cause));
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.7
+ * An expression statement which has been parsed and compiled by {@link ParseTreeCompiler}. Implementations are
+ * immutable and may be evaluated concurrently against any number of events without touching the parse tree.
+ */
+interface CompiledExpression {
+    /**
+     * Evaluates the expression against an event.
+     *
+     * @param event event used to resolve external references in the expression
+     * @return result of the evaluation
+     */
+    Object evaluate(final Event event);
+
+    /**
+     * Evaluates the expression against an event, reusing the values of the {@link SharedExpression}s which were
+     * already evaluated for the event.
+     *
+     * @param event event used to resolve external references in the expression
+     * @param sharedValues values of the shared sub-expressions for the event, indexed by
+     *                     {@link SharedExpression#getIndex()}, or null when no values are shared
+     * @return result of the evaluation
+     */
+    default Object evaluate(final Event event, final Object[] sharedValues) {
+        return evaluate(event);
+    }
+
+    /**
+     * @return true if the expression does not depend on the event and always evaluates to the same value
+     */
+    default boolean isConstant() {
+        return false;
+    }
+}
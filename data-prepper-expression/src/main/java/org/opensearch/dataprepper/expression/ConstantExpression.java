@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.7
+ * A {@link CompiledExpression} for a literal or for an operation whose operands were all literals and which was
+ * folded when the expression was compiled.
+ */
+class ConstantExpression implements CompiledExpression {
+    private final Object value;
+
+    ConstantExpression(final Object value) {
+        this.value = value;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        return value;
+    }
+
+    @Override
+    public boolean isConstant() {
+        return true;
+    }
+}
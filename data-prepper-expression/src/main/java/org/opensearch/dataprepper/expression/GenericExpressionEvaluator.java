@@ -5,26 +5,43 @@
 
 package org.opensearch.dataprepper.expression;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 
 import javax.inject.Inject;
 import javax.inject.Named;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.BiConsumer;
 
 /**
  * Public class that {@link org.opensearch.dataprepper.model.processor.Processor},
  * {@link org.opensearch.dataprepper.model.sink.Sink} and data-prepper-core objects can use to evaluate statements.
+ * Each statement is parsed and compiled once and the {@link CompiledExpression} is shared by all threads. At most
+ * {@link #MAXIMUM_CACHED_STATEMENTS} compiled statements, and as many compiled lists of conditionals, are kept, so
+ * that statements built from event data do not grow the caches without bound. Conditional
+ * statements evaluated together are compiled together once, sharing their common sub-expressions.
  */
 @Named
 class GenericExpressionEvaluator implements ExpressionEvaluator {
+    static final int MAXIMUM_CACHED_STATEMENTS = 1000;
+
     private final Parser<ParseTree> parser;
-    private final Evaluator<ParseTree, Event> evaluator;
+    private final ParseTreeCompiler compiler;
+    private final Cache<String, CompiledExpression> compiledExpressions = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_CACHED_STATEMENTS)
+            .build();
+    private final Cache<List<String>, CompiledConditionals> compiledConditionals = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_CACHED_STATEMENTS)
+            .build();
 
     @Inject
-    public GenericExpressionEvaluator(final Parser<ParseTree> parser, final Evaluator<ParseTree, Event> evaluator) {
+    public GenericExpressionEvaluator(final Parser<ParseTree> parser, final ParseTreeCompiler compiler) {
         this.parser = parser;
-        this.evaluator = evaluator;
+        this.compiler = compiler;
     }
 
     /**
@@ -35,14 +52,56 @@ class GenericExpressionEvaluator implements ExpressionEvaluator {
     @Override
     public Object evaluate(final String statement, final Event context) {
         try {
-            final ParseTree parseTree = parser.parse(statement);
-            return evaluator.evaluate(parseTree, context);
+            return getCompiledExpression(statement).evaluate(context);
         }
         catch (final Exception exception) {
             throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
         }
     }
 
+    private CompiledExpression getCompiledExpression(final String statement) {
+        final CompiledExpression cachedExpression = compiledExpressions.getIfPresent(statement);
+        if (cachedExpression != null) {
+            return cachedExpression;
+        }
+        // Failures are not cached so that invalid statements keep failing the same way on every evaluation
+        final CompiledExpression compiledExpression = compiler.compile(parser.parse(statement));
+        compiledExpressions.put(statement, compiledExpression);
+        return compiledExpression;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each event is read once for all the statements: a key or an operation which appears in several statements is
+     * evaluated once per event.
+     */
+    @Override
+    public List<BitSet> evaluateConditionals(final List<String> statements, final List<Event> events,
+                                             final BiConsumer<String, Exception> failureHandler) {
+        CompiledConditionals conditionals = compiledConditionals.getIfPresent(statements);
+        if (conditionals == null) {
+            final List<String> cachedStatements = List.copyOf(statements);
+            conditionals = compileConditionals(cachedStatements);
+            compiledConditionals.put(cachedStatements, conditionals);
+        }
+        return conditionals.evaluate(events, failureHandler);
+    }
+
+    private CompiledConditionals compileConditionals(final List<String> statements) {
+        final SharedExpressions sharedExpressions = new SharedExpressions();
+        final CompiledExpression[] expressions = new CompiledExpression[statements.size()];
+        final Exception[] compileFailures = new Exception[statements.size()];
+        for (int i = 0; i < statements.size(); i++) {
+            try {
+                expressions[i] = compiler.compile(parser.parse(statements.get(i)), sharedExpressions);
+            } catch (final Exception exception) {
+                compileFailures[i] = exception;
+            }
+        }
+        return new CompiledConditionals(statements, expressions, compileFailures, sharedExpressions.size());
+    }
+
     @Override
     public Boolean isValidExpressionStatement(final String statement) {
         try {
@@ -9,6 +9,7 @@ import org.antlr.v4.runtime.RuleContext;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 
 import java.util.function.BiPredicate;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -17,11 +18,19 @@ class GenericRegexMatchOperator implements Operator<Boolean> {
     private final int symbol;
     private final String displayName;
     private final BiPredicate<Object, Object> operation;
+    private final BiPredicate<String, Pattern> patternOperation;
 
-    public GenericRegexMatchOperator(final int symbol, BiPredicate<Object, Object> operation) {
+    /**
+     * @param symbol operator symbol
+     * @param operation operation on a string value and a regex string
+     * @param patternOperation the same operation on a string value and a pre-compiled {@link Pattern}
+     */
+    public GenericRegexMatchOperator(final int symbol, final BiPredicate<Object, Object> operation,
+                                     final BiPredicate<String, Pattern> patternOperation) {
         this.symbol = symbol;
         displayName = DataPrepperExpressionParser.VOCABULARY.getDisplayName(symbol);
         this.operation = operation;
+        this.patternOperation = patternOperation;
     }
 
     @Override
@@ -45,4 +54,16 @@ class GenericRegexMatchOperator implements Operator<Boolean> {
             throw new IllegalArgumentException(e);
         }
     }
+
+    /**
+     * @since 2.7
+     * Evaluates the operator with a right operand which was compiled ahead of time.
+     * @param leftOperand left operand
+     * @param pattern the compiled right operand
+     * @return result of the operation
+     */
+    Boolean evaluate(final Object leftOperand, final Pattern pattern) {
+        checkArgument(leftOperand instanceof String, displayName + " requires left operand to be String.");
+        return patternOperation.test((String) leftOperand, pattern);
+    }
 }
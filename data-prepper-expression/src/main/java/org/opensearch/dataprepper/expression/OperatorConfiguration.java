@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.expression;
 
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.springframework.context.annotation.Bean;
 
 import javax.inject.Named;
@@ -16,10 +17,18 @@ import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 @Named
 class OperatorConfiguration {
-    public final BiPredicate<Object, Object> regexEquals = (x, y) -> ((String) x).matches((String) y);
+    private static final String REGEX_PATTERN_CACHE_COMPONENT_ID = "regexPatternCache";
+    private static final String REGEX_PATTERN_CACHE_COMPONENT_SCOPE = "expression";
+
+    private final RegexPatternCache regexPatternCache = new RegexPatternCache(RegexPatternCache.DEFAULT_MAXIMUM_SIZE,
+            PluginMetrics.fromNames(REGEX_PATTERN_CACHE_COMPONENT_ID, REGEX_PATTERN_CACHE_COMPONENT_SCOPE));
+    public final BiPredicate<Object, Object> regexEquals =
+            (x, y) -> regexPatternCache.getPattern((String) y).matcher((String) x).matches();
+    public final BiPredicate<String, Pattern> patternMatches = (x, pattern) -> pattern.matcher(x).matches();
     public final BiPredicate<Object, Object> equals = Objects::equals;
     public final BiPredicate<Object, Object> inSet = (x, y) -> ((Set<?>) y).contains(x);
 
@@ -201,12 +210,13 @@ class OperatorConfiguration {
 
     @Bean
     public GenericRegexMatchOperator regexEqualOperator() {
-        return new GenericRegexMatchOperator(DataPrepperExpressionParser.MATCH_REGEX_PATTERN, regexEquals);
+        return new GenericRegexMatchOperator(DataPrepperExpressionParser.MATCH_REGEX_PATTERN, regexEquals, patternMatches);
     }
 
     @Bean
     public GenericRegexMatchOperator regexNotEqualOperator() {
-        return new GenericRegexMatchOperator(DataPrepperExpressionParser.NOT_MATCH_REGEX_PATTERN, regexEquals.negate());
+        return new GenericRegexMatchOperator(DataPrepperExpressionParser.NOT_MATCH_REGEX_PATTERN, regexEquals.negate(),
+                patternMatches.negate());
     }
 
     @Bean
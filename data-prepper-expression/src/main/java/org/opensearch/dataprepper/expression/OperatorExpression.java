@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.7
+ * A {@link CompiledExpression} which applies an {@link Operator} to the results of its operand expressions.
+ */
+class OperatorExpression implements CompiledExpression {
+    private final Operator<?> operator;
+    private final CompiledExpression[] operands;
+    private final String statement;
+
+    /**
+     * @param operator operator to apply
+     * @param operands operand expressions in the order the operator expects them
+     * @param statement the part of the input statement this expression was compiled from, used in error messages
+     */
+    OperatorExpression(final Operator<?> operator, final CompiledExpression[] operands, final String statement) {
+        this.operator = operator;
+        this.operands = operands;
+        this.statement = statement;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        final Object[] args = new Object[operands.length];
+        for (int i = 0; i < operands.length; i++) {
+            args[i] = operands[i].evaluate(event);
+        }
+        return apply(args);
+    }
+
+    @Override
+    public Object evaluate(final Event event, final Object[] sharedValues) {
+        if (sharedValues == null) {
+            return evaluate(event);
+        }
+        final Object[] args = new Object[operands.length];
+        for (int i = 0; i < operands.length; i++) {
+            args[i] = operands[i].evaluate(event, sharedValues);
+        }
+        return apply(args);
+    }
+
+    private Object apply(final Object[] args) {
+        try {
+            return operator.evaluate(args);
+        } catch (final Exception e) {
+            throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: " + statement, e);
+        }
+    }
+}
@@ -6,6 +6,8 @@
 package org.opensearch.dataprepper.expression;
 
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.antlr.v4.runtime.tree.TerminalNode;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 
@@ -15,6 +17,7 @@ import java.io.Serializable;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.function.Function;
 
 @Named
@@ -22,9 +25,12 @@ class ParseTreeCoercionService {
     private final Map<Class<? extends Serializable>, Function<Object, Object>> literalTypeConversions;
     private ExpressionFunctionProvider expressionFunctionProvider;
     private Function<Object, Object> convertLiteralType;
+    private final EventKeyFactory eventKeyFactory;
 
     @Inject
-    public ParseTreeCoercionService(final Map<Class<? extends Serializable>, Function<Object, Object>> literalTypeConversions, ExpressionFunctionProvider expressionFunctionProvider) {
+    public ParseTreeCoercionService(final Map<Class<? extends Serializable>, Function<Object, Object>> literalTypeConversions,
+                                    final ExpressionFunctionProvider expressionFunctionProvider,
+                                    final EventKeyFactory eventKeyFactory) {
         this.literalTypeConversions = literalTypeConversions;
         convertLiteralType = (value) -> {
                 if (literalTypeConversions.containsKey(value.getClass())) {
@@ -34,6 +40,7 @@ class ParseTreeCoercionService {
                 }
             };
         this.expressionFunctionProvider = expressionFunctionProvider;
+        this.eventKeyFactory = eventKeyFactory;
     }
 
     public Object coercePrimaryTerminalNode(final TerminalNode node, final Event event) {
@@ -41,26 +48,8 @@ class ParseTreeCoercionService {
         final String nodeStringValue = node.getText();
         switch (nodeType) {
             case DataPrepperExpressionParser.Function:
-                final int funcNameIndex = nodeStringValue.indexOf("(");
-                final String functionName = nodeStringValue.substring(0, funcNameIndex);
-                final int argsEndIndex = nodeStringValue.indexOf(")", funcNameIndex);
-                final String argsStr = nodeStringValue.substring(funcNameIndex+1, argsEndIndex);
-                // Split at commas if there's no backslash before the commas, because commas can be part of a function parameter
-                final String[] args = argsStr.split("(?<!\\\\),");
-                List<Object> argList = new ArrayList<>();
-                for (final String arg: args) {
-                    String trimmedArg = arg.trim();
-                    if (trimmedArg.charAt(0) == '/') {
-                        argList.add(trimmedArg);
-                    } else if (trimmedArg.charAt(0) == '"') {
-                        if (trimmedArg.length() < 2 || trimmedArg.charAt(trimmedArg.length()-1) != '"') {
-                            throw new RuntimeException("Invalid string argument: check if any argument is missing a closing double quote or contains comma that's not escaped with `\\`.");
-                        }
-                        argList.add(trimmedArg);
-                    } else {
-                        throw new RuntimeException("Unsupported type passed as function argument");
-                    }
-                }
+                final String functionName = getFunctionName(nodeStringValue);
+                final List<Object> argList = getFunctionArgs(nodeStringValue);
                 return expressionFunctionProvider.provideFunction(functionName, argList, event, convertLiteralType);
             case DataPrepperExpressionParser.EscapedJsonPointer:
                 final String jsonPointerWithoutQuotes = nodeStringValue.substring(1, nodeStringValue.length() - 1);
@@ -88,6 +77,34 @@ class ParseTreeCoercionService {
         }
     }
 
+    /**
+     * @since 2.7
+     * Compiles a primary terminal node into a {@link CompiledExpression}. Literals are converted once, JSON pointers
+     * are resolved into {@link EventKey}s and function arguments are parsed, so that evaluating the result for an
+     * event performs the same work as {@link #coercePrimaryTerminalNode(TerminalNode, Event)} without re-reading the
+     * node.
+     *
+     * @param node terminal node
+     * @return compiled expression for the node
+     */
+    public CompiledExpression compilePrimaryTerminalNode(final TerminalNode node) {
+        final int nodeType = node.getSymbol().getType();
+        final String nodeStringValue = node.getText();
+        switch (nodeType) {
+            case DataPrepperExpressionParser.Function:
+                final String functionName = getFunctionName(nodeStringValue);
+                final List<Object> argList = Collections.unmodifiableList(getFunctionArgs(nodeStringValue));
+                return event -> expressionFunctionProvider.provideFunction(functionName, argList, event, convertLiteralType);
+            case DataPrepperExpressionParser.EscapedJsonPointer:
+                final String jsonPointerWithoutQuotes = nodeStringValue.substring(1, nodeStringValue.length() - 1);
+                return compileJsonPointer(jsonPointerWithoutQuotes);
+            case DataPrepperExpressionParser.JsonPointer:
+                return compileJsonPointer(nodeStringValue);
+            default:
+                return new ConstantExpression(coercePrimaryTerminalNode(node, null));
+        }
+    }
+
     public <T> T coerce(final Object obj, Class<T> clazz) throws ExpressionCoercionException {
         if (obj.getClass().isAssignableFrom(clazz)) {
             return (T) obj;
@@ -102,4 +119,48 @@ class ParseTreeCoercionService {
         } 
         return convertLiteralType.apply(value);
     }
+
+    private CompiledExpression compileJsonPointer(final String jsonPointer) {
+        final EventKey eventKey;
+        try {
+            eventKey = eventKeyFactory.createEventKey(jsonPointer);
+        } catch (final IllegalArgumentException e) {
+            // Keys which the event rejects fail on every evaluation, as they do without compiling
+            return event -> resolveJsonPointerValue(jsonPointer, event);
+        }
+        return event -> {
+            final Object value = event.get(eventKey, Object.class);
+            if (value == null) {
+                return null;
+            }
+            return convertLiteralType.apply(value);
+        };
+    }
+
+    private static String getFunctionName(final String function) {
+        return function.substring(0, function.indexOf("("));
+    }
+
+    private static List<Object> getFunctionArgs(final String function) {
+        final int funcNameIndex = function.indexOf("(");
+        final int argsEndIndex = function.indexOf(")", funcNameIndex);
+        final String argsStr = function.substring(funcNameIndex+1, argsEndIndex);
+        // Split at commas if there's no backslash before the commas, because commas can be part of a function parameter
+        final String[] args = argsStr.split("(?<!\\\\),");
+        List<Object> argList = new ArrayList<>();
+        for (final String arg: args) {
+            String trimmedArg = arg.trim();
+            if (trimmedArg.charAt(0) == '/') {
+                argList.add(trimmedArg);
+            } else if (trimmedArg.charAt(0) == '"') {
+                if (trimmedArg.length() < 2 || trimmedArg.charAt(trimmedArg.length()-1) != '"') {
+                    throw new RuntimeException("Invalid string argument: check if any argument is missing a closing double quote or contains comma that's not escaped with `\\`.");
+                }
+                argList.add(trimmedArg);
+            } else {
+                throw new RuntimeException("Unsupported type passed as function argument");
+            }
+        }
+        return argList;
+    }
 }
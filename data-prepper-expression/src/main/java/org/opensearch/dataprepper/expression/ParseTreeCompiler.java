@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+/**
+ * @since 2.7
+ * Compiles a {@link ParseTree} into a {@link CompiledExpression} which can be evaluated against events without walking
+ * the parse tree again.
+ */
+@Named
+class ParseTreeCompiler {
+    private final OperatorProvider operatorProvider;
+    private final ParseTreeWalker walker;
+    private final ParseTreeCoercionService coercionService;
+
+    @Inject
+    public ParseTreeCompiler(final OperatorProvider operatorProvider, final ParseTreeWalker walker,
+                             final ParseTreeCoercionService coercionService) {
+        this.operatorProvider = operatorProvider;
+        this.walker = walker;
+        this.coercionService = coercionService;
+    }
+
+    public CompiledExpression compile(final ParseTree parseTree) {
+        final ParseTreeCompilerListener listener = new ParseTreeCompilerListener(operatorProvider, coercionService);
+        walker.walk(listener, parseTree);
+        return listener.getResult();
+    }
+
+    /**
+     * Compiles a {@link ParseTree} sharing its sub-expressions with the other statements compiled with the same
+     * {@link SharedExpressions}.
+     *
+     * @param parseTree parse tree of the statement
+     * @param sharedExpressions sub-expressions shared by the statements compiled together
+     * @return compiled expression for the statement
+     */
+    public CompiledExpression compile(final ParseTree parseTree, final SharedExpressions sharedExpressions) {
+        final ParseTreeCompilerListener listener = new ParseTreeCompilerListener(operatorProvider, coercionService,
+                sharedExpressions);
+        walker.walk(listener, parseTree);
+        return listener.getResult();
+    }
+}
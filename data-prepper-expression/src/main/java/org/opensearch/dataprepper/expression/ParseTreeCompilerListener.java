@@ -0,0 +1,165 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionBaseListener;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionListener;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
+
+import java.util.Stack;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * @since 2.7
+ * This listener implements {@link DataPrepperExpressionListener} to build a {@link CompiledExpression} from the
+ * {@link org.antlr.v4.runtime.tree.ParseTree} representation of an expression. It stacks compiled operand expressions
+ * and applies each operator to the operands on top of the stack when its sub-tree is exited, so that the resulting
+ * expression applies the operators in the same order and with the same operands as the grammar.
+ * <p>
+ * Operations whose operands are all constants are folded into a {@link ConstantExpression}. Regex operations whose
+ * pattern is a string literal compile the pattern once.
+ * <p>
+ * When statements are compiled together with {@link SharedExpressions}, the terminals and operations which are not
+ * constant are compiled into {@link SharedExpression}s, so that the statements share the ones they have in common.
+ */
+class ParseTreeCompilerListener extends DataPrepperExpressionBaseListener {
+
+    private final OperatorProvider operatorProvider;
+    private final ParseTreeCoercionService coercionService;
+    private final SharedExpressions sharedExpressions;
+    private final Stack<Integer> operatorSymbolStack;
+    private final Stack<CompiledExpression> operandStack;
+
+    public ParseTreeCompilerListener(final OperatorProvider operatorProvider,
+                                     final ParseTreeCoercionService coercionService) {
+        this(operatorProvider, coercionService, null);
+    }
+
+    /**
+     * @param operatorProvider provides the operators of the statement
+     * @param coercionService compiles the terminals of the statement
+     * @param sharedExpressions sub-expressions shared with other statements, or null to share nothing
+     */
+    public ParseTreeCompilerListener(final OperatorProvider operatorProvider,
+                                     final ParseTreeCoercionService coercionService,
+                                     final SharedExpressions sharedExpressions) {
+        this.operatorProvider = operatorProvider;
+        this.coercionService = coercionService;
+        this.sharedExpressions = sharedExpressions;
+        operatorSymbolStack = new Stack<>();
+        operandStack = new Stack<>();
+    }
+
+    public CompiledExpression getResult() {
+        if (operandStack.size() != 1) {
+            throw new IllegalStateException("The ParseTreeCompilerListener has not been walked through exactly once by " +
+                    "a ParseTreeWalker.");
+        }
+        return operandStack.peek();
+    }
+
+    @Override
+    public void visitTerminal(final TerminalNode node) {
+        final int nodeType = node.getSymbol().getType();
+        if (nodeType == DataPrepperExpressionParser.EOF) {
+            return;
+        }
+        if (operatorProvider.containsOperator(nodeType) || nodeType == DataPrepperExpressionParser.LPAREN) {
+            operatorSymbolStack.push(nodeType);
+        } else if (nodeType == DataPrepperExpressionParser.RPAREN) {
+            // pop LPAREN at operatorSymbolStack top
+            operatorSymbolStack.pop();
+        } else {
+            final CompiledExpression terminal = coercionService.compilePrimaryTerminalNode(node);
+            operandStack.push(share("terminal " + nodeType + " " + node.getText(), terminal));
+        }
+    }
+
+    @Override
+    public void visitErrorNode(final ErrorNode node) {
+        throw new RuntimeException("Hit error node in the parse tree: " + node.getText());
+    }
+
+    @Override
+    public void exitEveryRule(final ParserRuleContext ctx) {
+        if (!operatorSymbolStack.isEmpty()) {
+            final int operatorSymbol = operatorSymbolStack.peek();
+            if (operatorSymbol != DataPrepperExpressionParser.LPAREN) {
+                final Operator<?> op = operatorProvider.getOperator(operatorSymbol);
+                if (op.shouldEvaluate(ctx)) {
+                    operatorSymbolStack.pop();
+                    operandStack.push(compileSingleOperation(operatorSymbol, op, ctx));
+                }
+            }
+        }
+    }
+
+    private CompiledExpression compileSingleOperation(final int operatorSymbol, final Operator<?> operator,
+                                                      final ParserRuleContext ctx) {
+        final int numOfArgs = operator.getNumberOfOperands(ctx);
+        final CompiledExpression[] operands = new CompiledExpression[numOfArgs];
+        boolean allConstant = true;
+        for (int i = numOfArgs - 1; i >= 0; i--) {
+            operands[i] = operandStack.pop();
+            allConstant &= operands[i].isConstant();
+        }
+
+        final String statement = getPartialStatementFromContext(ctx);
+        if (sharedExpressions == null) {
+            return compileSingleOperation(operator, operands, allConstant, statement);
+        }
+        final String key = "operator " + operatorSymbol + " " + statement;
+        final SharedExpression sharedExpression = sharedExpressions.get(key);
+        if (sharedExpression != null) {
+            return sharedExpression;
+        }
+        return sharedExpressions.share(key, compileSingleOperation(operator, operands, allConstant, statement));
+    }
+
+    private CompiledExpression compileSingleOperation(final Operator<?> operator, final CompiledExpression[] operands,
+                                                      final boolean allConstant, final String statement) {
+        final OperatorExpression operatorExpression = new OperatorExpression(operator, operands, statement);
+        if (allConstant) {
+            try {
+                return new ConstantExpression(operatorExpression.evaluate(null));
+            } catch (final ExpressionEvaluationException e) {
+                // Leave the failure to evaluation time so that the error surfaces the same way as before compiling
+                return operatorExpression;
+            }
+        }
+
+        // The grammar only allows a JSON pointer or a string literal as the pattern of a regex operator
+        if (operator instanceof GenericRegexMatchOperator && operands[1].isConstant()) {
+            try {
+                final Pattern pattern = Pattern.compile((String) operands[1].evaluate(null));
+                return new RegexMatchExpression((GenericRegexMatchOperator) operator, operands[0], pattern, statement);
+            } catch (final PatternSyntaxException e) {
+                // Leave the failure to evaluation time
+                return operatorExpression;
+            }
+        }
+        return operatorExpression;
+    }
+
+    private CompiledExpression share(final String key, final CompiledExpression expression) {
+        if (sharedExpressions == null) {
+            return expression;
+        }
+        return sharedExpressions.share(key, expression);
+    }
+
+    private String getPartialStatementFromContext(final ParserRuleContext ctx) {
+        final Token startToken = ctx.getStart();
+        final Token stopToken = ctx.getStop();
+        final String fullStatement = startToken.getInputStream().toString();
+        return fullStatement.substring(startToken.getStartIndex(), stopToken.getStopIndex() + 1);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.regex.Pattern;
+
+/**
+ * @since 2.7
+ * A {@link CompiledExpression} for a regex operator whose pattern is a string literal. The pattern is compiled once
+ * when the expression is compiled rather than on every evaluation.
+ */
+class RegexMatchExpression implements CompiledExpression {
+    private final GenericRegexMatchOperator operator;
+    private final CompiledExpression leftOperand;
+    private final Pattern pattern;
+    private final String statement;
+
+    RegexMatchExpression(final GenericRegexMatchOperator operator, final CompiledExpression leftOperand,
+                         final Pattern pattern, final String statement) {
+        this.operator = operator;
+        this.leftOperand = leftOperand;
+        this.pattern = pattern;
+        this.statement = statement;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        return match(leftOperand.evaluate(event));
+    }
+
+    @Override
+    public Object evaluate(final Event event, final Object[] sharedValues) {
+        if (sharedValues == null) {
+            return evaluate(event);
+        }
+        return match(leftOperand.evaluate(event, sharedValues));
+    }
+
+    private Object match(final Object value) {
+        try {
+            return operator.evaluate(value, pattern);
+        } catch (final Exception e) {
+            throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: " + statement, e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.util.regex.Pattern;
+
+/**
+ * @since 2.7
+ * A bounded, thread-safe cache of compiled regex {@link Pattern}s keyed by the regex string. Used by the regex
+ * operators when the pattern is not a literal, such as when it is read from the event with a JSON pointer.
+ * Patterns which fail to compile are not cached.
+ */
+class RegexPatternCache {
+    static final int DEFAULT_MAXIMUM_SIZE = 1000;
+    static final String CACHE_HITS = "cacheHits";
+    static final String CACHE_MISSES = "cacheMisses";
+    static final String CACHE_SIZE = "cacheSize";
+
+    private final Cache<String, Pattern> patterns;
+    private final Counter cacheHitsCounter;
+    private final Counter cacheMissesCounter;
+
+    RegexPatternCache(final int maximumSize, final PluginMetrics pluginMetrics) {
+        patterns = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+        cacheHitsCounter = pluginMetrics.counter(CACHE_HITS);
+        cacheMissesCounter = pluginMetrics.counter(CACHE_MISSES);
+        pluginMetrics.gauge(CACHE_SIZE, patterns, Cache::size);
+    }
+
+    /**
+     * Returns the compiled pattern for the regex, compiling and caching it on a miss.
+     *
+     * @param regex regex string
+     * @return compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the regex is not valid
+     */
+    Pattern getPattern(final String regex) {
+        final Pattern cachedPattern = patterns.getIfPresent(regex);
+        if (cachedPattern != null) {
+            cacheHitsCounter.increment();
+            return cachedPattern;
+        }
+        cacheMissesCounter.increment();
+        final Pattern pattern = Pattern.compile(regex);
+        patterns.put(regex, pattern);
+        return pattern;
+    }
+}
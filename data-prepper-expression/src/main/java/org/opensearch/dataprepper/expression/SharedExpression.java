@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.7
+ * A {@link CompiledExpression} which may be used in several statements compiled together, such as reading a key of
+ * the event or an operation which appears in more than one statement. When evaluated with shared values, it is
+ * evaluated once per event and its value is reused by the other statements.
+ */
+class SharedExpression implements CompiledExpression {
+    /**
+     * Placeholder for the value of a shared expression which has not been evaluated for the current event.
+     */
+    static final Object NOT_EVALUATED = new Object();
+
+    private final CompiledExpression expression;
+    private final int index;
+
+    /**
+     * @param expression expression to share
+     * @param index index of the value of the expression in the shared values
+     */
+    SharedExpression(final CompiledExpression expression, final int index) {
+        this.expression = expression;
+        this.index = index;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        return expression.evaluate(event);
+    }
+
+    @Override
+    public Object evaluate(final Event event, final Object[] sharedValues) {
+        if (sharedValues == null) {
+            return expression.evaluate(event);
+        }
+        Object value = sharedValues[index];
+        if (value == NOT_EVALUATED) {
+            // Failures are not stored so that every statement using this expression fails in the same way
+            value = expression.evaluate(event, sharedValues);
+            sharedValues[index] = value;
+        }
+        return value;
+    }
+
+    @Override
+    public boolean isConstant() {
+        return expression.isConstant();
+    }
+}
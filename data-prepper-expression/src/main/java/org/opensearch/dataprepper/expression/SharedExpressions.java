@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @since 2.7
+ * The {@link SharedExpression}s of statements which are compiled together. Sub-expressions are identified by a key
+ * built from their source text, so that the same key read by several statements, or the same operation written in
+ * several statements, is compiled into one {@link SharedExpression}.
+ */
+class SharedExpressions {
+    private final Map<String, SharedExpression> expressions = new HashMap<>();
+
+    /**
+     * @param key key identifying the sub-expression
+     * @return the shared expression registered for the key, or null
+     */
+    SharedExpression get(final String key) {
+        return expressions.get(key);
+    }
+
+    /**
+     * Shares an expression under a key, unless an expression is already shared under the key. Constant expressions
+     * are not shared as they are not evaluated per event.
+     *
+     * @param key key identifying the sub-expression
+     * @param expression compiled sub-expression
+     * @return the expression to use for the sub-expression
+     */
+    CompiledExpression share(final String key, final CompiledExpression expression) {
+        if (expression.isConstant()) {
+            return expression;
+        }
+        return expressions.computeIfAbsent(key, newKey -> new SharedExpression(expression, expressions.size()));
+    }
+
+    int size() {
+        return expressions.size();
+    }
+}
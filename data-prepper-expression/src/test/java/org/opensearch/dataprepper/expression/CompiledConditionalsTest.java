@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompiledConditionalsTest {
+    @Mock
+    private CompiledExpression firstExpression;
+    @Mock
+    private CompiledExpression secondExpression;
+    @Mock
+    private BiConsumer<String, Exception> failureHandler;
+
+    private final String firstStatement = UUID.randomUUID().toString();
+    private final String secondStatement = UUID.randomUUID().toString();
+
+    private CompiledConditionals createObjectUnderTest(final Exception[] compileFailures) {
+        return new CompiledConditionals(List.of(firstStatement, secondStatement),
+                new CompiledExpression[] {firstExpression, secondExpression}, compileFailures, 0);
+    }
+
+    @Test
+    void evaluate_returns_the_events_matching_each_statement() {
+        final Event first = mock(Event.class);
+        final Event second = mock(Event.class);
+        when(firstExpression.evaluate(eq(first), any(Object[].class))).thenReturn(true);
+        when(firstExpression.evaluate(eq(second), any(Object[].class))).thenReturn(false);
+        when(secondExpression.evaluate(eq(first), any(Object[].class))).thenReturn(true);
+        when(secondExpression.evaluate(eq(second), any(Object[].class))).thenReturn(true);
+
+        final List<BitSet> matches = createObjectUnderTest(new Exception[2]).evaluate(List.of(first, second), failureHandler);
+
+        assertThat(matches.size(), equalTo(2));
+        assertThat(matches.get(0), equalTo(BitSet.valueOf(new long[] {0b01})));
+        assertThat(matches.get(1), equalTo(BitSet.valueOf(new long[] {0b11})));
+        verifyNoInteractions(failureHandler);
+    }
+
+    @Test
+    void evaluate_reports_evaluation_failures_as_not_matching() {
+        final Event event = mock(Event.class);
+        final RuntimeException cause = new RuntimeException();
+        when(firstExpression.evaluate(eq(event), any(Object[].class))).thenThrow(cause);
+        when(secondExpression.evaluate(eq(event), any(Object[].class))).thenReturn(true);
+
+        final List<BitSet> matches = createObjectUnderTest(new Exception[2]).evaluate(List.of(event), failureHandler);
+
+        assertThat(matches.get(0).isEmpty(), equalTo(true));
+        assertThat(matches.get(1), equalTo(BitSet.valueOf(new long[] {0b1})));
+        verify(failureHandler).accept(eq(firstStatement), argThat(exception ->
+                exception instanceof ExpressionEvaluationException && exception.getCause() == cause));
+    }
+
+    @Test
+    void evaluate_reports_non_boolean_results_as_not_matching() {
+        final Event event = mock(Event.class);
+        when(firstExpression.evaluate(eq(event), any(Object[].class))).thenReturn(200);
+        when(secondExpression.evaluate(eq(event), any(Object[].class))).thenReturn(null);
+
+        final List<BitSet> matches = createObjectUnderTest(new Exception[2]).evaluate(List.of(event), failureHandler);
+
+        assertThat(matches.get(0).isEmpty(), equalTo(true));
+        assertThat(matches.get(1).isEmpty(), equalTo(true));
+        verify(failureHandler).accept(eq(firstStatement), any(ClassCastException.class));
+        verify(failureHandler).accept(eq(secondStatement), any(ClassCastException.class));
+    }
+
+    @Test
+    void evaluate_reports_compile_failures_for_every_event() {
+        final Event first = mock(Event.class);
+        final Event second = mock(Event.class);
+        final Exception compileFailure = new RuntimeException();
+        final CompiledConditionals objectUnderTest = new CompiledConditionals(List.of(firstStatement),
+                new CompiledExpression[] {null}, new Exception[] {compileFailure}, 0);
+
+        final List<BitSet> matches = objectUnderTest.evaluate(List.of(first, second), (statement, exception) -> {
+            assertThat(statement, equalTo(firstStatement));
+            assertThat(exception, instanceOf(ExpressionEvaluationException.class));
+            assertThat(exception.getCause(), sameInstance(compileFailure));
+            failureHandler.accept(statement, exception);
+        });
+
+        assertThat(matches.get(0).isEmpty(), equalTo(true));
+        verify(failureHandler, times(2)).accept(eq(firstStatement), any(Exception.class));
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ConstantExpressionTest {
+
+    @Test
+    void evaluate_returns_value_without_reading_event() {
+        final String value = UUID.randomUUID().toString();
+        final Event event = mock(Event.class);
+
+        final ConstantExpression objectUnderTest = new ConstantExpression(value);
+
+        assertThat(objectUnderTest.evaluate(event), equalTo(value));
+        assertThat(objectUnderTest.evaluate(null), equalTo(value));
+        verifyNoInteractions(event);
+    }
+
+    @Test
+    void evaluate_returns_null_value() {
+        assertThat(new ConstantExpression(null).evaluate(mock(Event.class)), nullValue());
+    }
+
+    @Test
+    void isConstant_returns_true() {
+        assertThat(new ConstantExpression(1).isConstant(), equalTo(true));
+    }
+}
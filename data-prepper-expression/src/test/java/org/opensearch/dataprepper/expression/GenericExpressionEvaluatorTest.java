@@ -11,16 +11,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.model.event.Event;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Random;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,6 +37,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class GenericExpressionEvaluatorTest {
@@ -38,7 +45,7 @@ class GenericExpressionEvaluatorTest {
     @Mock
     private Parser<ParseTree> parser;
     @Mock
-    private Evaluator<ParseTree, Event> evaluator;
+    private ParseTreeCompiler compiler;
     @InjectMocks
     private GenericExpressionEvaluator statementEvaluator;
 
@@ -46,29 +53,53 @@ class GenericExpressionEvaluatorTest {
     void testGivenValidParametersThenEvaluatorResultReturned() {
         final String statement = UUID.randomUUID().toString();
         final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
         final Event event = mock(Event.class);
         final String expectedStr = UUID.randomUUID().toString();
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(expectedStr).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doReturn(expectedStr).when(compiledExpression).evaluate(eq(event));
 
         final Object actualStr = statementEvaluator.evaluate(statement, event);
 
         assertThat((String)actualStr, is(expectedStr));
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(compiler).compile(eq(parseTree));
+        verify(compiledExpression).evaluate(eq(event));
 
         final Random random = new Random();
         final Integer expectedInt = random.nextInt(1000);
 
-        doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(expectedInt).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(expectedInt).when(compiledExpression).evaluate(eq(event));
 
         final Object actualInt = statementEvaluator.evaluate(statement, event);
 
         assertThat((Integer)actualInt, is(expectedInt));
+        verify(parser).parse(eq(statement));
+        verify(compiler).compile(eq(parseTree));
+        verify(compiledExpression, times(2)).evaluate(eq(event));
+    }
+
+    @Test
+    void evaluate_compiles_statements_again_once_they_are_evicted() {
+        final String statement = UUID.randomUUID().toString();
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
+        final Event event = mock(Event.class);
+
+        doReturn(mock(ParseTree.class)).when(parser).parse(anyString());
+        doReturn(compiledExpression).when(compiler).compile(any());
+
+        statementEvaluator.evaluate(statement, event);
+        statementEvaluator.evaluate(statement, event);
+        verify(parser).parse(eq(statement));
+
+        for (int i = 0; i < 2 * GenericExpressionEvaluator.MAXIMUM_CACHED_STATEMENTS; i++) {
+            statementEvaluator.evaluate(UUID.randomUUID().toString(), event);
+        }
+        statementEvaluator.evaluate(statement, event);
+
         verify(parser, times(2)).parse(eq(statement));
-        verify(evaluator, times(2)).evaluate(eq(parseTree), eq(event));
     }
 
     @Test
@@ -77,25 +108,42 @@ class GenericExpressionEvaluatorTest {
 
         doThrow(new RuntimeException()).when(parser).parse(eq(statement));
 
+        assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, null));
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, null));
 
-        verify(parser).parse(eq(statement));
-        verify(evaluator, times(0)).evaluate(any(), any());
+        verify(parser, times(2)).parse(eq(statement));
+        verify(compiler, times(0)).compile(any());
+    }
+
+    @Test
+    void testGivenCompilerThrowsExceptionThenExceptionThrown() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doThrow(new RuntimeException()).when(compiler).compile(eq(parseTree));
+
+        assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, null));
+        assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, null));
+
+        verify(compiler, times(2)).compile(eq(parseTree));
     }
 
     @Test
     void testGivenEvaluatorThrowsExceptionThenExceptionThrown() {
         final String statement = UUID.randomUUID().toString();
         final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
         final Event event = mock(Event.class);
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doThrow(new RuntimeException()).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doThrow(new RuntimeException()).when(compiledExpression).evaluate(eq(event));
 
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluateConditional(statement, event));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(compiledExpression).evaluate(eq(event));
     }
 
     @Test
@@ -123,6 +171,78 @@ class GenericExpressionEvaluatorTest {
         assertThat(result, equalTo(false));
     }
 
+    @Test
+    void evaluateConditionals_compiles_the_statements_together_once() {
+        final String firstStatement = UUID.randomUUID().toString();
+        final String secondStatement = UUID.randomUUID().toString();
+        final ParseTree firstParseTree = mock(ParseTree.class);
+        final ParseTree secondParseTree = mock(ParseTree.class);
+        final CompiledExpression firstExpression = mock(CompiledExpression.class);
+        final CompiledExpression secondExpression = mock(CompiledExpression.class);
+        final Event event = mock(Event.class);
+
+        doReturn(firstParseTree).when(parser).parse(eq(firstStatement));
+        doReturn(secondParseTree).when(parser).parse(eq(secondStatement));
+        doReturn(firstExpression).when(compiler).compile(eq(firstParseTree), any(SharedExpressions.class));
+        doReturn(secondExpression).when(compiler).compile(eq(secondParseTree), any(SharedExpressions.class));
+        doReturn(true).when(firstExpression).evaluate(eq(event), any(Object[].class));
+        doReturn(false).when(secondExpression).evaluate(eq(event), any(Object[].class));
+
+        final BiConsumer<String, Exception> failureHandler = mock(BiConsumer.class);
+        for (int i = 0; i < 2; i++) {
+            final List<BitSet> matches = statementEvaluator.evaluateConditionals(
+                    new ArrayList<>(List.of(firstStatement, secondStatement)), List.of(event), failureHandler);
+
+            assertThat(matches.size(), equalTo(2));
+            assertThat(matches.get(0).get(0), equalTo(true));
+            assertThat(matches.get(1).get(0), equalTo(false));
+        }
+
+        verify(parser).parse(eq(firstStatement));
+        verify(parser).parse(eq(secondStatement));
+        final ArgumentCaptor<SharedExpressions> sharedExpressionsCaptor = ArgumentCaptor.forClass(SharedExpressions.class);
+        verify(compiler).compile(eq(firstParseTree), sharedExpressionsCaptor.capture());
+        verify(compiler).compile(eq(secondParseTree), sharedExpressionsCaptor.capture());
+        assertThat(sharedExpressionsCaptor.getAllValues().get(0), sameInstance(sharedExpressionsCaptor.getAllValues().get(1)));
+        verifyNoInteractions(failureHandler);
+    }
+
+    @Test
+    void evaluateConditionals_compiles_the_statements_again_once_they_are_evicted() {
+        final List<String> statements = List.of(UUID.randomUUID().toString());
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
+        final List<Event> events = List.of(mock(Event.class));
+        final BiConsumer<String, Exception> failureHandler = mock(BiConsumer.class);
+
+        doReturn(mock(ParseTree.class)).when(parser).parse(anyString());
+        doReturn(compiledExpression).when(compiler).compile(any(), any(SharedExpressions.class));
+
+        statementEvaluator.evaluateConditionals(statements, events, failureHandler);
+        statementEvaluator.evaluateConditionals(statements, events, failureHandler);
+        verify(parser).parse(eq(statements.get(0)));
+
+        for (int i = 0; i < 2 * GenericExpressionEvaluator.MAXIMUM_CACHED_STATEMENTS; i++) {
+            statementEvaluator.evaluateConditionals(List.of(UUID.randomUUID().toString()), events, failureHandler);
+        }
+        statementEvaluator.evaluateConditionals(statements, events, failureHandler);
+
+        verify(parser, times(2)).parse(eq(statements.get(0)));
+    }
+
+    @Test
+    void evaluateConditionals_reports_statements_which_fail_to_compile() {
+        final String statement = UUID.randomUUID().toString();
+        final RuntimeException parseException = new RuntimeException();
+        doThrow(parseException).when(parser).parse(eq(statement));
+
+        final BiConsumer<String, Exception> failureHandler = mock(BiConsumer.class);
+        final List<BitSet> matches = statementEvaluator.evaluateConditionals(
+                List.of(statement), List.of(mock(Event.class)), failureHandler);
+
+        assertThat(matches.get(0).isEmpty(), equalTo(true));
+        verify(failureHandler).accept(eq(statement), any(ExpressionEvaluationException.class));
+    }
+
     @ParameterizedTest
     @CsvSource({
             "abc-${/foo, false",
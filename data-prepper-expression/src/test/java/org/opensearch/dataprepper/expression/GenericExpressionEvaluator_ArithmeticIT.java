@@ -12,6 +12,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 import java.util.ArrayList;
@@ -44,6 +45,7 @@ class GenericExpressionEvaluator_ArithmeticIT {
     void beforeEach() {
         applicationContext = new AnnotationConfigApplicationContext();
         applicationContext.scan("org.opensearch.dataprepper.expression");
+        applicationContext.register(JacksonEventKeyFactory.class);
         applicationContext.refresh();
     }
 
@@ -13,9 +13,11 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -24,6 +26,7 @@ import java.util.Random;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.awaitility.Awaitility.await;
@@ -50,6 +53,7 @@ class GenericExpressionEvaluator_ConditionalIT {
     void beforeEach() {
         applicationContext = new AnnotationConfigApplicationContext();
         applicationContext.scan("org.opensearch.dataprepper.expression");
+        applicationContext.register(JacksonEventKeyFactory.class);
         applicationContext.refresh();
     }
 
@@ -112,6 +116,51 @@ class GenericExpressionEvaluator_ConditionalIT {
         }
     }
 
+    @Test
+    void testEvaluateConditionalsMatchesEvaluateConditional() {
+        final GenericExpressionEvaluator evaluator = applicationContext.getBean(GenericExpressionEvaluator.class);
+        final List<Arguments> arguments = validExpressionArguments().collect(Collectors.toList());
+        final List<String> statements = new ArrayList<>();
+        final List<Event> events = new ArrayList<>();
+        for (final Arguments argument : arguments) {
+            statements.add((String) argument.get()[0]);
+            events.add((Event) argument.get()[1]);
+        }
+
+        // Every statement is evaluated against the events of the other statements too, which may fail
+        final List<BitSet> matches = evaluator.evaluateConditionals(statements, events, (statement, exception) -> { });
+
+        assertThat(matches.size(), equalTo(statements.size()));
+        for (int i = 0; i < arguments.size(); i++) {
+            assertThat(statements.get(i), matches.get(i).get(i), equalTo(arguments.get(i).get()[2]));
+            for (int j = 0; j < events.size(); j++) {
+                if (matches.get(i).get(j)) {
+                    assertThat(evaluator.evaluateConditional(statements.get(i), events.get(j)), is(true));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testEvaluateConditionalsReportsInvalidStatements() {
+        final GenericExpressionEvaluator evaluator = applicationContext.getBean(GenericExpressionEvaluator.class);
+        final List<Arguments> arguments = invalidExpressionArguments().collect(Collectors.toList());
+        for (final Arguments argument : arguments) {
+            final String statement = (String) argument.get()[0];
+            final List<Exception> failures = new ArrayList<>();
+
+            final List<BitSet> matches = evaluator.evaluateConditionals(List.of(statement, "true"),
+                    List.of((Event) argument.get()[1]), (failedStatement, exception) -> {
+                        assertThat(failedStatement, equalTo(statement));
+                        failures.add(exception);
+                    });
+
+            assertThat(statement, failures.size(), equalTo(1));
+            assertThat(matches.get(0).isEmpty(), is(true));
+            assertThat(matches.get(1).get(0), is(true));
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("invalidExpressionArguments")
     void testGenericExpressionEvaluatorThrows(final String expression, final Event event) {
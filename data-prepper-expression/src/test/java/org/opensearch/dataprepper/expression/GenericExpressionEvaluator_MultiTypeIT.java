@@ -11,6 +11,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 import java.util.ArrayList;
@@ -40,6 +41,7 @@ class GenericExpressionEvaluator_MultiTypeIT {
     void beforeEach() {
         applicationContext = new AnnotationConfigApplicationContext();
         applicationContext.scan("org.opensearch.dataprepper.expression");
+        applicationContext.register(JacksonEventKeyFactory.class);
         applicationContext.refresh();
     }
 
@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OperatorExpressionTest {
+
+    @Mock
+    private Operator<Boolean> operator;
+
+    @Mock
+    private CompiledExpression leftOperand;
+
+    @Mock
+    private CompiledExpression rightOperand;
+
+    @Mock
+    private Event event;
+
+    private OperatorExpression createObjectUnderTest(final String statement) {
+        return new OperatorExpression(operator, new CompiledExpression[]{leftOperand, rightOperand}, statement);
+    }
+
+    @Test
+    void evaluate_applies_operator_to_operand_results_in_order() {
+        final Object left = UUID.randomUUID().toString();
+        final Object right = UUID.randomUUID().toString();
+        when(leftOperand.evaluate(event)).thenReturn(left);
+        when(rightOperand.evaluate(event)).thenReturn(right);
+        doReturn(true).when(operator).evaluate(left, right);
+
+        assertThat(createObjectUnderTest("a == b").evaluate(event), equalTo(true));
+        verify(operator).evaluate(left, right);
+    }
+
+    @Test
+    void evaluate_wraps_operator_exception() {
+        final String statement = UUID.randomUUID().toString();
+        final IllegalArgumentException cause = new IllegalArgumentException();
+        when(operator.evaluate(any())).thenThrow(cause);
+
+        final ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+                () -> createObjectUnderTest(statement).evaluate(event));
+
+        assertThat(exception.getMessage(), equalTo("Unable to evaluate the part of input statement: " + statement));
+        assertThat(exception.getCause(), sameInstance(cause));
+    }
+
+    @Test
+    void evaluate_does_not_wrap_operand_exception() {
+        final ExpressionEvaluationException operandException = new ExpressionEvaluationException("operand", null);
+        when(leftOperand.evaluate(event)).thenThrow(operandException);
+
+        final ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+                () -> createObjectUnderTest("a == b").evaluate(event));
+
+        assertThat(exception, sameInstance(operandException));
+    }
+
+    @Test
+    void isConstant_returns_false() {
+        assertThat(createObjectUnderTest("a == b").isConstant(), equalTo(false));
+    }
+}
@@ -20,6 +20,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 import org.opensearch.dataprepper.expression.util.TestObject;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
 
 import java.util.HashMap;
 import java.util.List;
@@ -56,7 +60,7 @@ class ParseTreeCoercionServiceTest {
             new LiteralTypeConversionsConfiguration();
     private final ExpressionFunctionProvider expressionFunctionProvider = mock(ExpressionFunctionProvider.class);
     private final ParseTreeCoercionService objectUnderTest = new ParseTreeCoercionService(
-            literalTypeConversionsConfiguration.literalTypeConversions(), expressionFunctionProvider);
+            literalTypeConversionsConfiguration.literalTypeConversions(), expressionFunctionProvider, new JacksonEventKeyFactory());
 
     @Test
     void testCoerceTerminalNodeStringType() {
@@ -317,6 +321,114 @@ class ParseTreeCoercionServiceTest {
         assertThat(objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent), equalTo(output));
     }
 
+    @Test
+    void testCompileTerminalNodeLiteralType() {
+        final Integer testInteger = new Random().nextInt(1000);
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.Integer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn(String.valueOf(testInteger));
+        final CompiledExpression compiledExpression = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(compiledExpression.isConstant(), is(true));
+        assertThat(compiledExpression.evaluate(null), equalTo(testInteger));
+    }
+
+    @Test
+    void testCompileTerminalNodeUnsupportedType() {
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(token.getType()).thenReturn(-1);
+        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode));
+    }
+
+    @Test
+    void testCompileTerminalNodeJsonPointerType() {
+        final String testKey = RandomStringUtils.randomAlphabetic(5);
+        final Integer testValue = new Random().nextInt(1000);
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("/" + testKey);
+        final CompiledExpression compiledExpression = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(compiledExpression.isConstant(), is(false));
+        assertThat(compiledExpression.evaluate(createJacksonTestEvent(Map.of(testKey, testValue))), equalTo(testValue));
+        assertThat(compiledExpression.evaluate(createJacksonTestEvent(Map.of())), equalTo(null));
+    }
+
+    @Test
+    void testCompileTerminalNodeJsonPointerTypeUsesEventKeyFactory() {
+        final EventKeyFactory eventKeyFactory = mock(EventKeyFactory.class);
+        final EventKey eventKey = mock(EventKey.class);
+        final Integer testValue = new Random().nextInt(1000);
+        when(eventKeyFactory.createEventKey("/test_key")).thenReturn(eventKey);
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("/test_key");
+        final Event testEvent = mock(Event.class);
+        when(testEvent.get(eventKey, Object.class)).thenReturn(testValue);
+        final ParseTreeCoercionService coercionService = new ParseTreeCoercionService(
+                literalTypeConversionsConfiguration.literalTypeConversions(), expressionFunctionProvider, eventKeyFactory);
+        final CompiledExpression compiledExpression = coercionService.compilePrimaryTerminalNode(terminalNode);
+        assertThat(compiledExpression.evaluate(testEvent), equalTo(testValue));
+    }
+
+    @Test
+    void testCompileTerminalNodeEscapeJsonPointerType() {
+        final String testValue = RandomStringUtils.randomAlphabetic(10);
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.EscapedJsonPointer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("\"/test_key\"");
+        final CompiledExpression compiledExpression = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(compiledExpression.evaluate(createJacksonTestEvent(Map.of("test_key", testValue))), equalTo(testValue));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideKeys")
+    void testCompileTerminalNodeEscapeJsonPointerTypeWithSpecialCharacters(final String testKey, final String testEscapeJsonPointer) {
+        final String testValue = RandomStringUtils.randomAlphabetic(10);
+        final Event testEvent = createTestEvent(Map.of(testKey, testValue));
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.EscapedJsonPointer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn(testEscapeJsonPointer);
+        final CompiledExpression compiledExpression = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(compiledExpression.evaluate(testEvent), equalTo(objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent)));
+    }
+
+    @Test
+    void testCompileTerminalNodeJsonPointerTypeUnSupportedValue() {
+        final String testKey = RandomStringUtils.randomAlphabetic(5);
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("/" + testKey);
+        final Event testEvent = mock(Event.class);
+        when(testEvent.get(any(EventKey.class), eq(Object.class))).thenReturn(new AtomicBoolean());
+        final CompiledExpression compiledExpression = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThrows(ExpressionCoercionException.class, () -> compiledExpression.evaluate(testEvent));
+    }
+
+    @Test
+    void testCompileTerminalNodeFunctionType() {
+        final String key = RandomStringUtils.randomAlphabetic(5);
+        final String value = RandomStringUtils.randomAlphabetic(10);
+        final Event testEvent = createJacksonTestEvent(Map.of(key, value));
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("length(/"+key+")");
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.Function);
+        when(expressionFunctionProvider.provideFunction(eq("length"), eq(List.of("/" + key)), eq(testEvent), any(Function.class))).thenReturn(value.length());
+        final CompiledExpression compiledExpression = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(compiledExpression.isConstant(), is(false));
+        assertThat(compiledExpression.evaluate(testEvent), equalTo(value.length()));
+    }
+
+    @Test
+    void testCompileTerminalNodeFunctionTypeWithInvalidArgument() {
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("length(10)");
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.Function);
+        assertThrows(RuntimeException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode));
+    }
+
+    private Event createJacksonTestEvent(final Object data) {
+        return JacksonEvent.builder().withEventType("event").withData(data).build();
+    }
+
     private Event createTestEvent(final Object data) {
         final Event event = mock(Event.class);
         final JsonNode node = mapper.valueToTree(data);
@@ -11,11 +11,11 @@ import org.junit.jupiter.api.Test;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.hamcrest.MatcherAssert.assertThat;
 
-class ParseTreeEvaluatorConfigurationTest {
+class ParseTreeCompilerConfigurationTest {
 
     @Test
     void parseTreeWalker() {
-        final ParseTreeEvaluatorConfiguration configuration = new ParseTreeEvaluatorConfiguration();
+        final ParseTreeCompilerConfiguration configuration = new ParseTreeCompilerConfiguration();
         assertThat(configuration.parseTreeWalker(), isA(ParseTreeWalker.class));
     }
 }
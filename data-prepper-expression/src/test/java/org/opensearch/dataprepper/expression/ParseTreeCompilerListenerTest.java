@@ -6,7 +6,9 @@
 package org.opensearch.dataprepper.expression;
 
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
@@ -22,15 +24,18 @@ import java.util.Random;
 import java.util.function.Function;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-class ParseTreeEvaluatorListenerTest {
+class ParseTreeCompilerListenerTest {
     private final ExpressionFunctionProvider expressionFunctionProvider = mock(ExpressionFunctionProvider.class);
     private final Random random = new Random();
     private final ParseTreeWalker walker = new ParseTreeWalker();
@@ -38,7 +43,7 @@ class ParseTreeEvaluatorListenerTest {
     private final OperatorConfiguration operatorConfiguration = new OperatorConfiguration();
     private final LiteralTypeConversionsConfiguration literalTypeConversionsConfiguration = new LiteralTypeConversionsConfiguration();
     private final ParseTreeCoercionService coercionService = new ParseTreeCoercionService(
-            literalTypeConversionsConfiguration.literalTypeConversions(), expressionFunctionProvider);
+            literalTypeConversionsConfiguration.literalTypeConversions(), expressionFunctionProvider, new JacksonEventKeyFactory());
     private final List<Operator<?>> operators = Arrays.asList(
             new AndOperator(), new OrOperator(),
             operatorConfiguration.inSetOperator(), operatorConfiguration.notInSetOperator(),
@@ -49,33 +54,36 @@ class ParseTreeEvaluatorListenerTest {
             new NotOperator()
     );
     private final OperatorProvider operatorProvider = new OperatorProvider(operators);
-    private ParseTreeEvaluatorListener objectUnderTest;
+    private ParseTreeCompilerListener objectUnderTest;
 
     private ParseTreeParser constructParseTreeParser() {
         final DataPrepperExpressionParser expressionParser = new ParseTreeParserConfiguration().dataPrepperExpressionParser();
         return new ParseTreeParser(expressionParser);
     }
 
-    private ParseTreeEvaluatorListener createObjectUnderTest(final Event event) {
-        return new ParseTreeEvaluatorListener(operatorProvider, coercionService, event);
+    private ParseTreeCompilerListener createObjectUnderTest() {
+        return new ParseTreeCompilerListener(operatorProvider, coercionService);
     }
 
     private Event createTestEvent(final Object data) {
         return JacksonEvent.builder().withEventType("event").withData(data).build();
     }
 
-    private Object evaluateStatementOnEvent(final String statement, final Event event) {
+    private CompiledExpression compileStatement(final String statement) {
         final ParseTree parseTree = parseTreeParser.parse(statement);
-        objectUnderTest = createObjectUnderTest(event);
+        objectUnderTest = createObjectUnderTest();
         walker.walk(objectUnderTest, parseTree);
         return objectUnderTest.getResult();
     }
 
+    private Object evaluateStatementOnEvent(final String statement, final Event event) {
+        return compileStatement(statement).evaluate(event);
+    }
+
     @Test
     void testVisitErrorNode() {
         final ErrorNode errorNode = mock(ErrorNode.class);
-        final Event testEvent = createTestEvent(new HashMap<>());
-        objectUnderTest = createObjectUnderTest(testEvent);
+        objectUnderTest = createObjectUnderTest();
 
         assertThrows(RuntimeException.class, () -> objectUnderTest.visitErrorNode(errorNode));
     }
@@ -83,8 +91,7 @@ class ParseTreeEvaluatorListenerTest {
     @Test
     void testGetResultWithDoubleWalk() {
         final ParseTree testParseTree = parseTreeParser.parse("true");
-        final Event testEvent = createTestEvent(new HashMap<>());
-        objectUnderTest = createObjectUnderTest(testEvent);
+        objectUnderTest = createObjectUnderTest();
         walker.walk(objectUnderTest, testParseTree);
         walker.walk(objectUnderTest, testParseTree);
         assertThrows(IllegalStateException.class, objectUnderTest::getResult);
@@ -354,4 +361,123 @@ class ParseTreeEvaluatorListenerTest {
         final String testNestedParenthesesStatement = "not ((not false) or true)";
         assertThat(evaluateStatementOnEvent(testNestedParenthesesStatement, testEvent), is(false));
     }
+
+    @Test
+    void testConstantOperationsAreFolded() {
+        final CompiledExpression compiledExpression = compileStatement("not (1 < 2 and \"a\" == \"b\")");
+        assertThat(compiledExpression, instanceOf(ConstantExpression.class));
+        assertThat(compiledExpression.evaluate(createTestEvent(new HashMap<>())), is(true));
+    }
+
+    @Test
+    void testConstantOperationWhichFailsIsNotFolded() {
+        final CompiledExpression compiledExpression = compileStatement("1 and false");
+        assertThat(compiledExpression, instanceOf(OperatorExpression.class));
+        assertThrows(ExpressionEvaluationException.class, () -> compiledExpression.evaluate(createTestEvent(new HashMap<>())));
+    }
+
+    @Test
+    void testOperationWithJsonPointerIsNotFolded() {
+        final CompiledExpression compiledExpression = compileStatement("/status == 200");
+        assertThat(compiledExpression, instanceOf(OperatorExpression.class));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("status", 200))), is(true));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("status", 500))), is(false));
+    }
+
+    @Test
+    void testRegexOperatorWithLiteralPatternIsPrecompiled() {
+        final CompiledExpression regexEqual = compileStatement("/message =~ \"^err.*\"");
+        final CompiledExpression regexNotEqual = compileStatement("/message !~ \"^err.*\"");
+        assertThat(regexEqual, instanceOf(RegexMatchExpression.class));
+        assertThat(regexNotEqual, instanceOf(RegexMatchExpression.class));
+
+        final Event matchingEvent = createTestEvent(Map.of("message", "error"));
+        final Event otherEvent = createTestEvent(Map.of("message", "info"));
+        assertThat(regexEqual.evaluate(matchingEvent), is(true));
+        assertThat(regexEqual.evaluate(otherEvent), is(false));
+        assertThat(regexNotEqual.evaluate(matchingEvent), is(false));
+        assertThat(regexNotEqual.evaluate(otherEvent), is(true));
+    }
+
+    @Test
+    void testRegexOperatorWithLiteralPatternAndInvalidLeftOperand() {
+        final CompiledExpression compiledExpression = compileStatement("/message =~ \"^err.*\"");
+        assertThrows(ExpressionEvaluationException.class, () -> compiledExpression.evaluate(createTestEvent(Map.of("message", 1))));
+    }
+
+    @Test
+    void testRegexOperatorWithInvalidLiteralPatternIsNotPrecompiled() {
+        final CompiledExpression compiledExpression = compileStatement("/message =~ \"(abc\"");
+        assertThat(compiledExpression, instanceOf(OperatorExpression.class));
+        assertThrows(ExpressionEvaluationException.class, () -> compiledExpression.evaluate(createTestEvent(Map.of("message", "abc"))));
+    }
+
+    @Test
+    void testRegexOperatorWithJsonPointerPattern() {
+        final CompiledExpression compiledExpression = compileStatement("/message =~ /pattern");
+        assertThat(compiledExpression, instanceOf(OperatorExpression.class));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("message", "abc", "pattern", "a.c"))), is(true));
+    }
+
+    @Test
+    void testCompiledExpressionIsReusableAcrossEvents() {
+        final String testKey = "testKey";
+        final CompiledExpression compiledExpression = compileStatement(String.format("/%s > 10 and /%s < 20", testKey, testKey));
+        for (int i = 0; i < 30; i++) {
+            assertThat(compiledExpression.evaluate(createTestEvent(Map.of(testKey, i))), is(i > 10 && i < 20));
+        }
+    }
+
+    @Test
+    void testStatementsCompiledWithSharedExpressionsShareTheirCommonSubExpressions() {
+        final SharedExpressions sharedExpressions = new SharedExpressions();
+        final CompiledExpression first = compileStatement("/service == \"a\" and /status > 10", sharedExpressions);
+        final CompiledExpression second = compileStatement("/service == \"a\" and /status < 20", sharedExpressions);
+        final CompiledExpression third = compileStatement("/service == \"b\"", sharedExpressions);
+
+        assertThat(first, instanceOf(SharedExpression.class));
+        // /service, /status, /service == "a", /status > 10, the first "and", /status < 20, the second "and"
+        // and /service == "b"
+        assertThat(sharedExpressions.size(), equalTo(8));
+
+        final Event event = mock(Event.class);
+        when(event.get(any(EventKey.class), eq(Object.class))).thenAnswer(invocation -> {
+            final String key = ((EventKey) invocation.getArgument(0)).getKey();
+            return key.endsWith("service") ? "a" : 15;
+        });
+        final Object[] sharedValues = new Object[sharedExpressions.size()];
+        Arrays.fill(sharedValues, SharedExpression.NOT_EVALUATED);
+
+        assertThat(first.evaluate(event, sharedValues), is(true));
+        assertThat(second.evaluate(event, sharedValues), is(true));
+        assertThat(third.evaluate(event, sharedValues), is(false));
+        verify(event, times(2)).get(any(EventKey.class), eq(Object.class));
+    }
+
+    @Test
+    void testStatementsCompiledWithSharedExpressionsEvaluateWithoutSharedValues() {
+        final SharedExpressions sharedExpressions = new SharedExpressions();
+        final CompiledExpression first = compileStatement("/status > 10", sharedExpressions);
+        final CompiledExpression second = compileStatement("/status > 10 and /status < 20", sharedExpressions);
+
+        assertThat(first.evaluate(createTestEvent(Map.of("status", 15))), is(true));
+        assertThat(second.evaluate(createTestEvent(Map.of("status", 25))), is(false));
+        assertThat(second.evaluate(createTestEvent(Map.of("status", 15)), null), is(true));
+    }
+
+    @Test
+    void testConstantsAreNotShared() {
+        final SharedExpressions sharedExpressions = new SharedExpressions();
+        final CompiledExpression compiledExpression = compileStatement("1 < 2", sharedExpressions);
+
+        assertThat(compiledExpression, instanceOf(ConstantExpression.class));
+        assertThat(sharedExpressions.size(), equalTo(0));
+    }
+
+    private CompiledExpression compileStatement(final String statement, final SharedExpressions sharedExpressions) {
+        final ParseTree parseTree = parseTreeParser.parse(statement);
+        objectUnderTest = new ParseTreeCompilerListener(operatorProvider, coercionService, sharedExpressions);
+        walker.walk(objectUnderTest, parseTree);
+        return objectUnderTest.getResult();
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParseTreeCompilerTest {
+
+    @Mock
+    private OperatorProvider operatorProvider;
+
+    @Mock
+    private ParseTree parseTree;
+
+    @Mock
+    private ParseTreeWalker parseTreeWalker;
+
+    @Mock
+    private ParseTreeCoercionService coercionService;
+
+    @Mock
+    private CompiledExpression compiledExpression;
+
+    private ParseTreeCompiler objectUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        objectUnderTest = new ParseTreeCompiler(operatorProvider, parseTreeWalker, coercionService);
+    }
+
+    @Test
+    void testCompileSuccess() {
+        try (final MockedConstruction<ParseTreeCompilerListener> listeners =
+                     mockConstruction(ParseTreeCompilerListener.class, (mock, context) -> when(mock.getResult()).thenReturn(compiledExpression))) {
+            assertThat(objectUnderTest.compile(parseTree), equalTo(compiledExpression));
+            verify(parseTreeWalker).walk(listeners.constructed().get(0), parseTree);
+        }
+    }
+
+    @Test
+    void testCompileFailureInWalk() {
+        doThrow(new RuntimeException()).when(parseTreeWalker).walk(
+                any(ParseTreeCompilerListener.class), any(ParseTree.class));
+        try (final MockedConstruction<ParseTreeCompilerListener> ignored =
+                     mockConstruction(ParseTreeCompilerListener.class)) {
+            assertThrows(RuntimeException.class, () -> objectUnderTest.compile(parseTree));
+        }
+    }
+
+    @Test
+    void testCompileFailureInGetResult() {
+        try (final MockedConstruction<ParseTreeCompilerListener> ignored =
+                     mockConstruction(ParseTreeCompilerListener.class,
+                             (mock, context) -> when(mock.getResult()).thenThrow(new IllegalStateException()))) {
+            assertThrows(IllegalStateException.class, () -> objectUnderTest.compile(parseTree));
+        }
+    }
+}
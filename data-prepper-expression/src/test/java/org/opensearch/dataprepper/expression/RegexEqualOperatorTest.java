@@ -12,6 +12,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 
+import java.util.regex.Pattern;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -64,4 +66,15 @@ class RegexEqualOperatorTest {
     void testEvalInValidPattern() {
         assertThrows(IllegalArgumentException.class, () -> objectUnderTest.evaluate("a", "*"));
     }
+
+    @Test
+    void testEvalValidArgsWithPattern() {
+        assertThat(objectUnderTest.evaluate("a", Pattern.compile("a*")), is(true));
+        assertThat(objectUnderTest.evaluate("a", Pattern.compile("b*")), is(false));
+    }
+
+    @Test
+    void testEvalInValidArgTypeWithPattern() {
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.evaluate(1, Pattern.compile("a*")));
+    }
 }
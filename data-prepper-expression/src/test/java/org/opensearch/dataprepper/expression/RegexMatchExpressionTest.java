@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RegexMatchExpressionTest {
+    private final OperatorConfiguration operatorConfiguration = new OperatorConfiguration();
+
+    @Mock
+    private CompiledExpression leftOperand;
+
+    @Mock
+    private Event event;
+
+    @Test
+    void evaluate_with_regex_equal_operator() {
+        final RegexMatchExpression objectUnderTest = new RegexMatchExpression(
+                operatorConfiguration.regexEqualOperator(), leftOperand, Pattern.compile("a.c"), "/key =~ \"a.c\"");
+
+        when(leftOperand.evaluate(event)).thenReturn("abc");
+        assertThat(objectUnderTest.evaluate(event), equalTo(true));
+        when(leftOperand.evaluate(event)).thenReturn("xyz");
+        assertThat(objectUnderTest.evaluate(event), equalTo(false));
+    }
+
+    @Test
+    void evaluate_with_regex_not_equal_operator() {
+        final RegexMatchExpression objectUnderTest = new RegexMatchExpression(
+                operatorConfiguration.regexNotEqualOperator(), leftOperand, Pattern.compile("a.c"), "/key !~ \"a.c\"");
+
+        when(leftOperand.evaluate(event)).thenReturn("abc");
+        assertThat(objectUnderTest.evaluate(event), equalTo(false));
+        when(leftOperand.evaluate(event)).thenReturn("xyz");
+        assertThat(objectUnderTest.evaluate(event), equalTo(true));
+    }
+
+    @Test
+    void evaluate_with_non_string_left_operand_throws() {
+        final String statement = UUID.randomUUID().toString();
+        final RegexMatchExpression objectUnderTest = new RegexMatchExpression(
+                operatorConfiguration.regexEqualOperator(), leftOperand, Pattern.compile("a.c"), statement);
+        when(leftOperand.evaluate(event)).thenReturn(1);
+
+        final ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+                () -> objectUnderTest.evaluate(event));
+
+        assertThat(exception.getMessage(), equalTo("Unable to evaluate the part of input statement: " + statement));
+        assertThat(exception.getCause(), instanceOf(IllegalArgumentException.class));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.google.common.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.util.function.ToDoubleFunction;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RegexPatternCacheTest {
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Counter cacheHitsCounter;
+
+    @Mock
+    private Counter cacheMissesCounter;
+
+    @BeforeEach
+    void setUp() {
+        when(pluginMetrics.counter(RegexPatternCache.CACHE_HITS)).thenReturn(cacheHitsCounter);
+        when(pluginMetrics.counter(RegexPatternCache.CACHE_MISSES)).thenReturn(cacheMissesCounter);
+    }
+
+    private RegexPatternCache createObjectUnderTest(final int maximumSize) {
+        return new RegexPatternCache(maximumSize, pluginMetrics);
+    }
+
+    @Test
+    void getPattern_compiles_pattern_on_miss_and_reuses_it_on_hit() {
+        final RegexPatternCache objectUnderTest = createObjectUnderTest(RegexPatternCache.DEFAULT_MAXIMUM_SIZE);
+
+        final Pattern pattern = objectUnderTest.getPattern("a.c");
+
+        assertThat(pattern.pattern(), equalTo("a.c"));
+        verify(cacheMissesCounter).increment();
+        verifyNoInteractions(cacheHitsCounter);
+
+        assertThat(objectUnderTest.getPattern("a.c"), sameInstance(pattern));
+        assertThat(objectUnderTest.getPattern("a.c"), sameInstance(pattern));
+        verify(cacheHitsCounter, times(2)).increment();
+        verify(cacheMissesCounter).increment();
+    }
+
+    @Test
+    void getPattern_throws_and_does_not_cache_invalid_pattern() {
+        final RegexPatternCache objectUnderTest = createObjectUnderTest(RegexPatternCache.DEFAULT_MAXIMUM_SIZE);
+
+        assertThrows(PatternSyntaxException.class, () -> objectUnderTest.getPattern("*"));
+        assertThrows(PatternSyntaxException.class, () -> objectUnderTest.getPattern("*"));
+
+        verify(cacheMissesCounter, times(2)).increment();
+        verifyNoInteractions(cacheHitsCounter);
+    }
+
+    @Test
+    void getPattern_evicts_patterns_beyond_maximum_size() {
+        final RegexPatternCache objectUnderTest = createObjectUnderTest(1);
+
+        final Pattern firstPattern = objectUnderTest.getPattern("a");
+        objectUnderTest.getPattern("b");
+
+        assertThat(objectUnderTest.getPattern("a"), not(sameInstance(firstPattern)));
+        verify(cacheMissesCounter, times(3)).increment();
+        verifyNoInteractions(cacheHitsCounter);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cache_size_gauge_reports_number_of_cached_patterns() {
+        final RegexPatternCache objectUnderTest = createObjectUnderTest(RegexPatternCache.DEFAULT_MAXIMUM_SIZE);
+        final ArgumentCaptor<Cache<String, Pattern>> cacheCaptor = ArgumentCaptor.forClass(Cache.class);
+        final ArgumentCaptor<ToDoubleFunction<Cache<String, Pattern>>> sizeFunctionCaptor =
+                ArgumentCaptor.forClass(ToDoubleFunction.class);
+        verify(pluginMetrics).gauge(eq(RegexPatternCache.CACHE_SIZE), cacheCaptor.capture(), sizeFunctionCaptor.capture());
+
+        objectUnderTest.getPattern("a");
+        objectUnderTest.getPattern("b");
+
+        assertThat(sizeFunctionCaptor.getValue().applyAsDouble(cacheCaptor.getValue()), equalTo(2.0));
+    }
+}
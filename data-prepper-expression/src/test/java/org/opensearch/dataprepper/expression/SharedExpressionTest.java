@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SharedExpressionTest {
+    @Mock
+    private CompiledExpression expression;
+    @Mock
+    private Event event;
+
+    private SharedExpression createObjectUnderTest() {
+        return new SharedExpression(expression, 1);
+    }
+
+    private static Object[] createSharedValues() {
+        final Object[] sharedValues = new Object[2];
+        Arrays.fill(sharedValues, SharedExpression.NOT_EVALUATED);
+        return sharedValues;
+    }
+
+    @Test
+    void evaluate_with_shared_values_evaluates_the_expression_once() {
+        final String value = UUID.randomUUID().toString();
+        final Object[] sharedValues = createSharedValues();
+        when(expression.evaluate(event, sharedValues)).thenReturn(value);
+
+        final SharedExpression objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.evaluate(event, sharedValues), equalTo(value));
+        assertThat(objectUnderTest.evaluate(event, sharedValues), equalTo(value));
+        assertThat(sharedValues[1], equalTo(value));
+        assertThat(sharedValues[0], equalTo(SharedExpression.NOT_EVALUATED));
+        verify(expression).evaluate(event, sharedValues);
+    }
+
+    @Test
+    void evaluate_with_shared_values_reuses_null_value() {
+        final Object[] sharedValues = createSharedValues();
+        when(expression.evaluate(event, sharedValues)).thenReturn(null);
+
+        final SharedExpression objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.evaluate(event, sharedValues), equalTo(null));
+        assertThat(objectUnderTest.evaluate(event, sharedValues), equalTo(null));
+        verify(expression).evaluate(event, sharedValues);
+    }
+
+    @Test
+    void evaluate_with_shared_values_does_not_keep_failures() {
+        final Object[] sharedValues = createSharedValues();
+        when(expression.evaluate(event, sharedValues)).thenThrow(new ExpressionEvaluationException("failed", null));
+
+        final SharedExpression objectUnderTest = createObjectUnderTest();
+
+        assertThrows(ExpressionEvaluationException.class, () -> objectUnderTest.evaluate(event, sharedValues));
+        assertThrows(ExpressionEvaluationException.class, () -> objectUnderTest.evaluate(event, sharedValues));
+        verify(expression, times(2)).evaluate(event, sharedValues);
+    }
+
+    @Test
+    void evaluate_without_shared_values_evaluates_the_expression_every_time() {
+        final String value = UUID.randomUUID().toString();
+        when(expression.evaluate(event)).thenReturn(value);
+
+        final SharedExpression objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.evaluate(event), equalTo(value));
+        assertThat(objectUnderTest.evaluate(event, null), equalTo(value));
+        verify(expression, times(2)).evaluate(event);
+    }
+
+    @Test
+    void isConstant_returns_isConstant_of_the_expression() {
+        when(expression.isConstant()).thenReturn(false);
+
+        assertThat(createObjectUnderTest().isConstant(), equalTo(false));
+    }
+}
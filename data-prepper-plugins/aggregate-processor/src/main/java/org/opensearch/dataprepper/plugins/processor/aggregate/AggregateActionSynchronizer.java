@@ -8,23 +8,22 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
 import io.micrometer.core.instrument.Counter;
-import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.locks.Lock;
 import java.util.Collections;
 
 /**
  * An {@link AggregateAction} contains two functons, {@link AggregateAction#concludeGroup(AggregateActionInput)} and {@link AggregateAction#handleEvent(Event, AggregateActionInput)},
  * that potentially modify a shared state that needs to be synchronized between multiple worker threads. These two functions should not be called on the same {@link AggregateGroup} at the same time,
- * and this class enforces that behavior using the two {@link java.util.concurrent.locks.ReentrantLock} that belong to each {@link AggregateGroup}.
+ * and this class enforces that behavior using the monitor and the conclusion flag of each {@link AggregateGroup}. Neither allocates a lock object, and the monitor is only inflated
+ * into a full lock when workers contend for the same group.
  * The synchronization is designed to hold the following conditions:
  *
  * <ol>
  *     <li>The critical sections of concludeGroup and handleEventForGroup should not be entered at the same time</li>
  *     <li>If a thread is trying to enter the critical section for concludeGroup, no new threads should be able to attempt to enter the critical section for handleEventForGroup.
- *         This condition is achieved using a turnstile synchronization pattern that locks and then immediately unlocks the concludeGroupLock</li>
+ *         This condition is achieved by waiting on the group's monitor while the conclusion flag is set</li>
  *     <li>If multiple threads try to conclude the same {@link AggregateGroup} at the same time, only one should gain access to the critical section for concludeGroup, and
  *     the remaining threads should immediately return from concludeGroup</li>
  * </ol>
@@ -50,50 +49,44 @@ class AggregateActionSynchronizer {
         this.actionConcludeGroupEventsProcessingErrors = pluginMetrics.counter(ACTION_CONCLUDE_GROUP_EVENTS_PROCESSING_ERRORS);
     }
 
-    AggregateActionOutput concludeGroup(final IdentificationKeysHasher.IdentificationKeysMap hash, final AggregateGroup aggregateGroup, final boolean forceConclude) {
-        final Lock concludeGroupLock = aggregateGroup.getConcludeGroupLock();
-        final Lock handleEventForGroupLock = aggregateGroup.getHandleEventForGroupLock();
-
+    AggregateActionOutput concludeGroup(final AggregateGroup aggregateGroup, final boolean forceConclude) {
         AggregateActionOutput actionOutput = new AggregateActionOutput(Collections.emptyList());
-        if (concludeGroupLock.tryLock()) {
-            handleEventForGroupLock.lock();
-
-            try {
-                if (aggregateGroup.shouldConcludeGroup(aggregateGroupManager.getGroupDuration()) || forceConclude) {
-                    LOG.debug("Start critical section in concludeGroup");
-                    actionOutput = aggregateAction.concludeGroup(aggregateGroup);
-                    aggregateGroupManager.closeGroup(hash, aggregateGroup);
+        if (aggregateGroup.tryStartConclusion()) {
+            synchronized (aggregateGroup) {
+                try {
+                    if (aggregateGroup.shouldConcludeGroup(aggregateGroupManager.getGroupDuration()) || forceConclude) {
+                        LOG.debug("Start critical section in concludeGroup");
+                        actionOutput = aggregateAction.concludeGroup(aggregateGroup);
+                        aggregateGroupManager.closeGroup(aggregateGroup);
+                    }
+                } catch (final Exception e) {
+                    LOG.debug("Error while concluding group: ", e);
+                    actionConcludeGroupEventsProcessingErrors.increment();
+                } finally {
+                    aggregateGroup.finishConclusion();
                 }
-            } catch (final Exception e) {
-                LOG.debug("Error while concluding group: ", e);
-                actionConcludeGroupEventsProcessingErrors.increment();
-            } finally {
-                handleEventForGroupLock.unlock();
-                concludeGroupLock.unlock();
             }
         }
         return actionOutput;
     }
 
-    AggregateActionResponse handleEventForGroup(final Event event, final IdentificationKeysHasher.IdentificationKeysMap hash, final AggregateGroup aggregateGroup) {
-        final Lock concludeGroupLock = aggregateGroup.getConcludeGroupLock();
-        final Lock handleEventForGroupLock = aggregateGroup.getHandleEventForGroupLock();
-
-        concludeGroupLock.lock();
-        concludeGroupLock.unlock();
-
+    AggregateActionResponse handleEventForGroup(final Event event, final AggregateGroup aggregateGroup) {
         AggregateActionResponse handleEventResponse;
-        handleEventForGroupLock.lock();
-        try {
-            LOG.debug("Start critical section in handleEventForGroup");
-            handleEventResponse = aggregateAction.handleEvent(event, aggregateGroup);
-            aggregateGroupManager.putGroupWithHash(hash, aggregateGroup);
-        } catch (final Exception e) {
-            LOG.debug("Error while handling event, event will be processed by remainder of the pipeline: ", e);
-            actionHandleEventsProcessingErrors.increment();
-            handleEventResponse = new AggregateActionResponse(event);
-        } finally {
-            handleEventForGroupLock.unlock();
+        synchronized (aggregateGroup) {
+            try {
+                aggregateGroup.awaitConclusion();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            try {
+                LOG.debug("Start critical section in handleEventForGroup");
+                handleEventResponse = aggregateAction.handleEvent(event, aggregateGroup);
+                aggregateGroupManager.putGroup(aggregateGroup);
+            } catch (final Exception e) {
+                LOG.debug("Error while handling event, event will be processed by remainder of the pipeline: ", e);
+                actionHandleEventsProcessingErrors.increment();
+                handleEventResponse = new AggregateActionResponse(event);
+            }
         }
 
         return handleEventResponse;
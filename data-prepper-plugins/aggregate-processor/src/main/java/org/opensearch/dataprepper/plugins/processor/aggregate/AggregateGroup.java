@@ -7,25 +7,42 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.function.Function;
 import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
+/**
+ * The state of one aggregate group. Handling events and concluding the group are synchronized on the group's monitor,
+ * which the JVM only inflates into a full lock when workers contend for the same group. See
+ * {@link AggregateActionSynchronizer} for how the monitor and the conclusion flag are used.
+ */
 class AggregateGroup implements AggregateActionInput {
+    private static final AtomicIntegerFieldUpdater<AggregateGroup> CONCLUDING_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(AggregateGroup.class, "concluding");
+
     private final GroupState groupState;
     private Instant groupStart;
-    private final Lock concludeGroupLock;
-    private final Lock handleEventForGroupLock;
+    private final long fingerprint;
+    private final Object[] identificationKeyValues;
     private final Map<Object, Object> identificationKeys;
     private Function<Duration, Boolean> customShouldConclude;
+    private volatile AggregateGroupManager.GroupExpiry groupExpiry;
+    private volatile boolean stored;
+    private volatile int concluding;
 
-    AggregateGroup(final Map<Object, Object> identificationKeys) {
+    /**
+     * @param fingerprint the fingerprint of the identification key values
+     * @param identificationKeyValues the identification key values, in the order of the identification keys. The group
+     *                                keeps the array, so callers must not modify it afterwards.
+     * @param identificationKeys the identification keys and their values
+     */
+    AggregateGroup(final long fingerprint, final Object[] identificationKeyValues, final Map<Object, Object> identificationKeys) {
         this.groupState = new DefaultGroupState();
+        this.fingerprint = fingerprint;
+        this.identificationKeyValues = identificationKeyValues;
         this.identificationKeys = identificationKeys;
         this.groupStart = Instant.now();
-        this.concludeGroupLock = new ReentrantLock();
-        this.handleEventForGroupLock = new ReentrantLock();
     }
 
     public GroupState getGroupState() {
@@ -40,8 +57,16 @@ class AggregateGroup implements AggregateActionInput {
         return groupStart;
     }
 
-    Lock getConcludeGroupLock() {
-        return concludeGroupLock;
+    long getFingerprint() {
+        return fingerprint;
+    }
+
+    boolean hasIdentificationKeyValues(final Object[] otherIdentificationKeyValues) {
+        return Arrays.equals(identificationKeyValues, otherIdentificationKeyValues);
+    }
+
+    boolean hasSameIdentificationKeyValues(final AggregateGroup otherGroup) {
+        return hasIdentificationKeyValues(otherGroup.identificationKeyValues);
     }
 
     @Override
@@ -49,8 +74,57 @@ class AggregateGroup implements AggregateActionInput {
         customShouldConclude = shouldConclude;
     }
 
-    Lock getHandleEventForGroupLock() {
-        return handleEventForGroupLock;
+    boolean hasCustomShouldConclude() {
+        return customShouldConclude != null;
+    }
+
+    AggregateGroupManager.GroupExpiry getGroupExpiry() {
+        return groupExpiry;
+    }
+
+    void setGroupExpiry(final AggregateGroupManager.GroupExpiry groupExpiry) {
+        this.groupExpiry = groupExpiry;
+    }
+
+    /**
+     * @return true while the group is in the {@link AggregateGroupShard} which owns it
+     */
+    boolean isStored() {
+        return stored;
+    }
+
+    void setStored(final boolean stored) {
+        this.stored = stored;
+    }
+
+    /**
+     * Marks the group as concluding, unless another thread is already concluding it.
+     *
+     * @return true if this thread is now concluding the group
+     */
+    boolean tryStartConclusion() {
+        return CONCLUDING_UPDATER.compareAndSet(this, 0, 1);
+    }
+
+    /**
+     * Clears the concluding mark and wakes the threads waiting in {@link #awaitConclusion()}. The caller must hold the
+     * group's monitor.
+     */
+    void finishConclusion() {
+        concluding = 0;
+        notifyAll();
+    }
+
+    /**
+     * Waits until no thread is concluding the group. The caller must hold the group's monitor, which is released while
+     * waiting so that the concluding thread can enter.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void awaitConclusion() throws InterruptedException {
+        while (concluding != 0) {
+            wait();
+        }
     }
 
     boolean shouldConcludeGroup(final Duration groupDuration) {
@@ -5,51 +5,205 @@
 
 package org.opensearch.dataprepper.plugins.processor.aggregate;
 
-import com.google.common.collect.Maps;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Tracks the aggregate groups of an aggregate processor.
+ * <p>
+ * Groups are found by the 64-bit fingerprint of their identification key values and are spread over lock-striped
+ * {@link AggregateGroupShard}s, so finding the group of an event allocates nothing unless the group is new.
+ * <p>
+ * Groups which conclude after the group duration are indexed by their expiry so that finding the groups to conclude
+ * only visits the groups which have expired, rather than every group. Groups whose action sets a custom conclusion
+ * check are kept apart and checked on every call, since their conclusion does not depend on the group duration.
+ * <p>
+ * {@link #putGroup(AggregateGroup)} and {@link #closeGroup(AggregateGroup)} must be called while holding the group's
+ * monitor, as {@link AggregateActionSynchronizer} does.
+ */
 class AggregateGroupManager {
+    private static final int DEFAULT_SHARD_COUNT = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 8 - 1) << 1;
 
-    private final Map<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> allGroups = Maps.newConcurrentMap();
+    private final AggregateGroupShard[] shards;
+    private final int shardMask;
+    private final NavigableSet<GroupExpiry> groupsByExpiry = new ConcurrentSkipListSet<>();
+    private final Set<AggregateGroup> groupsWithCustomConclusion = ConcurrentHashMap.newKeySet();
+    private final AtomicLong expirySequence = new AtomicLong();
     private final Duration groupDuration;
+    private final List<String> identificationKeys;
+
+    AggregateGroupManager(final Duration groupDuration, final List<String> identificationKeys) {
+        this(groupDuration, identificationKeys, DEFAULT_SHARD_COUNT);
+    }
 
-    AggregateGroupManager(final Duration groupDuration) {
+    /**
+     * @param shardCount the number of shards. Must be a power of two.
+     */
+    AggregateGroupManager(final Duration groupDuration, final List<String> identificationKeys, final int shardCount) {
+        if (Integer.bitCount(shardCount) != 1) {
+            throw new IllegalArgumentException("The shard count must be a power of two.");
+        }
         this.groupDuration = groupDuration;
+        this.identificationKeys = identificationKeys;
+        this.shards = new AggregateGroupShard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new AggregateGroupShard();
+        }
+        this.shardMask = shardCount - 1;
     }
 
-    AggregateGroup getAggregateGroup(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
-        return allGroups.computeIfAbsent(identificationKeysMap, (hash) -> new AggregateGroup(identificationKeysMap.getKeyMap()));
+    /**
+     * Returns the group with the given identification key values, creating it if there is none.
+     *
+     * @param identificationKeyValues the values, as read by {@link IdentificationKeysHasher#readIdentificationKeyValues}.
+     *                                The array is not kept, so callers can reuse it.
+     * @return the group
+     */
+    AggregateGroup getAggregateGroup(final Object[] identificationKeyValues) {
+        final long fingerprint = IdentificationKeysHasher.createFingerprint(identificationKeyValues);
+        final AggregateGroupShard shard = getShard(fingerprint);
+        final AggregateGroup existingGroup = shard.get(fingerprint, identificationKeyValues);
+        if (existingGroup != null) {
+            return existingGroup;
+        }
+
+        final AggregateGroup newGroup = createGroup(fingerprint, identificationKeyValues.clone());
+        final AggregateGroup racingGroup = shard.putIfAbsent(newGroup);
+        if (racingGroup != null) {
+            return racingGroup;
+        }
+        synchronized (newGroup) {
+            scheduleExpiry(newGroup);
+        }
+        return newGroup;
     }
 
-    List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> getGroupsToConclude(final boolean forceConclude) {
-        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = new ArrayList<>();
-        for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : allGroups.entrySet()) {
-            if (groupEntry.getValue().shouldConcludeGroup(groupDuration) || forceConclude) {
-                groupsToConclude.add(groupEntry);
+    List<AggregateGroup> getGroupsToConclude(final boolean forceConclude) {
+        final List<AggregateGroup> groupsToConclude = new ArrayList<>();
+        if (forceConclude) {
+            for (final AggregateGroupShard shard : shards) {
+                shard.addAllTo(groupsToConclude);
+            }
+            return groupsToConclude;
+        }
+
+        final Instant now = Instant.now();
+        for (final GroupExpiry groupExpiry : groupsByExpiry) {
+            if (groupExpiry.expiry.isAfter(now)) {
+                break;
+            }
+            final AggregateGroup aggregateGroup = groupExpiry.aggregateGroup;
+            if (!aggregateGroup.isStored() || aggregateGroup.hasCustomShouldConclude()) {
+                groupsByExpiry.remove(groupExpiry);
+            } else if (aggregateGroup.shouldConcludeGroup(groupDuration)) {
+                groupsToConclude.add(aggregateGroup);
+            }
+        }
+
+        for (final AggregateGroup aggregateGroup : groupsWithCustomConclusion) {
+            if (!aggregateGroup.isStored()) {
+                groupsWithCustomConclusion.remove(aggregateGroup);
+            } else if (aggregateGroup.shouldConcludeGroup(groupDuration)) {
+                groupsToConclude.add(aggregateGroup);
             }
         }
         return groupsToConclude;
     }
 
-    void closeGroup(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
-        allGroups.remove(hashKeyMap, group);
+    void closeGroup(final AggregateGroup group) {
+        getShard(group.getFingerprint()).remove(group);
+        groupsWithCustomConclusion.remove(group);
+        removeExpiry(group);
         group.resetGroup();
     }
 
-    void putGroupWithHash(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
-        allGroups.put(hashKeyMap, group);
+    /**
+     * Puts the group back after an event was handled for it. This stores the group again if it was closed or replaced
+     * while the event was handled, and starts tracking a custom conclusion check set by the action.
+     */
+    void putGroup(final AggregateGroup group) {
+        final boolean restored = !group.isStored();
+        if (restored) {
+            getShard(group.getFingerprint()).put(group);
+        }
+        if (group.hasCustomShouldConclude()) {
+            if (restored || !groupsWithCustomConclusion.contains(group)) {
+                groupsWithCustomConclusion.add(group);
+                removeExpiry(group);
+            }
+        } else if (restored || group.getGroupExpiry() == null) {
+            scheduleExpiry(group);
+        }
     }
 
     long getAllGroupsSize() {
-        return allGroups.size();
+        long allGroupsSize = 0;
+        for (final AggregateGroupShard shard : shards) {
+            allGroupsSize += shard.size();
+        }
+        return allGroupsSize;
     }
 
     Duration getGroupDuration() {
         return this.groupDuration;
     }
+
+    private AggregateGroupShard getShard(final long fingerprint) {
+        return shards[(int) (fingerprint >>> 32) & shardMask];
+    }
+
+    private AggregateGroup createGroup(final long fingerprint, final Object[] identificationKeyValues) {
+        final Map<Object, Object> identificationKeysMap = new HashMap<>();
+        for (int i = 0; i < identificationKeyValues.length; i++) {
+            identificationKeysMap.put(identificationKeys.get(i), identificationKeyValues[i]);
+        }
+        return new AggregateGroup(fingerprint, identificationKeyValues, identificationKeysMap);
+    }
+
+    private void scheduleExpiry(final AggregateGroup group) {
+        removeExpiry(group);
+        final GroupExpiry groupExpiry = new GroupExpiry(group.getGroupStart().plus(groupDuration), expirySequence.getAndIncrement(), group);
+        group.setGroupExpiry(groupExpiry);
+        groupsByExpiry.add(groupExpiry);
+    }
+
+    private void removeExpiry(final AggregateGroup group) {
+        final GroupExpiry groupExpiry = group.getGroupExpiry();
+        if (groupExpiry != null) {
+            groupsByExpiry.remove(groupExpiry);
+            group.setGroupExpiry(null);
+        }
+    }
+
+    /**
+     * The position of a group in the expiry index. The sequence keeps groups which expire at the same instant apart.
+     */
+    static class GroupExpiry implements Comparable<GroupExpiry> {
+        private final Instant expiry;
+        private final long sequence;
+        private final AggregateGroup aggregateGroup;
+
+        GroupExpiry(final Instant expiry, final long sequence, final AggregateGroup aggregateGroup) {
+            this.expiry = expiry;
+            this.sequence = sequence;
+            this.aggregateGroup = aggregateGroup;
+        }
+
+        @Override
+        public int compareTo(final GroupExpiry other) {
+            final int expiryComparison = expiry.compareTo(other.expiry);
+            return expiryComparison != 0 ? expiryComparison : Long.compare(sequence, other.sequence);
+        }
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import java.util.Collection;
+
+/**
+ * One shard of the aggregate groups of an {@link AggregateGroupManager}. Groups are kept in an open addressing table
+ * keyed by the 64-bit fingerprint of their identification key values, so looking up a group needs neither a key
+ * object nor a map entry. Groups whose fingerprints collide are told apart by comparing their identification key
+ * values.
+ * <p>
+ * Each shard has its own lock, so workers only contend when they look up groups in the same shard.
+ */
+class AggregateGroupShard {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] fingerprints;
+    private AggregateGroup[] groups;
+    private int mask;
+    private int size;
+
+    AggregateGroupShard() {
+        fingerprints = new long[INITIAL_CAPACITY];
+        groups = new AggregateGroup[INITIAL_CAPACITY];
+        mask = INITIAL_CAPACITY - 1;
+    }
+
+    /**
+     * @return the group with the given identification key values, or null if the shard does not have one
+     */
+    synchronized AggregateGroup get(final long fingerprint, final Object[] identificationKeyValues) {
+        for (int index = indexOf(fingerprint); groups[index] != null; index = (index + 1) & mask) {
+            if (fingerprints[index] == fingerprint && groups[index].hasIdentificationKeyValues(identificationKeyValues)) {
+                return groups[index];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the group unless the shard already has a group with the same identification key values.
+     *
+     * @return the group which was already in the shard, or null if the given group was added
+     */
+    synchronized AggregateGroup putIfAbsent(final AggregateGroup group) {
+        final int index = find(group);
+        if (groups[index] != null) {
+            return groups[index];
+        }
+        insert(index, group);
+        return null;
+    }
+
+    /**
+     * Adds the group, replacing any group with the same identification key values.
+     *
+     * @return the group which was replaced, or null if there was none
+     */
+    synchronized AggregateGroup put(final AggregateGroup group) {
+        final int index = find(group);
+        final AggregateGroup previousGroup = groups[index];
+        if (previousGroup == null) {
+            insert(index, group);
+        } else if (previousGroup != group) {
+            previousGroup.setStored(false);
+            groups[index] = group;
+            group.setStored(true);
+        }
+        return previousGroup;
+    }
+
+    /**
+     * Removes the given group. Another group with the same identification key values is left in place.
+     *
+     * @return true if the group was removed
+     */
+    synchronized boolean remove(final AggregateGroup group) {
+        for (int index = indexOf(group.getFingerprint()); groups[index] != null; index = (index + 1) & mask) {
+            if (groups[index] == group) {
+                group.setStored(false);
+                deleteAt(index);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized void addAllTo(final Collection<AggregateGroup> target) {
+        for (final AggregateGroup group : groups) {
+            if (group != null) {
+                target.add(group);
+            }
+        }
+    }
+
+    private int find(final AggregateGroup group) {
+        final long fingerprint = group.getFingerprint();
+        int index = indexOf(fingerprint);
+        while (groups[index] != null
+                && !(groups[index] == group || fingerprints[index] == fingerprint && groups[index].hasSameIdentificationKeyValues(group))) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void insert(final int index, final AggregateGroup group) {
+        fingerprints[index] = group.getFingerprint();
+        groups[index] = group;
+        group.setStored(true);
+        size++;
+        if (size * 2 > groups.length) {
+            resize();
+        }
+    }
+
+    /**
+     * Deletes the entry at the index and shifts later entries of the same probe sequence back, so that lookups never
+     * stop early at the hole.
+     */
+    private void deleteAt(final int deletedIndex) {
+        int hole = deletedIndex;
+        for (int index = (hole + 1) & mask; groups[index] != null; index = (index + 1) & mask) {
+            final int homeIndex = indexOf(fingerprints[index]);
+            if (((index - homeIndex) & mask) >= ((index - hole) & mask)) {
+                fingerprints[hole] = fingerprints[index];
+                groups[hole] = groups[index];
+                hole = index;
+            }
+        }
+        fingerprints[hole] = 0;
+        groups[hole] = null;
+    }
+
+    private void resize() {
+        final long[] oldFingerprints = fingerprints;
+        final AggregateGroup[] oldGroups = groups;
+        fingerprints = new long[oldGroups.length * 2];
+        groups = new AggregateGroup[oldGroups.length * 2];
+        mask = groups.length - 1;
+        for (int oldIndex = 0; oldIndex < oldGroups.length; oldIndex++) {
+            if (oldGroups[oldIndex] != null) {
+                int index = indexOf(oldFingerprints[oldIndex]);
+                while (groups[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                fingerprints[index] = oldFingerprints[oldIndex];
+                groups[index] = oldGroups[oldIndex];
+            }
+        }
+    }
+
+    private int indexOf(final long fingerprint) {
+        return (int) fingerprint & mask;
+    }
+}
@@ -23,7 +23,6 @@ import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.time.Instant;
 
 @DataPrepperPlugin(name = "aggregate", pluginType = Processor.class, pluginConfigurationType = AggregateProcessorConfig.class)
@@ -43,6 +42,7 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
     private final AggregateGroupManager aggregateGroupManager;
     private final AggregateActionSynchronizer aggregateActionSynchronizer;
     private final IdentificationKeysHasher identificationKeysHasher;
+    private final int identificationKeysCount;
     private final AggregateAction aggregateAction;
 
     private boolean forceConclude = false;
@@ -51,7 +51,7 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
 
     @DataPrepperPluginConstructor
     public AggregateProcessor(final AggregateProcessorConfig aggregateProcessorConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory, final ExpressionEvaluator expressionEvaluator) {
-        this(aggregateProcessorConfig, pluginMetrics, pluginFactory, new AggregateGroupManager(aggregateProcessorConfig.getGroupDuration()),
+        this(aggregateProcessorConfig, pluginMetrics, pluginFactory, new AggregateGroupManager(aggregateProcessorConfig.getGroupDuration(), aggregateProcessorConfig.getIdentificationKeys()),
                 new IdentificationKeysHasher(aggregateProcessorConfig.getIdentificationKeys()), new AggregateActionSynchronizer.AggregateActionSynchronizerProvider(), expressionEvaluator);
     }
     public AggregateProcessor(final AggregateProcessorConfig aggregateProcessorConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory, final AggregateGroupManager aggregateGroupManager,
@@ -61,6 +61,7 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
         this.aggregateGroupManager = aggregateGroupManager;
         this.expressionEvaluator = expressionEvaluator;
         this.identificationKeysHasher = identificationKeysHasher;
+        this.identificationKeysCount = identificationKeysHasher.getIdentificationKeys().size();
         this.aggregateAction = loadAggregateAction(pluginFactory);
         this.aggregateActionSynchronizer = aggregateActionSynchronizerProvider.provide(aggregateAction, aggregateGroupManager, pluginMetrics);
 
@@ -83,9 +84,9 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
     public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
         final List<Record<Event>> recordsOut = new LinkedList<>();
 
-        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(forceConclude);
-        for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : groupsToConclude) {
-            final AggregateActionOutput actionOutput = aggregateActionSynchronizer.concludeGroup(groupEntry.getKey(), groupEntry.getValue(), forceConclude);
+        final List<AggregateGroup> groupsToConclude = aggregateGroupManager.getGroupsToConclude(forceConclude);
+        for (final AggregateGroup aggregateGroup : groupsToConclude) {
+            final AggregateActionOutput actionOutput = aggregateActionSynchronizer.concludeGroup(aggregateGroup, forceConclude);
 
             final List<Event> concludeGroupEvents = actionOutput != null ? actionOutput.getEvents() : null;
             if (!concludeGroupEvents.isEmpty()) {
@@ -100,16 +101,17 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
 
         int handleEventsOut = 0;
         int handleEventsDropped = 0;
+        final Object[] identificationKeyValues = new Object[identificationKeysCount];
         for (final Record<Event> record : records) {
             final Event event = record.getData();
             if (whenCondition != null && !expressionEvaluator.evaluateConditional(whenCondition, event)) {
                 handleEventsDropped++;
                 continue;
             }
-            final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = identificationKeysHasher.createIdentificationKeysMapFromEvent(event);
-            final AggregateGroup aggregateGroupForEvent = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+            identificationKeysHasher.readIdentificationKeyValues(event, identificationKeyValues);
+            final AggregateGroup aggregateGroupForEvent = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
 
-            final AggregateActionResponse handleEventResponse = aggregateActionSynchronizer.handleEventForGroup(event, identificationKeysMap, aggregateGroupForEvent);
+            final AggregateActionResponse handleEventResponse = aggregateActionSynchronizer.handleEventForGroup(event, aggregateGroupForEvent);
 
             final Event aggregateActionResponseEvent = handleEventResponse.getEvent();
 
@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
 import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,11 +18,9 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
 import java.time.Duration;
 import java.util.List;
-import java.util.concurrent.locks.Lock;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -29,6 +28,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -47,18 +48,9 @@ public class AggregateActionSynchronizerTest {
     @Mock
     private AggregateGroup aggregateGroup;
 
-    @Mock
-    private IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap;
-
     @Mock
     private AggregateActionResponse aggregateActionResponse;
 
-    @Mock
-    private Lock concludeGroupLock;
-
-    @Mock
-    private Lock handleEventForGroupLock;
-
     @Mock
     private Event event;
 
@@ -73,112 +65,118 @@ public class AggregateActionSynchronizerTest {
 
     @BeforeEach
     void setup() {
-        doNothing().when(handleEventForGroupLock).lock();
-        doNothing().when(handleEventForGroupLock).unlock();
-        doNothing().when(concludeGroupLock).unlock();
-        doNothing().when(aggregateGroupManager).putGroupWithHash(identificationKeysMap, aggregateGroup);
-        doNothing().when(aggregateGroupManager).closeGroup(identificationKeysMap, aggregateGroup);
+        doNothing().when(aggregateGroupManager).putGroup(aggregateGroup);
+        doNothing().when(aggregateGroupManager).closeGroup(aggregateGroup);
         when(aggregateGroupManager.getGroupDuration()).thenReturn(Duration.ZERO);
-        when(aggregateGroup.getConcludeGroupLock()).thenReturn(concludeGroupLock);
-        when(aggregateGroup.getHandleEventForGroupLock()).thenReturn(handleEventForGroupLock);
         when(aggregateGroup.shouldConcludeGroup(any(Duration.class))).thenReturn(true);
 
         when(pluginMetrics.counter(AggregateActionSynchronizer.ACTION_HANDLE_EVENTS_PROCESSING_ERRORS)).thenReturn(actionHandleEventsProcessingErrors);
         when(pluginMetrics.counter(AggregateActionSynchronizer.ACTION_CONCLUDE_GROUP_EVENTS_PROCESSING_ERRORS)).thenReturn(actionConcludeGroupEventsProcessingErrors);
     }
 
+    @AfterEach
+    void clearInterruptedStatus() {
+        Thread.interrupted();
+    }
+
     private AggregateActionSynchronizer createObjectUnderTest() {
         final AggregateActionSynchronizer.AggregateActionSynchronizerProvider aggregateActionSynchronizerProvider = new AggregateActionSynchronizer.AggregateActionSynchronizerProvider();
         return aggregateActionSynchronizerProvider.provide(aggregateAction, aggregateGroupManager, pluginMetrics);
     }
 
     @Test
-    void concludeGroup_with_tryLock_false_returns_empty_optional() {
+    void concludeGroup_with_tryStartConclusion_false_returns_empty_optional() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
-        when(concludeGroupLock.tryLock()).thenReturn(false);
+        when(aggregateGroup.tryStartConclusion()).thenReturn(false);
 
-        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, false);
+        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(aggregateGroup, false);
         final List<Event> concludeGroupEvents = actionOutput.getEvents();
 
-        verifyNoInteractions(handleEventForGroupLock);
         verifyNoInteractions(aggregateAction);
         verifyNoInteractions(aggregateGroupManager);
-        verify(concludeGroupLock, times(0)).unlock();
+        verify(aggregateGroup, never()).finishConclusion();
 
         assertTrue(concludeGroupEvents.isEmpty());
     }
 
     @Test
-    void concludeGroup_with_tryLock_true_calls_expected_functions_and_returns_correct_event() {
+    void concludeGroup_with_tryStartConclusion_true_calls_expected_functions_and_returns_correct_event() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
-        when(concludeGroupLock.tryLock()).thenReturn(true);
+        when(aggregateGroup.tryStartConclusion()).thenReturn(true);
         when(aggregateAction.concludeGroup(aggregateGroup)).thenReturn(new AggregateActionOutput(List.of(event)));
 
-        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, false);
+        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(aggregateGroup, false);
         final List<Event> concludeGroupEvents = actionOutput.getEvents();
 
-        final InOrder inOrder = Mockito.inOrder(handleEventForGroupLock, aggregateAction, aggregateGroupManager, concludeGroupLock);
-        inOrder.verify(handleEventForGroupLock).lock();
+        final InOrder inOrder = Mockito.inOrder(aggregateAction, aggregateGroupManager, aggregateGroup);
+        inOrder.verify(aggregateGroup).tryStartConclusion();
         inOrder.verify(aggregateAction).concludeGroup(aggregateGroup);
-        inOrder.verify(aggregateGroupManager).closeGroup(identificationKeysMap, aggregateGroup);
-        inOrder.verify(handleEventForGroupLock).unlock();
-        inOrder.verify(concludeGroupLock).unlock();
+        inOrder.verify(aggregateGroupManager).closeGroup(aggregateGroup);
+        inOrder.verify(aggregateGroup).finishConclusion();
 
         assertThat(concludeGroupEvents.size(), equalTo(1));
         assertThat(concludeGroupEvents.get(0), equalTo(event));
     }
 
     @Test
-    void locks_are_unlocked_and_empty_optional_returned_when_aggregateAction_concludeGroup_throws_exception() {
+    void conclusion_is_finished_and_empty_optional_returned_when_aggregateAction_concludeGroup_throws_exception() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
-        when(concludeGroupLock.tryLock()).thenReturn(true);
+        when(aggregateGroup.tryStartConclusion()).thenReturn(true);
         when(aggregateAction.concludeGroup(aggregateGroup)).thenThrow(RuntimeException.class);
 
-        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, false);
+        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(aggregateGroup, false);
         final List<Event> concludeGroupEvents = actionOutput.getEvents();
 
-        final InOrder inOrder = Mockito.inOrder(handleEventForGroupLock, aggregateAction, concludeGroupLock, actionConcludeGroupEventsProcessingErrors);
-        inOrder.verify(handleEventForGroupLock).lock();
+        final InOrder inOrder = Mockito.inOrder(aggregateAction, aggregateGroup, actionConcludeGroupEventsProcessingErrors);
+        inOrder.verify(aggregateGroup).tryStartConclusion();
         inOrder.verify(aggregateAction).concludeGroup(aggregateGroup);
         inOrder.verify(actionConcludeGroupEventsProcessingErrors).increment();
-        inOrder.verify(handleEventForGroupLock).unlock();
-        inOrder.verify(concludeGroupLock).unlock();
+        inOrder.verify(aggregateGroup).finishConclusion();
+        verify(aggregateGroupManager, never()).closeGroup(aggregateGroup);
 
         assertTrue(concludeGroupEvents.isEmpty());
     }
 
     @Test
-    void handleEventForGroup_calls_expected_functions_and_returns_correct_AggregateActionResponse() {
+    void handleEventForGroup_calls_expected_functions_and_returns_correct_AggregateActionResponse() throws InterruptedException {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
         when(aggregateAction.handleEvent(event, aggregateGroup)).thenReturn(aggregateActionResponse);
 
-        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, identificationKeysMap, aggregateGroup);
+        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, aggregateGroup);
 
-        final InOrder inOrder = Mockito.inOrder(concludeGroupLock, handleEventForGroupLock, aggregateAction, aggregateGroupManager);
-        inOrder.verify(concludeGroupLock).lock();
-        inOrder.verify(concludeGroupLock).unlock();
-        inOrder.verify(handleEventForGroupLock).lock();
+        final InOrder inOrder = Mockito.inOrder(aggregateGroup, aggregateAction, aggregateGroupManager);
+        inOrder.verify(aggregateGroup).awaitConclusion();
         inOrder.verify(aggregateAction).handleEvent(event, aggregateGroup);
-        inOrder.verify(aggregateGroupManager).putGroupWithHash(identificationKeysMap, aggregateGroup);
-        inOrder.verify(handleEventForGroupLock).unlock();
+        inOrder.verify(aggregateGroupManager).putGroup(aggregateGroup);
 
         assertThat(handleEventResponse, equalTo(aggregateActionResponse));
     }
 
     @Test
-    void locks_are_unlocked_and_event_returned_when_aggregateAction_handleEvent_throws_exception() {
+    void handleEventForGroup_restores_interrupted_status_when_interrupted_while_awaiting_conclusion() throws InterruptedException {
+        final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
+        doThrow(InterruptedException.class).when(aggregateGroup).awaitConclusion();
+        when(aggregateAction.handleEvent(event, aggregateGroup)).thenReturn(aggregateActionResponse);
+
+        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, aggregateGroup);
+
+        assertThat(Thread.currentThread().isInterrupted(), equalTo(true));
+        verify(aggregateGroupManager).putGroup(aggregateGroup);
+        assertThat(handleEventResponse, equalTo(aggregateActionResponse));
+    }
+
+    @Test
+    void event_returned_when_aggregateAction_handleEvent_throws_exception() throws InterruptedException {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
         when(aggregateAction.handleEvent(event, aggregateGroup)).thenThrow(RuntimeException.class);
 
-        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, identificationKeysMap, aggregateGroup);
+        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, aggregateGroup);
 
-        final InOrder inOrder = Mockito.inOrder(concludeGroupLock, handleEventForGroupLock, aggregateAction, actionHandleEventsProcessingErrors);
-        inOrder.verify(concludeGroupLock).lock();
-        inOrder.verify(concludeGroupLock).unlock();
-        inOrder.verify(handleEventForGroupLock).lock();
+        final InOrder inOrder = Mockito.inOrder(aggregateGroup, aggregateAction, actionHandleEventsProcessingErrors);
+        inOrder.verify(aggregateGroup).awaitConclusion();
         inOrder.verify(aggregateAction).handleEvent(event, aggregateGroup);
         inOrder.verify(actionHandleEventsProcessingErrors).increment();
-        inOrder.verify(handleEventForGroupLock).unlock();
+        verify(aggregateGroupManager, never()).putGroup(aggregateGroup);
 
         assertThat(handleEventResponse, notNullValue());
         assertThat(handleEventResponse.getEvent(), equalTo(event));
@@ -187,42 +185,37 @@ public class AggregateActionSynchronizerTest {
     @Test
     void conclude_group_with_should_conclude_group_false_returns_empty_optional() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
-        when(concludeGroupLock.tryLock()).thenReturn(true);
+        when(aggregateGroup.tryStartConclusion()).thenReturn(true);
         when(aggregateGroup.shouldConcludeGroup(any(Duration.class))).thenReturn(false);
 
-        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, false);
+        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(aggregateGroup, false);
         final List<Event> concludeGroupEvents = actionOutput.getEvents();
 
-        final InOrder inOrder = Mockito.inOrder(concludeGroupLock, handleEventForGroupLock, aggregateGroup, aggregateGroupManager);
-        inOrder.verify(concludeGroupLock).tryLock();
-        inOrder.verify(handleEventForGroupLock).lock();
+        final InOrder inOrder = Mockito.inOrder(aggregateGroup, aggregateGroupManager);
+        inOrder.verify(aggregateGroup).tryStartConclusion();
         inOrder.verify(aggregateGroup).shouldConcludeGroup(any(Duration.class));
-        inOrder.verify(aggregateGroupManager, times(0)).getGroupDuration();
-        inOrder.verify(handleEventForGroupLock).unlock();
-        inOrder.verify(concludeGroupLock).unlock();
+        inOrder.verify(aggregateGroup).finishConclusion();
+        verify(aggregateGroupManager, times(0)).closeGroup(aggregateGroup);
 
         verifyNoInteractions(aggregateAction);
 
-
         assertTrue(concludeGroupEvents.isEmpty());
     }
 
     @Test
     void conclude_group_with_should_conclude_group_false_force_conclude_true_returns_correct_event() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
-        when(concludeGroupLock.tryLock()).thenReturn(true);
+        when(aggregateGroup.tryStartConclusion()).thenReturn(true);
         when(aggregateGroup.shouldConcludeGroup(any(Duration.class))).thenReturn(false);
         when(aggregateAction.concludeGroup(aggregateGroup)).thenReturn(new AggregateActionOutput(List.of(event)));
 
-        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, true);
+        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(aggregateGroup, true);
         final List<Event> concludeGroupEvents = actionOutput.getEvents();
 
-        final InOrder inOrder = Mockito.inOrder(handleEventForGroupLock, aggregateAction, aggregateGroupManager, concludeGroupLock);
-        inOrder.verify(handleEventForGroupLock).lock();
+        final InOrder inOrder = Mockito.inOrder(aggregateAction, aggregateGroupManager, aggregateGroup);
         inOrder.verify(aggregateAction).concludeGroup(aggregateGroup);
-        inOrder.verify(aggregateGroupManager).closeGroup(identificationKeysMap, aggregateGroup);
-        inOrder.verify(handleEventForGroupLock).unlock();
-        inOrder.verify(concludeGroupLock).unlock();
+        inOrder.verify(aggregateGroupManager).closeGroup(aggregateGroup);
+        inOrder.verify(aggregateGroup).finishConclusion();
 
         assertThat(concludeGroupEvents.size(), equalTo(1));
         assertThat(concludeGroupEvents.get(0), equalTo(event));
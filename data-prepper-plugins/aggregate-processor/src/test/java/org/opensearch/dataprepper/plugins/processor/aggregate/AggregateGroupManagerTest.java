@@ -7,11 +7,12 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -21,124 +22,292 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 public class AggregateGroupManagerTest {
 
+    private static final String IDENTIFICATION_KEY = "identificationKey";
+
     private AggregateGroupManager aggregateGroupManager;
 
-    private IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap;
+    private Object[] identificationKeyValues;
 
     private static final Duration TEST_GROUP_DURATION = Duration.ofSeconds(new Random().nextInt(10) + 10);
 
     @BeforeEach
     void setup() {
-        final Map<Object, Object> identificationKeysHash = new HashMap<>();
-        identificationKeysHash.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
-
-        identificationKeysMap = new IdentificationKeysHasher.IdentificationKeysMap(identificationKeysHash);
+        identificationKeyValues = new Object[] {UUID.randomUUID().toString()};
     }
 
     private AggregateGroupManager createObjectUnderTest() {
-        return new AggregateGroupManager(TEST_GROUP_DURATION);
+        return createObjectUnderTest(TEST_GROUP_DURATION);
+    }
+
+    private AggregateGroupManager createObjectUnderTest(final Duration groupDuration) {
+        return new AggregateGroupManager(groupDuration, List.of(IDENTIFICATION_KEY));
     }
 
     @Test
     void getGroup_with_non_existing_group_state_creates_and_returns_new_group_and_adds_to_allGroups() {
         aggregateGroupManager = createObjectUnderTest();
 
-        final AggregateGroup emptyAggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        final AggregateGroup emptyAggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
         assertThat(emptyAggregateGroup, notNullValue());
         assertThat(emptyAggregateGroup.getGroupState(), equalTo(Collections.emptyMap()));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(1L));
 
-        final AggregateGroup secondAggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        final AggregateGroup secondAggregateGroup = aggregateGroupManager.getAggregateGroup(new Object[] {identificationKeyValues[0]});
         assertThat(secondAggregateGroup, notNullValue());
         assertThat(secondAggregateGroup, is(sameInstance(emptyAggregateGroup)));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(1L));
+    }
+
+    @Test
+    void getGroup_creates_group_with_identification_keys() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
+
+        assertThat(aggregateGroup.getIdentificationKeys(), equalTo(Map.of(IDENTIFICATION_KEY, identificationKeyValues[0])));
+    }
+
+    @Test
+    void getGroup_does_not_keep_identification_key_values_array() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
+        final Object originalValue = identificationKeyValues[0];
+        identificationKeyValues[0] = UUID.randomUUID().toString();
+
+        assertThat(aggregateGroupManager.getAggregateGroup(new Object[] {originalValue}), sameInstance(aggregateGroup));
+        assertThat(aggregateGroupManager.getAggregateGroup(identificationKeyValues), not(sameInstance(aggregateGroup)));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(2L));
     }
 
     @Test
     void getGroupState_returns_a_mutable_GroupState_Map() {
         aggregateGroupManager = createObjectUnderTest();
 
-        final AggregateGroup firstAggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        final AggregateGroup firstAggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
         final GroupState groupState = firstAggregateGroup.getGroupState();
         groupState.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
 
-        final AggregateGroup secondAggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        final AggregateGroup secondAggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
         assertThat(secondAggregateGroup, equalTo(firstAggregateGroup));
         assertThat(secondAggregateGroup.getGroupState(), equalTo(groupState));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 64})
+    void groups_are_found_across_shards(final int shardCount) {
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, List.of(IDENTIFICATION_KEY), shardCount);
 
+        final AggregateGroup[] groups = new AggregateGroup[500];
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = aggregateGroupManager.getAggregateGroup(new Object[] {"value-" + i});
+        }
+
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo((long) groups.length));
+        for (int i = 0; i < groups.length; i++) {
+            assertThat(aggregateGroupManager.getAggregateGroup(new Object[] {"value-" + i}), sameInstance(groups[i]));
+        }
+        assertThat(aggregateGroupManager.getGroupsToConclude(true).size(), equalTo(groups.length));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 3, 12})
+    void constructor_throws_if_shard_count_is_not_a_power_of_two(final int shardCount) {
+        assertThrows(IllegalArgumentException.class, () -> new AggregateGroupManager(TEST_GROUP_DURATION, List.of(IDENTIFICATION_KEY), shardCount));
+    }
+
+    @Test
+    void putGroup_after_closeGroup_stores_group_again() {
+        aggregateGroupManager = createObjectUnderTest(Duration.ZERO);
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
+        aggregateGroupManager.closeGroup(aggregateGroup);
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(0L));
+
+        aggregateGroupManager.putGroup(aggregateGroup);
+        aggregateGroupManager.putGroup(aggregateGroup);
+
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(1L));
+        assertThat(aggregateGroupManager.getAggregateGroup(identificationKeyValues), sameInstance(aggregateGroup));
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), contains(aggregateGroup));
     }
 
     @Test
-    void putGroupWithHash_overwrites_old_group() {
+    void putGroup_overwrites_old_group() {
         aggregateGroupManager = createObjectUnderTest();
 
-        final AggregateGroup expectedOldGroup = mock(AggregateGroup.class);
-        aggregateGroupManager.putGroupWithHash(identificationKeysMap, expectedOldGroup);
-        final AggregateGroup oldGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
-        assertThat(oldGroup, equalTo(expectedOldGroup));
+        final AggregateGroup oldGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
+        aggregateGroupManager.closeGroup(oldGroup);
+        final AggregateGroup newGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
+        assertThat(newGroup, not(sameInstance(oldGroup)));
+
+        aggregateGroupManager.putGroup(oldGroup);
+
+        assertThat(aggregateGroupManager.getAggregateGroup(identificationKeyValues), sameInstance(oldGroup));
+        assertThat(newGroup.isStored(), equalTo(false));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(1L));
+    }
+
+    @Test
+    void getGroupsToConclude_returns_group_once_group_duration_has_passed() {
+        aggregateGroupManager = createObjectUnderTest(Duration.ZERO);
 
-        final AggregateGroup expectedNewGroup = mock(AggregateGroup.class);
-        aggregateGroupManager.putGroupWithHash(identificationKeysMap, expectedNewGroup);
-        final AggregateGroup newGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
-        assertThat(newGroup, equalTo(expectedNewGroup));
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), contains(aggregateGroup));
     }
 
     @Test
-    void getGroupsToConclude_returns_correct_group() {
+    void getGroupsToConclude_does_not_return_group_before_group_duration_has_passed() {
         aggregateGroupManager = createObjectUnderTest();
 
-        final AggregateGroup groupToConclude = mock(AggregateGroup.class);
-        when(groupToConclude.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
-        final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
+        aggregateGroupManager.getAggregateGroup(identificationKeyValues);
+        aggregateGroupManager.putGroup(aggregateGroupManager.getAggregateGroup(identificationKeyValues));
 
-        final AggregateGroup groupToNotConclude = mock(AggregateGroup.class);
-        when(groupToNotConclude.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(false);
-        final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToNotConclude = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), empty());
+    }
 
-        aggregateGroupManager.putGroupWithHash(hashForGroupToConclude, groupToConclude);
-        aggregateGroupManager.putGroupWithHash(hashForGroupToNotConclude, groupToNotConclude);
+    @Test
+    void getGroupsToConclude_with_force_conclude_returns_all() {
+        aggregateGroupManager = createObjectUnderTest();
 
-        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+        final AggregateGroup firstGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
+        final AggregateGroup secondGroup = aggregateGroupManager.getAggregateGroup(new Object[] {UUID.randomUUID().toString()});
 
-        assertThat(groupsToConclude.size(), equalTo(1));
-        assertThat(groupsToConclude.get(0), notNullValue());
-        assertThat(groupsToConclude.get(0).getKey(), equalTo(hashForGroupToConclude));
-        assertThat(groupsToConclude.get(0).getValue(), equalTo(groupToConclude));
+        assertThat(aggregateGroupManager.getGroupsToConclude(true), containsInAnyOrder(firstGroup, secondGroup));
     }
 
     @Test
-    void getGroupsToConclude_with_force_conclude_return_all() {
+    void getGroupsToConclude_keeps_returning_expired_group_until_it_is_closed() {
+        aggregateGroupManager = createObjectUnderTest(Duration.ZERO);
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1));
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1));
+
+        aggregateGroupManager.closeGroup(aggregateGroup);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), empty());
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(0L));
+    }
+
+    @Test
+    void getAggregateGroup_after_closeGroup_returns_new_group() {
+        aggregateGroupManager = createObjectUnderTest(Duration.ZERO);
+
+        final AggregateGroup closedGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
+        aggregateGroupManager.closeGroup(closedGroup);
+
+        final AggregateGroup newGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
+        assertThat(newGroup, not(sameInstance(closedGroup)));
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), contains(newGroup));
+    }
+
+    @Test
+    void getGroupsToConclude_does_not_return_group_which_was_replaced() {
+        aggregateGroupManager = createObjectUnderTest(Duration.ZERO);
+
+        final AggregateGroup replacedGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
+        aggregateGroupManager.closeGroup(replacedGroup);
+        aggregateGroupManager.putGroup(replacedGroup);
+        final AggregateGroup newGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
+        assertThat(newGroup, sameInstance(replacedGroup));
+
+        final AggregateGroup otherGroup = new AggregateGroup(replacedGroup.getFingerprint(), identificationKeyValues, Collections.emptyMap());
+        aggregateGroupManager.putGroup(otherGroup);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), contains(otherGroup));
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), contains(otherGroup));
+    }
+
+    @Test
+    void getGroupsToConclude_returns_group_with_custom_conclusion_before_group_duration_has_passed() {
         aggregateGroupManager = createObjectUnderTest();
 
-        final AggregateGroup groupToConclude1 = mock(AggregateGroup.class);
-        final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude1 = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
+        aggregateGroup.setCustomShouldConclude(duration -> true);
+        aggregateGroupManager.putGroup(aggregateGroup);
+        aggregateGroupManager.putGroup(aggregateGroup);
 
-        final AggregateGroup groupToConclude2 = mock(AggregateGroup.class);
-        final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude2 = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), contains(aggregateGroup));
 
-        aggregateGroupManager.putGroupWithHash(hashForGroupToConclude1, groupToConclude1);
-        aggregateGroupManager.putGroupWithHash(hashForGroupToConclude2, groupToConclude2);
+        aggregateGroupManager.closeGroup(aggregateGroup);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), empty());
 
-        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(true);
+        aggregateGroupManager.putGroup(aggregateGroup);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), contains(aggregateGroup));
+    }
 
-        assertThat(groupsToConclude.size(), equalTo(2));
-        assertThat(groupsToConclude.get(0), notNullValue());
-        assertThat(groupsToConclude.get(1), notNullValue());
+    @Test
+    void getGroupsToConclude_does_not_return_group_with_custom_conclusion_after_group_duration_has_passed() {
+        aggregateGroupManager = createObjectUnderTest(Duration.ZERO);
 
-        if (groupsToConclude.get(0).getKey().equals(hashForGroupToConclude1)) {
-            assertThat(groupsToConclude.get(0).getKey(), equalTo(hashForGroupToConclude1));
-            assertThat(groupsToConclude.get(0).getValue(), equalTo(groupToConclude1));
-            assertThat(groupsToConclude.get(1).getKey(), equalTo(hashForGroupToConclude2));
-            assertThat(groupsToConclude.get(1).getValue(), equalTo(groupToConclude2));
-        } else {
-            assertThat(groupsToConclude.get(0).getKey(), equalTo(hashForGroupToConclude2));
-            assertThat(groupsToConclude.get(0).getValue(), equalTo(groupToConclude2));
-            assertThat(groupsToConclude.get(1).getKey(), equalTo(hashForGroupToConclude1));
-            assertThat(groupsToConclude.get(1).getValue(), equalTo(groupToConclude1));
-        }
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
+        aggregateGroup.setCustomShouldConclude(duration -> false);
+        aggregateGroupManager.putGroup(aggregateGroup);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), empty());
+    }
+
+    @Test
+    void getGroupsToConclude_drops_expiry_of_group_which_set_custom_conclusion_without_being_put() {
+        aggregateGroupManager = createObjectUnderTest(Duration.ZERO);
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
+        aggregateGroup.setCustomShouldConclude(duration -> true);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), empty());
+
+        aggregateGroupManager.putGroup(aggregateGroup);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), contains(aggregateGroup));
+    }
+
+    @Test
+    void getGroupsToConclude_does_not_return_group_with_custom_conclusion_which_was_replaced() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup replacedGroup = aggregateGroupManager.getAggregateGroup(identificationKeyValues);
+        replacedGroup.setCustomShouldConclude(duration -> true);
+        aggregateGroupManager.putGroup(replacedGroup);
+        aggregateGroupManager.closeGroup(replacedGroup);
+        aggregateGroupManager.putGroup(replacedGroup);
+        aggregateGroupManager.putGroup(new AggregateGroup(replacedGroup.getFingerprint(), identificationKeyValues, Collections.emptyMap()));
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), empty());
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), empty());
+    }
+
+    @Test
+    void getGroupDuration_returns_group_duration() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        assertThat(aggregateGroupManager.getGroupDuration(), equalTo(TEST_GROUP_DURATION));
+    }
+
+    @Test
+    void GroupExpiry_orders_by_expiry_then_sequence() {
+        final Instant expiry = Instant.now();
+        final AggregateGroupManager.GroupExpiry earlier = new AggregateGroupManager.GroupExpiry(expiry, 2, mock(AggregateGroup.class));
+        final AggregateGroupManager.GroupExpiry sameExpiryLowerSequence = new AggregateGroupManager.GroupExpiry(expiry.plusMillis(1), 0, mock(AggregateGroup.class));
+        final AggregateGroupManager.GroupExpiry sameExpiryHigherSequence = new AggregateGroupManager.GroupExpiry(expiry.plusMillis(1), 1, mock(AggregateGroup.class));
+
+        assertThat(earlier.compareTo(sameExpiryLowerSequence), lessThan(0));
+        assertThat(sameExpiryHigherSequence.compareTo(earlier), greaterThan(0));
+        assertThat(sameExpiryLowerSequence.compareTo(sameExpiryHigherSequence), lessThan(0));
+        assertThat(sameExpiryHigherSequence.compareTo(sameExpiryLowerSequence), greaterThan(0));
     }
 }
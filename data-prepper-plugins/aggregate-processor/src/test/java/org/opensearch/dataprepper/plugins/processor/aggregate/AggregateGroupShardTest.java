@@ -0,0 +1,177 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class AggregateGroupShardTest {
+
+    private static AggregateGroup createGroup(final long fingerprint, final Object... identificationKeyValues) {
+        return new AggregateGroup(fingerprint, identificationKeyValues, Collections.emptyMap());
+    }
+
+    @Test
+    void get_returns_null_for_empty_shard() {
+        final AggregateGroupShard objectUnderTest = new AggregateGroupShard();
+
+        assertThat(objectUnderTest.get(1L, new Object[] {"value"}), nullValue());
+        assertThat(objectUnderTest.size(), equalTo(0));
+    }
+
+    @Test
+    void putIfAbsent_adds_group_and_get_returns_it() {
+        final AggregateGroupShard objectUnderTest = new AggregateGroupShard();
+        final String value = UUID.randomUUID().toString();
+        final AggregateGroup group = createGroup(1L, value);
+
+        assertThat(objectUnderTest.putIfAbsent(group), nullValue());
+
+        assertThat(objectUnderTest.get(1L, new Object[] {value}), sameInstance(group));
+        assertThat(objectUnderTest.size(), equalTo(1));
+        assertThat(group.isStored(), equalTo(true));
+    }
+
+    @Test
+    void putIfAbsent_returns_existing_group_with_same_identification_key_values() {
+        final AggregateGroupShard objectUnderTest = new AggregateGroupShard();
+        final AggregateGroup existingGroup = createGroup(1L, "value");
+        final AggregateGroup newGroup = createGroup(1L, "value");
+        objectUnderTest.putIfAbsent(existingGroup);
+
+        assertThat(objectUnderTest.putIfAbsent(newGroup), sameInstance(existingGroup));
+        assertThat(objectUnderTest.putIfAbsent(existingGroup), sameInstance(existingGroup));
+
+        assertThat(objectUnderTest.size(), equalTo(1));
+        assertThat(newGroup.isStored(), equalTo(false));
+    }
+
+    @Test
+    void groups_with_colliding_fingerprints_are_kept_apart() {
+        final AggregateGroupShard objectUnderTest = new AggregateGroupShard();
+        final AggregateGroup firstGroup = createGroup(7L, "first");
+        final AggregateGroup secondGroup = createGroup(7L, "second");
+
+        objectUnderTest.putIfAbsent(firstGroup);
+        objectUnderTest.putIfAbsent(secondGroup);
+
+        assertThat(objectUnderTest.get(7L, new Object[] {"first"}), sameInstance(firstGroup));
+        assertThat(objectUnderTest.get(7L, new Object[] {"second"}), sameInstance(secondGroup));
+        assertThat(objectUnderTest.get(7L, new Object[] {"third"}), nullValue());
+        assertThat(objectUnderTest.get(23L, new Object[] {"first"}), nullValue());
+        assertThat(objectUnderTest.size(), equalTo(2));
+    }
+
+    @Test
+    void put_replaces_group_with_same_identification_key_values() {
+        final AggregateGroupShard objectUnderTest = new AggregateGroupShard();
+        final AggregateGroup oldGroup = createGroup(1L, "value");
+        final AggregateGroup newGroup = createGroup(1L, "value");
+
+        assertThat(objectUnderTest.put(oldGroup), nullValue());
+        assertThat(objectUnderTest.put(oldGroup), sameInstance(oldGroup));
+        assertThat(objectUnderTest.put(newGroup), sameInstance(oldGroup));
+
+        assertThat(objectUnderTest.get(1L, new Object[] {"value"}), sameInstance(newGroup));
+        assertThat(objectUnderTest.size(), equalTo(1));
+        assertThat(oldGroup.isStored(), equalTo(false));
+        assertThat(newGroup.isStored(), equalTo(true));
+    }
+
+    @Test
+    void remove_removes_only_the_given_group() {
+        final AggregateGroupShard objectUnderTest = new AggregateGroupShard();
+        final AggregateGroup storedGroup = createGroup(1L, "value");
+        final AggregateGroup otherGroup = createGroup(1L, "value");
+        objectUnderTest.putIfAbsent(storedGroup);
+
+        assertThat(objectUnderTest.remove(otherGroup), equalTo(false));
+        assertThat(objectUnderTest.size(), equalTo(1));
+
+        assertThat(objectUnderTest.remove(storedGroup), equalTo(true));
+        assertThat(objectUnderTest.size(), equalTo(0));
+        assertThat(storedGroup.isStored(), equalTo(false));
+        assertThat(objectUnderTest.get(1L, new Object[] {"value"}), nullValue());
+        assertThat(objectUnderTest.remove(storedGroup), equalTo(false));
+    }
+
+    @Test
+    void remove_keeps_groups_later_in_the_probe_sequence_reachable() {
+        final AggregateGroupShard objectUnderTest = new AggregateGroupShard();
+        final AggregateGroup firstGroup = createGroup(3L, "first");
+        final AggregateGroup secondGroup = createGroup(3L, "second");
+        final AggregateGroup neighborGroup = createGroup(4L, "neighbor");
+        final AggregateGroup thirdGroup = createGroup(3L, "third");
+        objectUnderTest.putIfAbsent(firstGroup);
+        objectUnderTest.putIfAbsent(secondGroup);
+        objectUnderTest.putIfAbsent(neighborGroup);
+        objectUnderTest.putIfAbsent(thirdGroup);
+
+        objectUnderTest.remove(firstGroup);
+
+        assertThat(objectUnderTest.get(3L, new Object[] {"second"}), sameInstance(secondGroup));
+        assertThat(objectUnderTest.get(3L, new Object[] {"third"}), sameInstance(thirdGroup));
+        assertThat(objectUnderTest.get(4L, new Object[] {"neighbor"}), sameInstance(neighborGroup));
+
+        objectUnderTest.remove(secondGroup);
+
+        assertThat(objectUnderTest.get(3L, new Object[] {"third"}), sameInstance(thirdGroup));
+        assertThat(objectUnderTest.get(4L, new Object[] {"neighbor"}), sameInstance(neighborGroup));
+        assertThat(objectUnderTest.size(), equalTo(2));
+    }
+
+    @Test
+    void shard_grows_to_hold_many_groups() {
+        final AggregateGroupShard objectUnderTest = new AggregateGroupShard();
+        final List<AggregateGroup> groups = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final AggregateGroup group = createGroup(i % 100, "value-" + i);
+            groups.add(group);
+            objectUnderTest.putIfAbsent(group);
+        }
+
+        assertThat(objectUnderTest.size(), equalTo(1000));
+        for (int i = 0; i < 1000; i++) {
+            assertThat(objectUnderTest.get(i % 100, new Object[] {"value-" + i}), sameInstance(groups.get(i)));
+        }
+
+        for (int i = 0; i < 1000; i += 2) {
+            assertThat(objectUnderTest.remove(groups.get(i)), equalTo(true));
+        }
+        for (int i = 1; i < 1000; i += 2) {
+            assertThat(objectUnderTest.get(i % 100, new Object[] {"value-" + i}), sameInstance(groups.get(i)));
+        }
+        assertThat(objectUnderTest.size(), equalTo(500));
+    }
+
+    @Test
+    void addAllTo_adds_all_groups() {
+        final AggregateGroupShard objectUnderTest = new AggregateGroupShard();
+        final List<AggregateGroup> target = new ArrayList<>();
+        objectUnderTest.addAllTo(target);
+        assertThat(target, empty());
+
+        final AggregateGroup firstGroup = createGroup(1L, "first");
+        final AggregateGroup secondGroup = createGroup(2L, "second");
+        objectUnderTest.putIfAbsent(firstGroup);
+        objectUnderTest.putIfAbsent(secondGroup);
+
+        objectUnderTest.addAllTo(target);
+
+        assertThat(target, containsInAnyOrder(firstGroup, secondGroup));
+    }
+}
@@ -11,19 +11,28 @@ import java.lang.reflect.Field;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class AggregateGroupTest {
 
     private static final Duration TEST_GROUP_DURATION = Duration.ofSeconds(new Random().nextInt(10) + 10);
 
+    private AggregateGroup createObjectUnderTest() {
+        return new AggregateGroup(new Random().nextLong(), new Object[] {UUID.randomUUID().toString()}, Collections.emptyMap());
+    }
+
     @Test
     void resetGroup_after_getting_group_state_clears_group_state() {
-        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+        final AggregateGroup aggregateGroup = createObjectUnderTest();
 
         final GroupState groupState = aggregateGroup.getGroupState();
         groupState.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
@@ -35,7 +44,7 @@ public class AggregateGroupTest {
 
     @Test
     void shouldConcludeGroup_returns_true_when_duration_is_over() throws NoSuchFieldException, IllegalAccessException {
-        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+        final AggregateGroup aggregateGroup = createObjectUnderTest();
         reflectivelySetField(aggregateGroup, "groupStart", Instant.now().minusSeconds(TEST_GROUP_DURATION.getSeconds()));
 
         assertThat(aggregateGroup.shouldConcludeGroup(TEST_GROUP_DURATION), equalTo(true));
@@ -44,12 +53,111 @@ public class AggregateGroupTest {
 
     @Test
     void shouldConcludeGroup_returns_false_when_duration_is_not_over() throws NoSuchFieldException, IllegalAccessException {
-        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+        final AggregateGroup aggregateGroup = createObjectUnderTest();
         reflectivelySetField(aggregateGroup, "groupStart", Instant.now().plusSeconds(TEST_GROUP_DURATION.getSeconds()));
 
         assertThat(aggregateGroup.shouldConcludeGroup(TEST_GROUP_DURATION), equalTo(false));
     }
 
+    @Test
+    void constructor_keeps_fingerprint_and_identification_keys() {
+        final long fingerprint = new Random().nextLong();
+        final String value = UUID.randomUUID().toString();
+        final Map<Object, Object> identificationKeys = Map.of(UUID.randomUUID().toString(), value);
+        final AggregateGroup aggregateGroup = new AggregateGroup(fingerprint, new Object[] {value}, identificationKeys);
+
+        assertThat(aggregateGroup.getFingerprint(), equalTo(fingerprint));
+        assertThat(aggregateGroup.getIdentificationKeys(), sameInstance(identificationKeys));
+        assertThat(aggregateGroup.hasIdentificationKeyValues(new Object[] {new String(value)}), equalTo(true));
+        assertThat(aggregateGroup.hasIdentificationKeyValues(new Object[] {UUID.randomUUID().toString()}), equalTo(false));
+        assertThat(aggregateGroup.hasIdentificationKeyValues(new Object[] {value, null}), equalTo(false));
+    }
+
+    @Test
+    void hasSameIdentificationKeyValues_compares_identification_key_values() {
+        final String value = UUID.randomUUID().toString();
+        final AggregateGroup aggregateGroup = new AggregateGroup(1L, new Object[] {value}, Collections.emptyMap());
+
+        assertThat(aggregateGroup.hasSameIdentificationKeyValues(new AggregateGroup(2L, new Object[] {value}, Collections.emptyMap())), equalTo(true));
+        assertThat(aggregateGroup.hasSameIdentificationKeyValues(createObjectUnderTest()), equalTo(false));
+    }
+
+    @Test
+    void hasCustomShouldConclude_returns_true_after_setCustomShouldConclude() {
+        final AggregateGroup aggregateGroup = createObjectUnderTest();
+        assertThat(aggregateGroup.hasCustomShouldConclude(), equalTo(false));
+
+        aggregateGroup.setCustomShouldConclude(duration -> true);
+
+        assertThat(aggregateGroup.hasCustomShouldConclude(), equalTo(true));
+        assertThat(aggregateGroup.shouldConcludeGroup(TEST_GROUP_DURATION), equalTo(true));
+    }
+
+    @Test
+    void setStored_changes_isStored() {
+        final AggregateGroup aggregateGroup = createObjectUnderTest();
+        assertThat(aggregateGroup.isStored(), equalTo(false));
+
+        aggregateGroup.setStored(true);
+        assertThat(aggregateGroup.isStored(), equalTo(true));
+
+        aggregateGroup.setStored(false);
+        assertThat(aggregateGroup.isStored(), equalTo(false));
+    }
+
+    @Test
+    void tryStartConclusion_returns_false_while_group_is_concluding() {
+        final AggregateGroup aggregateGroup = createObjectUnderTest();
+
+        assertThat(aggregateGroup.tryStartConclusion(), equalTo(true));
+        assertThat(aggregateGroup.tryStartConclusion(), equalTo(false));
+
+        synchronized (aggregateGroup) {
+            aggregateGroup.finishConclusion();
+        }
+
+        assertThat(aggregateGroup.tryStartConclusion(), equalTo(true));
+    }
+
+    @Test
+    void awaitConclusion_returns_immediately_when_group_is_not_concluding() throws InterruptedException {
+        final AggregateGroup aggregateGroup = createObjectUnderTest();
+
+        synchronized (aggregateGroup) {
+            aggregateGroup.awaitConclusion();
+        }
+    }
+
+    @Test
+    void awaitConclusion_waits_until_conclusion_is_finished() throws InterruptedException {
+        final AggregateGroup aggregateGroup = createObjectUnderTest();
+        assertThat(aggregateGroup.tryStartConclusion(), equalTo(true));
+
+        final CountDownLatch waiterFinished = new CountDownLatch(1);
+        final AtomicBoolean concludingWhenWaitFinished = new AtomicBoolean(true);
+        final Thread waiter = new Thread(() -> {
+            synchronized (aggregateGroup) {
+                try {
+                    aggregateGroup.awaitConclusion();
+                    concludingWhenWaitFinished.set(aggregateGroup.tryStartConclusion() == false);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            waiterFinished.countDown();
+        });
+        waiter.start();
+
+        assertThat(waiterFinished.await(100, TimeUnit.MILLISECONDS), equalTo(false));
+
+        synchronized (aggregateGroup) {
+            aggregateGroup.finishConclusion();
+        }
+
+        assertThat(waiterFinished.await(5, TimeUnit.SECONDS), equalTo(true));
+        assertThat(concludingWhenWaitFinished.get(), equalTo(false));
+    }
+
     private void reflectivelySetField(final AggregateGroup aggregateGroup, final String fieldName, final Object value) throws NoSuchFieldException, IllegalAccessException {
         final Field field = AggregateGroup.class.getDeclaredField(fieldName);
         try {
@@ -27,7 +27,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
-import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -56,9 +55,6 @@ public class AggregateProcessorTest {
     @Mock
     private IdentificationKeysHasher identificationKeysHasher;
 
-    @Mock
-    private IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap;
-
     @Mock
     private AggregateProcessorConfig aggregateProcessorConfig;
 
@@ -161,10 +157,8 @@ public class AggregateProcessorTest {
     class TestDoExecute {
         @BeforeEach
         void setup() {
-            when(identificationKeysHasher.createIdentificationKeysMapFromEvent(event))
-                    .thenReturn(identificationKeysMap);
-            when(aggregateGroupManager.getAggregateGroup(identificationKeysMap)).thenReturn(aggregateGroup);
-            when(aggregateActionSynchronizer.handleEventForGroup(event, identificationKeysMap, aggregateGroup)).thenReturn(aggregateActionResponse);
+            when(aggregateGroupManager.getAggregateGroup(any(Object[].class))).thenReturn(aggregateGroup);
+            when(aggregateActionSynchronizer.handleEventForGroup(event, aggregateGroup)).thenReturn(aggregateActionResponse);
         }
 
         @Test
@@ -208,11 +202,7 @@ public class AggregateProcessorTest {
                 .withData(eventMap2)
                 .withEventType("event")
                 .build();
-
-
-            when(identificationKeysHasher.createIdentificationKeysMapFromEvent(firstEvent))
-                    .thenReturn(identificationKeysMap);
-            when(aggregateActionSynchronizer.handleEventForGroup(firstEvent, identificationKeysMap, aggregateGroup)).thenReturn(firstAggregateActionResponse);
+            when(aggregateActionSynchronizer.handleEventForGroup(firstEvent, aggregateGroup)).thenReturn(firstAggregateActionResponse);
             when(expressionEvaluator.evaluateConditional(condition, event)).thenReturn(true);
             when(expressionEvaluator.evaluateConditional(condition, firstEvent)).thenReturn(true);
             when(expressionEvaluator.evaluateConditional(condition, secondEvent)).thenReturn(false);
@@ -270,11 +260,9 @@ public class AggregateProcessorTest {
         @Test
         void concludeGroup_returning_with_no_event_does_not_add_event_to_records_out() {
             final AggregateProcessor objectUnderTest = createObjectUnderTest();
-
-            final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry = new AbstractMap.SimpleEntry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>(identificationKeysMap, aggregateGroup);
-            when(aggregateGroupManager.getGroupsToConclude(eq(false))).thenReturn(Collections.singletonList(groupEntry));
+            when(aggregateGroupManager.getGroupsToConclude(eq(false))).thenReturn(Collections.singletonList(aggregateGroup));
             when(aggregateActionResponse.getEvent()).thenReturn(null);
-            when(aggregateActionSynchronizer.concludeGroup(identificationKeysMap, aggregateGroup, false)).thenReturn(new AggregateActionOutput(List.of()));
+            when(aggregateActionSynchronizer.concludeGroup(aggregateGroup, false)).thenReturn(new AggregateActionOutput(List.of()));
 
             final List<Record<Event>> recordsOut = (List<Record<Event>>) objectUnderTest.doExecute(Collections.singletonList(new Record<>(event)));
 
@@ -286,17 +274,15 @@ public class AggregateProcessorTest {
             verifyNoInteractions(actionConcludeGroupEventsOutCounter);
 
             verify(aggregateGroupManager).getGroupsToConclude(eq(false));
-            verify(aggregateActionSynchronizer).concludeGroup(identificationKeysMap, aggregateGroup, false);
+            verify(aggregateActionSynchronizer).concludeGroup(aggregateGroup, false);
         }
 
         @Test
         void concludeGroup_returning_with_event_adds_event_to_records_out() {
             final AggregateProcessor objectUnderTest = createObjectUnderTest();
-
-            final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry = new AbstractMap.SimpleEntry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>(identificationKeysMap, aggregateGroup);
-            when(aggregateGroupManager.getGroupsToConclude(eq(false))).thenReturn(Collections.singletonList(groupEntry));
+            when(aggregateGroupManager.getGroupsToConclude(eq(false))).thenReturn(Collections.singletonList(aggregateGroup));
             when(aggregateActionResponse.getEvent()).thenReturn(null);
-            when(aggregateActionSynchronizer.concludeGroup(identificationKeysMap, aggregateGroup, false)).thenReturn(new AggregateActionOutput(List.of(event)));
+            when(aggregateActionSynchronizer.concludeGroup(aggregateGroup, false)).thenReturn(new AggregateActionOutput(List.of(event)));
 
             final List<Record<Event>> recordsOut = (List<Record<Event>>) objectUnderTest.doExecute(Collections.singletonList(new Record<>(event)));
 
@@ -310,18 +296,16 @@ public class AggregateProcessorTest {
             verifyNoInteractions(actionConcludeGroupEventsDroppedCounter);
 
             verify(aggregateGroupManager).getGroupsToConclude(eq(false));
-            verify(aggregateActionSynchronizer).concludeGroup(identificationKeysMap, aggregateGroup, false);
+            verify(aggregateActionSynchronizer).concludeGroup(aggregateGroup, false);
         }
 
         @Test
         void concludeGroup_after_prepare_for_shutdown() {
             final AggregateProcessor objectUnderTest = createObjectUnderTest();
             objectUnderTest.prepareForShutdown();
-
-            final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry = new AbstractMap.SimpleEntry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>(identificationKeysMap, aggregateGroup);
-            when(aggregateGroupManager.getGroupsToConclude(eq(true))).thenReturn(Collections.singletonList(groupEntry));
+            when(aggregateGroupManager.getGroupsToConclude(eq(true))).thenReturn(Collections.singletonList(aggregateGroup));
             when(aggregateActionResponse.getEvent()).thenReturn(null);
-            when(aggregateActionSynchronizer.concludeGroup(identificationKeysMap, aggregateGroup, true)).thenReturn(new AggregateActionOutput(List.of(event)));
+            when(aggregateActionSynchronizer.concludeGroup(aggregateGroup, true)).thenReturn(new AggregateActionOutput(List.of(event)));
 
             final List<Record<Event>> recordsOut = (List<Record<Event>>) objectUnderTest.doExecute(Collections.singletonList(new Record<>(event)));
 
@@ -335,7 +319,7 @@ public class AggregateProcessorTest {
             verifyNoInteractions(actionConcludeGroupEventsDroppedCounter);
 
             verify(aggregateGroupManager).getGroupsToConclude(eq(true));
-            verify(aggregateActionSynchronizer).concludeGroup(identificationKeysMap, aggregateGroup, true);
+            verify(aggregateActionSynchronizer).concludeGroup(aggregateGroup, true);
         }
     }
 
@@ -140,6 +140,25 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
         }
     }
 
+    /**
+     * Waits until the buffer has slots for the given number of records, or for all of its slots when the number
+     * exceeds its capacity. The slots are released again before returning, so they are not reserved for the caller.
+     *
+     * @param numberOfRecords the number of records the caller wants to write
+     * @param timeoutInMillis how long to wait before giving up
+     * @return true if the slots were available before the timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public boolean awaitCapacity(final int numberOfRecords, final int timeoutInMillis) throws InterruptedException {
+        final int permits = Math.min(numberOfRecords, bufferCapacity);
+        if (!capacitySemaphore.tryAcquire(permits, timeoutInMillis, TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        capacitySemaphore.release(permits);
+        return true;
+    }
+
     /**
      * Retrieves and removes the batch of records from the head of the queue. The batch size is defined/determined by
      * the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the @param timeoutInMillis. The timeoutInMillis
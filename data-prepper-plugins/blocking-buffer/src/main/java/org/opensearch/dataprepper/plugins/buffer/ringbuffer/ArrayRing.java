@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A preallocated, array-backed multi-producer/multi-consumer ring. Each slot carries a sequence number which tells
+ * producers when the slot is free and consumers when the slot has been published. Producers claim a contiguous range
+ * of slots with a single atomic add; consumers claim a contiguous range of published slots with a single CAS.
+ * <p>
+ * The ring does not track capacity on its own. Callers must make sure that no more than {@link #getSlotCount()}
+ * elements are outstanding before calling {@link #publish(Collection)}, which {@link RingBuffer} does with its
+ * capacity permits.
+ */
+class ArrayRing<T> {
+    private final int slotCount;
+    private final int mask;
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerPosition = new AtomicLong();
+    private final AtomicLong consumerPosition = new AtomicLong();
+
+    ArrayRing(final int minimumCapacity) {
+        if (minimumCapacity <= 0) {
+            throw new IllegalArgumentException("Ring capacity must be positive");
+        }
+        this.slotCount = nextPowerOfTwo(minimumCapacity);
+        this.mask = slotCount - 1;
+        this.elements = new Object[slotCount];
+        this.sequences = new AtomicLongArray(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Claims one slot per element and publishes the elements in iteration order.
+     *
+     * @param batch the elements to publish
+     */
+    void publish(final Collection<T> batch) {
+        final int size = batch.size();
+        if (size == 0) {
+            return;
+        }
+        long position = producerPosition.getAndAdd(size);
+        for (final T element : batch) {
+            publishAt(position++, element);
+        }
+    }
+
+    /**
+     * Claims one slot and publishes the element.
+     *
+     * @param element the element to publish
+     */
+    void publish(final T element) {
+        publishAt(producerPosition.getAndIncrement(), element);
+    }
+
+    private void publishAt(final long position, final T element) {
+        final int index = (int) position & mask;
+        while (sequences.get(index) != position) {
+            // The consumer which claimed the previous lap of this slot has not released it yet.
+            Thread.onSpinWait();
+        }
+        elements[index] = element;
+        sequences.lazySet(index, position + 1);
+    }
+
+    /**
+     * Claims up to {@code maxElements} published elements from the head of the ring and adds them to the target.
+     *
+     * @param target      the list to add the claimed elements to
+     * @param maxElements the maximum number of elements to claim
+     * @return the number of elements claimed
+     */
+    @SuppressWarnings("unchecked")
+    int drainTo(final List<T> target, final int maxElements) {
+        while (maxElements > 0) {
+            final long head = consumerPosition.get();
+            int available = 0;
+            while (available < maxElements && sequences.get((int) (head + available) & mask) == head + available + 1) {
+                available++;
+            }
+            if (available == 0) {
+                return 0;
+            }
+            if (consumerPosition.compareAndSet(head, head + available)) {
+                for (int i = 0; i < available; i++) {
+                    final long position = head + i;
+                    final int index = (int) position & mask;
+                    target.add((T) elements[index]);
+                    elements[index] = null;
+                    sequences.lazySet(index, position + slotCount);
+                }
+                return available;
+            }
+        }
+        return 0;
+    }
+
+    boolean isEmpty() {
+        return consumerPosition.get() >= producerPosition.get();
+    }
+
+    private static int nextPowerOfTwo(final int value) {
+        final int highestOneBit = Integer.highestOneBit(value);
+        if (highestOneBit == value) {
+            return value;
+        }
+        if (highestOneBit == 1 << 30) {
+            throw new IllegalArgumentException("Ring capacity is too large: " + value);
+        }
+        return highestOneBit << 1;
+    }
+}
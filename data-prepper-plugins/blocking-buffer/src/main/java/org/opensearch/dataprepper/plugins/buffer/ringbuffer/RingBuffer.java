@@ -0,0 +1,287 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * A bounded RingBuffer is an implementation of {@link Buffer} using a preallocated, array-backed multi-producer and
+ * multi-consumer ring. Unlike the bounded_blocking buffer, neither writes nor reads take a lock: writers reserve
+ * capacity with a CAS and claim a contiguous range of slots with a single atomic add, while readers claim a contiguous
+ * range of published slots with a single CAS. No per-record nodes are allocated.
+ * <p>
+ * Capacity semantics match the bounded_blocking buffer. The capacity {@link #ATTRIBUTE_BUFFER_CAPACITY} counts both
+ * records in the ring and records which have been read but not yet checkpointed, so {@link #write(Record, int)} waits
+ * up to the timeout for a checkpoint to free space. {@link #read(int)} returns up to {@link #ATTRIBUTE_BATCH_SIZE}
+ * records in the order they were published.
+ */
+@DataPrepperPlugin(name = "ring_buffer", pluginType = Buffer.class)
+public class RingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(RingBuffer.class);
+    private static final int DEFAULT_BUFFER_CAPACITY = 12_800;
+    private static final int DEFAULT_BATCH_SIZE = 200;
+    private static final String PLUGIN_NAME = "ring_buffer";
+    private static final String ATTRIBUTE_BUFFER_CAPACITY = "buffer_size";
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String RING_BUFFER = "RingBuffer";
+    private static final String BUFFER_USAGE_METRIC = "bufferUsage";
+    public static final String CAPACITY_USED_METRIC = "capacityUsed";
+    private static final int ZERO_TIMEOUT_POLL_MILLIS = 5;
+    private static final int SPIN_TRIES = 64;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final ArrayRing<T> ring;
+    private final AtomicInteger capacityUsed;
+    private final String pipelineName;
+
+    /**
+     * Creates a RingBuffer with the given (fixed) capacity.
+     *
+     * @param bufferCapacity the capacity of the buffer
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param pipelineName   the name of the associated Pipeline
+     */
+    public RingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName) {
+        super(RING_BUFFER, pipelineName);
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.ring = new ArrayRing<>(bufferCapacity);
+        this.capacityUsed = new AtomicInteger();
+        this.pipelineName = pipelineName;
+
+        PluginMetrics pluginMetrics = PluginMetrics.fromNames(RING_BUFFER, pipelineName);
+
+        pluginMetrics.gauge(CAPACITY_USED_METRIC, capacityUsed, AtomicInteger::get);
+        pluginMetrics.gauge(BUFFER_USAGE_METRIC, capacityUsed, used -> ((double) used.get()) / bufferCapacity * 100);
+    }
+
+    /**
+     * Mandatory constructor for Data Prepper Component - This constructor is used by Data Prepper runtime engine to construct an
+     * instance of {@link RingBuffer} using an instance of {@link PluginSetting} which has access to
+     * pluginSetting metadata from pipeline pluginSetting file. Buffer settings like `buffer-size` and `batch-size`
+     * are optional and can be passed via {@link PluginSetting}, if not present default values will
+     * be used to create the buffer.
+     *
+     * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
+     */
+    public RingBuffer(final PluginSetting pluginSetting) {
+        this(checkNotNull(pluginSetting, "PluginSetting cannot be null")
+                        .getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                pluginSetting.getPipelineName());
+    }
+
+    public RingBuffer(final String pipelineName) {
+        this(DEFAULT_BUFFER_CAPACITY, DEFAULT_BATCH_SIZE, pipelineName);
+    }
+
+    @Override
+    public void doWrite(T record, int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record);
+        try {
+            if (!acquireCapacity(1, timeoutInMillis)) {
+                throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for a slot",
+                        pipelineName));
+            }
+            ring.publish(record);
+        } catch (InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write the record", pipelineName, ex);
+            throw new TimeoutException("Buffer is full, timed out waiting for a slot");
+        }
+    }
+
+    @Override
+    public void doWriteAll(Collection<T> records, int timeoutInMillis) throws Exception {
+        final int size = records.size();
+        if (size > bufferCapacity) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the number of records: %d", size));
+        }
+        for (final T record : records) {
+            checkNotNull(record);
+        }
+        try {
+            if (!acquireCapacity(size, timeoutInMillis)) {
+                throw new TimeoutException(
+                        format("Pipeline [%s] - Buffer does not have enough capacity left for the number of records: %d, " +
+                                        "timed out waiting for slots.",
+                                pipelineName, size));
+            }
+            ring.publish(records);
+        } catch (InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer does not have enough capacity left for the number of records: {}, " +
+                            "interrupted while waiting to write the records",
+                    pipelineName, size, ex);
+            throw new TimeoutException(
+                    format("Pipeline [%s] - Buffer does not have enough capacity left for the number of records: %d, " +
+                                    "timed out waiting for slots.",
+                            pipelineName, size));
+        }
+    }
+
+    /**
+     * Waits until the buffer has slots for the given number of records, or for all of its slots when the number
+     * exceeds its capacity. The slots are not reserved for the caller.
+     *
+     * @param numberOfRecords the number of records the caller wants to write
+     * @param timeoutInMillis how long to wait before giving up
+     * @return true if the slots were available before the timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public boolean awaitCapacity(final int numberOfRecords, final int timeoutInMillis) throws InterruptedException {
+        final int size = Math.min(numberOfRecords, bufferCapacity);
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        int idleTries = 0;
+        while (capacityUsed.get() + size > bufferCapacity) {
+            final long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return false;
+            }
+            backOff(++idleTries, remainingNanos);
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves and removes the batch of records from the head of the ring. The batch size is defined/determined by
+     * the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the @param timeoutInMillis.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(int timeoutInMillis) {
+        final List<T> records = new ArrayList<>(batchSize);
+        int recordsRead;
+
+        if (timeoutInMillis == 0) {
+            recordsRead = pollForBufferEntries(records, 1, ZERO_TIMEOUT_POLL_MILLIS);
+            if (recordsRead > 0) {
+                recordsRead += ring.drainTo(records, batchSize - recordsRead);
+            }
+        } else {
+            recordsRead = pollForBufferEntries(records, batchSize, timeoutInMillis);
+        }
+
+        final CheckpointState checkpointState = new CheckpointState(recordsRead);
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
+    /**
+     * Drains from the ring until at least {@code minimumRecords} have been read, the batch is full or the timeout
+     * elapses.
+     */
+    private int pollForBufferEntries(final List<T> records, final int minimumRecords, final int timeoutInMillis) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        int recordsRead = 0;
+        int idleTries = 0;
+        while (true) {
+            final int drained = ring.drainTo(records, batchSize - recordsRead);
+            recordsRead += drained;
+            if (recordsRead >= minimumRecords || recordsRead >= batchSize) {
+                return recordsRead;
+            }
+            final long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return recordsRead;
+            }
+            idleTries = drained > 0 ? 0 : idleTries + 1;
+            try {
+                backOff(idleTries, remainingNanos);
+            } catch (InterruptedException e) {
+                LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Reserves capacity for the given number of records, waiting up to the timeout for checkpoints to release it.
+     *
+     * @return true if the capacity was reserved, false if the timeout elapsed first
+     */
+    private boolean acquireCapacity(final int size, final int timeoutInMillis) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        int idleTries = 0;
+        while (true) {
+            final int used = capacityUsed.get();
+            if (used + size <= bufferCapacity) {
+                if (capacityUsed.compareAndSet(used, used + size)) {
+                    return true;
+                }
+                continue;
+            }
+            final long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return false;
+            }
+            backOff(++idleTries, remainingNanos);
+        }
+    }
+
+    /**
+     * Spins briefly, then yields, then parks for an increasing amount of time bounded by {@link #MAX_PARK_NANOS}.
+     */
+    private static void backOff(final int idleTries, final long remainingNanos) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (idleTries < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (idleTries < 2 * SPIN_TRIES) {
+            Thread.yield();
+        } else {
+            final long parkNanos = Math.min(MAX_PARK_NANOS, 1000L << Math.min(idleTries - 2 * SPIN_TRIES, 10));
+            LockSupport.parkNanos(Math.min(parkNanos, remainingNanos));
+        }
+    }
+
+    /**
+     * Returns the default PluginSetting object with default values.
+     * @return PluginSetting
+     */
+    public static PluginSetting getDefaultPluginSettings() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY);
+        settings.put(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        return new PluginSetting(PLUGIN_NAME, settings);
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        final int numCheckedRecords = checkpointState.getNumRecordsToBeChecked();
+        capacityUsed.addAndGet(-numCheckedRecords);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ring.isEmpty() && getRecordsInFlight() == 0;
+    }
+}
@@ -185,6 +185,47 @@ public class BlockingBufferTests {
         assertEquals(2, readCheckResult.getKey().size());
     }
 
+    @Test
+    public void testAwaitCapacityWithAvailableSpace() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(2, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+        blockingBuffer.write(new Record<>("PARTIALLY_FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        assertTrue(blockingBuffer.awaitCapacity(1, TEST_WRITE_TIMEOUT));
+        verifyBufferUsageMetric(50.0);
+    }
+
+    @Test
+    public void testAwaitCapacityTimesOutWithoutSpace() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(2, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+        blockingBuffer.write(new Record<>("PARTIALLY_FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        assertFalse(blockingBuffer.awaitCapacity(2, TEST_WRITE_TIMEOUT));
+        verifyBufferUsageMetric(50.0);
+    }
+
+    @Test
+    public void testAwaitCapacityLargerThanBufferWaitsForEmptyBuffer() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(2, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+
+        assertTrue(blockingBuffer.awaitCapacity(3, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testAwaitCapacityReturnsWhenSpaceIsCheckpointed() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(1, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+        blockingBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        EXECUTOR.submit(() -> blockingBuffer.checkpoint(readResult.getValue()));
+
+        assertTrue(blockingBuffer.awaitCapacity(1, TEST_BATCH_READ_TIMEOUT));
+        blockingBuffer.write(new Record<>("REFILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+    }
+
     @Test
     public void testReadEmptyBuffer() {
         final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
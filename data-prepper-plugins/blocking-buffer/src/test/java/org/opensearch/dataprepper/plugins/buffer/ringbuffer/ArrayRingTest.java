@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArrayRingTest {
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "2, 2", "3, 4", "12800, 16384"})
+    void slot_count_is_rounded_up_to_a_power_of_two(final int capacity, final int expectedSlotCount) {
+        assertThat(new ArrayRing<String>(capacity).getSlotCount(), equalTo(expectedSlotCount));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_for_non_positive_capacity(final int capacity) {
+        assertThrows(IllegalArgumentException.class, () -> new ArrayRing<String>(capacity));
+    }
+
+    @Test
+    void drainTo_returns_zero_when_empty() {
+        final ArrayRing<String> objectUnderTest = new ArrayRing<>(4);
+        final List<String> target = new ArrayList<>();
+
+        assertThat(objectUnderTest.drainTo(target, 4), equalTo(0));
+        assertThat(target.isEmpty(), is(true));
+        assertThat(objectUnderTest.isEmpty(), is(true));
+    }
+
+    @Test
+    void drainTo_returns_published_elements_in_order_up_to_max() {
+        final ArrayRing<String> objectUnderTest = new ArrayRing<>(4);
+        objectUnderTest.publish(Arrays.asList("a", "b", "c"));
+        objectUnderTest.publish("d");
+
+        final List<String> target = new ArrayList<>();
+        assertThat(objectUnderTest.drainTo(target, 3), equalTo(3));
+        assertThat(target, equalTo(Arrays.asList("a", "b", "c")));
+        assertThat(objectUnderTest.isEmpty(), is(false));
+
+        assertThat(objectUnderTest.drainTo(target, 3), equalTo(1));
+        assertThat(target, equalTo(Arrays.asList("a", "b", "c", "d")));
+        assertThat(objectUnderTest.isEmpty(), is(true));
+    }
+
+    @Test
+    void publish_reuses_slots_after_they_are_drained() {
+        final ArrayRing<String> objectUnderTest = new ArrayRing<>(2);
+        final List<String> target = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            objectUnderTest.publish(Arrays.asList("x" + i, "y" + i));
+            assertThat(objectUnderTest.drainTo(target, 2), equalTo(2));
+        }
+        assertThat(target.size(), equalTo(14));
+        assertThat(target.get(12), equalTo("x6"));
+        assertThat(target.get(13), equalTo("y6"));
+    }
+}
@@ -5,6 +5,9 @@
 
 package org.opensearch.dataprepper.buffer.common;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.record.Record;
 import org.slf4j.Logger;
@@ -15,10 +18,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Objects;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -26,6 +26,13 @@ import java.util.concurrent.TimeoutException;
  * Accumulates {@link Record} objects before placing them into a Data Prepper
  * {@link Buffer}. This class is not thread-safe and should only be used by one
  * thread at a time.
+ * <p>
+ * When the buffer is full, the write is retried with a jittered exponential backoff
+ * on the calling thread. Between retries the accumulator waits on
+ * {@link Buffer#awaitCapacity(int, int)}, so it retries as soon as the buffer has
+ * capacity when the buffer supports it. The first delay adapts to the delay which
+ * last succeeded, so a source writing to a buffer which stays full does not retry
+ * from the shortest delay on every flush.
  *
  * @param <T> Type of record to accumulate
  */
@@ -33,17 +40,25 @@ import java.util.concurrent.TimeoutException;
 public class BufferAccumulator<T extends Record<?>> {
     private static final Logger LOG = LoggerFactory.getLogger(BufferAccumulator.class);
 
+    static final String BUFFER_WRITE_RETRIES = "bufferWriteRetries";
+    static final String BUFFER_WRITE_STALL_TIME = "bufferWriteStallTime";
+
     private static final int MAX_FLUSH_RETRIES_ON_IO_EXCEPTION = Integer.MAX_VALUE;
-    private static final Duration INITIAL_FLUSH_RETRY_DELAY_ON_IO_EXCEPTION = Duration.ofSeconds(5);
+    static final Duration INITIAL_FLUSH_RETRY_DELAY_ON_IO_EXCEPTION = Duration.ofMillis(10);
+    static final Duration MAX_FLUSH_RETRY_DELAY_ON_IO_EXCEPTION = Duration.ofSeconds(5);
 
     private final Buffer<T> buffer;
     private final int numberOfRecordsToAccumulate;
     private final int bufferTimeoutMillis;
+    private final Counter bufferWriteRetriesCounter;
+    private final Timer bufferWriteStallTimer;
+    private long initialRetryDelayMillis = INITIAL_FLUSH_RETRY_DELAY_ON_IO_EXCEPTION.toMillis();
     private int totalWritten = 0;
 
     private final Collection<T> recordsAccumulated;
 
-    private BufferAccumulator(final Buffer<T> buffer, final int numberOfRecordsToAccumulate, final Duration bufferTimeout) {
+    private BufferAccumulator(final Buffer<T> buffer, final int numberOfRecordsToAccumulate, final Duration bufferTimeout,
+                              final PluginMetrics pluginMetrics) {
         this.buffer = Objects.requireNonNull(buffer, "buffer must be non-null.");
         this.numberOfRecordsToAccumulate = numberOfRecordsToAccumulate;
         Objects.requireNonNull(bufferTimeout, "bufferTimeout must be non-null.");
@@ -53,10 +68,36 @@ public class BufferAccumulator<T extends Record<?>> {
             throw new IllegalArgumentException("numberOfRecordsToAccumulate must be greater than zero.");
 
         recordsAccumulated = new ArrayList<>(numberOfRecordsToAccumulate);
+
+        if (pluginMetrics != null) {
+            bufferWriteRetriesCounter = pluginMetrics.counter(BUFFER_WRITE_RETRIES);
+            bufferWriteStallTimer = pluginMetrics.timer(BUFFER_WRITE_STALL_TIME);
+        } else {
+            bufferWriteRetriesCounter = null;
+            bufferWriteStallTimer = null;
+        }
     }
 
     public static <T extends Record<?>> BufferAccumulator<T> create(final Buffer<T> buffer, final int recordsToAccumulate, final Duration bufferTimeout) {
-        return new BufferAccumulator<T>(buffer, recordsToAccumulate, bufferTimeout);
+        return new BufferAccumulator<T>(buffer, recordsToAccumulate, bufferTimeout, null);
+    }
+
+    /**
+     * Creates a {@link BufferAccumulator} which reports the number of write retries and the
+     * time spent waiting for the buffer to the metrics of the source.
+     *
+     * @param buffer the buffer to write to
+     * @param recordsToAccumulate the number of records to accumulate before writing
+     * @param bufferTimeout the timeout of each write to the buffer
+     * @param pluginMetrics the metrics of the source
+     * @param <T> Type of record to accumulate
+     * @return a new {@link BufferAccumulator}
+     * @since 2.7
+     */
+    public static <T extends Record<?>> BufferAccumulator<T> create(final Buffer<T> buffer, final int recordsToAccumulate, final Duration bufferTimeout,
+                                                                    final PluginMetrics pluginMetrics) {
+        return new BufferAccumulator<T>(buffer, recordsToAccumulate, bufferTimeout,
+                Objects.requireNonNull(pluginMetrics, "pluginMetrics must be non-null."));
     }
 
     public void add(final T record) throws Exception {
@@ -69,49 +110,63 @@ public class BufferAccumulator<T extends Record<?>> {
     public void flush() throws Exception {
         try {
             flushAccumulatedToBuffer();
+            initialRetryDelayMillis = INITIAL_FLUSH_RETRY_DELAY_ON_IO_EXCEPTION.toMillis();
         } catch (final TimeoutException timeoutException) {
             flushWithBackoff();
         }
     }
 
-    private boolean flushWithBackoff() throws Exception{
-        final ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
-        long nextDelay = INITIAL_FLUSH_RETRY_DELAY_ON_IO_EXCEPTION.toMillis();
-        boolean flushedSuccessfully;
+    private boolean flushWithBackoff() throws Exception {
+        final long stallStartNanos = System.nanoTime();
+        long nextDelay = initialRetryDelayMillis;
+
+        try {
+            for (int retryCount = 0; retryCount < MAX_FLUSH_RETRIES_ON_IO_EXCEPTION; retryCount++) {
+                final long jitteredDelay = nextDelay / 2 + ThreadLocalRandom.current().nextLong(nextDelay / 2 + 1);
+                waitForCapacity(jitteredDelay);
+                if (bufferWriteRetriesCounter != null) {
+                    bufferWriteRetriesCounter.increment();
+                }
 
-        for (int retryCount = 0; retryCount < MAX_FLUSH_RETRIES_ON_IO_EXCEPTION; retryCount++) {
-            final ScheduledFuture<Boolean> flushBufferFuture = scheduledExecutorService.schedule(() -> {
                 try {
                     flushAccumulatedToBuffer();
+                    LOG.debug("Successfully flushed the buffer accumulator on retry attempt {}", retryCount + 1);
+                    initialRetryDelayMillis = Math.max(INITIAL_FLUSH_RETRY_DELAY_ON_IO_EXCEPTION.toMillis(), nextDelay / 2);
                     return true;
                 } catch (final TimeoutException e) {
-                    return false;
+                    nextDelay = Math.min(nextDelay * 2, MAX_FLUSH_RETRY_DELAY_ON_IO_EXCEPTION.toMillis());
                 }
-            }, nextDelay, TimeUnit.MILLISECONDS);
-
-            try {
-                flushedSuccessfully = flushBufferFuture.get();
-                if (flushedSuccessfully) {
-                    LOG.info("Successfully flushed the buffer accumulator on retry attempt {}", retryCount + 1);
-                    scheduledExecutorService.shutdownNow();
-                    return true;
-                }
-            } catch (final ExecutionException e) {
-                LOG.warn("Retrying of flushing the buffer accumulator hit an exception: {}", e.getMessage());
-                scheduledExecutorService.shutdownNow();
-                throw e;
-            } catch (final InterruptedException e) {
-                LOG.warn("Retrying of flushing the buffer accumulator was interrupted: {}", e.getMessage());
-                scheduledExecutorService.shutdownNow();
-                throw e;
+            }
+        } catch (final InterruptedException e) {
+            LOG.warn("Retrying of flushing the buffer accumulator was interrupted: {}", e.getMessage());
+            throw e;
+        } catch (final Exception e) {
+            LOG.warn("Retrying of flushing the buffer accumulator hit an exception: {}", e.getMessage());
+            throw e;
+        } finally {
+            if (bufferWriteStallTimer != null) {
+                bufferWriteStallTimer.record(System.nanoTime() - stallStartNanos, TimeUnit.NANOSECONDS);
             }
         }
 
         LOG.warn("Flushing the bufferAccumulator failed after {} attempts", MAX_FLUSH_RETRIES_ON_IO_EXCEPTION);
-        scheduledExecutorService.shutdownNow();
         return false;
     }
 
+    /**
+     * Waits for the given delay, returning early if the buffer signals that it has capacity.
+     */
+    private void waitForCapacity(final long delayMillis) throws InterruptedException {
+        final long waitStartNanos = System.nanoTime();
+        if (buffer.awaitCapacity(recordsAccumulated.size(), (int) delayMillis)) {
+            return;
+        }
+        final long remainingMillis = delayMillis - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - waitStartNanos);
+        if (remainingMillis > 0) {
+            Thread.sleep(remainingMillis);
+        }
+    }
+
     private void flushAccumulatedToBuffer() throws Exception {
         final int currentRecordCountAccumulated = recordsAccumulated.size();
         if (currentRecordCountAccumulated > 0) {
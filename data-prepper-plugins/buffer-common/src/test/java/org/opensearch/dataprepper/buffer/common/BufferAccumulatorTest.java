@@ -5,13 +5,17 @@
 
 package org.opensearch.dataprepper.buffer.common;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.record.Record;
 
@@ -22,14 +26,18 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
@@ -38,11 +46,18 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class BufferAccumulatorTest {
     @Mock
     private Buffer<Record<?>> buffer;
+    @Mock
+    private PluginMetrics pluginMetrics;
+    @Mock
+    private Counter bufferWriteRetriesCounter;
+    @Mock
+    private Timer bufferWriteStallTimer;
     private int recordsToAccumulate;
     private Duration bufferTimeout;
     private int timeoutMillis;
@@ -58,6 +73,17 @@ class BufferAccumulatorTest {
         return BufferAccumulator.create(buffer, recordsToAccumulate, bufferTimeout);
     }
 
+    private BufferAccumulator createObjectUnderTestWithMetrics() {
+        when(pluginMetrics.counter(BufferAccumulator.BUFFER_WRITE_RETRIES)).thenReturn(bufferWriteRetriesCounter);
+        when(pluginMetrics.timer(BufferAccumulator.BUFFER_WRITE_STALL_TIME)).thenReturn(bufferWriteStallTimer);
+        return BufferAccumulator.create(buffer, recordsToAccumulate, bufferTimeout, pluginMetrics);
+    }
+
+    @Test
+    void constructor_should_throw_if_pluginMetrics_is_null() {
+        assertThrows(NullPointerException.class, () -> BufferAccumulator.create(buffer, recordsToAccumulate, bufferTimeout, null));
+    }
+
     @Test
     void constructor_should_throw_if_buffer_is_null() {
         buffer = null;
@@ -271,13 +297,118 @@ class BufferAccumulatorTest {
                 .doThrow(new RuntimeException())
                 .when(buffer).writeAll(anyCollection(), anyInt());
 
-        assertThrows(ExecutionException.class, () -> objectUnderTest.flush());
+        assertThrows(RuntimeException.class, () -> objectUnderTest.flush());
 
         verify(buffer, times(2)).writeAll(anyCollection(), eq(timeoutMillis));
         assertThat(actualRecordsWritten.size(), equalTo(0));
         assertThat(actualRecordsWritten, equalTo(Collections.emptyList()));
     }
 
+    @Test
+    void flush_timeout_exception_backs_off_exponentially_starting_in_milliseconds() throws Exception {
+        final BufferAccumulator objectUnderTest = createObjectUnderTest();
+        objectUnderTest.add(createRecord());
+
+        doThrow(new TimeoutException())
+                .doThrow(new TimeoutException())
+                .doThrow(new TimeoutException())
+                .doNothing()
+                .when(buffer).writeAll(anyCollection(), anyInt());
+
+        objectUnderTest.flush();
+
+        final ArgumentCaptor<Integer> delayCaptor = ArgumentCaptor.forClass(Integer.class);
+        verify(buffer, times(3)).awaitCapacity(eq(1), delayCaptor.capture());
+        long expectedMaximumDelay = BufferAccumulator.INITIAL_FLUSH_RETRY_DELAY_ON_IO_EXCEPTION.toMillis();
+        for (final Integer delay : delayCaptor.getAllValues()) {
+            assertThat(delay, allOf(greaterThanOrEqualTo((int) expectedMaximumDelay / 2), lessThanOrEqualTo((int) expectedMaximumDelay)));
+            expectedMaximumDelay *= 2;
+        }
+    }
+
+    @Test
+    void flush_timeout_exception_after_backoff_starts_from_the_delay_which_last_succeeded() throws Exception {
+        final BufferAccumulator objectUnderTest = createObjectUnderTest();
+        objectUnderTest.add(createRecord());
+
+        doThrow(new TimeoutException())
+                .doThrow(new TimeoutException())
+                .doThrow(new TimeoutException())
+                .doThrow(new TimeoutException())
+                .doNothing()
+                .doThrow(new TimeoutException())
+                .doNothing()
+                .when(buffer).writeAll(anyCollection(), anyInt());
+
+        objectUnderTest.flush();
+        objectUnderTest.add(createRecord());
+        objectUnderTest.flush();
+
+        final ArgumentCaptor<Integer> delayCaptor = ArgumentCaptor.forClass(Integer.class);
+        verify(buffer, times(5)).awaitCapacity(eq(1), delayCaptor.capture());
+        final long succeededDelay = BufferAccumulator.INITIAL_FLUSH_RETRY_DELAY_ON_IO_EXCEPTION.toMillis() * 8;
+        final int delayAfterBackoff = delayCaptor.getAllValues().get(4);
+        assertThat(delayAfterBackoff, allOf(greaterThanOrEqualTo((int) succeededDelay / 4), lessThanOrEqualTo((int) succeededDelay / 2)));
+    }
+
+    @Test
+    void flush_timeout_exception_retries_when_buffer_signals_capacity() throws Exception {
+        final BufferAccumulator objectUnderTest = createObjectUnderTest();
+        objectUnderTest.add(createRecord());
+
+        when(buffer.awaitCapacity(eq(1), anyInt())).thenReturn(true);
+        doThrow(new TimeoutException())
+                .doNothing()
+                .when(buffer).writeAll(anyCollection(), anyInt());
+
+        objectUnderTest.flush();
+
+        verify(buffer).awaitCapacity(eq(1), anyInt());
+        verify(buffer, times(2)).writeAll(anyCollection(), eq(timeoutMillis));
+        assertThat(objectUnderTest.getTotalWritten(), equalTo(1));
+    }
+
+    @Test
+    void flush_interrupted_while_waiting_for_capacity_throws_exception() throws Exception {
+        final BufferAccumulator objectUnderTest = createObjectUnderTest();
+        objectUnderTest.add(createRecord());
+
+        doThrow(new TimeoutException()).when(buffer).writeAll(anyCollection(), anyInt());
+        when(buffer.awaitCapacity(eq(1), anyInt())).thenThrow(new InterruptedException());
+
+        assertThrows(InterruptedException.class, objectUnderTest::flush);
+
+        verify(buffer).writeAll(anyCollection(), eq(timeoutMillis));
+        assertThat(objectUnderTest.getTotalWritten(), equalTo(0));
+    }
+
+    @Test
+    void flush_timeout_exception_records_retries_and_stall_time() throws Exception {
+        final BufferAccumulator objectUnderTest = createObjectUnderTestWithMetrics();
+        objectUnderTest.add(createRecord());
+
+        doThrow(new TimeoutException())
+                .doThrow(new TimeoutException())
+                .doNothing()
+                .when(buffer).writeAll(anyCollection(), anyInt());
+
+        objectUnderTest.flush();
+
+        verify(bufferWriteRetriesCounter, times(2)).increment();
+        verify(bufferWriteStallTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void flush_without_timeout_does_not_record_retries_or_stall_time() throws Exception {
+        final BufferAccumulator objectUnderTest = createObjectUnderTestWithMetrics();
+        objectUnderTest.add(createRecord());
+
+        objectUnderTest.flush();
+
+        verify(buffer).writeAll(anyCollection(), eq(timeoutMillis));
+        verifyNoInteractions(bufferWriteRetriesCounter, bufferWriteStallTimer);
+    }
+
     @Test
     void getTotalWritten_returns_zero_if_no_writes() throws Exception {
         assertThat(createObjectUnderTest().getTotalWritten(), equalTo(0));
@@ -13,11 +13,69 @@ import java.util.Map;
 import java.util.Objects;
 
 public class IdentificationKeysHasher {
+    private static final long FINGERPRINT_SEED = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    private static final long NULL_VALUE_HASH = 0x9E3779B97F4A7C15L;
+
     private final List<String> identificationKeys;
     public IdentificationKeysHasher(final List<String> identificationKeys) {
         this.identificationKeys = identificationKeys;
     }
 
+    public List<String> getIdentificationKeys() {
+        return identificationKeys;
+    }
+
+    /**
+     * Reads the values of the identification keys from the event without allocating a map. The values are written
+     * in the order of the identification keys, so the same array can be reused for every event of a batch.
+     *
+     * @param event the event to read
+     * @param identificationKeyValues the array to write the values to. It must have one element per identification key.
+     */
+    public void readIdentificationKeyValues(final Event event, final Object[] identificationKeyValues) {
+        for (int i = 0; i < identificationKeyValues.length; i++) {
+            identificationKeyValues[i] = event.get(identificationKeys.get(i), Object.class);
+        }
+    }
+
+    /**
+     * Hashes identification key values into a 64-bit fingerprint. Equal values produce equal fingerprints. String
+     * values are hashed over their characters, so the fingerprint is not limited by {@link String#hashCode()}.
+     * Different values may still share a fingerprint, so callers must compare the values to confirm a match.
+     *
+     * @param identificationKeyValues the values, as read by {@link #readIdentificationKeyValues(Event, Object[])}
+     * @return the fingerprint
+     */
+    public static long createFingerprint(final Object[] identificationKeyValues) {
+        long fingerprint = FINGERPRINT_SEED;
+        for (final Object value : identificationKeyValues) {
+            fingerprint = mix(fingerprint ^ hashValue(value));
+        }
+        return fingerprint;
+    }
+
+    private static long hashValue(final Object value) {
+        if (value == null) {
+            return NULL_VALUE_HASH;
+        }
+        if (value instanceof String) {
+            final String stringValue = (String) value;
+            long hash = FINGERPRINT_SEED;
+            for (int i = 0; i < stringValue.length(); i++) {
+                hash = (hash ^ stringValue.charAt(i)) * FNV_PRIME;
+            }
+            return hash;
+        }
+        return value.hashCode();
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
     public IdentificationKeysMap createIdentificationKeysMapFromEvent(final Event event) {
         final Map<Object, Object> identificationKeysMap = new HashMap<>();
         for (final String identificationKey : identificationKeys) {
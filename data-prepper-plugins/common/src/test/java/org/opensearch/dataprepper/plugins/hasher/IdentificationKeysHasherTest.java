@@ -19,6 +19,7 @@ import java.util.UUID;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class IdentificationKeysHasherTest {
@@ -166,4 +167,50 @@ public class IdentificationKeysHasherTest {
 
         assertThat(objectUnderTest1.hashCode(), not(equalTo(objectUnderTest2.hashCode())));
     }
+
+    @Test
+    void getIdentificationKeys_returns_identification_keys() {
+        identificationKeysHasher = createObjectUnderTest();
+
+        assertThat(identificationKeysHasher.getIdentificationKeys(), equalTo(identificationKeys));
+    }
+
+    @Test
+    void readIdentificationKeyValues_writes_values_in_order_of_identification_keys() {
+        identificationKeysHasher = createObjectUnderTest();
+        final String firstValue = UUID.randomUUID().toString();
+        final Map<Object, Object> eventMap = new HashMap<>();
+        eventMap.put("firstIdentificationKey", firstValue);
+        eventMap.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(eventMap)
+                .build();
+
+        final Object[] identificationKeyValues = new Object[] {UUID.randomUUID().toString(), UUID.randomUUID().toString()};
+        identificationKeysHasher.readIdentificationKeyValues(event, identificationKeyValues);
+
+        assertThat(identificationKeyValues[0], equalTo(firstValue));
+        assertThat(identificationKeyValues[1], nullValue());
+    }
+
+    @Test
+    void createFingerprint_returns_same_value_for_equal_values() {
+        final String stringValue = UUID.randomUUID().toString();
+        final Object[] firstValues = new Object[] {stringValue, 42, null, List.of("a", "b")};
+        final Object[] secondValues = new Object[] {new String(stringValue), 42, null, List.of("a", "b")};
+
+        assertThat(IdentificationKeysHasher.createFingerprint(firstValues), equalTo(IdentificationKeysHasher.createFingerprint(secondValues)));
+    }
+
+    @Test
+    void createFingerprint_returns_different_value_for_known_different_values() {
+        assertThat(IdentificationKeysHasher.createFingerprint(new Object[] {"aaa", "bbb"}),
+                not(equalTo(IdentificationKeysHasher.createFingerprint(new Object[] {"bbb", "aaa"}))));
+        assertThat(IdentificationKeysHasher.createFingerprint(new Object[] {"Aa"}),
+                not(equalTo(IdentificationKeysHasher.createFingerprint(new Object[] {"BB"}))));
+        assertThat(IdentificationKeysHasher.createFingerprint(new Object[] {"aaa", null}),
+                not(equalTo(IdentificationKeysHasher.createFingerprint(new Object[] {"aaa", 1}))));
+    }
 }
@@ -12,6 +12,8 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -19,12 +21,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
-import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.temporal.ChronoField;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -38,25 +37,35 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private static final int LENGTH_OF_EPOCH_IN_MILLIS = 13;
     private static final int LENGTH_OF_EPOCH_SECONDS = 10;
     private static final int LENGTH_OF_EPOCH_MICROSECONDS = 16;
+    private static final int TIMESTAMP_CACHE_SIZE = 1024;
     static final String DATE_PROCESSING_MATCH_SUCCESS = "dateProcessingMatchSuccess";
     static final String DATE_PROCESSING_MATCH_FAILURE = "dateProcessingMatchFailure";
 
     private String keyToParse;
-    private List<DateTimeFormatter> dateTimeFormatters;
+    private EventKey eventKeyToParse;
+    private List<SourceTimestampPattern> sourceTimestampPatterns;
     private Set<String> epochFormatters;
     private String outputFormat;
+    private DateTimeFormatter outputFormatter;
+    private final TimestampCache timestampCache;
     private final DateProcessorConfig dateProcessorConfig;
     private final ExpressionEvaluator expressionEvaluator;
+    private final EventKeyFactory eventKeyFactory;
+    private final EventKey destinationKey;
 
     private final Counter dateProcessingMatchSuccessCounter;
     private final Counter dateProcessingMatchFailureCounter;
 
     @DataPrepperPluginConstructor
-    public DateProcessor(PluginMetrics pluginMetrics, final DateProcessorConfig dateProcessorConfig, final ExpressionEvaluator expressionEvaluator) {
+    public DateProcessor(PluginMetrics pluginMetrics, final DateProcessorConfig dateProcessorConfig,
+                         final ExpressionEvaluator expressionEvaluator, final EventKeyFactory eventKeyFactory) {
         super(pluginMetrics);
         this.dateProcessorConfig = dateProcessorConfig;
         this.expressionEvaluator = expressionEvaluator;
+        this.eventKeyFactory = eventKeyFactory;
         this.outputFormat = dateProcessorConfig.getOutputFormat();
+        this.destinationKey = eventKeyFactory.createEventKey(dateProcessorConfig.getDestination());
+        this.timestampCache = new TimestampCache(TIMESTAMP_CACHE_SIZE);
 
         dateProcessingMatchSuccessCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_SUCCESS);
         dateProcessingMatchFailureCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_FAILURE);
@@ -94,7 +103,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
                 }
 
                 if (zonedDateTime != null) {
-                    record.getData().put(dateProcessorConfig.getDestination(), zonedDateTime);
+                    record.getData().put(destinationKey, zonedDateTime);
                 }
             } catch (final Exception e) {
                 LOG.error("An exception occurred while attempting to process Event: ", e);
@@ -114,28 +123,14 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private void extractKeyAndFormatters() {
         for (DateProcessorConfig.DateMatch entry: dateProcessorConfig.getMatch()) {
             keyToParse = entry.getKey();
+            eventKeyToParse = keyToParse != null && !keyToParse.isEmpty() ? eventKeyFactory.createEventKey(keyToParse) : null;
             epochFormatters = entry.getPatterns().stream().filter(pattern -> pattern.contains("epoch")).collect(Collectors.toSet());
-            dateTimeFormatters = entry.getPatterns().stream().filter(pattern -> !pattern.contains("epoch")).map(this::getSourceFormatter).collect(Collectors.toList());
+            sourceTimestampPatterns = entry.getPatterns().stream().filter(pattern -> !pattern.contains("epoch")).map(this::getSourceTimestampPattern).collect(Collectors.toList());
         }
     }
 
-    private DateTimeFormatter getSourceFormatter(final String pattern) {
-        final LocalDate localDateForDefaultValues = LocalDate.now(dateProcessorConfig.getSourceZoneId());
-
-        final DateTimeFormatterBuilder dateTimeFormatterBuilder = new DateTimeFormatterBuilder()
-                .appendPattern(pattern)
-                .parseDefaulting(ChronoField.MONTH_OF_YEAR, localDateForDefaultValues.getMonthValue())
-                .parseDefaulting(ChronoField.DAY_OF_MONTH, localDateForDefaultValues.getDayOfMonth())
-                .parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
-                .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
-                .parseDefaulting(ChronoField.SECOND_OF_MINUTE, 0);
-
-        if (!(pattern.contains("y") || pattern.contains("u")))
-            dateTimeFormatterBuilder.parseDefaulting(ChronoField.YEAR_OF_ERA, localDateForDefaultValues.getYear());
-
-        return dateTimeFormatterBuilder
-                .toFormatter(dateProcessorConfig.getSourceLocale())
-                .withZone(dateProcessorConfig.getSourceZoneId());
+    private SourceTimestampPattern getSourceTimestampPattern(final String pattern) {
+        return new SourceTimestampPattern(pattern, dateProcessorConfig.getSourceZoneId(), dateProcessorConfig.getSourceLocale());
     }
 
     private String getDateTimeFromTimeReceived(final Record<Event> record) {
@@ -148,12 +143,19 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
         if (sourceTimestamp == null)
             return null;
 
-        return getFormattedDateTimeString(sourceTimestamp);
+        final Pair<String, Instant> cachedResult = timestampCache.get(sourceTimestamp);
+        if (cachedResult != null)
+            return cachedResult;
+
+        final Pair<String, Instant> result = getFormattedDateTimeString(sourceTimestamp);
+        if (result != null)
+            timestampCache.put(sourceTimestamp, result);
+        return result;
     }
 
     private String getSourceTimestamp(final Record<Event> record) {
         try {
-            return record.getData().get(keyToParse, String.class);
+            return record.getData().get(eventKeyToParse, String.class);
         } catch (Exception e) {
             LOG.debug("Unable to find {} in event data.", keyToParse);
             return null;
@@ -228,13 +230,16 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
             }
         }
 
-        for (DateTimeFormatter formatter : dateTimeFormatters) {
+        for (SourceTimestampPattern sourceTimestampPattern : sourceTimestampPatterns) {
             try {
-                ZonedDateTime tmp = ZonedDateTime.parse(sourceTimestamp, formatter);
+                final Instant time = sourceTimestampPattern.parse(sourceTimestamp);
+                if (time == null) {
+                    continue;
+                }
                 if (outputFormat.startsWith("epoch_")) {
-                    return getEpochFormatOutput(tmp.toInstant());
+                    return getEpochFormatOutput(time);
                 }
-                return Pair.of(tmp.format(getOutputFormatter().withZone(dstZoneId)), tmp.toInstant());
+                return Pair.of(ZonedDateTime.ofInstant(time, dstZoneId).format(getOutputFormatter()), time);
             } catch (Exception ignored) {
             }
         }
@@ -244,7 +249,10 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     }
 
     private DateTimeFormatter getOutputFormatter() {
-        return DateTimeFormatter.ofPattern(outputFormat);
+        if (outputFormatter == null) {
+            outputFormatter = DateTimeFormatter.ofPattern(outputFormat);
+        }
+        return outputFormatter;
     }
 
     @Override
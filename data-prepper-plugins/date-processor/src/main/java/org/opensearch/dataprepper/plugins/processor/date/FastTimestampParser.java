@@ -0,0 +1,284 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.date;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneRules;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses timestamps in a few common ISO-8601 and syslog patterns without a {@link DateTimeFormatter}.
+ * <p>
+ * Only well-formed timestamps whose fields are all in range are parsed, and they resolve to the same
+ * instant as the formatter for the pattern. Anything else, such as a day of month past the end of
+ * the month or hour 24, returns null so that the formatter can handle it.
+ */
+class FastTimestampParser {
+    private static final Pattern ISO_PATTERN = Pattern.compile("(yyyy|uuuu)-MM-dd(?:('T'| )HH:mm:ss(?:\\.(S{1,9}))?(XXX)?)?");
+    private static final Pattern SYSLOG_PATTERN = Pattern.compile("MMM (d{1,2}) HH:mm:ss");
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int DAYS_0000_TO_1970 = 719_528;
+    private static final int MAX_OFFSET_HOURS = 18;
+    private static final int[] NANOS_SCALE = {
+            0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    private final boolean syslog;
+    private final boolean yearOfEra;
+    private final char dateTimeSeparator;
+    private final int fractionDigits;
+    private final boolean offset;
+    private final boolean singleDigitDay;
+    private final Map<String, Integer> monthsByName;
+    private final int defaultYear;
+    private final ZoneId zoneId;
+    private final Integer fixedOffsetSeconds;
+
+    private FastTimestampParser(final boolean syslog, final boolean yearOfEra, final char dateTimeSeparator,
+                                final int fractionDigits, final boolean offset, final boolean singleDigitDay,
+                                final Map<String, Integer> monthsByName, final int defaultYear, final ZoneId zoneId) {
+        this.syslog = syslog;
+        this.yearOfEra = yearOfEra;
+        this.dateTimeSeparator = dateTimeSeparator;
+        this.fractionDigits = fractionDigits;
+        this.offset = offset;
+        this.singleDigitDay = singleDigitDay;
+        this.monthsByName = monthsByName;
+        this.defaultYear = defaultYear;
+        this.zoneId = zoneId;
+        final ZoneRules zoneRules = zoneId.getRules();
+        this.fixedOffsetSeconds = zoneRules.isFixedOffset() ? zoneRules.getOffset(Instant.EPOCH).getTotalSeconds() : null;
+    }
+
+    /**
+     * @param pattern the configured pattern
+     * @param locale the locale of the source timestamps
+     * @param zoneId the zone of source timestamps without an offset
+     * @param defaultValues the date giving the year for patterns without one
+     * @return a parser for the pattern, or null when the pattern is not supported
+     */
+    static FastTimestampParser create(final String pattern, final Locale locale, final ZoneId zoneId, final LocalDate defaultValues) {
+        final Matcher isoMatcher = ISO_PATTERN.matcher(pattern);
+        if (isoMatcher.matches()) {
+            final String separator = isoMatcher.group(2);
+            final String fraction = isoMatcher.group(3);
+            return new FastTimestampParser(false, "yyyy".equals(isoMatcher.group(1)),
+                    separator == null ? 0 : separator.charAt(separator.length() == 1 ? 0 : 1),
+                    fraction == null ? 0 : fraction.length(), isoMatcher.group(4) != null,
+                    false, null, 0, zoneId);
+        }
+
+        final Matcher syslogMatcher = SYSLOG_PATTERN.matcher(pattern);
+        if (syslogMatcher.matches()) {
+            final Map<String, Integer> monthsByName = getMonthsByName(locale);
+            if (monthsByName == null) {
+                return null;
+            }
+            return new FastTimestampParser(true, true, ' ', 0, false,
+                    syslogMatcher.group(1).length() == 1, monthsByName, defaultValues.getYear(), zoneId);
+        }
+        return null;
+    }
+
+    /**
+     * @param timestamp the timestamp to parse
+     * @return the instant of the timestamp, or null when it is not parsed
+     */
+    Instant parse(final String timestamp) {
+        return syslog ? parseSyslog(timestamp) : parseIso(timestamp);
+    }
+
+    private Instant parseIso(final String timestamp) {
+        final int length = timestamp.length();
+        if (length < 10 || timestamp.charAt(4) != '-' || timestamp.charAt(7) != '-') {
+            return null;
+        }
+        final int year = digits(timestamp, 0, 4);
+        final int month = digits(timestamp, 5, 2);
+        final int day = digits(timestamp, 8, 2);
+        if (year < 0 || (yearOfEra && year == 0)) {
+            return null;
+        }
+        if (dateTimeSeparator == 0) {
+            return length == 10 ? toInstant(year, month, day, 0, 0, 0, 0, null) : null;
+        }
+
+        if (length < 19 || timestamp.charAt(10) != dateTimeSeparator) {
+            return null;
+        }
+        final int time = time(timestamp, 11);
+        if (time == -1) {
+            return null;
+        }
+        int position = 19;
+
+        int nanos = 0;
+        if (fractionDigits > 0) {
+            if (position + 1 + fractionDigits > length || timestamp.charAt(position) != '.') {
+                return null;
+            }
+            final int fraction = digits(timestamp, position + 1, fractionDigits);
+            if (fraction < 0) {
+                return null;
+            }
+            nanos = fraction * NANOS_SCALE[fractionDigits];
+            position += 1 + fractionDigits;
+        }
+
+        Integer offsetSeconds = null;
+        if (offset) {
+            if (position < length && timestamp.charAt(position) == 'Z') {
+                offsetSeconds = 0;
+                position++;
+            } else {
+                offsetSeconds = offsetSeconds(timestamp, position);
+                if (offsetSeconds == null) {
+                    return null;
+                }
+                position += 6;
+            }
+        }
+        if (position != length) {
+            return null;
+        }
+        return toInstant(year, month, day, time & 0xFF, time >>> 8 & 0xFF, time >>> 16, nanos, offsetSeconds);
+    }
+
+    private Instant parseSyslog(final String timestamp) {
+        final int monthEnd = timestamp.indexOf(' ');
+        if (monthEnd < 0) {
+            return null;
+        }
+        final Integer month = monthsByName.get(timestamp.substring(0, monthEnd));
+        if (month == null) {
+            return null;
+        }
+        final int dayStart = monthEnd + 1;
+        int dayEnd = dayStart + 2;
+        if (singleDigitDay && timestamp.length() > dayStart + 1 && timestamp.charAt(dayStart + 1) == ' ') {
+            dayEnd = dayStart + 1;
+        }
+        if (timestamp.length() != dayEnd + 9 || timestamp.charAt(dayEnd) != ' ') {
+            return null;
+        }
+        final int day = digits(timestamp, dayStart, dayEnd - dayStart);
+        final int time = time(timestamp, dayEnd + 1);
+        if (day < 0 || time == -1) {
+            return null;
+        }
+        return toInstant(defaultYear, month, day, time & 0xFF, time >>> 8 & 0xFF, time >>> 16, 0, null);
+    }
+
+    private Instant toInstant(final int year, final int month, final int day, final int hour, final int minute,
+                              final int second, final int nanos, final Integer offsetSeconds) {
+        if (month < 1 || month > 12 || day < 1 || day > Month.of(month).length(isLeapYear(year))) {
+            return null;
+        }
+        final long localSeconds = epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3_600 + minute * 60 + second;
+        if (offsetSeconds != null) {
+            return Instant.ofEpochSecond(localSeconds - offsetSeconds, nanos);
+        }
+        if (fixedOffsetSeconds != null) {
+            return Instant.ofEpochSecond(localSeconds - fixedOffsetSeconds, nanos);
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second, nanos).atZone(zoneId).toInstant();
+    }
+
+    /**
+     * @return the hour, minute and second of an HH:mm:ss time packed into the low three bytes, or -1
+     */
+    private static int time(final String timestamp, final int position) {
+        if (position + 8 > timestamp.length() || timestamp.charAt(position + 2) != ':' || timestamp.charAt(position + 5) != ':') {
+            return -1;
+        }
+        final int hour = digits(timestamp, position, 2);
+        final int minute = digits(timestamp, position + 3, 2);
+        final int second = digits(timestamp, position + 6, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return -1;
+        }
+        return hour | minute << 8 | second << 16;
+    }
+
+    private static Integer offsetSeconds(final String timestamp, final int position) {
+        if (position + 6 > timestamp.length() || timestamp.charAt(position + 3) != ':') {
+            return null;
+        }
+        final char sign = timestamp.charAt(position);
+        final int hours = digits(timestamp, position + 1, 2);
+        final int minutes = digits(timestamp, position + 4, 2);
+        if ((sign != '+' && sign != '-') || hours < 0 || minutes < 0 || minutes > 59
+                || hours > MAX_OFFSET_HOURS || (hours == MAX_OFFSET_HOURS && minutes > 0)) {
+            return null;
+        }
+        final int seconds = hours * 3_600 + minutes * 60;
+        return sign == '-' ? -seconds : seconds;
+    }
+
+    /**
+     * @return the value of the ASCII digits, or -1 when any character is not a digit
+     */
+    private static int digits(final String timestamp, final int position, final int count) {
+        int value = 0;
+        for (int i = position; i < position + count; i++) {
+            final char c = timestamp.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isLeapYear(final long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static long epochDay(final long year, final long month, final long day) {
+        long total = 365 * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * @return the short month names of the locale, or null when one could be mistaken for another
+     */
+    private static Map<String, Integer> getMonthsByName(final Locale locale) {
+        final DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("MMM", locale);
+        final Map<String, Integer> monthsByName = new HashMap<>();
+        for (final Month month : Month.values()) {
+            final String name = monthFormatter.format(month);
+            if (name.isEmpty() || name.indexOf(' ') >= 0) {
+                return null;
+            }
+            monthsByName.put(name, month.getValue());
+        }
+        for (final String name : monthsByName.keySet()) {
+            for (final String otherName : monthsByName.keySet()) {
+                if (!name.equals(otherName) && otherName.startsWith(name)) {
+                    return null;
+                }
+            }
+        }
+        return monthsByName.size() == 12 ? monthsByName : null;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.date;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.Locale;
+
+/**
+ * One configured pattern for source timestamps which are not epochs.
+ * <p>
+ * Timestamps are first given to a {@link FastTimestampParser} when the pattern has one. Otherwise
+ * they are parsed without resolving the fields first, which does not throw, so that only the
+ * timestamps which have the form of the pattern are fully parsed.
+ */
+class SourceTimestampPattern {
+    private final DateTimeFormatter formatter;
+    private final FastTimestampParser fastParser;
+
+    SourceTimestampPattern(final String pattern, final ZoneId zoneId, final Locale locale) {
+        final LocalDate localDateForDefaultValues = LocalDate.now(zoneId);
+
+        final DateTimeFormatterBuilder dateTimeFormatterBuilder = new DateTimeFormatterBuilder()
+                .appendPattern(pattern)
+                .parseDefaulting(ChronoField.MONTH_OF_YEAR, localDateForDefaultValues.getMonthValue())
+                .parseDefaulting(ChronoField.DAY_OF_MONTH, localDateForDefaultValues.getDayOfMonth())
+                .parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
+                .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
+                .parseDefaulting(ChronoField.SECOND_OF_MINUTE, 0);
+
+        if (!(pattern.contains("y") || pattern.contains("u")))
+            dateTimeFormatterBuilder.parseDefaulting(ChronoField.YEAR_OF_ERA, localDateForDefaultValues.getYear());
+
+        formatter = dateTimeFormatterBuilder
+                .toFormatter(locale)
+                .withZone(zoneId);
+        fastParser = FastTimestampParser.create(pattern, locale, zoneId, localDateForDefaultValues);
+    }
+
+    DateTimeFormatter getFormatter() {
+        return formatter;
+    }
+
+    /**
+     * @param timestamp the source timestamp
+     * @return the instant of the timestamp, or null when it does not match the pattern
+     */
+    Instant parse(final String timestamp) {
+        if (fastParser != null) {
+            final Instant instant = fastParser.parse(timestamp);
+            if (instant != null) {
+                return instant;
+            }
+        }
+
+        final ParsePosition position = new ParsePosition(0);
+        if (formatter.parseUnresolved(timestamp, position) == null || position.getIndex() != timestamp.length()) {
+            return null;
+        }
+        try {
+            return ZonedDateTime.parse(timestamp, formatter).toInstant();
+        } catch (final DateTimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.date;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A small cache of the results for recently seen source timestamps.
+ * <p>
+ * Events in a batch often carry the same timestamp, as they were logged in the same second. Each
+ * timestamp has one slot chosen by its hash code, and a new timestamp replaces the one in its slot.
+ */
+class TimestampCache {
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+
+    /**
+     * @param size the number of slots, rounded up to a power of two
+     */
+    TimestampCache(final int size) {
+        final int slots = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        entries = new AtomicReferenceArray<>(slots);
+        mask = slots - 1;
+    }
+
+    Pair<String, Instant> get(final String timestamp) {
+        final Entry entry = entries.get(slot(timestamp));
+        return entry != null && entry.timestamp.equals(timestamp) ? entry.result : null;
+    }
+
+    void put(final String timestamp, final Pair<String, Instant> result) {
+        entries.lazySet(slot(timestamp), new Entry(timestamp, result));
+    }
+
+    private int slot(final String timestamp) {
+        final int hash = timestamp.hashCode();
+        return (hash ^ hash >>> 16) & mask;
+    }
+
+    private static class Entry {
+        private final String timestamp;
+        private final Pair<String, Instant> result;
+
+        private Entry(final String timestamp, final Pair<String, Instant> result) {
+            this.timestamp = timestamp;
+            this.result = result;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.time.Instant;
@@ -102,7 +103,7 @@ class DateProcessorTests {
     }
 
     private DateProcessor createObjectUnderTest() {
-        return new DateProcessor(pluginMetrics, mockDateProcessorConfig, expressionEvaluator);
+        return new DateProcessor(pluginMetrics, mockDateProcessorConfig, expressionEvaluator, new JacksonEventKeyFactory());
     }
 
     @Test
@@ -542,6 +543,50 @@ class DateProcessorTests {
         assertThat(processedRecords.get(0).getData().toMap(), equalTo(record.getData().toMap()));
     }
 
+    @Test
+    void match_with_several_matching_patterns_uses_first_configured_pattern() {
+        when(mockDateMatch.getKey()).thenReturn("logDate");
+        when(mockDateMatch.getPatterns()).thenReturn(List.of("dd/MM/yyyy HH:mm:ss", "MM/dd/yyyy HH:mm:ss"));
+        when(mockDateProcessorConfig.getMatch()).thenReturn(Collections.singletonList(mockDateMatch));
+        when(mockDateProcessorConfig.getSourceZoneId()).thenReturn(ZoneId.of("UTC"));
+        when(mockDateProcessorConfig.getDestinationZoneId()).thenReturn(ZoneId.of("UTC"));
+        when(mockDateProcessorConfig.getSourceLocale()).thenReturn(Locale.ROOT);
+
+        dateProcessor = createObjectUnderTest();
+
+        final Record<Event> monthFirstRecord = buildRecordWithEvent(Map.of("logDate", "01/13/2024 10:00:00"));
+        final Record<Event> ambiguousRecord = buildRecordWithEvent(Map.of("logDate", "01/02/2024 10:00:00"));
+        dateProcessor.doExecute(List.of(monthFirstRecord, ambiguousRecord));
+
+        assertThat(monthFirstRecord.getData().get(TIMESTAMP_KEY, String.class), equalTo("2024-01-13T10:00:00.000Z"));
+        assertThat(ambiguousRecord.getData().get(TIMESTAMP_KEY, String.class), equalTo("2024-02-01T10:00:00.000Z"));
+        verify(dateProcessingMatchSuccessCounter, times(2)).increment();
+    }
+
+    @Test
+    void match_with_repeated_timestamp_gives_same_result_for_every_event() {
+        when(mockDateMatch.getKey()).thenReturn("logDate");
+        when(mockDateMatch.getPatterns()).thenReturn(List.of("MMM dd HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ss.SSSXXX"));
+        when(mockDateProcessorConfig.getMatch()).thenReturn(Collections.singletonList(mockDateMatch));
+        when(mockDateProcessorConfig.getSourceZoneId()).thenReturn(ZoneId.of("UTC"));
+        when(mockDateProcessorConfig.getDestinationZoneId()).thenReturn(ZoneId.of("America/New_York"));
+        when(mockDateProcessorConfig.getSourceLocale()).thenReturn(Locale.ROOT);
+        when(mockDateProcessorConfig.getToOriginationMetadata()).thenReturn(true);
+
+        dateProcessor = createObjectUnderTest();
+
+        final List<Record<Event>> records = List.of(
+                buildRecordWithEvent(new HashMap<>(Map.of("logDate", "2024-03-10T07:30:00.250+01:00"))),
+                buildRecordWithEvent(new HashMap<>(Map.of("logDate", "2024-03-10T07:30:00.250+01:00"))));
+        dateProcessor.doExecute(records);
+
+        for (final Record<Event> record : records) {
+            assertThat(record.getData().get(TIMESTAMP_KEY, String.class), equalTo("2024-03-10T01:30:00.250-05:00"));
+            assertThat(record.getData().getMetadata().getExternalOriginationTime(), equalTo(Instant.parse("2024-03-10T06:30:00.250Z")));
+        }
+        verify(dateProcessingMatchSuccessCounter, times(2)).increment();
+    }
+
     static Record<Event> buildRecordWithEvent(final Map<String, Object> data) {
         return new Record<>(JacksonEvent.builder()
                 .withData(data)
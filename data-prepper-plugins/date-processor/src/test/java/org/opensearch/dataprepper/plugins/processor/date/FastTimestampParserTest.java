@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.date;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class FastTimestampParserTest {
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    @ParameterizedTest
+    @ValueSource(strings = {"dd/MM/yyyy", "yyyy-MM-dd'T'HH:mm", "yyyy-MMM-dd HH:mm:ss.SSS", "MMM  d HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ss.SSSZ"})
+    void create_returns_null_for_unsupported_patterns(final String pattern) {
+        assertThat(FastTimestampParser.create(pattern, Locale.ROOT, NEW_YORK, LocalDate.now(NEW_YORK)), nullValue());
+    }
+
+    @ParameterizedTest
+    @MethodSource("parsedTimestamps")
+    void parse_returns_same_instant_as_formatter(final String pattern, final String timestamp, final ZoneId zoneId, final Locale locale) {
+        final FastTimestampParser objectUnderTest = FastTimestampParser.create(pattern, locale, zoneId, LocalDate.now(zoneId));
+        assertThat(objectUnderTest, notNullValue());
+
+        final Instant expectedInstant = ZonedDateTime.parse(timestamp, new SourceTimestampPattern(pattern, zoneId, locale).getFormatter()).toInstant();
+
+        assertThat(objectUnderTest.parse(timestamp), equalTo(expectedInstant));
+    }
+
+    @ParameterizedTest
+    @MethodSource("deferredTimestamps")
+    void parse_returns_null_for_timestamps_left_to_formatter(final String pattern, final String timestamp) {
+        final FastTimestampParser objectUnderTest = FastTimestampParser.create(pattern, Locale.ROOT, NEW_YORK, LocalDate.now(NEW_YORK));
+
+        assertThat(objectUnderTest.parse(timestamp), nullValue());
+    }
+
+    @Test
+    void parse_syslog_timestamp_uses_year_of_default_values() {
+        final FastTimestampParser objectUnderTest = FastTimestampParser.create("MMM dd HH:mm:ss", Locale.US, ZoneId.of("UTC"), LocalDate.of(2023, 6, 1));
+
+        assertThat(objectUnderTest.parse("Feb 03 04:05:06"), equalTo(Instant.parse("2023-02-03T04:05:06Z")));
+    }
+
+    private static Stream<Arguments> parsedTimestamps() {
+        return Stream.of(
+                arguments("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "2024-02-29T23:59:59.999Z", NEW_YORK, Locale.ROOT),
+                arguments("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "2024-07-01T08:15:30.010+05:30", NEW_YORK, Locale.ROOT),
+                arguments("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "1999-12-31T00:00:00.000-18:00", NEW_YORK, Locale.ROOT),
+                arguments("yyyy-MM-dd'T'HH:mm:ssXXX", "2024-01-15T10:00:00+01:00", NEW_YORK, Locale.ROOT),
+                arguments("uuuu-MM-dd'T'HH:mm:ss.SSSSSS", "2024-01-15T10:00:00.123456", ZoneId.of("UTC"), Locale.ROOT),
+                arguments("yyyy-MM-dd HH:mm:ss", "2024-03-10T02:30:00".replace('T', ' '), NEW_YORK, Locale.ROOT),
+                arguments("yyyy-MM-dd HH:mm:ss", "2024-11-03 01:30:00", NEW_YORK, Locale.ROOT),
+                arguments("yyyy-MM-dd HH:mm:ss", "2024-11-03 01:30:00", ZoneId.of("+05:30"), Locale.ROOT),
+                arguments("yyyy-MM-dd", "2024-06-30", NEW_YORK, Locale.ROOT),
+                arguments("MMM dd HH:mm:ss", "Dec 01 12:00:00", NEW_YORK, Locale.US),
+                arguments("MMM d HH:mm:ss", "Jan 5 00:00:01", NEW_YORK, Locale.US),
+                arguments("MMM d HH:mm:ss", "Jan 25 00:00:01", NEW_YORK, Locale.US)
+        );
+    }
+
+    private static Stream<Arguments> deferredTimestamps() {
+        return Stream.of(
+                arguments("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "2024-02-30T10:00:00.000Z"),
+                arguments("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "2024-13-01T10:00:00.000Z"),
+                arguments("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "2024-01-01T24:00:00.000Z"),
+                arguments("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "2024-01-01T10:00:60.000Z"),
+                arguments("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "2024-01-01T10:00:00.0000Z"),
+                arguments("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "2024-01-01T10:00:00.000z"),
+                arguments("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "2024-01-01T10:00:00.000+0100"),
+                arguments("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "2024-01-01T10:00:00.000+19:00"),
+                arguments("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "2024-01-01 10:00:00.000Z"),
+                arguments("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "0000-01-01T10:00:00.000Z"),
+                arguments("yyyy-MM-dd HH:mm:ss", "2024-01-01 10:00:00 "),
+                arguments("yyyy-MM-dd", "1715000000"),
+                arguments("MMM dd HH:mm:ss", "Jan 5 10:00:00"),
+                arguments("MMM dd HH:mm:ss", "JAN 05 10:00:00"),
+                arguments("MMM d HH:mm:ss", "Jan 005 10:00:00")
+        );
+    }
+}
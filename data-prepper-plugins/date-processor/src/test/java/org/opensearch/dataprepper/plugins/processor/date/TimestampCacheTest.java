@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.date;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class TimestampCacheTest {
+    @Test
+    void get_returns_null_for_timestamp_which_was_not_put() {
+        assertThat(new TimestampCache(16).get(UUID.randomUUID().toString()), nullValue());
+    }
+
+    @Test
+    void get_returns_result_which_was_put() {
+        final TimestampCache objectUnderTest = new TimestampCache(16);
+        final String timestamp = UUID.randomUUID().toString();
+        final Pair<String, Instant> result = Pair.of(UUID.randomUUID().toString(), Instant.now());
+
+        objectUnderTest.put(timestamp, result);
+
+        assertThat(objectUnderTest.get(timestamp), equalTo(result));
+    }
+
+    @Test
+    void put_replaces_timestamp_in_same_slot() {
+        final TimestampCache objectUnderTest = new TimestampCache(1);
+        final Pair<String, Instant> firstResult = Pair.of("first", Instant.now());
+        final Pair<String, Instant> secondResult = Pair.of("second", Instant.now());
+
+        for (int i = 0; i < 3; i++) {
+            objectUnderTest.put("timestamp-" + i, i == 2 ? secondResult : firstResult);
+        }
+
+        assertThat(objectUnderTest.get("timestamp-2"), equalTo(secondResult));
+        assertThat(objectUnderTest.get("timestamp-0") == null || objectUnderTest.get("timestamp-1") == null, equalTo(true));
+    }
+}
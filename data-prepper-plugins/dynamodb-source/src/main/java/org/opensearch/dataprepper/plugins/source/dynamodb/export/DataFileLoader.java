@@ -74,7 +74,7 @@ public class DataFileLoader implements Runnable {
         this.key = builder.key;
         this.checkpointer = builder.checkpointer;
         this.startLine = builder.startLine;
-        final BufferAccumulator<Record<Event>> bufferAccumulator = BufferAccumulator.create(builder.buffer, DEFAULT_BUFFER_BATCH_SIZE, BUFFER_TIMEOUT);
+        final BufferAccumulator<Record<Event>> bufferAccumulator = BufferAccumulator.create(builder.buffer, DEFAULT_BUFFER_BATCH_SIZE, BUFFER_TIMEOUT, builder.pluginMetrics);
         recordConverter = new ExportRecordConverter(bufferAccumulator, builder.tableInfo, builder.pluginMetrics, builder.exportStartTime);
         this.acknowledgementSet = builder.acknowledgementSet;
         this.dataFileAcknowledgmentTimeout = builder.dataFileAcknowledgmentTimeout;
@@ -29,6 +29,7 @@ import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -55,6 +56,7 @@ public class GeoIPProcessor extends AbstractProcessor<Record<Event>, Record<Even
   private final ExpressionEvaluator expressionEvaluator;
   private final Map<EntryConfig, List<GeoIPField>> entryFieldsMap;
   final Map<EntryConfig, Set<GeoIPDatabase>> entryDatabaseMap;
+  private final GeoIPResultCache geoIPResultCache;
 
   /**
    * GeoIPProcessor constructor for initialization of required attributes
@@ -82,6 +84,7 @@ public class GeoIPProcessor extends AbstractProcessor<Record<Event>, Record<Even
 
     this.entryFieldsMap = populateGeoIPFields();
     this.entryDatabaseMap = populateGeoIPDatabases();
+    this.geoIPResultCache = new GeoIPResultCache(geoIPProcessorConfig.getResultCacheSize().getBytes(), pluginMetrics);
   }
 
   /**
@@ -95,6 +98,7 @@ public class GeoIPProcessor extends AbstractProcessor<Record<Event>, Record<Even
 
     final GeoIPDatabaseReader geoIPDatabaseReader = geoIPProcessorService.getGeoIPDatabaseReader();
     final boolean databasesExpired = geoIPDatabaseReader.isExpired();
+    geoIPResultCache.useDatabaseReader(geoIPDatabaseReader);
 
     for (final Record<Event> eventRecord : records) {
       final Event event = eventRecord.getData();
@@ -114,7 +118,9 @@ public class GeoIPProcessor extends AbstractProcessor<Record<Event>, Record<Even
 
       boolean isEventFailedLookup = false;
 
-      for (final EntryConfig entry : geoIPProcessorConfig.getEntries()) {
+      final List<EntryConfig> entries = geoIPProcessorConfig.getEntries();
+      for (int entryIndex = 0; entryIndex < entries.size(); entryIndex++) {
+        final EntryConfig entry = entries.get(entryIndex);
         final String source = entry.getSource();
         final List<GeoIPField> fields = entryFieldsMap.get(entry);
         final Set<GeoIPDatabase> databases = entryDatabaseMap.get(entry);
@@ -131,15 +137,22 @@ public class GeoIPProcessor extends AbstractProcessor<Record<Event>, Record<Even
         //Lookup from DB
         if (ipAddress != null && !ipAddress.isEmpty()) {
           try {
-            if (IPValidationCheck.isPublicIpAddress(ipAddress)) {
-              geoData = geoIPDatabaseReader.getGeoData(InetAddress.getByName(ipAddress), fields, databases);
-              if (geoData.isEmpty()) {
-                isEventFailedLookup = true;
+            final Object cacheKey = geoIPResultCache.createKey(entryIndex, ipAddress);
+            geoData = cacheKey != null ? geoIPResultCache.get(cacheKey) : null;
+            if (geoData == null) {
+              if (IPValidationCheck.isPublicIpAddress(ipAddress)) {
+                geoData = geoIPDatabaseReader.getGeoData(InetAddress.getByName(ipAddress), fields, databases);
               } else {
-                eventRecord.getData().put(entry.getTarget(), geoData);
+                geoData = Collections.emptyMap();
               }
-            } else {
+              if (cacheKey != null) {
+                geoIPResultCache.put(cacheKey, geoData);
+              }
+            }
+            if (geoData.isEmpty()) {
               isEventFailedLookup = true;
+            } else {
+              eventRecord.getData().put(entry.getTarget(), geoData);
             }
           } catch (final InvalidIPAddressException | UnknownHostException e) {
             isEventFailedLookup = true;
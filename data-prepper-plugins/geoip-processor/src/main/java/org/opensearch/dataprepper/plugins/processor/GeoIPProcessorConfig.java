@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.plugins.processor.configuration.EntryConfig;
 
 import java.util.List;
@@ -17,6 +18,7 @@ import java.util.List;
  * An implementation class of GeoIP Processor configuration
  */
 public class GeoIPProcessorConfig {
+    private static final ByteCount DEFAULT_RESULT_CACHE_SIZE = ByteCount.parse("8mb");
 
     @Valid
     @NotNull
@@ -30,6 +32,10 @@ public class GeoIPProcessorConfig {
     @JsonProperty("geoip_when")
     private String whenCondition;
 
+    @NotNull
+    @JsonProperty("result_cache_size")
+    private ByteCount resultCacheSize = DEFAULT_RESULT_CACHE_SIZE;
+
     /**
      * Get List of entries
      * @return List of EntryConfig
@@ -53,4 +59,12 @@ public class GeoIPProcessorConfig {
     public String getWhenCondition() {
         return whenCondition;
     }
+
+    /**
+     * Get the size of the cache of enrichment results
+     * @return ByteCount Result cache size
+     */
+    public ByteCount getResultCacheSize() {
+        return resultCacheSize;
+    }
 }
@@ -0,0 +1,272 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.primitives.Ints;
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.plugins.processor.databaseenrich.GeoIPDatabaseReader;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread-safe, least recently used cache of the geo data found for an IP address by one entry of the processor.
+ * <p>
+ * IPv4 addresses are keyed by a long packing the address and the index of the entry, and IPv6
+ * addresses by two longs and the entry index. Only IP address literals are cached, so a value
+ * which would be resolved by a DNS lookup is never cached. An empty geo data map records that the
+ * lookup of an address failed, or that the address is not public.
+ * <p>
+ * The cache is bounded by the estimated size of its keys and values in bytes. Like any Guava
+ * cache, it evicts entries per segment, so it may evict before the whole cache reaches its
+ * maximum. It is cleared when the processor is given a different {@link GeoIPDatabaseReader},
+ * which happens when the databases are updated. A cache is shared by every worker running its
+ * processor.
+ */
+class GeoIPResultCache {
+    static final String CACHE_HITS = "cacheHits";
+    static final String CACHE_MISSES = "cacheMisses";
+    static final String CACHE_HIT_RATIO = "cacheHitRatio";
+    static final String CACHE_SIZE_BYTES = "cacheSizeBytes";
+    static final long ENTRY_OVERHEAD_BYTES = 96;
+    private static final long OBJECT_OVERHEAD_BYTES = 16;
+    private static final long STRING_OVERHEAD_BYTES = 40;
+    private static final long MAP_OVERHEAD_BYTES = 48;
+    private static final long MAP_ENTRY_OVERHEAD_BYTES = 32;
+    private static final long COLLECTION_OVERHEAD_BYTES = 40;
+    private static final long REFERENCE_BYTES = 8;
+
+    private final long maximumBytes;
+    private final Cache<Object, CachedGeoData> cachedGeoData;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final AtomicLong currentBytes;
+    private volatile GeoIPDatabaseReader geoIPDatabaseReader;
+
+    GeoIPResultCache(final long maximumBytes, final PluginMetrics pluginMetrics) {
+        this.maximumBytes = maximumBytes;
+        this.currentBytes = new AtomicLong();
+        this.cachedGeoData = CacheBuilder.newBuilder()
+                .maximumWeight(Math.max(maximumBytes, 0))
+                .weigher((Object key, CachedGeoData cached) -> Ints.saturatedCast(cached.bytes))
+                .removalListener((RemovalNotification<Object, CachedGeoData> removal) -> currentBytes.addAndGet(-removal.getValue().bytes))
+                .build();
+        this.cacheHits = pluginMetrics.counter(CACHE_HITS);
+        this.cacheMisses = pluginMetrics.counter(CACHE_MISSES);
+        pluginMetrics.gauge(CACHE_HIT_RATIO, this, GeoIPResultCache::getHitRatio);
+        pluginMetrics.gauge(CACHE_SIZE_BYTES, this, GeoIPResultCache::getCurrentBytes);
+    }
+
+    /**
+     * Clears the cache if the geo data was found using a different reader.
+     *
+     * @param geoIPDatabaseReader the reader used for the current batch
+     */
+    void useDatabaseReader(final GeoIPDatabaseReader geoIPDatabaseReader) {
+        if (this.geoIPDatabaseReader == geoIPDatabaseReader) {
+            return;
+        }
+        synchronized (this) {
+            if (this.geoIPDatabaseReader != geoIPDatabaseReader) {
+                cachedGeoData.invalidateAll();
+                this.geoIPDatabaseReader = geoIPDatabaseReader;
+            }
+        }
+    }
+
+    /**
+     * @param entryIndex the index of the entry in the processor configuration
+     * @param ipAddress the IP address from the event
+     * @return the cache key, or null when the IP address is not cached
+     */
+    Object createKey(final int entryIndex, final String ipAddress) {
+        if (maximumBytes <= 0) {
+            return null;
+        }
+        final long ipv4Address = parseIpv4Address(ipAddress);
+        if (ipv4Address >= 0) {
+            return ipv4Key(entryIndex, ipv4Address);
+        }
+        if (!isIpv6Literal(ipAddress)) {
+            return null;
+        }
+        final InetAddress inetAddress;
+        try {
+            inetAddress = InetAddress.getByName(ipAddress);
+        } catch (final UnknownHostException e) {
+            return null;
+        }
+        final byte[] address = inetAddress.getAddress();
+        if (inetAddress instanceof Inet4Address) {
+            return ipv4Key(entryIndex, ByteBuffer.wrap(address).getInt() & 0xFFFFFFFFL);
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(address);
+        return new Ipv6Key(entryIndex, buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * @param key the key returned by {@link #createKey(int, String)}
+     * @return the cached geo data, or null when the key is not cached
+     */
+    Map<String, Object> get(final Object key) {
+        final CachedGeoData cached = cachedGeoData.getIfPresent(key);
+        if (cached == null) {
+            cacheMisses.increment();
+            return null;
+        }
+        cacheHits.increment();
+        return cached.geoData;
+    }
+
+    /**
+     * @param key the key returned by {@link #createKey(int, String)}
+     * @param geoData the geo data found for the key
+     */
+    void put(final Object key, final Map<String, Object> geoData) {
+        final long bytes = ENTRY_OVERHEAD_BYTES + estimateBytes(geoData);
+        if (bytes > maximumBytes) {
+            return;
+        }
+        // Added before the entry, since the removal listener subtracts it if the entry is evicted right away.
+        currentBytes.addAndGet(bytes);
+        cachedGeoData.put(key, new CachedGeoData(geoData, bytes));
+    }
+
+    long size() {
+        return cachedGeoData.size();
+    }
+
+    long getCurrentBytes() {
+        return currentBytes.get();
+    }
+
+    double getHitRatio() {
+        final double hits = cacheHits.count();
+        final double lookups = hits + cacheMisses.count();
+        return lookups == 0 ? 0.0 : hits / lookups;
+    }
+
+    private static Long ipv4Key(final int entryIndex, final long ipv4Address) {
+        return ((long) entryIndex << Integer.SIZE) | ipv4Address;
+    }
+
+    /**
+     * {@link InetAddress#getByName(String)} reads a value containing a colon and starting with a
+     * hex digit, a colon or a bracket as an IPv6 address, and does not resolve it.
+     */
+    private static boolean isIpv6Literal(final String ipAddress) {
+        final char first = ipAddress.charAt(0);
+        return ipAddress.indexOf(':') >= 0 && (Character.digit(first, 16) >= 0 || first == ':' || first == '[');
+    }
+
+    /**
+     * Parses an IPv4 address in dotted decimal notation without leading zeros, which
+     * {@link InetAddress#getByName(String)} reads as the same address.
+     *
+     * @return the address, or -1 when the value is not an IPv4 address in this notation
+     */
+    static long parseIpv4Address(final String ipAddress) {
+        final int length = ipAddress.length();
+        long address = 0;
+        int octets = 0;
+        int index = 0;
+        while (index < length && octets < 4) {
+            final int start = index;
+            int octet = 0;
+            while (index < length && index - start < 3) {
+                final char c = ipAddress.charAt(index);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                octet = octet * 10 + (c - '0');
+                index++;
+            }
+            final int digits = index - start;
+            if (digits == 0 || octet > 255 || (digits > 1 && ipAddress.charAt(start) == '0')) {
+                return -1;
+            }
+            address = (address << 8) | octet;
+            octets++;
+            if (octets < 4) {
+                if (index >= length || ipAddress.charAt(index) != '.') {
+                    return -1;
+                }
+                index++;
+            }
+        }
+        return octets == 4 && index == length ? address : -1;
+    }
+
+    static long estimateBytes(final Object value) {
+        if (value instanceof String) {
+            return STRING_OVERHEAD_BYTES + 2L * ((String) value).length();
+        }
+        if (value instanceof Map) {
+            long bytes = MAP_OVERHEAD_BYTES;
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                bytes += MAP_ENTRY_OVERHEAD_BYTES + estimateBytes(entry.getKey()) + estimateBytes(entry.getValue());
+            }
+            return bytes;
+        }
+        if (value instanceof Collection) {
+            long bytes = COLLECTION_OVERHEAD_BYTES;
+            for (final Object element : (Collection<?>) value) {
+                bytes += REFERENCE_BYTES + estimateBytes(element);
+            }
+            return bytes;
+        }
+        return value == null ? 0 : OBJECT_OVERHEAD_BYTES;
+    }
+
+    private static class CachedGeoData {
+        private final Map<String, Object> geoData;
+        private final long bytes;
+
+        private CachedGeoData(final Map<String, Object> geoData, final long bytes) {
+            this.geoData = geoData;
+            this.bytes = bytes;
+        }
+    }
+
+    private static class Ipv6Key {
+        private final int entryIndex;
+        private final long high;
+        private final long low;
+
+        private Ipv6Key(final int entryIndex, final long high, final long low) {
+            this.entryIndex = entryIndex;
+            this.high = high;
+            this.low = low;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Ipv6Key)) {
+                return false;
+            }
+            final Ipv6Key otherKey = (Ipv6Key) other;
+            return entryIndex == otherKey.entryIndex && high == otherKey.high && low == otherKey.low;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(entryIndex, high, low);
+        }
+    }
+}
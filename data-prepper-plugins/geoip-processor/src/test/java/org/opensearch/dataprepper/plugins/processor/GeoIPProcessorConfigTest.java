@@ -9,6 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.plugins.processor.configuration.EntryConfig;
 import org.opensearch.dataprepper.test.helper.ReflectivelySetField;
 
@@ -32,6 +33,7 @@ class GeoIPProcessorConfigTest {
         assertThat(geoIPProcessorConfig.getEntries(), equalTo(null));
         assertThat(geoIPProcessorConfig.getTagsOnFailure(), equalTo(null));
         assertThat(geoIPProcessorConfig.getWhenCondition(), equalTo(null));
+        assertThat(geoIPProcessorConfig.getResultCacheSize(), equalTo(ByteCount.parse("8mb")));
     }
 
     @Test
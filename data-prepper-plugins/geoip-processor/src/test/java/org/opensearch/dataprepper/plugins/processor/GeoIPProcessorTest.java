@@ -21,6 +21,7 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.plugins.processor.configuration.EntryConfig;
 import org.opensearch.dataprepper.plugins.processor.databaseenrich.GeoIPDatabaseReader;
 import org.opensearch.dataprepper.plugins.processor.exception.EnrichFailedException;
@@ -99,7 +100,13 @@ class GeoIPProcessorTest {
     @Mock
     private Counter geoIpEventsFailedLookup;
     @Mock
+    private Counter cacheHits;
+    @Mock
+    private Counter cacheMisses;
+    @Mock
     private GeoIPDatabaseReader geoIPDatabaseReader;
+    @Mock
+    private GeoIPDatabaseReader updatedGeoIPDatabaseReader;
     @Captor
     private ArgumentCaptor<List<GeoIPField>> geoIPFieldCaptor;
 
@@ -109,6 +116,9 @@ class GeoIPProcessorTest {
         lenient().when(geoIPProcessorService.getGeoIPDatabaseReader()).thenReturn(geoIPDatabaseReader);
         lenient().when(pluginMetrics.counter(GEO_IP_EVENTS_PROCESSED)).thenReturn(geoIpEventsProcessed);
         lenient().when(pluginMetrics.counter(GEO_IP_EVENTS_FAILED_LOOKUP)).thenReturn(geoIpEventsFailedLookup);
+        lenient().when(pluginMetrics.counter(GeoIPResultCache.CACHE_HITS)).thenReturn(cacheHits);
+        lenient().when(pluginMetrics.counter(GeoIPResultCache.CACHE_MISSES)).thenReturn(cacheMisses);
+        lenient().when(geoIPProcessorConfig.getResultCacheSize()).thenReturn(ByteCount.parse("1mb"));
     }
 
     @AfterEach
@@ -336,6 +346,52 @@ class GeoIPProcessorTest {
         }
     }
 
+    @Test
+    void doExecuteTest_should_look_up_repeated_ip_address_once() {
+        when(geoIPProcessorConfig.getEntries()).thenReturn(List.of(entry));
+        when(entry.getSource()).thenReturn(SOURCE);
+        when(entry.getTarget()).thenReturn(TARGET);
+        when(entry.getIncludeFields()).thenReturn(setFields());
+
+        final GeoIPProcessor geoIPProcessor = createObjectUnderTest();
+
+        when(geoIPDatabaseReader.getGeoData(any(), any(), any())).thenReturn(prepareGeoData());
+        final Collection<Record<Event>> records = geoIPProcessor.doExecute(List.of(createRecord(), createRecord(), createRecord()));
+
+        for (final Record<Event> record : records) {
+            assertThat(record.getData().get(TARGET, Map.class), equalTo(prepareGeoData()));
+        }
+        verify(geoIPDatabaseReader, times(1)).getGeoData(any(), any(), any());
+        verify(cacheMisses, times(1)).increment();
+        verify(cacheHits, times(2)).increment();
+        verify(geoIpEventsProcessed, times(3)).increment();
+    }
+
+    @Test
+    void doExecuteTest_should_look_up_cached_ip_address_again_after_databases_are_updated() {
+        when(geoIPProcessorConfig.getEntries()).thenReturn(List.of(entry));
+        when(entry.getSource()).thenReturn(SOURCE);
+        when(entry.getTarget()).thenReturn(TARGET);
+        when(entry.getIncludeFields()).thenReturn(setFields());
+
+        final GeoIPProcessor geoIPProcessor = createObjectUnderTest();
+
+        when(geoIPDatabaseReader.getGeoData(any(), any(), any())).thenReturn(prepareGeoData());
+        geoIPProcessor.doExecute(setEventQueue());
+
+        final Map<String, Object> updatedGeoData = Map.of("country_name", "Canada");
+        when(geoIPProcessorService.getGeoIPDatabaseReader()).thenReturn(updatedGeoIPDatabaseReader);
+        when(updatedGeoIPDatabaseReader.getGeoData(any(), any(), any())).thenReturn(updatedGeoData);
+        final Collection<Record<Event>> records = geoIPProcessor.doExecute(setEventQueue());
+
+        for (final Record<Event> record : records) {
+            assertThat(record.getData().get(TARGET, Map.class), equalTo(updatedGeoData));
+        }
+        verify(geoIPDatabaseReader, times(1)).getGeoData(any(), any(), any());
+        verify(updatedGeoIPDatabaseReader, times(1)).getGeoData(any(), any(), any());
+        verify(geoIpEventsProcessed, times(2)).increment();
+    }
+
     @Test
     void isReadyForShutdownTest() {
         GeoIPProcessor geoIPProcessor = createObjectUnderTest();
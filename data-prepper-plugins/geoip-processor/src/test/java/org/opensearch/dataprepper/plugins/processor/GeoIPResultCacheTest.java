@@ -0,0 +1,225 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.plugins.processor.databaseenrich.GeoIPDatabaseReader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GeoIPResultCacheTest {
+    private static final Map<String, Object> GEO_DATA = Map.of("country_name", "United States", "city_name", "Seattle");
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+    @Mock
+    private Counter cacheHits;
+    @Mock
+    private Counter cacheMisses;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(pluginMetrics.counter(GeoIPResultCache.CACHE_HITS)).thenReturn(cacheHits);
+        lenient().when(pluginMetrics.counter(GeoIPResultCache.CACHE_MISSES)).thenReturn(cacheMisses);
+    }
+
+    private GeoIPResultCache createObjectUnderTest(final long maximumBytes) {
+        return new GeoIPResultCache(maximumBytes, pluginMetrics);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0.0.0.0, 0",
+            "1.2.3.4, 16909060",
+            "136.226.242.205, 2296574669",
+            "255.255.255.255, 4294967295"
+    })
+    void parseIpv4Address_returns_address(final String ipAddress, final long expectedAddress) {
+        assertThat(GeoIPResultCache.parseIpv4Address(ipAddress), equalTo(expectedAddress));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "1.2.3", "1.2.3.4.5", "1.2.3.256", "01.2.3.4", "1.2.3.4.", ".1.2.3", "1..2.3", "1.2.3.4a",
+            "1234.1.1.1", "example.org", "::1", "1.2.3.-4"})
+    void parseIpv4Address_returns_negative_for_other_values(final String ipAddress) {
+        assertThat(GeoIPResultCache.parseIpv4Address(ipAddress), equalTo(-1L));
+    }
+
+    @Test
+    void createKey_returns_equal_keys_for_the_same_address_and_entry() {
+        final GeoIPResultCache objectUnderTest = createObjectUnderTest(1024);
+
+        assertThat(objectUnderTest.createKey(0, "1.2.3.4"), equalTo(objectUnderTest.createKey(0, "1.2.3.4")));
+        assertThat(objectUnderTest.createKey(0, "1.2.3.4"), equalTo(objectUnderTest.createKey(0, "::ffff:1.2.3.4")));
+        assertThat(objectUnderTest.createKey(1, "2001:db8::1"), equalTo(objectUnderTest.createKey(1, "2001:0db8:0:0:0:0:0:1")));
+    }
+
+    @Test
+    void createKey_returns_different_keys_for_different_addresses_or_entries() {
+        final GeoIPResultCache objectUnderTest = createObjectUnderTest(1024);
+
+        assertThat(objectUnderTest.createKey(0, "1.2.3.4"), not(equalTo(objectUnderTest.createKey(0, "1.2.3.5"))));
+        assertThat(objectUnderTest.createKey(0, "1.2.3.4"), not(equalTo(objectUnderTest.createKey(1, "1.2.3.4"))));
+        assertThat(objectUnderTest.createKey(0, "2001:db8::1"), not(equalTo(objectUnderTest.createKey(0, "2001:db8::2"))));
+        assertThat(objectUnderTest.createKey(0, "2001:db8::1"), not(equalTo(objectUnderTest.createKey(1, "2001:db8::1"))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"example.org", "01.2.3.4", "1.2.3", "not:an:address"})
+    void createKey_returns_null_for_values_which_are_not_ip_address_literals(final String ipAddress) {
+        assertThat(createObjectUnderTest(1024).createKey(0, ipAddress), nullValue());
+    }
+
+    @Test
+    void createKey_returns_null_when_cache_is_disabled() {
+        assertThat(createObjectUnderTest(0).createKey(0, "1.2.3.4"), nullValue());
+    }
+
+    @Test
+    void get_returns_cached_geo_data_and_counts_hits_and_misses() {
+        final GeoIPResultCache objectUnderTest = createObjectUnderTest(1024);
+        final Object key = objectUnderTest.createKey(0, "1.2.3.4");
+
+        assertThat(objectUnderTest.get(key), nullValue());
+        objectUnderTest.put(key, GEO_DATA);
+        assertThat(objectUnderTest.get(key), equalTo(GEO_DATA));
+
+        verify(cacheMisses).increment();
+        verify(cacheHits).increment();
+    }
+
+    @Test
+    void put_evicts_geo_data_when_maximum_bytes_is_exceeded() {
+        final long entryBytes = GeoIPResultCache.ENTRY_OVERHEAD_BYTES + GeoIPResultCache.estimateBytes(GEO_DATA);
+        final long maximumBytes = 100 * entryBytes;
+        final GeoIPResultCache objectUnderTest = createObjectUnderTest(maximumBytes);
+
+        for (int i = 0; i < 1_000; i++) {
+            objectUnderTest.put(objectUnderTest.createKey(0, "10.0." + (i / 256) + "." + (i % 256)), GEO_DATA);
+        }
+
+        assertThat(objectUnderTest.size(), lessThanOrEqualTo(100L));
+        assertThat(objectUnderTest.getCurrentBytes(), equalTo(objectUnderTest.size() * entryBytes));
+        assertThat(objectUnderTest.getCurrentBytes(), lessThanOrEqualTo(maximumBytes));
+    }
+
+    @Test
+    void put_keeps_recently_used_geo_data() {
+        final long entryBytes = GeoIPResultCache.ENTRY_OVERHEAD_BYTES + GeoIPResultCache.estimateBytes(GEO_DATA);
+        final GeoIPResultCache objectUnderTest = createObjectUnderTest(100 * entryBytes);
+        final Object recentlyUsedKey = objectUnderTest.createKey(0, "1.1.1.1");
+        objectUnderTest.put(recentlyUsedKey, GEO_DATA);
+
+        for (int i = 0; i < 1_000; i++) {
+            objectUnderTest.put(objectUnderTest.createKey(0, "10.0." + (i / 256) + "." + (i % 256)), GEO_DATA);
+            assertThat(objectUnderTest.get(recentlyUsedKey), equalTo(GEO_DATA));
+        }
+    }
+
+    @Test
+    void get_and_put_from_concurrent_threads_keep_the_size_in_bytes_consistent() throws Exception {
+        final long entryBytes = GeoIPResultCache.ENTRY_OVERHEAD_BYTES + GeoIPResultCache.estimateBytes(GEO_DATA);
+        final long maximumBytes = 100 * entryBytes;
+        final GeoIPResultCache objectUnderTest = createObjectUnderTest(maximumBytes);
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                final int seed = thread;
+                futures.add(executorService.submit(() -> {
+                    final Random random = new Random(seed);
+                    for (int i = 0; i < 5_000; i++) {
+                        final Object key = objectUnderTest.createKey(0, "10.0.0." + random.nextInt(256));
+                        if (objectUnderTest.get(key) == null) {
+                            objectUnderTest.put(key, GEO_DATA);
+                        }
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(objectUnderTest.getCurrentBytes(), equalTo(objectUnderTest.size() * entryBytes));
+        assertThat(objectUnderTest.getCurrentBytes(), lessThanOrEqualTo(maximumBytes));
+    }
+
+    @Test
+    void put_does_not_cache_geo_data_larger_than_maximum_bytes() {
+        final GeoIPResultCache objectUnderTest = createObjectUnderTest(GeoIPResultCache.ENTRY_OVERHEAD_BYTES);
+
+        objectUnderTest.put(objectUnderTest.createKey(0, "1.2.3.4"), GEO_DATA);
+
+        assertThat(objectUnderTest.size(), equalTo(0L));
+        assertThat(objectUnderTest.getCurrentBytes(), equalTo(0L));
+    }
+
+    @Test
+    void useDatabaseReader_clears_cache_only_when_reader_changes() {
+        final GeoIPResultCache objectUnderTest = createObjectUnderTest(1024);
+        final GeoIPDatabaseReader geoIPDatabaseReader = mock(GeoIPDatabaseReader.class);
+        final Object key = objectUnderTest.createKey(0, "1.2.3.4");
+
+        objectUnderTest.useDatabaseReader(geoIPDatabaseReader);
+        objectUnderTest.put(key, GEO_DATA);
+        objectUnderTest.useDatabaseReader(geoIPDatabaseReader);
+        assertThat(objectUnderTest.size(), equalTo(1L));
+
+        objectUnderTest.useDatabaseReader(mock(GeoIPDatabaseReader.class));
+        assertThat(objectUnderTest.size(), equalTo(0L));
+        assertThat(objectUnderTest.getCurrentBytes(), equalTo(0L));
+    }
+
+    @Test
+    void getHitRatio_returns_ratio_of_hits_to_lookups() {
+        final GeoIPResultCache objectUnderTest = createObjectUnderTest(1024);
+        assertThat(objectUnderTest.getHitRatio(), equalTo(0.0));
+
+        when(cacheHits.count()).thenReturn(3.0);
+        when(cacheMisses.count()).thenReturn(1.0);
+        assertThat(objectUnderTest.getHitRatio(), equalTo(0.75));
+    }
+
+    @Test
+    void constructor_registers_gauges() {
+        final GeoIPResultCache objectUnderTest = createObjectUnderTest(1024);
+
+        verify(pluginMetrics).gauge(eq(GeoIPResultCache.CACHE_HIT_RATIO), eq(objectUnderTest), any());
+        verify(pluginMetrics).gauge(eq(GeoIPResultCache.CACHE_SIZE_BYTES), eq(objectUnderTest), any());
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+/**
+ * A {@link CharSequence} which stops a regular expression match once a deadline has passed.
+ * <p>
+ * The regex engine reads its input through {@link #charAt(int)}, including while it backtracks,
+ * so checking the clock every few reads bounds the time of a match on the calling thread.
+ * When the deadline has passed, {@link #charAt(int)} throws a {@link GrokTimeoutException}.
+ */
+class DeadlineCharSequence implements CharSequence {
+    static final int READS_PER_DEADLINE_CHECK = 1024;
+
+    private final String value;
+    private final long deadlineNanos;
+    private int reads;
+
+    DeadlineCharSequence(final String value, final long deadlineNanos) {
+        this.value = value;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public int length() {
+        return value.length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (++reads % READS_PER_DEADLINE_CHECK == 0 && System.nanoTime() - deadlineNanos > 0) {
+            throw new GrokTimeoutException();
+        }
+        return value.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return value.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.krakens.grok.api.Grok;
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The compiled patterns configured for one key in the match setting, in their configured order.
+ * <p>
+ * At startup the literals required by each pattern are extracted, see {@link GrokRequiredLiterals}.
+ * A value is scanned once for all of these literals, and the patterns requiring a literal which
+ * the value does not contain are skipped, as they cannot match.
+ */
+class GrokFieldPatterns {
+    static final String GROK_PATTERN_MATCH = "grokPatternMatch";
+    static final String GROK_PATTERN_SKIPPED = "grokPatternSkipped";
+    static final String KEY_TAG = "key";
+    static final String PATTERN_TAG = "pattern";
+
+    private final List<Grok> groks;
+    private final LiteralScanner literalScanner;
+    private final int[][] requiredLiteralIds;
+    private final String[] requiredPrefixes;
+    private final List<Counter> matchCounters;
+    private final List<Counter> skippedCounters;
+
+    GrokFieldPatterns(final String key,
+                      final List<String> patterns,
+                      final List<Grok> groks,
+                      final Map<String, String> patternDefinitions,
+                      final PluginMetrics pluginMetrics) {
+        this.groks = groks;
+        this.requiredLiteralIds = new int[patterns.size()][];
+        this.requiredPrefixes = new String[patterns.size()];
+        this.matchCounters = new ArrayList<>(patterns.size());
+        this.skippedCounters = new ArrayList<>(patterns.size());
+
+        final Map<String, Integer> literalIds = new LinkedHashMap<>();
+        for (int i = 0; i < patterns.size(); i++) {
+            final GrokRequiredLiterals requiredLiterals = GrokRequiredLiterals.extract(patterns.get(i), patternDefinitions);
+            requiredLiteralIds[i] = requiredLiterals.getLiterals().stream()
+                    .mapToInt(literal -> literalIds.computeIfAbsent(literal, newLiteral -> literalIds.size()))
+                    .toArray();
+            requiredPrefixes[i] = requiredLiterals.getPrefix();
+            matchCounters.add(pluginMetrics.counterWithTags(GROK_PATTERN_MATCH, KEY_TAG, key, PATTERN_TAG, patterns.get(i)));
+            skippedCounters.add(pluginMetrics.counterWithTags(GROK_PATTERN_SKIPPED, KEY_TAG, key, PATTERN_TAG, patterns.get(i)));
+        }
+        this.literalScanner = new LiteralScanner(new ArrayList<>(literalIds.keySet()));
+    }
+
+    int size() {
+        return groks.size();
+    }
+
+    Grok getGrok(final int patternIndex) {
+        return groks.get(patternIndex);
+    }
+
+    /**
+     * @param value the value to match
+     * @return the indexes of the patterns which may match the value
+     */
+    BitSet findCandidates(final String value) {
+        final BitSet foundLiterals = literalScanner.scan(value);
+        final BitSet candidates = new BitSet(groks.size());
+        for (int i = 0; i < groks.size(); i++) {
+            if (isCandidate(i, value, foundLiterals)) {
+                candidates.set(i);
+            }
+        }
+        return candidates;
+    }
+
+    void recordMatch(final int patternIndex) {
+        matchCounters.get(patternIndex).increment();
+    }
+
+    void recordSkipped(final int patternIndex) {
+        skippedCounters.get(patternIndex).increment();
+    }
+
+    private boolean isCandidate(final int patternIndex, final String value, final BitSet foundLiterals) {
+        if (requiredPrefixes[patternIndex] != null && !value.startsWith(requiredPrefixes[patternIndex])) {
+            return false;
+        }
+        for (final int literalId : requiredLiteralIds[patternIndex]) {
+            if (!foundLiterals.get(literalId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
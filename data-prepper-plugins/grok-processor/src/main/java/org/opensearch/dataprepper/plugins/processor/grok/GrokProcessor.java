@@ -17,6 +17,8 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor
 import org.opensearch.dataprepper.model.annotations.SingleThread;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -34,6 +36,7 @@ import java.nio.file.Files;
 import java.nio.file.NotDirectoryException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -43,12 +46,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
@@ -58,11 +56,10 @@ import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
 @SingleThread
 @DataPrepperPlugin(name = "grok", pluginType = Processor.class)
 public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
-    static final long EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT = 300L;
-
     private static final Logger LOG = LoggerFactory.getLogger(GrokProcessor.class);
 
     private static final String DATA_PREPPER_GROK_PATTERNS_FILE = "grok-patterns/patterns";
+    private static final long NO_DEADLINE = Long.MIN_VALUE;
 
     static final String GROK_PROCESSING_MATCH = "grokProcessingMatch";
     static final String GROK_PROCESSING_MISMATCH = "grokProcessingMismatch";
@@ -77,26 +74,26 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private final Timer grokProcessingTime;
 
     private final GrokCompiler grokCompiler;
-    private final Map<String, List<Grok>> fieldToGrok;
+    private final Map<EventKey, GrokFieldPatterns> fieldToGrok;
+    private final EventKey targetKey;
     private final GrokProcessorConfig grokProcessorConfig;
     private final Set<String> keysToOverwrite;
-    private final ExecutorService executorService;
     private final List<String> tagsOnMatchFailure;
     private final List<String> tagsOnTimeout;
     private final ExpressionEvaluator expressionEvaluator;
 
     @DataPrepperPluginConstructor
-    public GrokProcessor(final PluginSetting pluginSetting, final ExpressionEvaluator expressionEvaluator) {
-        this(pluginSetting, GrokCompiler.newInstance(), Executors.newSingleThreadExecutor(), expressionEvaluator);
+    public GrokProcessor(final PluginSetting pluginSetting, final ExpressionEvaluator expressionEvaluator, final EventKeyFactory eventKeyFactory) {
+        this(pluginSetting, GrokCompiler.newInstance(), expressionEvaluator, eventKeyFactory);
     }
 
-    GrokProcessor(final PluginSetting pluginSetting, final GrokCompiler grokCompiler, final ExecutorService executorService, final ExpressionEvaluator expressionEvaluator) {
+    GrokProcessor(final PluginSetting pluginSetting, final GrokCompiler grokCompiler,
+                  final ExpressionEvaluator expressionEvaluator, final EventKeyFactory eventKeyFactory) {
         super(pluginSetting);
         this.grokProcessorConfig = GrokProcessorConfig.buildConfig(pluginSetting);
         this.keysToOverwrite = new HashSet<>(grokProcessorConfig.getkeysToOverwrite());
         this.grokCompiler = grokCompiler;
         this.fieldToGrok = new LinkedHashMap<>();
-        this.executorService = executorService;
         this.expressionEvaluator = expressionEvaluator;
         this.tagsOnMatchFailure = grokProcessorConfig.getTagsOnMatchFailure();
         this.tagsOnTimeout = grokProcessorConfig.getTagsOnTimeout();
@@ -106,8 +103,11 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
         grokProcessingTimeoutsCounter = pluginMetrics.counter(GROK_PROCESSING_TIMEOUTS);
         grokProcessingTime = pluginMetrics.timer(GROK_PROCESSING_TIME);
 
+        this.targetKey = grokProcessorConfig.getTargetKey() != null ?
+                eventKeyFactory.createEventKey(grokProcessorConfig.getTargetKey()) : null;
+
         registerPatterns();
-        compileMatchPatterns();
+        compileMatchPatterns(eventKeyFactory);
     }
 
     /**
@@ -126,17 +126,15 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                     continue;
                 }
 
-                if (grokProcessorConfig.getTimeoutMillis() == 0) {
-                    grokProcessingTime.record(() -> matchAndMerge(event));
-                } else {
-                    runWithTimeout(() -> grokProcessingTime.record(() -> matchAndMerge(event)));
-                }
+                final long deadlineNanos = grokProcessorConfig.getTimeoutMillis() == 0 ? NO_DEADLINE :
+                        System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(grokProcessorConfig.getTimeoutMillis());
+                grokProcessingTime.record(() -> matchAndMerge(event, deadlineNanos));
 
-            } catch (final TimeoutException e) {
+            } catch (final GrokTimeoutException e) {
                 event.getMetadata().addTags(tagsOnTimeout);
                 LOG.error(EVENT, "Matching on record [{}] took longer than [{}] and timed out", record.getData(), grokProcessorConfig.getTimeoutMillis());
                 grokProcessingTimeoutsCounter.increment();
-            } catch (final ExecutionException | InterruptedException | RuntimeException e) {
+            } catch (final RuntimeException e) {
                 event.getMetadata().addTags(tagsOnMatchFailure);
                 LOG.error(EVENT, "An exception occurred when matching record [{}]", record.getData(), e);
                 grokProcessingErrorsCounter.increment();
@@ -157,18 +155,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     @Override
     public void shutdown() {
-        executorService.shutdown();
-        try {
-            if (executorService.awaitTermination(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
-                LOG.info("Successfully waited for running task to terminate");
-            } else {
-                LOG.warn("Running task did not terminate in time, forcing termination");
-                executorService.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            LOG.error("Interrupted while waiting for running task to terminate", e);
-            executorService.shutdownNow();
-        }
+        // Matching runs on the calling worker thread, so there is nothing to stop.
     }
 
     private void registerPatterns() {
@@ -216,26 +203,39 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
         }
     }
 
-    private void compileMatchPatterns() {
+    private void compileMatchPatterns(final EventKeyFactory eventKeyFactory) {
+        final Map<String, String> patternDefinitions = grokCompiler.getPatternDefinitions();
         for (final Map.Entry<String, List<String>> entry : grokProcessorConfig.getMatch().entrySet()) {
-            fieldToGrok.put(entry.getKey(), entry.getValue()
+            final List<Grok> groks = entry.getValue()
                             .stream()
                             .map(item -> grokCompiler.compile(item, grokProcessorConfig.isNamedCapturesOnly()))
-                            .collect(Collectors.toList()));
+                            .collect(Collectors.toList());
+            fieldToGrok.put(eventKeyFactory.createEventKey(entry.getKey()),
+                    new GrokFieldPatterns(entry.getKey(), entry.getValue(), groks, patternDefinitions, pluginMetrics));
         }
     }
 
-    private void matchAndMerge(final Event event) {
+    private void matchAndMerge(final Event event, final long deadlineNanos) {
         final Map<String, Object> grokkedCaptures = new HashMap<>();
 
-        for (final Map.Entry<String, List<Grok>> entry : fieldToGrok.entrySet()) {
-            for (final Grok grok : entry.getValue()) {
-                final String value = event.get(entry.getKey(), String.class);
-                if (value != null && !value.isEmpty()) {
-                    final Match match = grok.match(value);
+        for (final Map.Entry<EventKey, GrokFieldPatterns> entry : fieldToGrok.entrySet()) {
+            final String value = event.get(entry.getKey(), String.class);
+            if (value != null && !value.isEmpty()) {
+                final GrokFieldPatterns grokFieldPatterns = entry.getValue();
+                final BitSet candidates = grokFieldPatterns.findCandidates(value);
+                for (int i = 0; i < grokFieldPatterns.size(); i++) {
+                    if (!candidates.get(i)) {
+                        grokFieldPatterns.recordSkipped(i);
+                        continue;
+                    }
+                    final Match match = grokFieldPatterns.getGrok(i)
+                            .match(deadlineNanos == NO_DEADLINE ? value : new DeadlineCharSequence(value, deadlineNanos));
                     match.setKeepEmptyCaptures(grokProcessorConfig.isKeepEmptyCaptures());
 
                     final Map<String, Object> captures = match.capture();
+                    if (!captures.isEmpty()) {
+                        grokFieldPatterns.recordMatch(i);
+                    }
                     mergeCaptures(grokkedCaptures, captures);
 
                     if (shouldBreakOnMatch(grokkedCaptures)) {
@@ -248,8 +248,8 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
             }
         }
 
-        if (grokProcessorConfig.getTargetKey() != null) {
-            event.put(grokProcessorConfig.getTargetKey(), grokkedCaptures);
+        if (targetKey != null) {
+            event.put(targetKey, grokkedCaptures);
         } else {
             mergeCaptures(event, grokkedCaptures);
         }
@@ -313,14 +313,4 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private boolean shouldBreakOnMatch(final Map<String, Object> captures) {
         return captures.size() > 0 && grokProcessorConfig.isBreakOnMatch();
     }
-
-    private void runWithTimeout(final Runnable runnable) throws TimeoutException, ExecutionException, InterruptedException {
-        final Future<?> task = executorService.submit(runnable);
-        try {
-            task.get(grokProcessorConfig.getTimeoutMillis(), TimeUnit.MILLISECONDS);
-        } catch (final TimeoutException exception) {
-            task.cancel(true);
-            throw exception;
-        }
-    }
 }
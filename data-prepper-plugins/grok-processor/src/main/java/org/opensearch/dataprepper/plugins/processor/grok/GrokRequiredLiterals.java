@@ -0,0 +1,275 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The literal text which every value matched by a grok expression must contain.
+ * <p>
+ * Only the top level of the expression is read. Runs of literal characters are required, and
+ * so are the literals of each referenced pattern which is not optional, read from the pattern
+ * definitions. Groups, character classes and escapes other than escaped punctuation are treated
+ * as unknown text. An expression with a top level alternation or inline flags requires nothing.
+ * The result is conservative: a value which does not contain a required literal cannot match,
+ * but a value containing all of them may still not match.
+ */
+class GrokRequiredLiterals {
+    private static final int MAX_REFERENCE_DEPTH = 32;
+    private static final Pattern INLINE_FLAGS = Pattern.compile("\\(\\?[a-zA-Z-]*[ix]");
+    private static final Pattern BOUNDED_QUANTIFIER = Pattern.compile("\\{(\\d+)(,\\d*)?}");
+
+    private final Set<String> literals = new LinkedHashSet<>();
+    private String prefix;
+
+    private GrokRequiredLiterals() {
+    }
+
+    /**
+     * @param expression the grok expression
+     * @param patternDefinitions the pattern definitions registered with the grok compiler
+     * @return the literals required by the expression
+     */
+    static GrokRequiredLiterals extract(final String expression, final Map<String, String> patternDefinitions) {
+        final GrokRequiredLiterals requiredLiterals = new GrokRequiredLiterals();
+        requiredLiterals.collect(expression, patternDefinitions, 0, new HashSet<>());
+        return requiredLiterals;
+    }
+
+    Set<String> getLiterals() {
+        return literals;
+    }
+
+    /**
+     * @return the literal which a value must start with, or null when the expression is not anchored to a literal
+     */
+    String getPrefix() {
+        return prefix;
+    }
+
+    private void collect(final String expression, final Map<String, String> patternDefinitions,
+                         final int depth, final Set<String> visiting) {
+        if (depth > MAX_REFERENCE_DEPTH || INLINE_FLAGS.matcher(expression).find() || hasTopLevelAlternation(expression)) {
+            return;
+        }
+
+        final StringBuilder run = new StringBuilder();
+        boolean runIsPrefix = false;
+        int index = 0;
+        while (index < expression.length()) {
+            final char c = expression.charAt(index);
+            int end = index + 1;
+            String reference = null;
+            boolean literal = false;
+            char literalChar = c;
+            if (c == '%' && expression.startsWith("{", end)) {
+                end = closingIndex(expression, index, '}');
+                reference = referenceName(expression.substring(index + 2, Math.max(index + 2, end - 1)));
+            } else if (c == '\\') {
+                end = skipEscape(expression, index);
+                if (end == index + 2 && !Character.isLetterOrDigit(expression.charAt(index + 1))) {
+                    literal = true;
+                    literalChar = expression.charAt(index + 1);
+                }
+            } else if (c == '[') {
+                end = skipCharacterClass(expression, index);
+            } else if (c == '(') {
+                end = skipGroup(expression, index);
+            } else {
+                literal = c != '.' && c != '^' && c != '$';
+            }
+
+            final int quantifierEnd = skipQuantifier(expression, end);
+            if (literal && quantifierEnd == end) {
+                if (run.length() == 0) {
+                    runIsPrefix = depth == 0 && index == 1 && expression.charAt(0) == '^';
+                }
+                run.append(literalChar);
+            } else {
+                addLiteral(run, runIsPrefix);
+                if (reference != null && (quantifierEnd == end || !isOptional(expression, end))) {
+                    collectReference(reference, patternDefinitions, depth, visiting);
+                }
+            }
+            index = quantifierEnd;
+        }
+        addLiteral(run, runIsPrefix);
+    }
+
+    private void collectReference(final String reference, final Map<String, String> patternDefinitions,
+                                  final int depth, final Set<String> visiting) {
+        final String definition = patternDefinitions.get(reference);
+        if (definition != null && visiting.add(reference)) {
+            collect(definition, patternDefinitions, depth + 1, visiting);
+            visiting.remove(reference);
+        }
+    }
+
+    private void addLiteral(final StringBuilder run, final boolean runIsPrefix) {
+        if (run.length() > 0) {
+            literals.add(run.toString());
+            if (runIsPrefix) {
+                prefix = run.toString();
+            }
+            run.setLength(0);
+        }
+    }
+
+    /**
+     * @return the name of the referenced pattern, or null when the reference has an inline definition
+     */
+    private static String referenceName(final String reference) {
+        if (reference.indexOf('=') >= 0) {
+            return null;
+        }
+        final int separator = reference.indexOf(':');
+        return separator < 0 ? reference : reference.substring(0, separator);
+    }
+
+    private static boolean hasTopLevelAlternation(final String expression) {
+        int depth = 0;
+        int index = 0;
+        while (index < expression.length()) {
+            final char c = expression.charAt(index);
+            if (c == '\\') {
+                index = skipEscape(expression, index);
+                continue;
+            }
+            if (c == '[') {
+                index = skipCharacterClass(expression, index);
+                continue;
+            }
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                return true;
+            }
+            index++;
+        }
+        return false;
+    }
+
+    private static int skipEscape(final String expression, final int index) {
+        if (index + 1 >= expression.length()) {
+            return expression.length();
+        }
+        final char escaped = expression.charAt(index + 1);
+        switch (escaped) {
+            case 'Q':
+                final int quoteEnd = expression.indexOf("\\E", index + 2);
+                return quoteEnd < 0 ? expression.length() : quoteEnd + 2;
+            case 'p':
+            case 'P':
+            case 'x':
+                if (expression.startsWith("{", index + 2)) {
+                    return closingIndex(expression, index + 2, '}');
+                }
+                return Math.min(expression.length(), index + (escaped == 'x' ? 4 : 3));
+            case 'u':
+                return Math.min(expression.length(), index + 6);
+            case 'c':
+                return Math.min(expression.length(), index + 3);
+            case 'k':
+                return closingIndex(expression, index + 2, '>');
+            default:
+                int end = index + 2;
+                if (Character.isDigit(escaped)) {
+                    while (end < expression.length() && Character.isDigit(expression.charAt(end))) {
+                        end++;
+                    }
+                }
+                return end;
+        }
+    }
+
+    private static int skipCharacterClass(final String expression, final int index) {
+        int i = index + 1;
+        if (expression.startsWith("^", i)) {
+            i++;
+        }
+        if (expression.startsWith("]", i)) {
+            i++;
+        }
+        while (i < expression.length()) {
+            final char c = expression.charAt(i);
+            if (c == '\\') {
+                i = skipEscape(expression, i);
+            } else if (c == '[') {
+                i = skipCharacterClass(expression, i);
+            } else if (c == ']') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return i;
+    }
+
+    private static int skipGroup(final String expression, final int index) {
+        int depth = 0;
+        int i = index;
+        while (i < expression.length()) {
+            final char c = expression.charAt(i);
+            if (c == '\\') {
+                i = skipEscape(expression, i);
+            } else if (c == '[') {
+                i = skipCharacterClass(expression, i);
+            } else {
+                if (c == '(') {
+                    depth++;
+                } else if (c == ')' && --depth == 0) {
+                    return i + 1;
+                }
+                i++;
+            }
+        }
+        return i;
+    }
+
+    private static int closingIndex(final String expression, final int from, final char closing) {
+        final int closingIndex = expression.indexOf(closing, from);
+        return closingIndex < 0 ? expression.length() : closingIndex + 1;
+    }
+
+    private static int skipQuantifier(final String expression, final int index) {
+        if (index >= expression.length()) {
+            return index;
+        }
+        final char c = expression.charAt(index);
+        int end;
+        if (c == '?' || c == '*' || c == '+') {
+            end = index + 1;
+        } else if (c == '{') {
+            final Matcher matcher = BOUNDED_QUANTIFIER.matcher(expression).region(index, expression.length());
+            if (!matcher.lookingAt()) {
+                return index;
+            }
+            end = matcher.end();
+        } else {
+            return index;
+        }
+        if (expression.startsWith("?", end) || expression.startsWith("+", end)) {
+            end++;
+        }
+        return end;
+    }
+
+    private static boolean isOptional(final String expression, final int quantifierIndex) {
+        final char c = expression.charAt(quantifierIndex);
+        if (c == '{') {
+            final Matcher matcher = BOUNDED_QUANTIFIER.matcher(expression).region(quantifierIndex, expression.length());
+            return matcher.lookingAt() && Integer.parseInt(matcher.group(1)) == 0;
+        }
+        return c != '+';
+    }
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+/**
+ * Thrown when matching the grok patterns on an event takes longer than the configured timeout.
+ */
+class GrokTimeoutException extends RuntimeException {
+    GrokTimeoutException() {
+        super("Grok matching exceeded the configured timeout");
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Finds which of a fixed set of literals occur in a text with a single pass over the text,
+ * using the Aho-Corasick automaton of the literals.
+ */
+class LiteralScanner {
+    private static final int ROOT = 0;
+
+    private final int literalCount;
+    private final char[][] transitionChars;
+    private final int[][] transitionTargets;
+    private final int[] failures;
+    private final int[][] outputs;
+
+    LiteralScanner(final List<String> literals) {
+        literalCount = literals.size();
+
+        final List<Map<Character, Integer>> transitions = new ArrayList<>();
+        final List<List<Integer>> literalsEndingAt = new ArrayList<>();
+        transitions.add(new TreeMap<>());
+        literalsEndingAt.add(new ArrayList<>());
+        for (int literalId = 0; literalId < literals.size(); literalId++) {
+            int state = ROOT;
+            for (final char c : literals.get(literalId).toCharArray()) {
+                Integer next = transitions.get(state).get(c);
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.get(state).put(c, next);
+                    transitions.add(new TreeMap<>());
+                    literalsEndingAt.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            literalsEndingAt.get(state).add(literalId);
+        }
+
+        final int stateCount = transitions.size();
+        transitionChars = new char[stateCount][];
+        transitionTargets = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            final Map<Character, Integer> stateTransitions = transitions.get(state);
+            transitionChars[state] = new char[stateTransitions.size()];
+            transitionTargets[state] = new int[stateTransitions.size()];
+            int i = 0;
+            for (final Map.Entry<Character, Integer> transition : stateTransitions.entrySet()) {
+                transitionChars[state][i] = transition.getKey();
+                transitionTargets[state][i] = transition.getValue();
+                i++;
+            }
+        }
+
+        failures = new int[stateCount];
+        outputs = new int[stateCount][];
+        outputs[ROOT] = new int[0];
+        final Queue<Integer> queue = new ArrayDeque<>();
+        for (final int child : transitionTargets[ROOT]) {
+            failures[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            final int[] ownOutputs = literalsEndingAt.get(state).stream().mapToInt(Integer::intValue).toArray();
+            final int[] inheritedOutputs = outputs[failures[state]];
+            outputs[state] = Arrays.copyOf(ownOutputs, ownOutputs.length + inheritedOutputs.length);
+            System.arraycopy(inheritedOutputs, 0, outputs[state], ownOutputs.length, inheritedOutputs.length);
+
+            for (int i = 0; i < transitionChars[state].length; i++) {
+                final int child = transitionTargets[state][i];
+                failures[child] = next(failures[state], transitionChars[state][i]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * @param text the text to scan
+     * @return the indexes of the literals which occur in the text
+     */
+    BitSet scan(final CharSequence text) {
+        final BitSet foundLiterals = new BitSet(literalCount);
+        if (literalCount == 0) {
+            return foundLiterals;
+        }
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            for (final int literalId : outputs[state]) {
+                foundLiterals.set(literalId);
+            }
+        }
+        return foundLiterals;
+    }
+
+    private int next(final int state, final char c) {
+        int current = state;
+        while (true) {
+            final int index = Arrays.binarySearch(transitionChars[current], c);
+            if (index >= 0) {
+                return transitionTargets[current][index];
+            }
+            if (current == ROOT) {
+                return ROOT;
+            }
+            current = failures[current];
+        }
+    }
+}
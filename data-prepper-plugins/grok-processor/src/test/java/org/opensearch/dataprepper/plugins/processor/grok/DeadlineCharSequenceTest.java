@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeadlineCharSequenceTest {
+    private static final long FAR_DEADLINE = TimeUnit.HOURS.toNanos(1);
+
+    @Test
+    void delegates_to_the_value_before_the_deadline() {
+        final String value = UUID.randomUUID().toString();
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence(value, System.nanoTime() + FAR_DEADLINE);
+
+        assertThat(objectUnderTest.length(), equalTo(value.length()));
+        assertThat(objectUnderTest.toString(), equalTo(value));
+        assertThat(objectUnderTest.subSequence(2, 8).toString(), equalTo(value.substring(2, 8)));
+        for (int i = 0; i < DeadlineCharSequence.READS_PER_DEADLINE_CHECK * 2; i++) {
+            assertThat(objectUnderTest.charAt(i % value.length()), equalTo(value.charAt(i % value.length())));
+        }
+    }
+
+    @Test
+    void matching_finds_the_same_groups_as_the_value() {
+        final String value = "127.0.0.1 - Marita \"GET /apache_pb.gif HTTP/1.0\" 200 2326";
+        final Pattern pattern = Pattern.compile("\"(?<verb>\\w+) (?<request>\\S+)[^\"]*\" (?<response>\\d+)");
+
+        final Matcher matcher = pattern.matcher(new DeadlineCharSequence(value, System.nanoTime() + FAR_DEADLINE));
+
+        assertThat(matcher.find(), equalTo(true));
+        assertThat(matcher.group("verb"), equalTo("GET"));
+        assertThat(matcher.group("request"), equalTo("/apache_pb.gif"));
+        assertThat(matcher.group("response"), equalTo("200"));
+    }
+
+    @Test
+    void catastrophic_backtracking_throws_once_the_deadline_passes() {
+        final String value = "a".repeat(64) + "!";
+        final Pattern pattern = Pattern.compile("(a+)+b");
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+
+        assertThrows(GrokTimeoutException.class,
+                () -> pattern.matcher(new DeadlineCharSequence(value, deadlineNanos)).matches());
+    }
+}
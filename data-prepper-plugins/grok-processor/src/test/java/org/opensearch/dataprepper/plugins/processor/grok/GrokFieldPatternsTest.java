@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.krakens.grok.api.Grok;
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.dataprepper.plugins.processor.grok.GrokFieldPatterns.GROK_PATTERN_MATCH;
+import static org.opensearch.dataprepper.plugins.processor.grok.GrokFieldPatterns.GROK_PATTERN_SKIPPED;
+import static org.opensearch.dataprepper.plugins.processor.grok.GrokFieldPatterns.KEY_TAG;
+import static org.opensearch.dataprepper.plugins.processor.grok.GrokFieldPatterns.PATTERN_TAG;
+
+@ExtendWith(MockitoExtension.class)
+class GrokFieldPatternsTest {
+    private static final String KEY = "message";
+    private static final List<String> PATTERNS = List.of("^GET %{PATH}", "%{WORD} POST %{PATH}", "%{WORD}");
+    private static final Map<String, String> PATTERN_DEFINITIONS = Map.of(
+            "WORD", "\\b\\w+\\b",
+            "PATH", "/%{WORD}");
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Grok grok;
+
+    @Mock
+    private Counter matchCounter;
+
+    @Mock
+    private Counter skippedCounter;
+
+    private GrokFieldPatterns objectUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        for (final String pattern : PATTERNS) {
+            when(pluginMetrics.counterWithTags(GROK_PATTERN_MATCH, KEY_TAG, KEY, PATTERN_TAG, pattern)).thenReturn(matchCounter);
+            when(pluginMetrics.counterWithTags(GROK_PATTERN_SKIPPED, KEY_TAG, KEY, PATTERN_TAG, pattern)).thenReturn(skippedCounter);
+        }
+        objectUnderTest = new GrokFieldPatterns(KEY, PATTERNS, List.of(grok, grok, grok), PATTERN_DEFINITIONS, pluginMetrics);
+    }
+
+    @Test
+    void findCandidates_returns_the_patterns_whose_literals_are_in_the_value() {
+        assertThat(objectUnderTest.findCandidates("GET /index"), equalTo(bitSet(0, 2)));
+        assertThat(objectUnderTest.findCandidates("server POST /index"), equalTo(bitSet(1, 2)));
+        assertThat(objectUnderTest.findCandidates("server GET /index"), equalTo(bitSet(2)));
+        assertThat(objectUnderTest.findCandidates("GET index"), equalTo(bitSet(2)));
+    }
+
+    @Test
+    void getGrok_returns_the_grok_at_the_pattern_index() {
+        assertThat(objectUnderTest.size(), equalTo(3));
+        assertThat(objectUnderTest.getGrok(1), sameInstance(grok));
+    }
+
+    @Test
+    void recordMatch_and_recordSkipped_increment_the_counters_of_the_pattern() {
+        objectUnderTest.recordMatch(0);
+        objectUnderTest.recordSkipped(1);
+
+        verify(matchCounter).increment();
+        verify(skippedCounter).increment();
+    }
+
+    private static BitSet bitSet(final int... indexes) {
+        final BitSet bitSet = new BitSet();
+        for (final int index : indexes) {
+            bitSet.set(index);
+        }
+        return bitSet;
+    }
+}
@@ -18,6 +18,7 @@ import org.mockito.Mock;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.ArrayList;
@@ -115,7 +116,7 @@ public class GrokProcessorIT {
         matchConfig.put("bad_key", Collections.singletonList(nonMatchingPattern));
 
         pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
-        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator);
+        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator, new JacksonEventKeyFactory());
 
         final Map<String, Object> testData = new HashMap();
         testData.put("message", messageInput);
@@ -135,7 +136,7 @@ public class GrokProcessorIT {
         matchConfig.put("message", Collections.singletonList("%{COMMONAPACHELOG}"));
 
         pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
-        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator);
+        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator, new JacksonEventKeyFactory());
 
         final Map<String, Object> testData = new HashMap();
         testData.put("message", messageInput);
@@ -173,7 +174,7 @@ public class GrokProcessorIT {
 
         pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
         pluginSetting.getSettings().put(GrokProcessorConfig.BREAK_ON_MATCH, false);
-        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator);
+        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator, new JacksonEventKeyFactory());
 
         final Map<String, Object> testData = new HashMap();
         testData.put("message", messageInput);
@@ -208,7 +209,7 @@ public class GrokProcessorIT {
         matchConfig.put("message", Collections.singletonList("\"(?:%{WORD:verb} %{NOTSPACE:request}(?: HTTP/%{NUMBER:httpversion})?|%{DATA:rawrequest})\" %{NUMBER:response:int} (?:%{NUMBER:bytes:float}|-)"));
 
         pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
-        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator);
+        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator, new JacksonEventKeyFactory());
 
         final Map<String, Object> testData = new HashMap();
         testData.put("message", messageInput);
@@ -240,7 +241,7 @@ public class GrokProcessorIT {
 
         pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
         pluginSetting.getSettings().put(GrokProcessorConfig.BREAK_ON_MATCH, false);
-        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator);
+        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator, new JacksonEventKeyFactory());
 
         final Map<String, Object> testData = new HashMap();
         testData.put("message", messageInput);
@@ -278,7 +279,7 @@ public class GrokProcessorIT {
 
         pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
         pluginSetting.getSettings().put(GrokProcessorConfig.KEEP_EMPTY_CAPTURES, true);
-        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator);
+        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator, new JacksonEventKeyFactory());
 
         final Map<String, Object> testData = new HashMap();
         testData.put("message", messageInput);
@@ -314,7 +315,7 @@ public class GrokProcessorIT {
 
         pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
         pluginSetting.getSettings().put(GrokProcessorConfig.NAMED_CAPTURES_ONLY, false);
-        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator);
+        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator, new JacksonEventKeyFactory());
 
         final Map<String, Object> testData = new HashMap();
         testData.put("message", "This is my greedy data before matching 192.0.2.1 123456");
@@ -346,7 +347,7 @@ public class GrokProcessorIT {
 
         pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
         pluginSetting.getSettings().put(GrokProcessorConfig.PATTERN_DEFINITIONS, patternDefinitions);
-        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator);
+        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator, new JacksonEventKeyFactory());
 
         final Map<String, Object> testData = new HashMap();
         testData.put("message", "This is my greedy data before matching with my phone number 123-456-789");
@@ -389,7 +390,7 @@ public class GrokProcessorIT {
 
         pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
         pluginSetting.getSettings().put(GrokProcessorConfig.PATTERNS_DIRECTORIES, patternsDirectories);
-        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator);
+        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator, new JacksonEventKeyFactory());
 
         final Record<Event> resultRecord = buildRecordWithEvent(resultData);
 
@@ -422,7 +423,7 @@ public class GrokProcessorIT {
         pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
         pluginSetting.getSettings().put(GrokProcessorConfig.PATTERNS_DIRECTORIES, patternsDirectories);
         pluginSetting.getSettings().put(GrokProcessorConfig.PATTERNS_FILES_GLOB, "*1.txt");
-        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator);
+        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator, new JacksonEventKeyFactory());
 
         final Record<Event> resultRecord = buildRecordWithEvent(resultData);
 
@@ -437,7 +438,7 @@ public class GrokProcessorIT {
 
         pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfigWithPatterns2Pattern);
 
-        Throwable throwable = assertThrows(IllegalArgumentException.class, () -> new GrokProcessor(pluginSetting, expressionEvaluator));
+        Throwable throwable = assertThrows(IllegalArgumentException.class, () -> new GrokProcessor(pluginSetting, expressionEvaluator, new JacksonEventKeyFactory()));
         assertThat("No definition for key 'CUSTOMBIRTHDAYPATTERN' found, aborting", equalTo(throwable.getMessage()));
     }
 
@@ -447,7 +448,7 @@ public class GrokProcessorIT {
         matchConfig.put("message", Collections.singletonList("%{GREEDYDATA:greedy_data} (?<mynumber>\\d\\d\\d-\\d\\d\\d-\\d\\d\\d)"));
 
         pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
-        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator);
+        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator, new JacksonEventKeyFactory());
 
         final Map<String, Object> testData = new HashMap();
         testData.put("message", "This is my greedy data before matching with my phone number 123-456-789");
@@ -477,7 +478,7 @@ public class GrokProcessorIT {
 
         pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
         pluginSetting.getSettings().put(GrokProcessorConfig.TAGS_ON_MATCH_FAILURE, List.of(tagOnMatchFailure1, tagOnMatchFailure2));
-        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator);
+        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator, new JacksonEventKeyFactory());
 
         final Map<String, Object> testData = new HashMap();
         testData.put("log", "This is my greedy data before matching with my phone number 123-456-789");
@@ -495,14 +496,14 @@ public class GrokProcessorIT {
     @Test
     public void testCompileNonRegisteredPatternThrowsIllegalArgumentException() {
 
-        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator);
+        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator, new JacksonEventKeyFactory());
 
         final Map<String, List<String>> matchConfig = new HashMap<>();
         matchConfig.put("message", Collections.singletonList("%{NONEXISTENTPATTERN}"));
 
         pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
 
-        assertThrows(IllegalArgumentException.class, () -> new GrokProcessor(pluginSetting, expressionEvaluator));
+        assertThrows(IllegalArgumentException.class, () -> new GrokProcessor(pluginSetting, expressionEvaluator, new JacksonEventKeyFactory()));
     }
 
     @ParameterizedTest
@@ -512,7 +513,7 @@ public class GrokProcessorIT {
         matchConfig.put("message", Collections.singletonList(matchPattern));
 
         pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
-        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator);
+        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator, new JacksonEventKeyFactory());
 
         final Map<String, Object> testData = new HashMap();
         testData.put("message", logInput);
@@ -17,8 +17,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -27,6 +25,7 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.ArrayList;
@@ -36,11 +35,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
@@ -48,16 +42,17 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
-import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessor.EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT;
 import static org.opensearch.dataprepper.test.matcher.MapEquals.isEqualWithoutTimestamp;
 
 
@@ -68,12 +63,6 @@ public class GrokProcessorTests {
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
     private String messageInput;
 
-    @Mock
-    private ExecutorService executorService;
-
-    @Mock
-    private Future task;
-
     @Mock
     private GrokCompiler grokCompiler;
 
@@ -104,6 +93,12 @@ public class GrokProcessorTests {
     @Mock
     private Timer grokProcessingTime;
 
+    @Mock
+    private Counter grokPatternMatchCounter;
+
+    @Mock
+    private Counter grokPatternSkippedCounter;
+
     @Mock
     private ExpressionEvaluator expressionEvaluator;
 
@@ -113,7 +108,7 @@ public class GrokProcessorTests {
     private final Map<String, List<String>> matchConfig = new HashMap<>();
 
     @BeforeEach
-    public void setup() throws TimeoutException, ExecutionException, InterruptedException {
+    public void setup() {
         pluginSetting = getDefaultPluginSetting();
         pluginSetting.setPipelineName("grokPipeline");
 
@@ -129,6 +124,10 @@ public class GrokProcessorTests {
         lenient().when(pluginMetrics.counter(GrokProcessor.GROK_PROCESSING_TIMEOUTS)).thenReturn(grokProcessingTimeoutsCounter);
         lenient().when(pluginMetrics.counter(GrokProcessor.GROK_PROCESSING_ERRORS)).thenReturn(grokProcessingErrorsCounter);
         lenient().when(pluginMetrics.timer(GrokProcessor.GROK_PROCESSING_TIME)).thenReturn(grokProcessingTime);
+        lenient().when(pluginMetrics.counterWithTags(eq(GrokFieldPatterns.GROK_PATTERN_MATCH), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(grokPatternMatchCounter);
+        lenient().when(pluginMetrics.counterWithTags(eq(GrokFieldPatterns.GROK_PATTERN_SKIPPED), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(grokPatternSkippedCounter);
 
         lenient().doAnswer(a -> {
             a.<Runnable>getArgument(0).run();
@@ -142,24 +141,19 @@ public class GrokProcessorTests {
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(0)), anyBoolean())).thenReturn(grok);
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(1)), anyBoolean())).thenReturn(grokSecondMatch);
 
-        lenient().when(grok.match(messageInput)).thenReturn(match);
+        lenient().when(grok.match(contentEquals(messageInput))).thenReturn(match);
         lenient().when(match.capture()).thenReturn(capture);
-        lenient().when(executorService.submit(any(Runnable.class))).then(a -> {
-            a.<Runnable>getArgument(0).run();
-            return task;
-        });
-        lenient().when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenReturn(null);
     }
 
     private GrokProcessor createObjectUnderTest() {
         try (MockedStatic<PluginMetrics> pluginMetricsMockedStatic = mockStatic(PluginMetrics.class)) {
             pluginMetricsMockedStatic.when(() -> PluginMetrics.fromPluginSetting(pluginSetting)).thenReturn(pluginMetrics);
-            return new GrokProcessor(pluginSetting, grokCompiler, executorService, expressionEvaluator);
+            return new GrokProcessor(pluginSetting, grokCompiler, expressionEvaluator, new JacksonEventKeyFactory());
         }
     }
 
     @Test
-    public void testMatchMerge() throws JsonProcessingException, ExecutionException, InterruptedException, TimeoutException {
+    public void testMatchMerge() throws JsonProcessingException {
         grokProcessor = createObjectUnderTest();
 
         capture.put("key_capture_1", "value_capture_1");
@@ -186,12 +180,40 @@ public class GrokProcessorTests {
         verify(grokProcessingMatchCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
         verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter);
-        verify(task).get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
-        verifyNoMoreInteractions(task);
+        verify(grok).match(any(DeadlineCharSequence.class));
+        verify(grokPatternMatchCounter).increment();
+        verifyNoInteractions(grokPatternSkippedCounter);
     }
 
     @Test
-    public void testTarget() throws JsonProcessingException, ExecutionException, InterruptedException, TimeoutException {
+    public void testPatternsWhichCannotMatchAreSkipped() throws JsonProcessingException {
+        when(grokCompiler.getPatternDefinitions()).thenReturn(Map.of("PATTERN1", "GET %{WORD}"));
+        when(grokSecondMatch.match(contentEquals(messageInput))).thenReturn(match);
+        grokProcessor = createObjectUnderTest();
+
+        capture.put("key_capture_1", "value_capture_1");
+
+        final Map<String, Object> testData = new HashMap();
+        testData.put("message", messageInput);
+        final Record<Event> record = buildRecordWithEvent(testData);
+
+        final Map<String, Object> resultData = new HashMap<>();
+        resultData.put("message", messageInput);
+        resultData.put("key_capture_1", "value_capture_1");
+        final Record<Event> resultRecord = buildRecordWithEvent(resultData);
+
+        final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
+
+        assertThat(grokkedRecords.size(), equalTo(1));
+        assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
+        verify(grok, never()).match(any());
+        verify(grokPatternSkippedCounter).increment();
+        verify(grokPatternMatchCounter).increment();
+        verify(grokProcessingMatchCounter).increment();
+    }
+
+    @Test
+    public void testTarget() throws JsonProcessingException {
         pluginSetting.getSettings().put(GrokProcessorConfig.TARGET_KEY, "test_target");
         grokProcessor = createObjectUnderTest();
 
@@ -222,8 +244,6 @@ public class GrokProcessorTests {
         verify(grokProcessingMatchCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
         verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter);
-        verify(task).get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
-        verifyNoMoreInteractions(task);
     }
 
     @Test
@@ -259,7 +279,7 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testMatchMergeCollisionStrings() throws JsonProcessingException, ExecutionException, InterruptedException, TimeoutException {
+    public void testMatchMergeCollisionStrings() throws JsonProcessingException {
         grokProcessor = createObjectUnderTest();
 
         capture.put("key_capture_1", "value_capture_1");
@@ -388,8 +408,8 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-        when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException {
+        when(grok.match(contentEquals(messageInput))).thenThrow(new GrokTimeoutException());
 
         grokProcessor = createObjectUnderTest();
 
@@ -406,13 +426,12 @@ public class GrokProcessorTests {
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), record);
-        verify(task).cancel(true);
         verify(grokProcessingTimeoutsCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
     }
 
     @Test
-    public void testThatProcessingWithTimeoutMillisOfZeroDoesNotInteractWithExecutorServiceAndReturnsCorrectResult() throws JsonProcessingException {
+    public void testThatProcessingWithTimeoutMillisOfZeroMatchesOnTheValueAndReturnsCorrectResult() throws JsonProcessingException {
         pluginSetting.getSettings().put(GrokProcessorConfig.TIMEOUT_MILLIS, 0);
         grokProcessor = createObjectUnderTest();
 
@@ -434,7 +453,7 @@ public class GrokProcessorTests {
         final Record<Event> resultRecord = buildRecordWithEvent(resultData);
 
         final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
-        verifyNoInteractions(executorService);
+        verify(grok).match(messageInput);
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
@@ -451,36 +470,10 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testShutdown_Successful() throws InterruptedException {
-        grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-    }
-
-    @Test
-    public void testShutdown_Timeout() throws InterruptedException {
+    public void testShutdown() {
         grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(false);
-
         grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
-    }
-
-    @Test
-    public void testShutdown_InterruptedException() throws InterruptedException {
-        grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS)))
-                .thenThrow(new InterruptedException());
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
+        assertThat(grokProcessor.isReadyForShutdown(), equalTo(true));
     }
 
     @Nested
@@ -499,7 +492,7 @@ public class GrokProcessorTests {
         public void testNoCaptures() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(contentEquals(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             final Map<String, Object> testData = new HashMap();
@@ -536,7 +529,7 @@ public class GrokProcessorTests {
             @Test
             public void testNoCapturesWithTag() throws JsonProcessingException {
                 grokProcessor = createObjectUnderTest();
-                lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+                lenient().when(grokSecondMatch.match(contentEquals(messageInput))).thenReturn(secondMatch);
                 lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
                 final Map<String, Object> testData = new HashMap();
@@ -558,8 +551,8 @@ public class GrokProcessorTests {
             }
 
             @Test
-            public void timeout_exception_tags_the_event() throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-                when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+            public void timeout_exception_tags_the_event() throws JsonProcessingException {
+                when(grok.match(contentEquals(messageInput))).thenThrow(new GrokTimeoutException());
 
                 grokProcessor = createObjectUnderTest();
 
@@ -585,10 +578,9 @@ public class GrokProcessorTests {
                 verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter);
             }
 
-            @ParameterizedTest
-            @ValueSource(classes = {ExecutionException.class, InterruptedException.class, RuntimeException.class})
-            public void execution_exception_tags_the_event(Class<Exception> exceptionClass) throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-                when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(exceptionClass);
+            @Test
+            public void match_exception_tags_the_event() throws JsonProcessingException {
+                when(grok.match(contentEquals(messageInput))).thenThrow(RuntimeException.class);
 
                 grokProcessor = createObjectUnderTest();
 
@@ -617,7 +609,7 @@ public class GrokProcessorTests {
         public void testBreakOnMatchTrue() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(contentEquals(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -654,7 +646,7 @@ public class GrokProcessorTests {
             pluginSetting.getSettings().put(GrokProcessorConfig.BREAK_ON_MATCH, false);
             grokProcessor = createObjectUnderTest();
 
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(contentEquals(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -727,6 +719,10 @@ public class GrokProcessorTests {
         verifyNoInteractions(grok, grokSecondMatch);
     }
 
+    private static CharSequence contentEquals(final String value) {
+        return argThat(argument -> argument != null && value.contentEquals(argument));
+    }
+
     private PluginSetting completePluginSettingForGrokProcessor(final boolean breakOnMatch,
                                                               final boolean keepEmptyCaptures,
                                                               final Map<String, List<String>> match,
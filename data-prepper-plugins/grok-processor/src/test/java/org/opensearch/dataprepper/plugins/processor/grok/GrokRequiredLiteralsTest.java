@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class GrokRequiredLiteralsTest {
+    private static final Map<String, String> PATTERN_DEFINITIONS = Map.of(
+            "WORD", "\\b\\w+\\b",
+            "VERB", "GET %{WORD}",
+            "REQUEST", "\\[%{VERB:verb} HTTP\\]",
+            "CYCLE", "loop-%{CYCLE}",
+            "CHOICE", "GET|PUT");
+
+    @ParameterizedTest
+    @MethodSource("expressionsAndLiterals")
+    void extract_returns_the_required_literals(final String expression, final Set<String> expectedLiterals) {
+        final GrokRequiredLiterals requiredLiterals = GrokRequiredLiterals.extract(expression, PATTERN_DEFINITIONS);
+
+        assertThat(requiredLiterals.getLiterals(), equalTo(expectedLiterals));
+    }
+
+    static Stream<Arguments> expressionsAndLiterals() {
+        return Stream.of(
+                arguments("%{WORD}", Collections.emptySet()),
+                arguments("%{UNKNOWN} - %{WORD}", Set.of(" - ")),
+                arguments("%{VERB}", Set.of("GET ")),
+                arguments("%{REQUEST:request} done", Set.of("[", "GET ", " HTTP]", " done")),
+                arguments("%{VERB}? x", Set.of(" x")),
+                arguments("%{VERB}{0,2}x", Set.of("x")),
+                arguments("%{VERB}{1,2}x", Set.of("GET ", "x")),
+                arguments("%{VERB}+", Set.of("GET ")),
+                arguments("%{VERB=\\w+} x", Set.of(" x")),
+                arguments("%{CYCLE}", Set.of("loop-")),
+                arguments("%{CHOICE}!", Set.of("!")),
+                arguments("%{VERB", Set.of()),
+                arguments("abc|def", Collections.emptySet()),
+                arguments("(?i)abc", Collections.emptySet()),
+                arguments("(a|b)cd", Set.of("cd")),
+                arguments("\\|x[|]y", Set.of("|x", "y")),
+                arguments("\\[foo\\]", Set.of("[foo]")),
+                arguments("\\d+abc\\s", Set.of("abc")),
+                arguments("\\Qa.b\\Ec", Set.of("c")),
+                arguments("x\\Qabc", Set.of("x")),
+                arguments("\\p{L}x\\pLy", Set.of("x", "y")),
+                arguments("\\x41y\\x{41}z", Set.of("y", "z")),
+                arguments("\\u0041z\\cAw", Set.of("z", "w")),
+                arguments("(?<n>a)\\k<n>z\\12y", Set.of("z", "y")),
+                arguments("ab\\", Set.of("ab")),
+                arguments("\\x4", Collections.emptySet()),
+                arguments("[abc]x[^]a]b", Set.of("x", "b")),
+                arguments("[a[bc]]d[a\\]]e", Set.of("d", "e")),
+                arguments("[abc", Collections.emptySet()),
+                arguments("(ab(c))d(a\\)b)e([)])f", Set.of("d", "e", "f")),
+                arguments("x(abc", Set.of("x")),
+                arguments("abc?d", Set.of("ab", "d")),
+                arguments("ab*c", Set.of("a", "c")),
+                arguments("ab+c", Set.of("a", "c")),
+                arguments("ab{2}c", Set.of("a", "c")),
+                arguments("ab{0,3}c", Set.of("a", "c")),
+                arguments("ab??c", Set.of("a", "c")),
+                arguments("ab*+c", Set.of("a", "c")),
+                arguments("ab{x}", Set.of("ab{x}")),
+                arguments("a.b", Set.of("a", "b")),
+                arguments("x^y", Set.of("x", "y")),
+                arguments("abc$", Set.of("abc"))
+        );
+    }
+
+    @Test
+    void extract_returns_the_prefix_of_an_anchored_expression() {
+        final GrokRequiredLiterals requiredLiterals = GrokRequiredLiterals.extract("^GET /%{WORD}", PATTERN_DEFINITIONS);
+
+        assertThat(requiredLiterals.getPrefix(), equalTo("GET /"));
+        assertThat(requiredLiterals.getLiterals(), equalTo(Set.of("GET /")));
+    }
+
+    @Test
+    void extract_returns_no_prefix_when_the_anchor_is_not_followed_by_a_literal() {
+        assertThat(GrokRequiredLiterals.extract("^%{VERB} x", PATTERN_DEFINITIONS).getPrefix(), nullValue());
+        assertThat(GrokRequiredLiterals.extract("^a?b", PATTERN_DEFINITIONS).getPrefix(), nullValue());
+        assertThat(GrokRequiredLiterals.extract("GET", PATTERN_DEFINITIONS).getPrefix(), nullValue());
+    }
+
+    @Test
+    void extract_does_not_return_a_prefix_from_a_referenced_pattern() {
+        final GrokRequiredLiterals requiredLiterals = GrokRequiredLiterals.extract("%{ANCHORED}", Map.of("ANCHORED", "^GET"));
+
+        assertThat(requiredLiterals.getPrefix(), nullValue());
+        assertThat(requiredLiterals.getLiterals(), equalTo(Set.of("GET")));
+    }
+
+    @Test
+    void extract_stops_following_deeply_nested_references() {
+        final Map<String, String> patternDefinitions = new HashMap<>();
+        for (int i = 0; i < 40; i++) {
+            patternDefinitions.put("P" + i, "%{P" + (i + 1) + "}");
+        }
+        patternDefinitions.put("P40", "deep");
+
+        assertThat(GrokRequiredLiterals.extract("%{P0}", patternDefinitions).getLiterals(), equalTo(Collections.emptySet()));
+        assertThat(GrokRequiredLiterals.extract("%{P20}", patternDefinitions).getLiterals(), equalTo(Set.of("deep")));
+    }
+}
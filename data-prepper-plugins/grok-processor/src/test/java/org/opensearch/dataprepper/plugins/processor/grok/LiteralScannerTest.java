@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LiteralScannerTest {
+
+    @Test
+    void scan_finds_overlapping_literals() {
+        final LiteralScanner objectUnderTest = new LiteralScanner(List.of("he", "she", "his", "hers"));
+
+        final BitSet foundLiterals = objectUnderTest.scan("ushers");
+
+        assertThat(foundLiterals, equalTo(bitSet(0, 1, 3)));
+    }
+
+    @Test
+    void scan_finds_literals_which_are_suffixes_of_other_literals() {
+        final LiteralScanner objectUnderTest = new LiteralScanner(List.of("abcd", "bc", "c", "xyz"));
+
+        assertThat(objectUnderTest.scan("zabcx"), equalTo(bitSet(1, 2)));
+        assertThat(objectUnderTest.scan("abcd xy"), equalTo(bitSet(0, 1, 2)));
+        assertThat(objectUnderTest.scan("xxyz"), equalTo(bitSet(3)));
+    }
+
+    @Test
+    void scan_finds_nothing_in_text_without_the_literals() {
+        final LiteralScanner objectUnderTest = new LiteralScanner(List.of("GET ", "POST "));
+
+        assertThat(objectUnderTest.scan("PUT /index HTTP/1.1").isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void scan_without_literals_finds_nothing() {
+        final LiteralScanner objectUnderTest = new LiteralScanner(Collections.emptyList());
+
+        assertThat(objectUnderTest.scan("any text").isEmpty(), equalTo(true));
+    }
+
+    private static BitSet bitSet(final int... indexes) {
+        final BitSet bitSet = new BitSet();
+        for (final int index : indexes) {
+            bitSet.set(index);
+        }
+        return bitSet;
+    }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.source.loghttp;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.linecorp.armeria.server.ServiceRequestContext;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.buffer.Buffer;
@@ -21,13 +22,14 @@ import com.linecorp.armeria.server.annotation.Post;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.plugins.source.loghttp.codec.JsonArrayReader;
 import org.opensearch.dataprepper.plugins.source.loghttp.codec.JsonCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /*
 * A HTTP service for log ingestion to be executed by BlockingTaskExecutor.
@@ -77,37 +79,61 @@ public class LogHTTPService {
 
     private HttpResponse processRequest(final AggregatedHttpRequest aggregatedHttpRequest) throws Exception {
         final HttpData content = aggregatedHttpRequest.content();
-        List<String> jsonList;
 
-        try {
-            jsonList = jsonCodec.parse(content);
-        } catch (IOException e) {
-            LOG.error("Failed to parse the request of size {} due to: {}", content.length(), e.getMessage());
-            throw new IOException("Bad request data format. Needs to be json array.", e.getCause());
-        }
-        try {
-            if (buffer.isByteBuffer()) {
-                // jsonList is ignored in this path but parse() was done to make 
-                // sure that the data is in the expected json format
+        if (buffer.isByteBuffer()) {
+            try {
+                // the objects are not built here, parsing only makes sure that the whole
+                // request is in the expected json format before it is written
+                jsonCodec.validate(content);
+            } catch (IOException e) {
+                throw badRequest(content, e);
+            }
+            try {
                 buffer.writeBytes(content.array(), null, bufferWriteTimeoutInMillis);
-            } else {
-                final List<Record<Log>> records = jsonList.stream()
-                        .map(this::buildRecordLog)
-                        .collect(Collectors.toList());
+            } catch (Exception e) {
+                LOG.error("Failed to write the request of size {} due to: {}", content.length(), e.getMessage());
+                throw e;
+            }
+        } else {
+            final List<Record<Log>> records = readRecords(content);
+            try {
                 buffer.writeAll(records, bufferWriteTimeoutInMillis);
+            } catch (Exception e) {
+                LOG.error("Failed to write the request of size {} due to: {}", content.length(), e.getMessage());
+                throw e;
             }
-        } catch (Exception e) {
-            LOG.error("Failed to write the request of size {} due to: {}", content.length(), e.getMessage());
-            throw e;
         }
         successRequestsCounter.increment();
         return HttpResponse.of(HttpStatus.OK);
     }
 
-    private Record<Log> buildRecordLog(String json) {
+    /**
+     * Builds the events while the array is parsed, so the request is read once and the objects are
+     * built directly from the parser. The events are written together after the whole request is
+     * read, so a malformed request writes nothing and a failed write can be retried by the client.
+     */
+    private List<Record<Log>> readRecords(final HttpData content) throws IOException {
+        final List<Record<Log>> records = new ArrayList<>();
+        try (final JsonArrayReader reader = jsonCodec.openArray(content)) {
+            ObjectNode json;
+            while ((json = reader.nextObject()) != null) {
+                records.add(buildRecordLog(json));
+            }
+        } catch (IOException e) {
+            throw badRequest(content, e);
+        }
+        return records;
+    }
+
+    private IOException badRequest(final HttpData content, final IOException e) {
+        LOG.error("Failed to parse the request of size {} due to: {}", content.length(), e.getMessage());
+        return new IOException("Bad request data format. Needs to be json array.", e.getCause());
+    }
+
+    private Record<Log> buildRecordLog(final ObjectNode json) {
 
         final JacksonLog log = JacksonLog.builder()
-                .withData(json)
+                .withJsonData(json)
                 .getThis()
                 .build();
 
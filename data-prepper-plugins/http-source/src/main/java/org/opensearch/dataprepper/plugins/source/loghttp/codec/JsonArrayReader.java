@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads the objects of a JSON array one at a time, so that only the object being read is
+ * held as a tree. Use {@link JsonCodec#openArray} to create one.
+ */
+public class JsonArrayReader implements Closeable {
+    private final ObjectMapper mapper;
+    private final JsonParser parser;
+    private boolean started;
+    private boolean finished;
+
+    JsonArrayReader(final ObjectMapper mapper, final JsonParser parser) {
+        this.mapper = mapper;
+        this.parser = parser;
+    }
+
+    /**
+     * Reads the next object of the array.
+     *
+     * @return the next object, or null once the end of the array is reached
+     * @throws IOException if the content is not a JSON array of objects
+     */
+    public ObjectNode nextObject() throws IOException {
+        if (!advanceToNextElement()) {
+            return null;
+        }
+        return mapper.readTree(parser);
+    }
+
+    /**
+     * Skips the next object of the array without building it.
+     *
+     * @return false once the end of the array is reached
+     * @throws IOException if the content is not a JSON array of objects
+     */
+    public boolean skipObject() throws IOException {
+        if (!advanceToNextElement()) {
+            return false;
+        }
+        parser.skipChildren();
+        return true;
+    }
+
+    private boolean advanceToNextElement() throws IOException {
+        if (finished) {
+            return false;
+        }
+        if (!started) {
+            started = true;
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected a JSON array");
+            }
+        }
+        final JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            finished = true;
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object in the array");
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
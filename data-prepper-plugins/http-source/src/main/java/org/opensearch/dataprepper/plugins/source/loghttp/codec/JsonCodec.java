@@ -5,35 +5,58 @@
 
 package org.opensearch.dataprepper.plugins.source.loghttp.codec;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.linecorp.armeria.common.HttpData;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * JsonCodec parses the json array format HTTP data into List&lt;{@link String}&gt;.
- * TODO: replace output List&lt;String&gt; with List&lt;InternalModel&gt; type
  * <p>
+ * {@link #openArray(HttpData)} and {@link #validate(HttpData)} walk the array with a streaming
+ * parser instead, without building the whole array in memory.
  */
 public class JsonCodec implements Codec<List<String>> {
     private static final ObjectMapper mapper = new ObjectMapper();
-    private static final TypeReference<List<Map<String, Object>>> LIST_OF_MAP_TYPE_REFERENCE =
-            new TypeReference<List<Map<String, Object>>>() {};
 
     @Override
     public List<String> parse(HttpData httpData) throws IOException {
         List<String> jsonList = new ArrayList<>();
-        final List<Map<String, Object>> logList = mapper.readValue(httpData.toInputStream(),
-                LIST_OF_MAP_TYPE_REFERENCE);
-        for (final Map<String, Object> log: logList) {
-            final String recordString = mapper.writeValueAsString(log);
-            jsonList.add(recordString);
+        try (final JsonArrayReader reader = openArray(httpData)) {
+            ObjectNode log;
+            while ((log = reader.nextObject()) != null) {
+                jsonList.add(mapper.writeValueAsString(log));
+            }
         }
 
         return jsonList;
     }
+
+    /**
+     * Opens a reader over the objects of the json array.
+     *
+     * @param httpData The content of the original HTTP request
+     * @return a reader which must be closed
+     * @throws IOException if the content cannot be read
+     */
+    public JsonArrayReader openArray(final HttpData httpData) throws IOException {
+        return new JsonArrayReader(mapper, mapper.getFactory().createParser(httpData.array()));
+    }
+
+    /**
+     * Checks that the content is a json array of objects, without building the objects.
+     *
+     * @param httpData The content of the original HTTP request
+     * @throws IOException if the content is not a json array of objects
+     */
+    public void validate(final HttpData httpData) throws IOException {
+        try (final JsonArrayReader reader = openArray(httpData)) {
+            while (reader.skipObject()) {
+                // only the structure is checked
+            }
+        }
+    }
 }
@@ -37,6 +37,7 @@ import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -47,6 +48,10 @@ import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -57,6 +62,7 @@ class LogHTTPServiceTest {
     private static final ObjectMapper mapper = new ObjectMapper();
     private static final int TEST_BUFFER_CAPACITY = 3;
     private static final int TEST_TIMEOUT_IN_MILLIS = 500;
+    private static final int LARGE_REQUEST_RECORDS = 2001;
 
     @Mock
     private PluginMetrics pluginMetrics;
@@ -170,6 +176,55 @@ class LogHTTPServiceTest {
         verify(requestProcessDuration, times(2)).recordCallable(ArgumentMatchers.<Callable<HttpResponse>>any());
     }
 
+    @Test
+    public void testLargeHTTPRequestIsWrittenAtOnce() throws Exception {
+        final Buffer<Record<Log>> mockBuffer = mock(Buffer.class);
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, mockBuffer, null, pluginMetrics);
+        final AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(LARGE_REQUEST_RECORDS);
+
+        final AggregatedHttpResponse postResponse = logHTTPService.doPost(serviceRequestContext, testRequest).aggregate().get();
+
+        assertEquals(HttpStatus.OK, postResponse.status());
+        final ArgumentCaptor<Collection<Record<Log>>> recordsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(mockBuffer, times(1)).writeAll(recordsCaptor.capture(), eq(TEST_TIMEOUT_IN_MILLIS));
+        assertEquals(LARGE_REQUEST_RECORDS, recordsCaptor.getValue().size());
+        verify(successRequestsCounter, times(1)).increment();
+    }
+
+    @Test
+    public void testHTTPRequestWithMalformedLastElementWritesNothing() throws Exception {
+        final Buffer<Record<Log>> mockBuffer = mock(Buffer.class);
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, mockBuffer, null, pluginMetrics);
+        final String validContent = generateRandomValidHTTPRequest(LARGE_REQUEST_RECORDS).contentUtf8();
+        final String malformedContent = validContent.substring(0, validContent.length() - 1) + ",{\"log\":]";
+        final AggregatedHttpRequest testBadRequest = HttpRequest.of(
+                RequestHeaders.builder().contentType(MediaType.JSON).method(HttpMethod.POST).path("/log/ingest").build(),
+                HttpData.ofUtf8(malformedContent)).aggregate().get();
+
+        assertThrows(IOException.class, () -> logHTTPService.doPost(serviceRequestContext, testBadRequest).aggregate().get());
+
+        verify(mockBuffer, never()).writeAll(any(), anyInt());
+        verify(successRequestsCounter, never()).increment();
+    }
+
+    @Test
+    public void testHTTPRequestToByteBufferIsValidated() throws Exception {
+        final Buffer<Record<Log>> byteBuffer = mock(Buffer.class);
+        when(byteBuffer.isByteBuffer()).thenReturn(true);
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, byteBuffer, null, pluginMetrics);
+        final AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(2);
+
+        final AggregatedHttpResponse postResponse = logHTTPService.doPost(serviceRequestContext, testRequest).aggregate().get();
+
+        assertEquals(HttpStatus.OK, postResponse.status());
+        verify(byteBuffer).writeBytes(testRequest.content().array(), null, TEST_TIMEOUT_IN_MILLIS);
+        verify(byteBuffer, never()).writeAll(any(), anyInt());
+
+        final AggregatedHttpRequest testBadRequest = generateBadHTTPRequest();
+        assertThrows(IOException.class, () -> logHTTPService.doPost(serviceRequestContext, testBadRequest).aggregate().get());
+        verify(byteBuffer, times(1)).writeBytes(any(), any(), anyInt());
+    }
+
     private AggregatedHttpRequest generateRandomValidHTTPRequest(int numJson) throws JsonProcessingException,
             ExecutionException, InterruptedException {
         RequestHeaders requestHeaders = RequestHeaders.builder()
@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class JsonCodecTest {
@@ -19,6 +20,8 @@ class JsonCodecTest {
     private final HttpData badTestDataJsonLine = HttpData.ofUtf8("{\"a\":\"b\"}");
     private final HttpData badTestDataMultiJsonLines = HttpData.ofUtf8("{\"a\":\"b\"}{\"c\":\"d\"}");
     private final HttpData badTestDataNonJson = HttpData.ofUtf8("non json content");
+    private final HttpData badTestDataNonObjectElement = HttpData.ofUtf8("[{\"a\":\"b\"}, \"c\"]");
+    private final HttpData badTestDataTruncatedArray = HttpData.ofUtf8("[{\"a\":\"b\"}, {\"c\":");
     private final JsonCodec objectUnderTest = new JsonCodec();
 
     @Test
@@ -45,4 +48,33 @@ class JsonCodecTest {
     public void testParseNonJsonFailure() {
         assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonJson));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testParseNonObjectElementFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonObjectElement));
+    }
+
+    @Test
+    public void testOpenArrayReadsObjectsInOrder() throws IOException {
+        try (final JsonArrayReader reader = objectUnderTest.openArray(goodTestData)) {
+            assertEquals("b", reader.nextObject().get("a").asText());
+            assertEquals("d", reader.nextObject().get("c").asText());
+            assertNull(reader.nextObject());
+            assertNull(reader.nextObject());
+        }
+    }
+
+    @Test
+    public void testValidateSuccess() throws IOException {
+        objectUnderTest.validate(goodTestData);
+        objectUnderTest.validate(HttpData.ofUtf8("[]"));
+    }
+
+    @Test
+    public void testValidateFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.validate(badTestDataJsonLine));
+        assertThrows(IOException.class, () -> objectUnderTest.validate(badTestDataNonJson));
+        assertThrows(IOException.class, () -> objectUnderTest.validate(badTestDataNonObjectElement));
+        assertThrows(IOException.class, () -> objectUnderTest.validate(badTestDataTruncatedArray));
+    }
+}
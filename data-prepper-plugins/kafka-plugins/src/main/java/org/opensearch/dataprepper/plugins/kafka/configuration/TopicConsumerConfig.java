@@ -41,4 +41,10 @@ public interface TopicConsumerConfig extends TopicConfig {
     Integer getConsumerMaxPollRecords();
 
     Integer getWorkers();
+
+    /**
+     * @return the number of threads of each consumer which deserialize polled records in parallel,
+     * or 0 to deserialize them on the consumer thread
+     */
+    int getDeserializationWorkers();
 }
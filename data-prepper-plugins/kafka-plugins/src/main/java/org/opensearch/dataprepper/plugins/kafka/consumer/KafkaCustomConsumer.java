@@ -44,23 +44,38 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import static org.apache.commons.lang3.exception.ExceptionUtils.getRootCause;
 
 /**
  * * A utility class which will handle the core Kafka consumer operation.
+ * <p>
+ * When the topic configures deserialization workers, each polled batch is split into chunks which are deserialized
+ * in parallel, and the records are written to the buffer in the order they were polled, so the order within each
+ * partition is kept. If the buffer is full, the assigned partitions are paused and the consumer keeps polling
+ * while it retries the remaining records, instead of blocking the consumer thread.
  */
 public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener {
 
@@ -68,7 +83,9 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
     private static final Long COMMIT_OFFSET_INTERVAL_MS = 300000L;
     private static final int DEFAULT_NUMBER_OF_RECORDS_TO_ACCUMULATE = 1;
     private static final int RETRY_ON_EXCEPTION_SLEEP_MS = 1000;
+    private static final int MIN_RECORDS_PER_DESERIALIZATION_TASK = 64;
     static final String DEFAULT_KEY = "message";
+    private static final AtomicInteger DESERIALIZATION_POOL_NUMBER = new AtomicInteger();
 
     private volatile long lastCommitTime;
     private KafkaConsumer consumer= null;
@@ -97,6 +114,13 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
     private final LogRateLimiter errLogRateLimiter;
     private final ByteDecoder byteDecoder;
     private final long maxRetriesOnException;
+    private final int deserializationWorkers;
+    private final ExecutorService deserializationExecutor;
+    private final int bufferTimeoutMillis;
+    private final Deque<PendingRecords> pendingRecords;
+    private Map<TopicPartition, CommitOffsetRange> pendingOffsets;
+    private AcknowledgementSet pendingAcknowledgementSet;
+    private boolean pausedOnFullBuffer;
 
     public KafkaCustomConsumer(final KafkaConsumer consumer,
                                final AtomicBoolean shutdownInProgress,
@@ -130,7 +154,13 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         this.partitionsToReset = Collections.synchronizedSet(new HashSet<>());
         this.schema = MessageFormat.getByMessageFormatByName(schemaType);
         Duration bufferTimeout = Duration.ofSeconds(1);
-        this.bufferAccumulator = BufferAccumulator.create(buffer, DEFAULT_NUMBER_OF_RECORDS_TO_ACCUMULATE, bufferTimeout);
+        this.bufferAccumulator = BufferAccumulator.create(buffer, DEFAULT_NUMBER_OF_RECORDS_TO_ACCUMULATE, bufferTimeout,
+                topicMetrics.getPluginMetrics());
+        this.bufferTimeoutMillis = (int) bufferTimeout.toMillis();
+        this.deserializationWorkers = topicConfig.getDeserializationWorkers();
+        this.deserializationExecutor = deserializationWorkers > 0 ? Executors.newFixedThreadPool(deserializationWorkers, createDeserializationThreadFactory(topicName)) : null;
+        this.pendingRecords = new ArrayDeque<>();
+        this.pausedOnFullBuffer = false;
         this.lastCommitTime = System.currentTimeMillis();
         this.numberOfAcksPending = new AtomicInteger(0);
         this.errLogRateLimiter = new LogRateLimiter(2, System.currentTimeMillis());
@@ -149,6 +179,10 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         if (Objects.isNull(offsetAndMetadata)) {
             return;
         }
+        if (!ownedPartitionsEpoch.containsKey(partition)) {
+            LOG.debug("Not committing offset {} of partition {} which is no longer owned", offsetAndMetadata.offset(), partition);
+            return;
+        }
         synchronized (offsetsToCommit) {
             offsetsToCommit.put(partition, offsetAndMetadata);
         }
@@ -183,6 +217,11 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
 
     <T> void consumeRecords() throws Exception {
         try {
+            if (hasPendingRecords()) {
+                pollWhilePaused();
+                writePendingRecords();
+                return;
+            }
             ConsumerRecords<String, T> records = doPoll();
             if (Objects.nonNull(records) && !records.isEmpty() && records.count() > 0) {
                 Map<TopicPartition, CommitOffsetRange> offsets = new HashMap<>();
@@ -190,15 +229,14 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
                 if (acknowledgementsEnabled) {
                     acknowledgementSet = createAcknowledgementSet(offsets);
                 }
-                iterateRecordPartitions(records, acknowledgementSet, offsets);
-                if (!acknowledgementsEnabled) {
-                    offsets.forEach((partition, offsetRange) -> {
-                        updateOffsetsToCommit(partition, new OffsetAndMetadata(offsetRange.getOffsets().getMaximum() + 1));
-                        numRecordsCommitted += offsetRange.getOffsets().getMaximum() - offsetRange.getOffsets().getMinimum() + 1;
-                    });
+                if (deserializationExecutor == null) {
+                    iterateRecordPartitions(records, acknowledgementSet, offsets);
+                    completeBatch(offsets, acknowledgementSet);
                 } else {
-                    acknowledgementSet.complete();
-                    numberOfAcksPending.incrementAndGet();
+                    pendingRecords.addAll(deserializeRecordPartitions(records, acknowledgementSet, offsets));
+                    pendingOffsets = offsets;
+                    pendingAcknowledgementSet = acknowledgementSet;
+                    writePendingRecords();
                 }
             }
         } catch (AuthenticationException e) {
@@ -228,6 +266,106 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         }
     }
 
+    private void completeBatch(final Map<TopicPartition, CommitOffsetRange> offsets, final AcknowledgementSet acknowledgementSet) {
+        if (!acknowledgementsEnabled) {
+            offsets.forEach((partition, offsetRange) -> {
+                updateOffsetsToCommit(partition, new OffsetAndMetadata(offsetRange.getOffsets().getMaximum() + 1));
+                numRecordsCommitted += offsetRange.getOffsets().getMaximum() - offsetRange.getOffsets().getMinimum() + 1;
+            });
+        } else {
+            acknowledgementSet.complete();
+            numberOfAcksPending.incrementAndGet();
+        }
+    }
+
+    @VisibleForTesting
+    boolean hasPendingRecords() {
+        return pendingOffsets != null;
+    }
+
+    /**
+     * Polls while the assigned partitions are paused, which keeps the consumer in its group. Partitions assigned
+     * during the poll are not paused yet, so any records returned for them are read again after resuming.
+     */
+    private void pollWhilePaused() {
+        consumer.pause(consumer.assignment());
+        final ConsumerRecords<String, ?> records = consumer.poll(Duration.ZERO);
+        if (Objects.nonNull(records)) {
+            for (TopicPartition topicPartition : records.partitions()) {
+                consumer.seek(topicPartition, records.records(topicPartition).get(0).offset());
+            }
+        }
+    }
+
+    /**
+     * Writes the pending records to the buffer in order, one chunk per write. When the buffer is full, the assigned
+     * partitions are paused and the chunks not yet written are kept for the next attempt. A chunk larger than the
+     * buffer is split in half before the next attempt. Once all of them are written, the offsets of the batch are
+     * completed and the partitions are resumed.
+     */
+    private void writePendingRecords() throws Exception {
+        while (!pendingRecords.isEmpty()) {
+            try {
+                buffer.writeAll(pendingRecords.peek().records, bufferTimeoutMillis);
+            } catch (final TimeoutException | SizeOverflowException e) {
+                if (e instanceof SizeOverflowException) {
+                    topicMetrics.getNumberOfBufferSizeOverflows().increment();
+                    splitFirstPendingRecords();
+                }
+                if (!pausedOnFullBuffer) {
+                    LOG.debug("Buffer is full, pausing partitions of topic {} with {} chunks of records pending", topicName, pendingRecords.size());
+                    pausedOnFullBuffer = true;
+                    consumer.pause(consumer.assignment());
+                }
+                return;
+            }
+            pendingRecords.poll();
+        }
+
+        completeBatch(pendingOffsets, pendingAcknowledgementSet);
+        pendingOffsets = null;
+        pendingAcknowledgementSet = null;
+        if (pausedOnFullBuffer) {
+            LOG.debug("Resuming partitions of topic {}", topicName);
+            pausedOnFullBuffer = false;
+            consumer.resume(consumer.assignment());
+        }
+    }
+
+    private void splitFirstPendingRecords() {
+        final PendingRecords first = pendingRecords.peek();
+        if (first.records.size() < 2) {
+            return;
+        }
+        final int middle = first.records.size() / 2;
+        pendingRecords.poll();
+        pendingRecords.addFirst(new PendingRecords(first.topicPartition, first.records.subList(middle, first.records.size())));
+        pendingRecords.addFirst(new PendingRecords(first.topicPartition, first.records.subList(0, middle)));
+    }
+
+    /**
+     * Drops the pending records and offsets of revoked partitions, so they are neither written nor committed by this
+     * consumer. The new owner reads them again from the last committed offset. Their events are released from the
+     * acknowledgement set so that it still completes for the partitions that are kept.
+     */
+    private void dropPendingRecords(final Collection<TopicPartition> partitions) {
+        if (!hasPendingRecords()) {
+            return;
+        }
+        final Set<TopicPartition> revokedPartitions = new HashSet<>(partitions);
+        final Iterator<PendingRecords> iterator = pendingRecords.iterator();
+        while (iterator.hasNext()) {
+            final PendingRecords partitionRecords = iterator.next();
+            if (revokedPartitions.contains(partitionRecords.topicPartition)) {
+                if (pendingAcknowledgementSet != null) {
+                    partitionRecords.records.forEach(record -> record.getData().getEventHandle().release(true));
+                }
+                iterator.remove();
+            }
+        }
+        revokedPartitions.forEach(pendingOffsets::remove);
+    }
+
     private void addAcknowledgedOffsets(final TopicPartition topicPartition, final Range<Long> offsetRange) {
         final int partitionId = topicPartition.partition();
         final TopicPartitionCommitTracker commitTracker = partitionCommitTrackerMap.get(partitionId);
@@ -374,6 +512,9 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
                 retryingAfterException = true;
             }
         }
+        if (deserializationExecutor != null) {
+            deserializationExecutor.shutdownNow();
+        }
         LOG.info("Shutting down, number of acks pending = {}", numberOfAcksPending.get());
         synchronized(this) {
             commitOffsets(true);
@@ -493,41 +634,117 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
 
             List<ConsumerRecord<String, T>> partitionRecords = records.records(topicPartition);
             for (ConsumerRecord<String, T> consumerRecord : partitionRecords) {
-                if (schema == MessageFormat.BYTES) {
-                    InputStream inputStream = new ByteArrayInputStream((byte[])consumerRecord.value());
-                    if(byteDecoder != null) {
-                        byteDecoder.parse(inputStream, (record) -> {
-                            processRecord(acknowledgementSet, record);
-                        });
-                    } else {
-                        JsonNode jsonNode = objectMapper.readValue(inputStream, JsonNode.class);
+                deserializeRecord(consumerRecord, topicPartition.partition(), record -> processRecord(acknowledgementSet, record));
+            }
 
-                        Event event = JacksonLog.builder().withData(jsonNode).build();
-                        Record<Event> record = new Record<>(event);
-                        processRecord(acknowledgementSet, record);
-                    }
-                } else {
-                    Record<Event> record = getRecord(consumerRecord, topicPartition.partition());
-                    if (record != null) {
-                        processRecord(acknowledgementSet, record);
-                    }
+            trackPartitionOffsets(topicPartition, partitionRecords, partitionEpoch, offsets);
+        }
+    }
+
+    /**
+     * Names the deserialization workers after the topic and a number for each consumer, since every consumer of
+     * a topic has its own workers.
+     */
+    static ThreadFactory createDeserializationThreadFactory(final String topicName) {
+        final int poolNumber = DESERIALIZATION_POOL_NUMBER.incrementAndGet();
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable,
+                    String.format("kafka-%s-deserialization-%d-worker-%d", topicName, poolNumber, threadNumber.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Deserializes the records of each partition in chunks on the deserialization workers. The chunks are returned in
+     * the order they were polled, so writing them in turn keeps the order of each partition.
+     */
+    private <T> List<PendingRecords> deserializeRecordPartitions(ConsumerRecords<String, T> records, final AcknowledgementSet acknowledgementSet,
+                                                                 Map<TopicPartition, CommitOffsetRange> offsets) throws Exception {
+        final int recordsPerTask = Math.max(MIN_RECORDS_PER_DESERIALIZATION_TASK,
+                (records.count() + deserializationWorkers - 1) / deserializationWorkers);
+        final List<Future<PendingRecords>> deserializationTasks = new ArrayList<>();
+        for (TopicPartition topicPartition : records.partitions()) {
+            final long partitionEpoch = getPartitionEpoch(topicPartition);
+            if (acknowledgementsEnabled && partitionEpoch == 0) {
+                if (errLogRateLimiter.isAllowed(System.currentTimeMillis())) {
+                    LOG.error("Lost ownership of partition {}", topicPartition);
                 }
+                continue;
             }
 
-            long lastOffset = partitionRecords.get(partitionRecords.size() - 1).offset();
-            long firstOffset = partitionRecords.get(0).offset();
-            Range<Long> offsetRange = Range.between(firstOffset, lastOffset);
-            offsets.put(topicPartition, new CommitOffsetRange(offsetRange, partitionEpoch));
+            final List<ConsumerRecord<String, T>> partitionRecords = records.records(topicPartition);
+            for (int start = 0; start < partitionRecords.size(); start += recordsPerTask) {
+                final List<ConsumerRecord<String, T>> chunk =
+                        partitionRecords.subList(start, Math.min(start + recordsPerTask, partitionRecords.size()));
+                deserializationTasks.add(deserializationExecutor.submit(() -> {
+                    final List<Record<Event>> chunkRecords = new ArrayList<>(chunk.size());
+                    for (ConsumerRecord<String, T> consumerRecord : chunk) {
+                        deserializeRecord(consumerRecord, topicPartition.partition(), chunkRecords::add);
+                    }
+                    return new PendingRecords(topicPartition, chunkRecords);
+                }));
+            }
+
+            trackPartitionOffsets(topicPartition, partitionRecords, partitionEpoch, offsets);
+        }
 
-            if (acknowledgementsEnabled && !partitionCommitTrackerMap.containsKey(topicPartition.partition())) {
-                partitionCommitTrackerMap.put(topicPartition.partition(),
-                        new TopicPartitionCommitTracker(topicPartition, firstOffset));
+        final List<PendingRecords> deserializedRecords = new ArrayList<>(deserializationTasks.size());
+        for (Future<PendingRecords> deserializationTask : deserializationTasks) {
+            try {
+                deserializedRecords.add(deserializationTask.get());
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+        }
+        // Always add records to acknowledgementSet before adding them to the buffer
+        if (acknowledgementSet != null) {
+            deserializedRecords.forEach(partitionRecords ->
+                    partitionRecords.records.forEach(record -> acknowledgementSet.add(record.getData())));
+        }
+        return deserializedRecords;
+    }
+
+    private <T> void deserializeRecord(final ConsumerRecord<String, T> consumerRecord, final int partition,
+                                       final Consumer<Record<Event>> recordConsumer) throws Exception {
+        if (schema == MessageFormat.BYTES) {
+            InputStream inputStream = new ByteArrayInputStream((byte[])consumerRecord.value());
+            if(byteDecoder != null) {
+                byteDecoder.parse(inputStream, recordConsumer);
+            } else {
+                JsonNode jsonNode = objectMapper.readValue(inputStream, JsonNode.class);
+
+                Event event = JacksonLog.builder().withData(jsonNode).build();
+                Record<Event> record = new Record<>(event);
+                recordConsumer.accept(record);
+            }
+        } else {
+            Record<Event> record = getRecord(consumerRecord, partition);
+            if (record != null) {
+                recordConsumer.accept(record);
             }
         }
     }
 
+    private <T> void trackPartitionOffsets(final TopicPartition topicPartition, final List<ConsumerRecord<String, T>> partitionRecords,
+                                           final long partitionEpoch, final Map<TopicPartition, CommitOffsetRange> offsets) {
+        long lastOffset = partitionRecords.get(partitionRecords.size() - 1).offset();
+        long firstOffset = partitionRecords.get(0).offset();
+        Range<Long> offsetRange = Range.between(firstOffset, lastOffset);
+        offsets.put(topicPartition, new CommitOffsetRange(offsetRange, partitionEpoch));
+
+        if (acknowledgementsEnabled && !partitionCommitTrackerMap.containsKey(topicPartition.partition())) {
+            partitionCommitTrackerMap.put(topicPartition.partition(),
+                    new TopicPartitionCommitTracker(topicPartition, firstOffset));
+        }
+    }
+
     public void closeConsumer(){
         consumer.close();
+        if (deserializationExecutor != null) {
+            deserializationExecutor.shutdownNow();
+        }
     }
 
     public void shutdownConsumer(){
@@ -547,7 +764,7 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
                 LOG.info("Assigned partition {}", topicPartition);
                 ownedPartitionsEpoch.put(topicPartition, epoch);
             }
-            if (paused) {
+            if (paused || pausedOnFullBuffer) {
                 consumer.pause(consumer.assignment());
             }
         }
@@ -567,7 +784,8 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
                 ownedPartitionsEpoch.remove(topicPartition);
                 partitionCommitTrackerMap.remove(topicPartition.partition());
             }
-            if (paused) {
+            dropPendingRecords(partitions);
+            if (paused || pausedOnFullBuffer) {
                 consumer.pause(consumer.assignment());
             }
         }
@@ -598,4 +816,17 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         final Long offset = offsetMap.get(topicPartition);
         return Objects.isNull(offset) ? "-" : offset.toString();
     }
+
+    /**
+     * Deserialized records of one partition, in offset order, which are written to the buffer with a single write.
+     */
+    private static final class PendingRecords {
+        private final TopicPartition topicPartition;
+        private final List<Record<Event>> records;
+
+        private PendingRecords(final TopicPartition topicPartition, final List<Record<Event>> records) {
+            this.topicPartition = topicPartition;
+            this.records = records;
+        }
+    }
 }
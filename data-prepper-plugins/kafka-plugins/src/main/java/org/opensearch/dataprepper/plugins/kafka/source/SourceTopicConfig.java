@@ -7,6 +7,8 @@ package org.opensearch.dataprepper.plugins.kafka.source;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.plugins.kafka.configuration.CommonTopicConfig;
@@ -30,6 +32,7 @@ class SourceTopicConfig extends CommonTopicConfig implements TopicConsumerConfig
     static final Duration DEFAULT_MAX_POLL_INTERVAL = Duration.ofSeconds(300);
     static final Integer DEFAULT_CONSUMER_MAX_POLL_RECORDS = 500;
     static final Integer DEFAULT_NUM_OF_WORKERS = 2;
+    static final int DEFAULT_DESERIALIZATION_WORKERS = 0;
     static final Duration DEFAULT_HEART_BEAT_INTERVAL_DURATION = Duration.ofSeconds(5);
 
 
@@ -54,6 +57,11 @@ class SourceTopicConfig extends CommonTopicConfig implements TopicConsumerConfig
     @Size(min = 1, max = 200, message = "Number of worker threads should lies between 1 and 200")
     private Integer workers = DEFAULT_NUM_OF_WORKERS;
 
+    @JsonProperty("deserialization_workers")
+    @Min(0)
+    @Max(200)
+    private int deserializationWorkers = DEFAULT_DESERIALIZATION_WORKERS;
+
     @JsonProperty("session_timeout")
     @Valid
     @Size(min = 1)
@@ -193,6 +201,11 @@ class SourceTopicConfig extends CommonTopicConfig implements TopicConsumerConfig
         return workers;
     }
 
+    @Override
+    public int getDeserializationWorkers() {
+        return deserializationWorkers;
+    }
+
     @Override
     public Duration getHeartBeatInterval() {
         return heartBeatInterval;
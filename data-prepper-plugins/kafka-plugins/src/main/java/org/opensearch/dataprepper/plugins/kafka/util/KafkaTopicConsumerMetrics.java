@@ -127,6 +127,10 @@ public class KafkaTopicConsumerMetrics {
         return numberOfBytesConsumed;
     }
 
+    public PluginMetrics getPluginMetrics() {
+        return pluginMetrics;
+    }
+
     public Counter getNumberOfRecordsCommitted() {
         return numberOfRecordsCommitted;
     }
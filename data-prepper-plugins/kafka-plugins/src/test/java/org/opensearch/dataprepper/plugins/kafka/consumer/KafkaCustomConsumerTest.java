@@ -24,6 +24,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.acknowledgements.DefaultAcknowledgementSetManager;
 import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
@@ -48,16 +49,22 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.awaitility.Awaitility.await;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -138,6 +145,7 @@ public class KafkaCustomConsumerTest {
         when(topicMetrics.getNumberOfBufferSizeOverflows()).thenReturn(overflowCounter);
         when(topicMetrics.getNumberOfRecordsCommitted()).thenReturn(counter);
         when(topicMetrics.getNumberOfDeserializationErrors()).thenReturn(counter);
+        when(topicMetrics.getPluginMetrics()).thenReturn(mock(PluginMetrics.class));
         when(topicConfig.getThreadWaitingTime()).thenReturn(Duration.ofSeconds(1));
         when(topicConfig.getSerdeFormat()).thenReturn(MessageFormat.PLAINTEXT);
         when(topicConfig.getAutoCommit()).thenReturn(false);
@@ -543,6 +551,216 @@ public class KafkaCustomConsumerTest {
         });
     }
 
+    @Test
+    public void testParallelDeserializationKeepsPartitionOrder() throws Exception {
+        String topic = topicConfig.getName();
+        when(topicConfig.getDeserializationWorkers()).thenReturn(4);
+        final int recordsPerPartition = 300;
+        consumerRecords = createOrderedPlainTextRecords(topic, recordsPerPartition);
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(consumerRecords);
+        final List<Record<Event>> writtenRecords = new ArrayList<>();
+        doAnswer((i) -> {
+            writtenRecords.addAll(i.getArgument(0));
+            return null;
+        }).when(mockBuffer).writeAll(any(), anyInt());
+        consumer = createObjectUnderTestWithMockBuffer("plaintext");
+
+        consumer.onPartitionsAssigned(List.of(new TopicPartition(topic, testPartition), new TopicPartition(topic, testJsonPartition)));
+        consumer.consumeRecords();
+        consumer.closeConsumer();
+
+        Assertions.assertEquals(2 * recordsPerPartition, writtenRecords.size());
+        final Map<String, Integer> nextOffsetByPartition = new HashMap<>();
+        for (Record<Event> record : writtenRecords) {
+            final Event event = record.getData();
+            final String partition = event.getMetadata().getAttribute("kafka_partition").toString();
+            final int expectedOffset = nextOffsetByPartition.getOrDefault(partition, 0);
+            Assertions.assertEquals(String.valueOf(expectedOffset), event.get(testKey1, String.class));
+            nextOffsetByPartition.put(partition, expectedOffset + 1);
+        }
+        Map<TopicPartition, OffsetAndMetadata> offsetsToCommit = consumer.getOffsetsToCommit();
+        Assertions.assertEquals(2, offsetsToCommit.size());
+        offsetsToCommit.forEach((topicPartition, offsetAndMetadata) ->
+                Assertions.assertEquals(recordsPerPartition, offsetAndMetadata.offset()));
+        Assertions.assertEquals(2L * recordsPerPartition, consumer.getNumRecordsCommitted());
+    }
+
+    @Test
+    public void testParallelDeserializationPausesAndResumesWhenBufferIsFull() throws Exception {
+        String topic = topicConfig.getName();
+        when(topicConfig.getDeserializationWorkers()).thenReturn(2);
+        consumerRecords = createPlainTextRecords(topic, 0L);
+        doAnswer((i) -> paused && !resumed ? ConsumerRecords.empty() : consumerRecords)
+                .when(kafkaConsumer).poll(any(Duration.class));
+        final List<Record<Event>> writtenRecords = new ArrayList<>();
+        doAnswer((i) -> {
+            if (!paused) {
+                throw new TimeoutException("buffer is full");
+            }
+            writtenRecords.addAll(i.getArgument(0));
+            return null;
+        }).when(mockBuffer).writeAll(any(), anyInt());
+        consumer = createObjectUnderTestWithMockBuffer("plaintext");
+        consumer.onPartitionsAssigned(List.of(new TopicPartition(topic, testPartition)));
+
+        consumer.consumeRecords();
+
+        assertTrue(paused);
+        assertFalse(resumed);
+        assertTrue(consumer.hasPendingRecords());
+        assertTrue(consumer.getOffsetsToCommit().isEmpty());
+
+        consumer.consumeRecords();
+        consumer.closeConsumer();
+
+        assertTrue(resumed);
+        assertFalse(consumer.hasPendingRecords());
+        Assertions.assertEquals(consumerRecords.count(), writtenRecords.size());
+        Assertions.assertEquals(testValue1, writtenRecords.get(0).getData().get(testKey1, String.class));
+        Assertions.assertEquals(testValue2, writtenRecords.get(1).getData().get(testKey2, String.class));
+        Map<TopicPartition, OffsetAndMetadata> offsetsToCommit = consumer.getOffsetsToCommit();
+        Assertions.assertEquals(1, offsetsToCommit.size());
+        assertThat(offsetsToCommit.get(new TopicPartition(topic, testPartition)).offset(), equalTo(2L));
+    }
+
+    @Test
+    public void testParallelDeserializationRewindsRecordsPolledWhilePaused() throws Exception {
+        String topic = topicConfig.getName();
+        when(topicConfig.getDeserializationWorkers()).thenReturn(2);
+        consumerRecords = createPlainTextRecords(topic, 0L);
+        final ConsumerRecords newlyAssignedRecords = createPlainTextRecords(topic, 10L);
+        doAnswer((i) -> paused ? newlyAssignedRecords : consumerRecords)
+                .when(kafkaConsumer).poll(any(Duration.class));
+        doAnswer((i) -> {
+            throw new TimeoutException("buffer is full");
+        }).when(mockBuffer).writeAll(any(), anyInt());
+        consumer = createObjectUnderTestWithMockBuffer("plaintext");
+        consumer.onPartitionsAssigned(List.of(new TopicPartition(topic, testPartition)));
+
+        consumer.consumeRecords();
+        consumer.consumeRecords();
+        consumer.closeConsumer();
+
+        verify(kafkaConsumer).seek(new TopicPartition(topic, testPartition), 10L);
+        assertTrue(consumer.hasPendingRecords());
+        assertTrue(consumer.getOffsetsToCommit().isEmpty());
+    }
+
+    @Test
+    public void testParallelDeserializationDropsPendingRecordsOfRevokedPartitions() throws Exception {
+        String topic = topicConfig.getName();
+        when(topicConfig.getDeserializationWorkers()).thenReturn(2);
+        final int recordsPerPartition = 3;
+        consumerRecords = createOrderedPlainTextRecords(topic, recordsPerPartition);
+        doAnswer((i) -> paused ? ConsumerRecords.empty() : consumerRecords)
+                .when(kafkaConsumer).poll(any(Duration.class));
+        final List<Record<Event>> writtenRecords = new ArrayList<>();
+        doAnswer((i) -> {
+            if (!paused) {
+                throw new TimeoutException("buffer is full");
+            }
+            writtenRecords.addAll(i.getArgument(0));
+            return null;
+        }).when(mockBuffer).writeAll(any(), anyInt());
+        consumer = createObjectUnderTestWithMockBuffer("plaintext");
+        final TopicPartition keptPartition = new TopicPartition(topic, testPartition);
+        final TopicPartition revokedPartition = new TopicPartition(topic, testJsonPartition);
+        consumer.onPartitionsAssigned(List.of(keptPartition, revokedPartition));
+
+        consumer.consumeRecords();
+        assertTrue(consumer.hasPendingRecords());
+        consumer.onPartitionsRevoked(List.of(revokedPartition));
+        consumer.consumeRecords();
+        consumer.closeConsumer();
+
+        assertFalse(consumer.hasPendingRecords());
+        Assertions.assertEquals(recordsPerPartition, writtenRecords.size());
+        for (Record<Event> record : writtenRecords) {
+            Assertions.assertEquals(String.valueOf(testPartition), record.getData().getMetadata().getAttribute("kafka_partition"));
+        }
+        Map<TopicPartition, OffsetAndMetadata> offsetsToCommit = consumer.getOffsetsToCommit();
+        Assertions.assertEquals(1, offsetsToCommit.size());
+        assertThat(offsetsToCommit.get(keptPartition).offset(), equalTo((long) recordsPerPartition));
+    }
+
+    @Test
+    public void testParallelDeserializationSplitsRecordsLargerThanTheBuffer() throws Exception {
+        String topic = topicConfig.getName();
+        when(topicConfig.getDeserializationWorkers()).thenReturn(2);
+        consumerRecords = createPlainTextRecords(topic, 0L);
+        doAnswer((i) -> paused && !resumed ? ConsumerRecords.empty() : consumerRecords)
+                .when(kafkaConsumer).poll(any(Duration.class));
+        final List<Integer> writeSizes = new ArrayList<>();
+        final List<Record<Event>> writtenRecords = new ArrayList<>();
+        doAnswer((i) -> {
+            final Collection<Record<Event>> records = i.getArgument(0);
+            if (records.size() > 1) {
+                throw new SizeOverflowException("larger than the buffer");
+            }
+            writeSizes.add(records.size());
+            writtenRecords.addAll(records);
+            return null;
+        }).when(mockBuffer).writeAll(any(), anyInt());
+        consumer = createObjectUnderTestWithMockBuffer("plaintext");
+        consumer.onPartitionsAssigned(List.of(new TopicPartition(topic, testPartition)));
+
+        consumer.consumeRecords();
+        assertTrue(paused);
+        assertTrue(consumer.hasPendingRecords());
+        consumer.consumeRecords();
+        consumer.closeConsumer();
+
+        assertTrue(resumed);
+        assertFalse(consumer.hasPendingRecords());
+        assertThat(overflowCount, equalTo(1.0));
+        assertThat(writeSizes, equalTo(List.of(1, 1)));
+        Assertions.assertEquals(testValue1, writtenRecords.get(0).getData().get(testKey1, String.class));
+        Assertions.assertEquals(testValue2, writtenRecords.get(1).getData().get(testKey2, String.class));
+        assertThat(consumer.getOffsetsToCommit().get(new TopicPartition(topic, testPartition)).offset(), equalTo(2L));
+    }
+
+    @Test
+    public void testDeserializationThreadsAreNamedDaemonThreadsOfEachConsumer() {
+        final Thread firstConsumerThread = KafkaCustomConsumer.createDeserializationThreadFactory("my-topic").newThread(() -> {});
+        final Thread secondConsumerThread = KafkaCustomConsumer.createDeserializationThreadFactory("my-topic").newThread(() -> {});
+
+        assertThat(firstConsumerThread.getName(), matchesPattern("kafka-my-topic-deserialization-\\d+-worker-1"));
+        assertThat(secondConsumerThread.getName(), matchesPattern("kafka-my-topic-deserialization-\\d+-worker-1"));
+        assertThat(secondConsumerThread.getName(), not(equalTo(firstConsumerThread.getName())));
+        assertTrue(firstConsumerThread.isDaemon());
+        assertTrue(secondConsumerThread.isDaemon());
+    }
+
+    @Test
+    public void testUpdateOffsetsToCommitIgnoresPartitionsNotOwned() {
+        String topic = topicConfig.getName();
+        consumer = createObjectUnderTest("plaintext", false);
+        final TopicPartition topicPartition = new TopicPartition(topic, testPartition);
+
+        consumer.updateOffsetsToCommit(topicPartition, new OffsetAndMetadata(5L));
+        assertTrue(consumer.getOffsetsToCommit().isEmpty());
+
+        consumer.onPartitionsAssigned(List.of(topicPartition));
+        consumer.updateOffsetsToCommit(topicPartition, new OffsetAndMetadata(5L));
+        assertThat(consumer.getOffsetsToCommit().get(topicPartition).offset(), equalTo(5L));
+
+        consumer.onPartitionsRevoked(List.of(topicPartition));
+        consumer.updateOffsetsToCommit(topicPartition, new OffsetAndMetadata(7L));
+        assertTrue(consumer.getOffsetsToCommit().isEmpty());
+    }
+
+    private ConsumerRecords createOrderedPlainTextRecords(String topic, final int recordsPerPartition) {
+        Map<TopicPartition, List<ConsumerRecord>> records = new HashMap<>();
+        for (int partition : List.of(testPartition, testJsonPartition)) {
+            final List<ConsumerRecord> partitionRecords = new ArrayList<>();
+            for (int offset = 0; offset < recordsPerPartition; offset++) {
+                partitionRecords.add(new ConsumerRecord<>(topic, partition, offset, testKey1, String.valueOf(offset)));
+            }
+            records.put(new TopicPartition(topic, partition), partitionRecords);
+        }
+        return new ConsumerRecords(records);
+    }
+
     private ConsumerRecords createPlainTextRecords(String topic, final long startOffset) {
         Map<TopicPartition, List<ConsumerRecord>> records = new HashMap<>();
         ConsumerRecord<String, String> record1 = new ConsumerRecord<>(topic, testPartition, startOffset, testKey1, testValue1);
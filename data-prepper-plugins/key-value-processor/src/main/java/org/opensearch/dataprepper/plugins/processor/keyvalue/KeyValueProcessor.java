@@ -9,6 +9,8 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -57,11 +59,17 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
     final String delimiterBracketCheck = "[\\[\\]()<>]";
     private final Set<Character> bracketSet = Set.of('[', ']', '(', ')', '<', '>');
     private final List<String> tagsOnFailure;
+    private final EventKey sourceKey;
+    private final EventKey destinationKey;
 
     @DataPrepperPluginConstructor
-    public KeyValueProcessor(final PluginMetrics pluginMetrics, final KeyValueProcessorConfig keyValueProcessorConfig) {
+    public KeyValueProcessor(final PluginMetrics pluginMetrics, final KeyValueProcessorConfig keyValueProcessorConfig,
+                             final EventKeyFactory eventKeyFactory) {
         super(pluginMetrics);
         this.keyValueProcessorConfig = keyValueProcessorConfig;
+        this.sourceKey = eventKeyFactory.createEventKey(keyValueProcessorConfig.getSource());
+        this.destinationKey = Objects.isNull(keyValueProcessorConfig.getDestination()) ?
+                null : eventKeyFactory.createEventKey(keyValueProcessorConfig.getDestination());
 
         tagsOnFailure = keyValueProcessorConfig.getTagsOnFailure();
 
@@ -235,7 +243,7 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
         for (final Record<Event> record : records) {
             final Map<String, Object> outputMap = new HashMap<>();
             final Event recordEvent = record.getData();
-            final String groupsRaw = recordEvent.get(keyValueProcessorConfig.getSource(), String.class);
+            final String groupsRaw = recordEvent.get(sourceKey, String.class);
             if (groupsRaw == null) {
                 continue;
             }
@@ -260,12 +268,12 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
 
             final Map<String, Object> processedMap = executeConfigs(outputMap);
 
-            if (Objects.isNull(keyValueProcessorConfig.getDestination())) {
+            if (Objects.isNull(destinationKey)) {
                 writeToRoot(recordEvent, processedMap);
             } else {
                 if (keyValueProcessorConfig.getOverwriteIfDestinationExists() ||
-                        !recordEvent.containsKey(keyValueProcessorConfig.getDestination())) {
-                    recordEvent.put(keyValueProcessorConfig.getDestination(), processedMap);
+                        !recordEvent.containsKey(destinationKey)) {
+                    recordEvent.put(destinationKey, processedMap);
                 }
             }
         }
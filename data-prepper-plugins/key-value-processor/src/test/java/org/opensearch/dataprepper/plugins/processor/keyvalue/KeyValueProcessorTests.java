@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.plugins.processor.keyvalue;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
 import org.opensearch.dataprepper.model.record.Record;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -78,7 +79,7 @@ public class KeyValueProcessorTests {
         lenient().when(mockConfig.getRecursive()).thenReturn(defaultConfig.getRecursive());
         lenient().when(mockConfig.getOverwriteIfDestinationExists()).thenReturn(defaultConfig.getOverwriteIfDestinationExists());
 
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
     }
 
     @Test
@@ -117,6 +118,7 @@ public class KeyValueProcessorTests {
     @Test
     void testWriteToRoot() {
         when(mockConfig.getDestination()).thenReturn(null);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
         final Record<Event> record = getMessage("key1=value1&key2=value2");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
 
@@ -132,6 +134,7 @@ public class KeyValueProcessorTests {
     @Test
     void testWriteToRootWithOverwrite() {
         when(mockConfig.getDestination()).thenReturn(null);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
         final Record<Event> record = getMessage("key1=value1&key2=value2");
         record.getData().put("key1", "value to be overwritten");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -160,6 +163,7 @@ public class KeyValueProcessorTests {
     void testWriteToRootWithOverwriteDisabled() {
         when(mockConfig.getDestination()).thenReturn(null);
         when(mockConfig.getOverwriteIfDestinationExists()).thenReturn(false);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
         final Record<Event> record = getMessage("key1=value1&key2=value2");
         record.getData().put("key1", "value will not be overwritten");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -189,7 +193,7 @@ public class KeyValueProcessorTests {
         when(mockConfig.getFieldDelimiterRegex()).thenReturn(":_*:");
         when(mockConfig.getFieldSplitCharacters()).thenReturn(null);
 
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("key1=value1:_____:key2=value2");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -205,14 +209,14 @@ public class KeyValueProcessorTests {
     void testBothKeyValuesDefinedErrorKeyValueProcessor() {
         when(mockConfig.getKeyValueDelimiterRegex()).thenReturn(":\\+*:");
 
-        assertThrows(IllegalArgumentException.class, () -> new KeyValueProcessor(pluginMetrics, mockConfig));
+        assertThrows(IllegalArgumentException.class, () -> new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory()));
     }
 
     @Test
     void testBothFieldsDefinedErrorKeyValueProcessor() {
         when(mockConfig.getFieldDelimiterRegex()).thenReturn(":\\+*:");
 
-        assertThrows(IllegalArgumentException.class, () -> new KeyValueProcessor(pluginMetrics, mockConfig));
+        assertThrows(IllegalArgumentException.class, () -> new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory()));
     }
 
     @Test
@@ -220,7 +224,7 @@ public class KeyValueProcessorTests {
         when(mockConfig.getKeyValueDelimiterRegex()).thenReturn(":\\+*:");
         when(mockConfig.getValueSplitCharacters()).thenReturn(null);
 
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("key1:++:value1&key2:+:value2");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -236,7 +240,7 @@ public class KeyValueProcessorTests {
         when(mockConfig.getKeyValueDelimiterRegex()).thenReturn("[");
         when(mockConfig.getValueSplitCharacters()).thenReturn(null);
 
-        PatternSyntaxException e = assertThrows(PatternSyntaxException.class, () -> new KeyValueProcessor(pluginMetrics, mockConfig));
+        PatternSyntaxException e = assertThrows(PatternSyntaxException.class, () -> new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory()));
         assertThat(e.getMessage(), CoreMatchers.startsWith("key_value_delimiter"));
     }
 
@@ -245,21 +249,21 @@ public class KeyValueProcessorTests {
         when(mockConfig.getFieldDelimiterRegex()).thenReturn("[");
         when(mockConfig.getFieldSplitCharacters()).thenReturn(null);
 
-        PatternSyntaxException e = assertThrows(PatternSyntaxException.class, () -> new KeyValueProcessor(pluginMetrics, mockConfig));
+        PatternSyntaxException e = assertThrows(PatternSyntaxException.class, () -> new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory()));
         assertThat(e.getMessage(), CoreMatchers.startsWith("field_delimiter"));
     }
 
     @Test
     void testBadDeleteKeyRegexKeyValueProcessor() {
         when(mockConfig.getDeleteKeyRegex()).thenReturn("[");
-        PatternSyntaxException e = assertThrows(PatternSyntaxException.class, () -> new KeyValueProcessor(pluginMetrics, mockConfig));
+        PatternSyntaxException e = assertThrows(PatternSyntaxException.class, () -> new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory()));
         assertThat(e.getMessage(), CoreMatchers.startsWith("delete_key_regex"));
     }
 
     @Test
     void testBadDeleteValueRegexKeyValueProcessor() {
         when(mockConfig.getDeleteValueRegex()).thenReturn("[");
-        PatternSyntaxException e = assertThrows(PatternSyntaxException.class, () -> new KeyValueProcessor(pluginMetrics, mockConfig));
+        PatternSyntaxException e = assertThrows(PatternSyntaxException.class, () -> new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory()));
         assertThat(e.getMessage(), CoreMatchers.startsWith("delete_value_regex"));
     }
 
@@ -294,7 +298,7 @@ public class KeyValueProcessorTests {
     @Test
     void testFieldSplitCharactersKeyValueProcessor() {
         when(mockConfig.getFieldSplitCharacters()).thenReturn("&!");
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("key1=value1&key1=value2!key1");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -312,7 +316,7 @@ public class KeyValueProcessorTests {
     void testFieldSplitCharactersDoesntSupercedeDelimiterKeyValueProcessor() {
         when(mockConfig.getFieldDelimiterRegex()).thenReturn(":d+:");
         when(mockConfig.getFieldSplitCharacters()).thenReturn(null);
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("key1=value1:d:key1=value2:d:key1");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -330,7 +334,7 @@ public class KeyValueProcessorTests {
     void testIncludeKeysKeyValueProcessor() {
         final List<String> includeKeys = List.of("key2", "key3");
         when(mockConfig.getIncludeKeys()).thenReturn(includeKeys);
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("key1=value1&key2=value2&key3=value3");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -345,7 +349,7 @@ public class KeyValueProcessorTests {
     void testIncludeKeysNoMatchKeyValueProcessor() {
         final List<String> includeKeys = Collections.singletonList("noMatch");
         when(mockConfig.getIncludeKeys()).thenReturn(includeKeys);
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("key1=value1&key2=value2");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -357,7 +361,7 @@ public class KeyValueProcessorTests {
     @Test
     void testIncludeKeysAsDefaultKeyValueProcessor() {
         when(mockConfig.getIncludeKeys()).thenReturn(List.of());
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("key1=value1&key2=value2");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -372,7 +376,7 @@ public class KeyValueProcessorTests {
     void testExcludeKeysKeyValueProcessor() {
         final List<String> excludeKeys = List.of("key2");
         when(mockConfig.getExcludeKeys()).thenReturn(excludeKeys);
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("key1=value1&key2=value2");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -385,7 +389,7 @@ public class KeyValueProcessorTests {
     @Test
     void testExcludeKeysAsDefaultKeyValueProcessor() {
         when(mockConfig.getExcludeKeys()).thenReturn(List.of());
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("key1=value1&key2=value2");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -403,14 +407,14 @@ public class KeyValueProcessorTests {
         when(mockConfig.getIncludeKeys()).thenReturn(includeKeys);
         when(mockConfig.getExcludeKeys()).thenReturn(excludeKeys);
 
-        assertThrows(IllegalArgumentException.class, () -> new KeyValueProcessor(pluginMetrics, mockConfig));
+        assertThrows(IllegalArgumentException.class, () -> new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory()));
     }
 
     @Test
     void testDefaultKeysNoOverlapsBetweenEventKvProcessor() {
         final Map<String, Object> defaultMap = Map.of("dKey", "dValue");
         when(mockConfig.getDefaultValues()).thenReturn(defaultMap);
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("key1=value1");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -427,7 +431,7 @@ public class KeyValueProcessorTests {
         final Map<String, Object> defaultMap = Map.of("dKey", "dValue");
         when(mockConfig.getDefaultValues()).thenReturn(defaultMap);
         when(mockConfig.getSkipDuplicateValues()).thenReturn(skipDuplicateValues);
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("key1=value1&dKey=abc");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -446,7 +450,7 @@ public class KeyValueProcessorTests {
         when(mockConfig.getDefaultValues()).thenReturn(defaultMap);
         when(mockConfig.getIncludeKeys()).thenReturn(includeKeys);
         when(mockConfig.getSkipDuplicateValues()).thenReturn(skipDuplicateValues);
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("key1=value1&key2=value2");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -464,7 +468,7 @@ public class KeyValueProcessorTests {
         when(mockConfig.getDefaultValues()).thenReturn(defaultMap);
         when(mockConfig.getIncludeKeys()).thenReturn(includeKeys);
         when(mockConfig.getSkipDuplicateValues()).thenReturn(skipDuplicateValues);
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("key1=value1&key2=abc");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -483,7 +487,7 @@ public class KeyValueProcessorTests {
         when(mockConfig.getDefaultValues()).thenReturn(defaultMap);
         when(mockConfig.getIncludeKeys()).thenReturn(includeKeys);
         when(mockConfig.getSkipDuplicateValues()).thenReturn(skipDuplicateValues);
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("key2=abc");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -500,7 +504,7 @@ public class KeyValueProcessorTests {
         when(mockConfig.getDefaultValues()).thenReturn(defaultMap);
         when(mockConfig.getExcludeKeys()).thenReturn(excludeKeys);
 
-        assertThrows(IllegalArgumentException.class, () -> new KeyValueProcessor(pluginMetrics, mockConfig));
+        assertThrows(IllegalArgumentException.class, () -> new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory()));
     }
 
     @Test
@@ -780,7 +784,7 @@ public class KeyValueProcessorTests {
         final List<String> includeKeys = List.of("item1-subitem1");
         when(mockConfig.getRecursive()).thenReturn(true);
         when(mockConfig.getIncludeKeys()).thenReturn(includeKeys);
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("item1=[item1-subitem1=item1-subitem1-value&item1-subitem2=item1-subitem2-value]&item2=item2-value");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -794,7 +798,7 @@ public class KeyValueProcessorTests {
         final List<String> excludeKeys = List.of("item1-subitem1");
         when(mockConfig.getRecursive()).thenReturn(true);
         when(mockConfig.getExcludeKeys()).thenReturn(excludeKeys);
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("item1=[item1-subitem1=item1-subitem1-value&item1-subitem2=item1-subitem2-value]&item2=item2-value");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -814,7 +818,7 @@ public class KeyValueProcessorTests {
         final Map<String, Object> defaultMap = Map.of("item1-subitem1", "default");
         when(mockConfig.getRecursive()).thenReturn(true);
         when(mockConfig.getDefaultValues()).thenReturn(defaultMap);
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("item1=[item1-subitem1=item1-subitem1-value&item1-subitem2=item1-subitem2-value]&item2=item2-value");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
@@ -834,7 +838,7 @@ public class KeyValueProcessorTests {
     void testTagsAddedWhenParsingFails() {
         when(mockConfig.getRecursive()).thenReturn(true);
         when(mockConfig.getTagsOnFailure()).thenReturn(List.of("tag1", "tag2"));
-        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig, new JacksonEventKeyFactory());
 
         final Record<Event> record = getMessage("item1=[]");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
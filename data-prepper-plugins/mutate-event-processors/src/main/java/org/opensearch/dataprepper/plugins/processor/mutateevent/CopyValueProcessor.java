@@ -10,6 +10,8 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -22,19 +24,30 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 @DataPrepperPlugin(name = "copy_values", pluginType = Processor.class, pluginConfigurationType = CopyValueProcessorConfig.class)
 public class CopyValueProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
     private static final Logger LOG = LoggerFactory.getLogger(CopyValueProcessor.class);
     private final CopyValueProcessorConfig config;
     private final List<CopyValueProcessorConfig.Entry> entries;
+    private final List<CompiledEntry> compiledEntries;
     private final ExpressionEvaluator expressionEvaluator;
 
     @DataPrepperPluginConstructor
-    public CopyValueProcessor(final PluginMetrics pluginMetrics, final CopyValueProcessorConfig config, final ExpressionEvaluator expressionEvaluator) {
+    public CopyValueProcessor(final PluginMetrics pluginMetrics, final CopyValueProcessorConfig config,
+                              final ExpressionEvaluator expressionEvaluator, final EventKeyFactory eventKeyFactory) {
         super(pluginMetrics);
         this.config = config;
         this.entries = config.getEntries();
+        if (config.getFromList() != null || config.getToList() != null) {
+            // Keys of list entries refer to fields in the list items rather than to the event
+            this.compiledEntries = null;
+        } else {
+            this.compiledEntries = entries.stream()
+                    .map(entry -> new CompiledEntry(entry, eventKeyFactory))
+                    .collect(Collectors.toList());
+        }
         this.expressionEvaluator = expressionEvaluator;
     }
 
@@ -73,10 +86,10 @@ public class CopyValueProcessor extends AbstractProcessor<Record<Event>, Record<
                     recordEvent.put(config.getToList(), targetList);
                 } else {
                     // Copying individual entries
-                    for (final CopyValueProcessorConfig.Entry entry : entries) {
-                        if (shouldCopyEntry(entry, recordEvent)) {
-                            final Object source = recordEvent.get(entry.getFromKey(), Object.class);
-                            recordEvent.put(entry.getToKey(), source);
+                    for (final CompiledEntry compiledEntry : compiledEntries) {
+                        if (shouldCopyEntry(compiledEntry, recordEvent)) {
+                            final Object source = recordEvent.get(compiledEntry.fromKey, Object.class);
+                            recordEvent.put(compiledEntry.toKey, source);
                         }
                     }
                 }
@@ -89,16 +102,17 @@ public class CopyValueProcessor extends AbstractProcessor<Record<Event>, Record<
         return records;
     }
 
-    private boolean shouldCopyEntry(final CopyValueProcessorConfig.Entry entry, final Event recordEvent) {
+    private boolean shouldCopyEntry(final CompiledEntry compiledEntry, final Event recordEvent) {
+        final CopyValueProcessorConfig.Entry entry = compiledEntry.entry;
         if (Objects.nonNull(entry.getCopyWhen()) && !expressionEvaluator.evaluateConditional(entry.getCopyWhen(), recordEvent)) {
             return false;
         }
 
-        if (entry.getFromKey().equals(entry.getToKey()) || !recordEvent.containsKey(entry.getFromKey())) {
+        if (compiledEntry.sameKey || !recordEvent.containsKey(compiledEntry.fromKey)) {
             return false;
         }
 
-        return !recordEvent.containsKey(entry.getToKey()) || entry.getOverwriteIfToKeyExists();
+        return !recordEvent.containsKey(compiledEntry.toKey) || entry.getOverwriteIfToKeyExists();
     }
 
     @Override
@@ -113,4 +127,18 @@ public class CopyValueProcessor extends AbstractProcessor<Record<Event>, Record<
     @Override
     public void shutdown() {
     }
+
+    private static class CompiledEntry {
+        private final CopyValueProcessorConfig.Entry entry;
+        private final EventKey fromKey;
+        private final EventKey toKey;
+        private final boolean sameKey;
+
+        private CompiledEntry(final CopyValueProcessorConfig.Entry entry, final EventKeyFactory eventKeyFactory) {
+            this.entry = entry;
+            this.fromKey = eventKeyFactory.createEventKey(entry.getFromKey());
+            this.toKey = eventKeyFactory.createEventKey(entry.getToKey());
+            this.sameKey = entry.getFromKey().equals(entry.getToKey());
+        }
+    }
 }
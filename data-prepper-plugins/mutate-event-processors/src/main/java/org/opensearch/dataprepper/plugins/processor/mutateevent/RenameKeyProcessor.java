@@ -10,6 +10,8 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -17,17 +19,21 @@ import org.opensearch.dataprepper.model.record.Record;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 @DataPrepperPlugin(name = "rename_keys", pluginType = Processor.class, pluginConfigurationType = RenameKeyProcessorConfig.class)
 public class RenameKeyProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
-    private final List<RenameKeyProcessorConfig.Entry> entries;
+    private final List<CompiledEntry> entries;
 
     private final ExpressionEvaluator expressionEvaluator;
 
     @DataPrepperPluginConstructor
-    public RenameKeyProcessor(final PluginMetrics pluginMetrics, final RenameKeyProcessorConfig config, final ExpressionEvaluator expressionEvaluator) {
+    public RenameKeyProcessor(final PluginMetrics pluginMetrics, final RenameKeyProcessorConfig config,
+                              final ExpressionEvaluator expressionEvaluator, final EventKeyFactory eventKeyFactory) {
         super(pluginMetrics);
-        this.entries = config.getEntries();
+        this.entries = config.getEntries().stream()
+                .map(entry -> new CompiledEntry(entry, eventKeyFactory))
+                .collect(Collectors.toList());
         this.expressionEvaluator = expressionEvaluator;
     }
 
@@ -36,19 +42,20 @@ public class RenameKeyProcessor extends AbstractProcessor<Record<Event>, Record<
         for(final Record<Event> record : records) {
             final Event recordEvent = record.getData();
 
-            for(RenameKeyProcessorConfig.Entry entry : entries) {
+            for(final CompiledEntry compiledEntry : entries) {
+                final RenameKeyProcessorConfig.Entry entry = compiledEntry.entry;
                 if (Objects.nonNull(entry.getRenameWhen()) && !expressionEvaluator.evaluateConditional(entry.getRenameWhen(), recordEvent)) {
                     continue;
                 }
 
-                if(entry.getFromKey().equals(entry.getToKey()) || !recordEvent.containsKey(entry.getFromKey())) {
+                if(compiledEntry.sameKey || !recordEvent.containsKey(compiledEntry.fromKey)) {
                     continue;
                 }
 
-                if (!recordEvent.containsKey(entry.getToKey()) || entry.getOverwriteIfToKeyExists()) {
-                    final Object source = recordEvent.get(entry.getFromKey(), Object.class);
-                    recordEvent.put(entry.getToKey(), source);
-                    recordEvent.delete(entry.getFromKey());
+                if (!recordEvent.containsKey(compiledEntry.toKey) || entry.getOverwriteIfToKeyExists()) {
+                    final Object source = recordEvent.get(compiledEntry.fromKey, Object.class);
+                    recordEvent.put(compiledEntry.toKey, source);
+                    recordEvent.delete(compiledEntry.fromKey);
                 }
             }
         }
@@ -68,4 +75,18 @@ public class RenameKeyProcessor extends AbstractProcessor<Record<Event>, Record<
     @Override
     public void shutdown() {
     }
+
+    private static class CompiledEntry {
+        private final RenameKeyProcessorConfig.Entry entry;
+        private final EventKey fromKey;
+        private final EventKey toKey;
+        private final boolean sameKey;
+
+        private CompiledEntry(final RenameKeyProcessorConfig.Entry entry, final EventKeyFactory eventKeyFactory) {
+            this.entry = entry;
+            this.fromKey = eventKeyFactory.createEventKey(entry.getFromKey());
+            this.toKey = eventKeyFactory.createEventKey(entry.getToKey());
+            this.sameKey = entry.getFromKey().equals(entry.getToKey());
+        }
+    }
 }
@@ -13,7 +13,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.Collections;
@@ -42,6 +44,8 @@ public class ConvertEntryTypeProcessorTests {
     @Mock
     private ExpressionEvaluator expressionEvaluator;
 
+    private final EventKeyFactory eventKeyFactory = new JacksonEventKeyFactory();
+
     private ConvertEntryTypeProcessor typeConversionProcessor;
 
     static Record<Event> buildRecordWithEvent(final Map<String, Object> data) {
@@ -88,7 +92,7 @@ public class ConvertEntryTypeProcessorTests {
     void testStringToIntegerConvertEntryTypeProcessor() {
         Integer testValue = 123;
         when(mockConfig.getType()).thenReturn(TargetType.fromOptionValue("integer"));
-        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(testValue.toString());
         assertThat(event.get(TEST_KEY, Integer.class), equalTo(testValue));
     }
@@ -98,7 +102,7 @@ public class ConvertEntryTypeProcessorTests {
         int testValue = 1;
         Boolean testBooleanValue = true;
         when(mockConfig.getType()).thenReturn(TargetType.fromOptionValue("integer"));
-        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(testBooleanValue);
         assertThat(event.get(TEST_KEY, Integer.class), equalTo(testValue));
     }
@@ -109,7 +113,7 @@ public class ConvertEntryTypeProcessorTests {
         final List<String> tags = List.of("convert_failed");
         when(mockConfig.getType()).thenReturn(TargetType.fromOptionValue("string"));
         when(mockConfig.getTagsOnFailure()).thenReturn(tags);
-        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(testValue);
 
         assertThat(event.get(TEST_KEY, Object.class), equalTo(testValue));
@@ -121,7 +125,7 @@ public class ConvertEntryTypeProcessorTests {
     void testStringToDoubleConvertEntryTypeProcessor() {
         Double testValue = 123.123;
         when(mockConfig.getType()).thenReturn(TargetType.fromOptionValue("double"));
-        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(testValue.toString());
         assertThat(event.get(TEST_KEY, Double.class), equalTo(testValue));
     }
@@ -130,7 +134,7 @@ public class ConvertEntryTypeProcessorTests {
     void testLongToDoubleConvertEntryTypeProcessor() {
         Long testValue = (long)123;
         when(mockConfig.getType()).thenReturn(TargetType.fromOptionValue("double"));
-        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(testValue);
         assertThat(event.get(TEST_KEY, Double.class), equalTo((double)testValue));
     }
@@ -139,7 +143,7 @@ public class ConvertEntryTypeProcessorTests {
     void testStringToBooleanConvertEntryTypeProcessor() {
         Boolean testValue = false;
         when(mockConfig.getType()).thenReturn(TargetType.fromOptionValue("boolean"));
-        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(testValue.toString());
         assertThat(event.get(TEST_KEY, Boolean.class), equalTo(testValue));
     }
@@ -149,7 +153,7 @@ public class ConvertEntryTypeProcessorTests {
         Long testValue = (long)200;
         Boolean expectedValue = true;
         when(mockConfig.getType()).thenReturn(TargetType.fromOptionValue("boolean"));
-        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(testValue);
         assertThat(event.get(TEST_KEY, Boolean.class), equalTo(expectedValue));
     }
@@ -159,7 +163,7 @@ public class ConvertEntryTypeProcessorTests {
         Integer testValue = 200;
         String expectedValue = testValue.toString();
         when(mockConfig.getType()).thenReturn(TargetType.fromOptionValue("string"));
-        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(testValue);
         assertThat(event.get(TEST_KEY, String.class), equalTo(expectedValue));
     }
@@ -169,7 +173,7 @@ public class ConvertEntryTypeProcessorTests {
         Double testValue = (double)123.456;
         String expectedValue = testValue.toString();
         when(mockConfig.getType()).thenReturn(TargetType.fromOptionValue("string"));
-        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(testValue);
         assertThat(event.get(TEST_KEY, String.class), equalTo(expectedValue));
     }
@@ -179,7 +183,7 @@ public class ConvertEntryTypeProcessorTests {
         Boolean testValue = false;
         String expectedValue = testValue.toString();
         when(mockConfig.getType()).thenReturn(TargetType.fromOptionValue("string"));
-        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(testValue);
         assertThat(event.get(TEST_KEY, String.class), equalTo(expectedValue));
     }
@@ -190,7 +194,7 @@ public class ConvertEntryTypeProcessorTests {
         final List<String> tags = List.of("convert_failed");
         when(mockConfig.getType()).thenReturn(TargetType.fromOptionValue("integer"));
         when(mockConfig.getTagsOnFailure()).thenReturn(tags);
-        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(testDoubleValue);
 
         assertThat(event.get(TEST_KEY, Object.class), equalTo(123.789));
@@ -207,7 +211,7 @@ public class ConvertEntryTypeProcessorTests {
 
         final Record<Event> record = getMessage(UUID.randomUUID().toString(), TEST_KEY, testValue);
         when(expressionEvaluator.evaluateConditional(convertWhen, record.getData())).thenReturn(false);
-        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(record);
         assertThat(event.get(TEST_KEY, Integer.class), equalTo(testValue));
     }
@@ -226,7 +230,7 @@ public class ConvertEntryTypeProcessorTests {
         testData.put(testKey1, testValue);
         testData.put(testKey2, testValue);
         Record record = buildRecordWithEvent(testData);
-        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        typeConversionProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(record);
         assertThat(event.get(testKey1, String.class), equalTo(expectedValue));
         assertThat(event.get(testKey2, String.class), equalTo(expectedValue));
@@ -235,18 +239,18 @@ public class ConvertEntryTypeProcessorTests {
     @Test
     void testKeyAndKeysBothNullConvertEntryTypeProcessor() {
         when(mockConfig.getKey()).thenReturn(null);
-        assertThrows(IllegalArgumentException.class, () -> new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator));
+        assertThrows(IllegalArgumentException.class, () -> new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory));
     }
 
     @Test
     void testKeyAndKeysBothDefinedConvertEntryTypeProcessor() {
         when(mockConfig.getKeys()).thenReturn(Collections.singletonList(TEST_KEY));
-        assertThrows(IllegalArgumentException.class, () -> new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator));
+        assertThrows(IllegalArgumentException.class, () -> new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory));
     }
 
     @Test
     void testEmptyKeyConvertEntryTypeProcessor() {
         when(mockConfig.getKey()).thenReturn("");
-        assertThrows(IllegalArgumentException.class, () -> new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator));
+        assertThrows(IllegalArgumentException.class, () -> new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory));
     }
 }
@@ -8,7 +8,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.Collections;
@@ -39,6 +41,8 @@ public class ConvertEntryTypeProcessor_NullValueTests {
     @Mock
     private ExpressionEvaluator expressionEvaluator;
 
+    private final EventKeyFactory eventKeyFactory = new JacksonEventKeyFactory();
+
     private ConvertEntryTypeProcessor nullValuesProcessor;
 
     @BeforeEach
@@ -77,7 +81,7 @@ public class ConvertEntryTypeProcessor_NullValueTests {
     void testNoNullValues() {
         int testValue = 5432;
         when(mockConfig.getNullValues()).thenReturn(Optional.empty());
-        nullValuesProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        nullValuesProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(testValue);
         assertThat(event.get(TEST_KEY, Integer.class), equalTo(testValue));
     }
@@ -86,7 +90,7 @@ public class ConvertEntryTypeProcessor_NullValueTests {
     void testEmptyListNullValues() {
         int testValue = 5432;
         when(mockConfig.getNullValues()).thenReturn(Optional.of(List.of()));
-        nullValuesProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        nullValuesProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(testValue);
         assertThat(event.get(TEST_KEY, Integer.class), equalTo(testValue));
     }
@@ -95,7 +99,7 @@ public class ConvertEntryTypeProcessor_NullValueTests {
     void testOneElementNullValues() {
         String testValue = "-";
         when(mockConfig.getNullValues()).thenReturn(Optional.of(List.of("-")));
-        nullValuesProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        nullValuesProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(testValue);
         Object keyValue = event.get(TEST_KEY, Object.class);
         assertThat(keyValue, nullValue());
@@ -106,7 +110,7 @@ public class ConvertEntryTypeProcessor_NullValueTests {
         String testValue = "-";
         when(mockConfig.getNullValues()).thenReturn(Optional.of(List.of("-", "null")));
 
-        nullValuesProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        nullValuesProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(testValue);
         assertThat(event.get(TEST_KEY, Integer.class), nullValue());
 
@@ -132,7 +136,7 @@ public class ConvertEntryTypeProcessor_NullValueTests {
         testData.put(testKey1, testValue);
         testData.put(testKey2, testValue);
         Record record = buildRecordWithEvent(testData);
-        nullValuesProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        nullValuesProcessor = new ConvertEntryTypeProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
         Event event = executeAndGetProcessedEvent(record);
         assertThat(event.get(testKey1, String.class), nullValue());
         assertThat(event.get(testKey2, String.class), nullValue());
@@ -13,7 +13,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.Arrays;
@@ -41,6 +43,8 @@ public class CopyValueProcessorTests {
     @Mock
     private ExpressionEvaluator expressionEvaluator;
 
+    private final EventKeyFactory eventKeyFactory = new JacksonEventKeyFactory();
+
     @BeforeEach
     void setUp() {
         lenient().when(mockConfig.getFromList()).thenReturn(null);
@@ -296,7 +300,7 @@ public class CopyValueProcessorTests {
     }
 
     private CopyValueProcessor createObjectUnderTest() {
-        return new CopyValueProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        return new CopyValueProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
     }
 
     private CopyValueProcessorConfig.Entry createEntry(final String fromKey, final String toKey, final boolean overwriteIfToKeyExists, final String copyWhen) {
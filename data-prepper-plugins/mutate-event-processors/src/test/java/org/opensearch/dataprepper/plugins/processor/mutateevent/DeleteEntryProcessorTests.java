@@ -8,7 +8,9 @@ package org.opensearch.dataprepper.plugins.processor.mutateevent;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
 import org.opensearch.dataprepper.model.record.Record;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,6 +38,8 @@ public class DeleteEntryProcessorTests {
     @Mock
     private ExpressionEvaluator expressionEvaluator;
 
+    private final EventKeyFactory eventKeyFactory = new JacksonEventKeyFactory();
+
     @Test
     public void testSingleDeleteProcessorTest() {
         when(mockConfig.getWithKeys()).thenReturn(new String[] { "message" });
@@ -114,7 +118,7 @@ public class DeleteEntryProcessorTests {
     }
 
     private DeleteEntryProcessor createObjectUnderTest() {
-        return new DeleteEntryProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        return new DeleteEntryProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
     }
 
     private Record<Event> getEvent(String message) {
@@ -8,7 +8,9 @@ package org.opensearch.dataprepper.plugins.processor.mutateevent;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.JacksonEventKeyFactory;
 import org.opensearch.dataprepper.model.record.Record;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +41,8 @@ public class RenameKeyProcessorTests {
     @Mock
     private ExpressionEvaluator expressionEvaluator;
 
+    private final EventKeyFactory eventKeyFactory = new JacksonEventKeyFactory();
+
     @Test
     public void testSingleOverwriteRenameProcessorTests() {
         when(mockConfig.getEntries()).thenReturn(createListOfEntries(createEntry("message", "newMessage", true, null)));
@@ -132,7 +136,7 @@ public class RenameKeyProcessorTests {
     }
 
     private RenameKeyProcessor createObjectUnderTest() {
-        return new RenameKeyProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        return new RenameKeyProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
     }
 
     private RenameKeyProcessorConfig.Entry createEntry(final String fromKey, final String toKey, final boolean overwriteIfToKeyExists, final String renameWhen) {
@@ -0,0 +1,153 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.AccumulatingBulkRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Sends bulk requests on a dedicated thread pool so that sink workers can accumulate the next
+ * {@link AccumulatingBulkRequest} while earlier requests are in flight.
+ * <p>
+ * At most {@code maxInFlightBulkRequests} requests are in flight at once. A worker which submits a request while that
+ * limit is reached waits until an earlier request completes. This bounds the memory held by requests waiting to be
+ * sent and pushes back on the pipeline when the cluster is slower than the workers.
+ * <p>
+ * A worker waits for the requests it submitted for a batch with {@link #awaitCompletion(Collection)} before it returns
+ * the batch, so that the buffer is not checkpointed until the documents of the batch were sent.
+ */
+class BulkRequestPipeline {
+    static final String BULK_REQUESTS_IN_FLIGHT = "bulkRequestsInFlight";
+    private static final Logger LOG = LoggerFactory.getLogger(BulkRequestPipeline.class);
+
+    private final int maxInFlightBulkRequests;
+    private final Semaphore inFlightPermits;
+    private final Consumer<AccumulatingBulkRequest> sendFunction;
+    private final ExecutorService executorService;
+
+    /**
+     * @param maxInFlightBulkRequests maximum number of bulk requests in flight
+     * @param sendFunction sends one bulk request, including retries and handling of failed documents
+     * @param pluginMetrics metrics of the sink
+     * @param pipelineName name of the pipeline, used to name the threads
+     */
+    BulkRequestPipeline(final int maxInFlightBulkRequests,
+                        final Consumer<AccumulatingBulkRequest> sendFunction,
+                        final PluginMetrics pluginMetrics,
+                        final String pipelineName) {
+        this(maxInFlightBulkRequests, sendFunction, pluginMetrics,
+                Executors.newFixedThreadPool(maxInFlightBulkRequests, createThreadFactory(pipelineName)));
+    }
+
+    BulkRequestPipeline(final int maxInFlightBulkRequests,
+                        final Consumer<AccumulatingBulkRequest> sendFunction,
+                        final PluginMetrics pluginMetrics,
+                        final ExecutorService executorService) {
+        this.maxInFlightBulkRequests = maxInFlightBulkRequests;
+        this.inFlightPermits = new Semaphore(maxInFlightBulkRequests);
+        this.sendFunction = sendFunction;
+        this.executorService = executorService;
+
+        pluginMetrics.gauge(BULK_REQUESTS_IN_FLIGHT, this, BulkRequestPipeline::getInFlightCount);
+    }
+
+    /**
+     * Sends the bulk request asynchronously, waiting first for an in-flight slot if all slots are in use.
+     *
+     * @param bulkRequest the bulk request to send
+     * @return a future completed once the request was sent, including its retries
+     * @throws InterruptedException if interrupted while waiting for an in-flight slot. The request was not sent.
+     * @throws RejectedExecutionException if the pipeline was shut down. The request was not sent.
+     */
+    CompletableFuture<Void> submit(final AccumulatingBulkRequest bulkRequest) throws InterruptedException {
+        inFlightPermits.acquire();
+        final CompletableFuture<Void> sent = new CompletableFuture<>();
+        try {
+            executorService.execute(() -> send(bulkRequest, sent));
+        } catch (final RejectedExecutionException e) {
+            inFlightPermits.release();
+            throw e;
+        }
+        return sent;
+    }
+
+    /**
+     * Waits for the submitted requests to be sent.
+     *
+     * @param submittedRequests the futures returned by {@link #submit(AccumulatingBulkRequest)}
+     * @throws InterruptedException if interrupted while waiting. The requests are still sent.
+     */
+    void awaitCompletion(final Collection<CompletableFuture<Void>> submittedRequests) throws InterruptedException {
+        for (final CompletableFuture<Void> submittedRequest : submittedRequests) {
+            try {
+                submittedRequest.get();
+            } catch (final ExecutionException e) {
+                // send completes every future normally
+                LOG.error("Unexpected exception while waiting for a bulk request.", e);
+            }
+        }
+    }
+
+    private void send(final AccumulatingBulkRequest bulkRequest, final CompletableFuture<Void> sent) {
+        try {
+            sendFunction.accept(bulkRequest);
+        } catch (final Exception e) {
+            LOG.error("Unexpected exception while sending a bulk request to OpenSearch.", e);
+        } finally {
+            inFlightPermits.release();
+            sent.complete(null);
+        }
+    }
+
+    int getInFlightCount() {
+        return maxInFlightBulkRequests - inFlightPermits.availablePermits();
+    }
+
+    /**
+     * Stops accepting new requests and waits for the requests in flight to complete.
+     *
+     * @param timeout how long to wait for requests in flight
+     * @return true if all requests in flight completed within the timeout
+     */
+    boolean shutdown(final Duration timeout) {
+        executorService.shutdown();
+        try {
+            if (executorService.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LOG.warn("{} bulk requests were still in flight after waiting {} for them to complete.", getInFlightCount(), timeout);
+        executorService.shutdownNow();
+        return false;
+    }
+
+    private static ThreadFactory createThreadFactory(final String pipelineName) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable,
+                    String.format("%s-opensearch-sink-bulk-%d", pipelineName, threadNumber.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -72,6 +72,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -79,7 +81,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -95,6 +99,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
 
   private static final Logger LOG = LoggerFactory.getLogger(OpenSearchSink.class);
   private static final int INITIALIZE_RETRY_WAIT_TIME_MS = 5000;
+  private static final Duration BULK_REQUEST_PIPELINE_SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
   private final AwsCredentialsSupplier awsCredentialsSupplier;
 
   private DlqWriter dlqWriter;
@@ -108,6 +113,8 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   private BulkApiWrapper bulkApiWrapper;
   private final long bulkSize;
   private final long flushTimeout;
+  private final int maxInFlightBulkRequests;
+  private BulkRequestPipeline bulkRequestPipeline;
   private final IndexType indexType;
   private final String documentIdField;
   private final String documentId;
@@ -160,6 +167,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     this.openSearchSinkConfig = OpenSearchSinkConfiguration.readESConfig(pluginSetting, expressionEvaluator);
     this.bulkSize = ByteSizeUnit.MB.toBytes(openSearchSinkConfig.getIndexConfiguration().getBulkSize());
     this.flushTimeout = openSearchSinkConfig.getIndexConfiguration().getFlushTimeout();
+    this.maxInFlightBulkRequests = openSearchSinkConfig.getIndexConfiguration().getMaxInFlightBulkRequests();
     this.indexType = openSearchSinkConfig.getIndexConfiguration().getIndexType();
     this.documentIdField = openSearchSinkConfig.getIndexConfiguration().getDocumentIdField();
     this.documentId = openSearchSinkConfig.getIndexConfiguration().getDocumentId();
@@ -261,6 +269,10 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     maybeUpdateServerlessNetworkPolicy();
 
     objectMapper = new ObjectMapper();
+    if (maxInFlightBulkRequests > 1 && bulkRequestPipeline == null) {
+      bulkRequestPipeline = new BulkRequestPipeline(maxInFlightBulkRequests, this::sendBulkRequest,
+              pluginMetrics, pluginSetting.getPipelineName());
+    }
     this.initialized = true;
     LOG.info("Initialized OpenSearch sink");
   }
@@ -368,6 +380,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
 
     AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> bulkRequest = bulkRequestMap.get(threadId);
     long lastFlushTime = lastFlushTimeMap.get(threadId);
+    final List<CompletableFuture<Void>> submittedBulkRequests = new ArrayList<>();
 
     for (final Record<Event> record : records) {
       final Event event = record.getData();
@@ -443,7 +456,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
       BulkOperationWrapper bulkOperationWrapper = new BulkOperationWrapper(bulkOperation, event.getEventHandle(), serializedJsonNode);
       final long estimatedBytesBeforeAdd = bulkRequest.estimateSizeInBytesWithDocument(bulkOperationWrapper);
       if (bulkSize >= 0 && estimatedBytesBeforeAdd >= bulkSize && bulkRequest.getOperationsCount() > 0) {
-        flushBatch(bulkRequest);
+        flushBatch(bulkRequest, submittedBulkRequests);
         lastFlushTime = System.currentTimeMillis();
         bulkRequest = bulkRequestSupplier.get();
       }
@@ -452,13 +465,14 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
 
     // Flush the remaining requests if flush timeout expired
     if (System.currentTimeMillis() - lastFlushTime > flushTimeout && bulkRequest.getOperationsCount() > 0) {
-      flushBatch(bulkRequest);
+      flushBatch(bulkRequest, submittedBulkRequests);
       lastFlushTime = System.currentTimeMillis();
       bulkRequest = bulkRequestSupplier.get();
     }
 
     bulkRequestMap.put(threadId, bulkRequest);
     lastFlushTimeMap.put(threadId, lastFlushTime);
+    awaitSubmittedBulkRequests(submittedBulkRequests);
   }
 
   SerializedJson getDocument(final Event event) {
@@ -490,7 +504,39 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     return SerializedJson.fromStringAndOptionals(document, docId, routingValue);
   }
 
-  private void flushBatch(AccumulatingBulkRequest accumulatingBulkRequest) {
+  private void flushBatch(final AccumulatingBulkRequest accumulatingBulkRequest,
+                          final List<CompletableFuture<Void>> submittedBulkRequests) {
+    if (bulkRequestPipeline != null) {
+      try {
+        submittedBulkRequests.add(bulkRequestPipeline.submit(accumulatingBulkRequest));
+        return;
+      } catch (final InterruptedException e) {
+        LOG.warn("Interrupted while waiting for an in-flight bulk request to complete, sending the bulk request on the worker thread.");
+        Thread.currentThread().interrupt();
+      } catch (final RejectedExecutionException e) {
+        LOG.warn("The sink is shutting down, sending the bulk request on the worker thread.");
+      }
+    }
+    sendBulkRequest(accumulatingBulkRequest);
+  }
+
+  /**
+   * Waits for the bulk requests sent in the background for a batch, so that the batch is not checkpointed in the
+   * buffer before its documents were sent.
+   */
+  private void awaitSubmittedBulkRequests(final List<CompletableFuture<Void>> submittedBulkRequests) {
+    if (submittedBulkRequests.isEmpty()) {
+      return;
+    }
+    try {
+      bulkRequestPipeline.awaitCompletion(submittedBulkRequests);
+    } catch (final InterruptedException e) {
+      LOG.warn("Interrupted while waiting for {} bulk requests to complete.", submittedBulkRequests.size());
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void sendBulkRequest(final AccumulatingBulkRequest accumulatingBulkRequest) {
     bulkRequestTimer.record(() -> {
       try {
         LOG.debug("Sending data to OpenSearch");
@@ -579,6 +625,9 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   @Override
   public void shutdown() {
     super.shutdown();
+    if (bulkRequestPipeline != null) {
+      bulkRequestPipeline.shutdown(BULK_REQUEST_PIPELINE_SHUTDOWN_TIMEOUT);
+    }
     closeFiles();
   }
 
@@ -58,7 +58,8 @@ public class OpenSearchService {
                                                             final OpenSearchSourcePluginMetrics openSearchSourcePluginMetrics) {
         return new OpenSearchService(
                 searchAccessor, sourceCoordinator, openSearchSourceConfiguration, buffer, Executors.newSingleThreadScheduledExecutor(),
-                BufferAccumulator.create(buffer, openSearchSourceConfiguration.getSearchConfiguration().getBatchSize(), BUFFER_TIMEOUT),
+                BufferAccumulator.create(buffer, openSearchSourceConfiguration.getSearchConfiguration().getBatchSize(), BUFFER_TIMEOUT,
+                        openSearchSourcePluginMetrics.getPluginMetrics()),
                 acknowledgementSetManager, openSearchSourcePluginMetrics);
     }
 
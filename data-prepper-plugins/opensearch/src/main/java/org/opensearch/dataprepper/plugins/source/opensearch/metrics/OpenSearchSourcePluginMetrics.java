@@ -30,12 +30,14 @@ public class OpenSearchSourcePluginMetrics {
     private final DistributionSummary bytesProcessedSummary;
     private final Counter credentialsChangeCounter;
     private final Counter clientRefreshErrorsCounter;
+    private final PluginMetrics pluginMetrics;
 
     public static OpenSearchSourcePluginMetrics create(final PluginMetrics pluginMetrics) {
         return new OpenSearchSourcePluginMetrics(pluginMetrics);
     }
 
     private OpenSearchSourcePluginMetrics(final PluginMetrics pluginMetrics) {
+        this.pluginMetrics = pluginMetrics;
         documentsProcessedCounter = pluginMetrics.counter(DOCUMENTS_PROCESSED);
         indicesProcessedCounter = pluginMetrics.counter(INDICES_PROCESSED);
         processingErrorsCounter = pluginMetrics.counter(PROCESSING_ERRORS);
@@ -46,6 +48,10 @@ public class OpenSearchSourcePluginMetrics {
         clientRefreshErrorsCounter = pluginMetrics.counter(CLIENT_REFRESH_ERRORS);
     }
 
+    public PluginMetrics getPluginMetrics() {
+        return pluginMetrics;
+    }
+
     public Counter getDocumentsProcessedCounter() {
         return documentsProcessedCounter;
     }
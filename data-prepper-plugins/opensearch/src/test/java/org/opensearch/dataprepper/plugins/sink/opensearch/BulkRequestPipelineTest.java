@@ -0,0 +1,257 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.AccumulatingBulkRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BulkRequestPipelineTest {
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    private ExecutorService executorService;
+
+    @AfterEach
+    void tearDown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private BulkRequestPipeline createObjectUnderTest(final int maxInFlightBulkRequests,
+                                                      final Consumer<AccumulatingBulkRequest> sendFunction) {
+        executorService = Executors.newFixedThreadPool(maxInFlightBulkRequests);
+        return new BulkRequestPipeline(maxInFlightBulkRequests, sendFunction, pluginMetrics, executorService);
+    }
+
+    @Test
+    void submit_sends_bulk_request_on_another_thread() throws InterruptedException {
+        final List<AccumulatingBulkRequest> sentRequests = new CopyOnWriteArrayList<>();
+        final List<Thread> sendingThreads = new CopyOnWriteArrayList<>();
+        final BulkRequestPipeline objectUnderTest = createObjectUnderTest(2, request -> {
+            sendingThreads.add(Thread.currentThread());
+            sentRequests.add(request);
+        });
+        final AccumulatingBulkRequest bulkRequest = mock(AccumulatingBulkRequest.class);
+
+        objectUnderTest.submit(bulkRequest);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> sentRequests.size() == 1);
+        assertThat(sentRequests, contains(bulkRequest));
+        assertThat(sendingThreads.get(0) == Thread.currentThread(), equalTo(false));
+        await().atMost(Duration.ofSeconds(5)).until(() -> objectUnderTest.getInFlightCount() == 0);
+    }
+
+    @Test
+    void submit_waits_when_max_in_flight_bulk_requests_are_in_flight() throws InterruptedException {
+        final CountDownLatch releaseRequests = new CountDownLatch(1);
+        final List<AccumulatingBulkRequest> sentRequests = new CopyOnWriteArrayList<>();
+        final BulkRequestPipeline objectUnderTest = createObjectUnderTest(2, request -> {
+            try {
+                releaseRequests.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sentRequests.add(request);
+        });
+        final AccumulatingBulkRequest firstRequest = mock(AccumulatingBulkRequest.class);
+        final AccumulatingBulkRequest secondRequest = mock(AccumulatingBulkRequest.class);
+        final AccumulatingBulkRequest thirdRequest = mock(AccumulatingBulkRequest.class);
+
+        objectUnderTest.submit(firstRequest);
+        objectUnderTest.submit(secondRequest);
+        assertThat(objectUnderTest.getInFlightCount(), equalTo(2));
+
+        final AtomicBoolean thirdSubmitted = new AtomicBoolean();
+        final Thread submitter = new Thread(() -> {
+            try {
+                objectUnderTest.submit(thirdRequest);
+                thirdSubmitted.set(true);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        submitter.start();
+
+        Thread.sleep(100);
+        assertThat(thirdSubmitted.get(), equalTo(false));
+
+        releaseRequests.countDown();
+        submitter.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(thirdSubmitted.get(), equalTo(true));
+        await().atMost(Duration.ofSeconds(5)).until(() -> sentRequests.size() == 3);
+        assertThat(sentRequests, containsInAnyOrder(firstRequest, secondRequest, thirdRequest));
+    }
+
+    @Test
+    void submit_releases_in_flight_slot_and_completes_future_when_send_function_throws() throws Exception {
+        final BulkRequestPipeline objectUnderTest = createObjectUnderTest(1, request -> {
+            throw new RuntimeException();
+        });
+
+        objectUnderTest.submit(mock(AccumulatingBulkRequest.class));
+        final CompletableFuture<Void> sent = objectUnderTest.submit(mock(AccumulatingBulkRequest.class));
+
+        sent.get(5, TimeUnit.SECONDS);
+        await().atMost(Duration.ofSeconds(5)).until(() -> objectUnderTest.getInFlightCount() == 0);
+    }
+
+    @Test
+    void awaitCompletion_returns_once_all_submitted_requests_are_sent() throws InterruptedException {
+        final CountDownLatch releaseRequests = new CountDownLatch(1);
+        final List<AccumulatingBulkRequest> sentRequests = new CopyOnWriteArrayList<>();
+        final BulkRequestPipeline objectUnderTest = createObjectUnderTest(2, request -> {
+            try {
+                releaseRequests.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sentRequests.add(request);
+        });
+        final AccumulatingBulkRequest firstRequest = mock(AccumulatingBulkRequest.class);
+        final AccumulatingBulkRequest secondRequest = mock(AccumulatingBulkRequest.class);
+        final List<CompletableFuture<Void>> submittedRequests = List.of(
+                objectUnderTest.submit(firstRequest), objectUnderTest.submit(secondRequest));
+
+        final AtomicBoolean completed = new AtomicBoolean();
+        final Thread waiter = new Thread(() -> {
+            try {
+                objectUnderTest.awaitCompletion(submittedRequests);
+                completed.set(true);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+
+        Thread.sleep(100);
+        assertThat(completed.get(), equalTo(false));
+
+        releaseRequests.countDown();
+        waiter.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(completed.get(), equalTo(true));
+        assertThat(sentRequests, containsInAnyOrder(firstRequest, secondRequest));
+    }
+
+    @Test
+    void submit_after_shutdown_throws_and_releases_in_flight_slot() {
+        final BulkRequestPipeline objectUnderTest = createObjectUnderTest(1, request -> { });
+
+        assertThat(objectUnderTest.shutdown(Duration.ofSeconds(5)), equalTo(true));
+
+        assertThrows(RejectedExecutionException.class, () -> objectUnderTest.submit(mock(AccumulatingBulkRequest.class)));
+        assertThat(objectUnderTest.getInFlightCount(), equalTo(0));
+    }
+
+    @Test
+    void submit_with_rejecting_executor_throws_and_releases_in_flight_slot() {
+        final ExecutorService rejectingExecutorService = mock(ExecutorService.class);
+        doThrow(RejectedExecutionException.class).when(rejectingExecutorService).execute(any(Runnable.class));
+        final BulkRequestPipeline objectUnderTest = new BulkRequestPipeline(1, request -> { }, pluginMetrics, rejectingExecutorService);
+
+        assertThrows(RejectedExecutionException.class, () -> objectUnderTest.submit(mock(AccumulatingBulkRequest.class)));
+        assertThat(objectUnderTest.getInFlightCount(), equalTo(0));
+    }
+
+    @Test
+    void shutdown_waits_for_requests_in_flight() throws InterruptedException {
+        final CountDownLatch sendStarted = new CountDownLatch(1);
+        final List<AccumulatingBulkRequest> sentRequests = new CopyOnWriteArrayList<>();
+        final BulkRequestPipeline objectUnderTest = createObjectUnderTest(1, request -> {
+            sendStarted.countDown();
+            try {
+                Thread.sleep(200);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sentRequests.add(request);
+        });
+        final AccumulatingBulkRequest bulkRequest = mock(AccumulatingBulkRequest.class);
+
+        objectUnderTest.submit(bulkRequest);
+        sendStarted.await(5, TimeUnit.SECONDS);
+
+        assertThat(objectUnderTest.shutdown(Duration.ofSeconds(5)), equalTo(true));
+        assertThat(sentRequests, contains(bulkRequest));
+    }
+
+    @Test
+    void shutdown_returns_false_when_requests_do_not_complete_within_timeout() throws InterruptedException {
+        final CountDownLatch sendStarted = new CountDownLatch(1);
+        final CountDownLatch neverReleased = new CountDownLatch(1);
+        final BulkRequestPipeline objectUnderTest = createObjectUnderTest(1, request -> {
+            sendStarted.countDown();
+            try {
+                neverReleased.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        objectUnderTest.submit(mock(AccumulatingBulkRequest.class));
+        sendStarted.await(5, TimeUnit.SECONDS);
+
+        assertThat(objectUnderTest.shutdown(Duration.ofMillis(50)), equalTo(false));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void constructor_registers_in_flight_gauge() throws InterruptedException {
+        final CountDownLatch releaseRequests = new CountDownLatch(1);
+        final BulkRequestPipeline objectUnderTest = createObjectUnderTest(3, request -> {
+            try {
+                releaseRequests.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        final ArgumentCaptor<ToDoubleFunction<BulkRequestPipeline>> gaugeFunctionCaptor = ArgumentCaptor.forClass(ToDoubleFunction.class);
+        final ArgumentCaptor<BulkRequestPipeline> gaugeObjectCaptor = ArgumentCaptor.forClass(BulkRequestPipeline.class);
+        verify(pluginMetrics).gauge(eq(BulkRequestPipeline.BULK_REQUESTS_IN_FLIGHT), gaugeObjectCaptor.capture(), gaugeFunctionCaptor.capture());
+        assertThat(gaugeObjectCaptor.getValue(), sameInstance(objectUnderTest));
+
+        objectUnderTest.submit(mock(AccumulatingBulkRequest.class));
+        objectUnderTest.submit(mock(AccumulatingBulkRequest.class));
+
+        assertThat(gaugeFunctionCaptor.getValue().applyAsDouble(objectUnderTest), equalTo(2.0));
+        releaseRequests.countDown();
+    }
+}
@@ -385,6 +385,33 @@ public class IndexConfigurationTests {
         assertEquals(testIdField, indexConfiguration.getDocumentId());
     }
 
+    @Test
+    public void testReadIndexConfig_maxInFlightBulkRequestsDefault() {
+        final Map<String, Object> metadata = initializeConfigMetaData(
+                null, "foo", null, null, null, null, null);
+        final IndexConfiguration indexConfiguration = IndexConfiguration.readIndexConfig(getPluginSetting(metadata));
+        assertEquals(IndexConfiguration.DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS, indexConfiguration.getMaxInFlightBulkRequests());
+    }
+
+    @Test
+    public void testReadIndexConfig_maxInFlightBulkRequests() {
+        final Map<String, Object> metadata = initializeConfigMetaData(
+                null, "foo", null, null, null, null, null);
+        metadata.put(IndexConfiguration.MAX_IN_FLIGHT_BULK_REQUESTS, 4);
+        final IndexConfiguration indexConfiguration = IndexConfiguration.readIndexConfig(getPluginSetting(metadata));
+        assertEquals(4, indexConfiguration.getMaxInFlightBulkRequests());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    public void testReadIndexConfig_invalidMaxInFlightBulkRequests(final int maxInFlightBulkRequests) {
+        final Map<String, Object> metadata = initializeConfigMetaData(
+                null, "foo", null, null, null, null, null);
+        metadata.put(IndexConfiguration.MAX_IN_FLIGHT_BULK_REQUESTS, maxInFlightBulkRequests);
+        final PluginSetting pluginSetting = getPluginSetting(metadata);
+        assertThrows(IllegalArgumentException.class, () -> IndexConfiguration.readIndexConfig(pluginSetting));
+    }
+
     @Test
     public void testReadIndexConfig_ExplicitCustomIndexType() {
         final String defaultTemplateFilePath = Objects.requireNonNull(
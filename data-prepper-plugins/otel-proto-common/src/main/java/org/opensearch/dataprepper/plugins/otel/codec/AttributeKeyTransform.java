@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Replaces '.' with '@' in an attribute key and adds an optional prefix.
+ * <p>
+ * The same few attribute keys are sent with nearly every span, log and metric, so the transformed
+ * keys are cached. The cache stops growing once it holds {@link #MAX_CACHED_KEYS} keys, after which
+ * keys which are not cached are transformed on each call.
+ */
+class AttributeKeyTransform implements Function<String, String> {
+    static final int MAX_CACHED_KEYS = 10_000;
+    private static final char DOT = '.';
+    private static final char AT = '@';
+
+    private final String prefix;
+    private final Map<String, String> transformedKeys = new ConcurrentHashMap<>();
+
+    /**
+     * @param prefix the prefix of the transformed keys, including its separator, or an empty string
+     */
+    AttributeKeyTransform(final String prefix) {
+        this.prefix = prefix;
+    }
+
+    @Override
+    public String apply(final String key) {
+        final String cachedKey = transformedKeys.get(key);
+        if (cachedKey != null) {
+            return cachedKey;
+        }
+        final String transformedKey = prefix + key.replace(DOT, AT);
+        if (transformedKeys.size() < MAX_CACHED_KEYS) {
+            transformedKeys.putIfAbsent(key, transformedKey);
+        }
+        return transformedKey;
+    }
+
+    int cachedKeyCount() {
+        return transformedKeys.size();
+    }
+}
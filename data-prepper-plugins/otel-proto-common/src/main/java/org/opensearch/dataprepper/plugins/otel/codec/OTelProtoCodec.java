@@ -7,6 +7,9 @@ package org.opensearch.dataprepper.plugins.otel.codec;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.protobuf.ByteString;
 import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
 import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceRequest;
@@ -85,6 +88,11 @@ public class OTelProtoCodec {
 
     private static final ObjectMapper OBJECT_MAPPER =  new ObjectMapper();
     private static final long NANO_MULTIPLIER = 1_000 * 1_000 * 1_000;
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long DAYS_PER_ERA = 146_097;
+    private static final long DAYS_FROM_ERA_START_TO_EPOCH = 719_468;
+    private static final int[] FRACTION_DIVISORS = {1_000_000_000, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1};
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
     protected static final String SERVICE_NAME = "service.name";
     protected static final String SPAN_ATTRIBUTES = "span.attributes";
     static final String RESOURCE_ATTRIBUTES = "resource.attributes";
@@ -98,25 +106,24 @@ public class OTelProtoCodec {
      * To make it OpenSearch friendly we will replace '.' in keys with '@' in all the Keys in {@link io.opentelemetry.proto.common.v1.KeyValue}
      */
     private static final String DOT = ".";
-    private static final String AT = "@";
     private static final String LOG_ATTRIBUTES = "log.attributes";
     private static final String METRIC_ATTRIBUTES = "metric.attributes";
     private static final String EXEMPLAR_ATTRIBUTES = "exemplar.attributes";
     static final String INSTRUMENTATION_SCOPE_NAME = "instrumentationScope.name";
     static final String INSTRUMENTATION_SCOPE_VERSION = "instrumentationScope.version";
 
-    public static final Function<String, String> REPLACE_DOT_WITH_AT = i -> i.replace(DOT, AT);
+    public static final Function<String, String> REPLACE_DOT_WITH_AT = new AttributeKeyTransform("");
     /**
      * Span and Resource attributes are essential for OpenSearch so they should not be nested. SO we will prefix them with "span.attributes"
      * and "resource.attributes".
      *
      */
-    public static final Function<String, String> SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> SPAN_ATTRIBUTES + DOT + i.replace(DOT, AT);
-    public static final Function<String, String> RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> RESOURCE_ATTRIBUTES + DOT + i.replace(DOT, AT);
-    public static final Function<String, String> PREFIX_AND_LOG_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> LOG_ATTRIBUTES + DOT + i.replace(DOT, AT);
-    public static final Function<String, String> PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> METRIC_ATTRIBUTES + DOT + i.replace(DOT, AT);
-    public static final Function<String, String> PREFIX_AND_RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> RESOURCE_ATTRIBUTES + DOT + i.replace(DOT, AT);
-    public static final Function<String, String> PREFIX_AND_EXEMPLAR_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> EXEMPLAR_ATTRIBUTES + DOT + i.replace(DOT, AT);
+    public static final Function<String, String> SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT = new AttributeKeyTransform(SPAN_ATTRIBUTES + DOT);
+    public static final Function<String, String> RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT = new AttributeKeyTransform(RESOURCE_ATTRIBUTES + DOT);
+    public static final Function<String, String> PREFIX_AND_LOG_ATTRIBUTES_REPLACE_DOT_WITH_AT = new AttributeKeyTransform(LOG_ATTRIBUTES + DOT);
+    public static final Function<String, String> PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT = new AttributeKeyTransform(METRIC_ATTRIBUTES + DOT);
+    public static final Function<String, String> PREFIX_AND_RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT = new AttributeKeyTransform(RESOURCE_ATTRIBUTES + DOT);
+    public static final Function<String, String> PREFIX_AND_EXEMPLAR_ATTRIBUTES_REPLACE_DOT_WITH_AT = new AttributeKeyTransform(EXEMPLAR_ATTRIBUTES + DOT);
 
     private static final Map<BoundsKey, double[]> EXPONENTIAL_BUCKET_BOUNDS = new ConcurrentHashMap<>();
 
@@ -152,8 +159,58 @@ public class OTelProtoCodec {
             return Objects.hash(scale, sign);
         }
     }
+    /**
+     * Formats nanoseconds since the epoch the way {@link Instant#toString()} does, without creating an
+     * {@link Instant} or going through a {@link java.time.format.DateTimeFormatter}. The fraction of the
+     * second is omitted when it is zero and is otherwise printed with 3, 6 or 9 digits.
+     *
+     * @param unixNano nanoseconds since the epoch
+     * @return the ISO-8601 representation in UTC
+     */
     public static String convertUnixNanosToISO8601(final long unixNano) {
-        return Instant.ofEpochSecond(0L, unixNano).toString();
+        final long epochSecond = Math.floorDiv(unixNano, NANO_MULTIPLIER);
+        final int nano = (int) Math.floorMod(unixNano, NANO_MULTIPLIER);
+        final long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        final int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+        // Converts the day to a proleptic Gregorian date using eras of 400 years starting on March 1st.
+        final long shiftedDay = epochDay + DAYS_FROM_ERA_START_TO_EPOCH;
+        final long era = Math.floorDiv(shiftedDay, DAYS_PER_ERA);
+        final int dayOfEra = (int) (shiftedDay - era * DAYS_PER_ERA);
+        final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        final int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        final int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        final long year = era * 400 + yearOfEra + (month <= 2 ? 1 : 0);
+
+        final int fractionDigits = nano == 0 ? 0 : nano % 1_000_000 == 0 ? 3 : nano % 1_000 == 0 ? 6 : 9;
+        final char[] chars = new char[fractionDigits == 0 ? 20 : 21 + fractionDigits];
+        writeDigits(chars, 0, (int) year, 4);
+        chars[4] = '-';
+        writeDigits(chars, 5, month, 2);
+        chars[7] = '-';
+        writeDigits(chars, 8, day, 2);
+        chars[10] = 'T';
+        writeDigits(chars, 11, secondOfDay / 3600, 2);
+        chars[13] = ':';
+        writeDigits(chars, 14, secondOfDay / 60 % 60, 2);
+        chars[16] = ':';
+        writeDigits(chars, 17, secondOfDay % 60, 2);
+        if (fractionDigits > 0) {
+            chars[19] = '.';
+            writeDigits(chars, 20, nano / FRACTION_DIVISORS[fractionDigits], fractionDigits);
+        }
+        chars[chars.length - 1] = 'Z';
+        return new String(chars);
+    }
+
+    private static void writeDigits(final char[] chars, final int offset, final int value, final int digits) {
+        int remaining = value;
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
     }
 
     public static long timeISO8601ToNanos(final String timeISO08601) {
@@ -355,12 +412,12 @@ public class OTelProtoCodec {
         private <T> List<Span> parseSpans(final List<io.opentelemetry.proto.trace.v1.Span> spans, final T scope,
                                           final Function<T, Map<String, Object>> scopeAttributesGetter,
                                           final String serviceName, final Map<String, Object> resourceAttributes) {
-            return spans.stream()
-                    .map(span -> {
-                        final Map<String, Object> scopeAttributes = scopeAttributesGetter.apply(scope);
-                        return parseSpan(span, scopeAttributes, serviceName, resourceAttributes);
-                    })
-                    .collect(Collectors.toList());
+            final Map<String, Object> scopeAttributes = scopeAttributesGetter.apply(scope);
+            final List<Span> parsedSpans = new ArrayList<>(spans.size());
+            for (final io.opentelemetry.proto.trace.v1.Span span : spans) {
+                parsedSpans.add(parseSpan(span, scopeAttributes, serviceName, resourceAttributes));
+            }
+            return parsedSpans;
         }
 
         protected List<OpenTelemetryLog> processLogsList(final List<LogRecord> logsList,
@@ -392,37 +449,89 @@ public class OTelProtoCodec {
                     .collect(Collectors.toList());
         }
 
+        /**
+         * Writes the span directly into the JSON object of a {@link JacksonSpan}, without building maps, span events,
+         * links and trace group fields which would be converted to JSON again. The object has the same fields as one
+         * built from those model objects.
+         */
         protected Span parseSpan(final io.opentelemetry.proto.trace.v1.Span sp, final Map<String, Object> instrumentationScopeAttributes,
                                      final String serviceName, final Map<String, Object> resourceAttributes) {
+            final ObjectNode spanNode = JsonNodeFactory.instance.objectNode();
+            spanNode.put("spanId", convertByteStringToString(sp.getSpanId()));
+            spanNode.put("traceId", convertByteStringToString(sp.getTraceId()));
+            spanNode.put("traceState", sp.getTraceState());
+            spanNode.put("parentSpanId", convertByteStringToString(sp.getParentSpanId()));
+            spanNode.put("name", sp.getName());
+            spanNode.put("serviceName", serviceName);
+            spanNode.put("kind", sp.getKind().name());
+            spanNode.put("startTime", getStartTimeISO8601(sp));
+            spanNode.put("endTime", getEndTimeISO8601(sp));
+
+            final ObjectNode attributesNode = spanNode.putObject("attributes");
+            putAttributes(attributesNode, sp.getAttributesList(), SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+            putAttributes(attributesNode, resourceAttributes);
+            putAttributes(attributesNode, instrumentationScopeAttributes);
+            putAttributes(attributesNode, getSpanStatusAttributes(sp.getStatus()));
+            spanNode.put("droppedAttributesCount", sp.getDroppedAttributesCount());
+
+            final ArrayNode eventsNode = spanNode.putArray("events");
+            for (final io.opentelemetry.proto.trace.v1.Span.Event event : sp.getEventsList()) {
+                putSpanEvent(eventsNode.addObject(), event);
+            }
+            spanNode.put("droppedEventsCount", sp.getDroppedEventsCount());
+
+            final ArrayNode linksNode = spanNode.putArray("links");
+            for (final io.opentelemetry.proto.trace.v1.Span.Link link : sp.getLinksList()) {
+                putLink(linksNode.addObject(), link);
+            }
+            spanNode.put("droppedLinksCount", sp.getDroppedLinksCount());
+
+            spanNode.put("traceGroup", getTraceGroup(sp));
+            spanNode.put("durationInNanos", sp.getEndTimeUnixNano() - sp.getStartTimeUnixNano());
+            final ObjectNode traceGroupFieldsNode = spanNode.putObject("traceGroupFields");
+            if (sp.getParentSpanId().isEmpty()) {
+                traceGroupFieldsNode.put("endTime", getEndTimeISO8601(sp));
+                traceGroupFieldsNode.put("durationInNanos", sp.getEndTimeUnixNano() - sp.getStartTimeUnixNano());
+                traceGroupFieldsNode.put("statusCode", sp.getStatus().getCodeValue());
+            } else {
+                traceGroupFieldsNode.putNull("endTime");
+                traceGroupFieldsNode.putNull("durationInNanos");
+                traceGroupFieldsNode.putNull("statusCode");
+            }
+
             return JacksonSpan.builder()
-                    .withSpanId(convertByteStringToString(sp.getSpanId()))
-                    .withTraceId(convertByteStringToString(sp.getTraceId()))
-                    .withTraceState(sp.getTraceState())
-                    .withParentSpanId(convertByteStringToString(sp.getParentSpanId()))
-                    .withName(sp.getName())
-                    .withServiceName(serviceName)
-                    .withKind(sp.getKind().name())
-                    .withStartTime(getStartTimeISO8601(sp))
-                    .withEndTime(getEndTimeISO8601(sp))
-                    .withAttributes(mergeAllAttributes(
-                            Arrays.asList(
-                                    getSpanAttributes(sp),
-                                    resourceAttributes,
-                                    instrumentationScopeAttributes,
-                                    getSpanStatusAttributes(sp.getStatus())
-                            )
-                    ))
-                    .withDroppedAttributesCount(sp.getDroppedAttributesCount())
-                    .withEvents(sp.getEventsList().stream().map(this::getSpanEvent).collect(Collectors.toList()))
-                    .withDroppedEventsCount(sp.getDroppedEventsCount())
-                    .withLinks(sp.getLinksList().stream().map(this::getLink).collect(Collectors.toList()))
-                    .withDroppedLinksCount(sp.getDroppedLinksCount())
-                    .withTraceGroup(getTraceGroup(sp))
-                    .withDurationInNanos(sp.getEndTimeUnixNano() - sp.getStartTimeUnixNano())
-                    .withTraceGroupFields(getTraceGroupFields(sp))
+                    .withJsonData(spanNode)
                     .build();
         }
 
+        private void putSpanEvent(final ObjectNode eventNode, final io.opentelemetry.proto.trace.v1.Span.Event event) {
+            eventNode.put("name", requireNonEmpty(event.getName(), "name cannot be an empty string"));
+            eventNode.put("time", getTimeISO8601(event));
+            putAttributes(eventNode.putObject("attributes"), event.getAttributesList(), REPLACE_DOT_WITH_AT);
+            eventNode.put("droppedAttributesCount", event.getDroppedAttributesCount());
+        }
+
+        private void putLink(final ObjectNode linkNode, final io.opentelemetry.proto.trace.v1.Span.Link link) {
+            linkNode.put("traceId", requireNonEmpty(convertByteStringToString(link.getTraceId()), "traceId cannot be an empty string"));
+            linkNode.put("spanId", requireNonEmpty(convertByteStringToString(link.getSpanId()), "spanId cannot be an empty String"));
+            linkNode.put("traceState", link.getTraceState());
+            putAttributes(linkNode.putObject("attributes"), link.getAttributesList(), REPLACE_DOT_WITH_AT);
+            linkNode.put("droppedAttributesCount", link.getDroppedAttributesCount());
+        }
+
+        private void putAttributes(final ObjectNode attributesNode, final List<KeyValue> attributesList,
+                                   final Function<String, String> keyTransform) {
+            for (final KeyValue keyValue : attributesList) {
+                putUniqueAttribute(attributesNode, keyTransform.apply(keyValue.getKey()), convertAnyValue(keyValue.getValue()));
+            }
+        }
+
+        private void putAttributes(final ObjectNode attributesNode, final Map<String, Object> attributes) {
+            for (final Map.Entry<String, Object> entry : attributes.entrySet()) {
+                putUniqueAttribute(attributesNode, entry.getKey(), entry.getValue());
+            }
+        }
+
         protected Object convertAnyValue(final AnyValue value) {
             switch (value.getValueCase()) {
                 case VALUE_NOT_SET:
@@ -460,9 +569,7 @@ public class OTelProtoCodec {
         }
 
         protected Map<String, Object> mergeAllAttributes(final Collection<Map<String, Object>> attributes) {
-            return attributes.stream()
-                    .flatMap(map -> map.entrySet().stream())
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            return OTelProtoCodec.mergeAllAttributes(attributes);
         }
 
         protected SpanEvent getSpanEvent(final io.opentelemetry.proto.trace.v1.Span.Event event) {
@@ -485,19 +592,19 @@ public class OTelProtoCodec {
         }
 
         protected Map<String, Object> getSpanAttributes(final io.opentelemetry.proto.trace.v1.Span span) {
-            return span.getAttributesList().stream().collect(Collectors.toMap(i -> SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+            return convertAttributes(span.getAttributesList(), SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT, this::convertAnyValue);
         }
 
         protected Map<String, Object> getResourceAttributes(final Resource resource) {
-            return resource.getAttributesList().stream().collect(Collectors.toMap(i -> RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+            return convertAttributes(resource.getAttributesList(), RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT, this::convertAnyValue);
         }
 
         protected Map<String, Object> getLinkAttributes(final io.opentelemetry.proto.trace.v1.Span.Link link) {
-            return link.getAttributesList().stream().collect(Collectors.toMap(i -> REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+            return convertAttributes(link.getAttributesList(), REPLACE_DOT_WITH_AT, this::convertAnyValue);
         }
 
         protected Map<String, Object> getEventAttributes(final io.opentelemetry.proto.trace.v1.Span.Event event) {
-            return event.getAttributesList().stream().collect(Collectors.toMap(i -> REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+            return convertAttributes(event.getAttributesList(), REPLACE_DOT_WITH_AT, this::convertAnyValue);
         }
 
         /**
@@ -1066,8 +1173,7 @@ public class OTelProtoCodec {
      * @return A Map containing all attributes of `numberDataPoint` with keys converted into an OS-friendly format
      */
     public static Map<String, Object> convertKeysOfDataPointAttributes(final NumberDataPoint numberDataPoint) {
-        return numberDataPoint.getAttributesList().stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return convertAttributes(numberDataPoint.getAttributesList(), PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT, OTelProtoCodec::convertAnyValue);
     }
 
     /**
@@ -1079,8 +1185,7 @@ public class OTelProtoCodec {
      * @return A Map containing unpacked {@link KeyValue} data
      */
     public static Map<String, Object> unpackKeyValueList(List<KeyValue> attributesList) {
-        return attributesList.stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return convertAttributes(attributesList, PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT, OTelProtoCodec::convertAnyValue);
     }
 
     /**
@@ -1092,8 +1197,7 @@ public class OTelProtoCodec {
      * @return A Map containing unpacked {@link KeyValue} data
      */
     public static Map<String, Object> unpackKeyValueListLog(List<KeyValue> attributesList) {
-        return attributesList.stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_LOG_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return convertAttributes(attributesList, PREFIX_AND_LOG_ATTRIBUTES_REPLACE_DOT_WITH_AT, OTelProtoCodec::convertAnyValue);
     }
 
 
@@ -1106,8 +1210,7 @@ public class OTelProtoCodec {
      * @return A Map containing unpacked {@link KeyValue} data
      */
     public static Map<String, Object> unpackExemplarValueList(List<KeyValue> attributesList) {
-        return attributesList.stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_EXEMPLAR_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return convertAttributes(attributesList, PREFIX_AND_EXEMPLAR_ATTRIBUTES_REPLACE_DOT_WITH_AT, OTelProtoCodec::convertAnyValue);
     }
 
 
@@ -1148,8 +1251,7 @@ public class OTelProtoCodec {
     }
 
     public static Map<String, Object> getResourceAttributes(final Resource resource) {
-        return resource.getAttributesList().stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return convertAttributes(resource.getAttributesList(), PREFIX_AND_RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT, OTelProtoCodec::convertAnyValue);
     }
 
     /**
@@ -1204,9 +1306,73 @@ public class OTelProtoCodec {
 
 
     public static Map<String, Object> mergeAllAttributes(final Collection<Map<String, Object>> attributes) {
-        return attributes.stream()
-                .flatMap(map -> map.entrySet().stream())
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        int size = 0;
+        for (final Map<String, Object> map : attributes) {
+            size += map.size();
+        }
+        final Map<String, Object> mergedAttributes = new HashMap<>(capacityFor(size));
+        for (final Map<String, Object> map : attributes) {
+            for (final Map.Entry<String, Object> entry : map.entrySet()) {
+                putUniqueAttribute(mergedAttributes, entry.getKey(), entry.getValue());
+            }
+        }
+        return mergedAttributes;
+    }
+
+    /**
+     * Converts a list of {@link KeyValue} into a map in a single pass, without streams.
+     * Like {@link Collectors#toMap(Function, Function)}, a duplicate key is rejected.
+     */
+    static Map<String, Object> convertAttributes(final List<KeyValue> attributesList,
+                                                 final Function<String, String> keyTransform,
+                                                 final Function<AnyValue, Object> valueConverter) {
+        final Map<String, Object> attributes = new HashMap<>(capacityFor(attributesList.size()));
+        for (final KeyValue keyValue : attributesList) {
+            putUniqueAttribute(attributes, keyTransform.apply(keyValue.getKey()), valueConverter.apply(keyValue.getValue()));
+        }
+        return attributes;
+    }
+
+    private static void putUniqueAttribute(final Map<String, Object> attributes, final String key, final Object value) {
+        final Object existingValue = attributes.putIfAbsent(key, Objects.requireNonNull(value));
+        if (existingValue != null) {
+            throw new IllegalStateException(String.format("Duplicate key %s (attempted merging values %s and %s)", key, existingValue, value));
+        }
+    }
+
+    /**
+     * Like {@link #putUniqueAttribute(Map, String, Object)}, adds an attribute to a JSON object and rejects a
+     * duplicate key. The values produced by {@link #convertAnyValue(AnyValue)} are added without a mapper.
+     */
+    private static void putUniqueAttribute(final ObjectNode attributesNode, final String key, final Object value) {
+        Objects.requireNonNull(value);
+        if (attributesNode.has(key)) {
+            throw new IllegalStateException(String.format("Duplicate key %s (attempted merging values %s and %s)", key, attributesNode.get(key), value));
+        }
+        if (value instanceof String) {
+            attributesNode.put(key, (String) value);
+        } else if (value instanceof Long) {
+            attributesNode.put(key, (Long) value);
+        } else if (value instanceof Integer) {
+            attributesNode.put(key, (Integer) value);
+        } else if (value instanceof Double) {
+            attributesNode.put(key, (Double) value);
+        } else if (value instanceof Boolean) {
+            attributesNode.put(key, (Boolean) value);
+        } else {
+            attributesNode.set(key, OBJECT_MAPPER.valueToTree(value));
+        }
+    }
+
+    private static String requireNonEmpty(final String value, final String message) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException(message);
+        }
+        return value;
+    }
+
+    private static int capacityFor(final int size) {
+        return (int) (size / 0.75f) + 1;
     }
 
 
@@ -1345,6 +1511,13 @@ public class OTelProtoCodec {
     }
 
     public static String convertByteStringToString(ByteString bs) {
-        return Hex.encodeHexString(bs.toByteArray());
+        final int size = bs.size();
+        final char[] chars = new char[size * 2];
+        for (int i = 0; i < size; i++) {
+            final int value = bs.byteAt(i) & 0xFF;
+            chars[2 * i] = HEX_DIGITS[value >>> 4];
+            chars[2 * i + 1] = HEX_DIGITS[value & 0x0F];
+        }
+        return new String(chars);
     }
 }
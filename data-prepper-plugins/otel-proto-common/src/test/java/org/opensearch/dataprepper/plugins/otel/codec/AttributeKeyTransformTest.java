@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class AttributeKeyTransformTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "'', service.name, service@name",
+            "'', name, name",
+            "span.attributes., http.status.code, span.attributes.http@status@code",
+            "span.attributes., '', span.attributes."
+    })
+    void apply_returns_prefixed_key_with_dots_replaced(final String prefix, final String key, final String expectedKey) {
+        assertThat(new AttributeKeyTransform(prefix).apply(key), equalTo(expectedKey));
+    }
+
+    @Test
+    void apply_returns_cached_key_for_repeated_key() {
+        final AttributeKeyTransform objectUnderTest = new AttributeKeyTransform("resource.attributes.");
+
+        final String transformedKey = objectUnderTest.apply("service.name");
+
+        assertThat(objectUnderTest.apply("service.name"), sameInstance(transformedKey));
+        assertThat(objectUnderTest.cachedKeyCount(), equalTo(1));
+    }
+
+    @Test
+    void apply_stops_caching_when_cache_is_full() {
+        final AttributeKeyTransform objectUnderTest = new AttributeKeyTransform("");
+        for (int i = 0; i < AttributeKeyTransform.MAX_CACHED_KEYS + 10; i++) {
+            assertThat(objectUnderTest.apply("key." + i), equalTo("key@" + i));
+        }
+
+        assertThat(objectUnderTest.cachedKeyCount(), equalTo(AttributeKeyTransform.MAX_CACHED_KEYS));
+    }
+}
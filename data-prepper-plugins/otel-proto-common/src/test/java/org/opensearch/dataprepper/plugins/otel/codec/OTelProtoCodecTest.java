@@ -33,6 +33,8 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.model.log.OpenTelemetryLog;
 import org.opensearch.dataprepper.model.metric.Bucket;
 import org.opensearch.dataprepper.model.metric.Metric;
@@ -303,6 +305,73 @@ public class OTelProtoCodecTest {
             assertThat(result.getTraceState(), equalTo(testTraceState));
         }
 
+        @Test
+        public void testParseSpanWritesTheSameDataAsTheSpanModel() throws IOException {
+            final ExportTraceServiceRequest exportTraceServiceRequest = buildExportTraceServiceRequestFromJsonFile(TEST_REQUEST_TRACE_JSON_FILE);
+            final ResourceSpans resourceSpans = exportTraceServiceRequest.getResourceSpans(0);
+            final ScopeSpans scopeSpans = resourceSpans.getScopeSpans(0);
+            final KeyValue attribute = KeyValue.newBuilder().setKey("test.key")
+                    .setValue(AnyValue.newBuilder().setIntValue(RANDOM.nextInt()).build()).build();
+            final io.opentelemetry.proto.trace.v1.Span sp = scopeSpans.getSpans(0).toBuilder()
+                    .addEvents(io.opentelemetry.proto.trace.v1.Span.Event.newBuilder()
+                            .setName("test event")
+                            .setTimeUnixNano(TIME)
+                            .setDroppedAttributesCount(1)
+                            .addAttributes(attribute))
+                    .addLinks(io.opentelemetry.proto.trace.v1.Span.Link.newBuilder()
+                            .setTraceId(ByteString.copyFrom(getRandomBytes(16)))
+                            .setSpanId(ByteString.copyFrom(getRandomBytes(8)))
+                            .setTraceState("test state")
+                            .addAttributes(attribute))
+                    .build();
+            final String serviceName = decoderUnderTest.getServiceName(resourceSpans.getResource()).orElse(null);
+            final Map<String, Object> resourceAttributes = decoderUnderTest.getResourceAttributes(resourceSpans.getResource());
+            final Map<String, Object> scopeAttributes = OTelProtoCodec.getInstrumentationScopeAttributes(scopeSpans.getScope());
+
+            final Span span = decoderUnderTest.parseSpan(sp, scopeAttributes, serviceName, resourceAttributes);
+
+            final Span expectedSpan = JacksonSpan.builder()
+                    .withSpanId(OTelProtoCodec.convertByteStringToString(sp.getSpanId()))
+                    .withTraceId(OTelProtoCodec.convertByteStringToString(sp.getTraceId()))
+                    .withTraceState(sp.getTraceState())
+                    .withParentSpanId(OTelProtoCodec.convertByteStringToString(sp.getParentSpanId()))
+                    .withName(sp.getName())
+                    .withServiceName(serviceName)
+                    .withKind(sp.getKind().name())
+                    .withStartTime(decoderUnderTest.getStartTimeISO8601(sp))
+                    .withEndTime(decoderUnderTest.getEndTimeISO8601(sp))
+                    .withAttributes(decoderUnderTest.mergeAllAttributes(Arrays.asList(
+                            decoderUnderTest.getSpanAttributes(sp),
+                            resourceAttributes,
+                            scopeAttributes,
+                            decoderUnderTest.getSpanStatusAttributes(sp.getStatus()))))
+                    .withDroppedAttributesCount(sp.getDroppedAttributesCount())
+                    .withEvents(sp.getEventsList().stream().map(decoderUnderTest::getSpanEvent).collect(Collectors.toList()))
+                    .withDroppedEventsCount(sp.getDroppedEventsCount())
+                    .withLinks(sp.getLinksList().stream().map(decoderUnderTest::getLink).collect(Collectors.toList()))
+                    .withDroppedLinksCount(sp.getDroppedLinksCount())
+                    .withTraceGroup(decoderUnderTest.getTraceGroup(sp))
+                    .withDurationInNanos(sp.getEndTimeUnixNano() - sp.getStartTimeUnixNano())
+                    .withTraceGroupFields(decoderUnderTest.getTraceGroupFields(sp))
+                    .build();
+            assertThat(span.toMap(), equalTo(expectedSpan.toMap()));
+            assertThat(span.getEvents(), equalTo(expectedSpan.getEvents()));
+        }
+
+        @Test
+        public void testParseSpanWithEmptyLinkSpanIdThrows() {
+            final io.opentelemetry.proto.trace.v1.Span sp = io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                    .setSpanId(ByteString.copyFrom(getRandomBytes(8)))
+                    .setTraceId(ByteString.copyFrom(getRandomBytes(16)))
+                    .setName("test span")
+                    .addLinks(io.opentelemetry.proto.trace.v1.Span.Link.newBuilder()
+                            .setTraceId(ByteString.copyFrom(getRandomBytes(16))))
+                    .build();
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> decoderUnderTest.parseSpan(sp, Collections.emptyMap(), null, Collections.emptyMap()));
+        }
+
         /**
          * Below object has a KeyValue with a key mapped to KeyValueList and is part of the span attributes
          *
@@ -1318,4 +1387,42 @@ public class OTelProtoCodecTest {
         assertNotEquals(k1, k2);
     }
 
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, -1L, 1_000L, 1_000_000L, 1_000_000_000L, -1_000_000_000L, 1_590_328_860_123_000_000L,
+            1_590_328_860_123_456_000L, 1_590_328_860_123_456_789L, 951_782_400_000_000_000L, Long.MIN_VALUE, Long.MAX_VALUE})
+    public void testConvertUnixNanosToISO8601MatchesInstant(final long unixNano) {
+        assertThat(OTelProtoCodec.convertUnixNanosToISO8601(unixNano), equalTo(Instant.ofEpochSecond(0L, unixNano).toString()));
+    }
+
+    @Test
+    public void testConvertUnixNanosToISO8601MatchesInstantForRandomTimes() {
+        for (int i = 0; i < 10_000; i++) {
+            final long unixNano = RANDOM.nextLong();
+            assertThat(OTelProtoCodec.convertUnixNanosToISO8601(unixNano), equalTo(Instant.ofEpochSecond(0L, unixNano).toString()));
+        }
+    }
+
+    @Test
+    public void testConvertByteStringToStringMatchesHex() {
+        for (int length = 0; length <= 32; length++) {
+            final byte[] bytes = getRandomBytes(length);
+            assertThat(OTelProtoCodec.convertByteStringToString(ByteString.copyFrom(bytes)), equalTo(Hex.encodeHexString(bytes)));
+        }
+    }
+
+    @Test
+    public void testUnpackKeyValueListWithDuplicateKeysThrows() {
+        final KeyValue keyValue = KeyValue.newBuilder()
+                .setKey("duplicate.key")
+                .setValue(AnyValue.newBuilder().setStringValue("value").build())
+                .build();
+        assertThrows(IllegalStateException.class, () -> OTelProtoCodec.unpackKeyValueList(List.of(keyValue, keyValue)));
+    }
+
+    @Test
+    public void testMergeAllAttributesWithDuplicateKeysThrows() {
+        final Map<String, Object> attributes = Map.of("key", "value");
+        assertThrows(IllegalStateException.class, () -> OTelProtoCodec.mergeAllAttributes(List.of(attributes, attributes)));
+    }
+
 }
@@ -18,6 +18,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.aws.api.AwsCredentialsSupplier;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.codec.OutputCodec;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
@@ -96,6 +97,8 @@ public class S3SinkIT {
     private SinkContext sinkContext;
     @Mock
     private AwsCredentialsSupplier awsCredentialsSupplier;
+    @Mock
+    private ExpressionEvaluator expressionEvaluator;
 
     @Mock
     private ThresholdOptions thresholdOptions;
@@ -168,7 +171,7 @@ public class S3SinkIT {
     }
 
     private S3Sink createObjectUnderTest() {
-        return new S3Sink(pluginSetting, s3SinkConfig, pluginFactory, sinkContext, awsCredentialsSupplier);
+        return new S3Sink(pluginSetting, s3SinkConfig, pluginFactory, sinkContext, awsCredentialsSupplier, expressionEvaluator);
     }
 
     @ParameterizedTest
@@ -21,7 +21,12 @@ import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 import java.util.function.Supplier;
 
 public class S3OutputStream extends PositionOutputStream {
@@ -45,17 +50,29 @@ public class S3OutputStream extends PositionOutputStream {
     /**
      * The temporary buffer used for storing the chunks
      */
-    private final byte[] buf;
+    private byte[] buf;
 
     private final S3Client s3Client;
     /**
-     * Collection of the etags for the parts that have been uploaded
+     * The parts which have been handed to the part upload executor
      */
-    private final List<String> etags;
+    private final List<PartUpload> partUploads;
+    /**
+     * Runs the part uploads
+     */
+    private final Executor partUploadExecutor;
+    /**
+     * Bounds the number of parts held in memory while they upload
+     */
+    private final Semaphore partsInFlight;
     /**
      * The position in the buffer
      */
     private int position;
+    /**
+     * The number of bytes handed to the part upload executor
+     */
+    private long bytesInParts;
     /**
      * The unique id for this upload
      */
@@ -64,6 +81,10 @@ public class S3OutputStream extends PositionOutputStream {
      * indicates whether the stream is still open / valid
      */
     private boolean open;
+    /**
+     * indicates whether S3 has completed the multipart upload
+     */
+    private boolean completed;
 
     /**
      * Creates a new S3 OutputStream
@@ -73,12 +94,29 @@ public class S3OutputStream extends PositionOutputStream {
      * @param keySupplier     path within the bucket
      */
     public S3OutputStream(final S3Client s3Client, Supplier<String> bucketSupplier, Supplier<String> keySupplier) {
+        this(s3Client, bucketSupplier, keySupplier, Runnable::run, 1);
+    }
+
+    /**
+     * Creates a new S3 OutputStream which uploads its parts on the given executor while
+     * the next part is being written.
+     *
+     * @param s3Client           the AmazonS3 client
+     * @param bucketSupplier     name of the bucket
+     * @param keySupplier        path within the bucket
+     * @param partUploadExecutor executor running the part uploads
+     * @param maxPartsInFlight   maximum number of parts of this stream uploading at once
+     */
+    public S3OutputStream(final S3Client s3Client, Supplier<String> bucketSupplier, Supplier<String> keySupplier,
+                          final Executor partUploadExecutor, final int maxPartsInFlight) {
         this.s3Client = s3Client;
         this.bucket = bucketSupplier.get();
         this.key = keySupplier.get();
+        this.partUploadExecutor = partUploadExecutor;
+        this.partsInFlight = new Semaphore(Math.max(1, maxPartsInFlight));
         buf = new byte[BUFFER_SIZE];
         position = 0;
-        etags = new ArrayList<>();
+        partUploads = new ArrayList<>();
         open = true;
     }
 
@@ -134,36 +172,39 @@ public class S3OutputStream extends PositionOutputStream {
     public void flush() {
     }
 
+    /**
+     * Uploads the remaining bytes and completes the multipart upload. No more bytes can be written
+     * once close is called. If the upload fails, calling close again uploads the failed parts again
+     * and retries completing the upload.
+     */
     @Override
     public void close() {
-        if (open) {
-            open = false;
-            possiblyStartMultipartUpload();
-            if (position > 0) {
-                uploadPart();
-            }
+        if (completed) {
+            return;
+        }
+        open = false;
+        possiblyStartMultipartUpload();
+        if (position > 0) {
+            uploadPart();
+            position = 0;
+        }
 
-            CompletedPart[] completedParts = new CompletedPart[etags.size()];
-            for (int i = 0; i < etags.size(); i++) {
-                completedParts[i] = CompletedPart.builder()
-                        .eTag(etags.get(i))
-                        .partNumber(i + 1)
-                        .build();
-            }
+        retryFailedPartUploads();
+        final CompletedPart[] completedParts = awaitPartUploads();
 
-            LOG.debug("Completing S3 multipart upload with {} parts.", completedParts.length);
+        LOG.debug("Completing S3 multipart upload with {} parts.", completedParts.length);
 
-            CompletedMultipartUpload completedMultipartUpload = CompletedMultipartUpload.builder()
-                    .parts(completedParts)
-                    .build();
-            CompleteMultipartUploadRequest completeMultipartUploadRequest = CompleteMultipartUploadRequest.builder()
-                    .bucket(bucket)
-                    .key(key)
-                    .uploadId(uploadId)
-                    .multipartUpload(completedMultipartUpload)
-                    .build();
-            s3Client.completeMultipartUpload(completeMultipartUploadRequest);
-        }
+        CompletedMultipartUpload completedMultipartUpload = CompletedMultipartUpload.builder()
+                .parts(completedParts)
+                .build();
+        CompleteMultipartUploadRequest completeMultipartUploadRequest = CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(completedMultipartUpload)
+                .build();
+        s3Client.completeMultipartUpload(completeMultipartUploadRequest);
+        completed = true;
     }
 
     public String getKey() {
@@ -196,26 +237,106 @@ public class S3OutputStream extends PositionOutputStream {
     }
 
     private void uploadPart() {
-        int partNumber = etags.size() + 1;
+        final PartUpload partUpload = new PartUpload(partUploads.size() + 1, buf, position);
+        submitPartUpload(partUpload);
+        partUploads.add(partUpload);
+        bytesInParts += position;
+
+        // A part keeps its buffer until it has uploaded, so the next part is written into a fresh one.
+        if (open && partUpload.partBuffer != null) {
+            buf = new byte[BUFFER_SIZE];
+        }
+    }
+
+    private void submitPartUpload(final PartUpload partUpload) {
+        partsInFlight.acquireUninterruptibly();
+        try {
+            partUpload.completedPart = CompletableFuture.supplyAsync(() -> {
+                try {
+                    final CompletedPart completedPart =
+                            uploadPart(partUpload.partNumber, partUpload.partBuffer, partUpload.partLength);
+                    partUpload.partBuffer = null;
+                    return completedPart;
+                } finally {
+                    partsInFlight.release();
+                }
+            }, partUploadExecutor);
+        } catch (final RuntimeException e) {
+            partsInFlight.release();
+            throw e;
+        }
+    }
+
+    private void retryFailedPartUploads() {
+        for (final PartUpload partUpload : partUploads) {
+            if (partUpload.completedPart.isCompletedExceptionally()) {
+                LOG.debug("Retrying S3 multipart part number {}.", partUpload.partNumber);
+                submitPartUpload(partUpload);
+            }
+        }
+    }
+
+    private CompletedPart uploadPart(final int partNumber, final byte[] partBuffer, final int partLength) {
         UploadPartRequest uploadRequest = UploadPartRequest.builder()
                 .bucket(bucket)
                 .key(key)
                 .uploadId(uploadId)
                 .partNumber(partNumber)
-                .contentLength((long) position)
+                .contentLength((long) partLength)
                 .build();
-        RequestBody requestBody = RequestBody.fromInputStream(new ByteArrayInputStream(buf, 0, position),
-                position);
+        RequestBody requestBody = RequestBody.fromInputStream(new ByteArrayInputStream(partBuffer, 0, partLength),
+                partLength);
 
-        LOG.debug("Writing {} bytes to S3 multipart part number {}.", buf.length, partNumber);
+        LOG.debug("Writing {} bytes to S3 multipart part number {}.", partLength, partNumber);
 
         UploadPartResponse uploadPartResponse = s3Client.uploadPart(uploadRequest, requestBody);
-        etags.add(uploadPartResponse.eTag());
+        return CompletedPart.builder()
+                .eTag(uploadPartResponse.eTag())
+                .partNumber(partNumber)
+                .build();
+    }
+
+    /**
+     * Waits for every part, so that no part is still uploading when a failure is thrown.
+     */
+    private CompletedPart[] awaitPartUploads() {
+        final List<CompletedPart> completedParts = new ArrayList<>(partUploads.size());
+        RuntimeException partFailure = null;
+        for (final PartUpload partUpload : partUploads) {
+            try {
+                completedParts.add(partUpload.completedPart.join());
+            } catch (final CompletionException e) {
+                if (partFailure == null) {
+                    partFailure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                }
+            }
+        }
+        if (partFailure != null) {
+            throw partFailure;
+        }
+        completedParts.sort(Comparator.comparing(CompletedPart::partNumber));
+        return completedParts.toArray(new CompletedPart[0]);
     }
 
     @Override
     public long getPos() throws IOException {
-        return position + (long) etags.size() * (long) BUFFER_SIZE;
+        return bytesInParts + position;
+    }
+
+    /**
+     * A part handed to the part upload executor. The part holds its buffer until it has uploaded.
+     */
+    private static class PartUpload {
+        private final int partNumber;
+        private final int partLength;
+        private volatile byte[] partBuffer;
+        private CompletableFuture<CompletedPart> completedPart;
+
+        private PartUpload(final int partNumber, final byte[] partBuffer, final int partLength) {
+            this.partNumber = partNumber;
+            this.partBuffer = partBuffer;
+            this.partLength = partLength;
+        }
     }
 }
 
@@ -5,15 +5,27 @@
 
 package org.opensearch.dataprepper.plugins.sink.s3;
 
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.ObjectKey;
 
 public class KeyGenerator {
+    private static final String DYNAMIC_EXPRESSION_START = "${";
+
     private final S3SinkConfig s3SinkConfig;
     private final ExtensionProvider extensionProvider;
+    private final ExpressionEvaluator expressionEvaluator;
+
+    public KeyGenerator(final S3SinkConfig s3SinkConfig, final ExtensionProvider extensionProvider) {
+        this(s3SinkConfig, extensionProvider, null);
+    }
 
-    public KeyGenerator(S3SinkConfig s3SinkConfig, ExtensionProvider extensionProvider) {
+    public KeyGenerator(final S3SinkConfig s3SinkConfig,
+                        final ExtensionProvider extensionProvider,
+                        final ExpressionEvaluator expressionEvaluator) {
         this.s3SinkConfig = s3SinkConfig;
         this.extensionProvider = extensionProvider;
+        this.expressionEvaluator = expressionEvaluator;
     }
 
     /**
@@ -22,8 +34,35 @@ public class KeyGenerator {
      * @return object key path.
      */
     String generateKey() {
-        final String pathPrefix = ObjectKey.buildingPathPrefix(s3SinkConfig);
+        return generateKey(s3SinkConfig.getObjectKeyOptions().getPathPrefix());
+    }
+
+    /**
+     * Generate the s3 object path prefix and object file name for a path prefix
+     * which was already resolved against an event by {@link #resolvePathPrefix(Event)}.
+     *
+     * @param resolvedPathPrefix path prefix with event expressions replaced.
+     * @return object key path.
+     */
+    public String generateKey(final String resolvedPathPrefix) {
+        final String pathPrefix = ObjectKey.buildingPathPrefix(resolvedPathPrefix);
         final String namePattern = ObjectKey.objectFileName(s3SinkConfig, extensionProvider.getExtension());
         return (!pathPrefix.isEmpty()) ? pathPrefix + namePattern : namePattern;
     }
+
+    /**
+     * Replaces the event expressions, such as <code>${/tenant}</code>, of the configured
+     * path_prefix with their values in the given event. Time patterns are left in place
+     * so that they are resolved when the object key is generated.
+     *
+     * @param event the event to resolve the path prefix against.
+     * @return the path prefix for the event, or null if no path_prefix is configured.
+     */
+    public String resolvePathPrefix(final Event event) {
+        final String pathPrefix = s3SinkConfig.getObjectKeyOptions().getPathPrefix();
+        if (pathPrefix == null || !pathPrefix.contains(DYNAMIC_EXPRESSION_START)) {
+            return pathPrefix;
+        }
+        return event.formatString(pathPrefix, expressionEvaluator);
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3;
+
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Uploads filled objects on a fixed number of background threads, so the sink workers
+ * can keep filling the next object. At most max_pending_uploads filled objects wait for
+ * a free upload thread. Beyond that, {@link #submit(Runnable)} blocks the caller, which
+ * bounds the memory held by filled objects. Callers must not hold a lock shared with other
+ * sink workers while submitting.
+ */
+class S3ObjectUploader {
+    private static final Logger LOG = LoggerFactory.getLogger(S3ObjectUploader.class);
+    static final String UPLOADS_PENDING = "s3SinkUploadsPending";
+    static final String UPLOADS_IN_FLIGHT = "s3SinkUploadsInFlight";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final ExecutorService executorService;
+    private final Semaphore uploadPermits;
+    private final AtomicInteger uploadsPending;
+    private final AtomicInteger uploadsInFlight;
+
+    S3ObjectUploader(final int maxConcurrentUploads, final int maxPendingUploads, final PluginMetrics pluginMetrics,
+                     final String pipelineName) {
+        executorService = Executors.newFixedThreadPool(maxConcurrentUploads,
+                createThreadFactory(String.format("%s-s3-sink-upload", pipelineName)));
+        uploadPermits = new Semaphore(maxConcurrentUploads + maxPendingUploads);
+        uploadsPending = new AtomicInteger();
+        uploadsInFlight = new AtomicInteger();
+
+        pluginMetrics.gauge(UPLOADS_PENDING, uploadsPending, AtomicInteger::get);
+        pluginMetrics.gauge(UPLOADS_IN_FLIGHT, uploadsInFlight, AtomicInteger::get);
+    }
+
+    /**
+     * Queues an upload, blocking while the maximum number of uploads are already waiting.
+     *
+     * @param upload the upload to run.
+     */
+    void submit(final Runnable upload) {
+        uploadPermits.acquireUninterruptibly();
+        uploadsPending.incrementAndGet();
+        try {
+            executorService.execute(() -> {
+                uploadsPending.decrementAndGet();
+                uploadsInFlight.incrementAndGet();
+                try {
+                    upload.run();
+                } catch (final RuntimeException e) {
+                    LOG.error("Unexpected exception while uploading to S3.", e);
+                } finally {
+                    uploadsInFlight.decrementAndGet();
+                    uploadPermits.release();
+                }
+            });
+        } catch (final RuntimeException e) {
+            uploadsPending.decrementAndGet();
+            uploadPermits.release();
+            throw e;
+        }
+    }
+
+    int getUploadsPending() {
+        return uploadsPending.get();
+    }
+
+    /**
+     * Stops accepting uploads and waits for the queued uploads to finish.
+     */
+    void shutdown() {
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOG.warn("S3 uploads did not complete within {} seconds of shutdown.", SHUTDOWN_TIMEOUT_SECONDS);
+                executorService.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @param threadNamePrefix the prefix of the thread names, followed by the thread number
+     * @return a factory of named daemon threads
+     */
+    static ThreadFactory createThreadFactory(final String threadNamePrefix) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable,
+                    String.format("%s-%d", threadNamePrefix, threadNumber.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
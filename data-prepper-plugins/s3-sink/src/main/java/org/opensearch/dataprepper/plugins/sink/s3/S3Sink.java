@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.sink.s3;
 
 import org.opensearch.dataprepper.aws.api.AwsCredentialsSupplier;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.codec.OutputCodec;
@@ -22,17 +23,19 @@ import org.opensearch.dataprepper.model.sink.SinkContext;
 import org.opensearch.dataprepper.plugins.codec.parquet.ParquetOutputCodec;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.BufferFactory;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.BufferTypeOptions;
-import org.opensearch.dataprepper.plugins.sink.s3.accumulator.CodecBufferFactory;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.CompressionBufferFactory;
-import org.opensearch.dataprepper.plugins.sink.s3.codec.BufferedCodec;
+import org.opensearch.dataprepper.plugins.sink.s3.accumulator.MultipartBufferFactory;
 import org.opensearch.dataprepper.plugins.sink.s3.compression.CompressionEngine;
 import org.opensearch.dataprepper.plugins.sink.s3.compression.CompressionOption;
+import org.opensearch.dataprepper.plugins.sink.s3.grouping.S3GroupManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.s3.S3Client;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Implementation class of s3-sink plugin. It is responsible for receive the collection of
@@ -48,6 +51,7 @@ public class S3Sink extends AbstractSink<Record<Event>> {
     private final S3SinkService s3SinkService;
     private final BufferFactory bufferFactory;
     private final SinkContext sinkContext;
+    private final ExecutorService partUploadExecutorService;
 
     /**
      * @param pluginSetting dp plugin settings.
@@ -59,7 +63,8 @@ public class S3Sink extends AbstractSink<Record<Event>> {
                   final S3SinkConfig s3SinkConfig,
                   final PluginFactory pluginFactory,
                   final SinkContext sinkContext,
-                  final AwsCredentialsSupplier awsCredentialsSupplier) {
+                  final AwsCredentialsSupplier awsCredentialsSupplier,
+                  final ExpressionEvaluator expressionEvaluator) {
         super(pluginSetting);
         this.s3SinkConfig = s3SinkConfig;
         this.sinkContext = sinkContext;
@@ -70,25 +75,35 @@ public class S3Sink extends AbstractSink<Record<Event>> {
         sinkInitialized = Boolean.FALSE;
 
         final S3Client s3Client = ClientFactory.createS3Client(s3SinkConfig, awsCredentialsSupplier);
-        BufferFactory innerBufferFactory = s3SinkConfig.getBufferType().getBufferFactory();
         if(codec instanceof ParquetOutputCodec && s3SinkConfig.getBufferType() != BufferTypeOptions.INMEMORY) {
             throw new InvalidPluginConfigurationException("The Parquet sink codec is an in_memory buffer only.");
         }
-        if(codec instanceof BufferedCodec) {
-            innerBufferFactory = new CodecBufferFactory(innerBufferFactory, (BufferedCodec) codec);
+        final BufferFactory innerBufferFactory;
+        if (s3SinkConfig.getBufferType() == BufferTypeOptions.MULTI_PART) {
+            partUploadExecutorService = Executors.newFixedThreadPool(s3SinkConfig.getMaxConcurrentPartUploads(),
+                    S3ObjectUploader.createThreadFactory(String.format("%s-s3-sink-part-upload", pluginSetting.getPipelineName())));
+            innerBufferFactory = new MultipartBufferFactory(partUploadExecutorService, s3SinkConfig.getMaxConcurrentPartUploads());
+        } else {
+            partUploadExecutorService = null;
+            innerBufferFactory = s3SinkConfig.getBufferType().getBufferFactory();
         }
         CompressionOption compressionOption = s3SinkConfig.getCompression();
         final CompressionEngine compressionEngine = compressionOption.getCompressionEngine();
         bufferFactory = new CompressionBufferFactory(innerBufferFactory, compressionEngine, codec);
 
         ExtensionProvider extensionProvider = StandardExtensionProvider.create(codec, compressionOption);
-        KeyGenerator keyGenerator = new KeyGenerator(s3SinkConfig, extensionProvider);
+        KeyGenerator keyGenerator = new KeyGenerator(s3SinkConfig, extensionProvider, expressionEvaluator);
 
         S3OutputCodecContext s3OutputCodecContext = new S3OutputCodecContext(OutputCodecContext.fromSinkContext(sinkContext), compressionOption);
 
         codec.validateAgainstCodecContext(s3OutputCodecContext);
 
-        s3SinkService = new S3SinkService(s3SinkConfig, bufferFactory, codec, s3OutputCodecContext, s3Client, keyGenerator, Duration.ofSeconds(5), pluginMetrics);
+        // Each open object needs its own codec instance because output codecs keep per-stream state.
+        final S3GroupManager s3GroupManager = new S3GroupManager(s3SinkConfig, keyGenerator, bufferFactory,
+                () -> pluginFactory.loadPlugin(OutputCodec.class, codecPluginSettings), s3Client);
+
+        s3SinkService = new S3SinkService(s3SinkConfig, s3OutputCodecContext, Duration.ofSeconds(5), pluginMetrics, s3GroupManager,
+                pluginSetting.getPipelineName());
     }
 
     @Override
@@ -118,6 +133,15 @@ public class S3Sink extends AbstractSink<Record<Event>> {
         sinkInitialized = Boolean.TRUE;
     }
 
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        s3SinkService.shutdown();
+        if (partUploadExecutorService != null) {
+            partUploadExecutorService.shutdown();
+        }
+    }
+
     /**
      * @param records Records to be output
      */
@@ -7,12 +7,14 @@ package org.opensearch.dataprepper.plugins.sink.s3;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.BufferTypeOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.compression.CompressionOption;
+import org.opensearch.dataprepper.plugins.sink.s3.configuration.AggregateThresholdOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.AwsAuthenticationOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.ObjectKeyOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.ThresholdOptions;
@@ -25,6 +27,9 @@ public class S3SinkConfig {
 
     private static final int DEFAULT_CONNECTION_RETRIES = 5;
     private static final int DEFAULT_UPLOAD_RETRIES = 5;
+    private static final int DEFAULT_MAX_CONCURRENT_UPLOADS = 1;
+    private static final int DEFAULT_MAX_PENDING_UPLOADS = 1;
+    private static final int DEFAULT_MAX_CONCURRENT_PART_UPLOADS = 4;
 
     @JsonProperty("aws")
     @NotNull
@@ -46,6 +51,10 @@ public class S3SinkConfig {
     @NotNull
     private ThresholdOptions thresholdOptions;
 
+    @JsonProperty("aggregate_threshold")
+    @Valid
+    private AggregateThresholdOptions aggregateThresholdOptions;
+
     @JsonProperty("codec")
     @NotNull
     private PluginModel codec;
@@ -58,6 +67,18 @@ public class S3SinkConfig {
     @JsonProperty("max_retries")
     private int maxUploadRetries = DEFAULT_UPLOAD_RETRIES;
 
+    @JsonProperty("max_concurrent_uploads")
+    @Min(value = 0, message = "max_concurrent_uploads must be at least 0")
+    private int maxConcurrentUploads = DEFAULT_MAX_CONCURRENT_UPLOADS;
+
+    @JsonProperty("max_pending_uploads")
+    @Min(value = 0, message = "max_pending_uploads must be at least 0")
+    private int maxPendingUploads = DEFAULT_MAX_PENDING_UPLOADS;
+
+    @JsonProperty("max_concurrent_part_uploads")
+    @Min(value = 1, message = "max_concurrent_part_uploads must be at least 1")
+    private int maxConcurrentPartUploads = DEFAULT_MAX_CONCURRENT_PART_UPLOADS;
+
     /**
      * Aws Authentication configuration Options.
      * @return aws authentication options.
@@ -74,6 +95,17 @@ public class S3SinkConfig {
         return thresholdOptions;
     }
 
+    /**
+     * Aggregate threshold configuration Options, applied across all open objects.
+     * @return aggregate threshold option object.
+     */
+    public AggregateThresholdOptions getAggregateThresholdOptions() {
+        if (aggregateThresholdOptions == null) {
+            aggregateThresholdOptions = new AggregateThresholdOptions();
+        }
+        return aggregateThresholdOptions;
+    }
+
     /**
      * Read s3 bucket name configuration.
      * @return bucket name.
@@ -128,6 +160,32 @@ public class S3SinkConfig {
         return maxUploadRetries;
     }
 
+    /**
+     * Number of objects uploaded in the background at once. With 0, objects are
+     * uploaded by the thread which fills them.
+     * @return maximum concurrent uploads value.
+     */
+    public int getMaxConcurrentUploads() {
+        return maxConcurrentUploads;
+    }
+
+    /**
+     * Number of filled objects which may wait for a background upload. Writers
+     * block once this many objects are waiting.
+     * @return maximum pending uploads value.
+     */
+    public int getMaxPendingUploads() {
+        return maxPendingUploads;
+    }
+
+    /**
+     * Number of parts of one multipart object uploaded at once.
+     * @return maximum concurrent part uploads value.
+     */
+    public int getMaxConcurrentPartUploads() {
+        return maxConcurrentPartUploads;
+    }
+
     public CompressionOption getCompression() {
         return compression;
     }
@@ -7,15 +7,16 @@ package org.opensearch.dataprepper.plugins.sink.s3;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.codec.OutputCodec;
 import org.opensearch.dataprepper.model.event.Event;
-import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.sink.OutputCodecContext;
 import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
-import org.opensearch.dataprepper.plugins.sink.s3.accumulator.BufferFactory;
+import org.opensearch.dataprepper.plugins.sink.s3.grouping.S3Group;
+import org.opensearch.dataprepper.plugins.sink.s3.grouping.S3GroupManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
@@ -26,8 +27,8 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -43,53 +44,45 @@ public class S3SinkService {
     public static final String NUMBER_OF_RECORDS_FLUSHED_TO_S3_SUCCESS = "s3SinkObjectsEventsSucceeded";
     public static final String NUMBER_OF_RECORDS_FLUSHED_TO_S3_FAILED = "s3SinkObjectsEventsFailed";
     static final String S3_OBJECTS_SIZE = "s3SinkObjectSizeBytes";
+    static final String S3_UPLOAD_LATENCY = "s3SinkUploadLatency";
     private final S3SinkConfig s3SinkConfig;
     private final Lock reentrantLock;
-    private final BufferFactory bufferFactory;
-    private final Collection<EventHandle> bufferedEventHandles;
-    private final OutputCodec codec;
-    private final S3Client s3Client;
-    private Buffer currentBuffer;
     private final int maxEvents;
     private final ByteCount maxBytes;
     private final Duration maxCollectionDuration;
-    private final String bucket;
     private final int maxRetries;
     private final Counter objectsSucceededCounter;
     private final Counter objectsFailedCounter;
     private final Counter numberOfRecordsSuccessCounter;
     private final Counter numberOfRecordsFailedCounter;
     private final DistributionSummary s3ObjectSizeSummary;
+    private final Timer uploadLatencyTimer;
     private final OutputCodecContext codecContext;
-    private final KeyGenerator keyGenerator;
     private final Duration retrySleepTime;
+    private final S3GroupManager s3GroupManager;
+    private final S3ObjectUploader s3ObjectUploader;
 
     /**
-     * @param s3SinkConfig  s3 sink related configuration.
-     * @param bufferFactory factory of buffer.
-     * @param codec         parser.
-     * @param s3Client
-     * @param pluginMetrics metrics.
+     * @param s3SinkConfig   s3 sink related configuration.
+     * @param codecContext   context passed to the codec of each object.
+     * @param retrySleepTime back off between upload attempts.
+     * @param pluginMetrics  metrics.
+     * @param s3GroupManager keeps the open objects, one per resolved path prefix.
+     * @param pipelineName   name of the pipeline, used to name the upload threads.
      */
-    public S3SinkService(final S3SinkConfig s3SinkConfig, final BufferFactory bufferFactory,
-                         final OutputCodec codec, final OutputCodecContext codecContext, final S3Client s3Client, final KeyGenerator keyGenerator,
-                         final Duration retrySleepTime, final PluginMetrics pluginMetrics) {
+    public S3SinkService(final S3SinkConfig s3SinkConfig, final OutputCodecContext codecContext,
+                         final Duration retrySleepTime, final PluginMetrics pluginMetrics,
+                         final S3GroupManager s3GroupManager, final String pipelineName) {
         this.s3SinkConfig = s3SinkConfig;
-        this.bufferFactory = bufferFactory;
-        this.codec = codec;
-        this.s3Client = s3Client;
         this.codecContext = codecContext;
-        this.keyGenerator = keyGenerator;
         this.retrySleepTime = retrySleepTime;
+        this.s3GroupManager = s3GroupManager;
         reentrantLock = new ReentrantLock();
 
-        bufferedEventHandles = new LinkedList<>();
-
         maxEvents = s3SinkConfig.getThresholdOptions().getEventCount();
         maxBytes = s3SinkConfig.getThresholdOptions().getMaximumSize();
         maxCollectionDuration = s3SinkConfig.getThresholdOptions().getEventCollectTimeOut();
 
-        bucket = s3SinkConfig.getBucketName();
         maxRetries = s3SinkConfig.getMaxUploadRetries();
 
         objectsSucceededCounter = pluginMetrics.counter(OBJECTS_SUCCEEDED);
@@ -97,8 +90,20 @@ public class S3SinkService {
         numberOfRecordsSuccessCounter = pluginMetrics.counter(NUMBER_OF_RECORDS_FLUSHED_TO_S3_SUCCESS);
         numberOfRecordsFailedCounter = pluginMetrics.counter(NUMBER_OF_RECORDS_FLUSHED_TO_S3_FAILED);
         s3ObjectSizeSummary = pluginMetrics.summary(S3_OBJECTS_SIZE);
+        uploadLatencyTimer = pluginMetrics.timer(S3_UPLOAD_LATENCY);
+
+        s3ObjectUploader = s3SinkConfig.getMaxConcurrentUploads() > 0 ?
+                new S3ObjectUploader(s3SinkConfig.getMaxConcurrentUploads(), s3SinkConfig.getMaxPendingUploads(), pluginMetrics, pipelineName) :
+                null;
+    }
 
-        currentBuffer = bufferFactory.getBuffer(s3Client, () -> bucket, keyGenerator::generateKey);
+    /**
+     * Waits for the objects which are still uploading in the background.
+     */
+    void shutdown() {
+        if (s3ObjectUploader != null) {
+            s3ObjectUploader.shutdown();
+        }
     }
 
     /**
@@ -106,27 +111,39 @@ public class S3SinkService {
      */
     void output(Collection<Record<Event>> records) {
         // Don't acquire the lock if there's no work to be done
-        if (records.isEmpty() && currentBuffer.getEventCount() == 0) {
+        if (records.isEmpty() && s3GroupManager.hasNoGroups()) {
             return;
         }
 
         List<Event> failedEvents = new ArrayList<>();
+        final List<Runnable> sealedObjectUploads = new ArrayList<>();
         Exception sampleException = null;
         reentrantLock.lock();
         try {
             for (Record<Event> record : records) {
 
                 final Event event = record.getData();
+                S3Group s3Group = null;
                 try {
+                    s3Group = s3GroupManager.getOrCreateGroupForEvent(event);
+                    final Buffer currentBuffer = s3Group.getBuffer();
+                    final OutputCodec codec = s3Group.getOutputCodec();
                     if (currentBuffer.getEventCount() == 0) {
-                        codec.start(currentBuffer.getOutputStream(), event, codecContext);
+                        try {
+                            codec.start(currentBuffer.getOutputStream(), event, codecContext);
+                        } catch (final Exception e) {
+                            // The object was never started, so do not keep it open for the next events of its prefix.
+                            s3GroupManager.removeGroup(s3Group);
+                            s3Group = null;
+                            throw e;
+                        }
                     }
 
                     codec.writeEvent(event, currentBuffer.getOutputStream());
                     int count = currentBuffer.getEventCount() + 1;
                     currentBuffer.setEventCount(count);
 
-                    bufferedEventHandles.add(event.getEventHandle());
+                    s3Group.addEventHandle(event.getEventHandle());
                 } catch (Exception ex) {
                     if(sampleException == null) {
                         sampleException = ex;
@@ -135,13 +152,27 @@ public class S3SinkService {
                     failedEvents.add(event);
                 }
 
-                flushToS3IfNeeded();
+                if (s3Group != null) {
+                    flushToS3IfNeeded(s3Group, sealedObjectUploads);
+                }
+                if (s3GroupManager.exceedsMaximumOpenObjects()) {
+                    flushEvictedGroups(sealedObjectUploads);
+                }
             }
-            flushToS3IfNeeded();
+
+            for (final S3Group s3Group : s3GroupManager.getS3GroupEntries()) {
+                flushToS3IfNeeded(s3Group, sealedObjectUploads);
+            }
+            flushEvictedGroups(sealedObjectUploads);
         } finally {
             reentrantLock.unlock();
         }
 
+        // Submitted outside of the lock, so that a worker waiting for a free upload does not block the other workers.
+        for (final Runnable sealedObjectUpload : sealedObjectUploads) {
+            s3ObjectUploader.submit(sealedObjectUpload);
+        }
+
         if(!failedEvents.isEmpty()) {
             failedEvents
                     .stream()
@@ -151,40 +182,70 @@ public class S3SinkService {
         }
     }
 
-    private void releaseEventHandles(final boolean result) {
-        for (EventHandle eventHandle : bufferedEventHandles) {
-            eventHandle.release(result);
+    private void flushEvictedGroups(final List<Runnable> sealedObjectUploads) {
+        for (final S3Group s3Group : s3GroupManager.getGroupsToEvict()) {
+            LOG.debug("Flushing {} ahead of its thresholds to stay within the aggregate thresholds.",
+                    s3Group.getS3GroupIdentifier().getResolvedPathPrefix());
+            flushToS3(s3Group, sealedObjectUploads);
         }
-
-        bufferedEventHandles.clear();
     }
 
-    private void flushToS3IfNeeded() {
+    private void flushToS3IfNeeded(final S3Group s3Group, final List<Runnable> sealedObjectUploads) {
+        final Buffer currentBuffer = s3Group.getBuffer();
         LOG.trace("Flush to S3 check: currentBuffer.size={}, currentBuffer.events={}, currentBuffer.duration={}",
                 currentBuffer.getSize(), currentBuffer.getEventCount(), currentBuffer.getDuration());
         if (ThresholdCheck.checkThresholdExceed(currentBuffer, maxEvents, maxBytes, maxCollectionDuration)) {
-            try {
-                codec.complete(currentBuffer.getOutputStream());
-                String s3Key = currentBuffer.getKey();
-                LOG.info("Writing {} to S3 with {} events and size of {} bytes.",
-                        s3Key, currentBuffer.getEventCount(), currentBuffer.getSize());
-                final boolean isFlushToS3 = retryFlushToS3(currentBuffer, s3Key);
-                if (isFlushToS3) {
-                    LOG.info("Successfully saved {} to S3.", s3Key);
-                    numberOfRecordsSuccessCounter.increment(currentBuffer.getEventCount());
-                    objectsSucceededCounter.increment();
-                    s3ObjectSizeSummary.record(currentBuffer.getSize());
-                    releaseEventHandles(true);
-                } else {
-                    LOG.error("Failed to save {} to S3.", s3Key);
-                    numberOfRecordsFailedCounter.increment(currentBuffer.getEventCount());
-                    objectsFailedCounter.increment();
-                    releaseEventHandles(false);
-                }
-                currentBuffer = bufferFactory.getBuffer(s3Client, () -> bucket, keyGenerator::generateKey);
-            } catch (final IOException e) {
-                LOG.error("Exception while completing codec", e);
-            }
+            flushToS3(s3Group, sealedObjectUploads);
+        }
+    }
+
+    /**
+     * Seals the object of a group. With background uploads, its upload is added to the sealed
+     * object uploads, which are submitted once the lock is released; otherwise it is uploaded now.
+     */
+    private void flushToS3(final S3Group s3Group, final List<Runnable> sealedObjectUploads) {
+        final Buffer currentBuffer = s3Group.getBuffer();
+        try {
+            s3Group.getOutputCodec().complete(currentBuffer.getOutputStream());
+        } catch (final IOException e) {
+            LOG.error("Exception while completing codec", e);
+            return;
+        }
+
+        // The object is sealed. New events for its prefix go into a new object while this one uploads.
+        s3GroupManager.removeGroup(s3Group);
+        final String s3Key = currentBuffer.getKey();
+        if (s3ObjectUploader != null) {
+            sealedObjectUploads.add(() -> uploadToS3(s3Group, s3Key));
+        } else {
+            uploadToS3(s3Group, s3Key);
+        }
+    }
+
+    private void uploadToS3(final S3Group s3Group, final String s3Key) {
+        final Buffer currentBuffer = s3Group.getBuffer();
+        LOG.info("Writing {} to S3 with {} events and size of {} bytes.",
+                s3Key, currentBuffer.getEventCount(), currentBuffer.getSize());
+        final long uploadStart = System.nanoTime();
+        boolean isFlushToS3;
+        try {
+            isFlushToS3 = retryFlushToS3(currentBuffer, s3Key);
+        } catch (final RuntimeException e) {
+            LOG.error("Unexpected exception while uploading {} to S3.", s3Key, e);
+            isFlushToS3 = false;
+        }
+        uploadLatencyTimer.record(System.nanoTime() - uploadStart, TimeUnit.NANOSECONDS);
+        if (isFlushToS3) {
+            LOG.info("Successfully saved {} to S3.", s3Key);
+            numberOfRecordsSuccessCounter.increment(currentBuffer.getEventCount());
+            objectsSucceededCounter.increment();
+            s3ObjectSizeSummary.record(currentBuffer.getSize());
+            s3Group.releaseEventHandles(true);
+        } else {
+            LOG.error("Failed to save {} to S3.", s3Key);
+            numberOfRecordsFailedCounter.increment(currentBuffer.getEventCount());
+            objectsFailedCounter.increment();
+            s3Group.releaseEventHandles(false);
         }
     }
 
@@ -20,8 +20,8 @@ import java.util.function.Supplier;
  */
 public class InMemoryBuffer implements Buffer {
 
-    private static final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-    private static final ByteArrayPositionOutputStream byteArrayPositionOutputStream = new ByteArrayPositionOutputStream(byteArrayOutputStream);
+    private final ByteArrayOutputStream byteArrayOutputStream;
+    private final ByteArrayPositionOutputStream byteArrayPositionOutputStream;
     private final S3Client s3Client;
     private final Supplier<String> bucketSupplier;
     private final Supplier<String> keySupplier;
@@ -35,7 +35,8 @@ public class InMemoryBuffer implements Buffer {
         this.s3Client = s3Client;
         this.bucketSupplier = bucketSupplier;
         this.keySupplier = keySupplier;
-        byteArrayOutputStream.reset();
+        byteArrayOutputStream = new ByteArrayOutputStream();
+        byteArrayPositionOutputStream = new ByteArrayPositionOutputStream(byteArrayOutputStream);
         eventCount = 0;
         watch = new StopWatch();
         watch.start();
@@ -8,11 +8,28 @@ package org.opensearch.dataprepper.plugins.sink.s3.accumulator;
 import org.opensearch.dataprepper.plugins.codec.parquet.S3OutputStream;
 import software.amazon.awssdk.services.s3.S3Client;
 
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 public class MultipartBufferFactory implements BufferFactory {
+    private final Executor partUploadExecutor;
+    private final int maxPartsInFlight;
+
+    public MultipartBufferFactory() {
+        this(Runnable::run, 1);
+    }
+
+    /**
+     * @param partUploadExecutor executor uploading the parts of each object.
+     * @param maxPartsInFlight   maximum number of parts of one object uploading at once.
+     */
+    public MultipartBufferFactory(final Executor partUploadExecutor, final int maxPartsInFlight) {
+        this.partUploadExecutor = partUploadExecutor;
+        this.maxPartsInFlight = maxPartsInFlight;
+    }
+
     @Override
     public Buffer getBuffer(S3Client s3Client, Supplier<String> bucketSupplier, Supplier<String> keySupplier) {
-        return new MultipartBuffer(new S3OutputStream(s3Client, bucketSupplier, keySupplier));
+        return new MultipartBuffer(new S3OutputStream(s3Client, bucketSupplier, keySupplier, partUploadExecutor, maxPartsInFlight));
     }
 }
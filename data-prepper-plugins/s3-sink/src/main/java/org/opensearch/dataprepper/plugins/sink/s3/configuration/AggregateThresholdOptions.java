@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3.configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+/**
+ * Limits applied across all of the objects which the s3 sink holds open at once.
+ * Objects are opened per distinct path_prefix when the prefix contains event expressions.
+ */
+public class AggregateThresholdOptions {
+    static final int DEFAULT_MAXIMUM_OPEN_OBJECTS = 100;
+    static final double DEFAULT_FLUSH_CAPACITY_RATIO = 0.5;
+
+    @JsonProperty("maximum_size")
+    private String maximumSize;
+
+    @JsonProperty("maximum_open_objects")
+    @Min(value = 1, message = "maximum_open_objects must be at least 1")
+    private int maximumOpenObjects = DEFAULT_MAXIMUM_OPEN_OBJECTS;
+
+    @JsonProperty("flush_capacity_ratio")
+    @DecimalMin(value = "0.0", message = "flush_capacity_ratio must be between 0.0 and 1.0")
+    @DecimalMax(value = "1.0", message = "flush_capacity_ratio must be between 0.0 and 1.0")
+    private double flushCapacityRatio = DEFAULT_FLUSH_CAPACITY_RATIO;
+
+    /**
+     * Read the maximum combined size of all open objects.
+     * @return maximum byte count, or null if the combined size is not limited.
+     */
+    public ByteCount getMaximumSize() {
+        return maximumSize != null ? ByteCount.parse(maximumSize) : null;
+    }
+
+    /**
+     * Read the maximum number of objects held open at once.
+     * @return maximum open objects.
+     */
+    public int getMaximumOpenObjects() {
+        return maximumOpenObjects;
+    }
+
+    /**
+     * Read the fraction of the aggregate limits to flush down to once a limit is reached.
+     * @return flush capacity ratio.
+     */
+    public double getFlushCapacityRatio() {
+        return flushCapacityRatio;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3.grouping;
+
+import org.opensearch.dataprepper.model.codec.OutputCodec;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
+
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * A single open object of the s3 sink: its buffer, the codec writing into that buffer
+ * and the handles of the events written so far.
+ */
+public class S3Group {
+    private final S3GroupIdentifier s3GroupIdentifier;
+    private final Buffer buffer;
+    private final OutputCodec outputCodec;
+    private final Collection<EventHandle> groupEventHandles;
+
+    S3Group(final S3GroupIdentifier s3GroupIdentifier, final Buffer buffer, final OutputCodec outputCodec) {
+        this.s3GroupIdentifier = s3GroupIdentifier;
+        this.buffer = buffer;
+        this.outputCodec = outputCodec;
+        this.groupEventHandles = new LinkedList<>();
+    }
+
+    public S3GroupIdentifier getS3GroupIdentifier() {
+        return s3GroupIdentifier;
+    }
+
+    public Buffer getBuffer() {
+        return buffer;
+    }
+
+    public OutputCodec getOutputCodec() {
+        return outputCodec;
+    }
+
+    public void addEventHandle(final EventHandle eventHandle) {
+        groupEventHandles.add(eventHandle);
+    }
+
+    public void releaseEventHandles(final boolean result) {
+        for (final EventHandle eventHandle : groupEventHandles) {
+            eventHandle.release(result);
+        }
+
+        groupEventHandles.clear();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3.grouping;
+
+import java.util.Objects;
+
+/**
+ * Identifies the open object an event belongs to, which is the path_prefix
+ * of the event after its event expressions have been resolved.
+ */
+public class S3GroupIdentifier {
+    private final String resolvedPathPrefix;
+
+    public S3GroupIdentifier(final String resolvedPathPrefix) {
+        this.resolvedPathPrefix = resolvedPathPrefix;
+    }
+
+    public String getResolvedPathPrefix() {
+        return resolvedPathPrefix;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final S3GroupIdentifier that = (S3GroupIdentifier) o;
+        return Objects.equals(resolvedPathPrefix, that.resolvedPathPrefix);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(resolvedPathPrefix);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3.grouping;
+
+import org.opensearch.dataprepper.model.codec.OutputCodec;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.plugins.sink.s3.KeyGenerator;
+import org.opensearch.dataprepper.plugins.sink.s3.S3SinkConfig;
+import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
+import org.opensearch.dataprepper.plugins.sink.s3.accumulator.BufferFactory;
+import org.opensearch.dataprepper.plugins.sink.s3.accumulator.CodecBufferFactory;
+import org.opensearch.dataprepper.plugins.sink.s3.codec.BufferedCodec;
+import org.opensearch.dataprepper.plugins.sink.s3.configuration.AggregateThresholdOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Keeps one {@link S3Group} per distinct resolved path_prefix. The groups are kept in
+ * least recently used order, so that the groups used least recently are flushed first
+ * once the aggregate thresholds are reached.
+ * <p>
+ * This class is not thread-safe. The caller must guard it, as {@code S3SinkService} does with its lock.
+ */
+public class S3GroupManager {
+    private static final Logger LOG = LoggerFactory.getLogger(S3GroupManager.class);
+
+    private final LinkedHashMap<S3GroupIdentifier, S3Group> allGroups;
+    private final KeyGenerator keyGenerator;
+    private final BufferFactory bufferFactory;
+    private final Supplier<OutputCodec> codecSupplier;
+    private final S3Client s3Client;
+    private final String bucket;
+    private final int maximumOpenObjects;
+    private final ByteCount maximumAggregateSize;
+    private final double flushCapacityRatio;
+
+    public S3GroupManager(final S3SinkConfig s3SinkConfig,
+                          final KeyGenerator keyGenerator,
+                          final BufferFactory bufferFactory,
+                          final Supplier<OutputCodec> codecSupplier,
+                          final S3Client s3Client) {
+        this.keyGenerator = keyGenerator;
+        this.bufferFactory = bufferFactory;
+        this.codecSupplier = codecSupplier;
+        this.s3Client = s3Client;
+        this.bucket = s3SinkConfig.getBucketName();
+        allGroups = new LinkedHashMap<>(16, 0.75f, true);
+
+        final AggregateThresholdOptions aggregateThresholdOptions = s3SinkConfig.getAggregateThresholdOptions() != null ?
+                s3SinkConfig.getAggregateThresholdOptions() : new AggregateThresholdOptions();
+        maximumOpenObjects = aggregateThresholdOptions.getMaximumOpenObjects();
+        maximumAggregateSize = aggregateThresholdOptions.getMaximumSize();
+        flushCapacityRatio = aggregateThresholdOptions.getFlushCapacityRatio();
+    }
+
+    public boolean hasNoGroups() {
+        return allGroups.isEmpty();
+    }
+
+    public int getNumberOfGroups() {
+        return allGroups.size();
+    }
+
+    /**
+     * @return a snapshot of the open groups, from least to most recently used.
+     */
+    public Collection<S3Group> getS3GroupEntries() {
+        return new ArrayList<>(allGroups.values());
+    }
+
+    /**
+     * Gets the group of the event, opening a new object for it if needed.
+     *
+     * @param event the event to write.
+     * @return the group for the event.
+     */
+    public S3Group getOrCreateGroupForEvent(final Event event) {
+        final S3GroupIdentifier s3GroupIdentifier = new S3GroupIdentifier(keyGenerator.resolvePathPrefix(event));
+        final S3Group existingGroup = allGroups.get(s3GroupIdentifier);
+        if (existingGroup != null) {
+            return existingGroup;
+        }
+
+        final OutputCodec outputCodec = codecSupplier.get();
+        final BufferFactory groupBufferFactory = outputCodec instanceof BufferedCodec ?
+                new CodecBufferFactory(bufferFactory, (BufferedCodec) outputCodec) : bufferFactory;
+        final Buffer buffer = groupBufferFactory.getBuffer(s3Client, () -> bucket,
+                () -> keyGenerator.generateKey(s3GroupIdentifier.getResolvedPathPrefix()));
+
+        final S3Group s3Group = new S3Group(s3GroupIdentifier, buffer, outputCodec);
+        allGroups.put(s3GroupIdentifier, s3Group);
+        LOG.debug("Opened a new object for path prefix {}, {} objects are open", s3GroupIdentifier.getResolvedPathPrefix(), allGroups.size());
+        return s3Group;
+    }
+
+    public void removeGroup(final S3Group s3Group) {
+        allGroups.remove(s3Group.getS3GroupIdentifier());
+    }
+
+    /**
+     * @return true if more objects are open than the configured maximum_open_objects.
+     */
+    public boolean exceedsMaximumOpenObjects() {
+        return allGroups.size() > maximumOpenObjects;
+    }
+
+    /**
+     * Picks the least recently used groups which must be flushed to get back under the
+     * aggregate thresholds. Once a threshold is exceeded, groups are picked until the open
+     * objects, and the aggregate size when configured, are down to flush_capacity_ratio of the limit.
+     *
+     * @return the groups to flush, from least to most recently used. Empty if no threshold is exceeded.
+     */
+    public List<S3Group> getGroupsToEvict() {
+        final List<S3Group> groupsToEvict = new ArrayList<>();
+        final Iterator<S3Group> leastRecentlyUsed = allGroups.values().iterator();
+
+        int remainingGroups = allGroups.size();
+        if (remainingGroups > maximumOpenObjects) {
+            final int targetGroups = (int) (maximumOpenObjects * flushCapacityRatio);
+            while (remainingGroups > targetGroups && leastRecentlyUsed.hasNext()) {
+                groupsToEvict.add(leastRecentlyUsed.next());
+                remainingGroups--;
+            }
+        }
+
+        if (maximumAggregateSize != null) {
+            long aggregateSize = 0;
+            final List<S3Group> remaining = new ArrayList<>(remainingGroups);
+            while (leastRecentlyUsed.hasNext()) {
+                final S3Group s3Group = leastRecentlyUsed.next();
+                aggregateSize += s3Group.getBuffer().getSize();
+                remaining.add(s3Group);
+            }
+
+            if (aggregateSize > maximumAggregateSize.getBytes()) {
+                final long targetSize = (long) (maximumAggregateSize.getBytes() * flushCapacityRatio);
+                for (final S3Group s3Group : remaining) {
+                    if (aggregateSize <= targetSize) {
+                        break;
+                    }
+                    aggregateSize -= s3Group.getBuffer().getSize();
+                    groupsToEvict.add(s3Group);
+                }
+            }
+        }
+
+        return groupsToEvict;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3OutputStreamTest {
+    @Mock
+    private S3Client s3Client;
+
+    private String bucket;
+    private String key;
+    private String uploadId;
+
+    @BeforeEach
+    void setUp() {
+        bucket = UUID.randomUUID().toString();
+        key = UUID.randomUUID().toString();
+        uploadId = UUID.randomUUID().toString();
+
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId(uploadId).build());
+    }
+
+    private S3OutputStream createObjectUnderTest(final Executor partUploadExecutor, final int maxPartsInFlight) {
+        return new S3OutputStream(s3Client, () -> bucket, () -> key, partUploadExecutor, maxPartsInFlight);
+    }
+
+    private static UploadPartResponse eTagOfPart(final UploadPartRequest uploadPartRequest) {
+        return UploadPartResponse.builder().eTag("etag-" + uploadPartRequest.partNumber()).build();
+    }
+
+    @Test
+    void close_uploads_the_remaining_bytes_and_completes_the_upload() throws IOException {
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenAnswer(invocation -> eTagOfPart(invocation.getArgument(0)));
+        final S3OutputStream objectUnderTest = createObjectUnderTest(Runnable::run, 1);
+
+        objectUnderTest.write(new byte[S3OutputStream.BUFFER_SIZE + 10]);
+        objectUnderTest.close();
+
+        final ArgumentCaptor<CompleteMultipartUploadRequest> completeRequestCaptor =
+                ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(completeRequestCaptor.capture());
+        final CompleteMultipartUploadRequest completeRequest = completeRequestCaptor.getValue();
+        assertThat(completeRequest.bucket(), equalTo(bucket));
+        assertThat(completeRequest.key(), equalTo(key));
+        assertThat(completeRequest.uploadId(), equalTo(uploadId));
+        assertThat(completeRequest.multipartUpload().parts().size(), equalTo(2));
+        assertThat(objectUnderTest.getPos(), equalTo((long) S3OutputStream.BUFFER_SIZE + 10));
+    }
+
+    @Test
+    void close_throws_and_does_not_complete_the_upload_when_a_part_fails() {
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenAnswer(invocation -> eTagOfPart(invocation.getArgument(0)))
+                .thenThrow(SdkClientException.create("part failed"));
+        final S3OutputStream objectUnderTest = createObjectUnderTest(Runnable::run, 1);
+
+        objectUnderTest.write(new byte[S3OutputStream.BUFFER_SIZE + 10]);
+
+        assertThrows(SdkClientException.class, objectUnderTest::close);
+        verify(s3Client, times(0)).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void close_after_a_part_failed_uploads_only_the_failed_part_again_and_completes_the_upload() {
+        final List<Integer> uploadedParts = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger uploadAttempts = new AtomicInteger();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            final UploadPartRequest uploadPartRequest = invocation.getArgument(0);
+            uploadedParts.add(uploadPartRequest.partNumber());
+            if (uploadAttempts.incrementAndGet() == 2) {
+                throw SdkClientException.create("part failed");
+            }
+            return eTagOfPart(uploadPartRequest);
+        });
+        final S3OutputStream objectUnderTest = createObjectUnderTest(Runnable::run, 1);
+
+        objectUnderTest.write(new byte[S3OutputStream.BUFFER_SIZE + 10]);
+        assertThrows(SdkClientException.class, objectUnderTest::close);
+        objectUnderTest.close();
+
+        assertThat(uploadedParts, contains(1, 2, 2));
+        final ArgumentCaptor<CompleteMultipartUploadRequest> completeRequestCaptor =
+                ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(completeRequestCaptor.capture());
+        assertThat(completeRequestCaptor.getValue().multipartUpload().parts().stream()
+                .map(CompletedPart::partNumber).collect(Collectors.toList()), contains(1, 2));
+    }
+
+    @Test
+    void close_after_complete_failed_completes_the_upload_again_without_uploading_parts() {
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenAnswer(invocation -> eTagOfPart(invocation.getArgument(0)));
+        when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenThrow(SdkClientException.create("complete failed"))
+                .thenReturn(null);
+        final S3OutputStream objectUnderTest = createObjectUnderTest(Runnable::run, 1);
+
+        objectUnderTest.write(new byte[10]);
+        assertThrows(SdkClientException.class, objectUnderTest::close);
+        objectUnderTest.close();
+        objectUnderTest.close();
+
+        verify(s3Client, times(1)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        verify(s3Client, times(2)).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void write_after_close_throws() {
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenAnswer(invocation -> eTagOfPart(invocation.getArgument(0)));
+        final S3OutputStream objectUnderTest = createObjectUnderTest(Runnable::run, 1);
+
+        objectUnderTest.write(new byte[10]);
+        objectUnderTest.close();
+
+        assertThrows(IllegalStateException.class, () -> objectUnderTest.write(1));
+    }
+
+    @Test
+    void close_completes_the_upload_with_parts_in_order_when_parts_upload_out_of_order() {
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenAnswer(invocation -> eTagOfPart(invocation.getArgument(0)));
+        final int numberOfParts = 3;
+        final List<Runnable> queuedPartUploads = new ArrayList<>();
+        final Executor reversingExecutor = partUpload -> {
+            queuedPartUploads.add(partUpload);
+            if (queuedPartUploads.size() == numberOfParts) {
+                Collections.reverse(queuedPartUploads);
+                queuedPartUploads.forEach(Runnable::run);
+            }
+        };
+        final S3OutputStream objectUnderTest = createObjectUnderTest(reversingExecutor, numberOfParts);
+
+        objectUnderTest.write(new byte[(numberOfParts - 1) * S3OutputStream.BUFFER_SIZE + 10]);
+        objectUnderTest.close();
+
+        final ArgumentCaptor<UploadPartRequest> uploadPartRequestCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(numberOfParts)).uploadPart(uploadPartRequestCaptor.capture(), any(RequestBody.class));
+        assertThat(uploadPartRequestCaptor.getAllValues().stream()
+                .map(UploadPartRequest::partNumber).collect(Collectors.toList()), contains(3, 2, 1));
+
+        final ArgumentCaptor<CompleteMultipartUploadRequest> completeRequestCaptor =
+                ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(completeRequestCaptor.capture());
+        final List<CompletedPart> completedParts = completeRequestCaptor.getValue().multipartUpload().parts();
+        assertThat(completedParts.stream().map(CompletedPart::partNumber).collect(Collectors.toList()), contains(1, 2, 3));
+        assertThat(completedParts.stream().map(CompletedPart::eTag).collect(Collectors.toList()),
+                contains("etag-1", "etag-2", "etag-3"));
+    }
+}
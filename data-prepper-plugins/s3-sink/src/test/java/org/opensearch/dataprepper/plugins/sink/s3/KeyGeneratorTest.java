@@ -10,18 +10,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.ObjectKeyOptions;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.TimeZone;
 import java.util.UUID;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,14 +44,17 @@ class KeyGeneratorTest {
     @Mock
     private ObjectKeyOptions objectKeyOptions;
 
+    @Mock
+    private ExpressionEvaluator expressionEvaluator;
+
     @BeforeEach
     void setUp() {
         when(s3SinkConfig.getObjectKeyOptions()).thenReturn(objectKeyOptions);
-        when(objectKeyOptions.getNamePattern()).thenReturn(OBJECT_KEY_NAME_PATTERN);
+        lenient().when(objectKeyOptions.getNamePattern()).thenReturn(OBJECT_KEY_NAME_PATTERN);
     }
 
     private KeyGenerator createObjectUnderTest() {
-        return new KeyGenerator(s3SinkConfig, extensionProvider);
+        return new KeyGenerator(s3SinkConfig, extensionProvider, expressionEvaluator);
     }
 
     @Test
@@ -86,4 +95,33 @@ class KeyGeneratorTest {
         assertThat(key, notNullValue());
         assertThat(key, key.endsWith("." + extension));
     }
-}
\ No newline at end of file
+
+    @Test
+    void resolvePathPrefix_returns_path_prefix_without_event_expressions_as_is() {
+        final String pathPrefix = "logdata/%{yyyy}/";
+        when(objectKeyOptions.getPathPrefix()).thenReturn(pathPrefix);
+        final Event event = JacksonEvent.fromMessage(UUID.randomUUID().toString());
+
+        assertThat(createObjectUnderTest().resolvePathPrefix(event), equalTo(pathPrefix));
+    }
+
+    @Test
+    void resolvePathPrefix_replaces_event_expressions_and_keeps_time_patterns() {
+        final String tenant = UUID.randomUUID().toString();
+        when(objectKeyOptions.getPathPrefix()).thenReturn("logdata/${/tenant}/%{yyyy}/");
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("tenant", tenant))
+                .build();
+
+        assertThat(createObjectUnderTest().resolvePathPrefix(event), equalTo("logdata/" + tenant + "/%{yyyy}/"));
+    }
+
+    @Test
+    void generateKey_with_resolved_path_prefix_resolves_time_patterns() {
+        final String tenant = UUID.randomUUID().toString();
+        final String key = createObjectUnderTest().generateKey("logdata/" + tenant + "/%{yyyy}/");
+
+        assertThat(key, key.startsWith("logdata/" + tenant + "/" + ZonedDateTime.now(ZoneId.of("UTC")).getYear() + "/"));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class S3ObjectUploaderTest {
+    private static final String PIPELINE_NAME = "test-pipeline";
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    private S3ObjectUploader createObjectUnderTest(final int maxConcurrentUploads, final int maxPendingUploads) {
+        return new S3ObjectUploader(maxConcurrentUploads, maxPendingUploads, pluginMetrics, PIPELINE_NAME);
+    }
+
+    @Test
+    void constructor_registers_queue_gauges() {
+        createObjectUnderTest(1, 1).shutdown();
+
+        verify(pluginMetrics).gauge(eq(S3ObjectUploader.UPLOADS_PENDING), any(AtomicInteger.class), any());
+        verify(pluginMetrics).gauge(eq(S3ObjectUploader.UPLOADS_IN_FLIGHT), any(AtomicInteger.class), any());
+    }
+
+    @Test
+    void submit_runs_all_uploads_before_shutdown_completes() {
+        final S3ObjectUploader objectUnderTest = createObjectUnderTest(2, 2);
+        final AtomicInteger uploads = new AtomicInteger();
+
+        for (int i = 0; i < 20; i++) {
+            objectUnderTest.submit(uploads::incrementAndGet);
+        }
+        objectUnderTest.shutdown();
+
+        assertThat(uploads.get(), equalTo(20));
+        assertThat(objectUnderTest.getUploadsPending(), equalTo(0));
+    }
+
+    @Test
+    void submit_blocks_once_the_maximum_uploads_are_pending() throws InterruptedException {
+        final S3ObjectUploader objectUnderTest = createObjectUnderTest(1, 1);
+        final CountDownLatch uploadRelease = new CountDownLatch(1);
+        objectUnderTest.submit(() -> awaitQuietly(uploadRelease));
+        objectUnderTest.submit(() -> { });
+
+        final AtomicBoolean thirdSubmitted = new AtomicBoolean(false);
+        final Thread submitter = new Thread(() -> {
+            objectUnderTest.submit(() -> { });
+            thirdSubmitted.set(true);
+        });
+        submitter.start();
+        submitter.join(200);
+        assertThat(thirdSubmitted.get(), equalTo(false));
+
+        uploadRelease.countDown();
+        submitter.join(TimeUnit.SECONDS.toMillis(5));
+        assertThat(thirdSubmitted.get(), equalTo(true));
+        objectUnderTest.shutdown();
+    }
+
+    @Test
+    void submit_keeps_running_uploads_after_an_upload_throws() {
+        final S3ObjectUploader objectUnderTest = createObjectUnderTest(1, 0);
+        final AtomicInteger uploads = new AtomicInteger();
+
+        objectUnderTest.submit(() -> {
+            throw new RuntimeException();
+        });
+        objectUnderTest.submit(uploads::incrementAndGet);
+        objectUnderTest.shutdown();
+
+        assertThat(uploads.get(), equalTo(1));
+    }
+
+    @Test
+    void submit_runs_uploads_on_named_daemon_threads() {
+        final S3ObjectUploader objectUnderTest = createObjectUnderTest(1, 0);
+        final AtomicReference<Thread> uploadThread = new AtomicReference<>();
+
+        objectUnderTest.submit(() -> uploadThread.set(Thread.currentThread()));
+        objectUnderTest.shutdown();
+
+        assertThat(uploadThread.get().getName(), equalTo(PIPELINE_NAME + "-s3-sink-upload-1"));
+        assertThat(uploadThread.get().isDaemon(), equalTo(true));
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.sink.s3;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +33,7 @@ import org.opensearch.dataprepper.plugins.sink.s3.accumulator.InMemoryBufferFact
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.AwsAuthenticationOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.ObjectKeyOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.ThresholdOptions;
+import org.opensearch.dataprepper.plugins.sink.s3.grouping.S3GroupManager;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -45,6 +47,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -55,12 +59,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -75,6 +81,7 @@ class S3SinkServiceTest {
     public static final String OBJECT_KEY_NAME_PATTERN = "my-elb-%{yyyy-MM-dd'T'hh-mm-ss}";
     public static final String CODEC_PLUGIN_NAME = "json";
     public static final String PATH_PREFIX = "logdata/";
+    private static final String PIPELINE_NAME = "test-pipeline";
     private S3SinkConfig s3SinkConfig;
     private S3Client s3Client;
     private OutputCodec codec;
@@ -136,6 +143,7 @@ class S3SinkServiceTest {
         lenient().when(pluginMetrics.counter(S3SinkService.NUMBER_OF_RECORDS_FLUSHED_TO_S3_FAILED)).
                 thenReturn(numberOfRecordsFailedCounter);
         lenient().when(pluginMetrics.summary(S3SinkService.S3_OBJECTS_SIZE)).thenReturn(s3ObjectSizeSummary);
+        lenient().when(pluginMetrics.timer(S3SinkService.S3_UPLOAD_LATENCY)).thenReturn(mock(Timer.class));
     }
 
     private DefaultEventHandle castToDefaultHandle(EventHandle eventHandle) {
@@ -143,7 +151,8 @@ class S3SinkServiceTest {
     }
 
     private S3SinkService createObjectUnderTest() {
-        return new S3SinkService(s3SinkConfig, bufferFactory, codec, codecContext, s3Client, keyGenerator, Duration.ofMillis(100), pluginMetrics);
+        final S3GroupManager s3GroupManager = new S3GroupManager(s3SinkConfig, keyGenerator, bufferFactory, () -> codec, s3Client);
+        return new S3SinkService(s3SinkConfig, codecContext, Duration.ofMillis(100), pluginMetrics, s3GroupManager, PIPELINE_NAME);
     }
 
     @Test
@@ -168,7 +177,7 @@ class S3SinkServiceTest {
         S3SinkService s3SinkService = createObjectUnderTest();
         assertNotNull(s3SinkService);
         s3SinkService.output(generateRandomStringEventRecord());
-        verify(snapshotSuccessCounter, times(51)).increment();
+        verify(snapshotSuccessCounter, times(50)).increment();
     }
 
 
@@ -191,7 +200,7 @@ class S3SinkServiceTest {
         S3SinkService s3SinkService = createObjectUnderTest();
         assertNotNull(s3SinkService);
         s3SinkService.output(generateRandomStringEventRecord());
-        verify(snapshotSuccessCounter, times(51)).increment();
+        verify(snapshotSuccessCounter, times(50)).increment();
     }
 
     @Test
@@ -210,7 +219,65 @@ class S3SinkServiceTest {
         assertNotNull(s3SinkService);
         assertThat(s3SinkService, instanceOf(S3SinkService.class));
         s3SinkService.output(generateRandomStringEventRecord());
-        verify(snapshotSuccessCounter, times(51)).increment();
+        verify(snapshotSuccessCounter, times(50)).increment();
+    }
+
+    @Test
+    void output_with_background_uploads_uploads_and_releases_all_objects() throws IOException {
+        when(s3SinkConfig.getMaxConcurrentUploads()).thenReturn(2);
+        when(s3SinkConfig.getMaxPendingUploads()).thenReturn(1);
+        bufferFactory = mock(BufferFactory.class);
+        when(bufferFactory.getBuffer(any(S3Client.class), any(), any())).thenAnswer(a -> {
+            final Buffer buffer = mock(Buffer.class);
+            when(buffer.getEventCount()).thenReturn(10);
+            return buffer;
+        });
+
+        final S3SinkService s3SinkService = createObjectUnderTest();
+        final Collection<Record<Event>> records = generateRandomStringEventRecord();
+        for (final Record<Event> record : records) {
+            castToDefaultHandle(record.getData().getEventHandle()).setAcknowledgementSet(acknowledgementSet);
+        }
+        s3SinkService.output(records);
+        s3SinkService.shutdown();
+
+        verify(snapshotSuccessCounter, times(50)).increment();
+        for (final Record<Event> record : records) {
+            verify(acknowledgementSet).release(record.getData().getEventHandle(), true);
+        }
+    }
+
+    @Test
+    void output_does_not_block_other_workers_while_waiting_for_a_free_upload() throws Exception {
+        when(s3SinkConfig.getMaxConcurrentUploads()).thenReturn(1);
+        when(s3SinkConfig.getMaxPendingUploads()).thenReturn(0);
+        final CountDownLatch uploadRelease = new CountDownLatch(1);
+        bufferFactory = mock(BufferFactory.class);
+        when(bufferFactory.getBuffer(any(S3Client.class), any(), any())).thenAnswer(a -> {
+            final Buffer buffer = mock(Buffer.class);
+            when(buffer.getEventCount()).thenReturn(10);
+            doAnswer(flush -> uploadRelease.await(5, TimeUnit.SECONDS)).when(buffer).flushToS3();
+            return buffer;
+        });
+        final S3SinkService s3SinkService = createObjectUnderTest();
+        final Event blockedEvent = JacksonEvent.fromMessage(UUID.randomUUID().toString());
+        final Event otherWorkerEvent = JacksonEvent.fromMessage(UUID.randomUUID().toString());
+
+        final Thread blockedWorker = new Thread(() -> {
+            s3SinkService.output(Collections.singletonList(new Record<>(JacksonEvent.fromMessage(UUID.randomUUID().toString()))));
+            s3SinkService.output(Collections.singletonList(new Record<>(blockedEvent)));
+        });
+        blockedWorker.start();
+        verify(codec, timeout(5000)).writeEvent(eq(blockedEvent), any());
+        final Thread otherWorker = new Thread(() -> s3SinkService.output(Collections.singletonList(new Record<>(otherWorkerEvent))));
+        otherWorker.start();
+
+        verify(codec, timeout(5000)).writeEvent(eq(otherWorkerEvent), any());
+        uploadRelease.countDown();
+        blockedWorker.join(TimeUnit.SECONDS.toMillis(10));
+        otherWorker.join(TimeUnit.SECONDS.toMillis(10));
+        s3SinkService.shutdown();
+        verify(snapshotSuccessCounter, times(3)).increment();
     }
 
     @Test
@@ -229,7 +296,7 @@ class S3SinkServiceTest {
         final S3SinkService s3SinkService = createObjectUnderTest();
         s3SinkService.output(generateRandomStringEventRecord());
 
-        verify(s3ObjectSizeSummary, times(51)).record(objectSize);
+        verify(s3ObjectSizeSummary, times(50)).record(objectSize);
     }
 
     @Test
@@ -255,7 +322,7 @@ class S3SinkServiceTest {
 
         s3SinkService.output(generateEventRecords(2));
 
-        verify(snapshotSuccessCounter, times(3)).increment();
+        verify(snapshotSuccessCounter, times(2)).increment();
         verify(codec).writeEvent(any(), eq(outputStream1));
         verify(codec).writeEvent(any(), eq(outputStream2));
     }
@@ -293,7 +360,29 @@ class S3SinkServiceTest {
         s3SinkService.output(Collections.singletonList(new Record<>(event)));
 
         verify(s3ObjectSizeSummary, never()).record(anyLong());
-        verify(buffer, times(6)).flushToS3();
+        verify(buffer, times(3)).flushToS3();
+    }
+
+    @Test
+    void output_releases_event_handles_as_failed_when_upload_throws_unexpected_exception() throws IOException {
+        bufferFactory = mock(BufferFactory.class);
+        final Buffer buffer = mock(Buffer.class);
+        when(bufferFactory.getBuffer(any(S3Client.class), any(), any())).thenReturn(buffer);
+
+        doThrow(IllegalStateException.class).when(buffer).flushToS3();
+
+        final long objectSize = random.nextInt(1_000_000) + 10_000;
+        when(buffer.getSize()).thenReturn(objectSize);
+
+        final List<Record<Event>> records = generateEventRecords(1);
+        final DefaultEventHandle eventHandle = (DefaultEventHandle) records.get(0).getData().getEventHandle();
+        eventHandle.setAcknowledgementSet(acknowledgementSet);
+
+        createObjectUnderTest().output(records);
+
+        verify(acknowledgementSet).release(eventHandle, false);
+        verify(acknowledgementSet, never()).release(eventHandle, true);
+        verify(s3ObjectSizeSummary, never()).record(anyLong());
     }
 
     @Test
@@ -302,12 +391,12 @@ class S3SinkServiceTest {
         bufferFactory = mock(BufferFactory.class);
         Buffer buffer = mock(Buffer.class);
         when(bufferFactory.getBuffer(any(S3Client.class), any(), any())).thenReturn(buffer);
-        when(buffer.getEventCount()).thenReturn(10);
 
-        final OutputStream outputStream = mock(OutputStream.class);
-        final Event event = JacksonEvent.fromMessage(UUID.randomUUID().toString());
-        doNothing().when(codec).writeEvent(event, outputStream);
         final S3SinkService s3SinkService = createObjectUnderTest();
+        s3SinkService.output(generateEventRecords(1));
+        verify(buffer, never()).flushToS3();
+
+        when(buffer.getEventCount()).thenReturn(10);
         s3SinkService.output(Collections.emptyList());
 
         verify(snapshotSuccessCounter, times(1)).increment();
@@ -534,6 +623,34 @@ class S3SinkServiceTest {
         verify(acknowledgementSet, never()).release(eventHandle2, false);
     }
 
+    @Test
+    void output_will_open_a_new_object_after_codec_start_fails() throws IOException {
+        bufferFactory = mock(BufferFactory.class);
+        final Buffer failedBuffer = mock(Buffer.class);
+        final Buffer buffer = mock(Buffer.class);
+        when(bufferFactory.getBuffer(any(S3Client.class), any(), any())).thenReturn(failedBuffer).thenReturn(buffer);
+
+        final OutputStream failedOutputStream = mock(OutputStream.class);
+        final OutputStream outputStream = mock(OutputStream.class);
+        when(failedBuffer.getOutputStream()).thenReturn(failedOutputStream);
+        when(buffer.getOutputStream()).thenReturn(outputStream);
+
+        final List<Record<Event>> records = generateEventRecords(2);
+        final Event event1 = records.get(0).getData();
+        final Event event2 = records.get(1).getData();
+        final DefaultEventHandle eventHandle1 = (DefaultEventHandle) event1.getEventHandle();
+        eventHandle1.setAcknowledgementSet(acknowledgementSet);
+
+        doThrow(IOException.class).when(codec).start(eq(failedOutputStream), eq(event1), any());
+
+        createObjectUnderTest().output(records);
+
+        verify(codec).start(eq(outputStream), eq(event2), any());
+        verify(codec).writeEvent(event2, outputStream);
+        verify(codec, never()).writeEvent(event1, failedOutputStream);
+        verify(acknowledgementSet).release(eventHandle1, false);
+    }
+
     @Test
     void output_will_release_only_new_handles_since_a_flush_when_S3_fails() throws IOException {
         bufferFactory = mock(BufferFactory.class);
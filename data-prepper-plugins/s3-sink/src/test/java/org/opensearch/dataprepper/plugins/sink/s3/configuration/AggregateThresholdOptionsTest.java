@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3.configuration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class AggregateThresholdOptionsTest {
+
+    @Test
+    void default_maximum_size_is_unlimited() {
+        assertThat(new AggregateThresholdOptions().getMaximumSize(), nullValue());
+    }
+
+    @Test
+    void default_maximum_open_objects() {
+        assertThat(new AggregateThresholdOptions().getMaximumOpenObjects(),
+                equalTo(AggregateThresholdOptions.DEFAULT_MAXIMUM_OPEN_OBJECTS));
+    }
+
+    @Test
+    void default_flush_capacity_ratio() {
+        assertThat(new AggregateThresholdOptions().getFlushCapacityRatio(),
+                equalTo(AggregateThresholdOptions.DEFAULT_FLUSH_CAPACITY_RATIO));
+    }
+}
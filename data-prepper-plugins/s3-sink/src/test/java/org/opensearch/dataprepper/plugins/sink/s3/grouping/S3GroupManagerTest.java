@@ -0,0 +1,156 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3.grouping;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.codec.OutputCodec;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.plugins.sink.s3.KeyGenerator;
+import org.opensearch.dataprepper.plugins.sink.s3.S3SinkConfig;
+import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
+import org.opensearch.dataprepper.plugins.sink.s3.accumulator.BufferFactory;
+import org.opensearch.dataprepper.plugins.sink.s3.configuration.AggregateThresholdOptions;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3GroupManagerTest {
+    @Mock
+    private S3SinkConfig s3SinkConfig;
+    @Mock
+    private AggregateThresholdOptions aggregateThresholdOptions;
+    @Mock
+    private KeyGenerator keyGenerator;
+    @Mock
+    private BufferFactory bufferFactory;
+    @Mock
+    private S3Client s3Client;
+
+    private int codecsCreated;
+
+    @BeforeEach
+    void setUp() {
+        codecsCreated = 0;
+        when(s3SinkConfig.getAggregateThresholdOptions()).thenReturn(aggregateThresholdOptions);
+        when(aggregateThresholdOptions.getMaximumOpenObjects()).thenReturn(4);
+        when(aggregateThresholdOptions.getFlushCapacityRatio()).thenReturn(0.5);
+        lenient().when(bufferFactory.getBuffer(eq(s3Client), any(), any())).thenAnswer(a -> mock(Buffer.class));
+    }
+
+    private S3GroupManager createObjectUnderTest() {
+        return new S3GroupManager(s3SinkConfig, keyGenerator, bufferFactory, () -> {
+            codecsCreated++;
+            return mock(OutputCodec.class);
+        }, s3Client);
+    }
+
+    private Event eventForPrefix(final String prefix) {
+        final Event event = mock(Event.class);
+        when(keyGenerator.resolvePathPrefix(event)).thenReturn(prefix);
+        return event;
+    }
+
+    @Test
+    void getOrCreateGroupForEvent_returns_same_group_for_same_path_prefix() {
+        final S3GroupManager objectUnderTest = createObjectUnderTest();
+        final String prefix = UUID.randomUUID().toString();
+
+        final S3Group first = objectUnderTest.getOrCreateGroupForEvent(eventForPrefix(prefix));
+        final S3Group second = objectUnderTest.getOrCreateGroupForEvent(eventForPrefix(prefix));
+
+        assertThat(second, sameInstance(first));
+        assertThat(objectUnderTest.getNumberOfGroups(), equalTo(1));
+        assertThat(codecsCreated, equalTo(1));
+    }
+
+    @Test
+    void getOrCreateGroupForEvent_opens_an_object_with_its_own_codec_per_path_prefix() {
+        final S3GroupManager objectUnderTest = createObjectUnderTest();
+
+        final S3Group first = objectUnderTest.getOrCreateGroupForEvent(eventForPrefix(UUID.randomUUID().toString()));
+        final S3Group second = objectUnderTest.getOrCreateGroupForEvent(eventForPrefix(UUID.randomUUID().toString()));
+
+        assertThat(second, not(sameInstance(first)));
+        assertThat(second.getOutputCodec(), not(sameInstance(first.getOutputCodec())));
+        assertThat(second.getBuffer(), not(sameInstance(first.getBuffer())));
+        assertThat(objectUnderTest.getNumberOfGroups(), equalTo(2));
+        verify(bufferFactory, times(2)).getBuffer(eq(s3Client), any(), any());
+    }
+
+    @Test
+    void removeGroup_removes_the_group() {
+        final S3GroupManager objectUnderTest = createObjectUnderTest();
+        final S3Group s3Group = objectUnderTest.getOrCreateGroupForEvent(eventForPrefix(UUID.randomUUID().toString()));
+
+        objectUnderTest.removeGroup(s3Group);
+
+        assertThat(objectUnderTest.hasNoGroups(), equalTo(true));
+    }
+
+    @Test
+    void getGroupsToEvict_is_empty_within_the_thresholds() {
+        final S3GroupManager objectUnderTest = createObjectUnderTest();
+        for (int i = 0; i < 4; i++) {
+            objectUnderTest.getOrCreateGroupForEvent(eventForPrefix(UUID.randomUUID().toString()));
+        }
+
+        assertThat(objectUnderTest.exceedsMaximumOpenObjects(), equalTo(false));
+        assertThat(objectUnderTest.getGroupsToEvict(), empty());
+    }
+
+    @Test
+    void getGroupsToEvict_picks_least_recently_used_groups_when_too_many_objects_are_open() {
+        final S3GroupManager objectUnderTest = createObjectUnderTest();
+        final Event event0 = eventForPrefix("a");
+        final S3Group group0 = objectUnderTest.getOrCreateGroupForEvent(event0);
+        final S3Group group1 = objectUnderTest.getOrCreateGroupForEvent(eventForPrefix("b"));
+        final S3Group group2 = objectUnderTest.getOrCreateGroupForEvent(eventForPrefix("c"));
+        objectUnderTest.getOrCreateGroupForEvent(eventForPrefix("d"));
+        objectUnderTest.getOrCreateGroupForEvent(event0);
+        objectUnderTest.getOrCreateGroupForEvent(eventForPrefix("e"));
+
+        assertThat(objectUnderTest.exceedsMaximumOpenObjects(), equalTo(true));
+        final List<S3Group> groupsToEvict = objectUnderTest.getGroupsToEvict();
+
+        assertThat(groupsToEvict, contains(group1, group2, objectUnderTest.getS3GroupEntries().get(2)));
+        assertThat(groupsToEvict.contains(group0), equalTo(false));
+    }
+
+    @Test
+    void getGroupsToEvict_picks_least_recently_used_groups_when_aggregate_size_is_exceeded() {
+        when(aggregateThresholdOptions.getMaximumSize()).thenReturn(ByteCount.ofBytes(100));
+        final S3GroupManager objectUnderTest = createObjectUnderTest();
+        final S3Group group0 = objectUnderTest.getOrCreateGroupForEvent(eventForPrefix("a"));
+        final S3Group group1 = objectUnderTest.getOrCreateGroupForEvent(eventForPrefix("b"));
+        final S3Group group2 = objectUnderTest.getOrCreateGroupForEvent(eventForPrefix("c"));
+        when(group0.getBuffer().getSize()).thenReturn(40L);
+        when(group1.getBuffer().getSize()).thenReturn(40L);
+        when(group2.getBuffer().getSize()).thenReturn(40L);
+
+        assertThat(objectUnderTest.getGroupsToEvict(), contains(group0, group1));
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.codec.InputCodec;
 import org.opensearch.dataprepper.model.event.Event;
@@ -84,6 +85,7 @@ class S3ObjectWorkerIT {
         when(s3ObjectPluginMetrics.getS3ObjectEventsSummary()).thenReturn(distributionSummary);
         when(s3ObjectPluginMetrics.getS3ObjectSizeProcessedSummary()).thenReturn(distributionSummary);
         when(s3ObjectPluginMetrics.getS3ObjectReadTimer()).thenReturn(timer);
+        when(s3ObjectPluginMetrics.getPluginMetrics()).thenReturn(mock(PluginMetrics.class));
         when(s3ObjectPluginMetrics.getS3ObjectNoRecordsFound()).thenReturn(counter);
 
         bucketOwnerProvider = b -> Optional.empty();
@@ -149,6 +149,7 @@ public class S3ScanObjectWorkerIT {
         lenient().when(s3ObjectPluginMetrics.getS3ObjectEventsSummary()).thenReturn(distributionSummary);
         lenient().when(s3ObjectPluginMetrics.getS3ObjectSizeProcessedSummary()).thenReturn(distributionSummary);
         lenient().when(s3ObjectPluginMetrics.getS3ObjectReadTimer()).thenReturn(timer);
+        lenient().when(s3ObjectPluginMetrics.getPluginMetrics()).thenReturn(mock(PluginMetrics.class));
         bucketOwnerProvider = b -> Optional.empty();
 
         final SourceCoordinationStore inMemoryStore = new InMemorySourceCoordinationStore(new PluginSetting("in_memory", Collections.emptyMap()));
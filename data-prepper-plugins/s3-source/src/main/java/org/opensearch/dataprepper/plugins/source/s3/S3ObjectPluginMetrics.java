@@ -28,8 +28,10 @@ public class S3ObjectPluginMetrics {
     private final DistributionSummary s3ObjectSizeProcessedSummary;
     private final DistributionSummary s3ObjectEventsSummary;
     private final Counter s3ObjectNoRecordsFound;
+    private final PluginMetrics pluginMetrics;
 
     public S3ObjectPluginMetrics(final PluginMetrics pluginMetrics){
+        this.pluginMetrics = pluginMetrics;
         s3ObjectsFailedCounter = pluginMetrics.counter(S3_OBJECTS_FAILED_METRIC_NAME);
         s3ObjectsFailedNotFoundCounter = pluginMetrics.counter(S3_OBJECTS_FAILED_NOT_FOUND_METRIC_NAME);
         s3ObjectsFailedAccessDeniedCounter = pluginMetrics.counter(S3_OBJECTS_FAILED_NOT_FOUND_ACCESS_DENIED);
@@ -41,6 +43,10 @@ public class S3ObjectPluginMetrics {
         s3ObjectNoRecordsFound = pluginMetrics.counter(S3_OBJECTS_NO_RECORDS_FOUND);
     }
 
+    public PluginMetrics getPluginMetrics() {
+        return pluginMetrics;
+    }
+
     public Counter getS3ObjectsFailedCounter() {
         return s3ObjectsFailedCounter;
     }
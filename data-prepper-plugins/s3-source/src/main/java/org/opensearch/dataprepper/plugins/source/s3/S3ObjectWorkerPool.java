@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.plugins.source.s3.exception.SqsRetriesExhaustedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Processes S3 objects on a fixed number of worker threads, so that one large object does not
+ * hold up the other objects notified in the same SQS batch. {@link #submit(Runnable)} blocks the
+ * caller while every worker is busy, so objects are never queued behind the workers.
+ * <p>
+ * A {@link SqsRetriesExhaustedException} thrown while processing an object is rethrown to the
+ * thread submitting objects, so that it stops polling SQS as it does without workers.
+ */
+class S3ObjectWorkerPool {
+    private static final Logger LOG = LoggerFactory.getLogger(S3ObjectWorkerPool.class);
+    static final String S3_OBJECTS_IN_FLIGHT_METRIC_NAME = "s3ObjectsInFlight";
+    static final String S3_OBJECT_WORKER_UTILIZATION_METRIC_NAME = "s3ObjectWorkerUtilization";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+    private static final String WORKER_THREAD_NAME_FORMAT = "s3-source-sqs-object-worker-%d";
+
+    private final int workers;
+    private final ExecutorService executorService;
+    private final Semaphore workerPermits;
+    private final AtomicInteger objectsInFlight;
+    private final AtomicReference<SqsRetriesExhaustedException> retriesExhaustedException;
+
+    S3ObjectWorkerPool(final int workers, final PluginMetrics pluginMetrics) {
+        this.workers = workers;
+        executorService = Executors.newFixedThreadPool(workers, createThreadFactory());
+        workerPermits = new Semaphore(workers);
+        objectsInFlight = new AtomicInteger();
+        retriesExhaustedException = new AtomicReference<>();
+
+        pluginMetrics.gauge(S3_OBJECTS_IN_FLIGHT_METRIC_NAME, objectsInFlight, AtomicInteger::get);
+        pluginMetrics.gauge(S3_OBJECT_WORKER_UTILIZATION_METRIC_NAME, this, S3ObjectWorkerPool::getUtilization);
+    }
+
+    /**
+     * Runs the processing of an object on a worker, blocking until a worker is free.
+     *
+     * @param objectProcessing the processing of one object
+     * @throws SqsRetriesExhaustedException if SQS retries were exhausted while processing an earlier object
+     */
+    void submit(final Runnable objectProcessing) {
+        workerPermits.acquireUninterruptibly();
+        objectsInFlight.incrementAndGet();
+        try {
+            throwIfRetriesExhausted();
+            executorService.execute(() -> {
+                try {
+                    objectProcessing.run();
+                } catch (final SqsRetriesExhaustedException e) {
+                    retriesExhaustedException.compareAndSet(null, e);
+                } catch (final RuntimeException e) {
+                    LOG.error("Unexpected exception while processing an S3 object.", e);
+                } finally {
+                    objectsInFlight.decrementAndGet();
+                    workerPermits.release();
+                }
+            });
+        } catch (final RuntimeException e) {
+            objectsInFlight.decrementAndGet();
+            workerPermits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Blocks until at least one worker is free. Only the thread submitting objects takes
+     * workers, so a worker found free stays free until that thread submits an object.
+     *
+     * @throws SqsRetriesExhaustedException if SQS retries were exhausted while processing an object
+     */
+    void awaitAvailableWorker() {
+        workerPermits.acquireUninterruptibly();
+        workerPermits.release();
+        throwIfRetriesExhausted();
+    }
+
+    /**
+     * @return the number of workers which are not processing an object
+     */
+    int getAvailableWorkers() {
+        return workerPermits.availablePermits();
+    }
+
+    int getObjectsInFlight() {
+        return objectsInFlight.get();
+    }
+
+    double getUtilization() {
+        return (double) objectsInFlight.get() / workers;
+    }
+
+    private void throwIfRetriesExhausted() {
+        final SqsRetriesExhaustedException e = retriesExhaustedException.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, String.format(WORKER_THREAD_NAME_FORMAT, threadNumber.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Stops accepting objects and waits for the objects in flight to finish.
+     */
+    void shutdown() {
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOG.warn("S3 objects were still being processed {} seconds after shutdown.", SHUTDOWN_TIMEOUT_SECONDS);
+                executorService.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -116,7 +116,8 @@ public class S3SelectObjectWorker implements S3ObjectHandler {
 
     private void selectObject(final S3ObjectReference s3ObjectReference, final AcknowledgementSet acknowledgementSet) throws IOException {
         final InputSerialization inputSerialization = getInputSerializationFormat(serializationFormatOption);
-        final BufferAccumulator<Record<Event>> bufferAccumulator = BufferAccumulator.create(buffer, numberOfRecordsToAccumulate, bufferTimeout);
+        final BufferAccumulator<Record<Event>> bufferAccumulator = BufferAccumulator.create(buffer, numberOfRecordsToAccumulate, bufferTimeout,
+                s3ObjectPluginMetrics.getPluginMetrics());
 
         if (isScanRangeSupported()) {
             selectObjectInBatches(s3ObjectReference, acknowledgementSet, inputSerialization, bufferAccumulator);
@@ -41,10 +41,11 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class SqsWorker implements Runnable {
@@ -75,13 +76,15 @@ public class SqsWorker implements Runnable {
     private final Counter sqsVisibilityTimeoutChangeFailedCount;
     private final Timer sqsMessageDelayTimer;
     private final Backoff standardBackoff;
-    private int failedAttemptCount;
+    private final AtomicInteger failedAttemptCount;
+    private final ThreadLocal<AtomicInteger> workerFailedAttemptCount;
     private final boolean endToEndAcknowledgementsEnabled;
     private final AcknowledgementSetManager acknowledgementSetManager;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
     private volatile boolean isStopped = false;
-    private Map<ParsedMessage, Integer> parsedMessageVisibilityTimesMap;
+    private final Map<ParsedMessage, Integer> parsedMessageVisibilityTimesMap;
+    private final S3ObjectWorkerPool s3ObjectWorkerPool;
 
     public SqsWorker(final AcknowledgementSetManager acknowledgementSetManager,
                      final SqsClient sqsClient,
@@ -98,8 +101,10 @@ public class SqsWorker implements Runnable {
         sqsOptions = s3SourceConfig.getSqsOptions();
         objectCreatedFilter = new S3ObjectCreatedFilter();
         evenBridgeObjectCreatedFilter = new EventBridgeObjectCreatedFilter();
-        failedAttemptCount = 0;
-        parsedMessageVisibilityTimesMap = new HashMap<>();
+        failedAttemptCount = new AtomicInteger();
+        workerFailedAttemptCount = ThreadLocal.withInitial(AtomicInteger::new);
+        parsedMessageVisibilityTimesMap = new ConcurrentHashMap<>();
+        s3ObjectWorkerPool = sqsOptions.getWorkers() > 1 ? new S3ObjectWorkerPool(sqsOptions.getWorkers(), pluginMetrics) : null;
 
         sqsMessagesReceivedCounter = pluginMetrics.counter(SQS_MESSAGES_RECEIVED_METRIC_NAME);
         sqsMessagesDeletedCounter = pluginMetrics.counter(SQS_MESSAGES_DELETED_METRIC_NAME);
@@ -114,27 +119,37 @@ public class SqsWorker implements Runnable {
 
     @Override
     public void run() {
-        while (!isStopped) {
-            int messagesProcessed = 0;
-            try {
-                messagesProcessed = processSqsMessages();
-            } catch (final Exception e) {
-                LOG.error("Unable to process SQS messages. Processing error due to: {}", e.getMessage());
-                // There shouldn't be any exceptions caught here, but added backoff just to control the amount of logging in case of an exception is thrown.
-                applyBackoff();
-            }
-
-            if (messagesProcessed > 0 && s3SourceConfig.getSqsOptions().getPollDelay().toMillis() > 0) {
+        try {
+            while (!isStopped) {
+                int messagesProcessed = 0;
                 try {
-                    Thread.sleep(s3SourceConfig.getSqsOptions().getPollDelay().toMillis());
-                } catch (final InterruptedException e) {
-                    LOG.error("Thread is interrupted while polling SQS.", e);
+                    messagesProcessed = processSqsMessages();
+                } catch (final Exception e) {
+                    LOG.error("Unable to process SQS messages. Processing error due to: {}", e.getMessage());
+                    // There shouldn't be any exceptions caught here, but added backoff just to control the amount of logging in case of an exception is thrown.
+                    applyBackoff();
+                }
+
+                if (messagesProcessed > 0 && s3SourceConfig.getSqsOptions().getPollDelay().toMillis() > 0) {
+                    try {
+                        Thread.sleep(s3SourceConfig.getSqsOptions().getPollDelay().toMillis());
+                    } catch (final InterruptedException e) {
+                        LOG.error("Thread is interrupted while polling SQS.", e);
+                    }
                 }
             }
+        } finally {
+            if (s3ObjectWorkerPool != null) {
+                s3ObjectWorkerPool.shutdown();
+            }
         }
     }
 
     int processSqsMessages() {
+        if (s3ObjectWorkerPool != null) {
+            // Messages are only received when they can be processed, so that their visibility timeout is not spent waiting for a worker.
+            s3ObjectWorkerPool.awaitAvailableWorker();
+        }
         final List<Message> sqsMessages = getMessagesFromSqs();
         if (!sqsMessages.isEmpty()) {
             sqsMessagesReceivedCounter.increment(sqsMessages.size());
@@ -157,7 +172,7 @@ public class SqsWorker implements Runnable {
         try {
             final ReceiveMessageRequest receiveMessageRequest = createReceiveMessageRequest();
             final List<Message> messages = sqsClient.receiveMessage(receiveMessageRequest).messages();
-            failedAttemptCount = 0;
+            failedAttemptCount.set(0);
             return messages;
         } catch (final SqsException | StsException e) {
             LOG.error("Error reading from SQS: {}. Retrying with exponential backoff.", e.getMessage());
@@ -167,7 +182,11 @@ public class SqsWorker implements Runnable {
     }
 
     private void applyBackoff() {
-        final long delayMillis = standardBackoff.nextDelayMillis(++failedAttemptCount);
+        applyBackoff(failedAttemptCount);
+    }
+
+    private void applyBackoff(final AtomicInteger attemptCount) {
+        final long delayMillis = standardBackoff.nextDelayMillis(attemptCount.incrementAndGet());
         if (delayMillis < 0) {
             Thread.currentThread().interrupt();
             throw new SqsRetriesExhaustedException("SQS retries exhausted. Make sure that SQS configuration is valid, SQS queue exists, and IAM role has required permissions.");
@@ -183,9 +202,14 @@ public class SqsWorker implements Runnable {
     }
 
     private ReceiveMessageRequest createReceiveMessageRequest() {
+        int maximumMessages = sqsOptions.getMaximumMessages();
+        if (s3ObjectWorkerPool != null) {
+            // Messages beyond the free workers would wait for a worker while their visibility timeout runs.
+            maximumMessages = Math.min(maximumMessages, s3ObjectWorkerPool.getAvailableWorkers());
+        }
         return ReceiveMessageRequest.builder()
                 .queueUrl(sqsOptions.getSqsUrl())
-                .maxNumberOfMessages(sqsOptions.getMaximumMessages())
+                .maxNumberOfMessages(maximumMessages)
                 .visibilityTimeout((int) sqsOptions.getVisibilityTimeout().getSeconds())
                 .waitTimeSeconds((int) sqsOptions.getWaitTime().getSeconds())
                 .build();
@@ -244,70 +268,85 @@ public class SqsWorker implements Runnable {
         LOG.info("Received {} messages from SQS. Processing {} messages.", s3EventNotificationRecords.size(), parsedMessagesToRead.size());
 
         for (ParsedMessage parsedMessage : parsedMessagesToRead) {
-            List<DeleteMessageBatchRequestEntry> waitingForAcknowledgements = new ArrayList<>();
-            AcknowledgementSet acknowledgementSet = null;
-            final int visibilityTimeout = (int)sqsOptions.getVisibilityTimeout().getSeconds();
-            final int maxVisibilityTimeout = (int)sqsOptions.getVisibilityDuplicateProtectionTimeout().getSeconds();
-            final int progressCheckInterval = visibilityTimeout/2 - 1;
-            if (endToEndAcknowledgementsEnabled) {
-                int expiryTimeout = visibilityTimeout - 2;
-                final boolean visibilityDuplicateProtectionEnabled = sqsOptions.getVisibilityDuplicateProtection();
-                if (visibilityDuplicateProtectionEnabled) {
-                    expiryTimeout = maxVisibilityTimeout;
-                }
-                acknowledgementSet = acknowledgementSetManager.create(
-                    (result) -> {
-                        acknowledgementSetCallbackCounter.increment();
-                        // Delete only if this is positive acknowledgement
-                        if (visibilityDuplicateProtectionEnabled) {
-                            parsedMessageVisibilityTimesMap.remove(parsedMessage);
-                        }
-                        if (result == true) {
-                            deleteSqsMessages(waitingForAcknowledgements);
-                        }
-                    },
-                    Duration.ofSeconds(expiryTimeout));
-                if (visibilityDuplicateProtectionEnabled) {
-                    acknowledgementSet.addProgressCheck(
-                        (ratio) -> {
-                            final int newVisibilityTimeoutSeconds = visibilityTimeout;
-                            int newValue = parsedMessageVisibilityTimesMap.getOrDefault(parsedMessage, visibilityTimeout) + progressCheckInterval;
-                            if (newValue >= maxVisibilityTimeout) {
-                                return;
-                            }
-                            parsedMessageVisibilityTimesMap.put(parsedMessage, newValue);
-                            final ChangeMessageVisibilityRequest changeMessageVisibilityRequest = ChangeMessageVisibilityRequest.builder()
-                                    .visibilityTimeout(newVisibilityTimeoutSeconds)
-                                    .queueUrl(sqsOptions.getSqsUrl())
-                                    .receiptHandle(parsedMessage.getMessage().receiptHandle())
-                                    .build();
-
-                            try {
-                                sqsClient.changeMessageVisibility(changeMessageVisibilityRequest);
-                                sqsVisibilityTimeoutChangedCount.increment();
-                                LOG.debug("Set visibility timeout for message {} to {}", parsedMessage.getMessage().messageId(), newVisibilityTimeoutSeconds);
-                            } catch (Exception e) {
-                                LOG.error("Failed to set visibility timeout for message {} to {}", parsedMessage.getMessage().messageId(), newVisibilityTimeoutSeconds, e);
-                                sqsVisibilityTimeoutChangeFailedCount.increment();
-                            }
-
-                        },
-                        Duration.ofSeconds(progressCheckInterval));
-                }
-            }
-            final S3ObjectReference s3ObjectReference = populateS3Reference(parsedMessage.getBucketName(), parsedMessage.getObjectKey());
-            final Optional<DeleteMessageBatchRequestEntry> deleteMessageBatchRequestEntry = processS3Object(parsedMessage, s3ObjectReference, acknowledgementSet);
-            if (endToEndAcknowledgementsEnabled) {
-                deleteMessageBatchRequestEntry.ifPresent(waitingForAcknowledgements::add);
-                acknowledgementSet.complete();
+            if (s3ObjectWorkerPool == null) {
+                processParsedMessage(parsedMessage).ifPresent(deleteMessageBatchRequestEntryCollection::add);
             } else {
-                deleteMessageBatchRequestEntry.ifPresent(deleteMessageBatchRequestEntryCollection::add);
+                // Each message is deleted by the worker reading its object, without waiting for the other objects in the batch.
+                s3ObjectWorkerPool.submit(() -> processParsedMessage(parsedMessage)
+                        .ifPresent(deleteMessageBatchRequestEntry -> deleteSqsMessages(Collections.singletonList(deleteMessageBatchRequestEntry))));
             }
         }
 
         return deleteMessageBatchRequestEntryCollection;
     }
 
+    /**
+     * Reads the S3 object of a message.
+     *
+     * @return the entry to delete the message, when it is processed and end-to-end acknowledgements are disabled
+     */
+    private Optional<DeleteMessageBatchRequestEntry> processParsedMessage(final ParsedMessage parsedMessage) {
+        List<DeleteMessageBatchRequestEntry> waitingForAcknowledgements = new ArrayList<>();
+        AcknowledgementSet acknowledgementSet = null;
+        final int visibilityTimeout = (int)sqsOptions.getVisibilityTimeout().getSeconds();
+        final int maxVisibilityTimeout = (int)sqsOptions.getVisibilityDuplicateProtectionTimeout().getSeconds();
+        final int progressCheckInterval = visibilityTimeout/2 - 1;
+        if (endToEndAcknowledgementsEnabled) {
+            int expiryTimeout = visibilityTimeout - 2;
+            final boolean visibilityDuplicateProtectionEnabled = sqsOptions.getVisibilityDuplicateProtection();
+            if (visibilityDuplicateProtectionEnabled) {
+                expiryTimeout = maxVisibilityTimeout;
+            }
+            acknowledgementSet = acknowledgementSetManager.create(
+                (result) -> {
+                    acknowledgementSetCallbackCounter.increment();
+                    // Delete only if this is positive acknowledgement
+                    if (visibilityDuplicateProtectionEnabled) {
+                        parsedMessageVisibilityTimesMap.remove(parsedMessage);
+                    }
+                    if (result == true) {
+                        deleteSqsMessages(waitingForAcknowledgements);
+                    }
+                },
+                Duration.ofSeconds(expiryTimeout));
+            if (visibilityDuplicateProtectionEnabled) {
+                acknowledgementSet.addProgressCheck(
+                    (ratio) -> {
+                        final int newVisibilityTimeoutSeconds = visibilityTimeout;
+                        int newValue = parsedMessageVisibilityTimesMap.getOrDefault(parsedMessage, visibilityTimeout) + progressCheckInterval;
+                        if (newValue >= maxVisibilityTimeout) {
+                            return;
+                        }
+                        parsedMessageVisibilityTimesMap.put(parsedMessage, newValue);
+                        final ChangeMessageVisibilityRequest changeMessageVisibilityRequest = ChangeMessageVisibilityRequest.builder()
+                                .visibilityTimeout(newVisibilityTimeoutSeconds)
+                                .queueUrl(sqsOptions.getSqsUrl())
+                                .receiptHandle(parsedMessage.getMessage().receiptHandle())
+                                .build();
+
+                        try {
+                            sqsClient.changeMessageVisibility(changeMessageVisibilityRequest);
+                            sqsVisibilityTimeoutChangedCount.increment();
+                            LOG.debug("Set visibility timeout for message {} to {}", parsedMessage.getMessage().messageId(), newVisibilityTimeoutSeconds);
+                        } catch (Exception e) {
+                            LOG.error("Failed to set visibility timeout for message {} to {}", parsedMessage.getMessage().messageId(), newVisibilityTimeoutSeconds, e);
+                            sqsVisibilityTimeoutChangeFailedCount.increment();
+                        }
+
+                    },
+                    Duration.ofSeconds(progressCheckInterval));
+            }
+        }
+        final S3ObjectReference s3ObjectReference = populateS3Reference(parsedMessage.getBucketName(), parsedMessage.getObjectKey());
+        final Optional<DeleteMessageBatchRequestEntry> deleteMessageBatchRequestEntry = processS3Object(parsedMessage, s3ObjectReference, acknowledgementSet);
+        if (endToEndAcknowledgementsEnabled) {
+            deleteMessageBatchRequestEntry.ifPresent(waitingForAcknowledgements::add);
+            acknowledgementSet.complete();
+            return Optional.empty();
+        }
+        return deleteMessageBatchRequestEntry;
+    }
+
     private Optional<DeleteMessageBatchRequestEntry> processS3Object(
             final ParsedMessage parsedMessage,
             final S3ObjectReference s3ObjectReference,
@@ -319,14 +358,26 @@ public class SqsWorker implements Runnable {
                     Instant.ofEpochMilli(parsedMessage.getEventTime().toInstant().getMillis()),
                     Instant.now()
             ));
+            if (s3ObjectWorkerPool != null) {
+                workerFailedAttemptCount.get().set(0);
+            }
             return Optional.of(buildDeleteMessageBatchRequestEntry(parsedMessage.getMessage()));
         } catch (final Exception e) {
             LOG.error("Error processing from S3: {}. Retrying with exponential backoff.", e.getMessage());
-            applyBackoff();
+            applyBackoff(getObjectFailedAttemptCount());
             return Optional.empty();
         }
     }
 
+    /**
+     * Each worker backs off on its own consecutive object failures, so that objects failing on
+     * several workers at once do not exhaust the retries sooner, and a successful SQS receive
+     * does not reset the backoff of objects which keep failing.
+     */
+    private AtomicInteger getObjectFailedAttemptCount() {
+        return s3ObjectWorkerPool != null ? workerFailedAttemptCount.get() : failedAttemptCount;
+    }
+
     private void deleteSqsMessages(final List<DeleteMessageBatchRequestEntry> deleteMessageBatchRequestEntryCollection) {
         if (deleteMessageBatchRequestEntryCollection.size() == 0) {
             return;
@@ -21,6 +21,7 @@ public class SqsOptions {
     private static final Duration DEFAULT_VISIBILITY_DUPLICATE_PROTECTION_TIMEOUT = Duration.ofHours(2);
     private static final Duration DEFAULT_WAIT_TIME_SECONDS = Duration.ofSeconds(20);
     private static final Duration DEFAULT_POLL_DELAY_SECONDS = Duration.ofSeconds(0);
+    private static final int DEFAULT_WORKERS = 1;
 
     @JsonProperty("queue_url")
     @NotBlank(message = "SQS URL cannot be null or empty")
@@ -53,6 +54,11 @@ public class SqsOptions {
     @DurationMin(seconds = 0)
     private Duration pollDelay = DEFAULT_POLL_DELAY_SECONDS;
 
+    @JsonProperty("workers")
+    @Min(1)
+    @Max(1000)
+    private int workers = DEFAULT_WORKERS;
+
     public String getSqsUrl() {
         return sqsUrl;
     }
@@ -80,4 +86,8 @@ public class SqsOptions {
     public Duration getPollDelay() {
         return pollDelay;
     }
+
+    public int getWorkers() {
+        return workers;
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.plugins.source.s3.exception.SqsRetriesExhaustedException;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class S3ObjectWorkerPoolTest {
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    private S3ObjectWorkerPool createObjectUnderTest(final int workers) {
+        return new S3ObjectWorkerPool(workers, pluginMetrics);
+    }
+
+    @Test
+    void constructor_registers_gauges() {
+        final S3ObjectWorkerPool objectUnderTest = createObjectUnderTest(1);
+        objectUnderTest.shutdown();
+
+        verify(pluginMetrics).gauge(eq(S3ObjectWorkerPool.S3_OBJECTS_IN_FLIGHT_METRIC_NAME), any(AtomicInteger.class), any());
+        verify(pluginMetrics).gauge(eq(S3ObjectWorkerPool.S3_OBJECT_WORKER_UTILIZATION_METRIC_NAME), eq(objectUnderTest), any());
+    }
+
+    @Test
+    void submit_runs_objects_on_named_daemon_threads() throws InterruptedException {
+        final S3ObjectWorkerPool objectUnderTest = createObjectUnderTest(1);
+        final AtomicReference<Thread> workerThread = new AtomicReference<>();
+        final CountDownLatch processed = new CountDownLatch(1);
+
+        objectUnderTest.submit(() -> {
+            workerThread.set(Thread.currentThread());
+            processed.countDown();
+        });
+
+        assertThat(processed.await(5, TimeUnit.SECONDS), equalTo(true));
+        objectUnderTest.shutdown();
+        assertThat(workerThread.get().getName(), equalTo("s3-source-sqs-object-worker-1"));
+        assertThat(workerThread.get().isDaemon(), equalTo(true));
+    }
+
+    @Test
+    void submit_processes_all_objects_before_shutdown_completes() {
+        final S3ObjectWorkerPool objectUnderTest = createObjectUnderTest(2);
+        final AtomicInteger objects = new AtomicInteger();
+
+        for (int i = 0; i < 20; i++) {
+            objectUnderTest.submit(objects::incrementAndGet);
+        }
+        objectUnderTest.shutdown();
+
+        assertThat(objects.get(), equalTo(20));
+        assertThat(objectUnderTest.getObjectsInFlight(), equalTo(0));
+    }
+
+    @Test
+    void submit_blocks_while_all_workers_are_busy_and_utilization_is_reported() throws InterruptedException {
+        final S3ObjectWorkerPool objectUnderTest = createObjectUnderTest(2);
+        final CountDownLatch objectRelease = new CountDownLatch(1);
+        objectUnderTest.submit(() -> awaitQuietly(objectRelease));
+        assertThat(objectUnderTest.getUtilization(), equalTo(0.5));
+        objectUnderTest.submit(() -> awaitQuietly(objectRelease));
+        assertThat(objectUnderTest.getObjectsInFlight(), equalTo(2));
+        assertThat(objectUnderTest.getUtilization(), equalTo(1.0));
+
+        final AtomicBoolean workerAvailable = new AtomicBoolean(false);
+        final AtomicBoolean thirdSubmitted = new AtomicBoolean(false);
+        final Thread submitter = new Thread(() -> {
+            objectUnderTest.awaitAvailableWorker();
+            workerAvailable.set(true);
+            objectUnderTest.submit(() -> { });
+            thirdSubmitted.set(true);
+        });
+        submitter.start();
+        submitter.join(200);
+        assertThat(workerAvailable.get(), equalTo(false));
+        assertThat(thirdSubmitted.get(), equalTo(false));
+
+        objectRelease.countDown();
+        submitter.join(TimeUnit.SECONDS.toMillis(5));
+        assertThat(workerAvailable.get(), equalTo(true));
+        assertThat(thirdSubmitted.get(), equalTo(true));
+        objectUnderTest.shutdown();
+    }
+
+    @Test
+    void submit_keeps_processing_objects_after_an_object_throws() {
+        final S3ObjectWorkerPool objectUnderTest = createObjectUnderTest(1);
+        final AtomicInteger objects = new AtomicInteger();
+
+        objectUnderTest.submit(() -> {
+            throw new RuntimeException();
+        });
+        objectUnderTest.submit(objects::incrementAndGet);
+        objectUnderTest.shutdown();
+
+        assertThat(objects.get(), equalTo(1));
+        assertThat(objectUnderTest.getObjectsInFlight(), equalTo(0));
+    }
+
+    @Test
+    void getAvailableWorkers_returns_the_workers_not_processing_an_object() {
+        final S3ObjectWorkerPool objectUnderTest = createObjectUnderTest(3);
+        assertThat(objectUnderTest.getAvailableWorkers(), equalTo(3));
+
+        final CountDownLatch objectRelease = new CountDownLatch(1);
+        objectUnderTest.submit(() -> awaitQuietly(objectRelease));
+        assertThat(objectUnderTest.getAvailableWorkers(), equalTo(2));
+
+        objectRelease.countDown();
+        objectUnderTest.shutdown();
+        assertThat(objectUnderTest.getAvailableWorkers(), equalTo(3));
+    }
+
+    @Test
+    void submit_and_awaitAvailableWorker_throw_after_an_object_exhausted_the_SQS_retries() {
+        final S3ObjectWorkerPool objectUnderTest = createObjectUnderTest(1);
+        final SqsRetriesExhaustedException exception = new SqsRetriesExhaustedException(UUID.randomUUID().toString());
+        final AtomicInteger objects = new AtomicInteger();
+
+        objectUnderTest.submit(() -> {
+            throw exception;
+        });
+
+        assertThat(assertThrows(SqsRetriesExhaustedException.class, objectUnderTest::awaitAvailableWorker), sameInstance(exception));
+        assertThat(assertThrows(SqsRetriesExhaustedException.class, () -> objectUnderTest.submit(objects::incrementAndGet)), sameInstance(exception));
+        objectUnderTest.shutdown();
+
+        assertThat(objects.get(), equalTo(0));
+        assertThat(objectUnderTest.getObjectsInFlight(), equalTo(0));
+        assertThat(objectUnderTest.getAvailableWorkers(), equalTo(1));
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.buffer.common.BufferAccumulator;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.opensearch.dataprepper.model.buffer.Buffer;
@@ -125,6 +126,7 @@ class S3ObjectWorkerTest {
     private long objectSize;
     @Mock
     private S3ObjectPluginMetrics s3ObjectPluginMetrics;
+    private PluginMetrics pluginMetrics;
     @Mock
     private SourceCoordinator<S3SourceProgressState> sourceCoordinator;
 
@@ -147,6 +149,8 @@ class S3ObjectWorkerTest {
         when(s3ObjectReference.getKey()).thenReturn(key);
 
         s3ObjectPluginMetrics = mock(S3ObjectPluginMetrics.class);
+        pluginMetrics = mock(PluginMetrics.class);
+        lenient().when(s3ObjectPluginMetrics.getPluginMetrics()).thenReturn(pluginMetrics);
         when(s3ObjectPluginMetrics.getS3ObjectReadTimer()).thenReturn(s3ObjectReadTimer);
         objectSize = random.nextInt(100_000) + 10_000;
 
@@ -260,7 +264,7 @@ class S3ObjectWorkerTest {
 
         final BufferAccumulator bufferAccumulator = mock(BufferAccumulator.class);
         try (final MockedStatic<BufferAccumulator> bufferAccumulatorMockedStatic = mockStatic(BufferAccumulator.class)) {
-            bufferAccumulatorMockedStatic.when(() -> BufferAccumulator.create(buffer, recordsToAccumulate, bufferTimeout))
+            bufferAccumulatorMockedStatic.when(() -> BufferAccumulator.create(buffer, recordsToAccumulate, bufferTimeout, pluginMetrics))
                     .thenReturn(bufferAccumulator);
             createObjectUnderTest(s3ObjectPluginMetrics).parseS3Object(s3ObjectReference, acknowledgementSet, null, null);
         }
@@ -293,7 +297,7 @@ class S3ObjectWorkerTest {
 
         final BufferAccumulator bufferAccumulator = mock(BufferAccumulator.class);
         try (final MockedStatic<BufferAccumulator> bufferAccumulatorMockedStatic = mockStatic(BufferAccumulator.class)) {
-            bufferAccumulatorMockedStatic.when(() -> BufferAccumulator.create(buffer, recordsToAccumulate, bufferTimeout))
+            bufferAccumulatorMockedStatic.when(() -> BufferAccumulator.create(buffer, recordsToAccumulate, bufferTimeout, pluginMetrics))
                     .thenReturn(bufferAccumulator);
             createObjectUnderTest(s3ObjectPluginMetrics).parseS3Object(s3ObjectReference, acknowledgementSet, sourceCoordinator, testPartitionKey);
         }
@@ -324,7 +328,7 @@ class S3ObjectWorkerTest {
 
         final BufferAccumulator bufferAccumulator = mock(BufferAccumulator.class);
         try (final MockedStatic<BufferAccumulator> bufferAccumulatorMockedStatic = mockStatic(BufferAccumulator.class)) {
-            bufferAccumulatorMockedStatic.when(() -> BufferAccumulator.create(buffer, recordsToAccumulate, bufferTimeout))
+            bufferAccumulatorMockedStatic.when(() -> BufferAccumulator.create(buffer, recordsToAccumulate, bufferTimeout, pluginMetrics))
                     .thenReturn(bufferAccumulator);
             createObjectUnderTest(s3ObjectPluginMetrics).parseS3Object(s3ObjectReference, acknowledgementSet, null, null);
         }
@@ -418,7 +422,7 @@ class S3ObjectWorkerTest {
         final BufferAccumulator bufferAccumulator = mock(BufferAccumulator.class);
         when(bufferAccumulator.getTotalWritten()).thenReturn(totalWritten);
         try (final MockedStatic<BufferAccumulator> bufferAccumulatorMockedStatic = mockStatic(BufferAccumulator.class)) {
-            bufferAccumulatorMockedStatic.when(() -> BufferAccumulator.create(buffer, recordsToAccumulate, bufferTimeout))
+            bufferAccumulatorMockedStatic.when(() -> BufferAccumulator.create(buffer, recordsToAccumulate, bufferTimeout, pluginMetrics))
                     .thenReturn(bufferAccumulator);
             createObjectUnderTest(s3ObjectPluginMetrics).parseS3Object(s3ObjectReference, acknowledgementSet, null, null);
         }
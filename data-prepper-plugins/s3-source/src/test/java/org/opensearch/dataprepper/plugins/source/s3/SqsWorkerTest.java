@@ -63,8 +63,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -259,6 +261,40 @@ class SqsWorkerTest {
             assertThat(actualDelay, greaterThanOrEqualTo(Duration.ofHours(1).minus(Duration.ofSeconds(5))));
         }
 
+        @Test
+        void processSqsMessages_with_multiple_workers_should_delete_each_message_once_its_object_is_processed() {
+            when(sqsOptions.getWorkers()).thenReturn(2);
+            sqsWorker = new SqsWorker(acknowledgementSetManager, sqsClient, s3Service, s3SourceConfig, pluginMetrics, backoff);
+            final List<Message> messages = IntStream.range(0, 2).mapToObj(i -> {
+                final Message message = mock(Message.class);
+                when(message.body()).thenReturn(createEventNotification("ObjectCreated:Put", Instant.now()));
+                final String testReceiptHandle = UUID.randomUUID().toString();
+                when(message.messageId()).thenReturn(testReceiptHandle);
+                when(message.receiptHandle()).thenReturn(testReceiptHandle);
+                return message;
+            }).collect(Collectors.toList());
+
+            final ReceiveMessageResponse receiveMessageResponse = mock(ReceiveMessageResponse.class);
+            when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(receiveMessageResponse);
+            when(receiveMessageResponse.messages()).thenReturn(messages);
+
+            final int messagesProcessed = sqsWorker.processSqsMessages();
+
+            assertThat(messagesProcessed, equalTo(2));
+            final ArgumentCaptor<DeleteMessageBatchRequest> deleteMessageBatchRequestArgumentCaptor = ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+            verify(sqsClient, timeout(5000).times(2)).deleteMessageBatch(deleteMessageBatchRequestArgumentCaptor.capture());
+            final List<String> deletedReceiptHandles = deleteMessageBatchRequestArgumentCaptor.getAllValues().stream()
+                    .peek(deleteMessageBatchRequest -> assertThat(deleteMessageBatchRequest.entries().size(), equalTo(1)))
+                    .map(deleteMessageBatchRequest -> deleteMessageBatchRequest.entries().get(0).receiptHandle())
+                    .sorted()
+                    .collect(Collectors.toList());
+            assertThat(deletedReceiptHandles, equalTo(messages.stream().map(Message::receiptHandle).sorted().collect(Collectors.toList())));
+            verify(s3Service, times(2)).addS3Object(any(S3ObjectReference.class), any());
+            verify(sqsMessagesReceivedCounter).increment(2);
+            verify(sqsMessagesDeletedCounter, timeout(5000).times(2)).increment(1);
+            verify(sqsMessageDelayTimer, times(2)).record(any(Duration.class));
+        }
+
         @ParameterizedTest
         @ValueSource(strings = {"", "{\"foo\": \"bar\""})
         void processSqsMessages_should_not_interact_with_S3Service_if_input_is_not_valid_JSON(String inputString) {
@@ -585,6 +621,70 @@ class SqsWorkerTest {
         assertThrows(SqsRetriesExhaustedException.class, () -> sqsWorker.processSqsMessages());
     }
 
+    @Test
+    void processSqsMessages_with_multiple_workers_should_not_receive_more_messages_than_available_workers() {
+        when(sqsOptions.getWorkers()).thenReturn(3);
+        when(sqsOptions.getMaximumMessages()).thenReturn(10);
+        sqsWorker = new SqsWorker(acknowledgementSetManager, sqsClient, s3Service, s3SourceConfig, pluginMetrics, backoff);
+        final ReceiveMessageResponse receiveMessageResponse = mock(ReceiveMessageResponse.class);
+        when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(receiveMessageResponse);
+        when(receiveMessageResponse.messages()).thenReturn(Collections.emptyList());
+
+        final int messagesProcessed = sqsWorker.processSqsMessages();
+
+        assertThat(messagesProcessed, equalTo(0));
+        final ArgumentCaptor<ReceiveMessageRequest> receiveMessageRequestArgumentCaptor = ArgumentCaptor.forClass(ReceiveMessageRequest.class);
+        verify(sqsClient).receiveMessage(receiveMessageRequestArgumentCaptor.capture());
+        assertThat(receiveMessageRequestArgumentCaptor.getValue().maxNumberOfMessages(), equalTo(3));
+    }
+
+    @Test
+    void processSqsMessages_with_multiple_workers_should_throw_when_a_worker_exhausted_the_retries() throws IOException {
+        when(sqsOptions.getWorkers()).thenReturn(2);
+        when(sqsOptions.getMaximumMessages()).thenReturn(10);
+        sqsWorker = new SqsWorker(acknowledgementSetManager, sqsClient, s3Service, s3SourceConfig, pluginMetrics, backoff);
+        final List<Message> messages = IntStream.range(0, 2).mapToObj(i -> {
+            final Message message = mock(Message.class);
+            when(message.body()).thenReturn(createEventNotification("ObjectCreated:Put", Instant.now()));
+            when(message.messageId()).thenReturn(UUID.randomUUID().toString());
+            return message;
+        }).collect(Collectors.toList());
+        final ReceiveMessageResponse receiveMessageResponse = mock(ReceiveMessageResponse.class);
+        when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(receiveMessageResponse);
+        when(receiveMessageResponse.messages()).thenReturn(messages);
+        doThrow(RuntimeException.class).when(s3Service).addS3Object(any(S3ObjectReference.class), any());
+        when(backoff.nextDelayMillis(anyInt())).thenReturn((long) -1);
+
+        assertThat(sqsWorker.processSqsMessages(), equalTo(2));
+        assertThrows(SqsRetriesExhaustedException.class, () -> sqsWorker.processSqsMessages());
+
+        verify(sqsClient).receiveMessage(any(ReceiveMessageRequest.class));
+        verify(sqsClient, never()).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+        verify(sqsMessagesReceivedCounter).increment(2);
+    }
+
+    @Test
+    void processSqsMessages_with_multiple_workers_should_back_off_each_worker_on_its_own_failures() throws IOException {
+        when(sqsOptions.getWorkers()).thenReturn(2);
+        when(sqsOptions.getMaximumMessages()).thenReturn(10);
+        sqsWorker = new SqsWorker(acknowledgementSetManager, sqsClient, s3Service, s3SourceConfig, pluginMetrics, backoff);
+        final List<Message> messages = IntStream.range(0, 2).mapToObj(i -> {
+            final Message message = mock(Message.class);
+            when(message.body()).thenReturn(createEventNotification("ObjectCreated:Put", Instant.now()));
+            when(message.messageId()).thenReturn(UUID.randomUUID().toString());
+            return message;
+        }).collect(Collectors.toList());
+        final ReceiveMessageResponse receiveMessageResponse = mock(ReceiveMessageResponse.class);
+        when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(receiveMessageResponse);
+        when(receiveMessageResponse.messages()).thenReturn(messages);
+        doThrow(RuntimeException.class).when(s3Service).addS3Object(any(S3ObjectReference.class), any());
+
+        assertThat(sqsWorker.processSqsMessages(), equalTo(2));
+
+        verify(backoff, timeout(5000).times(2)).nextDelayMillis(1);
+        verify(backoff, never()).nextDelayMillis(2);
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"{\"foo\": \"bar\"}", "{}"})
     void processSqsMessages_should_return_zero_messages_when_messages_are_not_S3EventsNotificationRecords(String inputString) {
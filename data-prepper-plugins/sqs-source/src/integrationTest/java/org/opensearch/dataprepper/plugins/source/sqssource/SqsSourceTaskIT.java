@@ -10,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mock;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
@@ -75,6 +76,8 @@ public class SqsSourceTaskIT {
 
     private SqsMetrics sqsMetrics;
 
+    private PluginMetrics pluginMetrics;
+
     private ScheduledExecutorService executorService;
 
     @ParameterizedTest
@@ -105,6 +108,7 @@ public class SqsSourceTaskIT {
         this.messageReceivedCounter = mock(Counter.class);
         this.messageDeletedCounter = mock(Counter.class);
         this.sqsMetrics = mock(SqsMetrics.class);
+        this.pluginMetrics = mock(PluginMetrics.class);
         when(sqsMetrics.getSqsMessagesReceivedCounter()).thenReturn(messageReceivedCounter);
         when(sqsMetrics.getSqsMessagesDeletedCounter()).thenReturn(messageDeletedCounter);
         this.backoff = Backoff.exponential(INITIAL_DELAY, MAXIMUM_DELAY).withJitter(JITTER_RATE)
@@ -118,7 +122,7 @@ public class SqsSourceTaskIT {
         SqsMessageHandler sqsHandler = new RawSqsMessageHandler(sqsService);
         return new SqsSourceTask(buffer, RECORDS_TO_ACCUMULATE, BUFFER_TIMEOUT
                 ,sqsService,sqsOptions,sqsMetrics,
-                acknowledgementSetManager,Boolean.FALSE,sqsHandler);
+                acknowledgementSetManager,Boolean.FALSE,sqsHandler,pluginMetrics);
     }
 
     private static List<String> pushMessagesToQueue(SqsRecordsGenerator sqsRecordsGenerator, String queueUrl,final int load) {
@@ -97,7 +97,8 @@ public class SqsSource implements Source<Record<Event>> {
                     sqsMetrics,
                     acknowledgementSetManager,
                     sqsSourceConfig.getAcknowledgements(),
-                    sqsHandler)
+                    sqsHandler,
+                    pluginMetrics)
                     ,0, pollingFrequencyInMillis == 0 ? 1 : pollingFrequencyInMillis,
                     TimeUnit.MILLISECONDS);
         });
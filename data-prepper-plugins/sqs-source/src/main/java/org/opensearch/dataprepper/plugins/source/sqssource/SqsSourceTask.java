@@ -4,6 +4,7 @@
  */
 package org.opensearch.dataprepper.plugins.source.sqssource;
 
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.buffer.common.BufferAccumulator;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
@@ -53,14 +54,15 @@ public class SqsSourceTask implements Runnable{
                          final SqsMetrics sqsMetrics,
                          final AcknowledgementSetManager acknowledgementSetManager,
                          final boolean endToEndAcknowledgementsEnabled,
-                         final SqsMessageHandler sqsHandler) {
+                         final SqsMessageHandler sqsHandler,
+                         final PluginMetrics pluginMetrics) {
         this.sqsService = sqsService;
         this.sqsOptions = sqsOptions;
         this.sqsMetrics = sqsMetrics;
         this.acknowledgementSetManager = acknowledgementSetManager;
         this.endToEndAcknowledgementsEnabled = endToEndAcknowledgementsEnabled;
         this.sqsHandler = sqsHandler;
-        this.bufferAccumulator = BufferAccumulator.create(buffer,noOfRecordsToAccumulate,bufferTimeout);
+        this.bufferAccumulator = BufferAccumulator.create(buffer,noOfRecordsToAccumulate,bufferTimeout,pluginMetrics);
     }
 
     /**
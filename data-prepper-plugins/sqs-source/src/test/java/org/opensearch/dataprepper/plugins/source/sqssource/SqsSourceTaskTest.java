@@ -9,6 +9,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
 import org.opensearch.dataprepper.model.buffer.Buffer;
@@ -95,7 +96,8 @@ class SqsSourceTaskTest {
                 sqsMetrics,
                 acknowledgementSetManager,
                 endToEndAcknowledgementsEnabled,
-                sqsHandler);
+                sqsHandler,
+                mock(PluginMetrics.class));
     }
 
     @ParameterizedTest
@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * The regex mappings of a target, in their configured order, combined into one alternation.
+ * <p>
+ * An exact match is found with a single match of the alternation, which tries the patterns in order.
+ * For other matches the alternation tells whether any pattern is found in a value, so that values
+ * without a match are rejected with a single search. Patterns with backreferences, quotes or
+ * comments cannot be combined, as the group numbers change or the quote or comment would run into
+ * the next pattern, and the patterns are then tried one at a time.
+ */
+class CombinedPatternMappings {
+    private static final Pattern UNCOMBINABLE = Pattern.compile("\\\\(\\d|k<|Q)|\\(\\?[a-zA-Z-]*x");
+
+    private final List<Pattern> patterns;
+    private final List<Object> values;
+    private final Pattern combinedPattern;
+    private final int[] groupIndexes;
+
+    CombinedPatternMappings(final Map<Pattern, Object> compiledPatterns) {
+        patterns = new ArrayList<>(compiledPatterns.keySet());
+        values = new ArrayList<>(compiledPatterns.values());
+        groupIndexes = new int[patterns.size()];
+        combinedPattern = combine(patterns, groupIndexes);
+    }
+
+    boolean isEmpty() {
+        return patterns.isEmpty();
+    }
+
+    /**
+     * @param sourceValue the value to match
+     * @param exact whether the whole value must match a pattern
+     * @return the value mapped to the first pattern in order which matches the value, or for inexact
+     * matches the value with the first pattern which is found in it replaced
+     */
+    Optional<Object> get(final String sourceValue, final boolean exact) {
+        if (combinedPattern != null) {
+            final Matcher combinedMatcher = combinedPattern.matcher(sourceValue);
+            if (exact) {
+                return combinedMatcher.matches()
+                        ? Optional.of(values.get(matchedPatternIndex(combinedMatcher)))
+                        : Optional.empty();
+            }
+            if (!combinedMatcher.find()) {
+                return Optional.empty();
+            }
+        }
+
+        for (int i = 0; i < patterns.size(); i++) {
+            final Matcher matcher = patterns.get(i).matcher(sourceValue);
+            if (matcher.matches()) {
+                return Optional.of(values.get(i));
+            }
+            if (!exact && matcher.find()) {
+                return Optional.of(matcher.replaceAll((String) values.get(i)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private int matchedPatternIndex(final Matcher combinedMatcher) {
+        for (int i = 0; i < groupIndexes.length; i++) {
+            if (combinedMatcher.start(groupIndexes[i]) >= 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("No pattern matched in the combined pattern " + combinedPattern);
+    }
+
+    /**
+     * @return the alternation of the patterns, each in a capturing group whose index is written to
+     * groupIndexes, or null when the patterns cannot be combined
+     */
+    private static Pattern combine(final List<Pattern> patterns, final int[] groupIndexes) {
+        if (patterns.size() < 2) {
+            return null;
+        }
+        final StringBuilder combined = new StringBuilder();
+        int groupIndex = 1;
+        for (int i = 0; i < patterns.size(); i++) {
+            final Pattern pattern = patterns.get(i);
+            if (UNCOMBINABLE.matcher(pattern.pattern()).find()) {
+                return null;
+            }
+            if (i > 0) {
+                combined.append('|');
+            }
+            combined.append('(').append(pattern.pattern()).append(')');
+            groupIndexes[i] = groupIndex;
+            groupIndex += 1 + pattern.matcher("").groupCount();
+        }
+        try {
+            return Pattern.compile(combined.toString());
+        } catch (final PatternSyntaxException e) {
+            return null;
+        }
+    }
+}
@@ -14,13 +14,17 @@ import java.util.regex.Pattern;
 public class MappingsParser {
     private final LinkedHashMap<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
     private final Map<String, Object> individualMappings = new HashMap<>();
-    private final Map<Pattern, Object> compiledPatterns = new HashMap<>();
+    private final Map<Pattern, Object> compiledPatterns = new LinkedHashMap<>();
+    private final Map<Range<Float>, String> rangeKeys = new HashMap<>();
+    private final SortedRangeMappings sortedRangeMappings;
     public MappingsParser(TargetsParameterConfig targetConfig){
         RegexParameterConfiguration regexConfig = targetConfig.getRegexParameterConfiguration();
         if (Objects.nonNull(regexConfig)) {
             compilePatterns(regexConfig.getPatterns());
         }
         processMapField(targetConfig.getMap());
+        sortedRangeMappings = new SortedRangeMappings(rangeMappings);
+        checkOverlappingRanges();
         checkOverlappingKeys();
     }
 
@@ -30,6 +34,8 @@ public class MappingsParser {
 
     public Map<Pattern, Object> fetchCompiledPatterns() { return compiledPatterns; }
 
+    SortedRangeMappings fetchSortedRangeMappings() { return sortedRangeMappings; }
+
     private void compilePatterns(Map<String, Object> mappings) {
         for (String pattern : mappings.keySet()) {
             Pattern compiledPattern = Pattern.compile(pattern);
@@ -64,11 +70,11 @@ public class MappingsParser {
             Float lowKey = Float.parseFloat(rangeKeys[0]);
             Float highKey = Float.parseFloat(rangeKeys[1]);
             Range<Float> rangeEntry = Range.between(lowKey, highKey);
-            if (isRangeOverlapping(rangeEntry)) {
-                String exceptionMsg = "map option contains key " + mapEntry.getKey() + " that overlaps with other range entries";
-                throw new InvalidPluginConfigurationException(exceptionMsg);
+            if (rangeMappings.containsKey(rangeEntry)) {
+                throwOverlappingKey(mapEntry.getKey());
             } else {
-                rangeMappings.put(Range.between(lowKey, highKey), mapEntry.getValue());
+                rangeMappings.put(rangeEntry, mapEntry.getValue());
+                rangeKeys.put(rangeEntry, mapEntry.getKey());
             }
         }
     }
@@ -82,20 +88,23 @@ public class MappingsParser {
         }
     }
 
-    private boolean isRangeOverlapping(Range<Float> rangeEntry) {
-        return rangeMappings.keySet().stream().anyMatch(range -> range.isOverlappedBy(rangeEntry));
+    private void checkOverlappingRanges() {
+        sortedRangeMappings.findOverlappingRange()
+                .ifPresent(range -> throwOverlappingKey(rangeKeys.get(range)));
     }
 
     private void checkOverlappingKeys() {
         for (String individualKey : individualMappings.keySet()) {
             if (NumberUtils.isParsable(individualKey)) {
-                Float floatKey = Float.parseFloat(individualKey);
-                Range<Float> range = Range.between(floatKey, floatKey);
-                if (isRangeOverlapping(range)) {
-                    String exceptionMsg = "map option contains key " + individualKey + " that overlaps with other range entries";
-                    throw new InvalidPluginConfigurationException(exceptionMsg);
+                if (sortedRangeMappings.get(Float.parseFloat(individualKey)).isPresent()) {
+                    throwOverlappingKey(individualKey);
                 }
             }
         }
     }
+
+    private void throwOverlappingKey(final String key) {
+        String exceptionMsg = "map option contains key " + key + " that overlaps with other range entries";
+        throw new InvalidPluginConfigurationException(exceptionMsg);
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.apache.commons.lang3.Range;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The range mappings of a target sorted by their lower bounds, so that the range containing a value
+ * is found with a binary search. The parsed mappings are checked with {@link #findOverlappingRange()}
+ * so that at most one range contains a value.
+ */
+class SortedRangeMappings {
+    private final float[] minimums;
+    private final float[] maximums;
+    private final Object[] values;
+
+    SortedRangeMappings(final Map<Range<Float>, Object> rangeMappings) {
+        final List<Map.Entry<Range<Float>, Object>> sortedEntries = rangeMappings.entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getKey().getMinimum(), Float::compare))
+                .collect(Collectors.toList());
+        minimums = new float[sortedEntries.size()];
+        maximums = new float[sortedEntries.size()];
+        values = new Object[sortedEntries.size()];
+        for (int i = 0; i < sortedEntries.size(); i++) {
+            minimums[i] = sortedEntries.get(i).getKey().getMinimum();
+            maximums[i] = sortedEntries.get(i).getKey().getMaximum();
+            values[i] = sortedEntries.get(i).getValue();
+        }
+    }
+
+    /**
+     * Sorted ranges do not overlap when each range starts after the previous one ends, so only
+     * adjacent ranges are compared.
+     *
+     * @return a range overlapping the range before it, or empty when no ranges overlap
+     */
+    Optional<Range<Float>> findOverlappingRange() {
+        for (int i = 1; i < minimums.length; i++) {
+            if (Float.compare(minimums[i], maximums[i - 1]) <= 0) {
+                return Optional.of(Range.between(minimums[i], maximums[i]));
+            }
+        }
+        return Optional.empty();
+    }
+
+    boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    /**
+     * @param key the value to look up
+     * @return the value mapped to the range containing the key, or empty when no range contains it
+     */
+    Optional<Object> get(final float key) {
+        int index = Arrays.binarySearch(minimums, key);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        if (index >= 0 && Float.compare(key, maximums[index]) <= 0) {
+            return Optional.of(values[index]);
+        }
+        return Optional.empty();
+    }
+}
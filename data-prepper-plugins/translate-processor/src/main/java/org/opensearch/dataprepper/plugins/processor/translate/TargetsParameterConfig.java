@@ -20,7 +20,9 @@ public class TargetsParameterConfig {
     private final TypeConverter converter;
     private final LinkedHashMap<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
     private final Map<String, Object> individualMappings = new HashMap<>();
-    private final Map<Pattern, Object> compiledPatterns = new HashMap<>();
+    private final Map<Pattern, Object> compiledPatterns = new LinkedHashMap<>();
+    private SortedRangeMappings sortedRangeMappings = new SortedRangeMappings(Map.of());
+    private CombinedPatternMappings combinedPatternMappings = new CombinedPatternMappings(Map.of());
     @JsonProperty("target")
     @NotNull
     @NotEmpty
@@ -88,6 +90,14 @@ public class TargetsParameterConfig {
         return compiledPatterns;
     }
 
+    SortedRangeMappings fetchSortedRangeMappings() {
+        return sortedRangeMappings;
+    }
+
+    CombinedPatternMappings fetchCombinedPatternMappings() {
+        return combinedPatternMappings;
+    }
+
     public TypeConverter getConverter() {
         return converter;
     }
@@ -135,9 +145,14 @@ public class TargetsParameterConfig {
 
     public void parseMappings() {
         MappingsParser parser = new MappingsParser(this);
+        individualMappings.clear();
         individualMappings.putAll(parser.fetchIndividualMappings());
+        rangeMappings.clear();
         rangeMappings.putAll(parser.fetchRangeMappings());
+        compiledPatterns.clear();
         compiledPatterns.putAll(parser.fetchCompiledPatterns());
+        sortedRangeMappings = parser.fetchSortedRangeMappings();
+        combinedPatternMappings = new CombinedPatternMappings(compiledPatterns);
     }
 
 }
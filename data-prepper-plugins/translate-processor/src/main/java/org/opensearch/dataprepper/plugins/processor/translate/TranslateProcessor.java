@@ -5,7 +5,6 @@
 
 package org.opensearch.dataprepper.plugins.processor.translate;
 
-import org.apache.commons.lang3.Range;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
@@ -23,13 +22,10 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
@@ -89,9 +85,8 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
     }
 
     private void translateSource(Object sourceObject, Event recordEvent, TargetsParameterConfig targetConfig) {
-        Map<String, Object> recordObject =  recordEvent.toMap();
         List<String> sourceKeysPaths = getSourceKeys(sourceObject);
-        if(Objects.isNull(recordObject) || sourceKeysPaths.isEmpty()){
+        if(sourceKeysPaths.isEmpty()){
             return;
         }
 
@@ -107,14 +102,18 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
         }
 
         String rootField = jsonExtractor.getRootField(commonPath);
-        if(!recordObject.containsKey(rootField)){
+        if(!recordEvent.containsKey(rootField)){
             return;
         }
 
-        List<Object> targetObjects = jsonExtractor.getObjectFromPath(commonPath, recordObject);
+        Object rootObject = recordEvent.get(rootField, Object.class);
+        if(Objects.isNull(rootObject)){
+            return;
+        }
+        List<Object> targetObjects = jsonExtractor.getObjectFromPath(commonPath, Map.of(rootField, rootObject));
         if(!targetObjects.isEmpty()) {
             targetObjects.forEach(targetObj -> performMappings(targetObj, sourceKeys, sourceObject, targetConfig));
-            recordEvent.put(rootField, recordObject.get(rootField));
+            recordEvent.put(rootField, rootObject);
         }
     }
 
@@ -162,13 +161,16 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
     }
 
     private boolean isExpressionValid(String translateWhen, Object recordObject){
+        if (translateWhen == null) {
+            return true;
+        }
         Event recordEvent;
         if (recordObject instanceof Map) {
             recordEvent = eventBuilder.withData(recordObject).withEventType("event").build();
         } else {
             recordEvent = (Event)recordObject;
         }
-        return (translateWhen == null) || expressionEvaluator.evaluateConditional(translateWhen, recordEvent);
+        return expressionEvaluator.evaluateConditional(translateWhen, recordEvent);
     }
 
     private Optional<Object> getTargetValueForSource(final String sourceValue, TargetsParameterConfig targetConfig) {
@@ -193,34 +195,16 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
         if (!NumberUtils.isParsable(sourceValue)) {
             return Optional.empty();
         }
-        Float floatKey = Float.parseFloat(sourceValue);
-        LinkedHashMap<Range<Float>, Object> rangeMappings = targetConfig.fetchRangeMappings();
-        for (Map.Entry<Range<Float>, Object> rangeEntry : rangeMappings.entrySet()) {
-            Range<Float> range = rangeEntry.getKey();
-            if (range.contains(floatKey)) {
-                return Optional.of(rangeEntry.getValue());
-            }
-        }
-        return Optional.empty();
+        return targetConfig.fetchSortedRangeMappings().get(Float.parseFloat(sourceValue));
     }
 
     private Optional<Object> matchesPatternEntry(final String sourceValue, TargetsParameterConfig targetConfig) {
-        Map<Pattern, Object> compiledPatterns = targetConfig.fetchCompiledPatterns();
-        if (compiledPatterns.isEmpty()) {
+        CombinedPatternMappings patternMappings = targetConfig.fetchCombinedPatternMappings();
+        if (patternMappings.isEmpty()) {
             return Optional.empty();
         }
         final boolean exact = targetConfig.getRegexParameterConfiguration().getExact();
-        for (Pattern pattern : compiledPatterns.keySet()) {
-            Matcher matcher = pattern.matcher(sourceValue);
-            if (matcher.matches()) {
-                return Optional.of(compiledPatterns.get(pattern));
-            }
-            if(!exact && matcher.find()) {
-                String targetValue = (String)compiledPatterns.get(pattern);
-                return Optional.of(matcher.replaceAll(targetValue));
-            }
-        }
-        return Optional.empty();
+        return patternMappings.get(sourceValue, exact);
     }
 
     private void addTargetToRecords(Object sourceObject, List<Object> targetValues, Object recordObject, TargetsParameterConfig targetMappings) {
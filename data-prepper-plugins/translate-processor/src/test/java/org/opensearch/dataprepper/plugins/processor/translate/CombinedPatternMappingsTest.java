@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class CombinedPatternMappingsTest {
+    private static final List<String> SOURCE_VALUES = List.of(
+            "", "abc", "ABC", "abcabc", "x-123", "123", "user=alice id=7", "GET /index.html", "aaa", "no match here", "\\Q");
+
+    private static Map<Pattern, Object> compile(final Map<String, Object> patterns) {
+        final Map<Pattern, Object> compiledPatterns = new LinkedHashMap<>();
+        patterns.forEach((pattern, value) -> compiledPatterns.put(Pattern.compile(pattern), value));
+        return compiledPatterns;
+    }
+
+    private static Optional<Object> scan(final Map<Pattern, Object> compiledPatterns, final String sourceValue, final boolean exact) {
+        for (final Map.Entry<Pattern, Object> entry : compiledPatterns.entrySet()) {
+            final Matcher matcher = entry.getKey().matcher(sourceValue);
+            if (matcher.matches()) {
+                return Optional.of(entry.getValue());
+            }
+            if (!exact && matcher.find()) {
+                return Optional.of(matcher.replaceAll((String) entry.getValue()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Stream<Arguments> patternMappings() {
+        final Map<String, Object> simple = new LinkedHashMap<>();
+        simple.put("a+", "as");
+        simple.put("(abc)+", "abcs");
+        simple.put("[a-z]+", "letters");
+        simple.put("(?i)abc", "ABC");
+        simple.put("x-(\\d+)", "x$1");
+        simple.put("(?<key>\\w+)=(?<value>\\w+)", "${value}");
+        simple.put("^GET\\s", "get");
+
+        final Map<String, Object> backreference = new LinkedHashMap<>(simple);
+        backreference.put("(\\w)\\1\\1", "repeated");
+
+        final Map<String, Object> duplicateGroupNames = new LinkedHashMap<>(simple);
+        duplicateGroupNames.put("(?<key>\\d+)", "digits");
+
+        final Map<String, Object> quoted = new LinkedHashMap<>(simple);
+        quoted.put("\\Q\\Q", "quote");
+
+        return Stream.of(
+                arguments(Map.of("abc", "only")),
+                arguments(simple),
+                arguments(backreference),
+                arguments(duplicateGroupNames),
+                arguments(quoted));
+    }
+
+    @Test
+    void isEmpty_returns_true_without_patterns() {
+        assertThat(new CombinedPatternMappings(Map.of()).isEmpty(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @MethodSource("patternMappings")
+    void get_exact_returns_same_value_as_scanning_patterns_in_order(final Map<String, Object> patterns) {
+        final Map<Pattern, Object> compiledPatterns = compile(patterns);
+        final CombinedPatternMappings objectUnderTest = new CombinedPatternMappings(compiledPatterns);
+
+        for (final String sourceValue : SOURCE_VALUES) {
+            assertThat(sourceValue, objectUnderTest.get(sourceValue, true), equalTo(scan(compiledPatterns, sourceValue, true)));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("patternMappings")
+    void get_not_exact_returns_same_value_as_scanning_patterns_in_order(final Map<String, Object> patterns) {
+        final Map<Pattern, Object> compiledPatterns = compile(patterns);
+        final CombinedPatternMappings objectUnderTest = new CombinedPatternMappings(compiledPatterns);
+
+        for (final String sourceValue : SOURCE_VALUES) {
+            assertThat(sourceValue, objectUnderTest.get(sourceValue, false), equalTo(scan(compiledPatterns, sourceValue, false)));
+        }
+    }
+}
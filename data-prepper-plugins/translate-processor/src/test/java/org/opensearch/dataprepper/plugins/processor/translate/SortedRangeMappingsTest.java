@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.apache.commons.lang3.Range;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class SortedRangeMappingsTest {
+    private static Map<Range<Float>, Object> createRangeMappings() {
+        final Map<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
+        rangeMappings.put(Range.between(20f, 29.5f), "twenties");
+        rangeMappings.put(Range.between(1f, 9f), "ones");
+        rangeMappings.put(Range.between(10f, 10f), "ten");
+        rangeMappings.put(Range.between(100f, 200f), "hundreds");
+        return rangeMappings;
+    }
+
+    @Test
+    void isEmpty_returns_true_without_ranges() {
+        assertThat(new SortedRangeMappings(Map.of()).isEmpty(), equalTo(true));
+        assertThat(new SortedRangeMappings(Map.of()).get(1f), equalTo(Optional.empty()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(floats = {1f, 5f, 9f, 10f, 20f, 29.5f, 100f, 150.25f, 200f})
+    void get_returns_value_of_containing_range(final float key) {
+        final Map<Range<Float>, Object> rangeMappings = createRangeMappings();
+        final Object expectedValue = rangeMappings.entrySet().stream()
+                .filter(entry -> entry.getKey().contains(key))
+                .findFirst().orElseThrow().getValue();
+
+        assertThat(new SortedRangeMappings(rangeMappings).get(key), equalTo(Optional.of(expectedValue)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(floats = {-1f, -0f, 0.5f, 9.5f, 10.01f, 29.6f, 99f, 200.5f, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY})
+    void get_returns_empty_outside_of_ranges(final float key) {
+        assertThat(new SortedRangeMappings(createRangeMappings()).get(key), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void get_returns_same_value_as_scanning_ranges() {
+        final Random random = new Random(0);
+        final Map<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            final float minimum = i * 10f + random.nextInt(5);
+            rangeMappings.put(Range.between(minimum, minimum + random.nextInt(5)), i);
+        }
+        final SortedRangeMappings objectUnderTest = new SortedRangeMappings(rangeMappings);
+
+        for (int i = 0; i < 10_000; i++) {
+            final float key = random.nextFloat() * 10_010f - 5f;
+            final Optional<Object> expectedValue = rangeMappings.entrySet().stream()
+                    .filter(entry -> entry.getKey().contains(key))
+                    .map(Map.Entry::getValue)
+                    .findFirst();
+            assertThat(objectUnderTest.get(key), equalTo(expectedValue));
+        }
+    }
+
+    @Test
+    void findOverlappingRange_returns_empty_for_disjoint_ranges() {
+        assertThat(new SortedRangeMappings(createRangeMappings()).findOverlappingRange(), equalTo(Optional.empty()));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"5, 15", "9, 9", "2, 3", "0, 1"})
+    void findOverlappingRange_returns_range_overlapping_another_range(final float minimum, final float maximum) {
+        final Map<Range<Float>, Object> rangeMappings = createRangeMappings();
+        rangeMappings.put(Range.between(minimum, maximum), "overlapping");
+
+        final Optional<Range<Float>> overlappingRange = new SortedRangeMappings(rangeMappings).findOverlappingRange();
+
+        assertThat(overlappingRange.isPresent(), equalTo(true));
+        assertThat(rangeMappings.keySet().stream()
+                .filter(range -> !range.equals(overlappingRange.get()))
+                .anyMatch(range -> range.isOverlappedBy(overlappingRange.get())), equalTo(true));
+    }
+
+    @Test
+    void findOverlappingRange_finds_overlap_if_and_only_if_any_ranges_overlap() {
+        final Random random = new Random(0);
+        for (int attempt = 0; attempt < 100; attempt++) {
+            final Map<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
+            for (int i = 0; i < 50; i++) {
+                final float minimum = random.nextInt(10_000);
+                rangeMappings.put(Range.between(minimum, minimum + random.nextInt(100)), i);
+            }
+            final boolean expectedOverlap = rangeMappings.keySet().stream()
+                    .anyMatch(range -> rangeMappings.keySet().stream()
+                            .anyMatch(other -> other != range && other.isOverlappedBy(range)));
+
+            assertThat(new SortedRangeMappings(rangeMappings).findOverlappingRange().isPresent(), equalTo(expectedOverlap));
+        }
+    }
+}